@@ -236,6 +236,9 @@ public class Main2 {
 		imports.add("ServiceFaultException");
 		imports.add("ChannelService");
 		imports.add("AsyncResult");
+		imports.add("com.prosysopc.ua.builtintypes.ServiceRequest");
+		imports.add("com.prosysopc.ua.builtintypes.ServiceResponse");
+		imports.add("com.prosysopc.ua.transport.impl.AsyncResultImpl");
 //		imports.add("SecureChannel");
 		
 		for (DictionaryTypes2.ModelDesign.DataType[] service : services)
@@ -332,6 +335,19 @@ public class Main2 {
 			content.add("}");
 			content.add("");
 
+			content.add("/**");
+			content.add(" * Asynchronous "+serviceName+" service request. The listener is notified in the thread ");
+			content.add(" * that receives the response and must not block.");
+			content.add(" * ");
+			content.add(" * @param req the request");				
+			content.add(" * @param listener listener that receives either an error or the result");				
+			content.add(" */");
+			content.add("public void "+serviceName+"Async("+requestName+" req, ResultListener<"+responseName+"> listener)");
+			content.add("{");		
+			content.add("\tserviceRequestAsync( req, listener );");
+			content.add("}");
+			content.add("");
+
 			
 		}
 		
@@ -829,12 +845,14 @@ public class Main2 {
 	throws IOException
 	{
 		Template serializerTemplate = Template.load("src/main/resources/codegen_data/templates/SerializerTemplate.java");
+		Template structureSerializerTemplate = Template.load("src/main/resources/codegen_data/templates/StructureSerializerTemplate.java");
 		String fullClassName = "EncodeableSerializer";
 		String className = getClassName(fullClassName);
 		File file = toFile(DEST, fullClassName);
 		HashMap<String, Object> map = new HashMap<String, Object>();
 		List<String> content = new ArrayList<String>();
 		List<String> imports = new ArrayList<String>();
+		StringBuilder cases = new StringBuilder();
 		
 		
 		map.put(Template.KEY_PACKAGE_NAME, getPackageName(fullClassName));
@@ -842,16 +860,26 @@ public class Main2 {
 		map.put(Template.KEY_CONTENT, content);
 		map.put(Template.KEY_IMPORTS, imports);		
 
+		// One serializer class per structure, and an index of the structures
+		// in EncodeableSerializer. The serializers are created on first use. 
+		int index = 0;
 		for (DictionaryTypes2.ModelDesign.DataType t : pickStructures(dom))
 		{
+			String structureClassName = toFullClassName(t.SymbolicName);
+			String serializerClassName = t.Name+"Serializer";
 			content.add("\t// "+t.Name);
-			content.add("\taddSerializer(");
-			content.add("\t\tnew AbstractSerializer("+t.Name+".class, "+t.Name+".BINARY, "+t.Name+".XML, "+t.Name+".ID) {");
+			content.add("\taddSerializer(\""+structureClassName+"\", new ExpandedNodeId(Identifiers."+t.Name+"_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers."+t.Name+"_Encoding_DefaultXml), new ExpandedNodeId(Identifiers."+t.Name+"));");
+			cases.append("\t\tcase "+(index++)+": return new "+serializerClassName+"();\n");
+
+			List<String> members = new ArrayList<String>();
+			members.add("public "+serializerClassName+"() {");
+			members.add("\tsuper("+t.Name+".class, "+t.Name+".BINARY, "+t.Name+".XML, "+t.Name+".ID);");
+			members.add("}");
 
 			// Calculator 
-			content.add("\t\t\tpublic void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {");
+			members.add("public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {");
 			if (!t.getAllFields().isEmpty())
-				content.add("\t\t\t\t"+t.Name+" obj = ("+t.Name+") encodeable;");			
+				members.add("\t"+t.Name+" obj = ("+t.Name+") encodeable;");			
 			for (FieldType f : t.getAllFields()) {	
 				DictionaryTypes2.ModelDesign.DataType fieldType = dom.getDataType( f.getDataType() ); 
 				if(fieldType.isOptionSet){
@@ -869,33 +897,33 @@ public class Main2 {
 
 				if (builtinsId!=null) {
 					if (isArray)
-//						content.add("\t\t\t\tcalculator.put"+builtinsName+"Array(null, ("+dataTypeClassName+"[]) ((obj==null)?null:obj.get"+f.Name+"()) );");
-						content.add("\t\t\t\tcalculator.put"+builtinsName+"Array(null, ((obj==null)?null:obj.get"+f.Name+"()) );");
+//						members.add("\tcalculator.put"+builtinsName+"Array(null, ("+dataTypeClassName+"[]) ((obj==null)?null:obj.get"+f.Name+"()) );");
+						members.add("\tcalculator.put"+builtinsName+"Array(null, ((obj==null)?null:obj.get"+f.Name+"()) );");
 					else {
 						if (builtinsId<=11)
-							content.add("\t\t\t\tcalculator.put"+builtinsName+"(null, null /*obj.get"+f.Name+"()*/);");
+							members.add("\tcalculator.put"+builtinsName+"(null, null /*obj.get"+f.Name+"()*/);");
 						else
-							content.add("\t\t\t\tcalculator.put"+builtinsName+"(null,  (obj==null)?null:obj.get"+f.Name+"() );");
+							members.add("\tcalculator.put"+builtinsName+"(null,  (obj==null)?null:obj.get"+f.Name+"() );");
 					}
 				} else if (isEnum) {
 					if (isArray)
-						content.add("\t\t\t\tcalculator.putEnumerationArray(null,  (obj==null)?null:obj.get"+f.Name+"() );");
+						members.add("\tcalculator.putEnumerationArray(null,  (obj==null)?null:obj.get"+f.Name+"() );");
 					else
-						content.add("\t\t\t\tcalculator.putEnumeration(null, null /*obj.get"+f.Name+"()*/);");
+						members.add("\tcalculator.putEnumeration(null, null /*obj.get"+f.Name+"()*/);");
 				} else {						
 					if (isArray)
-						content.add("\t\t\t\tcalculator.putEncodeableArray(null, "+dataTypeClassName+".class, (obj==null)?null:obj.get"+f.Name+"());");
+						members.add("\tcalculator.putEncodeableArray(null, "+dataTypeClassName+".class, (obj==null)?null:obj.get"+f.Name+"());");
 					else
-						content.add("\t\t\t\tcalculator.putEncodeable(null, "+dataTypeClassName+".class, (obj==null)?null:obj.get"+f.Name+"());");
+						members.add("\tcalculator.putEncodeable(null, "+dataTypeClassName+".class, (obj==null)?null:obj.get"+f.Name+"());");
 				}
 			}
-			content.add("\t\t\t}");
+			members.add("}");
 
 			
 			// Write
-			content.add("\t\t\tpublic void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {");
+			members.add("public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {");
 			if (!t.getAllFields().isEmpty())
-				content.add("\t\t\t\t"+t.Name+" obj = ("+t.Name+") encodeable;");
+				members.add("\t"+t.Name+" obj = ("+t.Name+") encodeable;");
 			for (FieldType f : t.getAllFields()) {				
 				DictionaryTypes2.ModelDesign.DataType fieldType = dom.getDataType( f.getDataType() ); 
 				if(fieldType.isOptionSet){
@@ -918,26 +946,26 @@ public class Main2 {
 
 				if (builtinsId!=null) {
 					if (isArray)
-						content.add("\t\t\t\tencoder.put"+builtinsName+"Array(\""+fieldName+"\", (obj==null)?null:obj.get"+f.Name+"() );");
+						members.add("\tencoder.put"+builtinsName+"Array(\""+fieldName+"\", (obj==null)?null:obj.get"+f.Name+"() );");
 					else
-						content.add("\t\t\t\tencoder.put"+builtinsName+"(\""+fieldName+"\",  (obj==null)?null:obj.get"+f.Name+"() );");						
+						members.add("\tencoder.put"+builtinsName+"(\""+fieldName+"\",  (obj==null)?null:obj.get"+f.Name+"() );");						
 				} else if (isEnum) {
 					if (isArray)
-						content.add("\t\t\t\tencoder.putEnumerationArray(\""+fieldName+"\",  (obj==null)?null:obj.get"+f.Name+"() );");
+						members.add("\tencoder.putEnumerationArray(\""+fieldName+"\",  (obj==null)?null:obj.get"+f.Name+"() );");
 					else
-						content.add("\t\t\t\tencoder.putEnumeration(\""+fieldName+"\",  (obj==null)?null:obj.get"+f.Name+"() );");
+						members.add("\tencoder.putEnumeration(\""+fieldName+"\",  (obj==null)?null:obj.get"+f.Name+"() );");
 				} else {					
 					if (isArray)
-						content.add("\t\t\t\tencoder.putEncodeableArray(\""+fieldName+"\", "+dataTypeClassName+".class, (obj==null)?null:obj.get"+f.Name+"());");
+						members.add("\tencoder.putEncodeableArray(\""+fieldName+"\", "+dataTypeClassName+".class, (obj==null)?null:obj.get"+f.Name+"());");
 					else
-						content.add("\t\t\t\tencoder.putEncodeable(\""+fieldName+"\", "+dataTypeClassName+".class, (obj==null)?null:obj.get"+f.Name+"());");
+						members.add("\tencoder.putEncodeable(\""+fieldName+"\", "+dataTypeClassName+".class, (obj==null)?null:obj.get"+f.Name+"());");
 				}
 			}
-			content.add("\t\t\t}");
+			members.add("}");
 			
 			// Read
-			content.add("\t\t\tpublic IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {");
-			content.add("\t\t\t\t"+t.Name+" result = new "+t.Name+"();");
+			members.add("public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {");
+			members.add("\t"+t.Name+" result = new "+t.Name+"();");
 			for (FieldType f : t.getAllFields()) {				
 				DictionaryTypes2.ModelDesign.DataType fieldType = dom.getDataType( f.getDataType() ); 
 				if(fieldType.isOptionSet){
@@ -956,47 +984,39 @@ public class Main2 {
 
 				if (builtinsId!=null) {
 					if (isArray)
-						content.add("\t\t\t\tresult.set"+f.Name+"( decoder.get"+builtinsName+"Array(\""+fieldName+"\") );");
+						members.add("\tresult.set"+f.Name+"( decoder.get"+builtinsName+"Array(\""+fieldName+"\") );");
 					else
-						content.add("\t\t\t\tresult.set"+f.Name+"( decoder.get"+builtinsName+"(\""+fieldName+"\") );");						
+						members.add("\tresult.set"+f.Name+"( decoder.get"+builtinsName+"(\""+fieldName+"\") );");						
 				} else if (isEnum) {
 					if (isArray)
-						content.add("\t\t\t\tresult.set"+f.Name+"( decoder.getEnumerationArray(\""+fieldName+"\", "+dataTypeClassName+".class) );");
+						members.add("\tresult.set"+f.Name+"( decoder.getEnumerationArray(\""+fieldName+"\", "+dataTypeClassName+".class) );");
 					else
-						content.add("\t\t\t\tresult.set"+f.Name+"( decoder.getEnumeration(\""+fieldName+"\", "+dataTypeClassName+".class) );");
+						members.add("\tresult.set"+f.Name+"( decoder.getEnumeration(\""+fieldName+"\", "+dataTypeClassName+".class) );");
 				} else {					
 					if (isArray)
-						content.add("\t\t\t\tresult.set"+f.Name+"( decoder.getEncodeableArray(\""+fieldName+"\", "+dataTypeClassName+".class) );");
+						members.add("\tresult.set"+f.Name+"( decoder.getEncodeableArray(\""+fieldName+"\", "+dataTypeClassName+".class) );");
 					else
-						content.add("\t\t\t\tresult.set"+f.Name+"( decoder.getEncodeable(\""+fieldName+"\", "+dataTypeClassName+".class) );");
+						members.add("\tresult.set"+f.Name+"( decoder.getEncodeable(\""+fieldName+"\", "+dataTypeClassName+".class) );");
 				}
 			}
 			if (t.Name.equals("ResponseHeader"))
-				content.add("\t\t\t\tDecoderUtils.fixResponseHeader(result);");
-			content.add("\t\t\t\treturn result;");
-			content.add("\t\t\t}");
+				members.add("\tDecoderUtils.fixResponseHeader(result);");
+			members.add("\treturn result;");
+			members.add("}");
 			
-			content.add("\t\t});");
-			content.add("");
+
+			HashMap<String, Object> structureMap = new HashMap<String, Object>();
+			structureMap.put(Template.KEY_PACKAGE_NAME, getPackageName(structureClassName));
+			structureMap.put(Template.KEY_CLASSNAME, serializerClassName);
+			structureMap.put(Template.KEY_DESCRIPTION, t.Name);
+			structureMap.put(Template.KEY_CONTENT, members);
+			List<String> structureImports = new ArrayList<String>();
+			if (t.Name.equals("ResponseHeader"))
+				structureImports.add("org.opcfoundation.ua.encoding.binary.DecoderUtils");
+			structureMap.put(Template.KEY_IMPORTS, structureImports);
+			structureSerializerTemplate.buildToFile(structureMap, toFile(DEST, getPackageName(structureClassName)+"."+serializerClassName));
 		}
-		
-		/*
-		addSerializer( 
-		    new AbstractSerializer(CreateMonitoredItemsRequest.class, CreateMonitoredItemsRequest.ID) {
-		    	public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-		    		
-		    	}
-		    	public IEncodeable getEncodeable(IDecoder decoder)
-		    	throws DecodingException, IOException {
-		    		return null;
-		    	}
-		    	public void putEncodeable(IEncodeable encodeable, IEncoder encoder)
-		    	throws EncodingException, IOException {
-		    		
-		    	}
-		    }
-		);		
- */
+		map.put(Template.KEY_ADDITION, cases.toString());
 		
 		serializerTemplate.buildToFile(map, file);		
 	}
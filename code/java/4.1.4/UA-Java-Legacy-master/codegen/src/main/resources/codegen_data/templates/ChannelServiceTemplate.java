@@ -58,6 +58,24 @@ public class _ClassName_ {
 		this.channel = channel;		
 	}	
 	
+	/**
+	 * Send a request asynchronously and notify the listener of the response
+	 * in the thread that receives it, without a handoff to an executor. 
+	 * The listener must return quickly and must not block.
+	 * 
+	 * @param req the request
+	 * @param listener listener that receives either an error or the result
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	protected void serviceRequestAsync(ServiceRequest req, ResultListener<? extends ServiceResponse> listener)
+	{
+		AsyncResult<ServiceResponse> result = channel.serviceRequestAsync( req );
+		if (result instanceof AsyncResultImpl)
+			((AsyncResultImpl<ServiceResponse>) result).setListener((ResultListener) listener, true);
+		else
+			result.setListener((ResultListener) listener);
+	}
+	
 _Content_ 
 
 }
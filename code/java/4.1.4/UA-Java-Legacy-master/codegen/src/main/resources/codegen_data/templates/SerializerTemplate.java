@@ -29,20 +29,18 @@
 
 package org.opcfoundation.ua.core;
 
-import org.opcfoundation.ua.encoding.DecodingException;
-import org.opcfoundation.ua.encoding.EncodingException;
-import org.opcfoundation.ua.encoding.IDecoder;
-import org.opcfoundation.ua.encoding.IEncodeable;
-import org.opcfoundation.ua.encoding.IEncoder;
-import org.opcfoundation.ua.encoding.binary.DecoderUtils;
+import org.opcfoundation.ua.builtintypes.ExpandedNodeId;
 import org.opcfoundation.ua.encoding.binary.EncodeableReflectionSerializer;
 import org.opcfoundation.ua.encoding.binary.IEncodeableSerializer;
-import org.opcfoundation.ua.encoding.utils.AbstractSerializer;
 import org.opcfoundation.ua.encoding.utils.SerializerComposition;
 _imports_
 
 /**
  * Code-generated encodeable serializer.
+ * <p>
+ * Each Structure type has a code-generated serializer class. The types are
+ * registered by class name and NodeIds, and the class and the serializer of
+ * a type are loaded on the first encode or decode of the type.
  * 
  * @see EncodeableReflectionSerializer Reflection based implementation
  * @see IEncodeableSerializer Serializer interface
@@ -66,5 +64,11 @@ _Content_
 		
 	}
 	
+	@Override
+	protected IEncodeableSerializer createSerializer(int index) {
+		switch (index) {
+_Additions_		default: return null;
+		}
+	}
 
 }
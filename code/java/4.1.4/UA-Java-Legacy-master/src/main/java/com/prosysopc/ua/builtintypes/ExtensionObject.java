@@ -172,6 +172,24 @@ public class ExtensionObject {
 	final ExpandedNodeId typeId; // NodeId of a DataType
 	final EncodeType encodeType;
 
+	/**
+	 * An encoded body decoded with a serializer and namespace table.
+	 */
+	static class Decoded {
+		final IEncodeableSerializer serializer;
+		final NamespaceTable namespaceTable;
+		final IEncodeable value;
+
+		Decoded(IEncodeableSerializer serializer, NamespaceTable namespaceTable, IEncodeable value) {
+			this.serializer = serializer;
+			this.namespaceTable = namespaceTable;
+			this.value = value;
+		}
+	}
+
+	/** The last decoded body, see {@link #decode(IEncodeableSerializer, EncoderContext, NamespaceTable)} */
+	private volatile Decoded decoded;
+
 	/**
 	 * <p>Constructor for ExtensionObject.</p>
 	 *
@@ -280,7 +298,9 @@ public class ExtensionObject {
 	}
 	
 	/**
-	 * Decode the extension object
+	 * Decode the extension object. The decoded body is cached, so decoding
+	 * again with the same serializer and namespace table returns the same
+	 * instance.
 	 *
 	 * @param <T> type
 	 * @param serializer serializer to use
@@ -296,6 +316,8 @@ public class ExtensionObject {
 		if (object==null)
 		{
 			Class<? extends IEncodeable> clazz = serializer.getClass(typeId);
+			if (clazz == null)
+				throw new DecodingException("No serializer defined for class " + typeId);
 			try {
 				return (T) clazz.newInstance();
 			} catch (InstantiationException e) {
@@ -312,13 +334,25 @@ public class ExtensionObject {
 		  T r = (T) object;
 		  return r;
 		}
-		
+
+		Decoded d = decoded;
+		if (d != null && d.serializer == serializer && d.namespaceTable == namespaceTable)
+			return (T) d.value;
+		T result = decodeObject(serializer, ctx, namespaceTable);
+		decoded = new Decoded(serializer, namespaceTable, result);
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends IEncodeable> T decodeObject(IEncodeableSerializer serializer, EncoderContext ctx,
+			NamespaceTable namespaceTable)
+	throws DecodingException {
 		if (object instanceof XmlElement) {
-			Class<? extends IEncodeable> clazz = serializer.getClass(typeId);
+			ctx.setEncodeableSerializer(serializer);
+			Class<? extends IEncodeable> clazz = ctx.getEncodeableClass(typeId);
 			logger.debug("decode: typeId={} class={}", typeId, clazz);
 			if (clazz == null)
 				throw new DecodingException("No serializer defined for class " + typeId);
-			ctx.setEncodeableSerializer(serializer);
 			XmlDecoder dec = new XmlDecoder((XmlElement) object, ctx);
 			T result;
 			try {
@@ -336,8 +370,10 @@ public class ExtensionObject {
 		}
 
 		if (object instanceof ByteString) {
-			Class<? extends IEncodeable> clazz = serializer.getClass(typeId);
 			ctx.setEncodeableSerializer(serializer);
+			Class<? extends IEncodeable> clazz = ctx.getEncodeableClass(typeId);
+			if (clazz == null)
+				throw new DecodingException("No serializer defined for class " + typeId);
 			BinaryDecoder dec = new BinaryDecoder(((ByteString)object).getValue());
 			dec.setEncoderContext(ctx);
 			return (T) serializer.getEncodeable(clazz, dec);
@@ -117,11 +117,32 @@ public class Variant {
 	  return MultiDimensionArrayUtils.demuxArray(tmp.toArray(), ad, ByteString.class);
 	}
 	
+	//boxed composite classes of the primitive arrays a Variant accepts
+	private static final Map<Class<?>, Class<?>> PRIMITIVE_ARRAY_COMPOSITES = new HashMap<Class<?>, Class<?>>();
+	static {
+	  PRIMITIVE_ARRAY_COMPOSITES.put(boolean[].class, Boolean.class);
+	  PRIMITIVE_ARRAY_COMPOSITES.put(short[].class, Short.class);
+	  PRIMITIVE_ARRAY_COMPOSITES.put(int[].class, Integer.class);
+	  PRIMITIVE_ARRAY_COMPOSITES.put(long[].class, Long.class);
+	  PRIMITIVE_ARRAY_COMPOSITES.put(float[].class, Float.class);
+	  PRIMITIVE_ARRAY_COMPOSITES.put(double[].class, Double.class);
+	}
+
 	final Object value;
 	final Class<?> compositeClass;
+	/** builtin type id of the composite class, 0 if the value is null */
+	final int builtinTypeId;
+	/** number of array dimensions of the value, 0 for a scalar */
+	final int dimension;
+	/** array dimensions of the value, resolved on first use */
+	private volatile int[] arrayDimensions;
 
 	/**
 	 * Create variant.
+	 * <p>
+	 * A one-dimension array may also be a boolean[], short[], int[], long[],
+	 * float[] or double[] array, which is kept as is. Its composite class is
+	 * the respective boxed class and it is encoded like the boxed array.
 	 *
 	 * @param value
 	 *            scalar, array or multi-dimension array
@@ -130,11 +151,25 @@ public class Variant {
 	  if(value == null){
 	    this.value = null;
 	    this.compositeClass = null;
+	    this.builtinTypeId = 0;
+	    this.dimension = 0;
+	    return;
+	  }
+	  
+	  // Scalars and one-dimension arrays of the builtin types, such as
+	  // the decoded values, are used as such
+	  final Class<?> valueClass = value.getClass();
+	  Integer id = BuiltinsMap.ID_MAP.get(valueClass);
+	  if(id != null){
+	    this.value = value;
+	    this.dimension = valueClass.isArray() ? 1 : 0;
+	    this.compositeClass = dimension == 0 ? valueClass : valueClass.getComponentType();
+	    this.builtinTypeId = id;
 	    return;
 	  }
 	  
 	  // Find the non-array composite class of the value
-	  final Class<?> composite = MultiDimensionArrayUtils.getComponentType(value.getClass());
+	  final Class<?> composite = MultiDimensionArrayUtils.getComponentType(valueClass);
 	  
 	  // GH#82, if the composite is an Enumeration, convert it to equivalent
 	  // Integer array (Note! must be Integer and not int)
@@ -143,6 +178,8 @@ public class Variant {
 	    
 	    //Enumerations are as UA Int32 which is Java Integer
 	    this.compositeClass = Integer.class;
+	    this.builtinTypeId = 6;
+	    this.dimension = MultiDimensionArrayUtils.getDimension(this.value);
 	    return;
 	  }
 	  
@@ -154,6 +191,18 @@ public class Variant {
 	    
 	    this.value = byteArraysToByteStrings(value);
 	    this.compositeClass = ByteString.class;
+	    this.builtinTypeId = 15;
+	    this.dimension = MultiDimensionArrayUtils.getDimension(this.value);
+	    return;
+	  }
+	  
+	  // Primitive arrays are kept as such, to avoid boxing large arrays
+	  Class<?> boxed = PRIMITIVE_ARRAY_COMPOSITES.get(valueClass);
+	  if(boxed != null){
+	    this.value = value;
+	    this.compositeClass = boxed;
+	    this.builtinTypeId = BuiltinsMap.ID_MAP.get(boxed);
+	    this.dimension = 1;
 	    return;
 	  }
 	  
@@ -162,6 +211,10 @@ public class Variant {
 	  assertValidClass(composite);
 	  this.value = value;
 	  this.compositeClass = composite;
+	  id = BuiltinsMap.ID_MAP.get(composite);
+	  // Structures and decimals are encoded as ExtensionObjects
+	  this.builtinTypeId = id != null ? id : 22;
+	  this.dimension = MultiDimensionArrayUtils.getClassDimensions(valueClass);
 	}
 
 	void assertValidClass(Class<?> clazz) {
@@ -241,9 +294,18 @@ public class Variant {
 	 * @return a boolean.
 	 */
 	public boolean isArray() {
+		return dimension > 0;
+	}
+
+	/**
+	 * <p>isPrimitiveArray.</p>
+	 *
+	 * @return true if the value is a boolean[], short[], int[], long[], float[] or double[] array
+	 */
+	public boolean isPrimitiveArray() {
 		if (value == null)
 			return false;
-		return value.getClass().isArray();
+		return PRIMITIVE_ARRAY_COMPOSITES.containsKey(value.getClass());
 	}
 
 	/**
@@ -320,13 +382,29 @@ public class Variant {
 		return compositeClass;
 	}
 
+	/**
+	 * The builtin type id of the composite class, which the encoders write
+	 * in the encoding mask of the Variant. A {@link Structure} and a
+	 * {@link BigDecimal} are 22 (ExtensionObject).
+	 *
+	 * @return the builtin type id, or 0 if the value is null
+	 */
+	public int getBuiltinTypeId() {
+		return builtinTypeId;
+	}
+
 	/**
 	 * <p>getArrayDimensions.</p>
 	 *
 	 * @return an array of int.
 	 */
 	public int[] getArrayDimensions() {
-		return calculateArrayDimensions(value, false);
+		int[] result = arrayDimensions;
+		if (result == null) {
+			result = value == null ? new int[0] : calculateArrayDimensions(value, false);
+			arrayDimensions = result;
+		}
+		return result.clone();
 	}
 
   private static int[] calculateArrayDimensions(Object value, boolean byteArray) {
@@ -340,11 +418,12 @@ public class Variant {
 
 		Object o = value;
 		for (int i = 0; i < dim; i++) {
-			Object[] array = (Object[]) o;
-			result[i] = array.length;
-			if (array.length == 0)
+			// the innermost array may be a primitive array
+			int length = Array.getLength(o);
+			result[i] = length;
+			if (length == 0 || i == dim - 1)
 				break;
-			o = array[0];
+			o = ((Object[]) o)[0];
 		}
 
 		return result;
@@ -356,7 +435,7 @@ public class Variant {
 	 * @return a int.
 	 */
 	public int getDimension() {
-		return MultiDimensionArrayUtils.getDimension(value);
+		return dimension;
 	}
 
 	/** {@inheritDoc} */
@@ -366,6 +445,19 @@ public class Variant {
 			return 0;
 		if (!isArray())
 			return value.hashCode();
+		// Equal to the hash of the respective boxed array
+		if (value instanceof double[])
+			return Arrays.hashCode((double[]) value);
+		if (value instanceof float[])
+			return Arrays.hashCode((float[]) value);
+		if (value instanceof int[])
+			return Arrays.hashCode((int[]) value);
+		if (value instanceof long[])
+			return Arrays.hashCode((long[]) value);
+		if (value instanceof short[])
+			return Arrays.hashCode((short[]) value);
+		if (value instanceof boolean[])
+			return Arrays.hashCode((boolean[]) value);
 		return Arrays.deepHashCode((Object[]) value);
 	}
 
@@ -384,6 +476,10 @@ public class Variant {
 		if (value != null && o.value == null)
 			return false;
 
+		// A primitive array equals the respective boxed array
+		if (isPrimitiveArray() || o.isPrimitiveArray())
+			return primitiveArrayEquals(o);
+
 		Class<?> c = value.getClass();
 		if (!c.equals(o.value.getClass()))
 			return false;
@@ -392,6 +488,34 @@ public class Variant {
 		return Arrays.deepEquals((Object[]) value, (Object[]) o.value);
 	}
 
+	private boolean primitiveArrayEquals(Variant o) {
+		if (!compositeClass.equals(o.compositeClass) || getDimension() != 1 || o.getDimension() != 1)
+			return false;
+		if (value.getClass().equals(o.value.getClass())) {
+			if (value instanceof double[])
+				return Arrays.equals((double[]) value, (double[]) o.value);
+			if (value instanceof float[])
+				return Arrays.equals((float[]) value, (float[]) o.value);
+			if (value instanceof int[])
+				return Arrays.equals((int[]) value, (int[]) o.value);
+			if (value instanceof long[])
+				return Arrays.equals((long[]) value, (long[]) o.value);
+			if (value instanceof short[])
+				return Arrays.equals((short[]) value, (short[]) o.value);
+			return Arrays.equals((boolean[]) value, (boolean[]) o.value);
+		}
+		// Compare a primitive array to a boxed array element by element
+		int length = Array.getLength(value);
+		if (length != Array.getLength(o.value))
+			return false;
+		for (int i = 0; i < length; i++) {
+			Object e = Array.get(value, i);
+			if (e == null ? Array.get(o.value, i) != null : !e.equals(Array.get(o.value, i)))
+				return false;
+		}
+		return true;
+	}
+
 	/**
 	 * Convert the variant value to any class. If it cannot be converted returns defaultValue.
 	 *
@@ -0,0 +1,256 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package com.prosysopc.ua.cert;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.security.auth.x500.X500Principal;
+
+import org.bouncycastle.asn1.x509.AuthorityKeyIdentifier;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.SubjectKeyIdentifier;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+
+import com.prosysopc.ua.builtintypes.StatusCode;
+import com.prosysopc.ua.core.StatusCodes;
+import com.prosysopc.ua.transport.security.Cert;
+
+/**
+ * The trusted certificates and revocation lists of a {@link CertificateStore}
+ * indexed for {@link DefaultCertificateValidator}, and a bounded cache of the
+ * chain verdicts of validated certificates.
+ * <p>
+ * Trusted certificates are indexed by subject and subject key identifier, so
+ * that the issuer of a certificate is found by its issuer name and authority
+ * key identifier instead of verifying the signature with every trusted
+ * certificate. Revocation lists are indexed by issuer. The verdicts are keyed
+ * by certificate thumbprint and the least recently used verdict is dropped
+ * when the cache is full.
+ */
+class CertificateValidationCache {
+
+	/**
+	 * The result of the checks of a certificate that depend on the trusted
+	 * certificates and revocation lists: revocation, signature and issuer
+	 * chain.
+	 */
+	static class Verdict {
+		static final Verdict REVOKED = new Verdict(true, false, null, Long.MAX_VALUE);
+		static final Verdict SELF_SIGNED = new Verdict(false, true, StatusCode.GOOD, Long.MAX_VALUE);
+
+		final boolean revoked;
+		final boolean selfSigned;
+		/** Result of the issuer chain, GOOD for self-signed certificates */
+		final StatusCode chainResult;
+		/** System time after which the verdict must be checked again */
+		final long expires;
+
+		Verdict(boolean revoked, boolean selfSigned, StatusCode chainResult, long expires) {
+			this.revoked = revoked;
+			this.selfSigned = selfSigned;
+			this.chainResult = chainResult;
+			this.expires = expires;
+		}
+
+		boolean isFailed() {
+			return revoked || chainResult.isNotGood();
+		}
+
+		@Override
+		public String toString() {
+			return revoked ? "revoked" : selfSigned ? "self-signed" : String.valueOf(chainResult);
+		}
+	}
+
+	private final Set<Cert> trustedCerts = new HashSet<Cert>();
+	private final Map<X500Principal, List<Cert>> trustedBySubject = new HashMap<X500Principal, List<Cert>>();
+	private final Map<ByteBuffer, List<Cert>> trustedByKeyId = new HashMap<ByteBuffer, List<Cert>>();
+	private final Map<X500Principal, List<X509CRL>> crlsByIssuer = new HashMap<X500Principal, List<X509CRL>>();
+	private final Map<ByteBuffer, Verdict> verdicts;
+
+	/**
+	 * The {@link PkiDirectoryCertificateStore#getTrustedRemovalCount()} of the
+	 * store when the cache was built
+	 */
+	int storeRemovalCount;
+
+	/**
+	 * @param trusted the trusted certificates, may be null
+	 * @param crls the revocation lists, may be null
+	 * @param maxVerdicts maximum number of cached verdicts, 0 to not cache them
+	 */
+	CertificateValidationCache(Collection<Cert> trusted, Collection<X509CRL> crls, final int maxVerdicts) {
+		verdicts = new LinkedHashMap<ByteBuffer, Verdict>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Verdict> eldest) {
+				return size() > maxVerdicts;
+			}
+		};
+		if (trusted != null)
+			for (Cert c : trusted)
+				addTrusted(c);
+		if (crls != null)
+			for (X509CRL crl : crls)
+				add(crlsByIssuer, crl.getIssuerX500Principal(), crl);
+	}
+
+	/**
+	 * Add a trusted certificate to the index. The cached failures are dropped,
+	 * since the certificate may be the missing issuer of a chain.
+	 *
+	 * @param cert the certificate
+	 * @return true if the certificate was not trusted before
+	 */
+	synchronized boolean addTrusted(Cert cert) {
+		if (!trustedCerts.add(cert))
+			return false;
+		X509Certificate certificate = cert.getCertificate();
+		add(trustedBySubject, certificate.getSubjectX500Principal(), cert);
+		byte[] keyId = getSubjectKeyIdentifier(certificate);
+		if (keyId != null)
+			add(trustedByKeyId, ByteBuffer.wrap(keyId), cert);
+		for (Iterator<Verdict> i = verdicts.values().iterator(); i.hasNext();)
+			if (i.next().isFailed())
+				i.remove();
+		return true;
+	}
+
+	synchronized boolean isTrusted(Cert cert) {
+		return trustedCerts.contains(cert);
+	}
+
+	/**
+	 * Find the trusted certificates that may have issued a certificate: those
+	 * with the authority key identifier of the certificate as their subject
+	 * key identifier, or else those with its issuer name as their subject.
+	 *
+	 * @param certificate the certificate
+	 * @return the candidates, whose signatures must still be verified
+	 */
+	synchronized List<Cert> getIssuerCandidates(X509Certificate certificate) {
+		byte[] keyId = getAuthorityKeyIdentifier(certificate);
+		List<Cert> result = keyId == null ? null : trustedByKeyId.get(ByteBuffer.wrap(keyId));
+		if (result == null)
+			result = trustedBySubject.get(certificate.getIssuerX500Principal());
+		if (result == null)
+			return Collections.emptyList();
+		return new ArrayList<Cert>(result);
+	}
+
+	/**
+	 * @param certificate the certificate
+	 * @return true if a revocation list of the issuer of the certificate revokes it
+	 */
+	synchronized boolean isRevoked(X509Certificate certificate) {
+		List<X509CRL> crls = crlsByIssuer.get(certificate.getIssuerX500Principal());
+		if (crls != null)
+			for (X509CRL crl : crls)
+				if (crl.isRevoked(certificate))
+					return true;
+		return false;
+	}
+
+	/**
+	 * @param cert the certificate
+	 * @param now the current system time
+	 * @return the cached verdict of the certificate or null
+	 */
+	synchronized Verdict getVerdict(Cert cert, long now) {
+		ByteBuffer key = ByteBuffer.wrap(cert.getEncodedThumbprint());
+		Verdict verdict = verdicts.get(key);
+		if (verdict != null && verdict.expires <= now) {
+			verdicts.remove(key);
+			return null;
+		}
+		return verdict;
+	}
+
+	synchronized void putVerdict(Cert cert, Verdict verdict) {
+		verdicts.put(ByteBuffer.wrap(cert.getEncodedThumbprint()), verdict);
+	}
+
+	synchronized int getVerdictCount() {
+		return verdicts.size();
+	}
+
+	private static <K, V> void add(Map<K, List<V>> map, K key, V value) {
+		List<V> list = map.get(key);
+		if (list == null) {
+			list = new ArrayList<V>(1);
+			map.put(key, list);
+		}
+		list.add(value);
+	}
+
+	static byte[] getSubjectKeyIdentifier(X509Certificate certificate) {
+		byte[] value = certificate.getExtensionValue(Extension.subjectKeyIdentifier.getId());
+		if (value == null)
+			return null;
+		try {
+			return SubjectKeyIdentifier.getInstance(JcaX509ExtensionUtils.parseExtensionValue(value)).getKeyIdentifier();
+		} catch (IOException e) {
+			return null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	static byte[] getAuthorityKeyIdentifier(X509Certificate certificate) {
+		byte[] value = certificate.getExtensionValue(Extension.authorityKeyIdentifier.getId());
+		if (value == null)
+			return null;
+		try {
+			return AuthorityKeyIdentifier.getInstance(JcaX509ExtensionUtils.parseExtensionValue(value)).getKeyIdentifier();
+		} catch (IOException e) {
+			return null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Map the result of validating an issuer to the result of the certificate
+	 * it has issued.
+	 *
+	 * @param issuerResult the result of the issuer
+	 * @return the result of the certificate
+	 */
+	static StatusCode toIssuedResult(StatusCode issuerResult) {
+		if (issuerResult.isStatusCode(StatusCodes.Bad_CertificateRevoked))
+			return new StatusCode(StatusCodes.Bad_CertificateIssuerRevoked);
+		if (issuerResult.isStatusCode(StatusCodes.Bad_CertificateTimeInvalid))
+			return new StatusCode(StatusCodes.Bad_CertificateIssuerTimeInvalid);
+		if (issuerResult.isStatusCode(StatusCodes.Bad_CertificateChainIncomplete)
+				|| issuerResult.isStatusCode(StatusCodes.Bad_CertificateIssuerRevoked)
+				|| issuerResult.isStatusCode(StatusCodes.Bad_CertificateIssuerTimeInvalid))
+			return issuerResult;
+		if (issuerResult.isNotGood())
+			return new StatusCode(StatusCodes.Bad_CertificateInvalid);
+		return StatusCode.GOOD;
+	}
+
+}
@@ -23,7 +23,7 @@ public interface DefaultCertificateStoreListener {
 
 	/**
 	 * Called after {@link DefaultCertificateValidator} adds a Certificate
-	 * to Rejected certificates
+	 * to Rejected certificates, or the store finds a new one in its directory
 	 * 
 	 * @param cert
 	 *            the added certificate
@@ -40,7 +40,7 @@ public interface DefaultCertificateStoreListener {
 
 	/**
 	 * Called after {@link DefaultCertificateValidator} adds a Certificate
-	 * to Trusted certificates
+	 * to Trusted certificates, or the store finds a new one in its directory
 	 * 
 	 * @param cert
 	 *            the added certificate
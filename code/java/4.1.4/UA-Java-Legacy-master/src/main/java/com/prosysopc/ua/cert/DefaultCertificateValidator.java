@@ -21,9 +21,10 @@ import java.security.cert.CertificateParsingException;
 import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
 import java.util.EnumSet;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.prosysopc.ua.builtintypes.StatusCode;
+import com.prosysopc.ua.cert.CertificateValidationCache.Verdict;
 import com.prosysopc.ua.core.StatusCodes;
 import com.prosysopc.ua.transport.security.Cert;
 import com.prosysopc.ua.transport.security.CertificateValidator;
@@ -33,18 +34,70 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A certificate validator implementation.
+ * <p>
+ * The issuer of a certificate is looked up from the trusted certificates by
+ * its name and authority key identifier, and the revocation lists by the
+ * issuer of the certificate. If the store is a
+ * {@link PkiDirectoryCertificateStore}, which reports its changes to a
+ * {@link DefaultCertificateStoreListener}, the indexes are kept between
+ * validations together with a cache of the revocation and issuer chain
+ * verdicts of the validated certificates. They are rebuilt when trusted
+ * certificates are removed from the store. The trust, validity period,
+ * application URI and validation listener are checked on every validation.
  */
 public class DefaultCertificateValidator implements CertificateValidator {
 
 	private static final Logger logger = LoggerFactory.getLogger(DefaultCertificateValidator.class);
 	private static final String INVALID_URI_ERROR = "invalid URI name:";
+
+	/** Default maximum number of cached verdicts */
+	public static final int DEFAULT_CACHE_SIZE = 1024;
 	
 	private volatile DefaultCertificateValidatorListener validationListener;
 
 	private final CertificateStore store;
+
+	/** True if the store reports its changes, so that the cache can be kept */
+	private final boolean storeReportsChanges;
+
+	private volatile int cacheSize = DEFAULT_CACHE_SIZE;
+
+	/** The indexes and verdicts, null if they must be rebuilt */
+	private volatile CertificateValidationCache cache;
+
+	/** Incremented when the cache is invalidated */
+	private final AtomicInteger cacheVersion = new AtomicInteger();
+
+	/** Maximum number of issuers checked above a certificate */
+	private static final int MAX_CHAIN_DEPTH = 16;
+
+	private final DefaultCertificateStoreListener storeListener = new DefaultCertificateStoreListener() {
+		@Override
+		public void onTrustedCertificateAdded(Cert cert) {
+			CertificateValidationCache c = cache;
+			if (c != null && c.addTrusted(cert))
+				logger.debug("Trusted certificate added to the validation cache");
+		}
+
+		@Override
+		public void onRejectedCertificateAdded(Cert cert) {
+			// A trusted certificate has been moved to the rejected ones
+			CertificateValidationCache c = cache;
+			if (c != null && c.isTrusted(cert))
+				invalidateCache();
+		}
+
+		@Override
+		public void onRevokedListAdded(X509CRL crl) {
+			invalidateCache();
+		}
+	};
 	
 	public DefaultCertificateValidator(CertificateStore certificateStore){
 		this.store = certificateStore;
+		storeReportsChanges = certificateStore instanceof PkiDirectoryCertificateStore;
+		if (storeReportsChanges)
+			((PkiDirectoryCertificateStore) certificateStore).addListener(storeListener);
 	}
 	
 	/**
@@ -76,13 +129,74 @@ public class DefaultCertificateValidator implements CertificateValidator {
 		this.validationListener = validationListener;
 	} 
 
+	/**
+	 * @return the maximum number of cached verdicts
+	 */
+	public int getCacheSize() {
+		return cacheSize;
+	}
+
+	/**
+	 * Set the maximum number of cached verdicts. The verdicts are only cached
+	 * if the store reports its changes, see {@link DefaultCertificateValidator}.
+	 * <p>
+	 * Default: {@link #DEFAULT_CACHE_SIZE}
+	 *
+	 * @param cacheSize the size to set, 0 to not cache verdicts
+	 */
+	public void setCacheSize(int cacheSize) {
+		if (cacheSize < 0)
+			throw new IllegalArgumentException("cacheSize must not be negative");
+		this.cacheSize = cacheSize;
+		invalidateCache();
+	}
+
+	/**
+	 * Drop the cached indexes and verdicts. Call this if the certificate
+	 * store has been changed in a way that it does not report to its
+	 * listeners.
+	 */
+	public void invalidateCache() {
+		cacheVersion.incrementAndGet();
+		cache = null;
+	}
+
+	/**
+	 * Get the indexes of the store. If the store does not report its changes
+	 * they are rebuilt for each validation.
+	 */
+	private CertificateValidationCache getCache() {
+		if (!storeReportsChanges)
+			return new CertificateValidationCache(store.getTrustedCerts(), store.getRevocationLists(), 0);
+		PkiDirectoryCertificateStore pkiStore = (PkiDirectoryCertificateStore) store;
+		// Certificates that have been added to the directories are reported to the listener
+		pkiStore.refresh();
+		// Removed certificates are not, so the cache is rebuilt when they are
+		int removalCount = pkiStore.getTrustedRemovalCount();
+		CertificateValidationCache c = cache;
+		if (c == null || c.storeRemovalCount != removalCount) {
+			int version = cacheVersion.get();
+			c = new CertificateValidationCache(store.getTrustedCerts(), store.getRevocationLists(), cacheSize);
+			c.storeRemovalCount = removalCount;
+			// Do not keep a cache built from a store that changed meanwhile
+			if (version == cacheVersion.get())
+				cache = c;
+		}
+		return c;
+	}
+
 	@Override
 	public StatusCode validateCertificate(ApplicationDescription applicationDescription, Cert cert) {
 		try{
 			logger.debug("validateCertificate: applicationDescription={}", applicationDescription);
 			logger.debug("cert={}", cert);
 	
-			boolean isRevoked = isRevoked(cert);
+			final CertificateValidationCache cache = getCache();
+			final X509Certificate certificate = cert.getCertificate();
+			Verdict verdict = getVerdict(cache, cert, System.currentTimeMillis(), 0);
+			logger.debug("verdict={}", verdict);
+
+			boolean isRevoked = verdict.revoked;
 			logger.debug("isRevoked={}", isRevoked);
 			if (isRevoked)
 				return new StatusCode(StatusCodes.Bad_CertificateRevoked);
@@ -90,15 +204,13 @@ public class DefaultCertificateValidator implements CertificateValidator {
 			// Default result if not revoked
 			StatusCode result = StatusCode.GOOD;
 			EnumSet<CertificateCheck> passedChecks = EnumSet.noneOf(CertificateCheck.class);
-			final Set<Cert> trustedCerts = store.getTrustedCerts();
 			
-			if (trustedCerts != null && trustedCerts.contains(cert)) {
+			if (cache.isTrusted(cert)) {
 				logger.debug("trusted=yes");
 				passedChecks.add(CertificateCheck.Trusted);
 			}
 			logger.debug("trusted={}", passedChecks.contains(CertificateCheck.Trusted));
 	
-			final X509Certificate certificate = cert.getCertificate();
 			try {
 				certificate.checkValidity();
 				logger.debug("valid=yes");
@@ -112,48 +224,14 @@ public class DefaultCertificateValidator implements CertificateValidator {
 	
 			// Check the signature
 	
-			try {
-				// self-signed?
-				certificate.verify(certificate.getPublicKey());
+			if (verdict.selfSigned) {
 				logger.debug("signature=yes");
 				logger.debug("self-signed=yes");
 				passedChecks.add(CertificateCheck.Signature);
 				passedChecks.add(CertificateCheck.SelfSigned);
-			} catch (GeneralSecurityException e) {
-				// NOT self signed
-				// Is it signed by a trusted signer?
-				boolean issuerFound = false;
-				for (Cert c : trustedCerts) {
-					try {
-						PublicKey pkey = c.getCertificate().getPublicKey();
-						certificate.verify(pkey);
-						issuerFound = true;
-						StatusCode issuerResult = validateCertificate(c);
-						if (issuerResult.isStatusCode(
-								StatusCodes.Bad_CertificateRevoked))
-							result = new StatusCode(
-									StatusCodes.Bad_CertificateIssuerRevoked);
-						else if (issuerResult.isStatusCode(
-								StatusCodes.Bad_CertificateTimeInvalid))
-							result = new StatusCode(
-									StatusCodes.Bad_CertificateIssuerTimeInvalid);
-						else if (issuerResult.isStatusCode(
-								StatusCodes.Bad_CertificateChainIncomplete)
-								|| issuerResult.isStatusCode(
-										StatusCodes.Bad_CertificateIssuerRevoked)
-								|| issuerResult.isStatusCode(
-										StatusCodes.Bad_CertificateIssuerTimeInvalid))
-							result = issuerResult;
-						else if (issuerResult.isNotGood())
-							result = new StatusCode(
-									StatusCodes.Bad_CertificateInvalid);
-					} catch (GeneralSecurityException e1) {
-						continue;
-					}
-				}
-				if (!issuerFound)
-					result = new StatusCode(
-							StatusCodes.Bad_CertificateChainIncomplete);
+			} else {
+				// Signed by a trusted signer?
+				result = verdict.chainResult;
 				if (result.isNotGood()) {
 					store.addCertificate(ValidationResult.Reject, cert);
 					return result;
@@ -247,14 +325,76 @@ public class DefaultCertificateValidator implements CertificateValidator {
 		}
 	}
 
-	private boolean isRevoked(Cert cert) {
-		Set<X509CRL> crls = store.getRevocationLists();
-		for(X509CRL crl : crls){
-			if(crl.isRevoked(cert.getCertificate())){
-				return true;
+	/**
+	 * Get the cached verdict of a certificate, or check it and cache it.
+	 */
+	private Verdict getVerdict(CertificateValidationCache cache, Cert cert, long now, int depth) {
+		Verdict verdict = cache.getVerdict(cert, now);
+		if (verdict == null) {
+			verdict = checkChain(cache, cert, now, depth);
+			cache.putVerdict(cert, verdict);
+		}
+		return verdict;
+	}
+
+	/**
+	 * Check the revocation, signature and issuer chain of a certificate. The
+	 * issuers are checked for the same facts and their validity period, but
+	 * not with the validation listener, so that the verdict can be cached.
+	 *
+	 * @param depth the number of issuers already checked below the certificate
+	 */
+	private Verdict checkChain(CertificateValidationCache cache, Cert cert, long now, int depth) {
+		final X509Certificate certificate = cert.getCertificate();
+		if (cache.isRevoked(certificate))
+			return Verdict.REVOKED;
+		try {
+			// self-signed?
+			certificate.verify(certificate.getPublicKey());
+			return Verdict.SELF_SIGNED;
+		} catch (GeneralSecurityException e) {
+			// NOT self signed
+			// Is it signed by a trusted signer?
+			StatusCode result = StatusCode.GOOD;
+			boolean issuerFound = false;
+			long expires = Long.MAX_VALUE;
+			for (Cert c : cache.getIssuerCandidates(certificate)) {
+				try {
+					PublicKey pkey = c.getCertificate().getPublicKey();
+					certificate.verify(pkey);
+				} catch (GeneralSecurityException e1) {
+					continue;
+				}
+				issuerFound = true;
+				if (depth >= MAX_CHAIN_DEPTH) {
+					result = new StatusCode(StatusCodes.Bad_CertificateChainIncomplete);
+					continue;
+				}
+				Verdict issuerVerdict = getVerdict(cache, c, now, depth + 1);
+				X509Certificate issuer = c.getCertificate();
+				boolean issuerValid = now >= issuer.getNotBefore().getTime() && now <= issuer.getNotAfter().getTime();
+				StatusCode issuerResult;
+				if (issuerVerdict.revoked)
+					issuerResult = new StatusCode(StatusCodes.Bad_CertificateRevoked);
+				else if (issuerVerdict.chainResult.isNotGood())
+					issuerResult = issuerVerdict.chainResult;
+				else if (!issuerValid)
+					issuerResult = new StatusCode(StatusCodes.Bad_CertificateTimeInvalid);
+				else
+					issuerResult = StatusCode.GOOD;
+				issuerResult = CertificateValidationCache.toIssuedResult(issuerResult);
+				if (issuerResult.isNotGood())
+					result = issuerResult;
+				// The verdict changes when the validity of the issuer does
+				long validityChange = now < issuer.getNotBefore().getTime() ? issuer.getNotBefore().getTime()
+						: issuer.getNotAfter().getTime();
+				expires = Math.min(expires, Math.min(validityChange, issuerVerdict.expires));
 			}
+			if (!issuerFound)
+				result = new StatusCode(
+						StatusCodes.Bad_CertificateChainIncomplete);
+			return new Verdict(false, false, result, expires);
 		}
-		return false;
 	}
 
 	/*
@@ -28,6 +28,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.prosysopc.ua.transport.security.Cert;
 import org.slf4j.Logger;
@@ -61,6 +62,9 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 
 	private final List<DefaultCertificateStoreListener> listeners;
 
+	/** Incremented when trusted certificates are removed, which is not reported to the listeners */
+	private final AtomicInteger trustedRemovalCount = new AtomicInteger();
+
 	/**
 	 * Create a new validator using the default baseDir ("PKI\CA"), trustedDir
 	 * ("certs"), rejectedDir ("rejected") and revokedDir ("crl").
@@ -129,7 +133,8 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 	 */
 	public void addRejectedCertificate(Cert certificate){
 		listAdd(rejectedCertificates, rejectedDir, certificate);
-		removeCertificate(trustedCertificates, trustedDir, certificate);
+		if (removeCertificate(trustedCertificates, trustedDir, certificate))
+			trustedRemovalCount.incrementAndGet();
 		logger.info("Certificate '{}' added to rejected certificates.", getCertKey(certificate));
 		fireAddedRejected(certificate);
 	}
@@ -273,6 +278,18 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 		return new File(dir, getCertKey(certificate) + FILE_EXTENSION);
 	}
 	
+	/**
+	 * Get the number of times that trusted certificates have been removed from
+	 * the store, by moving them to the rejected certificates or by
+	 * {@link #clear(boolean)}. A validator that keeps the trusted certificates
+	 * between validations must drop them when this changes.
+	 *
+	 * @return the number of removals
+	 */
+	int getTrustedRemovalCount() {
+		return trustedRemovalCount.get();
+	}
+
 	/**
 	 * Defines whether certificates that are accepted with AcceptOnce status are
 	 * stored in the certificate store or not. If they are stored, they are
@@ -315,52 +332,75 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 	 */
 	public void clear(boolean removeFiles) {
 		if (removeFiles) {
-			for (File f : trustedDir.listFiles())
-				f.delete();
-
-			for (File f : rejectedDir.listFiles())
-				f.delete();
-
-			for (File f : revocationDir.listFiles())
-				f.delete();
+			deleteFiles(trustedDir);
+			deleteFiles(rejectedDir);
+			deleteFiles(revocationDir);
 		}
 		trustedCertificates.clear();
 		rejectedCertificates.clear();
+		trustedRemovalCount.incrementAndGet();
+	}
+
+	private static void deleteFiles(File dir) {
+		// The directory has not been created if nothing has been stored in it
+		File[] files = dir.listFiles();
+		if (files != null)
+			for (File f : files)
+				f.delete();
 	}
 	
 	/**
 	 * Initialize the certificate lists by reading the certificates from the
-	 * directories.
+	 * directories. Certificates that have already been read are not read
+	 * again. The certificates that are new to a list are reported to the
+	 * listeners.
 	 *
 	 * Synchronized because we should not allow refresh and validateCertificate
 	 * calls to init at the same time.
 	 */
 	private synchronized void init() {
-		initCertificates(trustedCertificates, trustedDir, rejectedCertificates);
+		initCertificates(trustedCertificates, trustedDir, rejectedCertificates, true);
 		for (Cert c : trustedCertificates.values())
 			trustedPublicKeys.add(c.getCertificate().getPublicKey());
-		initCertificates(rejectedCertificates, rejectedDir, trustedCertificates);
+		initCertificates(rejectedCertificates, rejectedDir, trustedCertificates, false);
 	}
 	
-	private void initCertificates(Map<String, Cert> certificates, File dir, Map<String, Cert> removeFromCertificateList) {
+	private void initCertificates(Map<String, Cert> certificates, File dir, Map<String, Cert> removeFromCertificateList, boolean trusted) {
 		if (!dir.exists())
 			dir.mkdirs();
 		if (dir.isDirectory())
 			for (File file : dir.listFiles())
 				if (dir.equals(revocationDir) && file.getName().endsWith(".crl"))
 					initCRL(file);
-				else
-					try {
-						final Cert certificate = Cert.load(file);
-						listAdd(certificates, dir, certificate);
-						logger.debug("Certificate from '{}' added to accepted certificates", file);
-						if (removeFromCertificateList != null)
-							removeFromCertificateList.remove(getCertKey(certificate));
-					} catch (IOException e) {
-						logger.info("File '{}' is not a certificate: {}", file, e.getMessage());
-					} catch (CertificateException e) {
-						logger.info("File '{}' is not a valid certificate: {}", file, e.getMessage());
+				else {
+					// Files are saved with the key of the certificate as their name
+					String name = file.getName();
+					Cert certificate = name.endsWith(FILE_EXTENSION)
+							? certificates.get(name.substring(0, name.length() - FILE_EXTENSION.length())) : null;
+					boolean added = false;
+					if (certificate == null)
+						try {
+							certificate = Cert.load(file);
+							added = !certificates.containsKey(getCertKey(certificate));
+							listAdd(certificates, dir, certificate);
+							logger.debug("Certificate from '{}' added to accepted certificates", file);
+						} catch (IOException e) {
+							logger.info("File '{}' is not a certificate: {}", file, e.getMessage());
+							continue;
+						} catch (CertificateException e) {
+							logger.info("File '{}' is not a valid certificate: {}", file, e.getMessage());
+							continue;
+						}
+					if (removeFromCertificateList != null
+							&& removeFromCertificateList.remove(getCertKey(certificate)) != null)
+						added = true;
+					if (added) {
+						if (trusted)
+							fireAddedTrusted(certificate);
+						else
+							fireAddedRejected(certificate);
 					}
+				}
 	}
 	
 	private void initCRL(File file) {
@@ -420,7 +460,7 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 		}
 	}
 	
-	private void removeCertificate(Map<String, Cert> certificates, File dir, Cert certificate) {
+	private boolean removeCertificate(Map<String, Cert> certificates, File dir, Cert certificate) {
 		logger.debug("removeCertificate: cert={} dir={}", getCertKey(certificate), dir);
 		logger.debug("certificates.size()={}", certificates.size());
 
@@ -431,6 +471,7 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 			logger.debug("c=" + (c == null ? "null" : c.getEncodedThumbprint()));
 			logger.debug("certificates.size()={}", certificates.size());
 		}
+		return c != null;
 	}
 
 }
@@ -0,0 +1,82 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link AddNodesItem}.
+ *
+ * @see EncodeableSerializer
+ */
+public class AddNodesItemSerializer extends AbstractSerializer {
+
+    public AddNodesItemSerializer() {
+    	super(AddNodesItem.class, AddNodesItem.BINARY, AddNodesItem.XML, AddNodesItem.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	AddNodesItem obj = (AddNodesItem) encodeable;
+    	calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getParentNodeId() );
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getReferenceTypeId() );
+    	calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getRequestedNewNodeId() );
+    	calculator.putQualifiedName(null,  (obj==null)?null:obj.getBrowseName() );
+    	calculator.putEnumeration(null, null /*obj.getNodeClass()*/);
+    	calculator.putExtensionObject(null,  (obj==null)?null:obj.getNodeAttributes() );
+    	calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getTypeDefinition() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	AddNodesItem obj = (AddNodesItem) encodeable;
+    	encoder.putExpandedNodeId("ParentNodeId",  (obj==null)?null:obj.getParentNodeId() );
+    	encoder.putNodeId("ReferenceTypeId",  (obj==null)?null:obj.getReferenceTypeId() );
+    	encoder.putExpandedNodeId("RequestedNewNodeId",  (obj==null)?null:obj.getRequestedNewNodeId() );
+    	encoder.putQualifiedName("BrowseName",  (obj==null)?null:obj.getBrowseName() );
+    	encoder.putEnumeration("NodeClass",  (obj==null)?null:obj.getNodeClass() );
+    	encoder.putExtensionObject("NodeAttributes",  (obj==null)?null:obj.getNodeAttributes() );
+    	encoder.putExpandedNodeId("TypeDefinition",  (obj==null)?null:obj.getTypeDefinition() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	AddNodesItem result = new AddNodesItem();
+    	result.setParentNodeId( decoder.getExpandedNodeId("ParentNodeId") );
+    	result.setReferenceTypeId( decoder.getNodeId("ReferenceTypeId") );
+    	result.setRequestedNewNodeId( decoder.getExpandedNodeId("RequestedNewNodeId") );
+    	result.setBrowseName( decoder.getQualifiedName("BrowseName") );
+    	result.setNodeClass( decoder.getEnumeration("NodeClass", NodeClass.class) );
+    	result.setNodeAttributes( decoder.getExtensionObject("NodeAttributes") );
+    	result.setTypeDefinition( decoder.getExpandedNodeId("TypeDefinition") );
+    	return result;
+    }
+
+}
@@ -0,0 +1,82 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link ApplicationDescription}.
+ *
+ * @see EncodeableSerializer
+ */
+public class ApplicationDescriptionSerializer extends AbstractSerializer {
+
+    public ApplicationDescriptionSerializer() {
+    	super(ApplicationDescription.class, ApplicationDescription.BINARY, ApplicationDescription.XML, ApplicationDescription.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	ApplicationDescription obj = (ApplicationDescription) encodeable;
+    	calculator.putString(null,  (obj==null)?null:obj.getApplicationUri() );
+    	calculator.putString(null,  (obj==null)?null:obj.getProductUri() );
+    	calculator.putLocalizedText(null,  (obj==null)?null:obj.getApplicationName() );
+    	calculator.putEnumeration(null, null /*obj.getApplicationType()*/);
+    	calculator.putString(null,  (obj==null)?null:obj.getGatewayServerUri() );
+    	calculator.putString(null,  (obj==null)?null:obj.getDiscoveryProfileUri() );
+    	calculator.putStringArray(null, ((obj==null)?null:obj.getDiscoveryUrls()) );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	ApplicationDescription obj = (ApplicationDescription) encodeable;
+    	encoder.putString("ApplicationUri",  (obj==null)?null:obj.getApplicationUri() );
+    	encoder.putString("ProductUri",  (obj==null)?null:obj.getProductUri() );
+    	encoder.putLocalizedText("ApplicationName",  (obj==null)?null:obj.getApplicationName() );
+    	encoder.putEnumeration("ApplicationType",  (obj==null)?null:obj.getApplicationType() );
+    	encoder.putString("GatewayServerUri",  (obj==null)?null:obj.getGatewayServerUri() );
+    	encoder.putString("DiscoveryProfileUri",  (obj==null)?null:obj.getDiscoveryProfileUri() );
+    	encoder.putStringArray("DiscoveryUrls", (obj==null)?null:obj.getDiscoveryUrls() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	ApplicationDescription result = new ApplicationDescription();
+    	result.setApplicationUri( decoder.getString("ApplicationUri") );
+    	result.setProductUri( decoder.getString("ProductUri") );
+    	result.setApplicationName( decoder.getLocalizedText("ApplicationName") );
+    	result.setApplicationType( decoder.getEnumeration("ApplicationType", ApplicationType.class) );
+    	result.setGatewayServerUri( decoder.getString("GatewayServerUri") );
+    	result.setDiscoveryProfileUri( decoder.getString("DiscoveryProfileUri") );
+    	result.setDiscoveryUrls( decoder.getStringArray("DiscoveryUrls") );
+    	return result;
+    }
+
+}
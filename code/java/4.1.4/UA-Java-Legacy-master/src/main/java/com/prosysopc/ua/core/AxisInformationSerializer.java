@@ -0,0 +1,76 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link AxisInformation}.
+ *
+ * @see EncodeableSerializer
+ */
+public class AxisInformationSerializer extends AbstractSerializer {
+
+    public AxisInformationSerializer() {
+    	super(AxisInformation.class, AxisInformation.BINARY, AxisInformation.XML, AxisInformation.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	AxisInformation obj = (AxisInformation) encodeable;
+    	calculator.putEncodeable(null, EUInformation.class, (obj==null)?null:obj.getEngineeringUnits());
+    	calculator.putEncodeable(null, Range.class, (obj==null)?null:obj.getEURange());
+    	calculator.putLocalizedText(null,  (obj==null)?null:obj.getTitle() );
+    	calculator.putEnumeration(null, null /*obj.getAxisScaleType()*/);
+    	calculator.putDoubleArray(null, ((obj==null)?null:obj.getAxisSteps()) );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	AxisInformation obj = (AxisInformation) encodeable;
+    	encoder.putEncodeable("EngineeringUnits", EUInformation.class, (obj==null)?null:obj.getEngineeringUnits());
+    	encoder.putEncodeable("EURange", Range.class, (obj==null)?null:obj.getEURange());
+    	encoder.putLocalizedText("Title",  (obj==null)?null:obj.getTitle() );
+    	encoder.putEnumeration("AxisScaleType",  (obj==null)?null:obj.getAxisScaleType() );
+    	encoder.putDoubleArray("AxisSteps", (obj==null)?null:obj.getAxisSteps() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	AxisInformation result = new AxisInformation();
+    	result.setEngineeringUnits( decoder.getEncodeable("EngineeringUnits", EUInformation.class) );
+    	result.setEURange( decoder.getEncodeable("EURange", Range.class) );
+    	result.setTitle( decoder.getLocalizedText("Title") );
+    	result.setAxisScaleType( decoder.getEnumeration("AxisScaleType", AxisScaleEnumeration.class) );
+    	result.setAxisSteps( decoder.getDoubleArray("AxisSteps") );
+    	return result;
+    }
+
+}
@@ -0,0 +1,73 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link BrokerWriterGroupTransportDataType}.
+ *
+ * @see EncodeableSerializer
+ */
+public class BrokerWriterGroupTransportDataTypeSerializer extends AbstractSerializer {
+
+    public BrokerWriterGroupTransportDataTypeSerializer() {
+    	super(BrokerWriterGroupTransportDataType.class, BrokerWriterGroupTransportDataType.BINARY, BrokerWriterGroupTransportDataType.XML, BrokerWriterGroupTransportDataType.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	BrokerWriterGroupTransportDataType obj = (BrokerWriterGroupTransportDataType) encodeable;
+    	calculator.putString(null,  (obj==null)?null:obj.getQueueName() );
+    	calculator.putString(null,  (obj==null)?null:obj.getResourceUri() );
+    	calculator.putString(null,  (obj==null)?null:obj.getAuthenticationProfileUri() );
+    	calculator.putEnumeration(null, null /*obj.getRequestedDeliveryGuarantee()*/);
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	BrokerWriterGroupTransportDataType obj = (BrokerWriterGroupTransportDataType) encodeable;
+    	encoder.putString("QueueName",  (obj==null)?null:obj.getQueueName() );
+    	encoder.putString("ResourceUri",  (obj==null)?null:obj.getResourceUri() );
+    	encoder.putString("AuthenticationProfileUri",  (obj==null)?null:obj.getAuthenticationProfileUri() );
+    	encoder.putEnumeration("RequestedDeliveryGuarantee",  (obj==null)?null:obj.getRequestedDeliveryGuarantee() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	BrokerWriterGroupTransportDataType result = new BrokerWriterGroupTransportDataType();
+    	result.setQueueName( decoder.getString("QueueName") );
+    	result.setResourceUri( decoder.getString("ResourceUri") );
+    	result.setAuthenticationProfileUri( decoder.getString("AuthenticationProfileUri") );
+    	result.setRequestedDeliveryGuarantee( decoder.getEnumeration("RequestedDeliveryGuarantee", BrokerTransportQualityOfService.class) );
+    	return result;
+    }
+
+}
@@ -0,0 +1,79 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link BrowseDescription}.
+ *
+ * @see EncodeableSerializer
+ */
+public class BrowseDescriptionSerializer extends AbstractSerializer {
+
+    public BrowseDescriptionSerializer() {
+    	super(BrowseDescription.class, BrowseDescription.BINARY, BrowseDescription.XML, BrowseDescription.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	BrowseDescription obj = (BrowseDescription) encodeable;
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
+    	calculator.putEnumeration(null, null /*obj.getBrowseDirection()*/);
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getReferenceTypeId() );
+    	calculator.putBoolean(null, null /*obj.getIncludeSubtypes()*/);
+    	calculator.putUInt32(null, null /*obj.getNodeClassMask()*/);
+    	calculator.putUInt32(null, null /*obj.getResultMask()*/);
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	BrowseDescription obj = (BrowseDescription) encodeable;
+    	encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
+    	encoder.putEnumeration("BrowseDirection",  (obj==null)?null:obj.getBrowseDirection() );
+    	encoder.putNodeId("ReferenceTypeId",  (obj==null)?null:obj.getReferenceTypeId() );
+    	encoder.putBoolean("IncludeSubtypes",  (obj==null)?null:obj.getIncludeSubtypes() );
+    	encoder.putUInt32("NodeClassMask",  (obj==null)?null:obj.getNodeClassMask() );
+    	encoder.putUInt32("ResultMask",  (obj==null)?null:obj.getResultMask() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	BrowseDescription result = new BrowseDescription();
+    	result.setNodeId( decoder.getNodeId("NodeId") );
+    	result.setBrowseDirection( decoder.getEnumeration("BrowseDirection", BrowseDirection.class) );
+    	result.setReferenceTypeId( decoder.getNodeId("ReferenceTypeId") );
+    	result.setIncludeSubtypes( decoder.getBoolean("IncludeSubtypes") );
+    	result.setNodeClassMask( decoder.getUInt32("NodeClassMask") );
+    	result.setResultMask( decoder.getUInt32("ResultMask") );
+    	return result;
+    }
+
+}
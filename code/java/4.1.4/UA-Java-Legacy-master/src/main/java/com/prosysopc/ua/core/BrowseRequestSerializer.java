@@ -0,0 +1,73 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link BrowseRequest}.
+ *
+ * @see EncodeableSerializer
+ */
+public class BrowseRequestSerializer extends AbstractSerializer {
+
+    public BrowseRequestSerializer() {
+    	super(BrowseRequest.class, BrowseRequest.BINARY, BrowseRequest.XML, BrowseRequest.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	BrowseRequest obj = (BrowseRequest) encodeable;
+    	calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
+    	calculator.putEncodeable(null, ViewDescription.class, (obj==null)?null:obj.getView());
+    	calculator.putUInt32(null, null /*obj.getRequestedMaxReferencesPerNode()*/);
+    	calculator.putEncodeableArray(null, BrowseDescription.class, (obj==null)?null:obj.getNodesToBrowse());
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	BrowseRequest obj = (BrowseRequest) encodeable;
+    	encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
+    	encoder.putEncodeable("View", ViewDescription.class, (obj==null)?null:obj.getView());
+    	encoder.putUInt32("RequestedMaxReferencesPerNode",  (obj==null)?null:obj.getRequestedMaxReferencesPerNode() );
+    	encoder.putEncodeableArray("NodesToBrowse", BrowseDescription.class, (obj==null)?null:obj.getNodesToBrowse());
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	BrowseRequest result = new BrowseRequest();
+    	result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
+    	result.setView( decoder.getEncodeable("View", ViewDescription.class) );
+    	result.setRequestedMaxReferencesPerNode( decoder.getUInt32("RequestedMaxReferencesPerNode") );
+    	result.setNodesToBrowse( decoder.getEncodeableArray("NodesToBrowse", BrowseDescription.class) );
+    	return result;
+    }
+
+}
@@ -0,0 +1,79 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link BuildInfo}.
+ *
+ * @see EncodeableSerializer
+ */
+public class BuildInfoSerializer extends AbstractSerializer {
+
+    public BuildInfoSerializer() {
+    	super(BuildInfo.class, BuildInfo.BINARY, BuildInfo.XML, BuildInfo.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	BuildInfo obj = (BuildInfo) encodeable;
+    	calculator.putString(null,  (obj==null)?null:obj.getProductUri() );
+    	calculator.putString(null,  (obj==null)?null:obj.getManufacturerName() );
+    	calculator.putString(null,  (obj==null)?null:obj.getProductName() );
+    	calculator.putString(null,  (obj==null)?null:obj.getSoftwareVersion() );
+    	calculator.putString(null,  (obj==null)?null:obj.getBuildNumber() );
+    	calculator.putDateTime(null,  (obj==null)?null:obj.getBuildDate() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	BuildInfo obj = (BuildInfo) encodeable;
+    	encoder.putString("ProductUri",  (obj==null)?null:obj.getProductUri() );
+    	encoder.putString("ManufacturerName",  (obj==null)?null:obj.getManufacturerName() );
+    	encoder.putString("ProductName",  (obj==null)?null:obj.getProductName() );
+    	encoder.putString("SoftwareVersion",  (obj==null)?null:obj.getSoftwareVersion() );
+    	encoder.putString("BuildNumber",  (obj==null)?null:obj.getBuildNumber() );
+    	encoder.putDateTime("BuildDate",  (obj==null)?null:obj.getBuildDate() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	BuildInfo result = new BuildInfo();
+    	result.setProductUri( decoder.getString("ProductUri") );
+    	result.setManufacturerName( decoder.getString("ManufacturerName") );
+    	result.setProductName( decoder.getString("ProductName") );
+    	result.setSoftwareVersion( decoder.getString("SoftwareVersion") );
+    	result.setBuildNumber( decoder.getString("BuildNumber") );
+    	result.setBuildDate( decoder.getDateTime("BuildDate") );
+    	return result;
+    }
+
+}
@@ -0,0 +1,70 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link ContentFilterElementResult}.
+ *
+ * @see EncodeableSerializer
+ */
+public class ContentFilterElementResultSerializer extends AbstractSerializer {
+
+    public ContentFilterElementResultSerializer() {
+    	super(ContentFilterElementResult.class, ContentFilterElementResult.BINARY, ContentFilterElementResult.XML, ContentFilterElementResult.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	ContentFilterElementResult obj = (ContentFilterElementResult) encodeable;
+    	calculator.putStatusCode(null,  (obj==null)?null:obj.getStatusCode() );
+    	calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getOperandStatusCodes()) );
+    	calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getOperandDiagnosticInfos()) );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	ContentFilterElementResult obj = (ContentFilterElementResult) encodeable;
+    	encoder.putStatusCode("StatusCode",  (obj==null)?null:obj.getStatusCode() );
+    	encoder.putStatusCodeArray("OperandStatusCodes", (obj==null)?null:obj.getOperandStatusCodes() );
+    	encoder.putDiagnosticInfoArray("OperandDiagnosticInfos", (obj==null)?null:obj.getOperandDiagnosticInfos() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	ContentFilterElementResult result = new ContentFilterElementResult();
+    	result.setStatusCode( decoder.getStatusCode("StatusCode") );
+    	result.setOperandStatusCodes( decoder.getStatusCodeArray("OperandStatusCodes") );
+    	result.setOperandDiagnosticInfos( decoder.getDiagnosticInfoArray("OperandDiagnosticInfos") );
+    	return result;
+    }
+
+}
@@ -0,0 +1,88 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link CreateSessionRequest}.
+ *
+ * @see EncodeableSerializer
+ */
+public class CreateSessionRequestSerializer extends AbstractSerializer {
+
+    public CreateSessionRequestSerializer() {
+    	super(CreateSessionRequest.class, CreateSessionRequest.BINARY, CreateSessionRequest.XML, CreateSessionRequest.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	CreateSessionRequest obj = (CreateSessionRequest) encodeable;
+    	calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
+    	calculator.putEncodeable(null, ApplicationDescription.class, (obj==null)?null:obj.getClientDescription());
+    	calculator.putString(null,  (obj==null)?null:obj.getServerUri() );
+    	calculator.putString(null,  (obj==null)?null:obj.getEndpointUrl() );
+    	calculator.putString(null,  (obj==null)?null:obj.getSessionName() );
+    	calculator.putByteString(null,  (obj==null)?null:obj.getClientNonce() );
+    	calculator.putByteString(null,  (obj==null)?null:obj.getClientCertificate() );
+    	calculator.putDouble(null, null /*obj.getRequestedSessionTimeout()*/);
+    	calculator.putUInt32(null, null /*obj.getMaxResponseMessageSize()*/);
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	CreateSessionRequest obj = (CreateSessionRequest) encodeable;
+    	encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
+    	encoder.putEncodeable("ClientDescription", ApplicationDescription.class, (obj==null)?null:obj.getClientDescription());
+    	encoder.putString("ServerUri",  (obj==null)?null:obj.getServerUri() );
+    	encoder.putString("EndpointUrl",  (obj==null)?null:obj.getEndpointUrl() );
+    	encoder.putString("SessionName",  (obj==null)?null:obj.getSessionName() );
+    	encoder.putByteString("ClientNonce",  (obj==null)?null:obj.getClientNonce() );
+    	encoder.putByteString("ClientCertificate",  (obj==null)?null:obj.getClientCertificate() );
+    	encoder.putDouble("RequestedSessionTimeout",  (obj==null)?null:obj.getRequestedSessionTimeout() );
+    	encoder.putUInt32("MaxResponseMessageSize",  (obj==null)?null:obj.getMaxResponseMessageSize() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	CreateSessionRequest result = new CreateSessionRequest();
+    	result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
+    	result.setClientDescription( decoder.getEncodeable("ClientDescription", ApplicationDescription.class) );
+    	result.setServerUri( decoder.getString("ServerUri") );
+    	result.setEndpointUrl( decoder.getString("EndpointUrl") );
+    	result.setSessionName( decoder.getString("SessionName") );
+    	result.setClientNonce( decoder.getByteString("ClientNonce") );
+    	result.setClientCertificate( decoder.getByteString("ClientCertificate") );
+    	result.setRequestedSessionTimeout( decoder.getDouble("RequestedSessionTimeout") );
+    	result.setMaxResponseMessageSize( decoder.getUInt32("MaxResponseMessageSize") );
+    	return result;
+    }
+
+}
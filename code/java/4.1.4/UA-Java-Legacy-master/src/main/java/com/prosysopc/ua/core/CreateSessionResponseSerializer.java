@@ -0,0 +1,91 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link CreateSessionResponse}.
+ *
+ * @see EncodeableSerializer
+ */
+public class CreateSessionResponseSerializer extends AbstractSerializer {
+
+    public CreateSessionResponseSerializer() {
+    	super(CreateSessionResponse.class, CreateSessionResponse.BINARY, CreateSessionResponse.XML, CreateSessionResponse.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	CreateSessionResponse obj = (CreateSessionResponse) encodeable;
+    	calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getSessionId() );
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getAuthenticationToken() );
+    	calculator.putDouble(null, null /*obj.getRevisedSessionTimeout()*/);
+    	calculator.putByteString(null,  (obj==null)?null:obj.getServerNonce() );
+    	calculator.putByteString(null,  (obj==null)?null:obj.getServerCertificate() );
+    	calculator.putEncodeableArray(null, EndpointDescription.class, (obj==null)?null:obj.getServerEndpoints());
+    	calculator.putEncodeableArray(null, SignedSoftwareCertificate.class, (obj==null)?null:obj.getServerSoftwareCertificates());
+    	calculator.putEncodeable(null, SignatureData.class, (obj==null)?null:obj.getServerSignature());
+    	calculator.putUInt32(null, null /*obj.getMaxRequestMessageSize()*/);
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	CreateSessionResponse obj = (CreateSessionResponse) encodeable;
+    	encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
+    	encoder.putNodeId("SessionId",  (obj==null)?null:obj.getSessionId() );
+    	encoder.putNodeId("AuthenticationToken",  (obj==null)?null:obj.getAuthenticationToken() );
+    	encoder.putDouble("RevisedSessionTimeout",  (obj==null)?null:obj.getRevisedSessionTimeout() );
+    	encoder.putByteString("ServerNonce",  (obj==null)?null:obj.getServerNonce() );
+    	encoder.putByteString("ServerCertificate",  (obj==null)?null:obj.getServerCertificate() );
+    	encoder.putEncodeableArray("ServerEndpoints", EndpointDescription.class, (obj==null)?null:obj.getServerEndpoints());
+    	encoder.putEncodeableArray("ServerSoftwareCertificates", SignedSoftwareCertificate.class, (obj==null)?null:obj.getServerSoftwareCertificates());
+    	encoder.putEncodeable("ServerSignature", SignatureData.class, (obj==null)?null:obj.getServerSignature());
+    	encoder.putUInt32("MaxRequestMessageSize",  (obj==null)?null:obj.getMaxRequestMessageSize() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	CreateSessionResponse result = new CreateSessionResponse();
+    	result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
+    	result.setSessionId( decoder.getNodeId("SessionId") );
+    	result.setAuthenticationToken( decoder.getNodeId("AuthenticationToken") );
+    	result.setRevisedSessionTimeout( decoder.getDouble("RevisedSessionTimeout") );
+    	result.setServerNonce( decoder.getByteString("ServerNonce") );
+    	result.setServerCertificate( decoder.getByteString("ServerCertificate") );
+    	result.setServerEndpoints( decoder.getEncodeableArray("ServerEndpoints", EndpointDescription.class) );
+    	result.setServerSoftwareCertificates( decoder.getEncodeableArray("ServerSoftwareCertificates", SignedSoftwareCertificate.class) );
+    	result.setServerSignature( decoder.getEncodeable("ServerSignature", SignatureData.class) );
+    	result.setMaxRequestMessageSize( decoder.getUInt32("MaxRequestMessageSize") );
+    	return result;
+    }
+
+}
@@ -0,0 +1,112 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link DataSetReaderDataType}.
+ *
+ * @see EncodeableSerializer
+ */
+public class DataSetReaderDataTypeSerializer extends AbstractSerializer {
+
+    public DataSetReaderDataTypeSerializer() {
+    	super(DataSetReaderDataType.class, DataSetReaderDataType.BINARY, DataSetReaderDataType.XML, DataSetReaderDataType.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	DataSetReaderDataType obj = (DataSetReaderDataType) encodeable;
+    	calculator.putString(null,  (obj==null)?null:obj.getName() );
+    	calculator.putBoolean(null, null /*obj.getEnabled()*/);
+    	calculator.putVariant(null,  (obj==null)?null:obj.getPublisherId() );
+    	calculator.putUInt16(null, null /*obj.getWriterGroupId()*/);
+    	calculator.putUInt16(null, null /*obj.getDataSetWriterId()*/);
+    	calculator.putEncodeable(null, DataSetMetaDataType.class, (obj==null)?null:obj.getDataSetMetaData());
+    	calculator.putUInt32(null, null /*obj.getDataSetFieldContentMask()*/);
+    	calculator.putDouble(null, null /*obj.getMessageReceiveTimeout()*/);
+    	calculator.putUInt32(null, null /*obj.getKeyFrameCount()*/);
+    	calculator.putString(null,  (obj==null)?null:obj.getHeaderLayoutUri() );
+    	calculator.putEnumeration(null, null /*obj.getSecurityMode()*/);
+    	calculator.putString(null,  (obj==null)?null:obj.getSecurityGroupId() );
+    	calculator.putEncodeableArray(null, EndpointDescription.class, (obj==null)?null:obj.getSecurityKeyServices());
+    	calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getDataSetReaderProperties());
+    	calculator.putExtensionObject(null,  (obj==null)?null:obj.getTransportSettings() );
+    	calculator.putExtensionObject(null,  (obj==null)?null:obj.getMessageSettings() );
+    	calculator.putExtensionObject(null,  (obj==null)?null:obj.getSubscribedDataSet() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	DataSetReaderDataType obj = (DataSetReaderDataType) encodeable;
+    	encoder.putString("Name",  (obj==null)?null:obj.getName() );
+    	encoder.putBoolean("Enabled",  (obj==null)?null:obj.getEnabled() );
+    	encoder.putVariant("PublisherId",  (obj==null)?null:obj.getPublisherId() );
+    	encoder.putUInt16("WriterGroupId",  (obj==null)?null:obj.getWriterGroupId() );
+    	encoder.putUInt16("DataSetWriterId",  (obj==null)?null:obj.getDataSetWriterId() );
+    	encoder.putEncodeable("DataSetMetaData", DataSetMetaDataType.class, (obj==null)?null:obj.getDataSetMetaData());
+    	encoder.putUInt32("DataSetFieldContentMask",  (obj==null)?null:obj.getDataSetFieldContentMask() );
+    	encoder.putDouble("MessageReceiveTimeout",  (obj==null)?null:obj.getMessageReceiveTimeout() );
+    	encoder.putUInt32("KeyFrameCount",  (obj==null)?null:obj.getKeyFrameCount() );
+    	encoder.putString("HeaderLayoutUri",  (obj==null)?null:obj.getHeaderLayoutUri() );
+    	encoder.putEnumeration("SecurityMode",  (obj==null)?null:obj.getSecurityMode() );
+    	encoder.putString("SecurityGroupId",  (obj==null)?null:obj.getSecurityGroupId() );
+    	encoder.putEncodeableArray("SecurityKeyServices", EndpointDescription.class, (obj==null)?null:obj.getSecurityKeyServices());
+    	encoder.putEncodeableArray("DataSetReaderProperties", KeyValuePair.class, (obj==null)?null:obj.getDataSetReaderProperties());
+    	encoder.putExtensionObject("TransportSettings",  (obj==null)?null:obj.getTransportSettings() );
+    	encoder.putExtensionObject("MessageSettings",  (obj==null)?null:obj.getMessageSettings() );
+    	encoder.putExtensionObject("SubscribedDataSet",  (obj==null)?null:obj.getSubscribedDataSet() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	DataSetReaderDataType result = new DataSetReaderDataType();
+    	result.setName( decoder.getString("Name") );
+    	result.setEnabled( decoder.getBoolean("Enabled") );
+    	result.setPublisherId( decoder.getVariant("PublisherId") );
+    	result.setWriterGroupId( decoder.getUInt16("WriterGroupId") );
+    	result.setDataSetWriterId( decoder.getUInt16("DataSetWriterId") );
+    	result.setDataSetMetaData( decoder.getEncodeable("DataSetMetaData", DataSetMetaDataType.class) );
+    	result.setDataSetFieldContentMask( decoder.getUInt32("DataSetFieldContentMask") );
+    	result.setMessageReceiveTimeout( decoder.getDouble("MessageReceiveTimeout") );
+    	result.setKeyFrameCount( decoder.getUInt32("KeyFrameCount") );
+    	result.setHeaderLayoutUri( decoder.getString("HeaderLayoutUri") );
+    	result.setSecurityMode( decoder.getEnumeration("SecurityMode", MessageSecurityMode.class) );
+    	result.setSecurityGroupId( decoder.getString("SecurityGroupId") );
+    	result.setSecurityKeyServices( decoder.getEncodeableArray("SecurityKeyServices", EndpointDescription.class) );
+    	result.setDataSetReaderProperties( decoder.getEncodeableArray("DataSetReaderProperties", KeyValuePair.class) );
+    	result.setTransportSettings( decoder.getExtensionObject("TransportSettings") );
+    	result.setMessageSettings( decoder.getExtensionObject("MessageSettings") );
+    	result.setSubscribedDataSet( decoder.getExtensionObject("SubscribedDataSet") );
+    	return result;
+    }
+
+}
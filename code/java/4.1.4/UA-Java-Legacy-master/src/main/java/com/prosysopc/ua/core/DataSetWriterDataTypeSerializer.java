@@ -0,0 +1,88 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link DataSetWriterDataType}.
+ *
+ * @see EncodeableSerializer
+ */
+public class DataSetWriterDataTypeSerializer extends AbstractSerializer {
+
+    public DataSetWriterDataTypeSerializer() {
+    	super(DataSetWriterDataType.class, DataSetWriterDataType.BINARY, DataSetWriterDataType.XML, DataSetWriterDataType.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	DataSetWriterDataType obj = (DataSetWriterDataType) encodeable;
+    	calculator.putString(null,  (obj==null)?null:obj.getName() );
+    	calculator.putBoolean(null, null /*obj.getEnabled()*/);
+    	calculator.putUInt16(null, null /*obj.getDataSetWriterId()*/);
+    	calculator.putUInt32(null, null /*obj.getDataSetFieldContentMask()*/);
+    	calculator.putUInt32(null, null /*obj.getKeyFrameCount()*/);
+    	calculator.putString(null,  (obj==null)?null:obj.getDataSetName() );
+    	calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getDataSetWriterProperties());
+    	calculator.putExtensionObject(null,  (obj==null)?null:obj.getTransportSettings() );
+    	calculator.putExtensionObject(null,  (obj==null)?null:obj.getMessageSettings() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	DataSetWriterDataType obj = (DataSetWriterDataType) encodeable;
+    	encoder.putString("Name",  (obj==null)?null:obj.getName() );
+    	encoder.putBoolean("Enabled",  (obj==null)?null:obj.getEnabled() );
+    	encoder.putUInt16("DataSetWriterId",  (obj==null)?null:obj.getDataSetWriterId() );
+    	encoder.putUInt32("DataSetFieldContentMask",  (obj==null)?null:obj.getDataSetFieldContentMask() );
+    	encoder.putUInt32("KeyFrameCount",  (obj==null)?null:obj.getKeyFrameCount() );
+    	encoder.putString("DataSetName",  (obj==null)?null:obj.getDataSetName() );
+    	encoder.putEncodeableArray("DataSetWriterProperties", KeyValuePair.class, (obj==null)?null:obj.getDataSetWriterProperties());
+    	encoder.putExtensionObject("TransportSettings",  (obj==null)?null:obj.getTransportSettings() );
+    	encoder.putExtensionObject("MessageSettings",  (obj==null)?null:obj.getMessageSettings() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	DataSetWriterDataType result = new DataSetWriterDataType();
+    	result.setName( decoder.getString("Name") );
+    	result.setEnabled( decoder.getBoolean("Enabled") );
+    	result.setDataSetWriterId( decoder.getUInt16("DataSetWriterId") );
+    	result.setDataSetFieldContentMask( decoder.getUInt32("DataSetFieldContentMask") );
+    	result.setKeyFrameCount( decoder.getUInt32("KeyFrameCount") );
+    	result.setDataSetName( decoder.getString("DataSetName") );
+    	result.setDataSetWriterProperties( decoder.getEncodeableArray("DataSetWriterProperties", KeyValuePair.class) );
+    	result.setTransportSettings( decoder.getExtensionObject("TransportSettings") );
+    	result.setMessageSettings( decoder.getExtensionObject("MessageSettings") );
+    	return result;
+    }
+
+}
@@ -85,7 +85,7 @@ public class DeleteAtTimeDetails extends HistoryUpdateDetails {
         DeleteAtTimeDetails other = (DeleteAtTimeDetails) obj;
         if (NodeId==null) {
             if (other.NodeId != null) return false;
-        } else if (!com.prosysopc.ua.builtintypes.NodeId.equals(other.NodeId)) return false;
+        } else if (!NodeId.equals(other.NodeId)) return false;
         if (ReqTimes==null) {
             if (other.ReqTimes != null) return false;
         } else if (!Arrays.equals(ReqTimes, other.ReqTimes)) return false;
@@ -98,7 +98,7 @@ public class DeleteAtTimeDetails extends HistoryUpdateDetails {
         final int prime = 31;
         int result = 1;
         result = prime * result
-                + ((NodeId == null) ? 0 : com.prosysopc.ua.builtintypes.NodeId.hashCode());
+                + ((NodeId == null) ? 0 : NodeId.hashCode());
         result = prime * result
                 + ((ReqTimes == null) ? 0 : Arrays.hashCode(ReqTimes));
         return result;
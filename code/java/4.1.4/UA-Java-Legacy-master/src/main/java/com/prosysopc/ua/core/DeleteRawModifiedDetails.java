@@ -109,7 +109,7 @@ public class DeleteRawModifiedDetails extends HistoryUpdateDetails {
         DeleteRawModifiedDetails other = (DeleteRawModifiedDetails) obj;
         if (NodeId==null) {
             if (other.NodeId != null) return false;
-        } else if (!com.prosysopc.ua.builtintypes.NodeId.equals(other.NodeId)) return false;
+        } else if (!NodeId.equals(other.NodeId)) return false;
         if (IsDeleteModified==null) {
             if (other.IsDeleteModified != null) return false;
         } else if (!IsDeleteModified.equals(other.IsDeleteModified)) return false;
@@ -128,7 +128,7 @@ public class DeleteRawModifiedDetails extends HistoryUpdateDetails {
         final int prime = 31;
         int result = 1;
         result = prime * result
-                + ((NodeId == null) ? 0 : com.prosysopc.ua.builtintypes.NodeId.hashCode());
+                + ((NodeId == null) ? 0 : NodeId.hashCode());
         result = prime * result
                 + ((IsDeleteModified == null) ? 0 : IsDeleteModified.hashCode());
         result = prime * result
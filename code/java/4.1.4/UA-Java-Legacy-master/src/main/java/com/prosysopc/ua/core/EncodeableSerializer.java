@@ -29,20 +29,18 @@
 
 package com.prosysopc.ua.core;
 
-import com.prosysopc.ua.encoding.DecodingException;
-import com.prosysopc.ua.encoding.EncodingException;
-import com.prosysopc.ua.encoding.IDecoder;
-import com.prosysopc.ua.encoding.IEncodeable;
-import com.prosysopc.ua.encoding.IEncoder;
-import com.prosysopc.ua.encoding.binary.DecoderUtils;
+import com.prosysopc.ua.builtintypes.ExpandedNodeId;
 import com.prosysopc.ua.encoding.binary.EncodeableReflectionSerializer;
 import com.prosysopc.ua.encoding.binary.IEncodeableSerializer;
-import com.prosysopc.ua.encoding.utils.AbstractSerializer;
 import com.prosysopc.ua.encoding.utils.SerializerComposition;
 
 
 /**
  * Code-generated encodeable serializer.
+ * <p>
+ * Each Structure type has a code-generated serializer class. The types are
+ * registered by class name and NodeIds, and the class and the serializer of
+ * a type are loaded on the first encode or decode of the type.
  * 
  * @see EncodeableReflectionSerializer Reflection based implementation
  * @see IEncodeableSerializer Serializer interface
@@ -63,7135 +61,827 @@ public class EncodeableSerializer extends SerializerComposition {
 	public EncodeableSerializer() {
 		
     	// KeyValuePair
-    	addSerializer(
-    		new AbstractSerializer(KeyValuePair.class, KeyValuePair.BINARY, KeyValuePair.XML, KeyValuePair.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				KeyValuePair obj = (KeyValuePair) encodeable;
-    				calculator.putQualifiedName(null,  (obj==null)?null:obj.getKey() );
-    				calculator.putVariant(null,  (obj==null)?null:obj.getValue() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				KeyValuePair obj = (KeyValuePair) encodeable;
-    				encoder.putQualifiedName("Key",  (obj==null)?null:obj.getKey() );
-    				encoder.putVariant("Value",  (obj==null)?null:obj.getValue() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				KeyValuePair result = new KeyValuePair();
-    				result.setKey( decoder.getQualifiedName("Key") );
-    				result.setValue( decoder.getVariant("Value") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.KeyValuePair", new ExpandedNodeId(Identifiers.KeyValuePair_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.KeyValuePair_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.KeyValuePair));
     	// EndpointType
-    	addSerializer(
-    		new AbstractSerializer(EndpointType.class, EndpointType.BINARY, EndpointType.XML, EndpointType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				EndpointType obj = (EndpointType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getEndpointUrl() );
-    				calculator.putEnumeration(null, null /*obj.getSecurityMode()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getSecurityPolicyUri() );
-    				calculator.putString(null,  (obj==null)?null:obj.getTransportProfileUri() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				EndpointType obj = (EndpointType) encodeable;
-    				encoder.putString("EndpointUrl",  (obj==null)?null:obj.getEndpointUrl() );
-    				encoder.putEnumeration("SecurityMode",  (obj==null)?null:obj.getSecurityMode() );
-    				encoder.putString("SecurityPolicyUri",  (obj==null)?null:obj.getSecurityPolicyUri() );
-    				encoder.putString("TransportProfileUri",  (obj==null)?null:obj.getTransportProfileUri() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				EndpointType result = new EndpointType();
-    				result.setEndpointUrl( decoder.getString("EndpointUrl") );
-    				result.setSecurityMode( decoder.getEnumeration("SecurityMode", MessageSecurityMode.class) );
-    				result.setSecurityPolicyUri( decoder.getString("SecurityPolicyUri") );
-    				result.setTransportProfileUri( decoder.getString("TransportProfileUri") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.EndpointType", new ExpandedNodeId(Identifiers.EndpointType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.EndpointType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.EndpointType));
     	// IdentityMappingRuleType
-    	addSerializer(
-    		new AbstractSerializer(IdentityMappingRuleType.class, IdentityMappingRuleType.BINARY, IdentityMappingRuleType.XML, IdentityMappingRuleType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				IdentityMappingRuleType obj = (IdentityMappingRuleType) encodeable;
-    				calculator.putEnumeration(null, null /*obj.getCriteriaType()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getCriteria() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				IdentityMappingRuleType obj = (IdentityMappingRuleType) encodeable;
-    				encoder.putEnumeration("CriteriaType",  (obj==null)?null:obj.getCriteriaType() );
-    				encoder.putString("Criteria",  (obj==null)?null:obj.getCriteria() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				IdentityMappingRuleType result = new IdentityMappingRuleType();
-    				result.setCriteriaType( decoder.getEnumeration("CriteriaType", IdentityCriteriaType.class) );
-    				result.setCriteria( decoder.getString("Criteria") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.IdentityMappingRuleType", new ExpandedNodeId(Identifiers.IdentityMappingRuleType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.IdentityMappingRuleType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.IdentityMappingRuleType));
     	// TrustListDataType
-    	addSerializer(
-    		new AbstractSerializer(TrustListDataType.class, TrustListDataType.BINARY, TrustListDataType.XML, TrustListDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				TrustListDataType obj = (TrustListDataType) encodeable;
-    				calculator.putUInt32(null, null /*obj.getSpecifiedLists()*/);
-    				calculator.putByteStringArray(null, ((obj==null)?null:obj.getTrustedCertificates()) );
-    				calculator.putByteStringArray(null, ((obj==null)?null:obj.getTrustedCrls()) );
-    				calculator.putByteStringArray(null, ((obj==null)?null:obj.getIssuerCertificates()) );
-    				calculator.putByteStringArray(null, ((obj==null)?null:obj.getIssuerCrls()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				TrustListDataType obj = (TrustListDataType) encodeable;
-    				encoder.putUInt32("SpecifiedLists",  (obj==null)?null:obj.getSpecifiedLists() );
-    				encoder.putByteStringArray("TrustedCertificates", (obj==null)?null:obj.getTrustedCertificates() );
-    				encoder.putByteStringArray("TrustedCrls", (obj==null)?null:obj.getTrustedCrls() );
-    				encoder.putByteStringArray("IssuerCertificates", (obj==null)?null:obj.getIssuerCertificates() );
-    				encoder.putByteStringArray("IssuerCrls", (obj==null)?null:obj.getIssuerCrls() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				TrustListDataType result = new TrustListDataType();
-    				result.setSpecifiedLists( decoder.getUInt32("SpecifiedLists") );
-    				result.setTrustedCertificates( decoder.getByteStringArray("TrustedCertificates") );
-    				result.setTrustedCrls( decoder.getByteStringArray("TrustedCrls") );
-    				result.setIssuerCertificates( decoder.getByteStringArray("IssuerCertificates") );
-    				result.setIssuerCrls( decoder.getByteStringArray("IssuerCrls") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.TrustListDataType", new ExpandedNodeId(Identifiers.TrustListDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.TrustListDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.TrustListDataType));
     	// DataTypeSchemaHeader
-    	addSerializer(
-    		new AbstractSerializer(DataTypeSchemaHeader.class, DataTypeSchemaHeader.BINARY, DataTypeSchemaHeader.XML, DataTypeSchemaHeader.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DataTypeSchemaHeader obj = (DataTypeSchemaHeader) encodeable;
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getNamespaces()) );
-    				calculator.putEncodeableArray(null, StructureDescription.class, (obj==null)?null:obj.getStructureDataTypes());
-    				calculator.putEncodeableArray(null, EnumDescription.class, (obj==null)?null:obj.getEnumDataTypes());
-    				calculator.putEncodeableArray(null, SimpleTypeDescription.class, (obj==null)?null:obj.getSimpleDataTypes());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DataTypeSchemaHeader obj = (DataTypeSchemaHeader) encodeable;
-    				encoder.putStringArray("Namespaces", (obj==null)?null:obj.getNamespaces() );
-    				encoder.putEncodeableArray("StructureDataTypes", StructureDescription.class, (obj==null)?null:obj.getStructureDataTypes());
-    				encoder.putEncodeableArray("EnumDataTypes", EnumDescription.class, (obj==null)?null:obj.getEnumDataTypes());
-    				encoder.putEncodeableArray("SimpleDataTypes", SimpleTypeDescription.class, (obj==null)?null:obj.getSimpleDataTypes());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DataTypeSchemaHeader result = new DataTypeSchemaHeader();
-    				result.setNamespaces( decoder.getStringArray("Namespaces") );
-    				result.setStructureDataTypes( decoder.getEncodeableArray("StructureDataTypes", StructureDescription.class) );
-    				result.setEnumDataTypes( decoder.getEncodeableArray("EnumDataTypes", EnumDescription.class) );
-    				result.setSimpleDataTypes( decoder.getEncodeableArray("SimpleDataTypes", SimpleTypeDescription.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DataTypeSchemaHeader", new ExpandedNodeId(Identifiers.DataTypeSchemaHeader_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DataTypeSchemaHeader_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DataTypeSchemaHeader));
     	// DataTypeDescription
-    	addSerializer(
-    		new AbstractSerializer(DataTypeDescription.class, DataTypeDescription.BINARY, DataTypeDescription.XML, DataTypeDescription.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DataTypeDescription obj = (DataTypeDescription) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getDataTypeId() );
-    				calculator.putQualifiedName(null,  (obj==null)?null:obj.getName() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DataTypeDescription obj = (DataTypeDescription) encodeable;
-    				encoder.putNodeId("DataTypeId",  (obj==null)?null:obj.getDataTypeId() );
-    				encoder.putQualifiedName("Name",  (obj==null)?null:obj.getName() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DataTypeDescription result = new DataTypeDescription();
-    				result.setDataTypeId( decoder.getNodeId("DataTypeId") );
-    				result.setName( decoder.getQualifiedName("Name") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DataTypeDescription", new ExpandedNodeId(Identifiers.DataTypeDescription_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DataTypeDescription_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DataTypeDescription));
     	// StructureDescription
-    	addSerializer(
-    		new AbstractSerializer(StructureDescription.class, StructureDescription.BINARY, StructureDescription.XML, StructureDescription.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				StructureDescription obj = (StructureDescription) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getDataTypeId() );
-    				calculator.putQualifiedName(null,  (obj==null)?null:obj.getName() );
-    				calculator.putEncodeable(null, StructureDefinition.class, (obj==null)?null:obj.getStructureDefinition());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				StructureDescription obj = (StructureDescription) encodeable;
-    				encoder.putNodeId("DataTypeId",  (obj==null)?null:obj.getDataTypeId() );
-    				encoder.putQualifiedName("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putEncodeable("StructureDefinition", StructureDefinition.class, (obj==null)?null:obj.getStructureDefinition());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				StructureDescription result = new StructureDescription();
-    				result.setDataTypeId( decoder.getNodeId("DataTypeId") );
-    				result.setName( decoder.getQualifiedName("Name") );
-    				result.setStructureDefinition( decoder.getEncodeable("StructureDefinition", StructureDefinition.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.StructureDescription", new ExpandedNodeId(Identifiers.StructureDescription_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.StructureDescription_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.StructureDescription));
     	// EnumDescription
-    	addSerializer(
-    		new AbstractSerializer(EnumDescription.class, EnumDescription.BINARY, EnumDescription.XML, EnumDescription.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				EnumDescription obj = (EnumDescription) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getDataTypeId() );
-    				calculator.putQualifiedName(null,  (obj==null)?null:obj.getName() );
-    				calculator.putEncodeable(null, EnumDefinition.class, (obj==null)?null:obj.getEnumDefinition());
-    				calculator.putByte(null, null /*obj.getBuiltInType()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				EnumDescription obj = (EnumDescription) encodeable;
-    				encoder.putNodeId("DataTypeId",  (obj==null)?null:obj.getDataTypeId() );
-    				encoder.putQualifiedName("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putEncodeable("EnumDefinition", EnumDefinition.class, (obj==null)?null:obj.getEnumDefinition());
-    				encoder.putByte("BuiltInType",  (obj==null)?null:obj.getBuiltInType() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				EnumDescription result = new EnumDescription();
-    				result.setDataTypeId( decoder.getNodeId("DataTypeId") );
-    				result.setName( decoder.getQualifiedName("Name") );
-    				result.setEnumDefinition( decoder.getEncodeable("EnumDefinition", EnumDefinition.class) );
-    				result.setBuiltInType( decoder.getByte("BuiltInType") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.EnumDescription", new ExpandedNodeId(Identifiers.EnumDescription_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.EnumDescription_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.EnumDescription));
     	// SimpleTypeDescription
-    	addSerializer(
-    		new AbstractSerializer(SimpleTypeDescription.class, SimpleTypeDescription.BINARY, SimpleTypeDescription.XML, SimpleTypeDescription.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SimpleTypeDescription obj = (SimpleTypeDescription) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getDataTypeId() );
-    				calculator.putQualifiedName(null,  (obj==null)?null:obj.getName() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getBaseDataType() );
-    				calculator.putByte(null, null /*obj.getBuiltInType()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SimpleTypeDescription obj = (SimpleTypeDescription) encodeable;
-    				encoder.putNodeId("DataTypeId",  (obj==null)?null:obj.getDataTypeId() );
-    				encoder.putQualifiedName("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putNodeId("BaseDataType",  (obj==null)?null:obj.getBaseDataType() );
-    				encoder.putByte("BuiltInType",  (obj==null)?null:obj.getBuiltInType() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SimpleTypeDescription result = new SimpleTypeDescription();
-    				result.setDataTypeId( decoder.getNodeId("DataTypeId") );
-    				result.setName( decoder.getQualifiedName("Name") );
-    				result.setBaseDataType( decoder.getNodeId("BaseDataType") );
-    				result.setBuiltInType( decoder.getByte("BuiltInType") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SimpleTypeDescription", new ExpandedNodeId(Identifiers.SimpleTypeDescription_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SimpleTypeDescription_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SimpleTypeDescription));
     	// UABinaryFileDataType
-    	addSerializer(
-    		new AbstractSerializer(UABinaryFileDataType.class, UABinaryFileDataType.BINARY, UABinaryFileDataType.XML, UABinaryFileDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				UABinaryFileDataType obj = (UABinaryFileDataType) encodeable;
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getNamespaces()) );
-    				calculator.putEncodeableArray(null, StructureDescription.class, (obj==null)?null:obj.getStructureDataTypes());
-    				calculator.putEncodeableArray(null, EnumDescription.class, (obj==null)?null:obj.getEnumDataTypes());
-    				calculator.putEncodeableArray(null, SimpleTypeDescription.class, (obj==null)?null:obj.getSimpleDataTypes());
-    				calculator.putString(null,  (obj==null)?null:obj.getSchemaLocation() );
-    				calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getFileHeader());
-    				calculator.putVariant(null,  (obj==null)?null:obj.getBody() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				UABinaryFileDataType obj = (UABinaryFileDataType) encodeable;
-    				encoder.putStringArray("Namespaces", (obj==null)?null:obj.getNamespaces() );
-    				encoder.putEncodeableArray("StructureDataTypes", StructureDescription.class, (obj==null)?null:obj.getStructureDataTypes());
-    				encoder.putEncodeableArray("EnumDataTypes", EnumDescription.class, (obj==null)?null:obj.getEnumDataTypes());
-    				encoder.putEncodeableArray("SimpleDataTypes", SimpleTypeDescription.class, (obj==null)?null:obj.getSimpleDataTypes());
-    				encoder.putString("SchemaLocation",  (obj==null)?null:obj.getSchemaLocation() );
-    				encoder.putEncodeableArray("FileHeader", KeyValuePair.class, (obj==null)?null:obj.getFileHeader());
-    				encoder.putVariant("Body",  (obj==null)?null:obj.getBody() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				UABinaryFileDataType result = new UABinaryFileDataType();
-    				result.setNamespaces( decoder.getStringArray("Namespaces") );
-    				result.setStructureDataTypes( decoder.getEncodeableArray("StructureDataTypes", StructureDescription.class) );
-    				result.setEnumDataTypes( decoder.getEncodeableArray("EnumDataTypes", EnumDescription.class) );
-    				result.setSimpleDataTypes( decoder.getEncodeableArray("SimpleDataTypes", SimpleTypeDescription.class) );
-    				result.setSchemaLocation( decoder.getString("SchemaLocation") );
-    				result.setFileHeader( decoder.getEncodeableArray("FileHeader", KeyValuePair.class) );
-    				result.setBody( decoder.getVariant("Body") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.UABinaryFileDataType", new ExpandedNodeId(Identifiers.UABinaryFileDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.UABinaryFileDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.UABinaryFileDataType));
     	// DataSetMetaDataType
-    	addSerializer(
-    		new AbstractSerializer(DataSetMetaDataType.class, DataSetMetaDataType.BINARY, DataSetMetaDataType.XML, DataSetMetaDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DataSetMetaDataType obj = (DataSetMetaDataType) encodeable;
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getNamespaces()) );
-    				calculator.putEncodeableArray(null, StructureDescription.class, (obj==null)?null:obj.getStructureDataTypes());
-    				calculator.putEncodeableArray(null, EnumDescription.class, (obj==null)?null:obj.getEnumDataTypes());
-    				calculator.putEncodeableArray(null, SimpleTypeDescription.class, (obj==null)?null:obj.getSimpleDataTypes());
-    				calculator.putString(null,  (obj==null)?null:obj.getName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putEncodeableArray(null, FieldMetaData.class, (obj==null)?null:obj.getFields());
-    				calculator.putGuid(null,  (obj==null)?null:obj.getDataSetClassId() );
-    				calculator.putEncodeable(null, ConfigurationVersionDataType.class, (obj==null)?null:obj.getConfigurationVersion());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DataSetMetaDataType obj = (DataSetMetaDataType) encodeable;
-    				encoder.putStringArray("Namespaces", (obj==null)?null:obj.getNamespaces() );
-    				encoder.putEncodeableArray("StructureDataTypes", StructureDescription.class, (obj==null)?null:obj.getStructureDataTypes());
-    				encoder.putEncodeableArray("EnumDataTypes", EnumDescription.class, (obj==null)?null:obj.getEnumDataTypes());
-    				encoder.putEncodeableArray("SimpleDataTypes", SimpleTypeDescription.class, (obj==null)?null:obj.getSimpleDataTypes());
-    				encoder.putString("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putEncodeableArray("Fields", FieldMetaData.class, (obj==null)?null:obj.getFields());
-    				encoder.putGuid("DataSetClassId",  (obj==null)?null:obj.getDataSetClassId() );
-    				encoder.putEncodeable("ConfigurationVersion", ConfigurationVersionDataType.class, (obj==null)?null:obj.getConfigurationVersion());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DataSetMetaDataType result = new DataSetMetaDataType();
-    				result.setNamespaces( decoder.getStringArray("Namespaces") );
-    				result.setStructureDataTypes( decoder.getEncodeableArray("StructureDataTypes", StructureDescription.class) );
-    				result.setEnumDataTypes( decoder.getEncodeableArray("EnumDataTypes", EnumDescription.class) );
-    				result.setSimpleDataTypes( decoder.getEncodeableArray("SimpleDataTypes", SimpleTypeDescription.class) );
-    				result.setName( decoder.getString("Name") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setFields( decoder.getEncodeableArray("Fields", FieldMetaData.class) );
-    				result.setDataSetClassId( decoder.getGuid("DataSetClassId") );
-    				result.setConfigurationVersion( decoder.getEncodeable("ConfigurationVersion", ConfigurationVersionDataType.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DataSetMetaDataType", new ExpandedNodeId(Identifiers.DataSetMetaDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DataSetMetaDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DataSetMetaDataType));
     	// FieldMetaData
-    	addSerializer(
-    		new AbstractSerializer(FieldMetaData.class, FieldMetaData.BINARY, FieldMetaData.XML, FieldMetaData.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				FieldMetaData obj = (FieldMetaData) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putUInt16(null, null /*obj.getFieldFlags()*/);
-    				calculator.putByte(null, null /*obj.getBuiltInType()*/);
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getDataType() );
-    				calculator.putInt32(null, null /*obj.getValueRank()*/);
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getArrayDimensions()) );
-    				calculator.putUInt32(null, null /*obj.getMaxStringLength()*/);
-    				calculator.putGuid(null,  (obj==null)?null:obj.getDataSetFieldId() );
-    				calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getProperties());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				FieldMetaData obj = (FieldMetaData) encodeable;
-    				encoder.putString("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putUInt16("FieldFlags",  (obj==null)?null:obj.getFieldFlags() );
-    				encoder.putByte("BuiltInType",  (obj==null)?null:obj.getBuiltInType() );
-    				encoder.putNodeId("DataType",  (obj==null)?null:obj.getDataType() );
-    				encoder.putInt32("ValueRank",  (obj==null)?null:obj.getValueRank() );
-    				encoder.putUInt32Array("ArrayDimensions", (obj==null)?null:obj.getArrayDimensions() );
-    				encoder.putUInt32("MaxStringLength",  (obj==null)?null:obj.getMaxStringLength() );
-    				encoder.putGuid("DataSetFieldId",  (obj==null)?null:obj.getDataSetFieldId() );
-    				encoder.putEncodeableArray("Properties", KeyValuePair.class, (obj==null)?null:obj.getProperties());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				FieldMetaData result = new FieldMetaData();
-    				result.setName( decoder.getString("Name") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setFieldFlags( decoder.getUInt16("FieldFlags") );
-    				result.setBuiltInType( decoder.getByte("BuiltInType") );
-    				result.setDataType( decoder.getNodeId("DataType") );
-    				result.setValueRank( decoder.getInt32("ValueRank") );
-    				result.setArrayDimensions( decoder.getUInt32Array("ArrayDimensions") );
-    				result.setMaxStringLength( decoder.getUInt32("MaxStringLength") );
-    				result.setDataSetFieldId( decoder.getGuid("DataSetFieldId") );
-    				result.setProperties( decoder.getEncodeableArray("Properties", KeyValuePair.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.FieldMetaData", new ExpandedNodeId(Identifiers.FieldMetaData_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.FieldMetaData_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.FieldMetaData));
     	// ConfigurationVersionDataType
-    	addSerializer(
-    		new AbstractSerializer(ConfigurationVersionDataType.class, ConfigurationVersionDataType.BINARY, ConfigurationVersionDataType.XML, ConfigurationVersionDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ConfigurationVersionDataType obj = (ConfigurationVersionDataType) encodeable;
-    				calculator.putUInt32(null, null /*obj.getMajorVersion()*/);
-    				calculator.putUInt32(null, null /*obj.getMinorVersion()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ConfigurationVersionDataType obj = (ConfigurationVersionDataType) encodeable;
-    				encoder.putUInt32("MajorVersion",  (obj==null)?null:obj.getMajorVersion() );
-    				encoder.putUInt32("MinorVersion",  (obj==null)?null:obj.getMinorVersion() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ConfigurationVersionDataType result = new ConfigurationVersionDataType();
-    				result.setMajorVersion( decoder.getUInt32("MajorVersion") );
-    				result.setMinorVersion( decoder.getUInt32("MinorVersion") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ConfigurationVersionDataType", new ExpandedNodeId(Identifiers.ConfigurationVersionDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ConfigurationVersionDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ConfigurationVersionDataType));
     	// PublishedDataSetDataType
-    	addSerializer(
-    		new AbstractSerializer(PublishedDataSetDataType.class, PublishedDataSetDataType.BINARY, PublishedDataSetDataType.XML, PublishedDataSetDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				PublishedDataSetDataType obj = (PublishedDataSetDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getName() );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getDataSetFolder()) );
-    				calculator.putEncodeable(null, DataSetMetaDataType.class, (obj==null)?null:obj.getDataSetMetaData());
-    				calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getExtensionFields());
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getDataSetSource() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				PublishedDataSetDataType obj = (PublishedDataSetDataType) encodeable;
-    				encoder.putString("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putStringArray("DataSetFolder", (obj==null)?null:obj.getDataSetFolder() );
-    				encoder.putEncodeable("DataSetMetaData", DataSetMetaDataType.class, (obj==null)?null:obj.getDataSetMetaData());
-    				encoder.putEncodeableArray("ExtensionFields", KeyValuePair.class, (obj==null)?null:obj.getExtensionFields());
-    				encoder.putExtensionObject("DataSetSource",  (obj==null)?null:obj.getDataSetSource() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				PublishedDataSetDataType result = new PublishedDataSetDataType();
-    				result.setName( decoder.getString("Name") );
-    				result.setDataSetFolder( decoder.getStringArray("DataSetFolder") );
-    				result.setDataSetMetaData( decoder.getEncodeable("DataSetMetaData", DataSetMetaDataType.class) );
-    				result.setExtensionFields( decoder.getEncodeableArray("ExtensionFields", KeyValuePair.class) );
-    				result.setDataSetSource( decoder.getExtensionObject("DataSetSource") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.PublishedDataSetDataType", new ExpandedNodeId(Identifiers.PublishedDataSetDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.PublishedDataSetDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.PublishedDataSetDataType));
     	// PublishedDataSetSourceDataType
-    	addSerializer(
-    		new AbstractSerializer(PublishedDataSetSourceDataType.class, PublishedDataSetSourceDataType.BINARY, PublishedDataSetSourceDataType.XML, PublishedDataSetSourceDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				PublishedDataSetSourceDataType result = new PublishedDataSetSourceDataType();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.PublishedDataSetSourceDataType", new ExpandedNodeId(Identifiers.PublishedDataSetSourceDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.PublishedDataSetSourceDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.PublishedDataSetSourceDataType));
     	// PublishedVariableDataType
-    	addSerializer(
-    		new AbstractSerializer(PublishedVariableDataType.class, PublishedVariableDataType.BINARY, PublishedVariableDataType.XML, PublishedVariableDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				PublishedVariableDataType obj = (PublishedVariableDataType) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getPublishedVariable() );
-    				calculator.putUInt32(null, null /*obj.getAttributeId()*/);
-    				calculator.putDouble(null, null /*obj.getSamplingIntervalHint()*/);
-    				calculator.putUInt32(null, null /*obj.getDeadbandType()*/);
-    				calculator.putDouble(null, null /*obj.getDeadbandValue()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getIndexRange() );
-    				calculator.putVariant(null,  (obj==null)?null:obj.getSubstituteValue() );
-    				calculator.putQualifiedNameArray(null, ((obj==null)?null:obj.getMetaDataProperties()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				PublishedVariableDataType obj = (PublishedVariableDataType) encodeable;
-    				encoder.putNodeId("PublishedVariable",  (obj==null)?null:obj.getPublishedVariable() );
-    				encoder.putUInt32("AttributeId",  (obj==null)?null:obj.getAttributeId() );
-    				encoder.putDouble("SamplingIntervalHint",  (obj==null)?null:obj.getSamplingIntervalHint() );
-    				encoder.putUInt32("DeadbandType",  (obj==null)?null:obj.getDeadbandType() );
-    				encoder.putDouble("DeadbandValue",  (obj==null)?null:obj.getDeadbandValue() );
-    				encoder.putString("IndexRange",  (obj==null)?null:obj.getIndexRange() );
-    				encoder.putVariant("SubstituteValue",  (obj==null)?null:obj.getSubstituteValue() );
-    				encoder.putQualifiedNameArray("MetaDataProperties", (obj==null)?null:obj.getMetaDataProperties() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				PublishedVariableDataType result = new PublishedVariableDataType();
-    				result.setPublishedVariable( decoder.getNodeId("PublishedVariable") );
-    				result.setAttributeId( decoder.getUInt32("AttributeId") );
-    				result.setSamplingIntervalHint( decoder.getDouble("SamplingIntervalHint") );
-    				result.setDeadbandType( decoder.getUInt32("DeadbandType") );
-    				result.setDeadbandValue( decoder.getDouble("DeadbandValue") );
-    				result.setIndexRange( decoder.getString("IndexRange") );
-    				result.setSubstituteValue( decoder.getVariant("SubstituteValue") );
-    				result.setMetaDataProperties( decoder.getQualifiedNameArray("MetaDataProperties") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.PublishedVariableDataType", new ExpandedNodeId(Identifiers.PublishedVariableDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.PublishedVariableDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.PublishedVariableDataType));
     	// PublishedDataItemsDataType
-    	addSerializer(
-    		new AbstractSerializer(PublishedDataItemsDataType.class, PublishedDataItemsDataType.BINARY, PublishedDataItemsDataType.XML, PublishedDataItemsDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				PublishedDataItemsDataType obj = (PublishedDataItemsDataType) encodeable;
-    				calculator.putEncodeableArray(null, PublishedVariableDataType.class, (obj==null)?null:obj.getPublishedData());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				PublishedDataItemsDataType obj = (PublishedDataItemsDataType) encodeable;
-    				encoder.putEncodeableArray("PublishedData", PublishedVariableDataType.class, (obj==null)?null:obj.getPublishedData());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				PublishedDataItemsDataType result = new PublishedDataItemsDataType();
-    				result.setPublishedData( decoder.getEncodeableArray("PublishedData", PublishedVariableDataType.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.PublishedDataItemsDataType", new ExpandedNodeId(Identifiers.PublishedDataItemsDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.PublishedDataItemsDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.PublishedDataItemsDataType));
     	// PublishedEventsDataType
-    	addSerializer(
-    		new AbstractSerializer(PublishedEventsDataType.class, PublishedEventsDataType.BINARY, PublishedEventsDataType.XML, PublishedEventsDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				PublishedEventsDataType obj = (PublishedEventsDataType) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getEventNotifier() );
-    				calculator.putEncodeableArray(null, SimpleAttributeOperand.class, (obj==null)?null:obj.getSelectedFields());
-    				calculator.putEncodeable(null, ContentFilter.class, (obj==null)?null:obj.getFilter());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				PublishedEventsDataType obj = (PublishedEventsDataType) encodeable;
-    				encoder.putNodeId("EventNotifier",  (obj==null)?null:obj.getEventNotifier() );
-    				encoder.putEncodeableArray("SelectedFields", SimpleAttributeOperand.class, (obj==null)?null:obj.getSelectedFields());
-    				encoder.putEncodeable("Filter", ContentFilter.class, (obj==null)?null:obj.getFilter());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				PublishedEventsDataType result = new PublishedEventsDataType();
-    				result.setEventNotifier( decoder.getNodeId("EventNotifier") );
-    				result.setSelectedFields( decoder.getEncodeableArray("SelectedFields", SimpleAttributeOperand.class) );
-    				result.setFilter( decoder.getEncodeable("Filter", ContentFilter.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.PublishedEventsDataType", new ExpandedNodeId(Identifiers.PublishedEventsDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.PublishedEventsDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.PublishedEventsDataType));
     	// DataSetWriterDataType
-    	addSerializer(
-    		new AbstractSerializer(DataSetWriterDataType.class, DataSetWriterDataType.BINARY, DataSetWriterDataType.XML, DataSetWriterDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DataSetWriterDataType obj = (DataSetWriterDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getName() );
-    				calculator.putBoolean(null, null /*obj.getEnabled()*/);
-    				calculator.putUInt16(null, null /*obj.getDataSetWriterId()*/);
-    				calculator.putUInt32(null, null /*obj.getDataSetFieldContentMask()*/);
-    				calculator.putUInt32(null, null /*obj.getKeyFrameCount()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getDataSetName() );
-    				calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getDataSetWriterProperties());
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getTransportSettings() );
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getMessageSettings() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DataSetWriterDataType obj = (DataSetWriterDataType) encodeable;
-    				encoder.putString("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putBoolean("Enabled",  (obj==null)?null:obj.getEnabled() );
-    				encoder.putUInt16("DataSetWriterId",  (obj==null)?null:obj.getDataSetWriterId() );
-    				encoder.putUInt32("DataSetFieldContentMask",  (obj==null)?null:obj.getDataSetFieldContentMask() );
-    				encoder.putUInt32("KeyFrameCount",  (obj==null)?null:obj.getKeyFrameCount() );
-    				encoder.putString("DataSetName",  (obj==null)?null:obj.getDataSetName() );
-    				encoder.putEncodeableArray("DataSetWriterProperties", KeyValuePair.class, (obj==null)?null:obj.getDataSetWriterProperties());
-    				encoder.putExtensionObject("TransportSettings",  (obj==null)?null:obj.getTransportSettings() );
-    				encoder.putExtensionObject("MessageSettings",  (obj==null)?null:obj.getMessageSettings() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DataSetWriterDataType result = new DataSetWriterDataType();
-    				result.setName( decoder.getString("Name") );
-    				result.setEnabled( decoder.getBoolean("Enabled") );
-    				result.setDataSetWriterId( decoder.getUInt16("DataSetWriterId") );
-    				result.setDataSetFieldContentMask( decoder.getUInt32("DataSetFieldContentMask") );
-    				result.setKeyFrameCount( decoder.getUInt32("KeyFrameCount") );
-    				result.setDataSetName( decoder.getString("DataSetName") );
-    				result.setDataSetWriterProperties( decoder.getEncodeableArray("DataSetWriterProperties", KeyValuePair.class) );
-    				result.setTransportSettings( decoder.getExtensionObject("TransportSettings") );
-    				result.setMessageSettings( decoder.getExtensionObject("MessageSettings") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DataSetWriterDataType", new ExpandedNodeId(Identifiers.DataSetWriterDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DataSetWriterDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DataSetWriterDataType));
     	// DataSetWriterTransportDataType
-    	addSerializer(
-    		new AbstractSerializer(DataSetWriterTransportDataType.class, DataSetWriterTransportDataType.BINARY, DataSetWriterTransportDataType.XML, DataSetWriterTransportDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DataSetWriterTransportDataType result = new DataSetWriterTransportDataType();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DataSetWriterTransportDataType", new ExpandedNodeId(Identifiers.DataSetWriterTransportDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DataSetWriterTransportDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DataSetWriterTransportDataType));
     	// DataSetWriterMessageDataType
-    	addSerializer(
-    		new AbstractSerializer(DataSetWriterMessageDataType.class, DataSetWriterMessageDataType.BINARY, DataSetWriterMessageDataType.XML, DataSetWriterMessageDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DataSetWriterMessageDataType result = new DataSetWriterMessageDataType();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DataSetWriterMessageDataType", new ExpandedNodeId(Identifiers.DataSetWriterMessageDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DataSetWriterMessageDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DataSetWriterMessageDataType));
     	// PubSubGroupDataType
-    	addSerializer(
-    		new AbstractSerializer(PubSubGroupDataType.class, PubSubGroupDataType.BINARY, PubSubGroupDataType.XML, PubSubGroupDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				PubSubGroupDataType obj = (PubSubGroupDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getName() );
-    				calculator.putBoolean(null, null /*obj.getEnabled()*/);
-    				calculator.putEnumeration(null, null /*obj.getSecurityMode()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getSecurityGroupId() );
-    				calculator.putEncodeableArray(null, EndpointDescription.class, (obj==null)?null:obj.getSecurityKeyServices());
-    				calculator.putUInt32(null, null /*obj.getMaxNetworkMessageSize()*/);
-    				calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getGroupProperties());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				PubSubGroupDataType obj = (PubSubGroupDataType) encodeable;
-    				encoder.putString("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putBoolean("Enabled",  (obj==null)?null:obj.getEnabled() );
-    				encoder.putEnumeration("SecurityMode",  (obj==null)?null:obj.getSecurityMode() );
-    				encoder.putString("SecurityGroupId",  (obj==null)?null:obj.getSecurityGroupId() );
-    				encoder.putEncodeableArray("SecurityKeyServices", EndpointDescription.class, (obj==null)?null:obj.getSecurityKeyServices());
-    				encoder.putUInt32("MaxNetworkMessageSize",  (obj==null)?null:obj.getMaxNetworkMessageSize() );
-    				encoder.putEncodeableArray("GroupProperties", KeyValuePair.class, (obj==null)?null:obj.getGroupProperties());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				PubSubGroupDataType result = new PubSubGroupDataType();
-    				result.setName( decoder.getString("Name") );
-    				result.setEnabled( decoder.getBoolean("Enabled") );
-    				result.setSecurityMode( decoder.getEnumeration("SecurityMode", MessageSecurityMode.class) );
-    				result.setSecurityGroupId( decoder.getString("SecurityGroupId") );
-    				result.setSecurityKeyServices( decoder.getEncodeableArray("SecurityKeyServices", EndpointDescription.class) );
-    				result.setMaxNetworkMessageSize( decoder.getUInt32("MaxNetworkMessageSize") );
-    				result.setGroupProperties( decoder.getEncodeableArray("GroupProperties", KeyValuePair.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.PubSubGroupDataType", new ExpandedNodeId(Identifiers.PubSubGroupDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.PubSubGroupDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.PubSubGroupDataType));
     	// WriterGroupDataType
-    	addSerializer(
-    		new AbstractSerializer(WriterGroupDataType.class, WriterGroupDataType.BINARY, WriterGroupDataType.XML, WriterGroupDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				WriterGroupDataType obj = (WriterGroupDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getName() );
-    				calculator.putBoolean(null, null /*obj.getEnabled()*/);
-    				calculator.putEnumeration(null, null /*obj.getSecurityMode()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getSecurityGroupId() );
-    				calculator.putEncodeableArray(null, EndpointDescription.class, (obj==null)?null:obj.getSecurityKeyServices());
-    				calculator.putUInt32(null, null /*obj.getMaxNetworkMessageSize()*/);
-    				calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getGroupProperties());
-    				calculator.putUInt16(null, null /*obj.getWriterGroupId()*/);
-    				calculator.putDouble(null, null /*obj.getPublishingInterval()*/);
-    				calculator.putDouble(null, null /*obj.getKeepAliveTime()*/);
-    				calculator.putByte(null, null /*obj.getPriority()*/);
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getLocaleIds()) );
-    				calculator.putString(null,  (obj==null)?null:obj.getHeaderLayoutUri() );
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getTransportSettings() );
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getMessageSettings() );
-    				calculator.putEncodeableArray(null, DataSetWriterDataType.class, (obj==null)?null:obj.getDataSetWriters());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				WriterGroupDataType obj = (WriterGroupDataType) encodeable;
-    				encoder.putString("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putBoolean("Enabled",  (obj==null)?null:obj.getEnabled() );
-    				encoder.putEnumeration("SecurityMode",  (obj==null)?null:obj.getSecurityMode() );
-    				encoder.putString("SecurityGroupId",  (obj==null)?null:obj.getSecurityGroupId() );
-    				encoder.putEncodeableArray("SecurityKeyServices", EndpointDescription.class, (obj==null)?null:obj.getSecurityKeyServices());
-    				encoder.putUInt32("MaxNetworkMessageSize",  (obj==null)?null:obj.getMaxNetworkMessageSize() );
-    				encoder.putEncodeableArray("GroupProperties", KeyValuePair.class, (obj==null)?null:obj.getGroupProperties());
-    				encoder.putUInt16("WriterGroupId",  (obj==null)?null:obj.getWriterGroupId() );
-    				encoder.putDouble("PublishingInterval",  (obj==null)?null:obj.getPublishingInterval() );
-    				encoder.putDouble("KeepAliveTime",  (obj==null)?null:obj.getKeepAliveTime() );
-    				encoder.putByte("Priority",  (obj==null)?null:obj.getPriority() );
-    				encoder.putStringArray("LocaleIds", (obj==null)?null:obj.getLocaleIds() );
-    				encoder.putString("HeaderLayoutUri",  (obj==null)?null:obj.getHeaderLayoutUri() );
-    				encoder.putExtensionObject("TransportSettings",  (obj==null)?null:obj.getTransportSettings() );
-    				encoder.putExtensionObject("MessageSettings",  (obj==null)?null:obj.getMessageSettings() );
-    				encoder.putEncodeableArray("DataSetWriters", DataSetWriterDataType.class, (obj==null)?null:obj.getDataSetWriters());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				WriterGroupDataType result = new WriterGroupDataType();
-    				result.setName( decoder.getString("Name") );
-    				result.setEnabled( decoder.getBoolean("Enabled") );
-    				result.setSecurityMode( decoder.getEnumeration("SecurityMode", MessageSecurityMode.class) );
-    				result.setSecurityGroupId( decoder.getString("SecurityGroupId") );
-    				result.setSecurityKeyServices( decoder.getEncodeableArray("SecurityKeyServices", EndpointDescription.class) );
-    				result.setMaxNetworkMessageSize( decoder.getUInt32("MaxNetworkMessageSize") );
-    				result.setGroupProperties( decoder.getEncodeableArray("GroupProperties", KeyValuePair.class) );
-    				result.setWriterGroupId( decoder.getUInt16("WriterGroupId") );
-    				result.setPublishingInterval( decoder.getDouble("PublishingInterval") );
-    				result.setKeepAliveTime( decoder.getDouble("KeepAliveTime") );
-    				result.setPriority( decoder.getByte("Priority") );
-    				result.setLocaleIds( decoder.getStringArray("LocaleIds") );
-    				result.setHeaderLayoutUri( decoder.getString("HeaderLayoutUri") );
-    				result.setTransportSettings( decoder.getExtensionObject("TransportSettings") );
-    				result.setMessageSettings( decoder.getExtensionObject("MessageSettings") );
-    				result.setDataSetWriters( decoder.getEncodeableArray("DataSetWriters", DataSetWriterDataType.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.WriterGroupDataType", new ExpandedNodeId(Identifiers.WriterGroupDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.WriterGroupDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.WriterGroupDataType));
     	// WriterGroupTransportDataType
-    	addSerializer(
-    		new AbstractSerializer(WriterGroupTransportDataType.class, WriterGroupTransportDataType.BINARY, WriterGroupTransportDataType.XML, WriterGroupTransportDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				WriterGroupTransportDataType result = new WriterGroupTransportDataType();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.WriterGroupTransportDataType", new ExpandedNodeId(Identifiers.WriterGroupTransportDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.WriterGroupTransportDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.WriterGroupTransportDataType));
     	// WriterGroupMessageDataType
-    	addSerializer(
-    		new AbstractSerializer(WriterGroupMessageDataType.class, WriterGroupMessageDataType.BINARY, WriterGroupMessageDataType.XML, WriterGroupMessageDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				WriterGroupMessageDataType result = new WriterGroupMessageDataType();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.WriterGroupMessageDataType", new ExpandedNodeId(Identifiers.WriterGroupMessageDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.WriterGroupMessageDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.WriterGroupMessageDataType));
     	// PubSubConnectionDataType
-    	addSerializer(
-    		new AbstractSerializer(PubSubConnectionDataType.class, PubSubConnectionDataType.BINARY, PubSubConnectionDataType.XML, PubSubConnectionDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				PubSubConnectionDataType obj = (PubSubConnectionDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getName() );
-    				calculator.putBoolean(null, null /*obj.getEnabled()*/);
-    				calculator.putVariant(null,  (obj==null)?null:obj.getPublisherId() );
-    				calculator.putString(null,  (obj==null)?null:obj.getTransportProfileUri() );
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getAddress() );
-    				calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getConnectionProperties());
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getTransportSettings() );
-    				calculator.putEncodeableArray(null, WriterGroupDataType.class, (obj==null)?null:obj.getWriterGroups());
-    				calculator.putEncodeableArray(null, ReaderGroupDataType.class, (obj==null)?null:obj.getReaderGroups());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				PubSubConnectionDataType obj = (PubSubConnectionDataType) encodeable;
-    				encoder.putString("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putBoolean("Enabled",  (obj==null)?null:obj.getEnabled() );
-    				encoder.putVariant("PublisherId",  (obj==null)?null:obj.getPublisherId() );
-    				encoder.putString("TransportProfileUri",  (obj==null)?null:obj.getTransportProfileUri() );
-    				encoder.putExtensionObject("Address",  (obj==null)?null:obj.getAddress() );
-    				encoder.putEncodeableArray("ConnectionProperties", KeyValuePair.class, (obj==null)?null:obj.getConnectionProperties());
-    				encoder.putExtensionObject("TransportSettings",  (obj==null)?null:obj.getTransportSettings() );
-    				encoder.putEncodeableArray("WriterGroups", WriterGroupDataType.class, (obj==null)?null:obj.getWriterGroups());
-    				encoder.putEncodeableArray("ReaderGroups", ReaderGroupDataType.class, (obj==null)?null:obj.getReaderGroups());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				PubSubConnectionDataType result = new PubSubConnectionDataType();
-    				result.setName( decoder.getString("Name") );
-    				result.setEnabled( decoder.getBoolean("Enabled") );
-    				result.setPublisherId( decoder.getVariant("PublisherId") );
-    				result.setTransportProfileUri( decoder.getString("TransportProfileUri") );
-    				result.setAddress( decoder.getExtensionObject("Address") );
-    				result.setConnectionProperties( decoder.getEncodeableArray("ConnectionProperties", KeyValuePair.class) );
-    				result.setTransportSettings( decoder.getExtensionObject("TransportSettings") );
-    				result.setWriterGroups( decoder.getEncodeableArray("WriterGroups", WriterGroupDataType.class) );
-    				result.setReaderGroups( decoder.getEncodeableArray("ReaderGroups", ReaderGroupDataType.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.PubSubConnectionDataType", new ExpandedNodeId(Identifiers.PubSubConnectionDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.PubSubConnectionDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.PubSubConnectionDataType));
     	// ConnectionTransportDataType
-    	addSerializer(
-    		new AbstractSerializer(ConnectionTransportDataType.class, ConnectionTransportDataType.BINARY, ConnectionTransportDataType.XML, ConnectionTransportDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ConnectionTransportDataType result = new ConnectionTransportDataType();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ConnectionTransportDataType", new ExpandedNodeId(Identifiers.ConnectionTransportDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ConnectionTransportDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ConnectionTransportDataType));
     	// NetworkAddressDataType
-    	addSerializer(
-    		new AbstractSerializer(NetworkAddressDataType.class, NetworkAddressDataType.BINARY, NetworkAddressDataType.XML, NetworkAddressDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				NetworkAddressDataType obj = (NetworkAddressDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getNetworkInterface() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				NetworkAddressDataType obj = (NetworkAddressDataType) encodeable;
-    				encoder.putString("NetworkInterface",  (obj==null)?null:obj.getNetworkInterface() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				NetworkAddressDataType result = new NetworkAddressDataType();
-    				result.setNetworkInterface( decoder.getString("NetworkInterface") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.NetworkAddressDataType", new ExpandedNodeId(Identifiers.NetworkAddressDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.NetworkAddressDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.NetworkAddressDataType));
     	// NetworkAddressUrlDataType
-    	addSerializer(
-    		new AbstractSerializer(NetworkAddressUrlDataType.class, NetworkAddressUrlDataType.BINARY, NetworkAddressUrlDataType.XML, NetworkAddressUrlDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				NetworkAddressUrlDataType obj = (NetworkAddressUrlDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getNetworkInterface() );
-    				calculator.putString(null,  (obj==null)?null:obj.getUrl() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				NetworkAddressUrlDataType obj = (NetworkAddressUrlDataType) encodeable;
-    				encoder.putString("NetworkInterface",  (obj==null)?null:obj.getNetworkInterface() );
-    				encoder.putString("Url",  (obj==null)?null:obj.getUrl() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				NetworkAddressUrlDataType result = new NetworkAddressUrlDataType();
-    				result.setNetworkInterface( decoder.getString("NetworkInterface") );
-    				result.setUrl( decoder.getString("Url") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.NetworkAddressUrlDataType", new ExpandedNodeId(Identifiers.NetworkAddressUrlDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.NetworkAddressUrlDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.NetworkAddressUrlDataType));
     	// ReaderGroupDataType
-    	addSerializer(
-    		new AbstractSerializer(ReaderGroupDataType.class, ReaderGroupDataType.BINARY, ReaderGroupDataType.XML, ReaderGroupDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ReaderGroupDataType obj = (ReaderGroupDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getName() );
-    				calculator.putBoolean(null, null /*obj.getEnabled()*/);
-    				calculator.putEnumeration(null, null /*obj.getSecurityMode()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getSecurityGroupId() );
-    				calculator.putEncodeableArray(null, EndpointDescription.class, (obj==null)?null:obj.getSecurityKeyServices());
-    				calculator.putUInt32(null, null /*obj.getMaxNetworkMessageSize()*/);
-    				calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getGroupProperties());
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getTransportSettings() );
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getMessageSettings() );
-    				calculator.putEncodeableArray(null, DataSetReaderDataType.class, (obj==null)?null:obj.getDataSetReaders());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ReaderGroupDataType obj = (ReaderGroupDataType) encodeable;
-    				encoder.putString("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putBoolean("Enabled",  (obj==null)?null:obj.getEnabled() );
-    				encoder.putEnumeration("SecurityMode",  (obj==null)?null:obj.getSecurityMode() );
-    				encoder.putString("SecurityGroupId",  (obj==null)?null:obj.getSecurityGroupId() );
-    				encoder.putEncodeableArray("SecurityKeyServices", EndpointDescription.class, (obj==null)?null:obj.getSecurityKeyServices());
-    				encoder.putUInt32("MaxNetworkMessageSize",  (obj==null)?null:obj.getMaxNetworkMessageSize() );
-    				encoder.putEncodeableArray("GroupProperties", KeyValuePair.class, (obj==null)?null:obj.getGroupProperties());
-    				encoder.putExtensionObject("TransportSettings",  (obj==null)?null:obj.getTransportSettings() );
-    				encoder.putExtensionObject("MessageSettings",  (obj==null)?null:obj.getMessageSettings() );
-    				encoder.putEncodeableArray("DataSetReaders", DataSetReaderDataType.class, (obj==null)?null:obj.getDataSetReaders());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ReaderGroupDataType result = new ReaderGroupDataType();
-    				result.setName( decoder.getString("Name") );
-    				result.setEnabled( decoder.getBoolean("Enabled") );
-    				result.setSecurityMode( decoder.getEnumeration("SecurityMode", MessageSecurityMode.class) );
-    				result.setSecurityGroupId( decoder.getString("SecurityGroupId") );
-    				result.setSecurityKeyServices( decoder.getEncodeableArray("SecurityKeyServices", EndpointDescription.class) );
-    				result.setMaxNetworkMessageSize( decoder.getUInt32("MaxNetworkMessageSize") );
-    				result.setGroupProperties( decoder.getEncodeableArray("GroupProperties", KeyValuePair.class) );
-    				result.setTransportSettings( decoder.getExtensionObject("TransportSettings") );
-    				result.setMessageSettings( decoder.getExtensionObject("MessageSettings") );
-    				result.setDataSetReaders( decoder.getEncodeableArray("DataSetReaders", DataSetReaderDataType.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ReaderGroupDataType", new ExpandedNodeId(Identifiers.ReaderGroupDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ReaderGroupDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ReaderGroupDataType));
     	// ReaderGroupTransportDataType
-    	addSerializer(
-    		new AbstractSerializer(ReaderGroupTransportDataType.class, ReaderGroupTransportDataType.BINARY, ReaderGroupTransportDataType.XML, ReaderGroupTransportDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ReaderGroupTransportDataType result = new ReaderGroupTransportDataType();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ReaderGroupTransportDataType", new ExpandedNodeId(Identifiers.ReaderGroupTransportDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ReaderGroupTransportDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ReaderGroupTransportDataType));
     	// ReaderGroupMessageDataType
-    	addSerializer(
-    		new AbstractSerializer(ReaderGroupMessageDataType.class, ReaderGroupMessageDataType.BINARY, ReaderGroupMessageDataType.XML, ReaderGroupMessageDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ReaderGroupMessageDataType result = new ReaderGroupMessageDataType();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ReaderGroupMessageDataType", new ExpandedNodeId(Identifiers.ReaderGroupMessageDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ReaderGroupMessageDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ReaderGroupMessageDataType));
     	// DataSetReaderDataType
-    	addSerializer(
-    		new AbstractSerializer(DataSetReaderDataType.class, DataSetReaderDataType.BINARY, DataSetReaderDataType.XML, DataSetReaderDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DataSetReaderDataType obj = (DataSetReaderDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getName() );
-    				calculator.putBoolean(null, null /*obj.getEnabled()*/);
-    				calculator.putVariant(null,  (obj==null)?null:obj.getPublisherId() );
-    				calculator.putUInt16(null, null /*obj.getWriterGroupId()*/);
-    				calculator.putUInt16(null, null /*obj.getDataSetWriterId()*/);
-    				calculator.putEncodeable(null, DataSetMetaDataType.class, (obj==null)?null:obj.getDataSetMetaData());
-    				calculator.putUInt32(null, null /*obj.getDataSetFieldContentMask()*/);
-    				calculator.putDouble(null, null /*obj.getMessageReceiveTimeout()*/);
-    				calculator.putUInt32(null, null /*obj.getKeyFrameCount()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getHeaderLayoutUri() );
-    				calculator.putEnumeration(null, null /*obj.getSecurityMode()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getSecurityGroupId() );
-    				calculator.putEncodeableArray(null, EndpointDescription.class, (obj==null)?null:obj.getSecurityKeyServices());
-    				calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getDataSetReaderProperties());
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getTransportSettings() );
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getMessageSettings() );
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getSubscribedDataSet() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DataSetReaderDataType obj = (DataSetReaderDataType) encodeable;
-    				encoder.putString("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putBoolean("Enabled",  (obj==null)?null:obj.getEnabled() );
-    				encoder.putVariant("PublisherId",  (obj==null)?null:obj.getPublisherId() );
-    				encoder.putUInt16("WriterGroupId",  (obj==null)?null:obj.getWriterGroupId() );
-    				encoder.putUInt16("DataSetWriterId",  (obj==null)?null:obj.getDataSetWriterId() );
-    				encoder.putEncodeable("DataSetMetaData", DataSetMetaDataType.class, (obj==null)?null:obj.getDataSetMetaData());
-    				encoder.putUInt32("DataSetFieldContentMask",  (obj==null)?null:obj.getDataSetFieldContentMask() );
-    				encoder.putDouble("MessageReceiveTimeout",  (obj==null)?null:obj.getMessageReceiveTimeout() );
-    				encoder.putUInt32("KeyFrameCount",  (obj==null)?null:obj.getKeyFrameCount() );
-    				encoder.putString("HeaderLayoutUri",  (obj==null)?null:obj.getHeaderLayoutUri() );
-    				encoder.putEnumeration("SecurityMode",  (obj==null)?null:obj.getSecurityMode() );
-    				encoder.putString("SecurityGroupId",  (obj==null)?null:obj.getSecurityGroupId() );
-    				encoder.putEncodeableArray("SecurityKeyServices", EndpointDescription.class, (obj==null)?null:obj.getSecurityKeyServices());
-    				encoder.putEncodeableArray("DataSetReaderProperties", KeyValuePair.class, (obj==null)?null:obj.getDataSetReaderProperties());
-    				encoder.putExtensionObject("TransportSettings",  (obj==null)?null:obj.getTransportSettings() );
-    				encoder.putExtensionObject("MessageSettings",  (obj==null)?null:obj.getMessageSettings() );
-    				encoder.putExtensionObject("SubscribedDataSet",  (obj==null)?null:obj.getSubscribedDataSet() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DataSetReaderDataType result = new DataSetReaderDataType();
-    				result.setName( decoder.getString("Name") );
-    				result.setEnabled( decoder.getBoolean("Enabled") );
-    				result.setPublisherId( decoder.getVariant("PublisherId") );
-    				result.setWriterGroupId( decoder.getUInt16("WriterGroupId") );
-    				result.setDataSetWriterId( decoder.getUInt16("DataSetWriterId") );
-    				result.setDataSetMetaData( decoder.getEncodeable("DataSetMetaData", DataSetMetaDataType.class) );
-    				result.setDataSetFieldContentMask( decoder.getUInt32("DataSetFieldContentMask") );
-    				result.setMessageReceiveTimeout( decoder.getDouble("MessageReceiveTimeout") );
-    				result.setKeyFrameCount( decoder.getUInt32("KeyFrameCount") );
-    				result.setHeaderLayoutUri( decoder.getString("HeaderLayoutUri") );
-    				result.setSecurityMode( decoder.getEnumeration("SecurityMode", MessageSecurityMode.class) );
-    				result.setSecurityGroupId( decoder.getString("SecurityGroupId") );
-    				result.setSecurityKeyServices( decoder.getEncodeableArray("SecurityKeyServices", EndpointDescription.class) );
-    				result.setDataSetReaderProperties( decoder.getEncodeableArray("DataSetReaderProperties", KeyValuePair.class) );
-    				result.setTransportSettings( decoder.getExtensionObject("TransportSettings") );
-    				result.setMessageSettings( decoder.getExtensionObject("MessageSettings") );
-    				result.setSubscribedDataSet( decoder.getExtensionObject("SubscribedDataSet") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DataSetReaderDataType", new ExpandedNodeId(Identifiers.DataSetReaderDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DataSetReaderDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DataSetReaderDataType));
     	// DataSetReaderTransportDataType
-    	addSerializer(
-    		new AbstractSerializer(DataSetReaderTransportDataType.class, DataSetReaderTransportDataType.BINARY, DataSetReaderTransportDataType.XML, DataSetReaderTransportDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DataSetReaderTransportDataType result = new DataSetReaderTransportDataType();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DataSetReaderTransportDataType", new ExpandedNodeId(Identifiers.DataSetReaderTransportDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DataSetReaderTransportDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DataSetReaderTransportDataType));
     	// DataSetReaderMessageDataType
-    	addSerializer(
-    		new AbstractSerializer(DataSetReaderMessageDataType.class, DataSetReaderMessageDataType.BINARY, DataSetReaderMessageDataType.XML, DataSetReaderMessageDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DataSetReaderMessageDataType result = new DataSetReaderMessageDataType();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DataSetReaderMessageDataType", new ExpandedNodeId(Identifiers.DataSetReaderMessageDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DataSetReaderMessageDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DataSetReaderMessageDataType));
     	// SubscribedDataSetDataType
-    	addSerializer(
-    		new AbstractSerializer(SubscribedDataSetDataType.class, SubscribedDataSetDataType.BINARY, SubscribedDataSetDataType.XML, SubscribedDataSetDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SubscribedDataSetDataType result = new SubscribedDataSetDataType();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SubscribedDataSetDataType", new ExpandedNodeId(Identifiers.SubscribedDataSetDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SubscribedDataSetDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SubscribedDataSetDataType));
     	// TargetVariablesDataType
-    	addSerializer(
-    		new AbstractSerializer(TargetVariablesDataType.class, TargetVariablesDataType.BINARY, TargetVariablesDataType.XML, TargetVariablesDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				TargetVariablesDataType obj = (TargetVariablesDataType) encodeable;
-    				calculator.putEncodeableArray(null, FieldTargetDataType.class, (obj==null)?null:obj.getTargetVariables());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				TargetVariablesDataType obj = (TargetVariablesDataType) encodeable;
-    				encoder.putEncodeableArray("TargetVariables", FieldTargetDataType.class, (obj==null)?null:obj.getTargetVariables());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				TargetVariablesDataType result = new TargetVariablesDataType();
-    				result.setTargetVariables( decoder.getEncodeableArray("TargetVariables", FieldTargetDataType.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.TargetVariablesDataType", new ExpandedNodeId(Identifiers.TargetVariablesDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.TargetVariablesDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.TargetVariablesDataType));
     	// FieldTargetDataType
-    	addSerializer(
-    		new AbstractSerializer(FieldTargetDataType.class, FieldTargetDataType.BINARY, FieldTargetDataType.XML, FieldTargetDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				FieldTargetDataType obj = (FieldTargetDataType) encodeable;
-    				calculator.putGuid(null,  (obj==null)?null:obj.getDataSetFieldId() );
-    				calculator.putString(null,  (obj==null)?null:obj.getReceiverIndexRange() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getTargetNodeId() );
-    				calculator.putUInt32(null, null /*obj.getAttributeId()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getWriteIndexRange() );
-    				calculator.putEnumeration(null, null /*obj.getOverrideValueHandling()*/);
-    				calculator.putVariant(null,  (obj==null)?null:obj.getOverrideValue() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				FieldTargetDataType obj = (FieldTargetDataType) encodeable;
-    				encoder.putGuid("DataSetFieldId",  (obj==null)?null:obj.getDataSetFieldId() );
-    				encoder.putString("ReceiverIndexRange",  (obj==null)?null:obj.getReceiverIndexRange() );
-    				encoder.putNodeId("TargetNodeId",  (obj==null)?null:obj.getTargetNodeId() );
-    				encoder.putUInt32("AttributeId",  (obj==null)?null:obj.getAttributeId() );
-    				encoder.putString("WriteIndexRange",  (obj==null)?null:obj.getWriteIndexRange() );
-    				encoder.putEnumeration("OverrideValueHandling",  (obj==null)?null:obj.getOverrideValueHandling() );
-    				encoder.putVariant("OverrideValue",  (obj==null)?null:obj.getOverrideValue() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				FieldTargetDataType result = new FieldTargetDataType();
-    				result.setDataSetFieldId( decoder.getGuid("DataSetFieldId") );
-    				result.setReceiverIndexRange( decoder.getString("ReceiverIndexRange") );
-    				result.setTargetNodeId( decoder.getNodeId("TargetNodeId") );
-    				result.setAttributeId( decoder.getUInt32("AttributeId") );
-    				result.setWriteIndexRange( decoder.getString("WriteIndexRange") );
-    				result.setOverrideValueHandling( decoder.getEnumeration("OverrideValueHandling", OverrideValueHandling.class) );
-    				result.setOverrideValue( decoder.getVariant("OverrideValue") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.FieldTargetDataType", new ExpandedNodeId(Identifiers.FieldTargetDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.FieldTargetDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.FieldTargetDataType));
     	// SubscribedDataSetMirrorDataType
-    	addSerializer(
-    		new AbstractSerializer(SubscribedDataSetMirrorDataType.class, SubscribedDataSetMirrorDataType.BINARY, SubscribedDataSetMirrorDataType.XML, SubscribedDataSetMirrorDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SubscribedDataSetMirrorDataType obj = (SubscribedDataSetMirrorDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getParentNodeName() );
-    				calculator.putEncodeableArray(null, RolePermissionType.class, (obj==null)?null:obj.getRolePermissions());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SubscribedDataSetMirrorDataType obj = (SubscribedDataSetMirrorDataType) encodeable;
-    				encoder.putString("ParentNodeName",  (obj==null)?null:obj.getParentNodeName() );
-    				encoder.putEncodeableArray("RolePermissions", RolePermissionType.class, (obj==null)?null:obj.getRolePermissions());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SubscribedDataSetMirrorDataType result = new SubscribedDataSetMirrorDataType();
-    				result.setParentNodeName( decoder.getString("ParentNodeName") );
-    				result.setRolePermissions( decoder.getEncodeableArray("RolePermissions", RolePermissionType.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SubscribedDataSetMirrorDataType", new ExpandedNodeId(Identifiers.SubscribedDataSetMirrorDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SubscribedDataSetMirrorDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SubscribedDataSetMirrorDataType));
     	// PubSubConfigurationDataType
-    	addSerializer(
-    		new AbstractSerializer(PubSubConfigurationDataType.class, PubSubConfigurationDataType.BINARY, PubSubConfigurationDataType.XML, PubSubConfigurationDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				PubSubConfigurationDataType obj = (PubSubConfigurationDataType) encodeable;
-    				calculator.putEncodeableArray(null, PublishedDataSetDataType.class, (obj==null)?null:obj.getPublishedDataSets());
-    				calculator.putEncodeableArray(null, PubSubConnectionDataType.class, (obj==null)?null:obj.getConnections());
-    				calculator.putBoolean(null, null /*obj.getEnabled()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				PubSubConfigurationDataType obj = (PubSubConfigurationDataType) encodeable;
-    				encoder.putEncodeableArray("PublishedDataSets", PublishedDataSetDataType.class, (obj==null)?null:obj.getPublishedDataSets());
-    				encoder.putEncodeableArray("Connections", PubSubConnectionDataType.class, (obj==null)?null:obj.getConnections());
-    				encoder.putBoolean("Enabled",  (obj==null)?null:obj.getEnabled() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				PubSubConfigurationDataType result = new PubSubConfigurationDataType();
-    				result.setPublishedDataSets( decoder.getEncodeableArray("PublishedDataSets", PublishedDataSetDataType.class) );
-    				result.setConnections( decoder.getEncodeableArray("Connections", PubSubConnectionDataType.class) );
-    				result.setEnabled( decoder.getBoolean("Enabled") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.PubSubConfigurationDataType", new ExpandedNodeId(Identifiers.PubSubConfigurationDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.PubSubConfigurationDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.PubSubConfigurationDataType));
     	// UadpWriterGroupMessageDataType
-    	addSerializer(
-    		new AbstractSerializer(UadpWriterGroupMessageDataType.class, UadpWriterGroupMessageDataType.BINARY, UadpWriterGroupMessageDataType.XML, UadpWriterGroupMessageDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				UadpWriterGroupMessageDataType obj = (UadpWriterGroupMessageDataType) encodeable;
-    				calculator.putUInt32(null, null /*obj.getGroupVersion()*/);
-    				calculator.putEnumeration(null, null /*obj.getDataSetOrdering()*/);
-    				calculator.putUInt32(null, null /*obj.getNetworkMessageContentMask()*/);
-    				calculator.putDouble(null, null /*obj.getSamplingOffset()*/);
-    				calculator.putDoubleArray(null, ((obj==null)?null:obj.getPublishingOffset()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				UadpWriterGroupMessageDataType obj = (UadpWriterGroupMessageDataType) encodeable;
-    				encoder.putUInt32("GroupVersion",  (obj==null)?null:obj.getGroupVersion() );
-    				encoder.putEnumeration("DataSetOrdering",  (obj==null)?null:obj.getDataSetOrdering() );
-    				encoder.putUInt32("NetworkMessageContentMask",  (obj==null)?null:obj.getNetworkMessageContentMask() );
-    				encoder.putDouble("SamplingOffset",  (obj==null)?null:obj.getSamplingOffset() );
-    				encoder.putDoubleArray("PublishingOffset", (obj==null)?null:obj.getPublishingOffset() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				UadpWriterGroupMessageDataType result = new UadpWriterGroupMessageDataType();
-    				result.setGroupVersion( decoder.getUInt32("GroupVersion") );
-    				result.setDataSetOrdering( decoder.getEnumeration("DataSetOrdering", DataSetOrderingType.class) );
-    				result.setNetworkMessageContentMask( decoder.getUInt32("NetworkMessageContentMask") );
-    				result.setSamplingOffset( decoder.getDouble("SamplingOffset") );
-    				result.setPublishingOffset( decoder.getDoubleArray("PublishingOffset") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.UadpWriterGroupMessageDataType", new ExpandedNodeId(Identifiers.UadpWriterGroupMessageDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.UadpWriterGroupMessageDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.UadpWriterGroupMessageDataType));
     	// UadpDataSetWriterMessageDataType
-    	addSerializer(
-    		new AbstractSerializer(UadpDataSetWriterMessageDataType.class, UadpDataSetWriterMessageDataType.BINARY, UadpDataSetWriterMessageDataType.XML, UadpDataSetWriterMessageDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				UadpDataSetWriterMessageDataType obj = (UadpDataSetWriterMessageDataType) encodeable;
-    				calculator.putUInt32(null, null /*obj.getDataSetMessageContentMask()*/);
-    				calculator.putUInt16(null, null /*obj.getConfiguredSize()*/);
-    				calculator.putUInt16(null, null /*obj.getNetworkMessageNumber()*/);
-    				calculator.putUInt16(null, null /*obj.getDataSetOffset()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				UadpDataSetWriterMessageDataType obj = (UadpDataSetWriterMessageDataType) encodeable;
-    				encoder.putUInt32("DataSetMessageContentMask",  (obj==null)?null:obj.getDataSetMessageContentMask() );
-    				encoder.putUInt16("ConfiguredSize",  (obj==null)?null:obj.getConfiguredSize() );
-    				encoder.putUInt16("NetworkMessageNumber",  (obj==null)?null:obj.getNetworkMessageNumber() );
-    				encoder.putUInt16("DataSetOffset",  (obj==null)?null:obj.getDataSetOffset() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				UadpDataSetWriterMessageDataType result = new UadpDataSetWriterMessageDataType();
-    				result.setDataSetMessageContentMask( decoder.getUInt32("DataSetMessageContentMask") );
-    				result.setConfiguredSize( decoder.getUInt16("ConfiguredSize") );
-    				result.setNetworkMessageNumber( decoder.getUInt16("NetworkMessageNumber") );
-    				result.setDataSetOffset( decoder.getUInt16("DataSetOffset") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.UadpDataSetWriterMessageDataType", new ExpandedNodeId(Identifiers.UadpDataSetWriterMessageDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.UadpDataSetWriterMessageDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.UadpDataSetWriterMessageDataType));
     	// UadpDataSetReaderMessageDataType
-    	addSerializer(
-    		new AbstractSerializer(UadpDataSetReaderMessageDataType.class, UadpDataSetReaderMessageDataType.BINARY, UadpDataSetReaderMessageDataType.XML, UadpDataSetReaderMessageDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				UadpDataSetReaderMessageDataType obj = (UadpDataSetReaderMessageDataType) encodeable;
-    				calculator.putUInt32(null, null /*obj.getGroupVersion()*/);
-    				calculator.putUInt16(null, null /*obj.getNetworkMessageNumber()*/);
-    				calculator.putUInt16(null, null /*obj.getDataSetOffset()*/);
-    				calculator.putGuid(null,  (obj==null)?null:obj.getDataSetClassId() );
-    				calculator.putUInt32(null, null /*obj.getNetworkMessageContentMask()*/);
-    				calculator.putUInt32(null, null /*obj.getDataSetMessageContentMask()*/);
-    				calculator.putDouble(null, null /*obj.getPublishingInterval()*/);
-    				calculator.putDouble(null, null /*obj.getReceiveOffset()*/);
-    				calculator.putDouble(null, null /*obj.getProcessingOffset()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				UadpDataSetReaderMessageDataType obj = (UadpDataSetReaderMessageDataType) encodeable;
-    				encoder.putUInt32("GroupVersion",  (obj==null)?null:obj.getGroupVersion() );
-    				encoder.putUInt16("NetworkMessageNumber",  (obj==null)?null:obj.getNetworkMessageNumber() );
-    				encoder.putUInt16("DataSetOffset",  (obj==null)?null:obj.getDataSetOffset() );
-    				encoder.putGuid("DataSetClassId",  (obj==null)?null:obj.getDataSetClassId() );
-    				encoder.putUInt32("NetworkMessageContentMask",  (obj==null)?null:obj.getNetworkMessageContentMask() );
-    				encoder.putUInt32("DataSetMessageContentMask",  (obj==null)?null:obj.getDataSetMessageContentMask() );
-    				encoder.putDouble("PublishingInterval",  (obj==null)?null:obj.getPublishingInterval() );
-    				encoder.putDouble("ReceiveOffset",  (obj==null)?null:obj.getReceiveOffset() );
-    				encoder.putDouble("ProcessingOffset",  (obj==null)?null:obj.getProcessingOffset() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				UadpDataSetReaderMessageDataType result = new UadpDataSetReaderMessageDataType();
-    				result.setGroupVersion( decoder.getUInt32("GroupVersion") );
-    				result.setNetworkMessageNumber( decoder.getUInt16("NetworkMessageNumber") );
-    				result.setDataSetOffset( decoder.getUInt16("DataSetOffset") );
-    				result.setDataSetClassId( decoder.getGuid("DataSetClassId") );
-    				result.setNetworkMessageContentMask( decoder.getUInt32("NetworkMessageContentMask") );
-    				result.setDataSetMessageContentMask( decoder.getUInt32("DataSetMessageContentMask") );
-    				result.setPublishingInterval( decoder.getDouble("PublishingInterval") );
-    				result.setReceiveOffset( decoder.getDouble("ReceiveOffset") );
-    				result.setProcessingOffset( decoder.getDouble("ProcessingOffset") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.UadpDataSetReaderMessageDataType", new ExpandedNodeId(Identifiers.UadpDataSetReaderMessageDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.UadpDataSetReaderMessageDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.UadpDataSetReaderMessageDataType));
     	// JsonWriterGroupMessageDataType
-    	addSerializer(
-    		new AbstractSerializer(JsonWriterGroupMessageDataType.class, JsonWriterGroupMessageDataType.BINARY, JsonWriterGroupMessageDataType.XML, JsonWriterGroupMessageDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				JsonWriterGroupMessageDataType obj = (JsonWriterGroupMessageDataType) encodeable;
-    				calculator.putUInt32(null, null /*obj.getNetworkMessageContentMask()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				JsonWriterGroupMessageDataType obj = (JsonWriterGroupMessageDataType) encodeable;
-    				encoder.putUInt32("NetworkMessageContentMask",  (obj==null)?null:obj.getNetworkMessageContentMask() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				JsonWriterGroupMessageDataType result = new JsonWriterGroupMessageDataType();
-    				result.setNetworkMessageContentMask( decoder.getUInt32("NetworkMessageContentMask") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.JsonWriterGroupMessageDataType", new ExpandedNodeId(Identifiers.JsonWriterGroupMessageDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.JsonWriterGroupMessageDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.JsonWriterGroupMessageDataType));
     	// JsonDataSetWriterMessageDataType
-    	addSerializer(
-    		new AbstractSerializer(JsonDataSetWriterMessageDataType.class, JsonDataSetWriterMessageDataType.BINARY, JsonDataSetWriterMessageDataType.XML, JsonDataSetWriterMessageDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				JsonDataSetWriterMessageDataType obj = (JsonDataSetWriterMessageDataType) encodeable;
-    				calculator.putUInt32(null, null /*obj.getNetworkMessageContentMask()*/);
-    				calculator.putUInt32(null, null /*obj.getDataSetMessageContentMask()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				JsonDataSetWriterMessageDataType obj = (JsonDataSetWriterMessageDataType) encodeable;
-    				encoder.putUInt32("NetworkMessageContentMask",  (obj==null)?null:obj.getNetworkMessageContentMask() );
-    				encoder.putUInt32("DataSetMessageContentMask",  (obj==null)?null:obj.getDataSetMessageContentMask() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				JsonDataSetWriterMessageDataType result = new JsonDataSetWriterMessageDataType();
-    				result.setNetworkMessageContentMask( decoder.getUInt32("NetworkMessageContentMask") );
-    				result.setDataSetMessageContentMask( decoder.getUInt32("DataSetMessageContentMask") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.JsonDataSetWriterMessageDataType", new ExpandedNodeId(Identifiers.JsonDataSetWriterMessageDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.JsonDataSetWriterMessageDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.JsonDataSetWriterMessageDataType));
     	// JsonDataSetReaderMessageDataType
-    	addSerializer(
-    		new AbstractSerializer(JsonDataSetReaderMessageDataType.class, JsonDataSetReaderMessageDataType.BINARY, JsonDataSetReaderMessageDataType.XML, JsonDataSetReaderMessageDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				JsonDataSetReaderMessageDataType obj = (JsonDataSetReaderMessageDataType) encodeable;
-    				calculator.putUInt32(null, null /*obj.getNetworkMessageContentMask()*/);
-    				calculator.putUInt32(null, null /*obj.getDataSetMessageContentMask()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				JsonDataSetReaderMessageDataType obj = (JsonDataSetReaderMessageDataType) encodeable;
-    				encoder.putUInt32("NetworkMessageContentMask",  (obj==null)?null:obj.getNetworkMessageContentMask() );
-    				encoder.putUInt32("DataSetMessageContentMask",  (obj==null)?null:obj.getDataSetMessageContentMask() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				JsonDataSetReaderMessageDataType result = new JsonDataSetReaderMessageDataType();
-    				result.setNetworkMessageContentMask( decoder.getUInt32("NetworkMessageContentMask") );
-    				result.setDataSetMessageContentMask( decoder.getUInt32("DataSetMessageContentMask") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.JsonDataSetReaderMessageDataType", new ExpandedNodeId(Identifiers.JsonDataSetReaderMessageDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.JsonDataSetReaderMessageDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.JsonDataSetReaderMessageDataType));
     	// DatagramConnectionTransportDataType
-    	addSerializer(
-    		new AbstractSerializer(DatagramConnectionTransportDataType.class, DatagramConnectionTransportDataType.BINARY, DatagramConnectionTransportDataType.XML, DatagramConnectionTransportDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DatagramConnectionTransportDataType obj = (DatagramConnectionTransportDataType) encodeable;
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getDiscoveryAddress() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DatagramConnectionTransportDataType obj = (DatagramConnectionTransportDataType) encodeable;
-    				encoder.putExtensionObject("DiscoveryAddress",  (obj==null)?null:obj.getDiscoveryAddress() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DatagramConnectionTransportDataType result = new DatagramConnectionTransportDataType();
-    				result.setDiscoveryAddress( decoder.getExtensionObject("DiscoveryAddress") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DatagramConnectionTransportDataType", new ExpandedNodeId(Identifiers.DatagramConnectionTransportDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DatagramConnectionTransportDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DatagramConnectionTransportDataType));
     	// DatagramWriterGroupTransportDataType
-    	addSerializer(
-    		new AbstractSerializer(DatagramWriterGroupTransportDataType.class, DatagramWriterGroupTransportDataType.BINARY, DatagramWriterGroupTransportDataType.XML, DatagramWriterGroupTransportDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DatagramWriterGroupTransportDataType obj = (DatagramWriterGroupTransportDataType) encodeable;
-    				calculator.putByte(null, null /*obj.getMessageRepeatCount()*/);
-    				calculator.putDouble(null, null /*obj.getMessageRepeatDelay()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DatagramWriterGroupTransportDataType obj = (DatagramWriterGroupTransportDataType) encodeable;
-    				encoder.putByte("MessageRepeatCount",  (obj==null)?null:obj.getMessageRepeatCount() );
-    				encoder.putDouble("MessageRepeatDelay",  (obj==null)?null:obj.getMessageRepeatDelay() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DatagramWriterGroupTransportDataType result = new DatagramWriterGroupTransportDataType();
-    				result.setMessageRepeatCount( decoder.getByte("MessageRepeatCount") );
-    				result.setMessageRepeatDelay( decoder.getDouble("MessageRepeatDelay") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DatagramWriterGroupTransportDataType", new ExpandedNodeId(Identifiers.DatagramWriterGroupTransportDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DatagramWriterGroupTransportDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DatagramWriterGroupTransportDataType));
     	// BrokerConnectionTransportDataType
-    	addSerializer(
-    		new AbstractSerializer(BrokerConnectionTransportDataType.class, BrokerConnectionTransportDataType.BINARY, BrokerConnectionTransportDataType.XML, BrokerConnectionTransportDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BrokerConnectionTransportDataType obj = (BrokerConnectionTransportDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getResourceUri() );
-    				calculator.putString(null,  (obj==null)?null:obj.getAuthenticationProfileUri() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BrokerConnectionTransportDataType obj = (BrokerConnectionTransportDataType) encodeable;
-    				encoder.putString("ResourceUri",  (obj==null)?null:obj.getResourceUri() );
-    				encoder.putString("AuthenticationProfileUri",  (obj==null)?null:obj.getAuthenticationProfileUri() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BrokerConnectionTransportDataType result = new BrokerConnectionTransportDataType();
-    				result.setResourceUri( decoder.getString("ResourceUri") );
-    				result.setAuthenticationProfileUri( decoder.getString("AuthenticationProfileUri") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BrokerConnectionTransportDataType", new ExpandedNodeId(Identifiers.BrokerConnectionTransportDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BrokerConnectionTransportDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BrokerConnectionTransportDataType));
     	// BrokerWriterGroupTransportDataType
-    	addSerializer(
-    		new AbstractSerializer(BrokerWriterGroupTransportDataType.class, BrokerWriterGroupTransportDataType.BINARY, BrokerWriterGroupTransportDataType.XML, BrokerWriterGroupTransportDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BrokerWriterGroupTransportDataType obj = (BrokerWriterGroupTransportDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getQueueName() );
-    				calculator.putString(null,  (obj==null)?null:obj.getResourceUri() );
-    				calculator.putString(null,  (obj==null)?null:obj.getAuthenticationProfileUri() );
-    				calculator.putEnumeration(null, null /*obj.getRequestedDeliveryGuarantee()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BrokerWriterGroupTransportDataType obj = (BrokerWriterGroupTransportDataType) encodeable;
-    				encoder.putString("QueueName",  (obj==null)?null:obj.getQueueName() );
-    				encoder.putString("ResourceUri",  (obj==null)?null:obj.getResourceUri() );
-    				encoder.putString("AuthenticationProfileUri",  (obj==null)?null:obj.getAuthenticationProfileUri() );
-    				encoder.putEnumeration("RequestedDeliveryGuarantee",  (obj==null)?null:obj.getRequestedDeliveryGuarantee() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BrokerWriterGroupTransportDataType result = new BrokerWriterGroupTransportDataType();
-    				result.setQueueName( decoder.getString("QueueName") );
-    				result.setResourceUri( decoder.getString("ResourceUri") );
-    				result.setAuthenticationProfileUri( decoder.getString("AuthenticationProfileUri") );
-    				result.setRequestedDeliveryGuarantee( decoder.getEnumeration("RequestedDeliveryGuarantee", BrokerTransportQualityOfService.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BrokerWriterGroupTransportDataType", new ExpandedNodeId(Identifiers.BrokerWriterGroupTransportDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BrokerWriterGroupTransportDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BrokerWriterGroupTransportDataType));
     	// BrokerDataSetWriterTransportDataType
-    	addSerializer(
-    		new AbstractSerializer(BrokerDataSetWriterTransportDataType.class, BrokerDataSetWriterTransportDataType.BINARY, BrokerDataSetWriterTransportDataType.XML, BrokerDataSetWriterTransportDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BrokerDataSetWriterTransportDataType obj = (BrokerDataSetWriterTransportDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getQueueName() );
-    				calculator.putString(null,  (obj==null)?null:obj.getResourceUri() );
-    				calculator.putString(null,  (obj==null)?null:obj.getAuthenticationProfileUri() );
-    				calculator.putEnumeration(null, null /*obj.getRequestedDeliveryGuarantee()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getMetaDataQueueName() );
-    				calculator.putDouble(null, null /*obj.getMetaDataUpdateTime()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BrokerDataSetWriterTransportDataType obj = (BrokerDataSetWriterTransportDataType) encodeable;
-    				encoder.putString("QueueName",  (obj==null)?null:obj.getQueueName() );
-    				encoder.putString("ResourceUri",  (obj==null)?null:obj.getResourceUri() );
-    				encoder.putString("AuthenticationProfileUri",  (obj==null)?null:obj.getAuthenticationProfileUri() );
-    				encoder.putEnumeration("RequestedDeliveryGuarantee",  (obj==null)?null:obj.getRequestedDeliveryGuarantee() );
-    				encoder.putString("MetaDataQueueName",  (obj==null)?null:obj.getMetaDataQueueName() );
-    				encoder.putDouble("MetaDataUpdateTime",  (obj==null)?null:obj.getMetaDataUpdateTime() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BrokerDataSetWriterTransportDataType result = new BrokerDataSetWriterTransportDataType();
-    				result.setQueueName( decoder.getString("QueueName") );
-    				result.setResourceUri( decoder.getString("ResourceUri") );
-    				result.setAuthenticationProfileUri( decoder.getString("AuthenticationProfileUri") );
-    				result.setRequestedDeliveryGuarantee( decoder.getEnumeration("RequestedDeliveryGuarantee", BrokerTransportQualityOfService.class) );
-    				result.setMetaDataQueueName( decoder.getString("MetaDataQueueName") );
-    				result.setMetaDataUpdateTime( decoder.getDouble("MetaDataUpdateTime") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BrokerDataSetWriterTransportDataType", new ExpandedNodeId(Identifiers.BrokerDataSetWriterTransportDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BrokerDataSetWriterTransportDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BrokerDataSetWriterTransportDataType));
     	// BrokerDataSetReaderTransportDataType
-    	addSerializer(
-    		new AbstractSerializer(BrokerDataSetReaderTransportDataType.class, BrokerDataSetReaderTransportDataType.BINARY, BrokerDataSetReaderTransportDataType.XML, BrokerDataSetReaderTransportDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BrokerDataSetReaderTransportDataType obj = (BrokerDataSetReaderTransportDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getQueueName() );
-    				calculator.putString(null,  (obj==null)?null:obj.getResourceUri() );
-    				calculator.putString(null,  (obj==null)?null:obj.getAuthenticationProfileUri() );
-    				calculator.putEnumeration(null, null /*obj.getRequestedDeliveryGuarantee()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getMetaDataQueueName() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BrokerDataSetReaderTransportDataType obj = (BrokerDataSetReaderTransportDataType) encodeable;
-    				encoder.putString("QueueName",  (obj==null)?null:obj.getQueueName() );
-    				encoder.putString("ResourceUri",  (obj==null)?null:obj.getResourceUri() );
-    				encoder.putString("AuthenticationProfileUri",  (obj==null)?null:obj.getAuthenticationProfileUri() );
-    				encoder.putEnumeration("RequestedDeliveryGuarantee",  (obj==null)?null:obj.getRequestedDeliveryGuarantee() );
-    				encoder.putString("MetaDataQueueName",  (obj==null)?null:obj.getMetaDataQueueName() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BrokerDataSetReaderTransportDataType result = new BrokerDataSetReaderTransportDataType();
-    				result.setQueueName( decoder.getString("QueueName") );
-    				result.setResourceUri( decoder.getString("ResourceUri") );
-    				result.setAuthenticationProfileUri( decoder.getString("AuthenticationProfileUri") );
-    				result.setRequestedDeliveryGuarantee( decoder.getEnumeration("RequestedDeliveryGuarantee", BrokerTransportQualityOfService.class) );
-    				result.setMetaDataQueueName( decoder.getString("MetaDataQueueName") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BrokerDataSetReaderTransportDataType", new ExpandedNodeId(Identifiers.BrokerDataSetReaderTransportDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BrokerDataSetReaderTransportDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BrokerDataSetReaderTransportDataType));
     	// RolePermissionType
-    	addSerializer(
-    		new AbstractSerializer(RolePermissionType.class, RolePermissionType.BINARY, RolePermissionType.XML, RolePermissionType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RolePermissionType obj = (RolePermissionType) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getRoleId() );
-    				calculator.putUInt32(null, null /*obj.getPermissions()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RolePermissionType obj = (RolePermissionType) encodeable;
-    				encoder.putNodeId("RoleId",  (obj==null)?null:obj.getRoleId() );
-    				encoder.putUInt32("Permissions",  (obj==null)?null:obj.getPermissions() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RolePermissionType result = new RolePermissionType();
-    				result.setRoleId( decoder.getNodeId("RoleId") );
-    				result.setPermissions( decoder.getUInt32("Permissions") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RolePermissionType", new ExpandedNodeId(Identifiers.RolePermissionType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RolePermissionType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RolePermissionType));
     	// DataTypeDefinition
-    	addSerializer(
-    		new AbstractSerializer(DataTypeDefinition.class, DataTypeDefinition.BINARY, DataTypeDefinition.XML, DataTypeDefinition.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DataTypeDefinition result = new DataTypeDefinition();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DataTypeDefinition", new ExpandedNodeId(Identifiers.DataTypeDefinition_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DataTypeDefinition_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DataTypeDefinition));
     	// StructureField
-    	addSerializer(
-    		new AbstractSerializer(StructureField.class, StructureField.BINARY, StructureField.XML, StructureField.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				StructureField obj = (StructureField) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getDataType() );
-    				calculator.putInt32(null, null /*obj.getValueRank()*/);
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getArrayDimensions()) );
-    				calculator.putUInt32(null, null /*obj.getMaxStringLength()*/);
-    				calculator.putBoolean(null, null /*obj.getIsOptional()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				StructureField obj = (StructureField) encodeable;
-    				encoder.putString("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putNodeId("DataType",  (obj==null)?null:obj.getDataType() );
-    				encoder.putInt32("ValueRank",  (obj==null)?null:obj.getValueRank() );
-    				encoder.putUInt32Array("ArrayDimensions", (obj==null)?null:obj.getArrayDimensions() );
-    				encoder.putUInt32("MaxStringLength",  (obj==null)?null:obj.getMaxStringLength() );
-    				encoder.putBoolean("IsOptional",  (obj==null)?null:obj.getIsOptional() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				StructureField result = new StructureField();
-    				result.setName( decoder.getString("Name") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setDataType( decoder.getNodeId("DataType") );
-    				result.setValueRank( decoder.getInt32("ValueRank") );
-    				result.setArrayDimensions( decoder.getUInt32Array("ArrayDimensions") );
-    				result.setMaxStringLength( decoder.getUInt32("MaxStringLength") );
-    				result.setIsOptional( decoder.getBoolean("IsOptional") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.StructureField", new ExpandedNodeId(Identifiers.StructureField_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.StructureField_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.StructureField));
     	// StructureDefinition
-    	addSerializer(
-    		new AbstractSerializer(StructureDefinition.class, StructureDefinition.BINARY, StructureDefinition.XML, StructureDefinition.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				StructureDefinition obj = (StructureDefinition) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getDefaultEncodingId() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getBaseDataType() );
-    				calculator.putEnumeration(null, null /*obj.getStructureType()*/);
-    				calculator.putEncodeableArray(null, StructureField.class, (obj==null)?null:obj.getFields());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				StructureDefinition obj = (StructureDefinition) encodeable;
-    				encoder.putNodeId("DefaultEncodingId",  (obj==null)?null:obj.getDefaultEncodingId() );
-    				encoder.putNodeId("BaseDataType",  (obj==null)?null:obj.getBaseDataType() );
-    				encoder.putEnumeration("StructureType",  (obj==null)?null:obj.getStructureType() );
-    				encoder.putEncodeableArray("Fields", StructureField.class, (obj==null)?null:obj.getFields());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				StructureDefinition result = new StructureDefinition();
-    				result.setDefaultEncodingId( decoder.getNodeId("DefaultEncodingId") );
-    				result.setBaseDataType( decoder.getNodeId("BaseDataType") );
-    				result.setStructureType( decoder.getEnumeration("StructureType", StructureType.class) );
-    				result.setFields( decoder.getEncodeableArray("Fields", StructureField.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.StructureDefinition", new ExpandedNodeId(Identifiers.StructureDefinition_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.StructureDefinition_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.StructureDefinition));
     	// EnumDefinition
-    	addSerializer(
-    		new AbstractSerializer(EnumDefinition.class, EnumDefinition.BINARY, EnumDefinition.XML, EnumDefinition.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				EnumDefinition obj = (EnumDefinition) encodeable;
-    				calculator.putEncodeableArray(null, EnumField.class, (obj==null)?null:obj.getFields());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				EnumDefinition obj = (EnumDefinition) encodeable;
-    				encoder.putEncodeableArray("Fields", EnumField.class, (obj==null)?null:obj.getFields());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				EnumDefinition result = new EnumDefinition();
-    				result.setFields( decoder.getEncodeableArray("Fields", EnumField.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.EnumDefinition", new ExpandedNodeId(Identifiers.EnumDefinition_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.EnumDefinition_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.EnumDefinition));
     	// ReferenceNode
-    	addSerializer(
-    		new AbstractSerializer(ReferenceNode.class, ReferenceNode.BINARY, ReferenceNode.XML, ReferenceNode.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ReferenceNode obj = (ReferenceNode) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getReferenceTypeId() );
-    				calculator.putBoolean(null, null /*obj.getIsInverse()*/);
-    				calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getTargetId() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ReferenceNode obj = (ReferenceNode) encodeable;
-    				encoder.putNodeId("ReferenceTypeId",  (obj==null)?null:obj.getReferenceTypeId() );
-    				encoder.putBoolean("IsInverse",  (obj==null)?null:obj.getIsInverse() );
-    				encoder.putExpandedNodeId("TargetId",  (obj==null)?null:obj.getTargetId() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ReferenceNode result = new ReferenceNode();
-    				result.setReferenceTypeId( decoder.getNodeId("ReferenceTypeId") );
-    				result.setIsInverse( decoder.getBoolean("IsInverse") );
-    				result.setTargetId( decoder.getExpandedNodeId("TargetId") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ReferenceNode", new ExpandedNodeId(Identifiers.ReferenceNode_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ReferenceNode_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ReferenceNode));
     	// Argument
-    	addSerializer(
-    		new AbstractSerializer(Argument.class, Argument.BINARY, Argument.XML, Argument.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				Argument obj = (Argument) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getName() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getDataType() );
-    				calculator.putInt32(null, null /*obj.getValueRank()*/);
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getArrayDimensions()) );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				Argument obj = (Argument) encodeable;
-    				encoder.putString("Name",  (obj==null)?null:obj.getName() );
-    				encoder.putNodeId("DataType",  (obj==null)?null:obj.getDataType() );
-    				encoder.putInt32("ValueRank",  (obj==null)?null:obj.getValueRank() );
-    				encoder.putUInt32Array("ArrayDimensions", (obj==null)?null:obj.getArrayDimensions() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				Argument result = new Argument();
-    				result.setName( decoder.getString("Name") );
-    				result.setDataType( decoder.getNodeId("DataType") );
-    				result.setValueRank( decoder.getInt32("ValueRank") );
-    				result.setArrayDimensions( decoder.getUInt32Array("ArrayDimensions") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.Argument", new ExpandedNodeId(Identifiers.Argument_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.Argument_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.Argument));
     	// EnumValueType
-    	addSerializer(
-    		new AbstractSerializer(EnumValueType.class, EnumValueType.BINARY, EnumValueType.XML, EnumValueType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				EnumValueType obj = (EnumValueType) encodeable;
-    				calculator.putInt64(null, null /*obj.getValue()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				EnumValueType obj = (EnumValueType) encodeable;
-    				encoder.putInt64("Value",  (obj==null)?null:obj.getValue() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				EnumValueType result = new EnumValueType();
-    				result.setValue( decoder.getInt64("Value") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.EnumValueType", new ExpandedNodeId(Identifiers.EnumValueType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.EnumValueType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.EnumValueType));
     	// EnumField
-    	addSerializer(
-    		new AbstractSerializer(EnumField.class, EnumField.BINARY, EnumField.XML, EnumField.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				EnumField obj = (EnumField) encodeable;
-    				calculator.putInt64(null, null /*obj.getValue()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putString(null,  (obj==null)?null:obj.getName() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				EnumField obj = (EnumField) encodeable;
-    				encoder.putInt64("Value",  (obj==null)?null:obj.getValue() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putString("Name",  (obj==null)?null:obj.getName() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				EnumField result = new EnumField();
-    				result.setValue( decoder.getInt64("Value") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setName( decoder.getString("Name") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.EnumField", new ExpandedNodeId(Identifiers.EnumField_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.EnumField_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.EnumField));
     	// OptionSet
-    	addSerializer(
-    		new AbstractSerializer(OptionSet.class, OptionSet.BINARY, OptionSet.XML, OptionSet.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				OptionSet obj = (OptionSet) encodeable;
-    				calculator.putByteString(null,  (obj==null)?null:obj.getValue() );
-    				calculator.putByteString(null,  (obj==null)?null:obj.getValidBits() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				OptionSet obj = (OptionSet) encodeable;
-    				encoder.putByteString("Value",  (obj==null)?null:obj.getValue() );
-    				encoder.putByteString("ValidBits",  (obj==null)?null:obj.getValidBits() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				OptionSet result = new OptionSet();
-    				result.setValue( decoder.getByteString("Value") );
-    				result.setValidBits( decoder.getByteString("ValidBits") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.OptionSet", new ExpandedNodeId(Identifiers.OptionSet_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.OptionSet_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.OptionSet));
     	// Union
-    	addSerializer(
-    		new AbstractSerializer(Union.class, Union.BINARY, Union.XML, Union.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				Union result = new Union();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.Union", new ExpandedNodeId(Identifiers.Union_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.Union_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.Union));
     	// TimeZoneDataType
-    	addSerializer(
-    		new AbstractSerializer(TimeZoneDataType.class, TimeZoneDataType.BINARY, TimeZoneDataType.XML, TimeZoneDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				TimeZoneDataType obj = (TimeZoneDataType) encodeable;
-    				calculator.putInt16(null, null /*obj.getOffset()*/);
-    				calculator.putBoolean(null, null /*obj.getDaylightSavingInOffset()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				TimeZoneDataType obj = (TimeZoneDataType) encodeable;
-    				encoder.putInt16("Offset",  (obj==null)?null:obj.getOffset() );
-    				encoder.putBoolean("DaylightSavingInOffset",  (obj==null)?null:obj.getDaylightSavingInOffset() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				TimeZoneDataType result = new TimeZoneDataType();
-    				result.setOffset( decoder.getInt16("Offset") );
-    				result.setDaylightSavingInOffset( decoder.getBoolean("DaylightSavingInOffset") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.TimeZoneDataType", new ExpandedNodeId(Identifiers.TimeZoneDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.TimeZoneDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.TimeZoneDataType));
     	// ApplicationDescription
-    	addSerializer(
-    		new AbstractSerializer(ApplicationDescription.class, ApplicationDescription.BINARY, ApplicationDescription.XML, ApplicationDescription.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ApplicationDescription obj = (ApplicationDescription) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getApplicationUri() );
-    				calculator.putString(null,  (obj==null)?null:obj.getProductUri() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getApplicationName() );
-    				calculator.putEnumeration(null, null /*obj.getApplicationType()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getGatewayServerUri() );
-    				calculator.putString(null,  (obj==null)?null:obj.getDiscoveryProfileUri() );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getDiscoveryUrls()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ApplicationDescription obj = (ApplicationDescription) encodeable;
-    				encoder.putString("ApplicationUri",  (obj==null)?null:obj.getApplicationUri() );
-    				encoder.putString("ProductUri",  (obj==null)?null:obj.getProductUri() );
-    				encoder.putLocalizedText("ApplicationName",  (obj==null)?null:obj.getApplicationName() );
-    				encoder.putEnumeration("ApplicationType",  (obj==null)?null:obj.getApplicationType() );
-    				encoder.putString("GatewayServerUri",  (obj==null)?null:obj.getGatewayServerUri() );
-    				encoder.putString("DiscoveryProfileUri",  (obj==null)?null:obj.getDiscoveryProfileUri() );
-    				encoder.putStringArray("DiscoveryUrls", (obj==null)?null:obj.getDiscoveryUrls() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ApplicationDescription result = new ApplicationDescription();
-    				result.setApplicationUri( decoder.getString("ApplicationUri") );
-    				result.setProductUri( decoder.getString("ProductUri") );
-    				result.setApplicationName( decoder.getLocalizedText("ApplicationName") );
-    				result.setApplicationType( decoder.getEnumeration("ApplicationType", ApplicationType.class) );
-    				result.setGatewayServerUri( decoder.getString("GatewayServerUri") );
-    				result.setDiscoveryProfileUri( decoder.getString("DiscoveryProfileUri") );
-    				result.setDiscoveryUrls( decoder.getStringArray("DiscoveryUrls") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ApplicationDescription", new ExpandedNodeId(Identifiers.ApplicationDescription_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ApplicationDescription_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ApplicationDescription));
     	// RequestHeader
-    	addSerializer(
-    		new AbstractSerializer(RequestHeader.class, RequestHeader.BINARY, RequestHeader.XML, RequestHeader.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RequestHeader obj = (RequestHeader) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getAuthenticationToken() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getTimestamp() );
-    				calculator.putUInt32(null, null /*obj.getRequestHandle()*/);
-    				calculator.putUInt32(null, null /*obj.getReturnDiagnostics()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getAuditEntryId() );
-    				calculator.putUInt32(null, null /*obj.getTimeoutHint()*/);
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getAdditionalHeader() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RequestHeader obj = (RequestHeader) encodeable;
-    				encoder.putNodeId("AuthenticationToken",  (obj==null)?null:obj.getAuthenticationToken() );
-    				encoder.putDateTime("Timestamp",  (obj==null)?null:obj.getTimestamp() );
-    				encoder.putUInt32("RequestHandle",  (obj==null)?null:obj.getRequestHandle() );
-    				encoder.putUInt32("ReturnDiagnostics",  (obj==null)?null:obj.getReturnDiagnostics() );
-    				encoder.putString("AuditEntryId",  (obj==null)?null:obj.getAuditEntryId() );
-    				encoder.putUInt32("TimeoutHint",  (obj==null)?null:obj.getTimeoutHint() );
-    				encoder.putExtensionObject("AdditionalHeader",  (obj==null)?null:obj.getAdditionalHeader() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RequestHeader result = new RequestHeader();
-    				result.setAuthenticationToken( decoder.getNodeId("AuthenticationToken") );
-    				result.setTimestamp( decoder.getDateTime("Timestamp") );
-    				result.setRequestHandle( decoder.getUInt32("RequestHandle") );
-    				result.setReturnDiagnostics( decoder.getUInt32("ReturnDiagnostics") );
-    				result.setAuditEntryId( decoder.getString("AuditEntryId") );
-    				result.setTimeoutHint( decoder.getUInt32("TimeoutHint") );
-    				result.setAdditionalHeader( decoder.getExtensionObject("AdditionalHeader") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RequestHeader", new ExpandedNodeId(Identifiers.RequestHeader_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RequestHeader_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RequestHeader));
     	// ResponseHeader
-    	addSerializer(
-    		new AbstractSerializer(ResponseHeader.class, ResponseHeader.BINARY, ResponseHeader.XML, ResponseHeader.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ResponseHeader obj = (ResponseHeader) encodeable;
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getTimestamp() );
-    				calculator.putUInt32(null, null /*obj.getRequestHandle()*/);
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getServiceResult() );
-    				calculator.putDiagnosticInfo(null,  (obj==null)?null:obj.getServiceDiagnostics() );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getStringTable()) );
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getAdditionalHeader() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ResponseHeader obj = (ResponseHeader) encodeable;
-    				encoder.putDateTime("Timestamp",  (obj==null)?null:obj.getTimestamp() );
-    				encoder.putUInt32("RequestHandle",  (obj==null)?null:obj.getRequestHandle() );
-    				encoder.putStatusCode("ServiceResult",  (obj==null)?null:obj.getServiceResult() );
-    				encoder.putDiagnosticInfo("ServiceDiagnostics",  (obj==null)?null:obj.getServiceDiagnostics() );
-    				encoder.putStringArray("StringTable", (obj==null)?null:obj.getStringTable() );
-    				encoder.putExtensionObject("AdditionalHeader",  (obj==null)?null:obj.getAdditionalHeader() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ResponseHeader result = new ResponseHeader();
-    				result.setTimestamp( decoder.getDateTime("Timestamp") );
-    				result.setRequestHandle( decoder.getUInt32("RequestHandle") );
-    				result.setServiceResult( decoder.getStatusCode("ServiceResult") );
-    				result.setServiceDiagnostics( decoder.getDiagnosticInfo("ServiceDiagnostics") );
-    				result.setStringTable( decoder.getStringArray("StringTable") );
-    				result.setAdditionalHeader( decoder.getExtensionObject("AdditionalHeader") );
-    				DecoderUtils.fixResponseHeader(result);
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ResponseHeader", new ExpandedNodeId(Identifiers.ResponseHeader_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ResponseHeader_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ResponseHeader));
     	// ServiceFault
-    	addSerializer(
-    		new AbstractSerializer(ServiceFault.class, ServiceFault.BINARY, ServiceFault.XML, ServiceFault.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ServiceFault obj = (ServiceFault) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ServiceFault obj = (ServiceFault) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ServiceFault result = new ServiceFault();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ServiceFault", new ExpandedNodeId(Identifiers.ServiceFault_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ServiceFault_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ServiceFault));
     	// SessionlessInvokeRequestType
-    	addSerializer(
-    		new AbstractSerializer(SessionlessInvokeRequestType.class, SessionlessInvokeRequestType.BINARY, SessionlessInvokeRequestType.XML, SessionlessInvokeRequestType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SessionlessInvokeRequestType obj = (SessionlessInvokeRequestType) encodeable;
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getUrisVersion()) );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getNamespaceUris()) );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getServerUris()) );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getLocaleIds()) );
-    				calculator.putUInt32(null, null /*obj.getServiceId()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SessionlessInvokeRequestType obj = (SessionlessInvokeRequestType) encodeable;
-    				encoder.putUInt32Array("UrisVersion", (obj==null)?null:obj.getUrisVersion() );
-    				encoder.putStringArray("NamespaceUris", (obj==null)?null:obj.getNamespaceUris() );
-    				encoder.putStringArray("ServerUris", (obj==null)?null:obj.getServerUris() );
-    				encoder.putStringArray("LocaleIds", (obj==null)?null:obj.getLocaleIds() );
-    				encoder.putUInt32("ServiceId",  (obj==null)?null:obj.getServiceId() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SessionlessInvokeRequestType result = new SessionlessInvokeRequestType();
-    				result.setUrisVersion( decoder.getUInt32Array("UrisVersion") );
-    				result.setNamespaceUris( decoder.getStringArray("NamespaceUris") );
-    				result.setServerUris( decoder.getStringArray("ServerUris") );
-    				result.setLocaleIds( decoder.getStringArray("LocaleIds") );
-    				result.setServiceId( decoder.getUInt32("ServiceId") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SessionlessInvokeRequestType", new ExpandedNodeId(Identifiers.SessionlessInvokeRequestType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SessionlessInvokeRequestType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SessionlessInvokeRequestType));
     	// SessionlessInvokeResponseType
-    	addSerializer(
-    		new AbstractSerializer(SessionlessInvokeResponseType.class, SessionlessInvokeResponseType.BINARY, SessionlessInvokeResponseType.XML, SessionlessInvokeResponseType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SessionlessInvokeResponseType obj = (SessionlessInvokeResponseType) encodeable;
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getNamespaceUris()) );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getServerUris()) );
-    				calculator.putUInt32(null, null /*obj.getServiceId()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SessionlessInvokeResponseType obj = (SessionlessInvokeResponseType) encodeable;
-    				encoder.putStringArray("NamespaceUris", (obj==null)?null:obj.getNamespaceUris() );
-    				encoder.putStringArray("ServerUris", (obj==null)?null:obj.getServerUris() );
-    				encoder.putUInt32("ServiceId",  (obj==null)?null:obj.getServiceId() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SessionlessInvokeResponseType result = new SessionlessInvokeResponseType();
-    				result.setNamespaceUris( decoder.getStringArray("NamespaceUris") );
-    				result.setServerUris( decoder.getStringArray("ServerUris") );
-    				result.setServiceId( decoder.getUInt32("ServiceId") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SessionlessInvokeResponseType", new ExpandedNodeId(Identifiers.SessionlessInvokeResponseType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SessionlessInvokeResponseType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SessionlessInvokeResponseType));
     	// FindServersRequest
-    	addSerializer(
-    		new AbstractSerializer(FindServersRequest.class, FindServersRequest.BINARY, FindServersRequest.XML, FindServersRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				FindServersRequest obj = (FindServersRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putString(null,  (obj==null)?null:obj.getEndpointUrl() );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getLocaleIds()) );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getServerUris()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				FindServersRequest obj = (FindServersRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putString("EndpointUrl",  (obj==null)?null:obj.getEndpointUrl() );
-    				encoder.putStringArray("LocaleIds", (obj==null)?null:obj.getLocaleIds() );
-    				encoder.putStringArray("ServerUris", (obj==null)?null:obj.getServerUris() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				FindServersRequest result = new FindServersRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setEndpointUrl( decoder.getString("EndpointUrl") );
-    				result.setLocaleIds( decoder.getStringArray("LocaleIds") );
-    				result.setServerUris( decoder.getStringArray("ServerUris") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.FindServersRequest", new ExpandedNodeId(Identifiers.FindServersRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.FindServersRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.FindServersRequest));
     	// FindServersResponse
-    	addSerializer(
-    		new AbstractSerializer(FindServersResponse.class, FindServersResponse.BINARY, FindServersResponse.XML, FindServersResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				FindServersResponse obj = (FindServersResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, ApplicationDescription.class, (obj==null)?null:obj.getServers());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				FindServersResponse obj = (FindServersResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("Servers", ApplicationDescription.class, (obj==null)?null:obj.getServers());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				FindServersResponse result = new FindServersResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setServers( decoder.getEncodeableArray("Servers", ApplicationDescription.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.FindServersResponse", new ExpandedNodeId(Identifiers.FindServersResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.FindServersResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.FindServersResponse));
     	// ServerOnNetwork
-    	addSerializer(
-    		new AbstractSerializer(ServerOnNetwork.class, ServerOnNetwork.BINARY, ServerOnNetwork.XML, ServerOnNetwork.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ServerOnNetwork obj = (ServerOnNetwork) encodeable;
-    				calculator.putUInt32(null, null /*obj.getRecordId()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getServerName() );
-    				calculator.putString(null,  (obj==null)?null:obj.getDiscoveryUrl() );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getServerCapabilities()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ServerOnNetwork obj = (ServerOnNetwork) encodeable;
-    				encoder.putUInt32("RecordId",  (obj==null)?null:obj.getRecordId() );
-    				encoder.putString("ServerName",  (obj==null)?null:obj.getServerName() );
-    				encoder.putString("DiscoveryUrl",  (obj==null)?null:obj.getDiscoveryUrl() );
-    				encoder.putStringArray("ServerCapabilities", (obj==null)?null:obj.getServerCapabilities() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ServerOnNetwork result = new ServerOnNetwork();
-    				result.setRecordId( decoder.getUInt32("RecordId") );
-    				result.setServerName( decoder.getString("ServerName") );
-    				result.setDiscoveryUrl( decoder.getString("DiscoveryUrl") );
-    				result.setServerCapabilities( decoder.getStringArray("ServerCapabilities") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ServerOnNetwork", new ExpandedNodeId(Identifiers.ServerOnNetwork_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ServerOnNetwork_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ServerOnNetwork));
     	// FindServersOnNetworkRequest
-    	addSerializer(
-    		new AbstractSerializer(FindServersOnNetworkRequest.class, FindServersOnNetworkRequest.BINARY, FindServersOnNetworkRequest.XML, FindServersOnNetworkRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				FindServersOnNetworkRequest obj = (FindServersOnNetworkRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putUInt32(null, null /*obj.getStartingRecordId()*/);
-    				calculator.putUInt32(null, null /*obj.getMaxRecordsToReturn()*/);
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getServerCapabilityFilter()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				FindServersOnNetworkRequest obj = (FindServersOnNetworkRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putUInt32("StartingRecordId",  (obj==null)?null:obj.getStartingRecordId() );
-    				encoder.putUInt32("MaxRecordsToReturn",  (obj==null)?null:obj.getMaxRecordsToReturn() );
-    				encoder.putStringArray("ServerCapabilityFilter", (obj==null)?null:obj.getServerCapabilityFilter() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				FindServersOnNetworkRequest result = new FindServersOnNetworkRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setStartingRecordId( decoder.getUInt32("StartingRecordId") );
-    				result.setMaxRecordsToReturn( decoder.getUInt32("MaxRecordsToReturn") );
-    				result.setServerCapabilityFilter( decoder.getStringArray("ServerCapabilityFilter") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.FindServersOnNetworkRequest", new ExpandedNodeId(Identifiers.FindServersOnNetworkRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.FindServersOnNetworkRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.FindServersOnNetworkRequest));
     	// FindServersOnNetworkResponse
-    	addSerializer(
-    		new AbstractSerializer(FindServersOnNetworkResponse.class, FindServersOnNetworkResponse.BINARY, FindServersOnNetworkResponse.XML, FindServersOnNetworkResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				FindServersOnNetworkResponse obj = (FindServersOnNetworkResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getLastCounterResetTime() );
-    				calculator.putEncodeableArray(null, ServerOnNetwork.class, (obj==null)?null:obj.getServers());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				FindServersOnNetworkResponse obj = (FindServersOnNetworkResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putDateTime("LastCounterResetTime",  (obj==null)?null:obj.getLastCounterResetTime() );
-    				encoder.putEncodeableArray("Servers", ServerOnNetwork.class, (obj==null)?null:obj.getServers());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				FindServersOnNetworkResponse result = new FindServersOnNetworkResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setLastCounterResetTime( decoder.getDateTime("LastCounterResetTime") );
-    				result.setServers( decoder.getEncodeableArray("Servers", ServerOnNetwork.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.FindServersOnNetworkResponse", new ExpandedNodeId(Identifiers.FindServersOnNetworkResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.FindServersOnNetworkResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.FindServersOnNetworkResponse));
     	// UserTokenPolicy
-    	addSerializer(
-    		new AbstractSerializer(UserTokenPolicy.class, UserTokenPolicy.BINARY, UserTokenPolicy.XML, UserTokenPolicy.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				UserTokenPolicy obj = (UserTokenPolicy) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getPolicyId() );
-    				calculator.putEnumeration(null, null /*obj.getTokenType()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getIssuedTokenType() );
-    				calculator.putString(null,  (obj==null)?null:obj.getIssuerEndpointUrl() );
-    				calculator.putString(null,  (obj==null)?null:obj.getSecurityPolicyUri() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				UserTokenPolicy obj = (UserTokenPolicy) encodeable;
-    				encoder.putString("PolicyId",  (obj==null)?null:obj.getPolicyId() );
-    				encoder.putEnumeration("TokenType",  (obj==null)?null:obj.getTokenType() );
-    				encoder.putString("IssuedTokenType",  (obj==null)?null:obj.getIssuedTokenType() );
-    				encoder.putString("IssuerEndpointUrl",  (obj==null)?null:obj.getIssuerEndpointUrl() );
-    				encoder.putString("SecurityPolicyUri",  (obj==null)?null:obj.getSecurityPolicyUri() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				UserTokenPolicy result = new UserTokenPolicy();
-    				result.setPolicyId( decoder.getString("PolicyId") );
-    				result.setTokenType( decoder.getEnumeration("TokenType", UserTokenType.class) );
-    				result.setIssuedTokenType( decoder.getString("IssuedTokenType") );
-    				result.setIssuerEndpointUrl( decoder.getString("IssuerEndpointUrl") );
-    				result.setSecurityPolicyUri( decoder.getString("SecurityPolicyUri") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.UserTokenPolicy", new ExpandedNodeId(Identifiers.UserTokenPolicy_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.UserTokenPolicy_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.UserTokenPolicy));
     	// EndpointDescription
-    	addSerializer(
-    		new AbstractSerializer(EndpointDescription.class, EndpointDescription.BINARY, EndpointDescription.XML, EndpointDescription.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				EndpointDescription obj = (EndpointDescription) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getEndpointUrl() );
-    				calculator.putEncodeable(null, ApplicationDescription.class, (obj==null)?null:obj.getServer());
-    				calculator.putByteString(null,  (obj==null)?null:obj.getServerCertificate() );
-    				calculator.putEnumeration(null, null /*obj.getSecurityMode()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getSecurityPolicyUri() );
-    				calculator.putEncodeableArray(null, UserTokenPolicy.class, (obj==null)?null:obj.getUserIdentityTokens());
-    				calculator.putString(null,  (obj==null)?null:obj.getTransportProfileUri() );
-    				calculator.putByte(null, null /*obj.getSecurityLevel()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				EndpointDescription obj = (EndpointDescription) encodeable;
-    				encoder.putString("EndpointUrl",  (obj==null)?null:obj.getEndpointUrl() );
-    				encoder.putEncodeable("Server", ApplicationDescription.class, (obj==null)?null:obj.getServer());
-    				encoder.putByteString("ServerCertificate",  (obj==null)?null:obj.getServerCertificate() );
-    				encoder.putEnumeration("SecurityMode",  (obj==null)?null:obj.getSecurityMode() );
-    				encoder.putString("SecurityPolicyUri",  (obj==null)?null:obj.getSecurityPolicyUri() );
-    				encoder.putEncodeableArray("UserIdentityTokens", UserTokenPolicy.class, (obj==null)?null:obj.getUserIdentityTokens());
-    				encoder.putString("TransportProfileUri",  (obj==null)?null:obj.getTransportProfileUri() );
-    				encoder.putByte("SecurityLevel",  (obj==null)?null:obj.getSecurityLevel() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				EndpointDescription result = new EndpointDescription();
-    				result.setEndpointUrl( decoder.getString("EndpointUrl") );
-    				result.setServer( decoder.getEncodeable("Server", ApplicationDescription.class) );
-    				result.setServerCertificate( decoder.getByteString("ServerCertificate") );
-    				result.setSecurityMode( decoder.getEnumeration("SecurityMode", MessageSecurityMode.class) );
-    				result.setSecurityPolicyUri( decoder.getString("SecurityPolicyUri") );
-    				result.setUserIdentityTokens( decoder.getEncodeableArray("UserIdentityTokens", UserTokenPolicy.class) );
-    				result.setTransportProfileUri( decoder.getString("TransportProfileUri") );
-    				result.setSecurityLevel( decoder.getByte("SecurityLevel") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.EndpointDescription", new ExpandedNodeId(Identifiers.EndpointDescription_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.EndpointDescription_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.EndpointDescription));
     	// GetEndpointsRequest
-    	addSerializer(
-    		new AbstractSerializer(GetEndpointsRequest.class, GetEndpointsRequest.BINARY, GetEndpointsRequest.XML, GetEndpointsRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				GetEndpointsRequest obj = (GetEndpointsRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putString(null,  (obj==null)?null:obj.getEndpointUrl() );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getLocaleIds()) );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getProfileUris()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				GetEndpointsRequest obj = (GetEndpointsRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putString("EndpointUrl",  (obj==null)?null:obj.getEndpointUrl() );
-    				encoder.putStringArray("LocaleIds", (obj==null)?null:obj.getLocaleIds() );
-    				encoder.putStringArray("ProfileUris", (obj==null)?null:obj.getProfileUris() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				GetEndpointsRequest result = new GetEndpointsRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setEndpointUrl( decoder.getString("EndpointUrl") );
-    				result.setLocaleIds( decoder.getStringArray("LocaleIds") );
-    				result.setProfileUris( decoder.getStringArray("ProfileUris") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.GetEndpointsRequest", new ExpandedNodeId(Identifiers.GetEndpointsRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.GetEndpointsRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.GetEndpointsRequest));
     	// GetEndpointsResponse
-    	addSerializer(
-    		new AbstractSerializer(GetEndpointsResponse.class, GetEndpointsResponse.BINARY, GetEndpointsResponse.XML, GetEndpointsResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				GetEndpointsResponse obj = (GetEndpointsResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, EndpointDescription.class, (obj==null)?null:obj.getEndpoints());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				GetEndpointsResponse obj = (GetEndpointsResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("Endpoints", EndpointDescription.class, (obj==null)?null:obj.getEndpoints());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				GetEndpointsResponse result = new GetEndpointsResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setEndpoints( decoder.getEncodeableArray("Endpoints", EndpointDescription.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.GetEndpointsResponse", new ExpandedNodeId(Identifiers.GetEndpointsResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.GetEndpointsResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.GetEndpointsResponse));
     	// RegisteredServer
-    	addSerializer(
-    		new AbstractSerializer(RegisteredServer.class, RegisteredServer.BINARY, RegisteredServer.XML, RegisteredServer.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RegisteredServer obj = (RegisteredServer) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getServerUri() );
-    				calculator.putString(null,  (obj==null)?null:obj.getProductUri() );
-    				calculator.putLocalizedTextArray(null, ((obj==null)?null:obj.getServerNames()) );
-    				calculator.putEnumeration(null, null /*obj.getServerType()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getGatewayServerUri() );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getDiscoveryUrls()) );
-    				calculator.putString(null,  (obj==null)?null:obj.getSemaphoreFilePath() );
-    				calculator.putBoolean(null, null /*obj.getIsOnline()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RegisteredServer obj = (RegisteredServer) encodeable;
-    				encoder.putString("ServerUri",  (obj==null)?null:obj.getServerUri() );
-    				encoder.putString("ProductUri",  (obj==null)?null:obj.getProductUri() );
-    				encoder.putLocalizedTextArray("ServerNames", (obj==null)?null:obj.getServerNames() );
-    				encoder.putEnumeration("ServerType",  (obj==null)?null:obj.getServerType() );
-    				encoder.putString("GatewayServerUri",  (obj==null)?null:obj.getGatewayServerUri() );
-    				encoder.putStringArray("DiscoveryUrls", (obj==null)?null:obj.getDiscoveryUrls() );
-    				encoder.putString("SemaphoreFilePath",  (obj==null)?null:obj.getSemaphoreFilePath() );
-    				encoder.putBoolean("IsOnline",  (obj==null)?null:obj.getIsOnline() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RegisteredServer result = new RegisteredServer();
-    				result.setServerUri( decoder.getString("ServerUri") );
-    				result.setProductUri( decoder.getString("ProductUri") );
-    				result.setServerNames( decoder.getLocalizedTextArray("ServerNames") );
-    				result.setServerType( decoder.getEnumeration("ServerType", ApplicationType.class) );
-    				result.setGatewayServerUri( decoder.getString("GatewayServerUri") );
-    				result.setDiscoveryUrls( decoder.getStringArray("DiscoveryUrls") );
-    				result.setSemaphoreFilePath( decoder.getString("SemaphoreFilePath") );
-    				result.setIsOnline( decoder.getBoolean("IsOnline") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RegisteredServer", new ExpandedNodeId(Identifiers.RegisteredServer_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RegisteredServer_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RegisteredServer));
     	// RegisterServerRequest
-    	addSerializer(
-    		new AbstractSerializer(RegisterServerRequest.class, RegisterServerRequest.BINARY, RegisterServerRequest.XML, RegisterServerRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RegisterServerRequest obj = (RegisterServerRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putEncodeable(null, RegisteredServer.class, (obj==null)?null:obj.getServer());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RegisterServerRequest obj = (RegisterServerRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putEncodeable("Server", RegisteredServer.class, (obj==null)?null:obj.getServer());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RegisterServerRequest result = new RegisterServerRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setServer( decoder.getEncodeable("Server", RegisteredServer.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RegisterServerRequest", new ExpandedNodeId(Identifiers.RegisterServerRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RegisterServerRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RegisterServerRequest));
     	// RegisterServerResponse
-    	addSerializer(
-    		new AbstractSerializer(RegisterServerResponse.class, RegisterServerResponse.BINARY, RegisterServerResponse.XML, RegisterServerResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RegisterServerResponse obj = (RegisterServerResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RegisterServerResponse obj = (RegisterServerResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RegisterServerResponse result = new RegisterServerResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RegisterServerResponse", new ExpandedNodeId(Identifiers.RegisterServerResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RegisterServerResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RegisterServerResponse));
     	// DiscoveryConfiguration
-    	addSerializer(
-    		new AbstractSerializer(DiscoveryConfiguration.class, DiscoveryConfiguration.BINARY, DiscoveryConfiguration.XML, DiscoveryConfiguration.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DiscoveryConfiguration result = new DiscoveryConfiguration();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DiscoveryConfiguration", new ExpandedNodeId(Identifiers.DiscoveryConfiguration_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DiscoveryConfiguration_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DiscoveryConfiguration));
     	// MdnsDiscoveryConfiguration
-    	addSerializer(
-    		new AbstractSerializer(MdnsDiscoveryConfiguration.class, MdnsDiscoveryConfiguration.BINARY, MdnsDiscoveryConfiguration.XML, MdnsDiscoveryConfiguration.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				MdnsDiscoveryConfiguration obj = (MdnsDiscoveryConfiguration) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getMdnsServerName() );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getServerCapabilities()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				MdnsDiscoveryConfiguration obj = (MdnsDiscoveryConfiguration) encodeable;
-    				encoder.putString("MdnsServerName",  (obj==null)?null:obj.getMdnsServerName() );
-    				encoder.putStringArray("ServerCapabilities", (obj==null)?null:obj.getServerCapabilities() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				MdnsDiscoveryConfiguration result = new MdnsDiscoveryConfiguration();
-    				result.setMdnsServerName( decoder.getString("MdnsServerName") );
-    				result.setServerCapabilities( decoder.getStringArray("ServerCapabilities") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.MdnsDiscoveryConfiguration", new ExpandedNodeId(Identifiers.MdnsDiscoveryConfiguration_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.MdnsDiscoveryConfiguration_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.MdnsDiscoveryConfiguration));
     	// RegisterServer2Request
-    	addSerializer(
-    		new AbstractSerializer(RegisterServer2Request.class, RegisterServer2Request.BINARY, RegisterServer2Request.XML, RegisterServer2Request.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RegisterServer2Request obj = (RegisterServer2Request) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putEncodeable(null, RegisteredServer.class, (obj==null)?null:obj.getServer());
-    				calculator.putExtensionObjectArray(null, ((obj==null)?null:obj.getDiscoveryConfiguration()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RegisterServer2Request obj = (RegisterServer2Request) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putEncodeable("Server", RegisteredServer.class, (obj==null)?null:obj.getServer());
-    				encoder.putExtensionObjectArray("DiscoveryConfiguration", (obj==null)?null:obj.getDiscoveryConfiguration() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RegisterServer2Request result = new RegisterServer2Request();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setServer( decoder.getEncodeable("Server", RegisteredServer.class) );
-    				result.setDiscoveryConfiguration( decoder.getExtensionObjectArray("DiscoveryConfiguration") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RegisterServer2Request", new ExpandedNodeId(Identifiers.RegisterServer2Request_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RegisterServer2Request_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RegisterServer2Request));
     	// RegisterServer2Response
-    	addSerializer(
-    		new AbstractSerializer(RegisterServer2Response.class, RegisterServer2Response.BINARY, RegisterServer2Response.XML, RegisterServer2Response.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RegisterServer2Response obj = (RegisterServer2Response) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getConfigurationResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RegisterServer2Response obj = (RegisterServer2Response) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putStatusCodeArray("ConfigurationResults", (obj==null)?null:obj.getConfigurationResults() );
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RegisterServer2Response result = new RegisterServer2Response();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setConfigurationResults( decoder.getStatusCodeArray("ConfigurationResults") );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RegisterServer2Response", new ExpandedNodeId(Identifiers.RegisterServer2Response_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RegisterServer2Response_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RegisterServer2Response));
     	// ChannelSecurityToken
-    	addSerializer(
-    		new AbstractSerializer(ChannelSecurityToken.class, ChannelSecurityToken.BINARY, ChannelSecurityToken.XML, ChannelSecurityToken.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ChannelSecurityToken obj = (ChannelSecurityToken) encodeable;
-    				calculator.putUInt32(null, null /*obj.getChannelId()*/);
-    				calculator.putUInt32(null, null /*obj.getTokenId()*/);
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getCreatedAt() );
-    				calculator.putUInt32(null, null /*obj.getRevisedLifetime()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ChannelSecurityToken obj = (ChannelSecurityToken) encodeable;
-    				encoder.putUInt32("ChannelId",  (obj==null)?null:obj.getChannelId() );
-    				encoder.putUInt32("TokenId",  (obj==null)?null:obj.getTokenId() );
-    				encoder.putDateTime("CreatedAt",  (obj==null)?null:obj.getCreatedAt() );
-    				encoder.putUInt32("RevisedLifetime",  (obj==null)?null:obj.getRevisedLifetime() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ChannelSecurityToken result = new ChannelSecurityToken();
-    				result.setChannelId( decoder.getUInt32("ChannelId") );
-    				result.setTokenId( decoder.getUInt32("TokenId") );
-    				result.setCreatedAt( decoder.getDateTime("CreatedAt") );
-    				result.setRevisedLifetime( decoder.getUInt32("RevisedLifetime") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ChannelSecurityToken", new ExpandedNodeId(Identifiers.ChannelSecurityToken_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ChannelSecurityToken_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ChannelSecurityToken));
     	// OpenSecureChannelRequest
-    	addSerializer(
-    		new AbstractSerializer(OpenSecureChannelRequest.class, OpenSecureChannelRequest.BINARY, OpenSecureChannelRequest.XML, OpenSecureChannelRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				OpenSecureChannelRequest obj = (OpenSecureChannelRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putUInt32(null, null /*obj.getClientProtocolVersion()*/);
-    				calculator.putEnumeration(null, null /*obj.getRequestType()*/);
-    				calculator.putEnumeration(null, null /*obj.getSecurityMode()*/);
-    				calculator.putByteString(null,  (obj==null)?null:obj.getClientNonce() );
-    				calculator.putUInt32(null, null /*obj.getRequestedLifetime()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				OpenSecureChannelRequest obj = (OpenSecureChannelRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putUInt32("ClientProtocolVersion",  (obj==null)?null:obj.getClientProtocolVersion() );
-    				encoder.putEnumeration("RequestType",  (obj==null)?null:obj.getRequestType() );
-    				encoder.putEnumeration("SecurityMode",  (obj==null)?null:obj.getSecurityMode() );
-    				encoder.putByteString("ClientNonce",  (obj==null)?null:obj.getClientNonce() );
-    				encoder.putUInt32("RequestedLifetime",  (obj==null)?null:obj.getRequestedLifetime() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				OpenSecureChannelRequest result = new OpenSecureChannelRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setClientProtocolVersion( decoder.getUInt32("ClientProtocolVersion") );
-    				result.setRequestType( decoder.getEnumeration("RequestType", SecurityTokenRequestType.class) );
-    				result.setSecurityMode( decoder.getEnumeration("SecurityMode", MessageSecurityMode.class) );
-    				result.setClientNonce( decoder.getByteString("ClientNonce") );
-    				result.setRequestedLifetime( decoder.getUInt32("RequestedLifetime") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.OpenSecureChannelRequest", new ExpandedNodeId(Identifiers.OpenSecureChannelRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.OpenSecureChannelRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.OpenSecureChannelRequest));
     	// OpenSecureChannelResponse
-    	addSerializer(
-    		new AbstractSerializer(OpenSecureChannelResponse.class, OpenSecureChannelResponse.BINARY, OpenSecureChannelResponse.XML, OpenSecureChannelResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				OpenSecureChannelResponse obj = (OpenSecureChannelResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putUInt32(null, null /*obj.getServerProtocolVersion()*/);
-    				calculator.putEncodeable(null, ChannelSecurityToken.class, (obj==null)?null:obj.getSecurityToken());
-    				calculator.putByteString(null,  (obj==null)?null:obj.getServerNonce() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				OpenSecureChannelResponse obj = (OpenSecureChannelResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putUInt32("ServerProtocolVersion",  (obj==null)?null:obj.getServerProtocolVersion() );
-    				encoder.putEncodeable("SecurityToken", ChannelSecurityToken.class, (obj==null)?null:obj.getSecurityToken());
-    				encoder.putByteString("ServerNonce",  (obj==null)?null:obj.getServerNonce() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				OpenSecureChannelResponse result = new OpenSecureChannelResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setServerProtocolVersion( decoder.getUInt32("ServerProtocolVersion") );
-    				result.setSecurityToken( decoder.getEncodeable("SecurityToken", ChannelSecurityToken.class) );
-    				result.setServerNonce( decoder.getByteString("ServerNonce") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.OpenSecureChannelResponse", new ExpandedNodeId(Identifiers.OpenSecureChannelResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.OpenSecureChannelResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.OpenSecureChannelResponse));
     	// CloseSecureChannelRequest
-    	addSerializer(
-    		new AbstractSerializer(CloseSecureChannelRequest.class, CloseSecureChannelRequest.BINARY, CloseSecureChannelRequest.XML, CloseSecureChannelRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CloseSecureChannelRequest obj = (CloseSecureChannelRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CloseSecureChannelRequest obj = (CloseSecureChannelRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CloseSecureChannelRequest result = new CloseSecureChannelRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CloseSecureChannelRequest", new ExpandedNodeId(Identifiers.CloseSecureChannelRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CloseSecureChannelRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CloseSecureChannelRequest));
     	// CloseSecureChannelResponse
-    	addSerializer(
-    		new AbstractSerializer(CloseSecureChannelResponse.class, CloseSecureChannelResponse.BINARY, CloseSecureChannelResponse.XML, CloseSecureChannelResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CloseSecureChannelResponse obj = (CloseSecureChannelResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CloseSecureChannelResponse obj = (CloseSecureChannelResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CloseSecureChannelResponse result = new CloseSecureChannelResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CloseSecureChannelResponse", new ExpandedNodeId(Identifiers.CloseSecureChannelResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CloseSecureChannelResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CloseSecureChannelResponse));
     	// SignedSoftwareCertificate
-    	addSerializer(
-    		new AbstractSerializer(SignedSoftwareCertificate.class, SignedSoftwareCertificate.BINARY, SignedSoftwareCertificate.XML, SignedSoftwareCertificate.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SignedSoftwareCertificate obj = (SignedSoftwareCertificate) encodeable;
-    				calculator.putByteString(null,  (obj==null)?null:obj.getCertificateData() );
-    				calculator.putByteString(null,  (obj==null)?null:obj.getSignature() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SignedSoftwareCertificate obj = (SignedSoftwareCertificate) encodeable;
-    				encoder.putByteString("CertificateData",  (obj==null)?null:obj.getCertificateData() );
-    				encoder.putByteString("Signature",  (obj==null)?null:obj.getSignature() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SignedSoftwareCertificate result = new SignedSoftwareCertificate();
-    				result.setCertificateData( decoder.getByteString("CertificateData") );
-    				result.setSignature( decoder.getByteString("Signature") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SignedSoftwareCertificate", new ExpandedNodeId(Identifiers.SignedSoftwareCertificate_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SignedSoftwareCertificate_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SignedSoftwareCertificate));
     	// SignatureData
-    	addSerializer(
-    		new AbstractSerializer(SignatureData.class, SignatureData.BINARY, SignatureData.XML, SignatureData.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SignatureData obj = (SignatureData) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getAlgorithm() );
-    				calculator.putByteString(null,  (obj==null)?null:obj.getSignature() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SignatureData obj = (SignatureData) encodeable;
-    				encoder.putString("Algorithm",  (obj==null)?null:obj.getAlgorithm() );
-    				encoder.putByteString("Signature",  (obj==null)?null:obj.getSignature() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SignatureData result = new SignatureData();
-    				result.setAlgorithm( decoder.getString("Algorithm") );
-    				result.setSignature( decoder.getByteString("Signature") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SignatureData", new ExpandedNodeId(Identifiers.SignatureData_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SignatureData_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SignatureData));
     	// CreateSessionRequest
-    	addSerializer(
-    		new AbstractSerializer(CreateSessionRequest.class, CreateSessionRequest.BINARY, CreateSessionRequest.XML, CreateSessionRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CreateSessionRequest obj = (CreateSessionRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putEncodeable(null, ApplicationDescription.class, (obj==null)?null:obj.getClientDescription());
-    				calculator.putString(null,  (obj==null)?null:obj.getServerUri() );
-    				calculator.putString(null,  (obj==null)?null:obj.getEndpointUrl() );
-    				calculator.putString(null,  (obj==null)?null:obj.getSessionName() );
-    				calculator.putByteString(null,  (obj==null)?null:obj.getClientNonce() );
-    				calculator.putByteString(null,  (obj==null)?null:obj.getClientCertificate() );
-    				calculator.putDouble(null, null /*obj.getRequestedSessionTimeout()*/);
-    				calculator.putUInt32(null, null /*obj.getMaxResponseMessageSize()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CreateSessionRequest obj = (CreateSessionRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putEncodeable("ClientDescription", ApplicationDescription.class, (obj==null)?null:obj.getClientDescription());
-    				encoder.putString("ServerUri",  (obj==null)?null:obj.getServerUri() );
-    				encoder.putString("EndpointUrl",  (obj==null)?null:obj.getEndpointUrl() );
-    				encoder.putString("SessionName",  (obj==null)?null:obj.getSessionName() );
-    				encoder.putByteString("ClientNonce",  (obj==null)?null:obj.getClientNonce() );
-    				encoder.putByteString("ClientCertificate",  (obj==null)?null:obj.getClientCertificate() );
-    				encoder.putDouble("RequestedSessionTimeout",  (obj==null)?null:obj.getRequestedSessionTimeout() );
-    				encoder.putUInt32("MaxResponseMessageSize",  (obj==null)?null:obj.getMaxResponseMessageSize() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CreateSessionRequest result = new CreateSessionRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setClientDescription( decoder.getEncodeable("ClientDescription", ApplicationDescription.class) );
-    				result.setServerUri( decoder.getString("ServerUri") );
-    				result.setEndpointUrl( decoder.getString("EndpointUrl") );
-    				result.setSessionName( decoder.getString("SessionName") );
-    				result.setClientNonce( decoder.getByteString("ClientNonce") );
-    				result.setClientCertificate( decoder.getByteString("ClientCertificate") );
-    				result.setRequestedSessionTimeout( decoder.getDouble("RequestedSessionTimeout") );
-    				result.setMaxResponseMessageSize( decoder.getUInt32("MaxResponseMessageSize") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CreateSessionRequest", new ExpandedNodeId(Identifiers.CreateSessionRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CreateSessionRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CreateSessionRequest));
     	// CreateSessionResponse
-    	addSerializer(
-    		new AbstractSerializer(CreateSessionResponse.class, CreateSessionResponse.BINARY, CreateSessionResponse.XML, CreateSessionResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CreateSessionResponse obj = (CreateSessionResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getSessionId() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getAuthenticationToken() );
-    				calculator.putDouble(null, null /*obj.getRevisedSessionTimeout()*/);
-    				calculator.putByteString(null,  (obj==null)?null:obj.getServerNonce() );
-    				calculator.putByteString(null,  (obj==null)?null:obj.getServerCertificate() );
-    				calculator.putEncodeableArray(null, EndpointDescription.class, (obj==null)?null:obj.getServerEndpoints());
-    				calculator.putEncodeableArray(null, SignedSoftwareCertificate.class, (obj==null)?null:obj.getServerSoftwareCertificates());
-    				calculator.putEncodeable(null, SignatureData.class, (obj==null)?null:obj.getServerSignature());
-    				calculator.putUInt32(null, null /*obj.getMaxRequestMessageSize()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CreateSessionResponse obj = (CreateSessionResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putNodeId("SessionId",  (obj==null)?null:obj.getSessionId() );
-    				encoder.putNodeId("AuthenticationToken",  (obj==null)?null:obj.getAuthenticationToken() );
-    				encoder.putDouble("RevisedSessionTimeout",  (obj==null)?null:obj.getRevisedSessionTimeout() );
-    				encoder.putByteString("ServerNonce",  (obj==null)?null:obj.getServerNonce() );
-    				encoder.putByteString("ServerCertificate",  (obj==null)?null:obj.getServerCertificate() );
-    				encoder.putEncodeableArray("ServerEndpoints", EndpointDescription.class, (obj==null)?null:obj.getServerEndpoints());
-    				encoder.putEncodeableArray("ServerSoftwareCertificates", SignedSoftwareCertificate.class, (obj==null)?null:obj.getServerSoftwareCertificates());
-    				encoder.putEncodeable("ServerSignature", SignatureData.class, (obj==null)?null:obj.getServerSignature());
-    				encoder.putUInt32("MaxRequestMessageSize",  (obj==null)?null:obj.getMaxRequestMessageSize() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CreateSessionResponse result = new CreateSessionResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setSessionId( decoder.getNodeId("SessionId") );
-    				result.setAuthenticationToken( decoder.getNodeId("AuthenticationToken") );
-    				result.setRevisedSessionTimeout( decoder.getDouble("RevisedSessionTimeout") );
-    				result.setServerNonce( decoder.getByteString("ServerNonce") );
-    				result.setServerCertificate( decoder.getByteString("ServerCertificate") );
-    				result.setServerEndpoints( decoder.getEncodeableArray("ServerEndpoints", EndpointDescription.class) );
-    				result.setServerSoftwareCertificates( decoder.getEncodeableArray("ServerSoftwareCertificates", SignedSoftwareCertificate.class) );
-    				result.setServerSignature( decoder.getEncodeable("ServerSignature", SignatureData.class) );
-    				result.setMaxRequestMessageSize( decoder.getUInt32("MaxRequestMessageSize") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CreateSessionResponse", new ExpandedNodeId(Identifiers.CreateSessionResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CreateSessionResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CreateSessionResponse));
     	// UserIdentityToken
-    	addSerializer(
-    		new AbstractSerializer(UserIdentityToken.class, UserIdentityToken.BINARY, UserIdentityToken.XML, UserIdentityToken.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				UserIdentityToken obj = (UserIdentityToken) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getPolicyId() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				UserIdentityToken obj = (UserIdentityToken) encodeable;
-    				encoder.putString("PolicyId",  (obj==null)?null:obj.getPolicyId() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				UserIdentityToken result = new UserIdentityToken();
-    				result.setPolicyId( decoder.getString("PolicyId") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.UserIdentityToken", new ExpandedNodeId(Identifiers.UserIdentityToken_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.UserIdentityToken_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.UserIdentityToken));
     	// AnonymousIdentityToken
-    	addSerializer(
-    		new AbstractSerializer(AnonymousIdentityToken.class, AnonymousIdentityToken.BINARY, AnonymousIdentityToken.XML, AnonymousIdentityToken.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				AnonymousIdentityToken obj = (AnonymousIdentityToken) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getPolicyId() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				AnonymousIdentityToken obj = (AnonymousIdentityToken) encodeable;
-    				encoder.putString("PolicyId",  (obj==null)?null:obj.getPolicyId() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				AnonymousIdentityToken result = new AnonymousIdentityToken();
-    				result.setPolicyId( decoder.getString("PolicyId") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.AnonymousIdentityToken", new ExpandedNodeId(Identifiers.AnonymousIdentityToken_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.AnonymousIdentityToken_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.AnonymousIdentityToken));
     	// UserNameIdentityToken
-    	addSerializer(
-    		new AbstractSerializer(UserNameIdentityToken.class, UserNameIdentityToken.BINARY, UserNameIdentityToken.XML, UserNameIdentityToken.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				UserNameIdentityToken obj = (UserNameIdentityToken) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getPolicyId() );
-    				calculator.putString(null,  (obj==null)?null:obj.getUserName() );
-    				calculator.putByteString(null,  (obj==null)?null:obj.getPassword() );
-    				calculator.putString(null,  (obj==null)?null:obj.getEncryptionAlgorithm() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				UserNameIdentityToken obj = (UserNameIdentityToken) encodeable;
-    				encoder.putString("PolicyId",  (obj==null)?null:obj.getPolicyId() );
-    				encoder.putString("UserName",  (obj==null)?null:obj.getUserName() );
-    				encoder.putByteString("Password",  (obj==null)?null:obj.getPassword() );
-    				encoder.putString("EncryptionAlgorithm",  (obj==null)?null:obj.getEncryptionAlgorithm() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				UserNameIdentityToken result = new UserNameIdentityToken();
-    				result.setPolicyId( decoder.getString("PolicyId") );
-    				result.setUserName( decoder.getString("UserName") );
-    				result.setPassword( decoder.getByteString("Password") );
-    				result.setEncryptionAlgorithm( decoder.getString("EncryptionAlgorithm") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.UserNameIdentityToken", new ExpandedNodeId(Identifiers.UserNameIdentityToken_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.UserNameIdentityToken_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.UserNameIdentityToken));
     	// X509IdentityToken
-    	addSerializer(
-    		new AbstractSerializer(X509IdentityToken.class, X509IdentityToken.BINARY, X509IdentityToken.XML, X509IdentityToken.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				X509IdentityToken obj = (X509IdentityToken) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getPolicyId() );
-    				calculator.putByteString(null,  (obj==null)?null:obj.getCertificateData() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				X509IdentityToken obj = (X509IdentityToken) encodeable;
-    				encoder.putString("PolicyId",  (obj==null)?null:obj.getPolicyId() );
-    				encoder.putByteString("CertificateData",  (obj==null)?null:obj.getCertificateData() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				X509IdentityToken result = new X509IdentityToken();
-    				result.setPolicyId( decoder.getString("PolicyId") );
-    				result.setCertificateData( decoder.getByteString("CertificateData") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.X509IdentityToken", new ExpandedNodeId(Identifiers.X509IdentityToken_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.X509IdentityToken_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.X509IdentityToken));
     	// IssuedIdentityToken
-    	addSerializer(
-    		new AbstractSerializer(IssuedIdentityToken.class, IssuedIdentityToken.BINARY, IssuedIdentityToken.XML, IssuedIdentityToken.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				IssuedIdentityToken obj = (IssuedIdentityToken) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getPolicyId() );
-    				calculator.putByteString(null,  (obj==null)?null:obj.getTokenData() );
-    				calculator.putString(null,  (obj==null)?null:obj.getEncryptionAlgorithm() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				IssuedIdentityToken obj = (IssuedIdentityToken) encodeable;
-    				encoder.putString("PolicyId",  (obj==null)?null:obj.getPolicyId() );
-    				encoder.putByteString("TokenData",  (obj==null)?null:obj.getTokenData() );
-    				encoder.putString("EncryptionAlgorithm",  (obj==null)?null:obj.getEncryptionAlgorithm() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				IssuedIdentityToken result = new IssuedIdentityToken();
-    				result.setPolicyId( decoder.getString("PolicyId") );
-    				result.setTokenData( decoder.getByteString("TokenData") );
-    				result.setEncryptionAlgorithm( decoder.getString("EncryptionAlgorithm") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.IssuedIdentityToken", new ExpandedNodeId(Identifiers.IssuedIdentityToken_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.IssuedIdentityToken_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.IssuedIdentityToken));
     	// ActivateSessionRequest
-    	addSerializer(
-    		new AbstractSerializer(ActivateSessionRequest.class, ActivateSessionRequest.BINARY, ActivateSessionRequest.XML, ActivateSessionRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ActivateSessionRequest obj = (ActivateSessionRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putEncodeable(null, SignatureData.class, (obj==null)?null:obj.getClientSignature());
-    				calculator.putEncodeableArray(null, SignedSoftwareCertificate.class, (obj==null)?null:obj.getClientSoftwareCertificates());
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getLocaleIds()) );
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getUserIdentityToken() );
-    				calculator.putEncodeable(null, SignatureData.class, (obj==null)?null:obj.getUserTokenSignature());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ActivateSessionRequest obj = (ActivateSessionRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putEncodeable("ClientSignature", SignatureData.class, (obj==null)?null:obj.getClientSignature());
-    				encoder.putEncodeableArray("ClientSoftwareCertificates", SignedSoftwareCertificate.class, (obj==null)?null:obj.getClientSoftwareCertificates());
-    				encoder.putStringArray("LocaleIds", (obj==null)?null:obj.getLocaleIds() );
-    				encoder.putExtensionObject("UserIdentityToken",  (obj==null)?null:obj.getUserIdentityToken() );
-    				encoder.putEncodeable("UserTokenSignature", SignatureData.class, (obj==null)?null:obj.getUserTokenSignature());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ActivateSessionRequest result = new ActivateSessionRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setClientSignature( decoder.getEncodeable("ClientSignature", SignatureData.class) );
-    				result.setClientSoftwareCertificates( decoder.getEncodeableArray("ClientSoftwareCertificates", SignedSoftwareCertificate.class) );
-    				result.setLocaleIds( decoder.getStringArray("LocaleIds") );
-    				result.setUserIdentityToken( decoder.getExtensionObject("UserIdentityToken") );
-    				result.setUserTokenSignature( decoder.getEncodeable("UserTokenSignature", SignatureData.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ActivateSessionRequest", new ExpandedNodeId(Identifiers.ActivateSessionRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ActivateSessionRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ActivateSessionRequest));
     	// ActivateSessionResponse
-    	addSerializer(
-    		new AbstractSerializer(ActivateSessionResponse.class, ActivateSessionResponse.BINARY, ActivateSessionResponse.XML, ActivateSessionResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ActivateSessionResponse obj = (ActivateSessionResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putByteString(null,  (obj==null)?null:obj.getServerNonce() );
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ActivateSessionResponse obj = (ActivateSessionResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putByteString("ServerNonce",  (obj==null)?null:obj.getServerNonce() );
-    				encoder.putStatusCodeArray("Results", (obj==null)?null:obj.getResults() );
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ActivateSessionResponse result = new ActivateSessionResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setServerNonce( decoder.getByteString("ServerNonce") );
-    				result.setResults( decoder.getStatusCodeArray("Results") );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ActivateSessionResponse", new ExpandedNodeId(Identifiers.ActivateSessionResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ActivateSessionResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ActivateSessionResponse));
     	// CloseSessionRequest
-    	addSerializer(
-    		new AbstractSerializer(CloseSessionRequest.class, CloseSessionRequest.BINARY, CloseSessionRequest.XML, CloseSessionRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CloseSessionRequest obj = (CloseSessionRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putBoolean(null, null /*obj.getDeleteSubscriptions()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CloseSessionRequest obj = (CloseSessionRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putBoolean("DeleteSubscriptions",  (obj==null)?null:obj.getDeleteSubscriptions() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CloseSessionRequest result = new CloseSessionRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setDeleteSubscriptions( decoder.getBoolean("DeleteSubscriptions") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CloseSessionRequest", new ExpandedNodeId(Identifiers.CloseSessionRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CloseSessionRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CloseSessionRequest));
     	// CloseSessionResponse
-    	addSerializer(
-    		new AbstractSerializer(CloseSessionResponse.class, CloseSessionResponse.BINARY, CloseSessionResponse.XML, CloseSessionResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CloseSessionResponse obj = (CloseSessionResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CloseSessionResponse obj = (CloseSessionResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CloseSessionResponse result = new CloseSessionResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CloseSessionResponse", new ExpandedNodeId(Identifiers.CloseSessionResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CloseSessionResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CloseSessionResponse));
     	// CancelRequest
-    	addSerializer(
-    		new AbstractSerializer(CancelRequest.class, CancelRequest.BINARY, CancelRequest.XML, CancelRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CancelRequest obj = (CancelRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putUInt32(null, null /*obj.getRequestHandle()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CancelRequest obj = (CancelRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putUInt32("RequestHandle",  (obj==null)?null:obj.getRequestHandle() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CancelRequest result = new CancelRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setRequestHandle( decoder.getUInt32("RequestHandle") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CancelRequest", new ExpandedNodeId(Identifiers.CancelRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CancelRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CancelRequest));
     	// CancelResponse
-    	addSerializer(
-    		new AbstractSerializer(CancelResponse.class, CancelResponse.BINARY, CancelResponse.XML, CancelResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CancelResponse obj = (CancelResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putUInt32(null, null /*obj.getCancelCount()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CancelResponse obj = (CancelResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putUInt32("CancelCount",  (obj==null)?null:obj.getCancelCount() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CancelResponse result = new CancelResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setCancelCount( decoder.getUInt32("CancelCount") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CancelResponse", new ExpandedNodeId(Identifiers.CancelResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CancelResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CancelResponse));
     	// NodeAttributes
-    	addSerializer(
-    		new AbstractSerializer(NodeAttributes.class, NodeAttributes.BINARY, NodeAttributes.XML, NodeAttributes.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				NodeAttributes obj = (NodeAttributes) encodeable;
-    				calculator.putUInt32(null, null /*obj.getSpecifiedAttributes()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putUInt32(null, null /*obj.getWriteMask()*/);
-    				calculator.putUInt32(null, null /*obj.getUserWriteMask()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				NodeAttributes obj = (NodeAttributes) encodeable;
-    				encoder.putUInt32("SpecifiedAttributes",  (obj==null)?null:obj.getSpecifiedAttributes() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putUInt32("WriteMask",  (obj==null)?null:obj.getWriteMask() );
-    				encoder.putUInt32("UserWriteMask",  (obj==null)?null:obj.getUserWriteMask() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				NodeAttributes result = new NodeAttributes();
-    				result.setSpecifiedAttributes( decoder.getUInt32("SpecifiedAttributes") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setWriteMask( decoder.getUInt32("WriteMask") );
-    				result.setUserWriteMask( decoder.getUInt32("UserWriteMask") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.NodeAttributes", new ExpandedNodeId(Identifiers.NodeAttributes_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.NodeAttributes_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.NodeAttributes));
     	// ObjectAttributes
-    	addSerializer(
-    		new AbstractSerializer(ObjectAttributes.class, ObjectAttributes.BINARY, ObjectAttributes.XML, ObjectAttributes.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ObjectAttributes obj = (ObjectAttributes) encodeable;
-    				calculator.putUInt32(null, null /*obj.getSpecifiedAttributes()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putUInt32(null, null /*obj.getWriteMask()*/);
-    				calculator.putUInt32(null, null /*obj.getUserWriteMask()*/);
-    				calculator.putByte(null, null /*obj.getEventNotifier()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ObjectAttributes obj = (ObjectAttributes) encodeable;
-    				encoder.putUInt32("SpecifiedAttributes",  (obj==null)?null:obj.getSpecifiedAttributes() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putUInt32("WriteMask",  (obj==null)?null:obj.getWriteMask() );
-    				encoder.putUInt32("UserWriteMask",  (obj==null)?null:obj.getUserWriteMask() );
-    				encoder.putByte("EventNotifier",  (obj==null)?null:obj.getEventNotifier() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ObjectAttributes result = new ObjectAttributes();
-    				result.setSpecifiedAttributes( decoder.getUInt32("SpecifiedAttributes") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setWriteMask( decoder.getUInt32("WriteMask") );
-    				result.setUserWriteMask( decoder.getUInt32("UserWriteMask") );
-    				result.setEventNotifier( decoder.getByte("EventNotifier") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ObjectAttributes", new ExpandedNodeId(Identifiers.ObjectAttributes_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ObjectAttributes_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ObjectAttributes));
     	// VariableAttributes
-    	addSerializer(
-    		new AbstractSerializer(VariableAttributes.class, VariableAttributes.BINARY, VariableAttributes.XML, VariableAttributes.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				VariableAttributes obj = (VariableAttributes) encodeable;
-    				calculator.putUInt32(null, null /*obj.getSpecifiedAttributes()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putUInt32(null, null /*obj.getWriteMask()*/);
-    				calculator.putUInt32(null, null /*obj.getUserWriteMask()*/);
-    				calculator.putVariant(null,  (obj==null)?null:obj.getValue() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getDataType() );
-    				calculator.putInt32(null, null /*obj.getValueRank()*/);
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getArrayDimensions()) );
-    				calculator.putByte(null, null /*obj.getAccessLevel()*/);
-    				calculator.putByte(null, null /*obj.getUserAccessLevel()*/);
-    				calculator.putDouble(null, null /*obj.getMinimumSamplingInterval()*/);
-    				calculator.putBoolean(null, null /*obj.getHistorizing()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				VariableAttributes obj = (VariableAttributes) encodeable;
-    				encoder.putUInt32("SpecifiedAttributes",  (obj==null)?null:obj.getSpecifiedAttributes() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putUInt32("WriteMask",  (obj==null)?null:obj.getWriteMask() );
-    				encoder.putUInt32("UserWriteMask",  (obj==null)?null:obj.getUserWriteMask() );
-    				encoder.putVariant("Value",  (obj==null)?null:obj.getValue() );
-    				encoder.putNodeId("DataType",  (obj==null)?null:obj.getDataType() );
-    				encoder.putInt32("ValueRank",  (obj==null)?null:obj.getValueRank() );
-    				encoder.putUInt32Array("ArrayDimensions", (obj==null)?null:obj.getArrayDimensions() );
-    				encoder.putByte("AccessLevel",  (obj==null)?null:obj.getAccessLevel() );
-    				encoder.putByte("UserAccessLevel",  (obj==null)?null:obj.getUserAccessLevel() );
-    				encoder.putDouble("MinimumSamplingInterval",  (obj==null)?null:obj.getMinimumSamplingInterval() );
-    				encoder.putBoolean("Historizing",  (obj==null)?null:obj.getHistorizing() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				VariableAttributes result = new VariableAttributes();
-    				result.setSpecifiedAttributes( decoder.getUInt32("SpecifiedAttributes") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setWriteMask( decoder.getUInt32("WriteMask") );
-    				result.setUserWriteMask( decoder.getUInt32("UserWriteMask") );
-    				result.setValue( decoder.getVariant("Value") );
-    				result.setDataType( decoder.getNodeId("DataType") );
-    				result.setValueRank( decoder.getInt32("ValueRank") );
-    				result.setArrayDimensions( decoder.getUInt32Array("ArrayDimensions") );
-    				result.setAccessLevel( decoder.getByte("AccessLevel") );
-    				result.setUserAccessLevel( decoder.getByte("UserAccessLevel") );
-    				result.setMinimumSamplingInterval( decoder.getDouble("MinimumSamplingInterval") );
-    				result.setHistorizing( decoder.getBoolean("Historizing") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.VariableAttributes", new ExpandedNodeId(Identifiers.VariableAttributes_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.VariableAttributes_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.VariableAttributes));
     	// MethodAttributes
-    	addSerializer(
-    		new AbstractSerializer(MethodAttributes.class, MethodAttributes.BINARY, MethodAttributes.XML, MethodAttributes.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				MethodAttributes obj = (MethodAttributes) encodeable;
-    				calculator.putUInt32(null, null /*obj.getSpecifiedAttributes()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putUInt32(null, null /*obj.getWriteMask()*/);
-    				calculator.putUInt32(null, null /*obj.getUserWriteMask()*/);
-    				calculator.putBoolean(null, null /*obj.getExecutable()*/);
-    				calculator.putBoolean(null, null /*obj.getUserExecutable()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				MethodAttributes obj = (MethodAttributes) encodeable;
-    				encoder.putUInt32("SpecifiedAttributes",  (obj==null)?null:obj.getSpecifiedAttributes() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putUInt32("WriteMask",  (obj==null)?null:obj.getWriteMask() );
-    				encoder.putUInt32("UserWriteMask",  (obj==null)?null:obj.getUserWriteMask() );
-    				encoder.putBoolean("Executable",  (obj==null)?null:obj.getExecutable() );
-    				encoder.putBoolean("UserExecutable",  (obj==null)?null:obj.getUserExecutable() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				MethodAttributes result = new MethodAttributes();
-    				result.setSpecifiedAttributes( decoder.getUInt32("SpecifiedAttributes") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setWriteMask( decoder.getUInt32("WriteMask") );
-    				result.setUserWriteMask( decoder.getUInt32("UserWriteMask") );
-    				result.setExecutable( decoder.getBoolean("Executable") );
-    				result.setUserExecutable( decoder.getBoolean("UserExecutable") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.MethodAttributes", new ExpandedNodeId(Identifiers.MethodAttributes_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.MethodAttributes_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.MethodAttributes));
     	// ObjectTypeAttributes
-    	addSerializer(
-    		new AbstractSerializer(ObjectTypeAttributes.class, ObjectTypeAttributes.BINARY, ObjectTypeAttributes.XML, ObjectTypeAttributes.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ObjectTypeAttributes obj = (ObjectTypeAttributes) encodeable;
-    				calculator.putUInt32(null, null /*obj.getSpecifiedAttributes()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putUInt32(null, null /*obj.getWriteMask()*/);
-    				calculator.putUInt32(null, null /*obj.getUserWriteMask()*/);
-    				calculator.putBoolean(null, null /*obj.getIsAbstract()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ObjectTypeAttributes obj = (ObjectTypeAttributes) encodeable;
-    				encoder.putUInt32("SpecifiedAttributes",  (obj==null)?null:obj.getSpecifiedAttributes() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putUInt32("WriteMask",  (obj==null)?null:obj.getWriteMask() );
-    				encoder.putUInt32("UserWriteMask",  (obj==null)?null:obj.getUserWriteMask() );
-    				encoder.putBoolean("IsAbstract",  (obj==null)?null:obj.getIsAbstract() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ObjectTypeAttributes result = new ObjectTypeAttributes();
-    				result.setSpecifiedAttributes( decoder.getUInt32("SpecifiedAttributes") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setWriteMask( decoder.getUInt32("WriteMask") );
-    				result.setUserWriteMask( decoder.getUInt32("UserWriteMask") );
-    				result.setIsAbstract( decoder.getBoolean("IsAbstract") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ObjectTypeAttributes", new ExpandedNodeId(Identifiers.ObjectTypeAttributes_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ObjectTypeAttributes_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ObjectTypeAttributes));
     	// VariableTypeAttributes
-    	addSerializer(
-    		new AbstractSerializer(VariableTypeAttributes.class, VariableTypeAttributes.BINARY, VariableTypeAttributes.XML, VariableTypeAttributes.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				VariableTypeAttributes obj = (VariableTypeAttributes) encodeable;
-    				calculator.putUInt32(null, null /*obj.getSpecifiedAttributes()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putUInt32(null, null /*obj.getWriteMask()*/);
-    				calculator.putUInt32(null, null /*obj.getUserWriteMask()*/);
-    				calculator.putVariant(null,  (obj==null)?null:obj.getValue() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getDataType() );
-    				calculator.putInt32(null, null /*obj.getValueRank()*/);
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getArrayDimensions()) );
-    				calculator.putBoolean(null, null /*obj.getIsAbstract()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				VariableTypeAttributes obj = (VariableTypeAttributes) encodeable;
-    				encoder.putUInt32("SpecifiedAttributes",  (obj==null)?null:obj.getSpecifiedAttributes() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putUInt32("WriteMask",  (obj==null)?null:obj.getWriteMask() );
-    				encoder.putUInt32("UserWriteMask",  (obj==null)?null:obj.getUserWriteMask() );
-    				encoder.putVariant("Value",  (obj==null)?null:obj.getValue() );
-    				encoder.putNodeId("DataType",  (obj==null)?null:obj.getDataType() );
-    				encoder.putInt32("ValueRank",  (obj==null)?null:obj.getValueRank() );
-    				encoder.putUInt32Array("ArrayDimensions", (obj==null)?null:obj.getArrayDimensions() );
-    				encoder.putBoolean("IsAbstract",  (obj==null)?null:obj.getIsAbstract() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				VariableTypeAttributes result = new VariableTypeAttributes();
-    				result.setSpecifiedAttributes( decoder.getUInt32("SpecifiedAttributes") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setWriteMask( decoder.getUInt32("WriteMask") );
-    				result.setUserWriteMask( decoder.getUInt32("UserWriteMask") );
-    				result.setValue( decoder.getVariant("Value") );
-    				result.setDataType( decoder.getNodeId("DataType") );
-    				result.setValueRank( decoder.getInt32("ValueRank") );
-    				result.setArrayDimensions( decoder.getUInt32Array("ArrayDimensions") );
-    				result.setIsAbstract( decoder.getBoolean("IsAbstract") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.VariableTypeAttributes", new ExpandedNodeId(Identifiers.VariableTypeAttributes_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.VariableTypeAttributes_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.VariableTypeAttributes));
     	// ReferenceTypeAttributes
-    	addSerializer(
-    		new AbstractSerializer(ReferenceTypeAttributes.class, ReferenceTypeAttributes.BINARY, ReferenceTypeAttributes.XML, ReferenceTypeAttributes.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ReferenceTypeAttributes obj = (ReferenceTypeAttributes) encodeable;
-    				calculator.putUInt32(null, null /*obj.getSpecifiedAttributes()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putUInt32(null, null /*obj.getWriteMask()*/);
-    				calculator.putUInt32(null, null /*obj.getUserWriteMask()*/);
-    				calculator.putBoolean(null, null /*obj.getIsAbstract()*/);
-    				calculator.putBoolean(null, null /*obj.getSymmetric()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getInverseName() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ReferenceTypeAttributes obj = (ReferenceTypeAttributes) encodeable;
-    				encoder.putUInt32("SpecifiedAttributes",  (obj==null)?null:obj.getSpecifiedAttributes() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putUInt32("WriteMask",  (obj==null)?null:obj.getWriteMask() );
-    				encoder.putUInt32("UserWriteMask",  (obj==null)?null:obj.getUserWriteMask() );
-    				encoder.putBoolean("IsAbstract",  (obj==null)?null:obj.getIsAbstract() );
-    				encoder.putBoolean("Symmetric",  (obj==null)?null:obj.getSymmetric() );
-    				encoder.putLocalizedText("InverseName",  (obj==null)?null:obj.getInverseName() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ReferenceTypeAttributes result = new ReferenceTypeAttributes();
-    				result.setSpecifiedAttributes( decoder.getUInt32("SpecifiedAttributes") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setWriteMask( decoder.getUInt32("WriteMask") );
-    				result.setUserWriteMask( decoder.getUInt32("UserWriteMask") );
-    				result.setIsAbstract( decoder.getBoolean("IsAbstract") );
-    				result.setSymmetric( decoder.getBoolean("Symmetric") );
-    				result.setInverseName( decoder.getLocalizedText("InverseName") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ReferenceTypeAttributes", new ExpandedNodeId(Identifiers.ReferenceTypeAttributes_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ReferenceTypeAttributes_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ReferenceTypeAttributes));
     	// DataTypeAttributes
-    	addSerializer(
-    		new AbstractSerializer(DataTypeAttributes.class, DataTypeAttributes.BINARY, DataTypeAttributes.XML, DataTypeAttributes.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DataTypeAttributes obj = (DataTypeAttributes) encodeable;
-    				calculator.putUInt32(null, null /*obj.getSpecifiedAttributes()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putUInt32(null, null /*obj.getWriteMask()*/);
-    				calculator.putUInt32(null, null /*obj.getUserWriteMask()*/);
-    				calculator.putBoolean(null, null /*obj.getIsAbstract()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DataTypeAttributes obj = (DataTypeAttributes) encodeable;
-    				encoder.putUInt32("SpecifiedAttributes",  (obj==null)?null:obj.getSpecifiedAttributes() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putUInt32("WriteMask",  (obj==null)?null:obj.getWriteMask() );
-    				encoder.putUInt32("UserWriteMask",  (obj==null)?null:obj.getUserWriteMask() );
-    				encoder.putBoolean("IsAbstract",  (obj==null)?null:obj.getIsAbstract() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DataTypeAttributes result = new DataTypeAttributes();
-    				result.setSpecifiedAttributes( decoder.getUInt32("SpecifiedAttributes") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setWriteMask( decoder.getUInt32("WriteMask") );
-    				result.setUserWriteMask( decoder.getUInt32("UserWriteMask") );
-    				result.setIsAbstract( decoder.getBoolean("IsAbstract") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DataTypeAttributes", new ExpandedNodeId(Identifiers.DataTypeAttributes_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DataTypeAttributes_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DataTypeAttributes));
     	// ViewAttributes
-    	addSerializer(
-    		new AbstractSerializer(ViewAttributes.class, ViewAttributes.BINARY, ViewAttributes.XML, ViewAttributes.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ViewAttributes obj = (ViewAttributes) encodeable;
-    				calculator.putUInt32(null, null /*obj.getSpecifiedAttributes()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putUInt32(null, null /*obj.getWriteMask()*/);
-    				calculator.putUInt32(null, null /*obj.getUserWriteMask()*/);
-    				calculator.putBoolean(null, null /*obj.getContainsNoLoops()*/);
-    				calculator.putByte(null, null /*obj.getEventNotifier()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ViewAttributes obj = (ViewAttributes) encodeable;
-    				encoder.putUInt32("SpecifiedAttributes",  (obj==null)?null:obj.getSpecifiedAttributes() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putUInt32("WriteMask",  (obj==null)?null:obj.getWriteMask() );
-    				encoder.putUInt32("UserWriteMask",  (obj==null)?null:obj.getUserWriteMask() );
-    				encoder.putBoolean("ContainsNoLoops",  (obj==null)?null:obj.getContainsNoLoops() );
-    				encoder.putByte("EventNotifier",  (obj==null)?null:obj.getEventNotifier() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ViewAttributes result = new ViewAttributes();
-    				result.setSpecifiedAttributes( decoder.getUInt32("SpecifiedAttributes") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setWriteMask( decoder.getUInt32("WriteMask") );
-    				result.setUserWriteMask( decoder.getUInt32("UserWriteMask") );
-    				result.setContainsNoLoops( decoder.getBoolean("ContainsNoLoops") );
-    				result.setEventNotifier( decoder.getByte("EventNotifier") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ViewAttributes", new ExpandedNodeId(Identifiers.ViewAttributes_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ViewAttributes_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ViewAttributes));
     	// GenericAttributeValue
-    	addSerializer(
-    		new AbstractSerializer(GenericAttributeValue.class, GenericAttributeValue.BINARY, GenericAttributeValue.XML, GenericAttributeValue.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				GenericAttributeValue obj = (GenericAttributeValue) encodeable;
-    				calculator.putUInt32(null, null /*obj.getAttributeId()*/);
-    				calculator.putVariant(null,  (obj==null)?null:obj.getValue() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				GenericAttributeValue obj = (GenericAttributeValue) encodeable;
-    				encoder.putUInt32("AttributeId",  (obj==null)?null:obj.getAttributeId() );
-    				encoder.putVariant("Value",  (obj==null)?null:obj.getValue() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				GenericAttributeValue result = new GenericAttributeValue();
-    				result.setAttributeId( decoder.getUInt32("AttributeId") );
-    				result.setValue( decoder.getVariant("Value") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.GenericAttributeValue", new ExpandedNodeId(Identifiers.GenericAttributeValue_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.GenericAttributeValue_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.GenericAttributeValue));
     	// GenericAttributes
-    	addSerializer(
-    		new AbstractSerializer(GenericAttributes.class, GenericAttributes.BINARY, GenericAttributes.XML, GenericAttributes.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				GenericAttributes obj = (GenericAttributes) encodeable;
-    				calculator.putUInt32(null, null /*obj.getSpecifiedAttributes()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    				calculator.putUInt32(null, null /*obj.getWriteMask()*/);
-    				calculator.putUInt32(null, null /*obj.getUserWriteMask()*/);
-    				calculator.putEncodeableArray(null, GenericAttributeValue.class, (obj==null)?null:obj.getAttributeValues());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				GenericAttributes obj = (GenericAttributes) encodeable;
-    				encoder.putUInt32("SpecifiedAttributes",  (obj==null)?null:obj.getSpecifiedAttributes() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    				encoder.putUInt32("WriteMask",  (obj==null)?null:obj.getWriteMask() );
-    				encoder.putUInt32("UserWriteMask",  (obj==null)?null:obj.getUserWriteMask() );
-    				encoder.putEncodeableArray("AttributeValues", GenericAttributeValue.class, (obj==null)?null:obj.getAttributeValues());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				GenericAttributes result = new GenericAttributes();
-    				result.setSpecifiedAttributes( decoder.getUInt32("SpecifiedAttributes") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				result.setWriteMask( decoder.getUInt32("WriteMask") );
-    				result.setUserWriteMask( decoder.getUInt32("UserWriteMask") );
-    				result.setAttributeValues( decoder.getEncodeableArray("AttributeValues", GenericAttributeValue.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.GenericAttributes", new ExpandedNodeId(Identifiers.GenericAttributes_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.GenericAttributes_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.GenericAttributes));
     	// AddNodesItem
-    	addSerializer(
-    		new AbstractSerializer(AddNodesItem.class, AddNodesItem.BINARY, AddNodesItem.XML, AddNodesItem.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				AddNodesItem obj = (AddNodesItem) encodeable;
-    				calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getParentNodeId() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getReferenceTypeId() );
-    				calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getRequestedNewNodeId() );
-    				calculator.putQualifiedName(null,  (obj==null)?null:obj.getBrowseName() );
-    				calculator.putEnumeration(null, null /*obj.getNodeClass()*/);
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getNodeAttributes() );
-    				calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getTypeDefinition() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				AddNodesItem obj = (AddNodesItem) encodeable;
-    				encoder.putExpandedNodeId("ParentNodeId",  (obj==null)?null:obj.getParentNodeId() );
-    				encoder.putNodeId("ReferenceTypeId",  (obj==null)?null:obj.getReferenceTypeId() );
-    				encoder.putExpandedNodeId("RequestedNewNodeId",  (obj==null)?null:obj.getRequestedNewNodeId() );
-    				encoder.putQualifiedName("BrowseName",  (obj==null)?null:obj.getBrowseName() );
-    				encoder.putEnumeration("NodeClass",  (obj==null)?null:obj.getNodeClass() );
-    				encoder.putExtensionObject("NodeAttributes",  (obj==null)?null:obj.getNodeAttributes() );
-    				encoder.putExpandedNodeId("TypeDefinition",  (obj==null)?null:obj.getTypeDefinition() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				AddNodesItem result = new AddNodesItem();
-    				result.setParentNodeId( decoder.getExpandedNodeId("ParentNodeId") );
-    				result.setReferenceTypeId( decoder.getNodeId("ReferenceTypeId") );
-    				result.setRequestedNewNodeId( decoder.getExpandedNodeId("RequestedNewNodeId") );
-    				result.setBrowseName( decoder.getQualifiedName("BrowseName") );
-    				result.setNodeClass( decoder.getEnumeration("NodeClass", NodeClass.class) );
-    				result.setNodeAttributes( decoder.getExtensionObject("NodeAttributes") );
-    				result.setTypeDefinition( decoder.getExpandedNodeId("TypeDefinition") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.AddNodesItem", new ExpandedNodeId(Identifiers.AddNodesItem_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.AddNodesItem_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.AddNodesItem));
     	// AddNodesResult
-    	addSerializer(
-    		new AbstractSerializer(AddNodesResult.class, AddNodesResult.BINARY, AddNodesResult.XML, AddNodesResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				AddNodesResult obj = (AddNodesResult) encodeable;
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getStatusCode() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getAddedNodeId() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				AddNodesResult obj = (AddNodesResult) encodeable;
-    				encoder.putStatusCode("StatusCode",  (obj==null)?null:obj.getStatusCode() );
-    				encoder.putNodeId("AddedNodeId",  (obj==null)?null:obj.getAddedNodeId() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				AddNodesResult result = new AddNodesResult();
-    				result.setStatusCode( decoder.getStatusCode("StatusCode") );
-    				result.setAddedNodeId( decoder.getNodeId("AddedNodeId") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.AddNodesResult", new ExpandedNodeId(Identifiers.AddNodesResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.AddNodesResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.AddNodesResult));
     	// AddNodesRequest
-		addSerializer(
-				new AbstractSerializer(AddNodesRequest.class, AddNodesRequest.BINARY, AddNodesRequest.XML, AddNodesRequest.ID) {
-					public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-						AddNodesRequest obj = (AddNodesRequest) encodeable;
-						calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-						calculator.putEncodeableArray(null, AddNodesItem.class, (obj==null)?null:obj.getNodesToAdd());
-					}
-					public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-						AddNodesRequest obj = (AddNodesRequest) encodeable;
-						encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-						encoder.putEncodeableArray("NodesToAdd", AddNodesItem.class, (obj==null)?null:obj.getNodesToAdd());
-					}
-					public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-						AddNodesRequest result = new AddNodesRequest();
-						result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-						result.setNodesToAdd( decoder.getEncodeableArray("NodesToAdd", AddNodesItem.class) );
-						return result;
-					}
-				});
-    
+    	addSerializer("com.prosysopc.ua.core.AddNodesRequest", new ExpandedNodeId(Identifiers.AddNodesRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.AddNodesRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.AddNodesRequest));
     	// AddNodesResponse
-    	addSerializer(
-    		new AbstractSerializer(AddNodesResponse.class, AddNodesResponse.BINARY, AddNodesResponse.XML, AddNodesResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				AddNodesResponse obj = (AddNodesResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, AddNodesResult.class, (obj==null)?null:obj.getResults());
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				AddNodesResponse obj = (AddNodesResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("Results", AddNodesResult.class, (obj==null)?null:obj.getResults());
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				AddNodesResponse result = new AddNodesResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getEncodeableArray("Results", AddNodesResult.class) );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.AddNodesResponse", new ExpandedNodeId(Identifiers.AddNodesResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.AddNodesResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.AddNodesResponse));
     	// AddReferencesItem
-    	addSerializer(
-    		new AbstractSerializer(AddReferencesItem.class, AddReferencesItem.BINARY, AddReferencesItem.XML, AddReferencesItem.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				AddReferencesItem obj = (AddReferencesItem) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getSourceNodeId() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getReferenceTypeId() );
-    				calculator.putBoolean(null, null /*obj.getIsForward()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getTargetServerUri() );
-    				calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getTargetNodeId() );
-    				calculator.putEnumeration(null, null /*obj.getTargetNodeClass()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				AddReferencesItem obj = (AddReferencesItem) encodeable;
-    				encoder.putNodeId("SourceNodeId",  (obj==null)?null:obj.getSourceNodeId() );
-    				encoder.putNodeId("ReferenceTypeId",  (obj==null)?null:obj.getReferenceTypeId() );
-    				encoder.putBoolean("IsForward",  (obj==null)?null:obj.getIsForward() );
-    				encoder.putString("TargetServerUri",  (obj==null)?null:obj.getTargetServerUri() );
-    				encoder.putExpandedNodeId("TargetNodeId",  (obj==null)?null:obj.getTargetNodeId() );
-    				encoder.putEnumeration("TargetNodeClass",  (obj==null)?null:obj.getTargetNodeClass() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				AddReferencesItem result = new AddReferencesItem();
-    				result.setSourceNodeId( decoder.getNodeId("SourceNodeId") );
-    				result.setReferenceTypeId( decoder.getNodeId("ReferenceTypeId") );
-    				result.setIsForward( decoder.getBoolean("IsForward") );
-    				result.setTargetServerUri( decoder.getString("TargetServerUri") );
-    				result.setTargetNodeId( decoder.getExpandedNodeId("TargetNodeId") );
-    				result.setTargetNodeClass( decoder.getEnumeration("TargetNodeClass", NodeClass.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.AddReferencesItem", new ExpandedNodeId(Identifiers.AddReferencesItem_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.AddReferencesItem_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.AddReferencesItem));
     	// AddReferencesRequest
-    	addSerializer(
-    		new AbstractSerializer(AddReferencesRequest.class, AddReferencesRequest.BINARY, AddReferencesRequest.XML, AddReferencesRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				AddReferencesRequest obj = (AddReferencesRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putEncodeableArray(null, AddReferencesItem.class, (obj==null)?null:obj.getReferencesToAdd());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				AddReferencesRequest obj = (AddReferencesRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putEncodeableArray("ReferencesToAdd", AddReferencesItem.class, (obj==null)?null:obj.getReferencesToAdd());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				AddReferencesRequest result = new AddReferencesRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setReferencesToAdd( decoder.getEncodeableArray("ReferencesToAdd", AddReferencesItem.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.AddReferencesRequest", new ExpandedNodeId(Identifiers.AddReferencesRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.AddReferencesRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.AddReferencesRequest));
     	// AddReferencesResponse
-    	addSerializer(
-    		new AbstractSerializer(AddReferencesResponse.class, AddReferencesResponse.BINARY, AddReferencesResponse.XML, AddReferencesResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				AddReferencesResponse obj = (AddReferencesResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				AddReferencesResponse obj = (AddReferencesResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putStatusCodeArray("Results", (obj==null)?null:obj.getResults() );
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				AddReferencesResponse result = new AddReferencesResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getStatusCodeArray("Results") );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.AddReferencesResponse", new ExpandedNodeId(Identifiers.AddReferencesResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.AddReferencesResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.AddReferencesResponse));
     	// DeleteNodesItem
-    	addSerializer(
-    		new AbstractSerializer(DeleteNodesItem.class, DeleteNodesItem.BINARY, DeleteNodesItem.XML, DeleteNodesItem.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DeleteNodesItem obj = (DeleteNodesItem) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putBoolean(null, null /*obj.getDeleteTargetReferences()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DeleteNodesItem obj = (DeleteNodesItem) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putBoolean("DeleteTargetReferences",  (obj==null)?null:obj.getDeleteTargetReferences() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DeleteNodesItem result = new DeleteNodesItem();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				result.setDeleteTargetReferences( decoder.getBoolean("DeleteTargetReferences") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DeleteNodesItem", new ExpandedNodeId(Identifiers.DeleteNodesItem_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DeleteNodesItem_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DeleteNodesItem));
     	// DeleteNodesRequest
-    	addSerializer(
-    		new AbstractSerializer(DeleteNodesRequest.class, DeleteNodesRequest.BINARY, DeleteNodesRequest.XML, DeleteNodesRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DeleteNodesRequest obj = (DeleteNodesRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putEncodeableArray(null, DeleteNodesItem.class, (obj==null)?null:obj.getNodesToDelete());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DeleteNodesRequest obj = (DeleteNodesRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putEncodeableArray("NodesToDelete", DeleteNodesItem.class, (obj==null)?null:obj.getNodesToDelete());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DeleteNodesRequest result = new DeleteNodesRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setNodesToDelete( decoder.getEncodeableArray("NodesToDelete", DeleteNodesItem.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DeleteNodesRequest", new ExpandedNodeId(Identifiers.DeleteNodesRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DeleteNodesRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DeleteNodesRequest));
     	// DeleteNodesResponse
-    	addSerializer(
-    		new AbstractSerializer(DeleteNodesResponse.class, DeleteNodesResponse.BINARY, DeleteNodesResponse.XML, DeleteNodesResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DeleteNodesResponse obj = (DeleteNodesResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DeleteNodesResponse obj = (DeleteNodesResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putStatusCodeArray("Results", (obj==null)?null:obj.getResults() );
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DeleteNodesResponse result = new DeleteNodesResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getStatusCodeArray("Results") );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DeleteNodesResponse", new ExpandedNodeId(Identifiers.DeleteNodesResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DeleteNodesResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DeleteNodesResponse));
     	// DeleteReferencesItem
-    	addSerializer(
-    		new AbstractSerializer(DeleteReferencesItem.class, DeleteReferencesItem.BINARY, DeleteReferencesItem.XML, DeleteReferencesItem.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DeleteReferencesItem obj = (DeleteReferencesItem) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getSourceNodeId() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getReferenceTypeId() );
-    				calculator.putBoolean(null, null /*obj.getIsForward()*/);
-    				calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getTargetNodeId() );
-    				calculator.putBoolean(null, null /*obj.getDeleteBidirectional()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DeleteReferencesItem obj = (DeleteReferencesItem) encodeable;
-    				encoder.putNodeId("SourceNodeId",  (obj==null)?null:obj.getSourceNodeId() );
-    				encoder.putNodeId("ReferenceTypeId",  (obj==null)?null:obj.getReferenceTypeId() );
-    				encoder.putBoolean("IsForward",  (obj==null)?null:obj.getIsForward() );
-    				encoder.putExpandedNodeId("TargetNodeId",  (obj==null)?null:obj.getTargetNodeId() );
-    				encoder.putBoolean("DeleteBidirectional",  (obj==null)?null:obj.getDeleteBidirectional() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DeleteReferencesItem result = new DeleteReferencesItem();
-    				result.setSourceNodeId( decoder.getNodeId("SourceNodeId") );
-    				result.setReferenceTypeId( decoder.getNodeId("ReferenceTypeId") );
-    				result.setIsForward( decoder.getBoolean("IsForward") );
-    				result.setTargetNodeId( decoder.getExpandedNodeId("TargetNodeId") );
-    				result.setDeleteBidirectional( decoder.getBoolean("DeleteBidirectional") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DeleteReferencesItem", new ExpandedNodeId(Identifiers.DeleteReferencesItem_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DeleteReferencesItem_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DeleteReferencesItem));
     	// DeleteReferencesRequest
-    	addSerializer(
-    		new AbstractSerializer(DeleteReferencesRequest.class, DeleteReferencesRequest.BINARY, DeleteReferencesRequest.XML, DeleteReferencesRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DeleteReferencesRequest obj = (DeleteReferencesRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putEncodeableArray(null, DeleteReferencesItem.class, (obj==null)?null:obj.getReferencesToDelete());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DeleteReferencesRequest obj = (DeleteReferencesRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putEncodeableArray("ReferencesToDelete", DeleteReferencesItem.class, (obj==null)?null:obj.getReferencesToDelete());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DeleteReferencesRequest result = new DeleteReferencesRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setReferencesToDelete( decoder.getEncodeableArray("ReferencesToDelete", DeleteReferencesItem.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DeleteReferencesRequest", new ExpandedNodeId(Identifiers.DeleteReferencesRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DeleteReferencesRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DeleteReferencesRequest));
     	// DeleteReferencesResponse
-    	addSerializer(
-    		new AbstractSerializer(DeleteReferencesResponse.class, DeleteReferencesResponse.BINARY, DeleteReferencesResponse.XML, DeleteReferencesResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DeleteReferencesResponse obj = (DeleteReferencesResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DeleteReferencesResponse obj = (DeleteReferencesResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putStatusCodeArray("Results", (obj==null)?null:obj.getResults() );
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DeleteReferencesResponse result = new DeleteReferencesResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getStatusCodeArray("Results") );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DeleteReferencesResponse", new ExpandedNodeId(Identifiers.DeleteReferencesResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DeleteReferencesResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DeleteReferencesResponse));
     	// ViewDescription
-    	addSerializer(
-    		new AbstractSerializer(ViewDescription.class, ViewDescription.BINARY, ViewDescription.XML, ViewDescription.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ViewDescription obj = (ViewDescription) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getViewId() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getTimestamp() );
-    				calculator.putUInt32(null, null /*obj.getViewVersion()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ViewDescription obj = (ViewDescription) encodeable;
-    				encoder.putNodeId("ViewId",  (obj==null)?null:obj.getViewId() );
-    				encoder.putDateTime("Timestamp",  (obj==null)?null:obj.getTimestamp() );
-    				encoder.putUInt32("ViewVersion",  (obj==null)?null:obj.getViewVersion() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ViewDescription result = new ViewDescription();
-    				result.setViewId( decoder.getNodeId("ViewId") );
-    				result.setTimestamp( decoder.getDateTime("Timestamp") );
-    				result.setViewVersion( decoder.getUInt32("ViewVersion") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ViewDescription", new ExpandedNodeId(Identifiers.ViewDescription_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ViewDescription_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ViewDescription));
     	// BrowseDescription
-    	addSerializer(
-    		new AbstractSerializer(BrowseDescription.class, BrowseDescription.BINARY, BrowseDescription.XML, BrowseDescription.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BrowseDescription obj = (BrowseDescription) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putEnumeration(null, null /*obj.getBrowseDirection()*/);
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getReferenceTypeId() );
-    				calculator.putBoolean(null, null /*obj.getIncludeSubtypes()*/);
-    				calculator.putUInt32(null, null /*obj.getNodeClassMask()*/);
-    				calculator.putUInt32(null, null /*obj.getResultMask()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BrowseDescription obj = (BrowseDescription) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putEnumeration("BrowseDirection",  (obj==null)?null:obj.getBrowseDirection() );
-    				encoder.putNodeId("ReferenceTypeId",  (obj==null)?null:obj.getReferenceTypeId() );
-    				encoder.putBoolean("IncludeSubtypes",  (obj==null)?null:obj.getIncludeSubtypes() );
-    				encoder.putUInt32("NodeClassMask",  (obj==null)?null:obj.getNodeClassMask() );
-    				encoder.putUInt32("ResultMask",  (obj==null)?null:obj.getResultMask() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BrowseDescription result = new BrowseDescription();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				result.setBrowseDirection( decoder.getEnumeration("BrowseDirection", BrowseDirection.class) );
-    				result.setReferenceTypeId( decoder.getNodeId("ReferenceTypeId") );
-    				result.setIncludeSubtypes( decoder.getBoolean("IncludeSubtypes") );
-    				result.setNodeClassMask( decoder.getUInt32("NodeClassMask") );
-    				result.setResultMask( decoder.getUInt32("ResultMask") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BrowseDescription", new ExpandedNodeId(Identifiers.BrowseDescription_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BrowseDescription_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BrowseDescription));
     	// ReferenceDescription
-    	addSerializer(
-    		new AbstractSerializer(ReferenceDescription.class, ReferenceDescription.BINARY, ReferenceDescription.XML, ReferenceDescription.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ReferenceDescription obj = (ReferenceDescription) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getReferenceTypeId() );
-    				calculator.putBoolean(null, null /*obj.getIsForward()*/);
-    				calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putQualifiedName(null,  (obj==null)?null:obj.getBrowseName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putEnumeration(null, null /*obj.getNodeClass()*/);
-    				calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getTypeDefinition() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ReferenceDescription obj = (ReferenceDescription) encodeable;
-    				encoder.putNodeId("ReferenceTypeId",  (obj==null)?null:obj.getReferenceTypeId() );
-    				encoder.putBoolean("IsForward",  (obj==null)?null:obj.getIsForward() );
-    				encoder.putExpandedNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putQualifiedName("BrowseName",  (obj==null)?null:obj.getBrowseName() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putEnumeration("NodeClass",  (obj==null)?null:obj.getNodeClass() );
-    				encoder.putExpandedNodeId("TypeDefinition",  (obj==null)?null:obj.getTypeDefinition() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ReferenceDescription result = new ReferenceDescription();
-    				result.setReferenceTypeId( decoder.getNodeId("ReferenceTypeId") );
-    				result.setIsForward( decoder.getBoolean("IsForward") );
-    				result.setNodeId( decoder.getExpandedNodeId("NodeId") );
-    				result.setBrowseName( decoder.getQualifiedName("BrowseName") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setNodeClass( decoder.getEnumeration("NodeClass", NodeClass.class) );
-    				result.setTypeDefinition( decoder.getExpandedNodeId("TypeDefinition") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ReferenceDescription", new ExpandedNodeId(Identifiers.ReferenceDescription_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ReferenceDescription_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ReferenceDescription));
     	// BrowseResult
-    	addSerializer(
-    		new AbstractSerializer(BrowseResult.class, BrowseResult.BINARY, BrowseResult.XML, BrowseResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BrowseResult obj = (BrowseResult) encodeable;
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getStatusCode() );
-    				calculator.putByteString(null,  (obj==null)?null:obj.getContinuationPoint() );
-    				calculator.putEncodeableArray(null, ReferenceDescription.class, (obj==null)?null:obj.getReferences());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BrowseResult obj = (BrowseResult) encodeable;
-    				encoder.putStatusCode("StatusCode",  (obj==null)?null:obj.getStatusCode() );
-    				encoder.putByteString("ContinuationPoint",  (obj==null)?null:obj.getContinuationPoint() );
-    				encoder.putEncodeableArray("References", ReferenceDescription.class, (obj==null)?null:obj.getReferences());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BrowseResult result = new BrowseResult();
-    				result.setStatusCode( decoder.getStatusCode("StatusCode") );
-    				result.setContinuationPoint( decoder.getByteString("ContinuationPoint") );
-    				result.setReferences( decoder.getEncodeableArray("References", ReferenceDescription.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BrowseResult", new ExpandedNodeId(Identifiers.BrowseResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BrowseResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BrowseResult));
     	// BrowseRequest
-    	addSerializer(
-    		new AbstractSerializer(BrowseRequest.class, BrowseRequest.BINARY, BrowseRequest.XML, BrowseRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BrowseRequest obj = (BrowseRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putEncodeable(null, ViewDescription.class, (obj==null)?null:obj.getView());
-    				calculator.putUInt32(null, null /*obj.getRequestedMaxReferencesPerNode()*/);
-    				calculator.putEncodeableArray(null, BrowseDescription.class, (obj==null)?null:obj.getNodesToBrowse());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BrowseRequest obj = (BrowseRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putEncodeable("View", ViewDescription.class, (obj==null)?null:obj.getView());
-    				encoder.putUInt32("RequestedMaxReferencesPerNode",  (obj==null)?null:obj.getRequestedMaxReferencesPerNode() );
-    				encoder.putEncodeableArray("NodesToBrowse", BrowseDescription.class, (obj==null)?null:obj.getNodesToBrowse());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BrowseRequest result = new BrowseRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setView( decoder.getEncodeable("View", ViewDescription.class) );
-    				result.setRequestedMaxReferencesPerNode( decoder.getUInt32("RequestedMaxReferencesPerNode") );
-    				result.setNodesToBrowse( decoder.getEncodeableArray("NodesToBrowse", BrowseDescription.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BrowseRequest", new ExpandedNodeId(Identifiers.BrowseRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BrowseRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BrowseRequest));
     	// BrowseResponse
-    	addSerializer(
-    		new AbstractSerializer(BrowseResponse.class, BrowseResponse.BINARY, BrowseResponse.XML, BrowseResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BrowseResponse obj = (BrowseResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, BrowseResult.class, (obj==null)?null:obj.getResults());
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BrowseResponse obj = (BrowseResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("Results", BrowseResult.class, (obj==null)?null:obj.getResults());
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BrowseResponse result = new BrowseResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getEncodeableArray("Results", BrowseResult.class) );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BrowseResponse", new ExpandedNodeId(Identifiers.BrowseResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BrowseResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BrowseResponse));
     	// BrowseNextRequest
-    	addSerializer(
-    		new AbstractSerializer(BrowseNextRequest.class, BrowseNextRequest.BINARY, BrowseNextRequest.XML, BrowseNextRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BrowseNextRequest obj = (BrowseNextRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putBoolean(null, null /*obj.getReleaseContinuationPoints()*/);
-    				calculator.putByteStringArray(null, ((obj==null)?null:obj.getContinuationPoints()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BrowseNextRequest obj = (BrowseNextRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putBoolean("ReleaseContinuationPoints",  (obj==null)?null:obj.getReleaseContinuationPoints() );
-    				encoder.putByteStringArray("ContinuationPoints", (obj==null)?null:obj.getContinuationPoints() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BrowseNextRequest result = new BrowseNextRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setReleaseContinuationPoints( decoder.getBoolean("ReleaseContinuationPoints") );
-    				result.setContinuationPoints( decoder.getByteStringArray("ContinuationPoints") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BrowseNextRequest", new ExpandedNodeId(Identifiers.BrowseNextRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BrowseNextRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BrowseNextRequest));
     	// BrowseNextResponse
-    	addSerializer(
-    		new AbstractSerializer(BrowseNextResponse.class, BrowseNextResponse.BINARY, BrowseNextResponse.XML, BrowseNextResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BrowseNextResponse obj = (BrowseNextResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, BrowseResult.class, (obj==null)?null:obj.getResults());
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BrowseNextResponse obj = (BrowseNextResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("Results", BrowseResult.class, (obj==null)?null:obj.getResults());
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BrowseNextResponse result = new BrowseNextResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getEncodeableArray("Results", BrowseResult.class) );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BrowseNextResponse", new ExpandedNodeId(Identifiers.BrowseNextResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BrowseNextResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BrowseNextResponse));
     	// RelativePathElement
-    	addSerializer(
-    		new AbstractSerializer(RelativePathElement.class, RelativePathElement.BINARY, RelativePathElement.XML, RelativePathElement.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RelativePathElement obj = (RelativePathElement) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getReferenceTypeId() );
-    				calculator.putBoolean(null, null /*obj.getIsInverse()*/);
-    				calculator.putBoolean(null, null /*obj.getIncludeSubtypes()*/);
-    				calculator.putQualifiedName(null,  (obj==null)?null:obj.getTargetName() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RelativePathElement obj = (RelativePathElement) encodeable;
-    				encoder.putNodeId("ReferenceTypeId",  (obj==null)?null:obj.getReferenceTypeId() );
-    				encoder.putBoolean("IsInverse",  (obj==null)?null:obj.getIsInverse() );
-    				encoder.putBoolean("IncludeSubtypes",  (obj==null)?null:obj.getIncludeSubtypes() );
-    				encoder.putQualifiedName("TargetName",  (obj==null)?null:obj.getTargetName() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RelativePathElement result = new RelativePathElement();
-    				result.setReferenceTypeId( decoder.getNodeId("ReferenceTypeId") );
-    				result.setIsInverse( decoder.getBoolean("IsInverse") );
-    				result.setIncludeSubtypes( decoder.getBoolean("IncludeSubtypes") );
-    				result.setTargetName( decoder.getQualifiedName("TargetName") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RelativePathElement", new ExpandedNodeId(Identifiers.RelativePathElement_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RelativePathElement_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RelativePathElement));
     	// RelativePath
-    	addSerializer(
-    		new AbstractSerializer(RelativePath.class, RelativePath.BINARY, RelativePath.XML, RelativePath.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RelativePath obj = (RelativePath) encodeable;
-    				calculator.putEncodeableArray(null, RelativePathElement.class, (obj==null)?null:obj.getElements());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RelativePath obj = (RelativePath) encodeable;
-    				encoder.putEncodeableArray("Elements", RelativePathElement.class, (obj==null)?null:obj.getElements());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RelativePath result = new RelativePath();
-    				result.setElements( decoder.getEncodeableArray("Elements", RelativePathElement.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RelativePath", new ExpandedNodeId(Identifiers.RelativePath_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RelativePath_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RelativePath));
     	// BrowsePath
-    	addSerializer(
-    		new AbstractSerializer(BrowsePath.class, BrowsePath.BINARY, BrowsePath.XML, BrowsePath.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BrowsePath obj = (BrowsePath) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getStartingNode() );
-    				calculator.putEncodeable(null, RelativePath.class, (obj==null)?null:obj.getRelativePath());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BrowsePath obj = (BrowsePath) encodeable;
-    				encoder.putNodeId("StartingNode",  (obj==null)?null:obj.getStartingNode() );
-    				encoder.putEncodeable("RelativePath", RelativePath.class, (obj==null)?null:obj.getRelativePath());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BrowsePath result = new BrowsePath();
-    				result.setStartingNode( decoder.getNodeId("StartingNode") );
-    				result.setRelativePath( decoder.getEncodeable("RelativePath", RelativePath.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BrowsePath", new ExpandedNodeId(Identifiers.BrowsePath_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BrowsePath_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BrowsePath));
     	// BrowsePathTarget
-    	addSerializer(
-    		new AbstractSerializer(BrowsePathTarget.class, BrowsePathTarget.BINARY, BrowsePathTarget.XML, BrowsePathTarget.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BrowsePathTarget obj = (BrowsePathTarget) encodeable;
-    				calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getTargetId() );
-    				calculator.putUInt32(null, null /*obj.getRemainingPathIndex()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BrowsePathTarget obj = (BrowsePathTarget) encodeable;
-    				encoder.putExpandedNodeId("TargetId",  (obj==null)?null:obj.getTargetId() );
-    				encoder.putUInt32("RemainingPathIndex",  (obj==null)?null:obj.getRemainingPathIndex() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BrowsePathTarget result = new BrowsePathTarget();
-    				result.setTargetId( decoder.getExpandedNodeId("TargetId") );
-    				result.setRemainingPathIndex( decoder.getUInt32("RemainingPathIndex") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BrowsePathTarget", new ExpandedNodeId(Identifiers.BrowsePathTarget_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BrowsePathTarget_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BrowsePathTarget));
     	// BrowsePathResult
-    	addSerializer(
-    		new AbstractSerializer(BrowsePathResult.class, BrowsePathResult.BINARY, BrowsePathResult.XML, BrowsePathResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BrowsePathResult obj = (BrowsePathResult) encodeable;
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getStatusCode() );
-    				calculator.putEncodeableArray(null, BrowsePathTarget.class, (obj==null)?null:obj.getTargets());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BrowsePathResult obj = (BrowsePathResult) encodeable;
-    				encoder.putStatusCode("StatusCode",  (obj==null)?null:obj.getStatusCode() );
-    				encoder.putEncodeableArray("Targets", BrowsePathTarget.class, (obj==null)?null:obj.getTargets());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BrowsePathResult result = new BrowsePathResult();
-    				result.setStatusCode( decoder.getStatusCode("StatusCode") );
-    				result.setTargets( decoder.getEncodeableArray("Targets", BrowsePathTarget.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BrowsePathResult", new ExpandedNodeId(Identifiers.BrowsePathResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BrowsePathResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BrowsePathResult));
     	// TranslateBrowsePathsToNodeIdsRequest
-    	addSerializer(
-    		new AbstractSerializer(TranslateBrowsePathsToNodeIdsRequest.class, TranslateBrowsePathsToNodeIdsRequest.BINARY, TranslateBrowsePathsToNodeIdsRequest.XML, TranslateBrowsePathsToNodeIdsRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				TranslateBrowsePathsToNodeIdsRequest obj = (TranslateBrowsePathsToNodeIdsRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putEncodeableArray(null, BrowsePath.class, (obj==null)?null:obj.getBrowsePaths());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				TranslateBrowsePathsToNodeIdsRequest obj = (TranslateBrowsePathsToNodeIdsRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putEncodeableArray("BrowsePaths", BrowsePath.class, (obj==null)?null:obj.getBrowsePaths());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				TranslateBrowsePathsToNodeIdsRequest result = new TranslateBrowsePathsToNodeIdsRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setBrowsePaths( decoder.getEncodeableArray("BrowsePaths", BrowsePath.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.TranslateBrowsePathsToNodeIdsRequest", new ExpandedNodeId(Identifiers.TranslateBrowsePathsToNodeIdsRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.TranslateBrowsePathsToNodeIdsRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.TranslateBrowsePathsToNodeIdsRequest));
     	// TranslateBrowsePathsToNodeIdsResponse
-    	addSerializer(
-    		new AbstractSerializer(TranslateBrowsePathsToNodeIdsResponse.class, TranslateBrowsePathsToNodeIdsResponse.BINARY, TranslateBrowsePathsToNodeIdsResponse.XML, TranslateBrowsePathsToNodeIdsResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				TranslateBrowsePathsToNodeIdsResponse obj = (TranslateBrowsePathsToNodeIdsResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, BrowsePathResult.class, (obj==null)?null:obj.getResults());
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				TranslateBrowsePathsToNodeIdsResponse obj = (TranslateBrowsePathsToNodeIdsResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("Results", BrowsePathResult.class, (obj==null)?null:obj.getResults());
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				TranslateBrowsePathsToNodeIdsResponse result = new TranslateBrowsePathsToNodeIdsResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getEncodeableArray("Results", BrowsePathResult.class) );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.TranslateBrowsePathsToNodeIdsResponse", new ExpandedNodeId(Identifiers.TranslateBrowsePathsToNodeIdsResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.TranslateBrowsePathsToNodeIdsResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.TranslateBrowsePathsToNodeIdsResponse));
     	// RegisterNodesRequest
-    	addSerializer(
-    		new AbstractSerializer(RegisterNodesRequest.class, RegisterNodesRequest.BINARY, RegisterNodesRequest.XML, RegisterNodesRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RegisterNodesRequest obj = (RegisterNodesRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putNodeIdArray(null, ((obj==null)?null:obj.getNodesToRegister()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RegisterNodesRequest obj = (RegisterNodesRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putNodeIdArray("NodesToRegister", (obj==null)?null:obj.getNodesToRegister() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RegisterNodesRequest result = new RegisterNodesRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setNodesToRegister( decoder.getNodeIdArray("NodesToRegister") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RegisterNodesRequest", new ExpandedNodeId(Identifiers.RegisterNodesRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RegisterNodesRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RegisterNodesRequest));
     	// RegisterNodesResponse
-    	addSerializer(
-    		new AbstractSerializer(RegisterNodesResponse.class, RegisterNodesResponse.BINARY, RegisterNodesResponse.XML, RegisterNodesResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RegisterNodesResponse obj = (RegisterNodesResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putNodeIdArray(null, ((obj==null)?null:obj.getRegisteredNodeIds()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RegisterNodesResponse obj = (RegisterNodesResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putNodeIdArray("RegisteredNodeIds", (obj==null)?null:obj.getRegisteredNodeIds() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RegisterNodesResponse result = new RegisterNodesResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setRegisteredNodeIds( decoder.getNodeIdArray("RegisteredNodeIds") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RegisterNodesResponse", new ExpandedNodeId(Identifiers.RegisterNodesResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RegisterNodesResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RegisterNodesResponse));
     	// UnregisterNodesRequest
-    	addSerializer(
-    		new AbstractSerializer(UnregisterNodesRequest.class, UnregisterNodesRequest.BINARY, UnregisterNodesRequest.XML, UnregisterNodesRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				UnregisterNodesRequest obj = (UnregisterNodesRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putNodeIdArray(null, ((obj==null)?null:obj.getNodesToUnregister()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				UnregisterNodesRequest obj = (UnregisterNodesRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putNodeIdArray("NodesToUnregister", (obj==null)?null:obj.getNodesToUnregister() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				UnregisterNodesRequest result = new UnregisterNodesRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setNodesToUnregister( decoder.getNodeIdArray("NodesToUnregister") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.UnregisterNodesRequest", new ExpandedNodeId(Identifiers.UnregisterNodesRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.UnregisterNodesRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.UnregisterNodesRequest));
     	// UnregisterNodesResponse
-    	addSerializer(
-    		new AbstractSerializer(UnregisterNodesResponse.class, UnregisterNodesResponse.BINARY, UnregisterNodesResponse.XML, UnregisterNodesResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				UnregisterNodesResponse obj = (UnregisterNodesResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				UnregisterNodesResponse obj = (UnregisterNodesResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				UnregisterNodesResponse result = new UnregisterNodesResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.UnregisterNodesResponse", new ExpandedNodeId(Identifiers.UnregisterNodesResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.UnregisterNodesResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.UnregisterNodesResponse));
     	// EndpointConfiguration
-    	addSerializer(
-    		new AbstractSerializer(EndpointConfiguration.class, EndpointConfiguration.BINARY, EndpointConfiguration.XML, EndpointConfiguration.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				EndpointConfiguration obj = (EndpointConfiguration) encodeable;
-    				calculator.putInt32(null, null /*obj.getOperationTimeout()*/);
-    				calculator.putBoolean(null, null /*obj.getUseBinaryEncoding()*/);
-    				calculator.putInt32(null, null /*obj.getMaxStringLength()*/);
-    				calculator.putInt32(null, null /*obj.getMaxByteStringLength()*/);
-    				calculator.putInt32(null, null /*obj.getMaxArrayLength()*/);
-    				calculator.putInt32(null, null /*obj.getMaxMessageSize()*/);
-    				calculator.putInt32(null, null /*obj.getMaxBufferSize()*/);
-    				calculator.putInt32(null, null /*obj.getChannelLifetime()*/);
-    				calculator.putInt32(null, null /*obj.getSecurityTokenLifetime()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				EndpointConfiguration obj = (EndpointConfiguration) encodeable;
-    				encoder.putInt32("OperationTimeout",  (obj==null)?null:obj.getOperationTimeout() );
-    				encoder.putBoolean("UseBinaryEncoding",  (obj==null)?null:obj.getUseBinaryEncoding() );
-    				encoder.putInt32("MaxStringLength",  (obj==null)?null:obj.getMaxStringLength() );
-    				encoder.putInt32("MaxByteStringLength",  (obj==null)?null:obj.getMaxByteStringLength() );
-    				encoder.putInt32("MaxArrayLength",  (obj==null)?null:obj.getMaxArrayLength() );
-    				encoder.putInt32("MaxMessageSize",  (obj==null)?null:obj.getMaxMessageSize() );
-    				encoder.putInt32("MaxBufferSize",  (obj==null)?null:obj.getMaxBufferSize() );
-    				encoder.putInt32("ChannelLifetime",  (obj==null)?null:obj.getChannelLifetime() );
-    				encoder.putInt32("SecurityTokenLifetime",  (obj==null)?null:obj.getSecurityTokenLifetime() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				EndpointConfiguration result = new EndpointConfiguration();
-    				result.setOperationTimeout( decoder.getInt32("OperationTimeout") );
-    				result.setUseBinaryEncoding( decoder.getBoolean("UseBinaryEncoding") );
-    				result.setMaxStringLength( decoder.getInt32("MaxStringLength") );
-    				result.setMaxByteStringLength( decoder.getInt32("MaxByteStringLength") );
-    				result.setMaxArrayLength( decoder.getInt32("MaxArrayLength") );
-    				result.setMaxMessageSize( decoder.getInt32("MaxMessageSize") );
-    				result.setMaxBufferSize( decoder.getInt32("MaxBufferSize") );
-    				result.setChannelLifetime( decoder.getInt32("ChannelLifetime") );
-    				result.setSecurityTokenLifetime( decoder.getInt32("SecurityTokenLifetime") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.EndpointConfiguration", new ExpandedNodeId(Identifiers.EndpointConfiguration_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.EndpointConfiguration_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.EndpointConfiguration));
     	// QueryDataDescription
-    	addSerializer(
-    		new AbstractSerializer(QueryDataDescription.class, QueryDataDescription.BINARY, QueryDataDescription.XML, QueryDataDescription.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				QueryDataDescription obj = (QueryDataDescription) encodeable;
-    				calculator.putEncodeable(null, RelativePath.class, (obj==null)?null:obj.getRelativePath());
-    				calculator.putUInt32(null, null /*obj.getAttributeId()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getIndexRange() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				QueryDataDescription obj = (QueryDataDescription) encodeable;
-    				encoder.putEncodeable("RelativePath", RelativePath.class, (obj==null)?null:obj.getRelativePath());
-    				encoder.putUInt32("AttributeId",  (obj==null)?null:obj.getAttributeId() );
-    				encoder.putString("IndexRange",  (obj==null)?null:obj.getIndexRange() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				QueryDataDescription result = new QueryDataDescription();
-    				result.setRelativePath( decoder.getEncodeable("RelativePath", RelativePath.class) );
-    				result.setAttributeId( decoder.getUInt32("AttributeId") );
-    				result.setIndexRange( decoder.getString("IndexRange") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.QueryDataDescription", new ExpandedNodeId(Identifiers.QueryDataDescription_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.QueryDataDescription_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.QueryDataDescription));
     	// NodeTypeDescription
-    	addSerializer(
-    		new AbstractSerializer(NodeTypeDescription.class, NodeTypeDescription.BINARY, NodeTypeDescription.XML, NodeTypeDescription.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				NodeTypeDescription obj = (NodeTypeDescription) encodeable;
-    				calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getTypeDefinitionNode() );
-    				calculator.putBoolean(null, null /*obj.getIncludeSubTypes()*/);
-    				calculator.putEncodeableArray(null, QueryDataDescription.class, (obj==null)?null:obj.getDataToReturn());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				NodeTypeDescription obj = (NodeTypeDescription) encodeable;
-    				encoder.putExpandedNodeId("TypeDefinitionNode",  (obj==null)?null:obj.getTypeDefinitionNode() );
-    				encoder.putBoolean("IncludeSubTypes",  (obj==null)?null:obj.getIncludeSubTypes() );
-    				encoder.putEncodeableArray("DataToReturn", QueryDataDescription.class, (obj==null)?null:obj.getDataToReturn());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				NodeTypeDescription result = new NodeTypeDescription();
-    				result.setTypeDefinitionNode( decoder.getExpandedNodeId("TypeDefinitionNode") );
-    				result.setIncludeSubTypes( decoder.getBoolean("IncludeSubTypes") );
-    				result.setDataToReturn( decoder.getEncodeableArray("DataToReturn", QueryDataDescription.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.NodeTypeDescription", new ExpandedNodeId(Identifiers.NodeTypeDescription_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.NodeTypeDescription_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.NodeTypeDescription));
     	// QueryDataSet
-    	addSerializer(
-    		new AbstractSerializer(QueryDataSet.class, QueryDataSet.BINARY, QueryDataSet.XML, QueryDataSet.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				QueryDataSet obj = (QueryDataSet) encodeable;
-    				calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getTypeDefinitionNode() );
-    				calculator.putVariantArray(null, ((obj==null)?null:obj.getValues()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				QueryDataSet obj = (QueryDataSet) encodeable;
-    				encoder.putExpandedNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putExpandedNodeId("TypeDefinitionNode",  (obj==null)?null:obj.getTypeDefinitionNode() );
-    				encoder.putVariantArray("Values", (obj==null)?null:obj.getValues() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				QueryDataSet result = new QueryDataSet();
-    				result.setNodeId( decoder.getExpandedNodeId("NodeId") );
-    				result.setTypeDefinitionNode( decoder.getExpandedNodeId("TypeDefinitionNode") );
-    				result.setValues( decoder.getVariantArray("Values") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.QueryDataSet", new ExpandedNodeId(Identifiers.QueryDataSet_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.QueryDataSet_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.QueryDataSet));
     	// NodeReference
-    	addSerializer(
-    		new AbstractSerializer(NodeReference.class, NodeReference.BINARY, NodeReference.XML, NodeReference.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				NodeReference obj = (NodeReference) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getReferenceTypeId() );
-    				calculator.putBoolean(null, null /*obj.getIsForward()*/);
-    				calculator.putNodeIdArray(null, ((obj==null)?null:obj.getReferencedNodeIds()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				NodeReference obj = (NodeReference) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putNodeId("ReferenceTypeId",  (obj==null)?null:obj.getReferenceTypeId() );
-    				encoder.putBoolean("IsForward",  (obj==null)?null:obj.getIsForward() );
-    				encoder.putNodeIdArray("ReferencedNodeIds", (obj==null)?null:obj.getReferencedNodeIds() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				NodeReference result = new NodeReference();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				result.setReferenceTypeId( decoder.getNodeId("ReferenceTypeId") );
-    				result.setIsForward( decoder.getBoolean("IsForward") );
-    				result.setReferencedNodeIds( decoder.getNodeIdArray("ReferencedNodeIds") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.NodeReference", new ExpandedNodeId(Identifiers.NodeReference_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.NodeReference_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.NodeReference));
     	// ContentFilterElement
-    	addSerializer(
-    		new AbstractSerializer(ContentFilterElement.class, ContentFilterElement.BINARY, ContentFilterElement.XML, ContentFilterElement.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ContentFilterElement obj = (ContentFilterElement) encodeable;
-    				calculator.putEnumeration(null, null /*obj.getFilterOperator()*/);
-    				calculator.putExtensionObjectArray(null, ((obj==null)?null:obj.getFilterOperands()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ContentFilterElement obj = (ContentFilterElement) encodeable;
-    				encoder.putEnumeration("FilterOperator",  (obj==null)?null:obj.getFilterOperator() );
-    				encoder.putExtensionObjectArray("FilterOperands", (obj==null)?null:obj.getFilterOperands() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ContentFilterElement result = new ContentFilterElement();
-    				result.setFilterOperator( decoder.getEnumeration("FilterOperator", FilterOperator.class) );
-    				result.setFilterOperands( decoder.getExtensionObjectArray("FilterOperands") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ContentFilterElement", new ExpandedNodeId(Identifiers.ContentFilterElement_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ContentFilterElement_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ContentFilterElement));
     	// ContentFilter
-    	addSerializer(
-    		new AbstractSerializer(ContentFilter.class, ContentFilter.BINARY, ContentFilter.XML, ContentFilter.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ContentFilter obj = (ContentFilter) encodeable;
-    				calculator.putEncodeableArray(null, ContentFilterElement.class, (obj==null)?null:obj.getElements());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ContentFilter obj = (ContentFilter) encodeable;
-    				encoder.putEncodeableArray("Elements", ContentFilterElement.class, (obj==null)?null:obj.getElements());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ContentFilter result = new ContentFilter();
-    				result.setElements( decoder.getEncodeableArray("Elements", ContentFilterElement.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ContentFilter", new ExpandedNodeId(Identifiers.ContentFilter_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ContentFilter_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ContentFilter));
     	// FilterOperand
-    	addSerializer(
-    		new AbstractSerializer(FilterOperand.class, FilterOperand.BINARY, FilterOperand.XML, FilterOperand.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				FilterOperand result = new FilterOperand();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.FilterOperand", new ExpandedNodeId(Identifiers.FilterOperand_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.FilterOperand_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.FilterOperand));
     	// ElementOperand
-    	addSerializer(
-    		new AbstractSerializer(ElementOperand.class, ElementOperand.BINARY, ElementOperand.XML, ElementOperand.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ElementOperand obj = (ElementOperand) encodeable;
-    				calculator.putUInt32(null, null /*obj.getIndex()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ElementOperand obj = (ElementOperand) encodeable;
-    				encoder.putUInt32("Index",  (obj==null)?null:obj.getIndex() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ElementOperand result = new ElementOperand();
-    				result.setIndex( decoder.getUInt32("Index") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ElementOperand", new ExpandedNodeId(Identifiers.ElementOperand_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ElementOperand_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ElementOperand));
     	// LiteralOperand
-    	addSerializer(
-    		new AbstractSerializer(LiteralOperand.class, LiteralOperand.BINARY, LiteralOperand.XML, LiteralOperand.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				LiteralOperand obj = (LiteralOperand) encodeable;
-    				calculator.putVariant(null,  (obj==null)?null:obj.getValue() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				LiteralOperand obj = (LiteralOperand) encodeable;
-    				encoder.putVariant("Value",  (obj==null)?null:obj.getValue() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				LiteralOperand result = new LiteralOperand();
-    				result.setValue( decoder.getVariant("Value") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.LiteralOperand", new ExpandedNodeId(Identifiers.LiteralOperand_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.LiteralOperand_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.LiteralOperand));
     	// AttributeOperand
-    	addSerializer(
-    		new AbstractSerializer(AttributeOperand.class, AttributeOperand.BINARY, AttributeOperand.XML, AttributeOperand.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				AttributeOperand obj = (AttributeOperand) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putString(null,  (obj==null)?null:obj.getAlias() );
-    				calculator.putEncodeable(null, RelativePath.class, (obj==null)?null:obj.getBrowsePath());
-    				calculator.putUInt32(null, null /*obj.getAttributeId()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getIndexRange() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				AttributeOperand obj = (AttributeOperand) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putString("Alias",  (obj==null)?null:obj.getAlias() );
-    				encoder.putEncodeable("BrowsePath", RelativePath.class, (obj==null)?null:obj.getBrowsePath());
-    				encoder.putUInt32("AttributeId",  (obj==null)?null:obj.getAttributeId() );
-    				encoder.putString("IndexRange",  (obj==null)?null:obj.getIndexRange() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				AttributeOperand result = new AttributeOperand();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				result.setAlias( decoder.getString("Alias") );
-    				result.setBrowsePath( decoder.getEncodeable("BrowsePath", RelativePath.class) );
-    				result.setAttributeId( decoder.getUInt32("AttributeId") );
-    				result.setIndexRange( decoder.getString("IndexRange") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.AttributeOperand", new ExpandedNodeId(Identifiers.AttributeOperand_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.AttributeOperand_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.AttributeOperand));
     	// SimpleAttributeOperand
-    	addSerializer(
-    		new AbstractSerializer(SimpleAttributeOperand.class, SimpleAttributeOperand.BINARY, SimpleAttributeOperand.XML, SimpleAttributeOperand.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SimpleAttributeOperand obj = (SimpleAttributeOperand) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getTypeDefinitionId() );
-    				calculator.putQualifiedNameArray(null, ((obj==null)?null:obj.getBrowsePath()) );
-    				calculator.putUInt32(null, null /*obj.getAttributeId()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getIndexRange() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SimpleAttributeOperand obj = (SimpleAttributeOperand) encodeable;
-    				encoder.putNodeId("TypeDefinitionId",  (obj==null)?null:obj.getTypeDefinitionId() );
-    				encoder.putQualifiedNameArray("BrowsePath", (obj==null)?null:obj.getBrowsePath() );
-    				encoder.putUInt32("AttributeId",  (obj==null)?null:obj.getAttributeId() );
-    				encoder.putString("IndexRange",  (obj==null)?null:obj.getIndexRange() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SimpleAttributeOperand result = new SimpleAttributeOperand();
-    				result.setTypeDefinitionId( decoder.getNodeId("TypeDefinitionId") );
-    				result.setBrowsePath( decoder.getQualifiedNameArray("BrowsePath") );
-    				result.setAttributeId( decoder.getUInt32("AttributeId") );
-    				result.setIndexRange( decoder.getString("IndexRange") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SimpleAttributeOperand", new ExpandedNodeId(Identifiers.SimpleAttributeOperand_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SimpleAttributeOperand_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SimpleAttributeOperand));
     	// ContentFilterElementResult
-    	addSerializer(
-    		new AbstractSerializer(ContentFilterElementResult.class, ContentFilterElementResult.BINARY, ContentFilterElementResult.XML, ContentFilterElementResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ContentFilterElementResult obj = (ContentFilterElementResult) encodeable;
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getStatusCode() );
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getOperandStatusCodes()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getOperandDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ContentFilterElementResult obj = (ContentFilterElementResult) encodeable;
-    				encoder.putStatusCode("StatusCode",  (obj==null)?null:obj.getStatusCode() );
-    				encoder.putStatusCodeArray("OperandStatusCodes", (obj==null)?null:obj.getOperandStatusCodes() );
-    				encoder.putDiagnosticInfoArray("OperandDiagnosticInfos", (obj==null)?null:obj.getOperandDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ContentFilterElementResult result = new ContentFilterElementResult();
-    				result.setStatusCode( decoder.getStatusCode("StatusCode") );
-    				result.setOperandStatusCodes( decoder.getStatusCodeArray("OperandStatusCodes") );
-    				result.setOperandDiagnosticInfos( decoder.getDiagnosticInfoArray("OperandDiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ContentFilterElementResult", new ExpandedNodeId(Identifiers.ContentFilterElementResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ContentFilterElementResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ContentFilterElementResult));
     	// ContentFilterResult
-    	addSerializer(
-    		new AbstractSerializer(ContentFilterResult.class, ContentFilterResult.BINARY, ContentFilterResult.XML, ContentFilterResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ContentFilterResult obj = (ContentFilterResult) encodeable;
-    				calculator.putEncodeableArray(null, ContentFilterElementResult.class, (obj==null)?null:obj.getElementResults());
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getElementDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ContentFilterResult obj = (ContentFilterResult) encodeable;
-    				encoder.putEncodeableArray("ElementResults", ContentFilterElementResult.class, (obj==null)?null:obj.getElementResults());
-    				encoder.putDiagnosticInfoArray("ElementDiagnosticInfos", (obj==null)?null:obj.getElementDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ContentFilterResult result = new ContentFilterResult();
-    				result.setElementResults( decoder.getEncodeableArray("ElementResults", ContentFilterElementResult.class) );
-    				result.setElementDiagnosticInfos( decoder.getDiagnosticInfoArray("ElementDiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ContentFilterResult", new ExpandedNodeId(Identifiers.ContentFilterResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ContentFilterResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ContentFilterResult));
     	// ParsingResult
-    	addSerializer(
-    		new AbstractSerializer(ParsingResult.class, ParsingResult.BINARY, ParsingResult.XML, ParsingResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ParsingResult obj = (ParsingResult) encodeable;
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getStatusCode() );
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getDataStatusCodes()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDataDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ParsingResult obj = (ParsingResult) encodeable;
-    				encoder.putStatusCode("StatusCode",  (obj==null)?null:obj.getStatusCode() );
-    				encoder.putStatusCodeArray("DataStatusCodes", (obj==null)?null:obj.getDataStatusCodes() );
-    				encoder.putDiagnosticInfoArray("DataDiagnosticInfos", (obj==null)?null:obj.getDataDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ParsingResult result = new ParsingResult();
-    				result.setStatusCode( decoder.getStatusCode("StatusCode") );
-    				result.setDataStatusCodes( decoder.getStatusCodeArray("DataStatusCodes") );
-    				result.setDataDiagnosticInfos( decoder.getDiagnosticInfoArray("DataDiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ParsingResult", new ExpandedNodeId(Identifiers.ParsingResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ParsingResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ParsingResult));
     	// QueryFirstRequest
-    	addSerializer(
-    		new AbstractSerializer(QueryFirstRequest.class, QueryFirstRequest.BINARY, QueryFirstRequest.XML, QueryFirstRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				QueryFirstRequest obj = (QueryFirstRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putEncodeable(null, ViewDescription.class, (obj==null)?null:obj.getView());
-    				calculator.putEncodeableArray(null, NodeTypeDescription.class, (obj==null)?null:obj.getNodeTypes());
-    				calculator.putEncodeable(null, ContentFilter.class, (obj==null)?null:obj.getFilter());
-    				calculator.putUInt32(null, null /*obj.getMaxDataSetsToReturn()*/);
-    				calculator.putUInt32(null, null /*obj.getMaxReferencesToReturn()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				QueryFirstRequest obj = (QueryFirstRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putEncodeable("View", ViewDescription.class, (obj==null)?null:obj.getView());
-    				encoder.putEncodeableArray("NodeTypes", NodeTypeDescription.class, (obj==null)?null:obj.getNodeTypes());
-    				encoder.putEncodeable("Filter", ContentFilter.class, (obj==null)?null:obj.getFilter());
-    				encoder.putUInt32("MaxDataSetsToReturn",  (obj==null)?null:obj.getMaxDataSetsToReturn() );
-    				encoder.putUInt32("MaxReferencesToReturn",  (obj==null)?null:obj.getMaxReferencesToReturn() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				QueryFirstRequest result = new QueryFirstRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setView( decoder.getEncodeable("View", ViewDescription.class) );
-    				result.setNodeTypes( decoder.getEncodeableArray("NodeTypes", NodeTypeDescription.class) );
-    				result.setFilter( decoder.getEncodeable("Filter", ContentFilter.class) );
-    				result.setMaxDataSetsToReturn( decoder.getUInt32("MaxDataSetsToReturn") );
-    				result.setMaxReferencesToReturn( decoder.getUInt32("MaxReferencesToReturn") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.QueryFirstRequest", new ExpandedNodeId(Identifiers.QueryFirstRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.QueryFirstRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.QueryFirstRequest));
     	// QueryFirstResponse
-    	addSerializer(
-    		new AbstractSerializer(QueryFirstResponse.class, QueryFirstResponse.BINARY, QueryFirstResponse.XML, QueryFirstResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				QueryFirstResponse obj = (QueryFirstResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, QueryDataSet.class, (obj==null)?null:obj.getQueryDataSets());
-    				calculator.putByteString(null,  (obj==null)?null:obj.getContinuationPoint() );
-    				calculator.putEncodeableArray(null, ParsingResult.class, (obj==null)?null:obj.getParsingResults());
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    				calculator.putEncodeable(null, ContentFilterResult.class, (obj==null)?null:obj.getFilterResult());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				QueryFirstResponse obj = (QueryFirstResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("QueryDataSets", QueryDataSet.class, (obj==null)?null:obj.getQueryDataSets());
-    				encoder.putByteString("ContinuationPoint",  (obj==null)?null:obj.getContinuationPoint() );
-    				encoder.putEncodeableArray("ParsingResults", ParsingResult.class, (obj==null)?null:obj.getParsingResults());
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    				encoder.putEncodeable("FilterResult", ContentFilterResult.class, (obj==null)?null:obj.getFilterResult());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				QueryFirstResponse result = new QueryFirstResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setQueryDataSets( decoder.getEncodeableArray("QueryDataSets", QueryDataSet.class) );
-    				result.setContinuationPoint( decoder.getByteString("ContinuationPoint") );
-    				result.setParsingResults( decoder.getEncodeableArray("ParsingResults", ParsingResult.class) );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				result.setFilterResult( decoder.getEncodeable("FilterResult", ContentFilterResult.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.QueryFirstResponse", new ExpandedNodeId(Identifiers.QueryFirstResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.QueryFirstResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.QueryFirstResponse));
     	// QueryNextRequest
-    	addSerializer(
-    		new AbstractSerializer(QueryNextRequest.class, QueryNextRequest.BINARY, QueryNextRequest.XML, QueryNextRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				QueryNextRequest obj = (QueryNextRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putBoolean(null, null /*obj.getReleaseContinuationPoint()*/);
-    				calculator.putByteString(null,  (obj==null)?null:obj.getContinuationPoint() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				QueryNextRequest obj = (QueryNextRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putBoolean("ReleaseContinuationPoint",  (obj==null)?null:obj.getReleaseContinuationPoint() );
-    				encoder.putByteString("ContinuationPoint",  (obj==null)?null:obj.getContinuationPoint() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				QueryNextRequest result = new QueryNextRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setReleaseContinuationPoint( decoder.getBoolean("ReleaseContinuationPoint") );
-    				result.setContinuationPoint( decoder.getByteString("ContinuationPoint") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.QueryNextRequest", new ExpandedNodeId(Identifiers.QueryNextRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.QueryNextRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.QueryNextRequest));
     	// QueryNextResponse
-    	addSerializer(
-    		new AbstractSerializer(QueryNextResponse.class, QueryNextResponse.BINARY, QueryNextResponse.XML, QueryNextResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				QueryNextResponse obj = (QueryNextResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, QueryDataSet.class, (obj==null)?null:obj.getQueryDataSets());
-    				calculator.putByteString(null,  (obj==null)?null:obj.getRevisedContinuationPoint() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				QueryNextResponse obj = (QueryNextResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("QueryDataSets", QueryDataSet.class, (obj==null)?null:obj.getQueryDataSets());
-    				encoder.putByteString("RevisedContinuationPoint",  (obj==null)?null:obj.getRevisedContinuationPoint() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				QueryNextResponse result = new QueryNextResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setQueryDataSets( decoder.getEncodeableArray("QueryDataSets", QueryDataSet.class) );
-    				result.setRevisedContinuationPoint( decoder.getByteString("RevisedContinuationPoint") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.QueryNextResponse", new ExpandedNodeId(Identifiers.QueryNextResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.QueryNextResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.QueryNextResponse));
     	// ReadValueId
-    	addSerializer(
-    		new AbstractSerializer(ReadValueId.class, ReadValueId.BINARY, ReadValueId.XML, ReadValueId.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ReadValueId obj = (ReadValueId) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putUInt32(null, null /*obj.getAttributeId()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getIndexRange() );
-    				calculator.putQualifiedName(null,  (obj==null)?null:obj.getDataEncoding() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ReadValueId obj = (ReadValueId) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putUInt32("AttributeId",  (obj==null)?null:obj.getAttributeId() );
-    				encoder.putString("IndexRange",  (obj==null)?null:obj.getIndexRange() );
-    				encoder.putQualifiedName("DataEncoding",  (obj==null)?null:obj.getDataEncoding() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ReadValueId result = new ReadValueId();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				result.setAttributeId( decoder.getUInt32("AttributeId") );
-    				result.setIndexRange( decoder.getString("IndexRange") );
-    				result.setDataEncoding( decoder.getQualifiedName("DataEncoding") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ReadValueId", new ExpandedNodeId(Identifiers.ReadValueId_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ReadValueId_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ReadValueId));
     	// ReadRequest
-    	addSerializer(
-    		new AbstractSerializer(ReadRequest.class, ReadRequest.BINARY, ReadRequest.XML, ReadRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ReadRequest obj = (ReadRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putDouble(null, null /*obj.getMaxAge()*/);
-    				calculator.putEnumeration(null, null /*obj.getTimestampsToReturn()*/);
-    				calculator.putEncodeableArray(null, ReadValueId.class, (obj==null)?null:obj.getNodesToRead());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ReadRequest obj = (ReadRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putDouble("MaxAge",  (obj==null)?null:obj.getMaxAge() );
-    				encoder.putEnumeration("TimestampsToReturn",  (obj==null)?null:obj.getTimestampsToReturn() );
-    				encoder.putEncodeableArray("NodesToRead", ReadValueId.class, (obj==null)?null:obj.getNodesToRead());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ReadRequest result = new ReadRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setMaxAge( decoder.getDouble("MaxAge") );
-    				result.setTimestampsToReturn( decoder.getEnumeration("TimestampsToReturn", TimestampsToReturn.class) );
-    				result.setNodesToRead( decoder.getEncodeableArray("NodesToRead", ReadValueId.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ReadRequest", new ExpandedNodeId(Identifiers.ReadRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ReadRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ReadRequest));
     	// ReadResponse
-    	addSerializer(
-    		new AbstractSerializer(ReadResponse.class, ReadResponse.BINARY, ReadResponse.XML, ReadResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ReadResponse obj = (ReadResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putDataValueArray(null, ((obj==null)?null:obj.getResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ReadResponse obj = (ReadResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putDataValueArray("Results", (obj==null)?null:obj.getResults() );
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ReadResponse result = new ReadResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getDataValueArray("Results") );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ReadResponse", new ExpandedNodeId(Identifiers.ReadResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ReadResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ReadResponse));
     	// HistoryReadValueId
-    	addSerializer(
-    		new AbstractSerializer(HistoryReadValueId.class, HistoryReadValueId.BINARY, HistoryReadValueId.XML, HistoryReadValueId.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				HistoryReadValueId obj = (HistoryReadValueId) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putString(null,  (obj==null)?null:obj.getIndexRange() );
-    				calculator.putQualifiedName(null,  (obj==null)?null:obj.getDataEncoding() );
-    				calculator.putByteString(null,  (obj==null)?null:obj.getContinuationPoint() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				HistoryReadValueId obj = (HistoryReadValueId) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putString("IndexRange",  (obj==null)?null:obj.getIndexRange() );
-    				encoder.putQualifiedName("DataEncoding",  (obj==null)?null:obj.getDataEncoding() );
-    				encoder.putByteString("ContinuationPoint",  (obj==null)?null:obj.getContinuationPoint() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				HistoryReadValueId result = new HistoryReadValueId();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				result.setIndexRange( decoder.getString("IndexRange") );
-    				result.setDataEncoding( decoder.getQualifiedName("DataEncoding") );
-    				result.setContinuationPoint( decoder.getByteString("ContinuationPoint") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.HistoryReadValueId", new ExpandedNodeId(Identifiers.HistoryReadValueId_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.HistoryReadValueId_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.HistoryReadValueId));
     	// HistoryReadResult
-    	addSerializer(
-    		new AbstractSerializer(HistoryReadResult.class, HistoryReadResult.BINARY, HistoryReadResult.XML, HistoryReadResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				HistoryReadResult obj = (HistoryReadResult) encodeable;
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getStatusCode() );
-    				calculator.putByteString(null,  (obj==null)?null:obj.getContinuationPoint() );
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getHistoryData() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				HistoryReadResult obj = (HistoryReadResult) encodeable;
-    				encoder.putStatusCode("StatusCode",  (obj==null)?null:obj.getStatusCode() );
-    				encoder.putByteString("ContinuationPoint",  (obj==null)?null:obj.getContinuationPoint() );
-    				encoder.putExtensionObject("HistoryData",  (obj==null)?null:obj.getHistoryData() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				HistoryReadResult result = new HistoryReadResult();
-    				result.setStatusCode( decoder.getStatusCode("StatusCode") );
-    				result.setContinuationPoint( decoder.getByteString("ContinuationPoint") );
-    				result.setHistoryData( decoder.getExtensionObject("HistoryData") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.HistoryReadResult", new ExpandedNodeId(Identifiers.HistoryReadResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.HistoryReadResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.HistoryReadResult));
     	// HistoryReadDetails
-    	addSerializer(
-    		new AbstractSerializer(HistoryReadDetails.class, HistoryReadDetails.BINARY, HistoryReadDetails.XML, HistoryReadDetails.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				HistoryReadDetails result = new HistoryReadDetails();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.HistoryReadDetails", new ExpandedNodeId(Identifiers.HistoryReadDetails_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.HistoryReadDetails_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.HistoryReadDetails));
     	// ReadEventDetails
-    	addSerializer(
-    		new AbstractSerializer(ReadEventDetails.class, ReadEventDetails.BINARY, ReadEventDetails.XML, ReadEventDetails.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ReadEventDetails obj = (ReadEventDetails) encodeable;
-    				calculator.putUInt32(null, null /*obj.getNumValuesPerNode()*/);
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getStartTime() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getEndTime() );
-    				calculator.putEncodeable(null, EventFilter.class, (obj==null)?null:obj.getFilter());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ReadEventDetails obj = (ReadEventDetails) encodeable;
-    				encoder.putUInt32("NumValuesPerNode",  (obj==null)?null:obj.getNumValuesPerNode() );
-    				encoder.putDateTime("StartTime",  (obj==null)?null:obj.getStartTime() );
-    				encoder.putDateTime("EndTime",  (obj==null)?null:obj.getEndTime() );
-    				encoder.putEncodeable("Filter", EventFilter.class, (obj==null)?null:obj.getFilter());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ReadEventDetails result = new ReadEventDetails();
-    				result.setNumValuesPerNode( decoder.getUInt32("NumValuesPerNode") );
-    				result.setStartTime( decoder.getDateTime("StartTime") );
-    				result.setEndTime( decoder.getDateTime("EndTime") );
-    				result.setFilter( decoder.getEncodeable("Filter", EventFilter.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ReadEventDetails", new ExpandedNodeId(Identifiers.ReadEventDetails_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ReadEventDetails_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ReadEventDetails));
     	// ReadRawModifiedDetails
-    	addSerializer(
-    		new AbstractSerializer(ReadRawModifiedDetails.class, ReadRawModifiedDetails.BINARY, ReadRawModifiedDetails.XML, ReadRawModifiedDetails.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ReadRawModifiedDetails obj = (ReadRawModifiedDetails) encodeable;
-    				calculator.putBoolean(null, null /*obj.getIsReadModified()*/);
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getStartTime() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getEndTime() );
-    				calculator.putUInt32(null, null /*obj.getNumValuesPerNode()*/);
-    				calculator.putBoolean(null, null /*obj.getReturnBounds()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ReadRawModifiedDetails obj = (ReadRawModifiedDetails) encodeable;
-    				encoder.putBoolean("IsReadModified",  (obj==null)?null:obj.getIsReadModified() );
-    				encoder.putDateTime("StartTime",  (obj==null)?null:obj.getStartTime() );
-    				encoder.putDateTime("EndTime",  (obj==null)?null:obj.getEndTime() );
-    				encoder.putUInt32("NumValuesPerNode",  (obj==null)?null:obj.getNumValuesPerNode() );
-    				encoder.putBoolean("ReturnBounds",  (obj==null)?null:obj.getReturnBounds() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ReadRawModifiedDetails result = new ReadRawModifiedDetails();
-    				result.setIsReadModified( decoder.getBoolean("IsReadModified") );
-    				result.setStartTime( decoder.getDateTime("StartTime") );
-    				result.setEndTime( decoder.getDateTime("EndTime") );
-    				result.setNumValuesPerNode( decoder.getUInt32("NumValuesPerNode") );
-    				result.setReturnBounds( decoder.getBoolean("ReturnBounds") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ReadRawModifiedDetails", new ExpandedNodeId(Identifiers.ReadRawModifiedDetails_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ReadRawModifiedDetails_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ReadRawModifiedDetails));
     	// ReadProcessedDetails
-    	addSerializer(
-    		new AbstractSerializer(ReadProcessedDetails.class, ReadProcessedDetails.BINARY, ReadProcessedDetails.XML, ReadProcessedDetails.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ReadProcessedDetails obj = (ReadProcessedDetails) encodeable;
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getStartTime() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getEndTime() );
-    				calculator.putDouble(null, null /*obj.getProcessingInterval()*/);
-    				calculator.putNodeIdArray(null, ((obj==null)?null:obj.getAggregateType()) );
-    				calculator.putEncodeable(null, AggregateConfiguration.class, (obj==null)?null:obj.getAggregateConfiguration());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ReadProcessedDetails obj = (ReadProcessedDetails) encodeable;
-    				encoder.putDateTime("StartTime",  (obj==null)?null:obj.getStartTime() );
-    				encoder.putDateTime("EndTime",  (obj==null)?null:obj.getEndTime() );
-    				encoder.putDouble("ProcessingInterval",  (obj==null)?null:obj.getProcessingInterval() );
-    				encoder.putNodeIdArray("AggregateType", (obj==null)?null:obj.getAggregateType() );
-    				encoder.putEncodeable("AggregateConfiguration", AggregateConfiguration.class, (obj==null)?null:obj.getAggregateConfiguration());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ReadProcessedDetails result = new ReadProcessedDetails();
-    				result.setStartTime( decoder.getDateTime("StartTime") );
-    				result.setEndTime( decoder.getDateTime("EndTime") );
-    				result.setProcessingInterval( decoder.getDouble("ProcessingInterval") );
-    				result.setAggregateType( decoder.getNodeIdArray("AggregateType") );
-    				result.setAggregateConfiguration( decoder.getEncodeable("AggregateConfiguration", AggregateConfiguration.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ReadProcessedDetails", new ExpandedNodeId(Identifiers.ReadProcessedDetails_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ReadProcessedDetails_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ReadProcessedDetails));
     	// ReadAtTimeDetails
-    	addSerializer(
-    		new AbstractSerializer(ReadAtTimeDetails.class, ReadAtTimeDetails.BINARY, ReadAtTimeDetails.XML, ReadAtTimeDetails.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ReadAtTimeDetails obj = (ReadAtTimeDetails) encodeable;
-    				calculator.putDateTimeArray(null, ((obj==null)?null:obj.getReqTimes()) );
-    				calculator.putBoolean(null, null /*obj.getUseSimpleBounds()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ReadAtTimeDetails obj = (ReadAtTimeDetails) encodeable;
-    				encoder.putDateTimeArray("ReqTimes", (obj==null)?null:obj.getReqTimes() );
-    				encoder.putBoolean("UseSimpleBounds",  (obj==null)?null:obj.getUseSimpleBounds() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ReadAtTimeDetails result = new ReadAtTimeDetails();
-    				result.setReqTimes( decoder.getDateTimeArray("ReqTimes") );
-    				result.setUseSimpleBounds( decoder.getBoolean("UseSimpleBounds") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ReadAtTimeDetails", new ExpandedNodeId(Identifiers.ReadAtTimeDetails_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ReadAtTimeDetails_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ReadAtTimeDetails));
     	// HistoryData
-    	addSerializer(
-    		new AbstractSerializer(HistoryData.class, HistoryData.BINARY, HistoryData.XML, HistoryData.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				HistoryData obj = (HistoryData) encodeable;
-    				calculator.putDataValueArray(null, ((obj==null)?null:obj.getDataValues()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				HistoryData obj = (HistoryData) encodeable;
-    				encoder.putDataValueArray("DataValues", (obj==null)?null:obj.getDataValues() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				HistoryData result = new HistoryData();
-    				result.setDataValues( decoder.getDataValueArray("DataValues") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.HistoryData", new ExpandedNodeId(Identifiers.HistoryData_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.HistoryData_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.HistoryData));
     	// ModificationInfo
-    	addSerializer(
-    		new AbstractSerializer(ModificationInfo.class, ModificationInfo.BINARY, ModificationInfo.XML, ModificationInfo.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ModificationInfo obj = (ModificationInfo) encodeable;
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getModificationTime() );
-    				calculator.putEnumeration(null, null /*obj.getUpdateType()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getUserName() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ModificationInfo obj = (ModificationInfo) encodeable;
-    				encoder.putDateTime("ModificationTime",  (obj==null)?null:obj.getModificationTime() );
-    				encoder.putEnumeration("UpdateType",  (obj==null)?null:obj.getUpdateType() );
-    				encoder.putString("UserName",  (obj==null)?null:obj.getUserName() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ModificationInfo result = new ModificationInfo();
-    				result.setModificationTime( decoder.getDateTime("ModificationTime") );
-    				result.setUpdateType( decoder.getEnumeration("UpdateType", HistoryUpdateType.class) );
-    				result.setUserName( decoder.getString("UserName") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ModificationInfo", new ExpandedNodeId(Identifiers.ModificationInfo_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ModificationInfo_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ModificationInfo));
     	// HistoryModifiedData
-    	addSerializer(
-    		new AbstractSerializer(HistoryModifiedData.class, HistoryModifiedData.BINARY, HistoryModifiedData.XML, HistoryModifiedData.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				HistoryModifiedData obj = (HistoryModifiedData) encodeable;
-    				calculator.putDataValueArray(null, ((obj==null)?null:obj.getDataValues()) );
-    				calculator.putEncodeableArray(null, ModificationInfo.class, (obj==null)?null:obj.getModificationInfos());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				HistoryModifiedData obj = (HistoryModifiedData) encodeable;
-    				encoder.putDataValueArray("DataValues", (obj==null)?null:obj.getDataValues() );
-    				encoder.putEncodeableArray("ModificationInfos", ModificationInfo.class, (obj==null)?null:obj.getModificationInfos());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				HistoryModifiedData result = new HistoryModifiedData();
-    				result.setDataValues( decoder.getDataValueArray("DataValues") );
-    				result.setModificationInfos( decoder.getEncodeableArray("ModificationInfos", ModificationInfo.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.HistoryModifiedData", new ExpandedNodeId(Identifiers.HistoryModifiedData_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.HistoryModifiedData_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.HistoryModifiedData));
     	// HistoryEvent
-    	addSerializer(
-    		new AbstractSerializer(HistoryEvent.class, HistoryEvent.BINARY, HistoryEvent.XML, HistoryEvent.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				HistoryEvent obj = (HistoryEvent) encodeable;
-    				calculator.putEncodeableArray(null, HistoryEventFieldList.class, (obj==null)?null:obj.getEvents());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				HistoryEvent obj = (HistoryEvent) encodeable;
-    				encoder.putEncodeableArray("Events", HistoryEventFieldList.class, (obj==null)?null:obj.getEvents());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				HistoryEvent result = new HistoryEvent();
-    				result.setEvents( decoder.getEncodeableArray("Events", HistoryEventFieldList.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.HistoryEvent", new ExpandedNodeId(Identifiers.HistoryEvent_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.HistoryEvent_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.HistoryEvent));
     	// HistoryReadRequest
-    	addSerializer(
-    		new AbstractSerializer(HistoryReadRequest.class, HistoryReadRequest.BINARY, HistoryReadRequest.XML, HistoryReadRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				HistoryReadRequest obj = (HistoryReadRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getHistoryReadDetails() );
-    				calculator.putEnumeration(null, null /*obj.getTimestampsToReturn()*/);
-    				calculator.putBoolean(null, null /*obj.getReleaseContinuationPoints()*/);
-    				calculator.putEncodeableArray(null, HistoryReadValueId.class, (obj==null)?null:obj.getNodesToRead());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				HistoryReadRequest obj = (HistoryReadRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putExtensionObject("HistoryReadDetails",  (obj==null)?null:obj.getHistoryReadDetails() );
-    				encoder.putEnumeration("TimestampsToReturn",  (obj==null)?null:obj.getTimestampsToReturn() );
-    				encoder.putBoolean("ReleaseContinuationPoints",  (obj==null)?null:obj.getReleaseContinuationPoints() );
-    				encoder.putEncodeableArray("NodesToRead", HistoryReadValueId.class, (obj==null)?null:obj.getNodesToRead());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				HistoryReadRequest result = new HistoryReadRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setHistoryReadDetails( decoder.getExtensionObject("HistoryReadDetails") );
-    				result.setTimestampsToReturn( decoder.getEnumeration("TimestampsToReturn", TimestampsToReturn.class) );
-    				result.setReleaseContinuationPoints( decoder.getBoolean("ReleaseContinuationPoints") );
-    				result.setNodesToRead( decoder.getEncodeableArray("NodesToRead", HistoryReadValueId.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.HistoryReadRequest", new ExpandedNodeId(Identifiers.HistoryReadRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.HistoryReadRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.HistoryReadRequest));
     	// HistoryReadResponse
-    	addSerializer(
-    		new AbstractSerializer(HistoryReadResponse.class, HistoryReadResponse.BINARY, HistoryReadResponse.XML, HistoryReadResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				HistoryReadResponse obj = (HistoryReadResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, HistoryReadResult.class, (obj==null)?null:obj.getResults());
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				HistoryReadResponse obj = (HistoryReadResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("Results", HistoryReadResult.class, (obj==null)?null:obj.getResults());
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				HistoryReadResponse result = new HistoryReadResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getEncodeableArray("Results", HistoryReadResult.class) );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.HistoryReadResponse", new ExpandedNodeId(Identifiers.HistoryReadResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.HistoryReadResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.HistoryReadResponse));
     	// WriteValue
-    	addSerializer(
-    		new AbstractSerializer(WriteValue.class, WriteValue.BINARY, WriteValue.XML, WriteValue.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				WriteValue obj = (WriteValue) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putUInt32(null, null /*obj.getAttributeId()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getIndexRange() );
-    				calculator.putDataValue(null,  (obj==null)?null:obj.getValue() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				WriteValue obj = (WriteValue) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putUInt32("AttributeId",  (obj==null)?null:obj.getAttributeId() );
-    				encoder.putString("IndexRange",  (obj==null)?null:obj.getIndexRange() );
-    				encoder.putDataValue("Value",  (obj==null)?null:obj.getValue() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				WriteValue result = new WriteValue();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				result.setAttributeId( decoder.getUInt32("AttributeId") );
-    				result.setIndexRange( decoder.getString("IndexRange") );
-    				result.setValue( decoder.getDataValue("Value") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.WriteValue", new ExpandedNodeId(Identifiers.WriteValue_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.WriteValue_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.WriteValue));
     	// WriteRequest
-    	addSerializer(
-    		new AbstractSerializer(WriteRequest.class, WriteRequest.BINARY, WriteRequest.XML, WriteRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				WriteRequest obj = (WriteRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putEncodeableArray(null, WriteValue.class, (obj==null)?null:obj.getNodesToWrite());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				WriteRequest obj = (WriteRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putEncodeableArray("NodesToWrite", WriteValue.class, (obj==null)?null:obj.getNodesToWrite());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				WriteRequest result = new WriteRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setNodesToWrite( decoder.getEncodeableArray("NodesToWrite", WriteValue.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.WriteRequest", new ExpandedNodeId(Identifiers.WriteRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.WriteRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.WriteRequest));
     	// WriteResponse
-    	addSerializer(
-    		new AbstractSerializer(WriteResponse.class, WriteResponse.BINARY, WriteResponse.XML, WriteResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				WriteResponse obj = (WriteResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				WriteResponse obj = (WriteResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putStatusCodeArray("Results", (obj==null)?null:obj.getResults() );
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				WriteResponse result = new WriteResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getStatusCodeArray("Results") );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.WriteResponse", new ExpandedNodeId(Identifiers.WriteResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.WriteResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.WriteResponse));
     	// HistoryUpdateDetails
-    	addSerializer(
-    		new AbstractSerializer(HistoryUpdateDetails.class, HistoryUpdateDetails.BINARY, HistoryUpdateDetails.XML, HistoryUpdateDetails.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				HistoryUpdateDetails obj = (HistoryUpdateDetails) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				HistoryUpdateDetails obj = (HistoryUpdateDetails) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				HistoryUpdateDetails result = new HistoryUpdateDetails();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.HistoryUpdateDetails", new ExpandedNodeId(Identifiers.HistoryUpdateDetails_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.HistoryUpdateDetails_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.HistoryUpdateDetails));
     	// UpdateDataDetails
-    	addSerializer(
-    		new AbstractSerializer(UpdateDataDetails.class, UpdateDataDetails.BINARY, UpdateDataDetails.XML, UpdateDataDetails.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				UpdateDataDetails obj = (UpdateDataDetails) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putEnumeration(null, null /*obj.getPerformInsertReplace()*/);
-    				calculator.putDataValueArray(null, ((obj==null)?null:obj.getUpdateValues()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				UpdateDataDetails obj = (UpdateDataDetails) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putEnumeration("PerformInsertReplace",  (obj==null)?null:obj.getPerformInsertReplace() );
-    				encoder.putDataValueArray("UpdateValues", (obj==null)?null:obj.getUpdateValues() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				UpdateDataDetails result = new UpdateDataDetails();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				result.setPerformInsertReplace( decoder.getEnumeration("PerformInsertReplace", PerformUpdateType.class) );
-    				result.setUpdateValues( decoder.getDataValueArray("UpdateValues") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.UpdateDataDetails", new ExpandedNodeId(Identifiers.UpdateDataDetails_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.UpdateDataDetails_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.UpdateDataDetails));
     	// UpdateStructureDataDetails
-    	addSerializer(
-    		new AbstractSerializer(UpdateStructureDataDetails.class, UpdateStructureDataDetails.BINARY, UpdateStructureDataDetails.XML, UpdateStructureDataDetails.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				UpdateStructureDataDetails obj = (UpdateStructureDataDetails) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putEnumeration(null, null /*obj.getPerformInsertReplace()*/);
-    				calculator.putDataValueArray(null, ((obj==null)?null:obj.getUpdateValues()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				UpdateStructureDataDetails obj = (UpdateStructureDataDetails) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putEnumeration("PerformInsertReplace",  (obj==null)?null:obj.getPerformInsertReplace() );
-    				encoder.putDataValueArray("UpdateValues", (obj==null)?null:obj.getUpdateValues() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				UpdateStructureDataDetails result = new UpdateStructureDataDetails();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				result.setPerformInsertReplace( decoder.getEnumeration("PerformInsertReplace", PerformUpdateType.class) );
-    				result.setUpdateValues( decoder.getDataValueArray("UpdateValues") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.UpdateStructureDataDetails", new ExpandedNodeId(Identifiers.UpdateStructureDataDetails_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.UpdateStructureDataDetails_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.UpdateStructureDataDetails));
     	// UpdateEventDetails
-    	addSerializer(
-    		new AbstractSerializer(UpdateEventDetails.class, UpdateEventDetails.BINARY, UpdateEventDetails.XML, UpdateEventDetails.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				UpdateEventDetails obj = (UpdateEventDetails) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putEnumeration(null, null /*obj.getPerformInsertReplace()*/);
-    				calculator.putEncodeable(null, EventFilter.class, (obj==null)?null:obj.getFilter());
-    				calculator.putEncodeableArray(null, HistoryEventFieldList.class, (obj==null)?null:obj.getEventData());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				UpdateEventDetails obj = (UpdateEventDetails) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putEnumeration("PerformInsertReplace",  (obj==null)?null:obj.getPerformInsertReplace() );
-    				encoder.putEncodeable("Filter", EventFilter.class, (obj==null)?null:obj.getFilter());
-    				encoder.putEncodeableArray("EventData", HistoryEventFieldList.class, (obj==null)?null:obj.getEventData());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				UpdateEventDetails result = new UpdateEventDetails();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				result.setPerformInsertReplace( decoder.getEnumeration("PerformInsertReplace", PerformUpdateType.class) );
-    				result.setFilter( decoder.getEncodeable("Filter", EventFilter.class) );
-    				result.setEventData( decoder.getEncodeableArray("EventData", HistoryEventFieldList.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.UpdateEventDetails", new ExpandedNodeId(Identifiers.UpdateEventDetails_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.UpdateEventDetails_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.UpdateEventDetails));
     	// DeleteRawModifiedDetails
-    	addSerializer(
-    		new AbstractSerializer(DeleteRawModifiedDetails.class, DeleteRawModifiedDetails.BINARY, DeleteRawModifiedDetails.XML, DeleteRawModifiedDetails.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DeleteRawModifiedDetails obj = (DeleteRawModifiedDetails) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putBoolean(null, null /*obj.getIsDeleteModified()*/);
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getStartTime() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getEndTime() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DeleteRawModifiedDetails obj = (DeleteRawModifiedDetails) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putBoolean("IsDeleteModified",  (obj==null)?null:obj.getIsDeleteModified() );
-    				encoder.putDateTime("StartTime",  (obj==null)?null:obj.getStartTime() );
-    				encoder.putDateTime("EndTime",  (obj==null)?null:obj.getEndTime() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DeleteRawModifiedDetails result = new DeleteRawModifiedDetails();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				result.setIsDeleteModified( decoder.getBoolean("IsDeleteModified") );
-    				result.setStartTime( decoder.getDateTime("StartTime") );
-    				result.setEndTime( decoder.getDateTime("EndTime") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DeleteRawModifiedDetails", new ExpandedNodeId(Identifiers.DeleteRawModifiedDetails_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DeleteRawModifiedDetails_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DeleteRawModifiedDetails));
     	// DeleteAtTimeDetails
-    	addSerializer(
-    		new AbstractSerializer(DeleteAtTimeDetails.class, DeleteAtTimeDetails.BINARY, DeleteAtTimeDetails.XML, DeleteAtTimeDetails.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DeleteAtTimeDetails obj = (DeleteAtTimeDetails) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putDateTimeArray(null, ((obj==null)?null:obj.getReqTimes()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DeleteAtTimeDetails obj = (DeleteAtTimeDetails) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putDateTimeArray("ReqTimes", (obj==null)?null:obj.getReqTimes() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DeleteAtTimeDetails result = new DeleteAtTimeDetails();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				result.setReqTimes( decoder.getDateTimeArray("ReqTimes") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DeleteAtTimeDetails", new ExpandedNodeId(Identifiers.DeleteAtTimeDetails_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DeleteAtTimeDetails_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DeleteAtTimeDetails));
     	// DeleteEventDetails
-    	addSerializer(
-    		new AbstractSerializer(DeleteEventDetails.class, DeleteEventDetails.BINARY, DeleteEventDetails.XML, DeleteEventDetails.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DeleteEventDetails obj = (DeleteEventDetails) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getNodeId() );
-    				calculator.putByteStringArray(null, ((obj==null)?null:obj.getEventIds()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DeleteEventDetails obj = (DeleteEventDetails) encodeable;
-    				encoder.putNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
-    				encoder.putByteStringArray("EventIds", (obj==null)?null:obj.getEventIds() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DeleteEventDetails result = new DeleteEventDetails();
-    				result.setNodeId( decoder.getNodeId("NodeId") );
-    				result.setEventIds( decoder.getByteStringArray("EventIds") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DeleteEventDetails", new ExpandedNodeId(Identifiers.DeleteEventDetails_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DeleteEventDetails_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DeleteEventDetails));
     	// HistoryUpdateResult
-    	addSerializer(
-    		new AbstractSerializer(HistoryUpdateResult.class, HistoryUpdateResult.BINARY, HistoryUpdateResult.XML, HistoryUpdateResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				HistoryUpdateResult obj = (HistoryUpdateResult) encodeable;
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getStatusCode() );
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getOperationResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				HistoryUpdateResult obj = (HistoryUpdateResult) encodeable;
-    				encoder.putStatusCode("StatusCode",  (obj==null)?null:obj.getStatusCode() );
-    				encoder.putStatusCodeArray("OperationResults", (obj==null)?null:obj.getOperationResults() );
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				HistoryUpdateResult result = new HistoryUpdateResult();
-    				result.setStatusCode( decoder.getStatusCode("StatusCode") );
-    				result.setOperationResults( decoder.getStatusCodeArray("OperationResults") );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.HistoryUpdateResult", new ExpandedNodeId(Identifiers.HistoryUpdateResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.HistoryUpdateResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.HistoryUpdateResult));
     	// HistoryUpdateRequest
-    	addSerializer(
-    		new AbstractSerializer(HistoryUpdateRequest.class, HistoryUpdateRequest.BINARY, HistoryUpdateRequest.XML, HistoryUpdateRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				HistoryUpdateRequest obj = (HistoryUpdateRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putExtensionObjectArray(null, ((obj==null)?null:obj.getHistoryUpdateDetails()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				HistoryUpdateRequest obj = (HistoryUpdateRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putExtensionObjectArray("HistoryUpdateDetails", (obj==null)?null:obj.getHistoryUpdateDetails() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				HistoryUpdateRequest result = new HistoryUpdateRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setHistoryUpdateDetails( decoder.getExtensionObjectArray("HistoryUpdateDetails") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.HistoryUpdateRequest", new ExpandedNodeId(Identifiers.HistoryUpdateRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.HistoryUpdateRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.HistoryUpdateRequest));
     	// HistoryUpdateResponse
-    	addSerializer(
-    		new AbstractSerializer(HistoryUpdateResponse.class, HistoryUpdateResponse.BINARY, HistoryUpdateResponse.XML, HistoryUpdateResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				HistoryUpdateResponse obj = (HistoryUpdateResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, HistoryUpdateResult.class, (obj==null)?null:obj.getResults());
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				HistoryUpdateResponse obj = (HistoryUpdateResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("Results", HistoryUpdateResult.class, (obj==null)?null:obj.getResults());
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				HistoryUpdateResponse result = new HistoryUpdateResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getEncodeableArray("Results", HistoryUpdateResult.class) );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.HistoryUpdateResponse", new ExpandedNodeId(Identifiers.HistoryUpdateResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.HistoryUpdateResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.HistoryUpdateResponse));
     	// CallMethodRequest
-    	addSerializer(
-    		new AbstractSerializer(CallMethodRequest.class, CallMethodRequest.BINARY, CallMethodRequest.XML, CallMethodRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CallMethodRequest obj = (CallMethodRequest) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getObjectId() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getMethodId() );
-    				calculator.putVariantArray(null, ((obj==null)?null:obj.getInputArguments()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CallMethodRequest obj = (CallMethodRequest) encodeable;
-    				encoder.putNodeId("ObjectId",  (obj==null)?null:obj.getObjectId() );
-    				encoder.putNodeId("MethodId",  (obj==null)?null:obj.getMethodId() );
-    				encoder.putVariantArray("InputArguments", (obj==null)?null:obj.getInputArguments() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CallMethodRequest result = new CallMethodRequest();
-    				result.setObjectId( decoder.getNodeId("ObjectId") );
-    				result.setMethodId( decoder.getNodeId("MethodId") );
-    				result.setInputArguments( decoder.getVariantArray("InputArguments") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CallMethodRequest", new ExpandedNodeId(Identifiers.CallMethodRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CallMethodRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CallMethodRequest));
     	// CallMethodResult
-    	addSerializer(
-    		new AbstractSerializer(CallMethodResult.class, CallMethodResult.BINARY, CallMethodResult.XML, CallMethodResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CallMethodResult obj = (CallMethodResult) encodeable;
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getStatusCode() );
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getInputArgumentResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getInputArgumentDiagnosticInfos()) );
-    				calculator.putVariantArray(null, ((obj==null)?null:obj.getOutputArguments()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CallMethodResult obj = (CallMethodResult) encodeable;
-    				encoder.putStatusCode("StatusCode",  (obj==null)?null:obj.getStatusCode() );
-    				encoder.putStatusCodeArray("InputArgumentResults", (obj==null)?null:obj.getInputArgumentResults() );
-    				encoder.putDiagnosticInfoArray("InputArgumentDiagnosticInfos", (obj==null)?null:obj.getInputArgumentDiagnosticInfos() );
-    				encoder.putVariantArray("OutputArguments", (obj==null)?null:obj.getOutputArguments() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CallMethodResult result = new CallMethodResult();
-    				result.setStatusCode( decoder.getStatusCode("StatusCode") );
-    				result.setInputArgumentResults( decoder.getStatusCodeArray("InputArgumentResults") );
-    				result.setInputArgumentDiagnosticInfos( decoder.getDiagnosticInfoArray("InputArgumentDiagnosticInfos") );
-    				result.setOutputArguments( decoder.getVariantArray("OutputArguments") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CallMethodResult", new ExpandedNodeId(Identifiers.CallMethodResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CallMethodResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CallMethodResult));
     	// CallRequest
-    	addSerializer(
-    		new AbstractSerializer(CallRequest.class, CallRequest.BINARY, CallRequest.XML, CallRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CallRequest obj = (CallRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putEncodeableArray(null, CallMethodRequest.class, (obj==null)?null:obj.getMethodsToCall());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CallRequest obj = (CallRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putEncodeableArray("MethodsToCall", CallMethodRequest.class, (obj==null)?null:obj.getMethodsToCall());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CallRequest result = new CallRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setMethodsToCall( decoder.getEncodeableArray("MethodsToCall", CallMethodRequest.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CallRequest", new ExpandedNodeId(Identifiers.CallRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CallRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CallRequest));
     	// CallResponse
-    	addSerializer(
-    		new AbstractSerializer(CallResponse.class, CallResponse.BINARY, CallResponse.XML, CallResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CallResponse obj = (CallResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, CallMethodResult.class, (obj==null)?null:obj.getResults());
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CallResponse obj = (CallResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("Results", CallMethodResult.class, (obj==null)?null:obj.getResults());
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CallResponse result = new CallResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getEncodeableArray("Results", CallMethodResult.class) );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CallResponse", new ExpandedNodeId(Identifiers.CallResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CallResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CallResponse));
     	// MonitoringFilter
-    	addSerializer(
-    		new AbstractSerializer(MonitoringFilter.class, MonitoringFilter.BINARY, MonitoringFilter.XML, MonitoringFilter.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				MonitoringFilter result = new MonitoringFilter();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.MonitoringFilter", new ExpandedNodeId(Identifiers.MonitoringFilter_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.MonitoringFilter_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.MonitoringFilter));
     	// DataChangeFilter
-    	addSerializer(
-    		new AbstractSerializer(DataChangeFilter.class, DataChangeFilter.BINARY, DataChangeFilter.XML, DataChangeFilter.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DataChangeFilter obj = (DataChangeFilter) encodeable;
-    				calculator.putEnumeration(null, null /*obj.getTrigger()*/);
-    				calculator.putUInt32(null, null /*obj.getDeadbandType()*/);
-    				calculator.putDouble(null, null /*obj.getDeadbandValue()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DataChangeFilter obj = (DataChangeFilter) encodeable;
-    				encoder.putEnumeration("Trigger",  (obj==null)?null:obj.getTrigger() );
-    				encoder.putUInt32("DeadbandType",  (obj==null)?null:obj.getDeadbandType() );
-    				encoder.putDouble("DeadbandValue",  (obj==null)?null:obj.getDeadbandValue() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DataChangeFilter result = new DataChangeFilter();
-    				result.setTrigger( decoder.getEnumeration("Trigger", DataChangeTrigger.class) );
-    				result.setDeadbandType( decoder.getUInt32("DeadbandType") );
-    				result.setDeadbandValue( decoder.getDouble("DeadbandValue") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DataChangeFilter", new ExpandedNodeId(Identifiers.DataChangeFilter_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DataChangeFilter_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DataChangeFilter));
     	// EventFilter
-    	addSerializer(
-    		new AbstractSerializer(EventFilter.class, EventFilter.BINARY, EventFilter.XML, EventFilter.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				EventFilter obj = (EventFilter) encodeable;
-    				calculator.putEncodeableArray(null, SimpleAttributeOperand.class, (obj==null)?null:obj.getSelectClauses());
-    				calculator.putEncodeable(null, ContentFilter.class, (obj==null)?null:obj.getWhereClause());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				EventFilter obj = (EventFilter) encodeable;
-    				encoder.putEncodeableArray("SelectClauses", SimpleAttributeOperand.class, (obj==null)?null:obj.getSelectClauses());
-    				encoder.putEncodeable("WhereClause", ContentFilter.class, (obj==null)?null:obj.getWhereClause());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				EventFilter result = new EventFilter();
-    				result.setSelectClauses( decoder.getEncodeableArray("SelectClauses", SimpleAttributeOperand.class) );
-    				result.setWhereClause( decoder.getEncodeable("WhereClause", ContentFilter.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.EventFilter", new ExpandedNodeId(Identifiers.EventFilter_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.EventFilter_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.EventFilter));
     	// AggregateConfiguration
-    	addSerializer(
-    		new AbstractSerializer(AggregateConfiguration.class, AggregateConfiguration.BINARY, AggregateConfiguration.XML, AggregateConfiguration.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				AggregateConfiguration obj = (AggregateConfiguration) encodeable;
-    				calculator.putBoolean(null, null /*obj.getUseServerCapabilitiesDefaults()*/);
-    				calculator.putBoolean(null, null /*obj.getTreatUncertainAsBad()*/);
-    				calculator.putByte(null, null /*obj.getPercentDataBad()*/);
-    				calculator.putByte(null, null /*obj.getPercentDataGood()*/);
-    				calculator.putBoolean(null, null /*obj.getUseSlopedExtrapolation()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				AggregateConfiguration obj = (AggregateConfiguration) encodeable;
-    				encoder.putBoolean("UseServerCapabilitiesDefaults",  (obj==null)?null:obj.getUseServerCapabilitiesDefaults() );
-    				encoder.putBoolean("TreatUncertainAsBad",  (obj==null)?null:obj.getTreatUncertainAsBad() );
-    				encoder.putByte("PercentDataBad",  (obj==null)?null:obj.getPercentDataBad() );
-    				encoder.putByte("PercentDataGood",  (obj==null)?null:obj.getPercentDataGood() );
-    				encoder.putBoolean("UseSlopedExtrapolation",  (obj==null)?null:obj.getUseSlopedExtrapolation() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				AggregateConfiguration result = new AggregateConfiguration();
-    				result.setUseServerCapabilitiesDefaults( decoder.getBoolean("UseServerCapabilitiesDefaults") );
-    				result.setTreatUncertainAsBad( decoder.getBoolean("TreatUncertainAsBad") );
-    				result.setPercentDataBad( decoder.getByte("PercentDataBad") );
-    				result.setPercentDataGood( decoder.getByte("PercentDataGood") );
-    				result.setUseSlopedExtrapolation( decoder.getBoolean("UseSlopedExtrapolation") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.AggregateConfiguration", new ExpandedNodeId(Identifiers.AggregateConfiguration_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.AggregateConfiguration_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.AggregateConfiguration));
     	// AggregateFilter
-    	addSerializer(
-    		new AbstractSerializer(AggregateFilter.class, AggregateFilter.BINARY, AggregateFilter.XML, AggregateFilter.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				AggregateFilter obj = (AggregateFilter) encodeable;
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getStartTime() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getAggregateType() );
-    				calculator.putDouble(null, null /*obj.getProcessingInterval()*/);
-    				calculator.putEncodeable(null, AggregateConfiguration.class, (obj==null)?null:obj.getAggregateConfiguration());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				AggregateFilter obj = (AggregateFilter) encodeable;
-    				encoder.putDateTime("StartTime",  (obj==null)?null:obj.getStartTime() );
-    				encoder.putNodeId("AggregateType",  (obj==null)?null:obj.getAggregateType() );
-    				encoder.putDouble("ProcessingInterval",  (obj==null)?null:obj.getProcessingInterval() );
-    				encoder.putEncodeable("AggregateConfiguration", AggregateConfiguration.class, (obj==null)?null:obj.getAggregateConfiguration());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				AggregateFilter result = new AggregateFilter();
-    				result.setStartTime( decoder.getDateTime("StartTime") );
-    				result.setAggregateType( decoder.getNodeId("AggregateType") );
-    				result.setProcessingInterval( decoder.getDouble("ProcessingInterval") );
-    				result.setAggregateConfiguration( decoder.getEncodeable("AggregateConfiguration", AggregateConfiguration.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.AggregateFilter", new ExpandedNodeId(Identifiers.AggregateFilter_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.AggregateFilter_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.AggregateFilter));
     	// MonitoringFilterResult
-    	addSerializer(
-    		new AbstractSerializer(MonitoringFilterResult.class, MonitoringFilterResult.BINARY, MonitoringFilterResult.XML, MonitoringFilterResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				MonitoringFilterResult result = new MonitoringFilterResult();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.MonitoringFilterResult", new ExpandedNodeId(Identifiers.MonitoringFilterResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.MonitoringFilterResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.MonitoringFilterResult));
     	// EventFilterResult
-    	addSerializer(
-    		new AbstractSerializer(EventFilterResult.class, EventFilterResult.BINARY, EventFilterResult.XML, EventFilterResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				EventFilterResult obj = (EventFilterResult) encodeable;
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getSelectClauseResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getSelectClauseDiagnosticInfos()) );
-    				calculator.putEncodeable(null, ContentFilterResult.class, (obj==null)?null:obj.getWhereClauseResult());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				EventFilterResult obj = (EventFilterResult) encodeable;
-    				encoder.putStatusCodeArray("SelectClauseResults", (obj==null)?null:obj.getSelectClauseResults() );
-    				encoder.putDiagnosticInfoArray("SelectClauseDiagnosticInfos", (obj==null)?null:obj.getSelectClauseDiagnosticInfos() );
-    				encoder.putEncodeable("WhereClauseResult", ContentFilterResult.class, (obj==null)?null:obj.getWhereClauseResult());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				EventFilterResult result = new EventFilterResult();
-    				result.setSelectClauseResults( decoder.getStatusCodeArray("SelectClauseResults") );
-    				result.setSelectClauseDiagnosticInfos( decoder.getDiagnosticInfoArray("SelectClauseDiagnosticInfos") );
-    				result.setWhereClauseResult( decoder.getEncodeable("WhereClauseResult", ContentFilterResult.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.EventFilterResult", new ExpandedNodeId(Identifiers.EventFilterResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.EventFilterResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.EventFilterResult));
     	// AggregateFilterResult
-    	addSerializer(
-    		new AbstractSerializer(AggregateFilterResult.class, AggregateFilterResult.BINARY, AggregateFilterResult.XML, AggregateFilterResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				AggregateFilterResult obj = (AggregateFilterResult) encodeable;
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getRevisedStartTime() );
-    				calculator.putDouble(null, null /*obj.getRevisedProcessingInterval()*/);
-    				calculator.putEncodeable(null, AggregateConfiguration.class, (obj==null)?null:obj.getRevisedAggregateConfiguration());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				AggregateFilterResult obj = (AggregateFilterResult) encodeable;
-    				encoder.putDateTime("RevisedStartTime",  (obj==null)?null:obj.getRevisedStartTime() );
-    				encoder.putDouble("RevisedProcessingInterval",  (obj==null)?null:obj.getRevisedProcessingInterval() );
-    				encoder.putEncodeable("RevisedAggregateConfiguration", AggregateConfiguration.class, (obj==null)?null:obj.getRevisedAggregateConfiguration());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				AggregateFilterResult result = new AggregateFilterResult();
-    				result.setRevisedStartTime( decoder.getDateTime("RevisedStartTime") );
-    				result.setRevisedProcessingInterval( decoder.getDouble("RevisedProcessingInterval") );
-    				result.setRevisedAggregateConfiguration( decoder.getEncodeable("RevisedAggregateConfiguration", AggregateConfiguration.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.AggregateFilterResult", new ExpandedNodeId(Identifiers.AggregateFilterResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.AggregateFilterResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.AggregateFilterResult));
     	// MonitoringParameters
-    	addSerializer(
-    		new AbstractSerializer(MonitoringParameters.class, MonitoringParameters.BINARY, MonitoringParameters.XML, MonitoringParameters.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				MonitoringParameters obj = (MonitoringParameters) encodeable;
-    				calculator.putUInt32(null, null /*obj.getClientHandle()*/);
-    				calculator.putDouble(null, null /*obj.getSamplingInterval()*/);
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getFilter() );
-    				calculator.putUInt32(null, null /*obj.getQueueSize()*/);
-    				calculator.putBoolean(null, null /*obj.getDiscardOldest()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				MonitoringParameters obj = (MonitoringParameters) encodeable;
-    				encoder.putUInt32("ClientHandle",  (obj==null)?null:obj.getClientHandle() );
-    				encoder.putDouble("SamplingInterval",  (obj==null)?null:obj.getSamplingInterval() );
-    				encoder.putExtensionObject("Filter",  (obj==null)?null:obj.getFilter() );
-    				encoder.putUInt32("QueueSize",  (obj==null)?null:obj.getQueueSize() );
-    				encoder.putBoolean("DiscardOldest",  (obj==null)?null:obj.getDiscardOldest() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				MonitoringParameters result = new MonitoringParameters();
-    				result.setClientHandle( decoder.getUInt32("ClientHandle") );
-    				result.setSamplingInterval( decoder.getDouble("SamplingInterval") );
-    				result.setFilter( decoder.getExtensionObject("Filter") );
-    				result.setQueueSize( decoder.getUInt32("QueueSize") );
-    				result.setDiscardOldest( decoder.getBoolean("DiscardOldest") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.MonitoringParameters", new ExpandedNodeId(Identifiers.MonitoringParameters_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.MonitoringParameters_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.MonitoringParameters));
     	// MonitoredItemCreateRequest
-    	addSerializer(
-    		new AbstractSerializer(MonitoredItemCreateRequest.class, MonitoredItemCreateRequest.BINARY, MonitoredItemCreateRequest.XML, MonitoredItemCreateRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				MonitoredItemCreateRequest obj = (MonitoredItemCreateRequest) encodeable;
-    				calculator.putEncodeable(null, ReadValueId.class, (obj==null)?null:obj.getItemToMonitor());
-    				calculator.putEnumeration(null, null /*obj.getMonitoringMode()*/);
-    				calculator.putEncodeable(null, MonitoringParameters.class, (obj==null)?null:obj.getRequestedParameters());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				MonitoredItemCreateRequest obj = (MonitoredItemCreateRequest) encodeable;
-    				encoder.putEncodeable("ItemToMonitor", ReadValueId.class, (obj==null)?null:obj.getItemToMonitor());
-    				encoder.putEnumeration("MonitoringMode",  (obj==null)?null:obj.getMonitoringMode() );
-    				encoder.putEncodeable("RequestedParameters", MonitoringParameters.class, (obj==null)?null:obj.getRequestedParameters());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				MonitoredItemCreateRequest result = new MonitoredItemCreateRequest();
-    				result.setItemToMonitor( decoder.getEncodeable("ItemToMonitor", ReadValueId.class) );
-    				result.setMonitoringMode( decoder.getEnumeration("MonitoringMode", MonitoringMode.class) );
-    				result.setRequestedParameters( decoder.getEncodeable("RequestedParameters", MonitoringParameters.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.MonitoredItemCreateRequest", new ExpandedNodeId(Identifiers.MonitoredItemCreateRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.MonitoredItemCreateRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.MonitoredItemCreateRequest));
     	// MonitoredItemCreateResult
-    	addSerializer(
-    		new AbstractSerializer(MonitoredItemCreateResult.class, MonitoredItemCreateResult.BINARY, MonitoredItemCreateResult.XML, MonitoredItemCreateResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				MonitoredItemCreateResult obj = (MonitoredItemCreateResult) encodeable;
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getStatusCode() );
-    				calculator.putUInt32(null, null /*obj.getMonitoredItemId()*/);
-    				calculator.putDouble(null, null /*obj.getRevisedSamplingInterval()*/);
-    				calculator.putUInt32(null, null /*obj.getRevisedQueueSize()*/);
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getFilterResult() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				MonitoredItemCreateResult obj = (MonitoredItemCreateResult) encodeable;
-    				encoder.putStatusCode("StatusCode",  (obj==null)?null:obj.getStatusCode() );
-    				encoder.putUInt32("MonitoredItemId",  (obj==null)?null:obj.getMonitoredItemId() );
-    				encoder.putDouble("RevisedSamplingInterval",  (obj==null)?null:obj.getRevisedSamplingInterval() );
-    				encoder.putUInt32("RevisedQueueSize",  (obj==null)?null:obj.getRevisedQueueSize() );
-    				encoder.putExtensionObject("FilterResult",  (obj==null)?null:obj.getFilterResult() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				MonitoredItemCreateResult result = new MonitoredItemCreateResult();
-    				result.setStatusCode( decoder.getStatusCode("StatusCode") );
-    				result.setMonitoredItemId( decoder.getUInt32("MonitoredItemId") );
-    				result.setRevisedSamplingInterval( decoder.getDouble("RevisedSamplingInterval") );
-    				result.setRevisedQueueSize( decoder.getUInt32("RevisedQueueSize") );
-    				result.setFilterResult( decoder.getExtensionObject("FilterResult") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.MonitoredItemCreateResult", new ExpandedNodeId(Identifiers.MonitoredItemCreateResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.MonitoredItemCreateResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.MonitoredItemCreateResult));
     	// CreateMonitoredItemsRequest
-    	addSerializer(
-    		new AbstractSerializer(CreateMonitoredItemsRequest.class, CreateMonitoredItemsRequest.BINARY, CreateMonitoredItemsRequest.XML, CreateMonitoredItemsRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CreateMonitoredItemsRequest obj = (CreateMonitoredItemsRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putUInt32(null, null /*obj.getSubscriptionId()*/);
-    				calculator.putEnumeration(null, null /*obj.getTimestampsToReturn()*/);
-    				calculator.putEncodeableArray(null, MonitoredItemCreateRequest.class, (obj==null)?null:obj.getItemsToCreate());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CreateMonitoredItemsRequest obj = (CreateMonitoredItemsRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putUInt32("SubscriptionId",  (obj==null)?null:obj.getSubscriptionId() );
-    				encoder.putEnumeration("TimestampsToReturn",  (obj==null)?null:obj.getTimestampsToReturn() );
-    				encoder.putEncodeableArray("ItemsToCreate", MonitoredItemCreateRequest.class, (obj==null)?null:obj.getItemsToCreate());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CreateMonitoredItemsRequest result = new CreateMonitoredItemsRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setSubscriptionId( decoder.getUInt32("SubscriptionId") );
-    				result.setTimestampsToReturn( decoder.getEnumeration("TimestampsToReturn", TimestampsToReturn.class) );
-    				result.setItemsToCreate( decoder.getEncodeableArray("ItemsToCreate", MonitoredItemCreateRequest.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CreateMonitoredItemsRequest", new ExpandedNodeId(Identifiers.CreateMonitoredItemsRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CreateMonitoredItemsRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CreateMonitoredItemsRequest));
     	// CreateMonitoredItemsResponse
-    	addSerializer(
-    		new AbstractSerializer(CreateMonitoredItemsResponse.class, CreateMonitoredItemsResponse.BINARY, CreateMonitoredItemsResponse.XML, CreateMonitoredItemsResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CreateMonitoredItemsResponse obj = (CreateMonitoredItemsResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, MonitoredItemCreateResult.class, (obj==null)?null:obj.getResults());
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CreateMonitoredItemsResponse obj = (CreateMonitoredItemsResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("Results", MonitoredItemCreateResult.class, (obj==null)?null:obj.getResults());
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CreateMonitoredItemsResponse result = new CreateMonitoredItemsResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getEncodeableArray("Results", MonitoredItemCreateResult.class) );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CreateMonitoredItemsResponse", new ExpandedNodeId(Identifiers.CreateMonitoredItemsResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CreateMonitoredItemsResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CreateMonitoredItemsResponse));
     	// MonitoredItemModifyRequest
-    	addSerializer(
-    		new AbstractSerializer(MonitoredItemModifyRequest.class, MonitoredItemModifyRequest.BINARY, MonitoredItemModifyRequest.XML, MonitoredItemModifyRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				MonitoredItemModifyRequest obj = (MonitoredItemModifyRequest) encodeable;
-    				calculator.putUInt32(null, null /*obj.getMonitoredItemId()*/);
-    				calculator.putEncodeable(null, MonitoringParameters.class, (obj==null)?null:obj.getRequestedParameters());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				MonitoredItemModifyRequest obj = (MonitoredItemModifyRequest) encodeable;
-    				encoder.putUInt32("MonitoredItemId",  (obj==null)?null:obj.getMonitoredItemId() );
-    				encoder.putEncodeable("RequestedParameters", MonitoringParameters.class, (obj==null)?null:obj.getRequestedParameters());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				MonitoredItemModifyRequest result = new MonitoredItemModifyRequest();
-    				result.setMonitoredItemId( decoder.getUInt32("MonitoredItemId") );
-    				result.setRequestedParameters( decoder.getEncodeable("RequestedParameters", MonitoringParameters.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.MonitoredItemModifyRequest", new ExpandedNodeId(Identifiers.MonitoredItemModifyRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.MonitoredItemModifyRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.MonitoredItemModifyRequest));
     	// MonitoredItemModifyResult
-    	addSerializer(
-    		new AbstractSerializer(MonitoredItemModifyResult.class, MonitoredItemModifyResult.BINARY, MonitoredItemModifyResult.XML, MonitoredItemModifyResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				MonitoredItemModifyResult obj = (MonitoredItemModifyResult) encodeable;
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getStatusCode() );
-    				calculator.putDouble(null, null /*obj.getRevisedSamplingInterval()*/);
-    				calculator.putUInt32(null, null /*obj.getRevisedQueueSize()*/);
-    				calculator.putExtensionObject(null,  (obj==null)?null:obj.getFilterResult() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				MonitoredItemModifyResult obj = (MonitoredItemModifyResult) encodeable;
-    				encoder.putStatusCode("StatusCode",  (obj==null)?null:obj.getStatusCode() );
-    				encoder.putDouble("RevisedSamplingInterval",  (obj==null)?null:obj.getRevisedSamplingInterval() );
-    				encoder.putUInt32("RevisedQueueSize",  (obj==null)?null:obj.getRevisedQueueSize() );
-    				encoder.putExtensionObject("FilterResult",  (obj==null)?null:obj.getFilterResult() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				MonitoredItemModifyResult result = new MonitoredItemModifyResult();
-    				result.setStatusCode( decoder.getStatusCode("StatusCode") );
-    				result.setRevisedSamplingInterval( decoder.getDouble("RevisedSamplingInterval") );
-    				result.setRevisedQueueSize( decoder.getUInt32("RevisedQueueSize") );
-    				result.setFilterResult( decoder.getExtensionObject("FilterResult") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.MonitoredItemModifyResult", new ExpandedNodeId(Identifiers.MonitoredItemModifyResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.MonitoredItemModifyResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.MonitoredItemModifyResult));
     	// ModifyMonitoredItemsRequest
-    	addSerializer(
-    		new AbstractSerializer(ModifyMonitoredItemsRequest.class, ModifyMonitoredItemsRequest.BINARY, ModifyMonitoredItemsRequest.XML, ModifyMonitoredItemsRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ModifyMonitoredItemsRequest obj = (ModifyMonitoredItemsRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putUInt32(null, null /*obj.getSubscriptionId()*/);
-    				calculator.putEnumeration(null, null /*obj.getTimestampsToReturn()*/);
-    				calculator.putEncodeableArray(null, MonitoredItemModifyRequest.class, (obj==null)?null:obj.getItemsToModify());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ModifyMonitoredItemsRequest obj = (ModifyMonitoredItemsRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putUInt32("SubscriptionId",  (obj==null)?null:obj.getSubscriptionId() );
-    				encoder.putEnumeration("TimestampsToReturn",  (obj==null)?null:obj.getTimestampsToReturn() );
-    				encoder.putEncodeableArray("ItemsToModify", MonitoredItemModifyRequest.class, (obj==null)?null:obj.getItemsToModify());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ModifyMonitoredItemsRequest result = new ModifyMonitoredItemsRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setSubscriptionId( decoder.getUInt32("SubscriptionId") );
-    				result.setTimestampsToReturn( decoder.getEnumeration("TimestampsToReturn", TimestampsToReturn.class) );
-    				result.setItemsToModify( decoder.getEncodeableArray("ItemsToModify", MonitoredItemModifyRequest.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ModifyMonitoredItemsRequest", new ExpandedNodeId(Identifiers.ModifyMonitoredItemsRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ModifyMonitoredItemsRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ModifyMonitoredItemsRequest));
     	// ModifyMonitoredItemsResponse
-    	addSerializer(
-    		new AbstractSerializer(ModifyMonitoredItemsResponse.class, ModifyMonitoredItemsResponse.BINARY, ModifyMonitoredItemsResponse.XML, ModifyMonitoredItemsResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ModifyMonitoredItemsResponse obj = (ModifyMonitoredItemsResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, MonitoredItemModifyResult.class, (obj==null)?null:obj.getResults());
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ModifyMonitoredItemsResponse obj = (ModifyMonitoredItemsResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("Results", MonitoredItemModifyResult.class, (obj==null)?null:obj.getResults());
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ModifyMonitoredItemsResponse result = new ModifyMonitoredItemsResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getEncodeableArray("Results", MonitoredItemModifyResult.class) );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ModifyMonitoredItemsResponse", new ExpandedNodeId(Identifiers.ModifyMonitoredItemsResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ModifyMonitoredItemsResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ModifyMonitoredItemsResponse));
     	// SetMonitoringModeRequest
-    	addSerializer(
-    		new AbstractSerializer(SetMonitoringModeRequest.class, SetMonitoringModeRequest.BINARY, SetMonitoringModeRequest.XML, SetMonitoringModeRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SetMonitoringModeRequest obj = (SetMonitoringModeRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putUInt32(null, null /*obj.getSubscriptionId()*/);
-    				calculator.putEnumeration(null, null /*obj.getMonitoringMode()*/);
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getMonitoredItemIds()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SetMonitoringModeRequest obj = (SetMonitoringModeRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putUInt32("SubscriptionId",  (obj==null)?null:obj.getSubscriptionId() );
-    				encoder.putEnumeration("MonitoringMode",  (obj==null)?null:obj.getMonitoringMode() );
-    				encoder.putUInt32Array("MonitoredItemIds", (obj==null)?null:obj.getMonitoredItemIds() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SetMonitoringModeRequest result = new SetMonitoringModeRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setSubscriptionId( decoder.getUInt32("SubscriptionId") );
-    				result.setMonitoringMode( decoder.getEnumeration("MonitoringMode", MonitoringMode.class) );
-    				result.setMonitoredItemIds( decoder.getUInt32Array("MonitoredItemIds") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SetMonitoringModeRequest", new ExpandedNodeId(Identifiers.SetMonitoringModeRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SetMonitoringModeRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SetMonitoringModeRequest));
     	// SetMonitoringModeResponse
-    	addSerializer(
-    		new AbstractSerializer(SetMonitoringModeResponse.class, SetMonitoringModeResponse.BINARY, SetMonitoringModeResponse.XML, SetMonitoringModeResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SetMonitoringModeResponse obj = (SetMonitoringModeResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SetMonitoringModeResponse obj = (SetMonitoringModeResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putStatusCodeArray("Results", (obj==null)?null:obj.getResults() );
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SetMonitoringModeResponse result = new SetMonitoringModeResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getStatusCodeArray("Results") );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SetMonitoringModeResponse", new ExpandedNodeId(Identifiers.SetMonitoringModeResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SetMonitoringModeResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SetMonitoringModeResponse));
     	// SetTriggeringRequest
-    	addSerializer(
-    		new AbstractSerializer(SetTriggeringRequest.class, SetTriggeringRequest.BINARY, SetTriggeringRequest.XML, SetTriggeringRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SetTriggeringRequest obj = (SetTriggeringRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putUInt32(null, null /*obj.getSubscriptionId()*/);
-    				calculator.putUInt32(null, null /*obj.getTriggeringItemId()*/);
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getLinksToAdd()) );
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getLinksToRemove()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SetTriggeringRequest obj = (SetTriggeringRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putUInt32("SubscriptionId",  (obj==null)?null:obj.getSubscriptionId() );
-    				encoder.putUInt32("TriggeringItemId",  (obj==null)?null:obj.getTriggeringItemId() );
-    				encoder.putUInt32Array("LinksToAdd", (obj==null)?null:obj.getLinksToAdd() );
-    				encoder.putUInt32Array("LinksToRemove", (obj==null)?null:obj.getLinksToRemove() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SetTriggeringRequest result = new SetTriggeringRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setSubscriptionId( decoder.getUInt32("SubscriptionId") );
-    				result.setTriggeringItemId( decoder.getUInt32("TriggeringItemId") );
-    				result.setLinksToAdd( decoder.getUInt32Array("LinksToAdd") );
-    				result.setLinksToRemove( decoder.getUInt32Array("LinksToRemove") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SetTriggeringRequest", new ExpandedNodeId(Identifiers.SetTriggeringRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SetTriggeringRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SetTriggeringRequest));
     	// SetTriggeringResponse
-    	addSerializer(
-    		new AbstractSerializer(SetTriggeringResponse.class, SetTriggeringResponse.BINARY, SetTriggeringResponse.XML, SetTriggeringResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SetTriggeringResponse obj = (SetTriggeringResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getAddResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getAddDiagnosticInfos()) );
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getRemoveResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getRemoveDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SetTriggeringResponse obj = (SetTriggeringResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putStatusCodeArray("AddResults", (obj==null)?null:obj.getAddResults() );
-    				encoder.putDiagnosticInfoArray("AddDiagnosticInfos", (obj==null)?null:obj.getAddDiagnosticInfos() );
-    				encoder.putStatusCodeArray("RemoveResults", (obj==null)?null:obj.getRemoveResults() );
-    				encoder.putDiagnosticInfoArray("RemoveDiagnosticInfos", (obj==null)?null:obj.getRemoveDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SetTriggeringResponse result = new SetTriggeringResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setAddResults( decoder.getStatusCodeArray("AddResults") );
-    				result.setAddDiagnosticInfos( decoder.getDiagnosticInfoArray("AddDiagnosticInfos") );
-    				result.setRemoveResults( decoder.getStatusCodeArray("RemoveResults") );
-    				result.setRemoveDiagnosticInfos( decoder.getDiagnosticInfoArray("RemoveDiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SetTriggeringResponse", new ExpandedNodeId(Identifiers.SetTriggeringResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SetTriggeringResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SetTriggeringResponse));
     	// DeleteMonitoredItemsRequest
-    	addSerializer(
-    		new AbstractSerializer(DeleteMonitoredItemsRequest.class, DeleteMonitoredItemsRequest.BINARY, DeleteMonitoredItemsRequest.XML, DeleteMonitoredItemsRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DeleteMonitoredItemsRequest obj = (DeleteMonitoredItemsRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putUInt32(null, null /*obj.getSubscriptionId()*/);
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getMonitoredItemIds()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DeleteMonitoredItemsRequest obj = (DeleteMonitoredItemsRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putUInt32("SubscriptionId",  (obj==null)?null:obj.getSubscriptionId() );
-    				encoder.putUInt32Array("MonitoredItemIds", (obj==null)?null:obj.getMonitoredItemIds() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DeleteMonitoredItemsRequest result = new DeleteMonitoredItemsRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setSubscriptionId( decoder.getUInt32("SubscriptionId") );
-    				result.setMonitoredItemIds( decoder.getUInt32Array("MonitoredItemIds") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DeleteMonitoredItemsRequest", new ExpandedNodeId(Identifiers.DeleteMonitoredItemsRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DeleteMonitoredItemsRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DeleteMonitoredItemsRequest));
     	// DeleteMonitoredItemsResponse
-    	addSerializer(
-    		new AbstractSerializer(DeleteMonitoredItemsResponse.class, DeleteMonitoredItemsResponse.BINARY, DeleteMonitoredItemsResponse.XML, DeleteMonitoredItemsResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DeleteMonitoredItemsResponse obj = (DeleteMonitoredItemsResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DeleteMonitoredItemsResponse obj = (DeleteMonitoredItemsResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putStatusCodeArray("Results", (obj==null)?null:obj.getResults() );
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DeleteMonitoredItemsResponse result = new DeleteMonitoredItemsResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getStatusCodeArray("Results") );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DeleteMonitoredItemsResponse", new ExpandedNodeId(Identifiers.DeleteMonitoredItemsResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DeleteMonitoredItemsResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DeleteMonitoredItemsResponse));
     	// CreateSubscriptionRequest
-    	addSerializer(
-    		new AbstractSerializer(CreateSubscriptionRequest.class, CreateSubscriptionRequest.BINARY, CreateSubscriptionRequest.XML, CreateSubscriptionRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CreateSubscriptionRequest obj = (CreateSubscriptionRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putDouble(null, null /*obj.getRequestedPublishingInterval()*/);
-    				calculator.putUInt32(null, null /*obj.getRequestedLifetimeCount()*/);
-    				calculator.putUInt32(null, null /*obj.getRequestedMaxKeepAliveCount()*/);
-    				calculator.putUInt32(null, null /*obj.getMaxNotificationsPerPublish()*/);
-    				calculator.putBoolean(null, null /*obj.getPublishingEnabled()*/);
-    				calculator.putByte(null, null /*obj.getPriority()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CreateSubscriptionRequest obj = (CreateSubscriptionRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putDouble("RequestedPublishingInterval",  (obj==null)?null:obj.getRequestedPublishingInterval() );
-    				encoder.putUInt32("RequestedLifetimeCount",  (obj==null)?null:obj.getRequestedLifetimeCount() );
-    				encoder.putUInt32("RequestedMaxKeepAliveCount",  (obj==null)?null:obj.getRequestedMaxKeepAliveCount() );
-    				encoder.putUInt32("MaxNotificationsPerPublish",  (obj==null)?null:obj.getMaxNotificationsPerPublish() );
-    				encoder.putBoolean("PublishingEnabled",  (obj==null)?null:obj.getPublishingEnabled() );
-    				encoder.putByte("Priority",  (obj==null)?null:obj.getPriority() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CreateSubscriptionRequest result = new CreateSubscriptionRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setRequestedPublishingInterval( decoder.getDouble("RequestedPublishingInterval") );
-    				result.setRequestedLifetimeCount( decoder.getUInt32("RequestedLifetimeCount") );
-    				result.setRequestedMaxKeepAliveCount( decoder.getUInt32("RequestedMaxKeepAliveCount") );
-    				result.setMaxNotificationsPerPublish( decoder.getUInt32("MaxNotificationsPerPublish") );
-    				result.setPublishingEnabled( decoder.getBoolean("PublishingEnabled") );
-    				result.setPriority( decoder.getByte("Priority") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CreateSubscriptionRequest", new ExpandedNodeId(Identifiers.CreateSubscriptionRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CreateSubscriptionRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CreateSubscriptionRequest));
     	// CreateSubscriptionResponse
-    	addSerializer(
-    		new AbstractSerializer(CreateSubscriptionResponse.class, CreateSubscriptionResponse.BINARY, CreateSubscriptionResponse.XML, CreateSubscriptionResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				CreateSubscriptionResponse obj = (CreateSubscriptionResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putUInt32(null, null /*obj.getSubscriptionId()*/);
-    				calculator.putDouble(null, null /*obj.getRevisedPublishingInterval()*/);
-    				calculator.putUInt32(null, null /*obj.getRevisedLifetimeCount()*/);
-    				calculator.putUInt32(null, null /*obj.getRevisedMaxKeepAliveCount()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				CreateSubscriptionResponse obj = (CreateSubscriptionResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putUInt32("SubscriptionId",  (obj==null)?null:obj.getSubscriptionId() );
-    				encoder.putDouble("RevisedPublishingInterval",  (obj==null)?null:obj.getRevisedPublishingInterval() );
-    				encoder.putUInt32("RevisedLifetimeCount",  (obj==null)?null:obj.getRevisedLifetimeCount() );
-    				encoder.putUInt32("RevisedMaxKeepAliveCount",  (obj==null)?null:obj.getRevisedMaxKeepAliveCount() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				CreateSubscriptionResponse result = new CreateSubscriptionResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setSubscriptionId( decoder.getUInt32("SubscriptionId") );
-    				result.setRevisedPublishingInterval( decoder.getDouble("RevisedPublishingInterval") );
-    				result.setRevisedLifetimeCount( decoder.getUInt32("RevisedLifetimeCount") );
-    				result.setRevisedMaxKeepAliveCount( decoder.getUInt32("RevisedMaxKeepAliveCount") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.CreateSubscriptionResponse", new ExpandedNodeId(Identifiers.CreateSubscriptionResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.CreateSubscriptionResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.CreateSubscriptionResponse));
     	// ModifySubscriptionRequest
-    	addSerializer(
-    		new AbstractSerializer(ModifySubscriptionRequest.class, ModifySubscriptionRequest.BINARY, ModifySubscriptionRequest.XML, ModifySubscriptionRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ModifySubscriptionRequest obj = (ModifySubscriptionRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putUInt32(null, null /*obj.getSubscriptionId()*/);
-    				calculator.putDouble(null, null /*obj.getRequestedPublishingInterval()*/);
-    				calculator.putUInt32(null, null /*obj.getRequestedLifetimeCount()*/);
-    				calculator.putUInt32(null, null /*obj.getRequestedMaxKeepAliveCount()*/);
-    				calculator.putUInt32(null, null /*obj.getMaxNotificationsPerPublish()*/);
-    				calculator.putByte(null, null /*obj.getPriority()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ModifySubscriptionRequest obj = (ModifySubscriptionRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putUInt32("SubscriptionId",  (obj==null)?null:obj.getSubscriptionId() );
-    				encoder.putDouble("RequestedPublishingInterval",  (obj==null)?null:obj.getRequestedPublishingInterval() );
-    				encoder.putUInt32("RequestedLifetimeCount",  (obj==null)?null:obj.getRequestedLifetimeCount() );
-    				encoder.putUInt32("RequestedMaxKeepAliveCount",  (obj==null)?null:obj.getRequestedMaxKeepAliveCount() );
-    				encoder.putUInt32("MaxNotificationsPerPublish",  (obj==null)?null:obj.getMaxNotificationsPerPublish() );
-    				encoder.putByte("Priority",  (obj==null)?null:obj.getPriority() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ModifySubscriptionRequest result = new ModifySubscriptionRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setSubscriptionId( decoder.getUInt32("SubscriptionId") );
-    				result.setRequestedPublishingInterval( decoder.getDouble("RequestedPublishingInterval") );
-    				result.setRequestedLifetimeCount( decoder.getUInt32("RequestedLifetimeCount") );
-    				result.setRequestedMaxKeepAliveCount( decoder.getUInt32("RequestedMaxKeepAliveCount") );
-    				result.setMaxNotificationsPerPublish( decoder.getUInt32("MaxNotificationsPerPublish") );
-    				result.setPriority( decoder.getByte("Priority") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ModifySubscriptionRequest", new ExpandedNodeId(Identifiers.ModifySubscriptionRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ModifySubscriptionRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ModifySubscriptionRequest));
     	// ModifySubscriptionResponse
-    	addSerializer(
-    		new AbstractSerializer(ModifySubscriptionResponse.class, ModifySubscriptionResponse.BINARY, ModifySubscriptionResponse.XML, ModifySubscriptionResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ModifySubscriptionResponse obj = (ModifySubscriptionResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putDouble(null, null /*obj.getRevisedPublishingInterval()*/);
-    				calculator.putUInt32(null, null /*obj.getRevisedLifetimeCount()*/);
-    				calculator.putUInt32(null, null /*obj.getRevisedMaxKeepAliveCount()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ModifySubscriptionResponse obj = (ModifySubscriptionResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putDouble("RevisedPublishingInterval",  (obj==null)?null:obj.getRevisedPublishingInterval() );
-    				encoder.putUInt32("RevisedLifetimeCount",  (obj==null)?null:obj.getRevisedLifetimeCount() );
-    				encoder.putUInt32("RevisedMaxKeepAliveCount",  (obj==null)?null:obj.getRevisedMaxKeepAliveCount() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ModifySubscriptionResponse result = new ModifySubscriptionResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setRevisedPublishingInterval( decoder.getDouble("RevisedPublishingInterval") );
-    				result.setRevisedLifetimeCount( decoder.getUInt32("RevisedLifetimeCount") );
-    				result.setRevisedMaxKeepAliveCount( decoder.getUInt32("RevisedMaxKeepAliveCount") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ModifySubscriptionResponse", new ExpandedNodeId(Identifiers.ModifySubscriptionResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ModifySubscriptionResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ModifySubscriptionResponse));
     	// SetPublishingModeRequest
-    	addSerializer(
-    		new AbstractSerializer(SetPublishingModeRequest.class, SetPublishingModeRequest.BINARY, SetPublishingModeRequest.XML, SetPublishingModeRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SetPublishingModeRequest obj = (SetPublishingModeRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putBoolean(null, null /*obj.getPublishingEnabled()*/);
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getSubscriptionIds()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SetPublishingModeRequest obj = (SetPublishingModeRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putBoolean("PublishingEnabled",  (obj==null)?null:obj.getPublishingEnabled() );
-    				encoder.putUInt32Array("SubscriptionIds", (obj==null)?null:obj.getSubscriptionIds() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SetPublishingModeRequest result = new SetPublishingModeRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setPublishingEnabled( decoder.getBoolean("PublishingEnabled") );
-    				result.setSubscriptionIds( decoder.getUInt32Array("SubscriptionIds") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SetPublishingModeRequest", new ExpandedNodeId(Identifiers.SetPublishingModeRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SetPublishingModeRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SetPublishingModeRequest));
     	// SetPublishingModeResponse
-    	addSerializer(
-    		new AbstractSerializer(SetPublishingModeResponse.class, SetPublishingModeResponse.BINARY, SetPublishingModeResponse.XML, SetPublishingModeResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SetPublishingModeResponse obj = (SetPublishingModeResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SetPublishingModeResponse obj = (SetPublishingModeResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putStatusCodeArray("Results", (obj==null)?null:obj.getResults() );
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SetPublishingModeResponse result = new SetPublishingModeResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getStatusCodeArray("Results") );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SetPublishingModeResponse", new ExpandedNodeId(Identifiers.SetPublishingModeResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SetPublishingModeResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SetPublishingModeResponse));
     	// NotificationMessage
-    	addSerializer(
-    		new AbstractSerializer(NotificationMessage.class, NotificationMessage.BINARY, NotificationMessage.XML, NotificationMessage.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				NotificationMessage obj = (NotificationMessage) encodeable;
-    				calculator.putUInt32(null, null /*obj.getSequenceNumber()*/);
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getPublishTime() );
-    				calculator.putExtensionObjectArray(null, ((obj==null)?null:obj.getNotificationData()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				NotificationMessage obj = (NotificationMessage) encodeable;
-    				encoder.putUInt32("SequenceNumber",  (obj==null)?null:obj.getSequenceNumber() );
-    				encoder.putDateTime("PublishTime",  (obj==null)?null:obj.getPublishTime() );
-    				encoder.putExtensionObjectArray("NotificationData", (obj==null)?null:obj.getNotificationData() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				NotificationMessage result = new NotificationMessage();
-    				result.setSequenceNumber( decoder.getUInt32("SequenceNumber") );
-    				result.setPublishTime( decoder.getDateTime("PublishTime") );
-    				result.setNotificationData( decoder.getExtensionObjectArray("NotificationData") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.NotificationMessage", new ExpandedNodeId(Identifiers.NotificationMessage_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.NotificationMessage_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.NotificationMessage));
     	// NotificationData
-    	addSerializer(
-    		new AbstractSerializer(NotificationData.class, NotificationData.BINARY, NotificationData.XML, NotificationData.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				NotificationData result = new NotificationData();
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.NotificationData", new ExpandedNodeId(Identifiers.NotificationData_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.NotificationData_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.NotificationData));
     	// DataChangeNotification
-    	addSerializer(
-    		new AbstractSerializer(DataChangeNotification.class, DataChangeNotification.BINARY, DataChangeNotification.XML, DataChangeNotification.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DataChangeNotification obj = (DataChangeNotification) encodeable;
-    				calculator.putEncodeableArray(null, MonitoredItemNotification.class, (obj==null)?null:obj.getMonitoredItems());
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DataChangeNotification obj = (DataChangeNotification) encodeable;
-    				encoder.putEncodeableArray("MonitoredItems", MonitoredItemNotification.class, (obj==null)?null:obj.getMonitoredItems());
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DataChangeNotification result = new DataChangeNotification();
-    				result.setMonitoredItems( decoder.getEncodeableArray("MonitoredItems", MonitoredItemNotification.class) );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DataChangeNotification", new ExpandedNodeId(Identifiers.DataChangeNotification_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DataChangeNotification_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DataChangeNotification));
     	// MonitoredItemNotification
-    	addSerializer(
-    		new AbstractSerializer(MonitoredItemNotification.class, MonitoredItemNotification.BINARY, MonitoredItemNotification.XML, MonitoredItemNotification.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				MonitoredItemNotification obj = (MonitoredItemNotification) encodeable;
-    				calculator.putUInt32(null, null /*obj.getClientHandle()*/);
-    				calculator.putDataValue(null,  (obj==null)?null:obj.getValue() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				MonitoredItemNotification obj = (MonitoredItemNotification) encodeable;
-    				encoder.putUInt32("ClientHandle",  (obj==null)?null:obj.getClientHandle() );
-    				encoder.putDataValue("Value",  (obj==null)?null:obj.getValue() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				MonitoredItemNotification result = new MonitoredItemNotification();
-    				result.setClientHandle( decoder.getUInt32("ClientHandle") );
-    				result.setValue( decoder.getDataValue("Value") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.MonitoredItemNotification", new ExpandedNodeId(Identifiers.MonitoredItemNotification_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.MonitoredItemNotification_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.MonitoredItemNotification));
     	// EventNotificationList
-    	addSerializer(
-    		new AbstractSerializer(EventNotificationList.class, EventNotificationList.BINARY, EventNotificationList.XML, EventNotificationList.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				EventNotificationList obj = (EventNotificationList) encodeable;
-    				calculator.putEncodeableArray(null, EventFieldList.class, (obj==null)?null:obj.getEvents());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				EventNotificationList obj = (EventNotificationList) encodeable;
-    				encoder.putEncodeableArray("Events", EventFieldList.class, (obj==null)?null:obj.getEvents());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				EventNotificationList result = new EventNotificationList();
-    				result.setEvents( decoder.getEncodeableArray("Events", EventFieldList.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.EventNotificationList", new ExpandedNodeId(Identifiers.EventNotificationList_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.EventNotificationList_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.EventNotificationList));
     	// EventFieldList
-    	addSerializer(
-    		new AbstractSerializer(EventFieldList.class, EventFieldList.BINARY, EventFieldList.XML, EventFieldList.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				EventFieldList obj = (EventFieldList) encodeable;
-    				calculator.putUInt32(null, null /*obj.getClientHandle()*/);
-    				calculator.putVariantArray(null, ((obj==null)?null:obj.getEventFields()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				EventFieldList obj = (EventFieldList) encodeable;
-    				encoder.putUInt32("ClientHandle",  (obj==null)?null:obj.getClientHandle() );
-    				encoder.putVariantArray("EventFields", (obj==null)?null:obj.getEventFields() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				EventFieldList result = new EventFieldList();
-    				result.setClientHandle( decoder.getUInt32("ClientHandle") );
-    				result.setEventFields( decoder.getVariantArray("EventFields") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.EventFieldList", new ExpandedNodeId(Identifiers.EventFieldList_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.EventFieldList_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.EventFieldList));
     	// HistoryEventFieldList
-    	addSerializer(
-    		new AbstractSerializer(HistoryEventFieldList.class, HistoryEventFieldList.BINARY, HistoryEventFieldList.XML, HistoryEventFieldList.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				HistoryEventFieldList obj = (HistoryEventFieldList) encodeable;
-    				calculator.putVariantArray(null, ((obj==null)?null:obj.getEventFields()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				HistoryEventFieldList obj = (HistoryEventFieldList) encodeable;
-    				encoder.putVariantArray("EventFields", (obj==null)?null:obj.getEventFields() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				HistoryEventFieldList result = new HistoryEventFieldList();
-    				result.setEventFields( decoder.getVariantArray("EventFields") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.HistoryEventFieldList", new ExpandedNodeId(Identifiers.HistoryEventFieldList_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.HistoryEventFieldList_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.HistoryEventFieldList));
     	// StatusChangeNotification
-    	addSerializer(
-    		new AbstractSerializer(StatusChangeNotification.class, StatusChangeNotification.BINARY, StatusChangeNotification.XML, StatusChangeNotification.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				StatusChangeNotification obj = (StatusChangeNotification) encodeable;
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getStatus() );
-    				calculator.putDiagnosticInfo(null,  (obj==null)?null:obj.getDiagnosticInfo() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				StatusChangeNotification obj = (StatusChangeNotification) encodeable;
-    				encoder.putStatusCode("Status",  (obj==null)?null:obj.getStatus() );
-    				encoder.putDiagnosticInfo("DiagnosticInfo",  (obj==null)?null:obj.getDiagnosticInfo() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				StatusChangeNotification result = new StatusChangeNotification();
-    				result.setStatus( decoder.getStatusCode("Status") );
-    				result.setDiagnosticInfo( decoder.getDiagnosticInfo("DiagnosticInfo") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.StatusChangeNotification", new ExpandedNodeId(Identifiers.StatusChangeNotification_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.StatusChangeNotification_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.StatusChangeNotification));
     	// SubscriptionAcknowledgement
-    	addSerializer(
-    		new AbstractSerializer(SubscriptionAcknowledgement.class, SubscriptionAcknowledgement.BINARY, SubscriptionAcknowledgement.XML, SubscriptionAcknowledgement.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SubscriptionAcknowledgement obj = (SubscriptionAcknowledgement) encodeable;
-    				calculator.putUInt32(null, null /*obj.getSubscriptionId()*/);
-    				calculator.putUInt32(null, null /*obj.getSequenceNumber()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SubscriptionAcknowledgement obj = (SubscriptionAcknowledgement) encodeable;
-    				encoder.putUInt32("SubscriptionId",  (obj==null)?null:obj.getSubscriptionId() );
-    				encoder.putUInt32("SequenceNumber",  (obj==null)?null:obj.getSequenceNumber() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SubscriptionAcknowledgement result = new SubscriptionAcknowledgement();
-    				result.setSubscriptionId( decoder.getUInt32("SubscriptionId") );
-    				result.setSequenceNumber( decoder.getUInt32("SequenceNumber") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SubscriptionAcknowledgement", new ExpandedNodeId(Identifiers.SubscriptionAcknowledgement_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SubscriptionAcknowledgement_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SubscriptionAcknowledgement));
     	// PublishRequest
-    	addSerializer(
-    		new AbstractSerializer(PublishRequest.class, PublishRequest.BINARY, PublishRequest.XML, PublishRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				PublishRequest obj = (PublishRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putEncodeableArray(null, SubscriptionAcknowledgement.class, (obj==null)?null:obj.getSubscriptionAcknowledgements());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				PublishRequest obj = (PublishRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putEncodeableArray("SubscriptionAcknowledgements", SubscriptionAcknowledgement.class, (obj==null)?null:obj.getSubscriptionAcknowledgements());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				PublishRequest result = new PublishRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setSubscriptionAcknowledgements( decoder.getEncodeableArray("SubscriptionAcknowledgements", SubscriptionAcknowledgement.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.PublishRequest", new ExpandedNodeId(Identifiers.PublishRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.PublishRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.PublishRequest));
     	// PublishResponse
-    	addSerializer(
-    		new AbstractSerializer(PublishResponse.class, PublishResponse.BINARY, PublishResponse.XML, PublishResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				PublishResponse obj = (PublishResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putUInt32(null, null /*obj.getSubscriptionId()*/);
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getAvailableSequenceNumbers()) );
-    				calculator.putBoolean(null, null /*obj.getMoreNotifications()*/);
-    				calculator.putEncodeable(null, NotificationMessage.class, (obj==null)?null:obj.getNotificationMessage());
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				PublishResponse obj = (PublishResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putUInt32("SubscriptionId",  (obj==null)?null:obj.getSubscriptionId() );
-    				encoder.putUInt32Array("AvailableSequenceNumbers", (obj==null)?null:obj.getAvailableSequenceNumbers() );
-    				encoder.putBoolean("MoreNotifications",  (obj==null)?null:obj.getMoreNotifications() );
-    				encoder.putEncodeable("NotificationMessage", NotificationMessage.class, (obj==null)?null:obj.getNotificationMessage());
-    				encoder.putStatusCodeArray("Results", (obj==null)?null:obj.getResults() );
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				PublishResponse result = new PublishResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setSubscriptionId( decoder.getUInt32("SubscriptionId") );
-    				result.setAvailableSequenceNumbers( decoder.getUInt32Array("AvailableSequenceNumbers") );
-    				result.setMoreNotifications( decoder.getBoolean("MoreNotifications") );
-    				result.setNotificationMessage( decoder.getEncodeable("NotificationMessage", NotificationMessage.class) );
-    				result.setResults( decoder.getStatusCodeArray("Results") );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.PublishResponse", new ExpandedNodeId(Identifiers.PublishResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.PublishResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.PublishResponse));
     	// RepublishRequest
-    	addSerializer(
-    		new AbstractSerializer(RepublishRequest.class, RepublishRequest.BINARY, RepublishRequest.XML, RepublishRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RepublishRequest obj = (RepublishRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putUInt32(null, null /*obj.getSubscriptionId()*/);
-    				calculator.putUInt32(null, null /*obj.getRetransmitSequenceNumber()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RepublishRequest obj = (RepublishRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putUInt32("SubscriptionId",  (obj==null)?null:obj.getSubscriptionId() );
-    				encoder.putUInt32("RetransmitSequenceNumber",  (obj==null)?null:obj.getRetransmitSequenceNumber() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RepublishRequest result = new RepublishRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setSubscriptionId( decoder.getUInt32("SubscriptionId") );
-    				result.setRetransmitSequenceNumber( decoder.getUInt32("RetransmitSequenceNumber") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RepublishRequest", new ExpandedNodeId(Identifiers.RepublishRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RepublishRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RepublishRequest));
     	// RepublishResponse
-    	addSerializer(
-    		new AbstractSerializer(RepublishResponse.class, RepublishResponse.BINARY, RepublishResponse.XML, RepublishResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RepublishResponse obj = (RepublishResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeable(null, NotificationMessage.class, (obj==null)?null:obj.getNotificationMessage());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RepublishResponse obj = (RepublishResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeable("NotificationMessage", NotificationMessage.class, (obj==null)?null:obj.getNotificationMessage());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RepublishResponse result = new RepublishResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setNotificationMessage( decoder.getEncodeable("NotificationMessage", NotificationMessage.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RepublishResponse", new ExpandedNodeId(Identifiers.RepublishResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RepublishResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RepublishResponse));
     	// TransferResult
-    	addSerializer(
-    		new AbstractSerializer(TransferResult.class, TransferResult.BINARY, TransferResult.XML, TransferResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				TransferResult obj = (TransferResult) encodeable;
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getStatusCode() );
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getAvailableSequenceNumbers()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				TransferResult obj = (TransferResult) encodeable;
-    				encoder.putStatusCode("StatusCode",  (obj==null)?null:obj.getStatusCode() );
-    				encoder.putUInt32Array("AvailableSequenceNumbers", (obj==null)?null:obj.getAvailableSequenceNumbers() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				TransferResult result = new TransferResult();
-    				result.setStatusCode( decoder.getStatusCode("StatusCode") );
-    				result.setAvailableSequenceNumbers( decoder.getUInt32Array("AvailableSequenceNumbers") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.TransferResult", new ExpandedNodeId(Identifiers.TransferResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.TransferResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.TransferResult));
     	// TransferSubscriptionsRequest
-    	addSerializer(
-    		new AbstractSerializer(TransferSubscriptionsRequest.class, TransferSubscriptionsRequest.BINARY, TransferSubscriptionsRequest.XML, TransferSubscriptionsRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				TransferSubscriptionsRequest obj = (TransferSubscriptionsRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getSubscriptionIds()) );
-    				calculator.putBoolean(null, null /*obj.getSendInitialValues()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				TransferSubscriptionsRequest obj = (TransferSubscriptionsRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putUInt32Array("SubscriptionIds", (obj==null)?null:obj.getSubscriptionIds() );
-    				encoder.putBoolean("SendInitialValues",  (obj==null)?null:obj.getSendInitialValues() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				TransferSubscriptionsRequest result = new TransferSubscriptionsRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setSubscriptionIds( decoder.getUInt32Array("SubscriptionIds") );
-    				result.setSendInitialValues( decoder.getBoolean("SendInitialValues") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.TransferSubscriptionsRequest", new ExpandedNodeId(Identifiers.TransferSubscriptionsRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.TransferSubscriptionsRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.TransferSubscriptionsRequest));
     	// TransferSubscriptionsResponse
-    	addSerializer(
-    		new AbstractSerializer(TransferSubscriptionsResponse.class, TransferSubscriptionsResponse.BINARY, TransferSubscriptionsResponse.XML, TransferSubscriptionsResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				TransferSubscriptionsResponse obj = (TransferSubscriptionsResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putEncodeableArray(null, TransferResult.class, (obj==null)?null:obj.getResults());
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				TransferSubscriptionsResponse obj = (TransferSubscriptionsResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putEncodeableArray("Results", TransferResult.class, (obj==null)?null:obj.getResults());
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				TransferSubscriptionsResponse result = new TransferSubscriptionsResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getEncodeableArray("Results", TransferResult.class) );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.TransferSubscriptionsResponse", new ExpandedNodeId(Identifiers.TransferSubscriptionsResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.TransferSubscriptionsResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.TransferSubscriptionsResponse));
     	// DeleteSubscriptionsRequest
-    	addSerializer(
-    		new AbstractSerializer(DeleteSubscriptionsRequest.class, DeleteSubscriptionsRequest.BINARY, DeleteSubscriptionsRequest.XML, DeleteSubscriptionsRequest.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DeleteSubscriptionsRequest obj = (DeleteSubscriptionsRequest) encodeable;
-    				calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				calculator.putUInt32Array(null, ((obj==null)?null:obj.getSubscriptionIds()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DeleteSubscriptionsRequest obj = (DeleteSubscriptionsRequest) encodeable;
-    				encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
-    				encoder.putUInt32Array("SubscriptionIds", (obj==null)?null:obj.getSubscriptionIds() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DeleteSubscriptionsRequest result = new DeleteSubscriptionsRequest();
-    				result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
-    				result.setSubscriptionIds( decoder.getUInt32Array("SubscriptionIds") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DeleteSubscriptionsRequest", new ExpandedNodeId(Identifiers.DeleteSubscriptionsRequest_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DeleteSubscriptionsRequest_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DeleteSubscriptionsRequest));
     	// DeleteSubscriptionsResponse
-    	addSerializer(
-    		new AbstractSerializer(DeleteSubscriptionsResponse.class, DeleteSubscriptionsResponse.BINARY, DeleteSubscriptionsResponse.XML, DeleteSubscriptionsResponse.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DeleteSubscriptionsResponse obj = (DeleteSubscriptionsResponse) encodeable;
-    				calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getResults()) );
-    				calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DeleteSubscriptionsResponse obj = (DeleteSubscriptionsResponse) encodeable;
-    				encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
-    				encoder.putStatusCodeArray("Results", (obj==null)?null:obj.getResults() );
-    				encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DeleteSubscriptionsResponse result = new DeleteSubscriptionsResponse();
-    				result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
-    				result.setResults( decoder.getStatusCodeArray("Results") );
-    				result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DeleteSubscriptionsResponse", new ExpandedNodeId(Identifiers.DeleteSubscriptionsResponse_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DeleteSubscriptionsResponse_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DeleteSubscriptionsResponse));
     	// BuildInfo
-    	addSerializer(
-    		new AbstractSerializer(BuildInfo.class, BuildInfo.BINARY, BuildInfo.XML, BuildInfo.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				BuildInfo obj = (BuildInfo) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getProductUri() );
-    				calculator.putString(null,  (obj==null)?null:obj.getManufacturerName() );
-    				calculator.putString(null,  (obj==null)?null:obj.getProductName() );
-    				calculator.putString(null,  (obj==null)?null:obj.getSoftwareVersion() );
-    				calculator.putString(null,  (obj==null)?null:obj.getBuildNumber() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getBuildDate() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				BuildInfo obj = (BuildInfo) encodeable;
-    				encoder.putString("ProductUri",  (obj==null)?null:obj.getProductUri() );
-    				encoder.putString("ManufacturerName",  (obj==null)?null:obj.getManufacturerName() );
-    				encoder.putString("ProductName",  (obj==null)?null:obj.getProductName() );
-    				encoder.putString("SoftwareVersion",  (obj==null)?null:obj.getSoftwareVersion() );
-    				encoder.putString("BuildNumber",  (obj==null)?null:obj.getBuildNumber() );
-    				encoder.putDateTime("BuildDate",  (obj==null)?null:obj.getBuildDate() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				BuildInfo result = new BuildInfo();
-    				result.setProductUri( decoder.getString("ProductUri") );
-    				result.setManufacturerName( decoder.getString("ManufacturerName") );
-    				result.setProductName( decoder.getString("ProductName") );
-    				result.setSoftwareVersion( decoder.getString("SoftwareVersion") );
-    				result.setBuildNumber( decoder.getString("BuildNumber") );
-    				result.setBuildDate( decoder.getDateTime("BuildDate") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.BuildInfo", new ExpandedNodeId(Identifiers.BuildInfo_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.BuildInfo_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.BuildInfo));
     	// RedundantServerDataType
-    	addSerializer(
-    		new AbstractSerializer(RedundantServerDataType.class, RedundantServerDataType.BINARY, RedundantServerDataType.XML, RedundantServerDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				RedundantServerDataType obj = (RedundantServerDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getServerId() );
-    				calculator.putByte(null, null /*obj.getServiceLevel()*/);
-    				calculator.putEnumeration(null, null /*obj.getServerState()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				RedundantServerDataType obj = (RedundantServerDataType) encodeable;
-    				encoder.putString("ServerId",  (obj==null)?null:obj.getServerId() );
-    				encoder.putByte("ServiceLevel",  (obj==null)?null:obj.getServiceLevel() );
-    				encoder.putEnumeration("ServerState",  (obj==null)?null:obj.getServerState() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				RedundantServerDataType result = new RedundantServerDataType();
-    				result.setServerId( decoder.getString("ServerId") );
-    				result.setServiceLevel( decoder.getByte("ServiceLevel") );
-    				result.setServerState( decoder.getEnumeration("ServerState", ServerState.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.RedundantServerDataType", new ExpandedNodeId(Identifiers.RedundantServerDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.RedundantServerDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.RedundantServerDataType));
     	// EndpointUrlListDataType
-    	addSerializer(
-    		new AbstractSerializer(EndpointUrlListDataType.class, EndpointUrlListDataType.BINARY, EndpointUrlListDataType.XML, EndpointUrlListDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				EndpointUrlListDataType obj = (EndpointUrlListDataType) encodeable;
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getEndpointUrlList()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				EndpointUrlListDataType obj = (EndpointUrlListDataType) encodeable;
-    				encoder.putStringArray("EndpointUrlList", (obj==null)?null:obj.getEndpointUrlList() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				EndpointUrlListDataType result = new EndpointUrlListDataType();
-    				result.setEndpointUrlList( decoder.getStringArray("EndpointUrlList") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.EndpointUrlListDataType", new ExpandedNodeId(Identifiers.EndpointUrlListDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.EndpointUrlListDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.EndpointUrlListDataType));
     	// NetworkGroupDataType
-    	addSerializer(
-    		new AbstractSerializer(NetworkGroupDataType.class, NetworkGroupDataType.BINARY, NetworkGroupDataType.XML, NetworkGroupDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				NetworkGroupDataType obj = (NetworkGroupDataType) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getServerUri() );
-    				calculator.putEncodeableArray(null, EndpointUrlListDataType.class, (obj==null)?null:obj.getNetworkPaths());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				NetworkGroupDataType obj = (NetworkGroupDataType) encodeable;
-    				encoder.putString("ServerUri",  (obj==null)?null:obj.getServerUri() );
-    				encoder.putEncodeableArray("NetworkPaths", EndpointUrlListDataType.class, (obj==null)?null:obj.getNetworkPaths());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				NetworkGroupDataType result = new NetworkGroupDataType();
-    				result.setServerUri( decoder.getString("ServerUri") );
-    				result.setNetworkPaths( decoder.getEncodeableArray("NetworkPaths", EndpointUrlListDataType.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.NetworkGroupDataType", new ExpandedNodeId(Identifiers.NetworkGroupDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.NetworkGroupDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.NetworkGroupDataType));
     	// SamplingIntervalDiagnosticsDataType
-    	addSerializer(
-    		new AbstractSerializer(SamplingIntervalDiagnosticsDataType.class, SamplingIntervalDiagnosticsDataType.BINARY, SamplingIntervalDiagnosticsDataType.XML, SamplingIntervalDiagnosticsDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SamplingIntervalDiagnosticsDataType obj = (SamplingIntervalDiagnosticsDataType) encodeable;
-    				calculator.putDouble(null, null /*obj.getSamplingInterval()*/);
-    				calculator.putUInt32(null, null /*obj.getMonitoredItemCount()*/);
-    				calculator.putUInt32(null, null /*obj.getMaxMonitoredItemCount()*/);
-    				calculator.putUInt32(null, null /*obj.getDisabledMonitoredItemCount()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SamplingIntervalDiagnosticsDataType obj = (SamplingIntervalDiagnosticsDataType) encodeable;
-    				encoder.putDouble("SamplingInterval",  (obj==null)?null:obj.getSamplingInterval() );
-    				encoder.putUInt32("MonitoredItemCount",  (obj==null)?null:obj.getMonitoredItemCount() );
-    				encoder.putUInt32("MaxMonitoredItemCount",  (obj==null)?null:obj.getMaxMonitoredItemCount() );
-    				encoder.putUInt32("DisabledMonitoredItemCount",  (obj==null)?null:obj.getDisabledMonitoredItemCount() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SamplingIntervalDiagnosticsDataType result = new SamplingIntervalDiagnosticsDataType();
-    				result.setSamplingInterval( decoder.getDouble("SamplingInterval") );
-    				result.setMonitoredItemCount( decoder.getUInt32("MonitoredItemCount") );
-    				result.setMaxMonitoredItemCount( decoder.getUInt32("MaxMonitoredItemCount") );
-    				result.setDisabledMonitoredItemCount( decoder.getUInt32("DisabledMonitoredItemCount") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SamplingIntervalDiagnosticsDataType", new ExpandedNodeId(Identifiers.SamplingIntervalDiagnosticsDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SamplingIntervalDiagnosticsDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SamplingIntervalDiagnosticsDataType));
     	// ServerDiagnosticsSummaryDataType
-    	addSerializer(
-    		new AbstractSerializer(ServerDiagnosticsSummaryDataType.class, ServerDiagnosticsSummaryDataType.BINARY, ServerDiagnosticsSummaryDataType.XML, ServerDiagnosticsSummaryDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ServerDiagnosticsSummaryDataType obj = (ServerDiagnosticsSummaryDataType) encodeable;
-    				calculator.putUInt32(null, null /*obj.getServerViewCount()*/);
-    				calculator.putUInt32(null, null /*obj.getCurrentSessionCount()*/);
-    				calculator.putUInt32(null, null /*obj.getCumulatedSessionCount()*/);
-    				calculator.putUInt32(null, null /*obj.getSecurityRejectedSessionCount()*/);
-    				calculator.putUInt32(null, null /*obj.getRejectedSessionCount()*/);
-    				calculator.putUInt32(null, null /*obj.getSessionTimeoutCount()*/);
-    				calculator.putUInt32(null, null /*obj.getSessionAbortCount()*/);
-    				calculator.putUInt32(null, null /*obj.getCurrentSubscriptionCount()*/);
-    				calculator.putUInt32(null, null /*obj.getCumulatedSubscriptionCount()*/);
-    				calculator.putUInt32(null, null /*obj.getPublishingIntervalCount()*/);
-    				calculator.putUInt32(null, null /*obj.getSecurityRejectedRequestsCount()*/);
-    				calculator.putUInt32(null, null /*obj.getRejectedRequestsCount()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ServerDiagnosticsSummaryDataType obj = (ServerDiagnosticsSummaryDataType) encodeable;
-    				encoder.putUInt32("ServerViewCount",  (obj==null)?null:obj.getServerViewCount() );
-    				encoder.putUInt32("CurrentSessionCount",  (obj==null)?null:obj.getCurrentSessionCount() );
-    				encoder.putUInt32("CumulatedSessionCount",  (obj==null)?null:obj.getCumulatedSessionCount() );
-    				encoder.putUInt32("SecurityRejectedSessionCount",  (obj==null)?null:obj.getSecurityRejectedSessionCount() );
-    				encoder.putUInt32("RejectedSessionCount",  (obj==null)?null:obj.getRejectedSessionCount() );
-    				encoder.putUInt32("SessionTimeoutCount",  (obj==null)?null:obj.getSessionTimeoutCount() );
-    				encoder.putUInt32("SessionAbortCount",  (obj==null)?null:obj.getSessionAbortCount() );
-    				encoder.putUInt32("CurrentSubscriptionCount",  (obj==null)?null:obj.getCurrentSubscriptionCount() );
-    				encoder.putUInt32("CumulatedSubscriptionCount",  (obj==null)?null:obj.getCumulatedSubscriptionCount() );
-    				encoder.putUInt32("PublishingIntervalCount",  (obj==null)?null:obj.getPublishingIntervalCount() );
-    				encoder.putUInt32("SecurityRejectedRequestsCount",  (obj==null)?null:obj.getSecurityRejectedRequestsCount() );
-    				encoder.putUInt32("RejectedRequestsCount",  (obj==null)?null:obj.getRejectedRequestsCount() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ServerDiagnosticsSummaryDataType result = new ServerDiagnosticsSummaryDataType();
-    				result.setServerViewCount( decoder.getUInt32("ServerViewCount") );
-    				result.setCurrentSessionCount( decoder.getUInt32("CurrentSessionCount") );
-    				result.setCumulatedSessionCount( decoder.getUInt32("CumulatedSessionCount") );
-    				result.setSecurityRejectedSessionCount( decoder.getUInt32("SecurityRejectedSessionCount") );
-    				result.setRejectedSessionCount( decoder.getUInt32("RejectedSessionCount") );
-    				result.setSessionTimeoutCount( decoder.getUInt32("SessionTimeoutCount") );
-    				result.setSessionAbortCount( decoder.getUInt32("SessionAbortCount") );
-    				result.setCurrentSubscriptionCount( decoder.getUInt32("CurrentSubscriptionCount") );
-    				result.setCumulatedSubscriptionCount( decoder.getUInt32("CumulatedSubscriptionCount") );
-    				result.setPublishingIntervalCount( decoder.getUInt32("PublishingIntervalCount") );
-    				result.setSecurityRejectedRequestsCount( decoder.getUInt32("SecurityRejectedRequestsCount") );
-    				result.setRejectedRequestsCount( decoder.getUInt32("RejectedRequestsCount") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ServerDiagnosticsSummaryDataType", new ExpandedNodeId(Identifiers.ServerDiagnosticsSummaryDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ServerDiagnosticsSummaryDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ServerDiagnosticsSummaryDataType));
     	// ServerStatusDataType
-    	addSerializer(
-    		new AbstractSerializer(ServerStatusDataType.class, ServerStatusDataType.BINARY, ServerStatusDataType.XML, ServerStatusDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ServerStatusDataType obj = (ServerStatusDataType) encodeable;
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getStartTime() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getCurrentTime() );
-    				calculator.putEnumeration(null, null /*obj.getState()*/);
-    				calculator.putEncodeable(null, BuildInfo.class, (obj==null)?null:obj.getBuildInfo());
-    				calculator.putUInt32(null, null /*obj.getSecondsTillShutdown()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getShutdownReason() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ServerStatusDataType obj = (ServerStatusDataType) encodeable;
-    				encoder.putDateTime("StartTime",  (obj==null)?null:obj.getStartTime() );
-    				encoder.putDateTime("CurrentTime",  (obj==null)?null:obj.getCurrentTime() );
-    				encoder.putEnumeration("State",  (obj==null)?null:obj.getState() );
-    				encoder.putEncodeable("BuildInfo", BuildInfo.class, (obj==null)?null:obj.getBuildInfo());
-    				encoder.putUInt32("SecondsTillShutdown",  (obj==null)?null:obj.getSecondsTillShutdown() );
-    				encoder.putLocalizedText("ShutdownReason",  (obj==null)?null:obj.getShutdownReason() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ServerStatusDataType result = new ServerStatusDataType();
-    				result.setStartTime( decoder.getDateTime("StartTime") );
-    				result.setCurrentTime( decoder.getDateTime("CurrentTime") );
-    				result.setState( decoder.getEnumeration("State", ServerState.class) );
-    				result.setBuildInfo( decoder.getEncodeable("BuildInfo", BuildInfo.class) );
-    				result.setSecondsTillShutdown( decoder.getUInt32("SecondsTillShutdown") );
-    				result.setShutdownReason( decoder.getLocalizedText("ShutdownReason") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ServerStatusDataType", new ExpandedNodeId(Identifiers.ServerStatusDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ServerStatusDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ServerStatusDataType));
     	// SessionDiagnosticsDataType
-    	addSerializer(
-    		new AbstractSerializer(SessionDiagnosticsDataType.class, SessionDiagnosticsDataType.BINARY, SessionDiagnosticsDataType.XML, SessionDiagnosticsDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SessionDiagnosticsDataType obj = (SessionDiagnosticsDataType) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getSessionId() );
-    				calculator.putString(null,  (obj==null)?null:obj.getSessionName() );
-    				calculator.putEncodeable(null, ApplicationDescription.class, (obj==null)?null:obj.getClientDescription());
-    				calculator.putString(null,  (obj==null)?null:obj.getServerUri() );
-    				calculator.putString(null,  (obj==null)?null:obj.getEndpointUrl() );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getLocaleIds()) );
-    				calculator.putDouble(null, null /*obj.getActualSessionTimeout()*/);
-    				calculator.putUInt32(null, null /*obj.getMaxResponseMessageSize()*/);
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getClientConnectionTime() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getClientLastContactTime() );
-    				calculator.putUInt32(null, null /*obj.getCurrentSubscriptionsCount()*/);
-    				calculator.putUInt32(null, null /*obj.getCurrentMonitoredItemsCount()*/);
-    				calculator.putUInt32(null, null /*obj.getCurrentPublishRequestsInQueue()*/);
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getTotalRequestCount());
-    				calculator.putUInt32(null, null /*obj.getUnauthorizedRequestCount()*/);
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getReadCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getHistoryReadCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getWriteCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getHistoryUpdateCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getCallCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getCreateMonitoredItemsCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getModifyMonitoredItemsCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getSetMonitoringModeCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getSetTriggeringCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteMonitoredItemsCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getCreateSubscriptionCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getModifySubscriptionCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getSetPublishingModeCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getPublishCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getRepublishCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getTransferSubscriptionsCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteSubscriptionsCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getAddNodesCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getAddReferencesCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteNodesCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteReferencesCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getBrowseCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getBrowseNextCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getTranslateBrowsePathsToNodeIdsCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getQueryFirstCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getQueryNextCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getRegisterNodesCount());
-    				calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getUnregisterNodesCount());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SessionDiagnosticsDataType obj = (SessionDiagnosticsDataType) encodeable;
-    				encoder.putNodeId("SessionId",  (obj==null)?null:obj.getSessionId() );
-    				encoder.putString("SessionName",  (obj==null)?null:obj.getSessionName() );
-    				encoder.putEncodeable("ClientDescription", ApplicationDescription.class, (obj==null)?null:obj.getClientDescription());
-    				encoder.putString("ServerUri",  (obj==null)?null:obj.getServerUri() );
-    				encoder.putString("EndpointUrl",  (obj==null)?null:obj.getEndpointUrl() );
-    				encoder.putStringArray("LocaleIds", (obj==null)?null:obj.getLocaleIds() );
-    				encoder.putDouble("ActualSessionTimeout",  (obj==null)?null:obj.getActualSessionTimeout() );
-    				encoder.putUInt32("MaxResponseMessageSize",  (obj==null)?null:obj.getMaxResponseMessageSize() );
-    				encoder.putDateTime("ClientConnectionTime",  (obj==null)?null:obj.getClientConnectionTime() );
-    				encoder.putDateTime("ClientLastContactTime",  (obj==null)?null:obj.getClientLastContactTime() );
-    				encoder.putUInt32("CurrentSubscriptionsCount",  (obj==null)?null:obj.getCurrentSubscriptionsCount() );
-    				encoder.putUInt32("CurrentMonitoredItemsCount",  (obj==null)?null:obj.getCurrentMonitoredItemsCount() );
-    				encoder.putUInt32("CurrentPublishRequestsInQueue",  (obj==null)?null:obj.getCurrentPublishRequestsInQueue() );
-    				encoder.putEncodeable("TotalRequestCount", ServiceCounterDataType.class, (obj==null)?null:obj.getTotalRequestCount());
-    				encoder.putUInt32("UnauthorizedRequestCount",  (obj==null)?null:obj.getUnauthorizedRequestCount() );
-    				encoder.putEncodeable("ReadCount", ServiceCounterDataType.class, (obj==null)?null:obj.getReadCount());
-    				encoder.putEncodeable("HistoryReadCount", ServiceCounterDataType.class, (obj==null)?null:obj.getHistoryReadCount());
-    				encoder.putEncodeable("WriteCount", ServiceCounterDataType.class, (obj==null)?null:obj.getWriteCount());
-    				encoder.putEncodeable("HistoryUpdateCount", ServiceCounterDataType.class, (obj==null)?null:obj.getHistoryUpdateCount());
-    				encoder.putEncodeable("CallCount", ServiceCounterDataType.class, (obj==null)?null:obj.getCallCount());
-    				encoder.putEncodeable("CreateMonitoredItemsCount", ServiceCounterDataType.class, (obj==null)?null:obj.getCreateMonitoredItemsCount());
-    				encoder.putEncodeable("ModifyMonitoredItemsCount", ServiceCounterDataType.class, (obj==null)?null:obj.getModifyMonitoredItemsCount());
-    				encoder.putEncodeable("SetMonitoringModeCount", ServiceCounterDataType.class, (obj==null)?null:obj.getSetMonitoringModeCount());
-    				encoder.putEncodeable("SetTriggeringCount", ServiceCounterDataType.class, (obj==null)?null:obj.getSetTriggeringCount());
-    				encoder.putEncodeable("DeleteMonitoredItemsCount", ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteMonitoredItemsCount());
-    				encoder.putEncodeable("CreateSubscriptionCount", ServiceCounterDataType.class, (obj==null)?null:obj.getCreateSubscriptionCount());
-    				encoder.putEncodeable("ModifySubscriptionCount", ServiceCounterDataType.class, (obj==null)?null:obj.getModifySubscriptionCount());
-    				encoder.putEncodeable("SetPublishingModeCount", ServiceCounterDataType.class, (obj==null)?null:obj.getSetPublishingModeCount());
-    				encoder.putEncodeable("PublishCount", ServiceCounterDataType.class, (obj==null)?null:obj.getPublishCount());
-    				encoder.putEncodeable("RepublishCount", ServiceCounterDataType.class, (obj==null)?null:obj.getRepublishCount());
-    				encoder.putEncodeable("TransferSubscriptionsCount", ServiceCounterDataType.class, (obj==null)?null:obj.getTransferSubscriptionsCount());
-    				encoder.putEncodeable("DeleteSubscriptionsCount", ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteSubscriptionsCount());
-    				encoder.putEncodeable("AddNodesCount", ServiceCounterDataType.class, (obj==null)?null:obj.getAddNodesCount());
-    				encoder.putEncodeable("AddReferencesCount", ServiceCounterDataType.class, (obj==null)?null:obj.getAddReferencesCount());
-    				encoder.putEncodeable("DeleteNodesCount", ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteNodesCount());
-    				encoder.putEncodeable("DeleteReferencesCount", ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteReferencesCount());
-    				encoder.putEncodeable("BrowseCount", ServiceCounterDataType.class, (obj==null)?null:obj.getBrowseCount());
-    				encoder.putEncodeable("BrowseNextCount", ServiceCounterDataType.class, (obj==null)?null:obj.getBrowseNextCount());
-    				encoder.putEncodeable("TranslateBrowsePathsToNodeIdsCount", ServiceCounterDataType.class, (obj==null)?null:obj.getTranslateBrowsePathsToNodeIdsCount());
-    				encoder.putEncodeable("QueryFirstCount", ServiceCounterDataType.class, (obj==null)?null:obj.getQueryFirstCount());
-    				encoder.putEncodeable("QueryNextCount", ServiceCounterDataType.class, (obj==null)?null:obj.getQueryNextCount());
-    				encoder.putEncodeable("RegisterNodesCount", ServiceCounterDataType.class, (obj==null)?null:obj.getRegisterNodesCount());
-    				encoder.putEncodeable("UnregisterNodesCount", ServiceCounterDataType.class, (obj==null)?null:obj.getUnregisterNodesCount());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SessionDiagnosticsDataType result = new SessionDiagnosticsDataType();
-    				result.setSessionId( decoder.getNodeId("SessionId") );
-    				result.setSessionName( decoder.getString("SessionName") );
-    				result.setClientDescription( decoder.getEncodeable("ClientDescription", ApplicationDescription.class) );
-    				result.setServerUri( decoder.getString("ServerUri") );
-    				result.setEndpointUrl( decoder.getString("EndpointUrl") );
-    				result.setLocaleIds( decoder.getStringArray("LocaleIds") );
-    				result.setActualSessionTimeout( decoder.getDouble("ActualSessionTimeout") );
-    				result.setMaxResponseMessageSize( decoder.getUInt32("MaxResponseMessageSize") );
-    				result.setClientConnectionTime( decoder.getDateTime("ClientConnectionTime") );
-    				result.setClientLastContactTime( decoder.getDateTime("ClientLastContactTime") );
-    				result.setCurrentSubscriptionsCount( decoder.getUInt32("CurrentSubscriptionsCount") );
-    				result.setCurrentMonitoredItemsCount( decoder.getUInt32("CurrentMonitoredItemsCount") );
-    				result.setCurrentPublishRequestsInQueue( decoder.getUInt32("CurrentPublishRequestsInQueue") );
-    				result.setTotalRequestCount( decoder.getEncodeable("TotalRequestCount", ServiceCounterDataType.class) );
-    				result.setUnauthorizedRequestCount( decoder.getUInt32("UnauthorizedRequestCount") );
-    				result.setReadCount( decoder.getEncodeable("ReadCount", ServiceCounterDataType.class) );
-    				result.setHistoryReadCount( decoder.getEncodeable("HistoryReadCount", ServiceCounterDataType.class) );
-    				result.setWriteCount( decoder.getEncodeable("WriteCount", ServiceCounterDataType.class) );
-    				result.setHistoryUpdateCount( decoder.getEncodeable("HistoryUpdateCount", ServiceCounterDataType.class) );
-    				result.setCallCount( decoder.getEncodeable("CallCount", ServiceCounterDataType.class) );
-    				result.setCreateMonitoredItemsCount( decoder.getEncodeable("CreateMonitoredItemsCount", ServiceCounterDataType.class) );
-    				result.setModifyMonitoredItemsCount( decoder.getEncodeable("ModifyMonitoredItemsCount", ServiceCounterDataType.class) );
-    				result.setSetMonitoringModeCount( decoder.getEncodeable("SetMonitoringModeCount", ServiceCounterDataType.class) );
-    				result.setSetTriggeringCount( decoder.getEncodeable("SetTriggeringCount", ServiceCounterDataType.class) );
-    				result.setDeleteMonitoredItemsCount( decoder.getEncodeable("DeleteMonitoredItemsCount", ServiceCounterDataType.class) );
-    				result.setCreateSubscriptionCount( decoder.getEncodeable("CreateSubscriptionCount", ServiceCounterDataType.class) );
-    				result.setModifySubscriptionCount( decoder.getEncodeable("ModifySubscriptionCount", ServiceCounterDataType.class) );
-    				result.setSetPublishingModeCount( decoder.getEncodeable("SetPublishingModeCount", ServiceCounterDataType.class) );
-    				result.setPublishCount( decoder.getEncodeable("PublishCount", ServiceCounterDataType.class) );
-    				result.setRepublishCount( decoder.getEncodeable("RepublishCount", ServiceCounterDataType.class) );
-    				result.setTransferSubscriptionsCount( decoder.getEncodeable("TransferSubscriptionsCount", ServiceCounterDataType.class) );
-    				result.setDeleteSubscriptionsCount( decoder.getEncodeable("DeleteSubscriptionsCount", ServiceCounterDataType.class) );
-    				result.setAddNodesCount( decoder.getEncodeable("AddNodesCount", ServiceCounterDataType.class) );
-    				result.setAddReferencesCount( decoder.getEncodeable("AddReferencesCount", ServiceCounterDataType.class) );
-    				result.setDeleteNodesCount( decoder.getEncodeable("DeleteNodesCount", ServiceCounterDataType.class) );
-    				result.setDeleteReferencesCount( decoder.getEncodeable("DeleteReferencesCount", ServiceCounterDataType.class) );
-    				result.setBrowseCount( decoder.getEncodeable("BrowseCount", ServiceCounterDataType.class) );
-    				result.setBrowseNextCount( decoder.getEncodeable("BrowseNextCount", ServiceCounterDataType.class) );
-    				result.setTranslateBrowsePathsToNodeIdsCount( decoder.getEncodeable("TranslateBrowsePathsToNodeIdsCount", ServiceCounterDataType.class) );
-    				result.setQueryFirstCount( decoder.getEncodeable("QueryFirstCount", ServiceCounterDataType.class) );
-    				result.setQueryNextCount( decoder.getEncodeable("QueryNextCount", ServiceCounterDataType.class) );
-    				result.setRegisterNodesCount( decoder.getEncodeable("RegisterNodesCount", ServiceCounterDataType.class) );
-    				result.setUnregisterNodesCount( decoder.getEncodeable("UnregisterNodesCount", ServiceCounterDataType.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SessionDiagnosticsDataType", new ExpandedNodeId(Identifiers.SessionDiagnosticsDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SessionDiagnosticsDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SessionDiagnosticsDataType));
     	// SessionSecurityDiagnosticsDataType
-    	addSerializer(
-    		new AbstractSerializer(SessionSecurityDiagnosticsDataType.class, SessionSecurityDiagnosticsDataType.BINARY, SessionSecurityDiagnosticsDataType.XML, SessionSecurityDiagnosticsDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SessionSecurityDiagnosticsDataType obj = (SessionSecurityDiagnosticsDataType) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getSessionId() );
-    				calculator.putString(null,  (obj==null)?null:obj.getClientUserIdOfSession() );
-    				calculator.putStringArray(null, ((obj==null)?null:obj.getClientUserIdHistory()) );
-    				calculator.putString(null,  (obj==null)?null:obj.getAuthenticationMechanism() );
-    				calculator.putString(null,  (obj==null)?null:obj.getEncoding() );
-    				calculator.putString(null,  (obj==null)?null:obj.getTransportProtocol() );
-    				calculator.putEnumeration(null, null /*obj.getSecurityMode()*/);
-    				calculator.putString(null,  (obj==null)?null:obj.getSecurityPolicyUri() );
-    				calculator.putByteString(null,  (obj==null)?null:obj.getClientCertificate() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SessionSecurityDiagnosticsDataType obj = (SessionSecurityDiagnosticsDataType) encodeable;
-    				encoder.putNodeId("SessionId",  (obj==null)?null:obj.getSessionId() );
-    				encoder.putString("ClientUserIdOfSession",  (obj==null)?null:obj.getClientUserIdOfSession() );
-    				encoder.putStringArray("ClientUserIdHistory", (obj==null)?null:obj.getClientUserIdHistory() );
-    				encoder.putString("AuthenticationMechanism",  (obj==null)?null:obj.getAuthenticationMechanism() );
-    				encoder.putString("Encoding",  (obj==null)?null:obj.getEncoding() );
-    				encoder.putString("TransportProtocol",  (obj==null)?null:obj.getTransportProtocol() );
-    				encoder.putEnumeration("SecurityMode",  (obj==null)?null:obj.getSecurityMode() );
-    				encoder.putString("SecurityPolicyUri",  (obj==null)?null:obj.getSecurityPolicyUri() );
-    				encoder.putByteString("ClientCertificate",  (obj==null)?null:obj.getClientCertificate() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SessionSecurityDiagnosticsDataType result = new SessionSecurityDiagnosticsDataType();
-    				result.setSessionId( decoder.getNodeId("SessionId") );
-    				result.setClientUserIdOfSession( decoder.getString("ClientUserIdOfSession") );
-    				result.setClientUserIdHistory( decoder.getStringArray("ClientUserIdHistory") );
-    				result.setAuthenticationMechanism( decoder.getString("AuthenticationMechanism") );
-    				result.setEncoding( decoder.getString("Encoding") );
-    				result.setTransportProtocol( decoder.getString("TransportProtocol") );
-    				result.setSecurityMode( decoder.getEnumeration("SecurityMode", MessageSecurityMode.class) );
-    				result.setSecurityPolicyUri( decoder.getString("SecurityPolicyUri") );
-    				result.setClientCertificate( decoder.getByteString("ClientCertificate") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SessionSecurityDiagnosticsDataType", new ExpandedNodeId(Identifiers.SessionSecurityDiagnosticsDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SessionSecurityDiagnosticsDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SessionSecurityDiagnosticsDataType));
     	// ServiceCounterDataType
-    	addSerializer(
-    		new AbstractSerializer(ServiceCounterDataType.class, ServiceCounterDataType.BINARY, ServiceCounterDataType.XML, ServiceCounterDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ServiceCounterDataType obj = (ServiceCounterDataType) encodeable;
-    				calculator.putUInt32(null, null /*obj.getTotalCount()*/);
-    				calculator.putUInt32(null, null /*obj.getErrorCount()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ServiceCounterDataType obj = (ServiceCounterDataType) encodeable;
-    				encoder.putUInt32("TotalCount",  (obj==null)?null:obj.getTotalCount() );
-    				encoder.putUInt32("ErrorCount",  (obj==null)?null:obj.getErrorCount() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ServiceCounterDataType result = new ServiceCounterDataType();
-    				result.setTotalCount( decoder.getUInt32("TotalCount") );
-    				result.setErrorCount( decoder.getUInt32("ErrorCount") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ServiceCounterDataType", new ExpandedNodeId(Identifiers.ServiceCounterDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ServiceCounterDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ServiceCounterDataType));
     	// StatusResult
-    	addSerializer(
-    		new AbstractSerializer(StatusResult.class, StatusResult.BINARY, StatusResult.XML, StatusResult.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				StatusResult obj = (StatusResult) encodeable;
-    				calculator.putStatusCode(null,  (obj==null)?null:obj.getStatusCode() );
-    				calculator.putDiagnosticInfo(null,  (obj==null)?null:obj.getDiagnosticInfo() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				StatusResult obj = (StatusResult) encodeable;
-    				encoder.putStatusCode("StatusCode",  (obj==null)?null:obj.getStatusCode() );
-    				encoder.putDiagnosticInfo("DiagnosticInfo",  (obj==null)?null:obj.getDiagnosticInfo() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				StatusResult result = new StatusResult();
-    				result.setStatusCode( decoder.getStatusCode("StatusCode") );
-    				result.setDiagnosticInfo( decoder.getDiagnosticInfo("DiagnosticInfo") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.StatusResult", new ExpandedNodeId(Identifiers.StatusResult_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.StatusResult_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.StatusResult));
     	// SubscriptionDiagnosticsDataType
-    	addSerializer(
-    		new AbstractSerializer(SubscriptionDiagnosticsDataType.class, SubscriptionDiagnosticsDataType.BINARY, SubscriptionDiagnosticsDataType.XML, SubscriptionDiagnosticsDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SubscriptionDiagnosticsDataType obj = (SubscriptionDiagnosticsDataType) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getSessionId() );
-    				calculator.putUInt32(null, null /*obj.getSubscriptionId()*/);
-    				calculator.putByte(null, null /*obj.getPriority()*/);
-    				calculator.putDouble(null, null /*obj.getPublishingInterval()*/);
-    				calculator.putUInt32(null, null /*obj.getMaxKeepAliveCount()*/);
-    				calculator.putUInt32(null, null /*obj.getMaxLifetimeCount()*/);
-    				calculator.putUInt32(null, null /*obj.getMaxNotificationsPerPublish()*/);
-    				calculator.putBoolean(null, null /*obj.getPublishingEnabled()*/);
-    				calculator.putUInt32(null, null /*obj.getModifyCount()*/);
-    				calculator.putUInt32(null, null /*obj.getEnableCount()*/);
-    				calculator.putUInt32(null, null /*obj.getDisableCount()*/);
-    				calculator.putUInt32(null, null /*obj.getRepublishRequestCount()*/);
-    				calculator.putUInt32(null, null /*obj.getRepublishMessageRequestCount()*/);
-    				calculator.putUInt32(null, null /*obj.getRepublishMessageCount()*/);
-    				calculator.putUInt32(null, null /*obj.getTransferRequestCount()*/);
-    				calculator.putUInt32(null, null /*obj.getTransferredToAltClientCount()*/);
-    				calculator.putUInt32(null, null /*obj.getTransferredToSameClientCount()*/);
-    				calculator.putUInt32(null, null /*obj.getPublishRequestCount()*/);
-    				calculator.putUInt32(null, null /*obj.getDataChangeNotificationsCount()*/);
-    				calculator.putUInt32(null, null /*obj.getEventNotificationsCount()*/);
-    				calculator.putUInt32(null, null /*obj.getNotificationsCount()*/);
-    				calculator.putUInt32(null, null /*obj.getLatePublishRequestCount()*/);
-    				calculator.putUInt32(null, null /*obj.getCurrentKeepAliveCount()*/);
-    				calculator.putUInt32(null, null /*obj.getCurrentLifetimeCount()*/);
-    				calculator.putUInt32(null, null /*obj.getUnacknowledgedMessageCount()*/);
-    				calculator.putUInt32(null, null /*obj.getDiscardedMessageCount()*/);
-    				calculator.putUInt32(null, null /*obj.getMonitoredItemCount()*/);
-    				calculator.putUInt32(null, null /*obj.getDisabledMonitoredItemCount()*/);
-    				calculator.putUInt32(null, null /*obj.getMonitoringQueueOverflowCount()*/);
-    				calculator.putUInt32(null, null /*obj.getNextSequenceNumber()*/);
-    				calculator.putUInt32(null, null /*obj.getEventQueueOverFlowCount()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SubscriptionDiagnosticsDataType obj = (SubscriptionDiagnosticsDataType) encodeable;
-    				encoder.putNodeId("SessionId",  (obj==null)?null:obj.getSessionId() );
-    				encoder.putUInt32("SubscriptionId",  (obj==null)?null:obj.getSubscriptionId() );
-    				encoder.putByte("Priority",  (obj==null)?null:obj.getPriority() );
-    				encoder.putDouble("PublishingInterval",  (obj==null)?null:obj.getPublishingInterval() );
-    				encoder.putUInt32("MaxKeepAliveCount",  (obj==null)?null:obj.getMaxKeepAliveCount() );
-    				encoder.putUInt32("MaxLifetimeCount",  (obj==null)?null:obj.getMaxLifetimeCount() );
-    				encoder.putUInt32("MaxNotificationsPerPublish",  (obj==null)?null:obj.getMaxNotificationsPerPublish() );
-    				encoder.putBoolean("PublishingEnabled",  (obj==null)?null:obj.getPublishingEnabled() );
-    				encoder.putUInt32("ModifyCount",  (obj==null)?null:obj.getModifyCount() );
-    				encoder.putUInt32("EnableCount",  (obj==null)?null:obj.getEnableCount() );
-    				encoder.putUInt32("DisableCount",  (obj==null)?null:obj.getDisableCount() );
-    				encoder.putUInt32("RepublishRequestCount",  (obj==null)?null:obj.getRepublishRequestCount() );
-    				encoder.putUInt32("RepublishMessageRequestCount",  (obj==null)?null:obj.getRepublishMessageRequestCount() );
-    				encoder.putUInt32("RepublishMessageCount",  (obj==null)?null:obj.getRepublishMessageCount() );
-    				encoder.putUInt32("TransferRequestCount",  (obj==null)?null:obj.getTransferRequestCount() );
-    				encoder.putUInt32("TransferredToAltClientCount",  (obj==null)?null:obj.getTransferredToAltClientCount() );
-    				encoder.putUInt32("TransferredToSameClientCount",  (obj==null)?null:obj.getTransferredToSameClientCount() );
-    				encoder.putUInt32("PublishRequestCount",  (obj==null)?null:obj.getPublishRequestCount() );
-    				encoder.putUInt32("DataChangeNotificationsCount",  (obj==null)?null:obj.getDataChangeNotificationsCount() );
-    				encoder.putUInt32("EventNotificationsCount",  (obj==null)?null:obj.getEventNotificationsCount() );
-    				encoder.putUInt32("NotificationsCount",  (obj==null)?null:obj.getNotificationsCount() );
-    				encoder.putUInt32("LatePublishRequestCount",  (obj==null)?null:obj.getLatePublishRequestCount() );
-    				encoder.putUInt32("CurrentKeepAliveCount",  (obj==null)?null:obj.getCurrentKeepAliveCount() );
-    				encoder.putUInt32("CurrentLifetimeCount",  (obj==null)?null:obj.getCurrentLifetimeCount() );
-    				encoder.putUInt32("UnacknowledgedMessageCount",  (obj==null)?null:obj.getUnacknowledgedMessageCount() );
-    				encoder.putUInt32("DiscardedMessageCount",  (obj==null)?null:obj.getDiscardedMessageCount() );
-    				encoder.putUInt32("MonitoredItemCount",  (obj==null)?null:obj.getMonitoredItemCount() );
-    				encoder.putUInt32("DisabledMonitoredItemCount",  (obj==null)?null:obj.getDisabledMonitoredItemCount() );
-    				encoder.putUInt32("MonitoringQueueOverflowCount",  (obj==null)?null:obj.getMonitoringQueueOverflowCount() );
-    				encoder.putUInt32("NextSequenceNumber",  (obj==null)?null:obj.getNextSequenceNumber() );
-    				encoder.putUInt32("EventQueueOverFlowCount",  (obj==null)?null:obj.getEventQueueOverFlowCount() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SubscriptionDiagnosticsDataType result = new SubscriptionDiagnosticsDataType();
-    				result.setSessionId( decoder.getNodeId("SessionId") );
-    				result.setSubscriptionId( decoder.getUInt32("SubscriptionId") );
-    				result.setPriority( decoder.getByte("Priority") );
-    				result.setPublishingInterval( decoder.getDouble("PublishingInterval") );
-    				result.setMaxKeepAliveCount( decoder.getUInt32("MaxKeepAliveCount") );
-    				result.setMaxLifetimeCount( decoder.getUInt32("MaxLifetimeCount") );
-    				result.setMaxNotificationsPerPublish( decoder.getUInt32("MaxNotificationsPerPublish") );
-    				result.setPublishingEnabled( decoder.getBoolean("PublishingEnabled") );
-    				result.setModifyCount( decoder.getUInt32("ModifyCount") );
-    				result.setEnableCount( decoder.getUInt32("EnableCount") );
-    				result.setDisableCount( decoder.getUInt32("DisableCount") );
-    				result.setRepublishRequestCount( decoder.getUInt32("RepublishRequestCount") );
-    				result.setRepublishMessageRequestCount( decoder.getUInt32("RepublishMessageRequestCount") );
-    				result.setRepublishMessageCount( decoder.getUInt32("RepublishMessageCount") );
-    				result.setTransferRequestCount( decoder.getUInt32("TransferRequestCount") );
-    				result.setTransferredToAltClientCount( decoder.getUInt32("TransferredToAltClientCount") );
-    				result.setTransferredToSameClientCount( decoder.getUInt32("TransferredToSameClientCount") );
-    				result.setPublishRequestCount( decoder.getUInt32("PublishRequestCount") );
-    				result.setDataChangeNotificationsCount( decoder.getUInt32("DataChangeNotificationsCount") );
-    				result.setEventNotificationsCount( decoder.getUInt32("EventNotificationsCount") );
-    				result.setNotificationsCount( decoder.getUInt32("NotificationsCount") );
-    				result.setLatePublishRequestCount( decoder.getUInt32("LatePublishRequestCount") );
-    				result.setCurrentKeepAliveCount( decoder.getUInt32("CurrentKeepAliveCount") );
-    				result.setCurrentLifetimeCount( decoder.getUInt32("CurrentLifetimeCount") );
-    				result.setUnacknowledgedMessageCount( decoder.getUInt32("UnacknowledgedMessageCount") );
-    				result.setDiscardedMessageCount( decoder.getUInt32("DiscardedMessageCount") );
-    				result.setMonitoredItemCount( decoder.getUInt32("MonitoredItemCount") );
-    				result.setDisabledMonitoredItemCount( decoder.getUInt32("DisabledMonitoredItemCount") );
-    				result.setMonitoringQueueOverflowCount( decoder.getUInt32("MonitoringQueueOverflowCount") );
-    				result.setNextSequenceNumber( decoder.getUInt32("NextSequenceNumber") );
-    				result.setEventQueueOverFlowCount( decoder.getUInt32("EventQueueOverFlowCount") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SubscriptionDiagnosticsDataType", new ExpandedNodeId(Identifiers.SubscriptionDiagnosticsDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SubscriptionDiagnosticsDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SubscriptionDiagnosticsDataType));
     	// ModelChangeStructureDataType
-    	addSerializer(
-    		new AbstractSerializer(ModelChangeStructureDataType.class, ModelChangeStructureDataType.BINARY, ModelChangeStructureDataType.XML, ModelChangeStructureDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ModelChangeStructureDataType obj = (ModelChangeStructureDataType) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getAffected() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getAffectedType() );
-    				calculator.putByte(null, null /*obj.getVerb()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ModelChangeStructureDataType obj = (ModelChangeStructureDataType) encodeable;
-    				encoder.putNodeId("Affected",  (obj==null)?null:obj.getAffected() );
-    				encoder.putNodeId("AffectedType",  (obj==null)?null:obj.getAffectedType() );
-    				encoder.putByte("Verb",  (obj==null)?null:obj.getVerb() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ModelChangeStructureDataType result = new ModelChangeStructureDataType();
-    				result.setAffected( decoder.getNodeId("Affected") );
-    				result.setAffectedType( decoder.getNodeId("AffectedType") );
-    				result.setVerb( decoder.getByte("Verb") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ModelChangeStructureDataType", new ExpandedNodeId(Identifiers.ModelChangeStructureDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ModelChangeStructureDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ModelChangeStructureDataType));
     	// SemanticChangeStructureDataType
-    	addSerializer(
-    		new AbstractSerializer(SemanticChangeStructureDataType.class, SemanticChangeStructureDataType.BINARY, SemanticChangeStructureDataType.XML, SemanticChangeStructureDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				SemanticChangeStructureDataType obj = (SemanticChangeStructureDataType) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getAffected() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getAffectedType() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				SemanticChangeStructureDataType obj = (SemanticChangeStructureDataType) encodeable;
-    				encoder.putNodeId("Affected",  (obj==null)?null:obj.getAffected() );
-    				encoder.putNodeId("AffectedType",  (obj==null)?null:obj.getAffectedType() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				SemanticChangeStructureDataType result = new SemanticChangeStructureDataType();
-    				result.setAffected( decoder.getNodeId("Affected") );
-    				result.setAffectedType( decoder.getNodeId("AffectedType") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.SemanticChangeStructureDataType", new ExpandedNodeId(Identifiers.SemanticChangeStructureDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.SemanticChangeStructureDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.SemanticChangeStructureDataType));
     	// Range
-    	addSerializer(
-    		new AbstractSerializer(Range.class, Range.BINARY, Range.XML, Range.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				Range obj = (Range) encodeable;
-    				calculator.putDouble(null, null /*obj.getLow()*/);
-    				calculator.putDouble(null, null /*obj.getHigh()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				Range obj = (Range) encodeable;
-    				encoder.putDouble("Low",  (obj==null)?null:obj.getLow() );
-    				encoder.putDouble("High",  (obj==null)?null:obj.getHigh() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				Range result = new Range();
-    				result.setLow( decoder.getDouble("Low") );
-    				result.setHigh( decoder.getDouble("High") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.Range", new ExpandedNodeId(Identifiers.Range_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.Range_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.Range));
     	// EUInformation
-    	addSerializer(
-    		new AbstractSerializer(EUInformation.class, EUInformation.BINARY, EUInformation.XML, EUInformation.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				EUInformation obj = (EUInformation) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getNamespaceUri() );
-    				calculator.putInt32(null, null /*obj.getUnitId()*/);
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				EUInformation obj = (EUInformation) encodeable;
-    				encoder.putString("NamespaceUri",  (obj==null)?null:obj.getNamespaceUri() );
-    				encoder.putInt32("UnitId",  (obj==null)?null:obj.getUnitId() );
-    				encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
-    				encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				EUInformation result = new EUInformation();
-    				result.setNamespaceUri( decoder.getString("NamespaceUri") );
-    				result.setUnitId( decoder.getInt32("UnitId") );
-    				result.setDisplayName( decoder.getLocalizedText("DisplayName") );
-    				result.setDescription( decoder.getLocalizedText("Description") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.EUInformation", new ExpandedNodeId(Identifiers.EUInformation_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.EUInformation_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.EUInformation));
     	// ComplexNumberType
-    	addSerializer(
-    		new AbstractSerializer(ComplexNumberType.class, ComplexNumberType.BINARY, ComplexNumberType.XML, ComplexNumberType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ComplexNumberType obj = (ComplexNumberType) encodeable;
-    				calculator.putFloat(null, null /*obj.getReal()*/);
-    				calculator.putFloat(null, null /*obj.getImaginary()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ComplexNumberType obj = (ComplexNumberType) encodeable;
-    				encoder.putFloat("Real",  (obj==null)?null:obj.getReal() );
-    				encoder.putFloat("Imaginary",  (obj==null)?null:obj.getImaginary() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ComplexNumberType result = new ComplexNumberType();
-    				result.setReal( decoder.getFloat("Real") );
-    				result.setImaginary( decoder.getFloat("Imaginary") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ComplexNumberType", new ExpandedNodeId(Identifiers.ComplexNumberType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ComplexNumberType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ComplexNumberType));
     	// DoubleComplexNumberType
-    	addSerializer(
-    		new AbstractSerializer(DoubleComplexNumberType.class, DoubleComplexNumberType.BINARY, DoubleComplexNumberType.XML, DoubleComplexNumberType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				DoubleComplexNumberType obj = (DoubleComplexNumberType) encodeable;
-    				calculator.putDouble(null, null /*obj.getReal()*/);
-    				calculator.putDouble(null, null /*obj.getImaginary()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				DoubleComplexNumberType obj = (DoubleComplexNumberType) encodeable;
-    				encoder.putDouble("Real",  (obj==null)?null:obj.getReal() );
-    				encoder.putDouble("Imaginary",  (obj==null)?null:obj.getImaginary() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				DoubleComplexNumberType result = new DoubleComplexNumberType();
-    				result.setReal( decoder.getDouble("Real") );
-    				result.setImaginary( decoder.getDouble("Imaginary") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.DoubleComplexNumberType", new ExpandedNodeId(Identifiers.DoubleComplexNumberType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.DoubleComplexNumberType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.DoubleComplexNumberType));
     	// AxisInformation
-    	addSerializer(
-    		new AbstractSerializer(AxisInformation.class, AxisInformation.BINARY, AxisInformation.XML, AxisInformation.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				AxisInformation obj = (AxisInformation) encodeable;
-    				calculator.putEncodeable(null, EUInformation.class, (obj==null)?null:obj.getEngineeringUnits());
-    				calculator.putEncodeable(null, Range.class, (obj==null)?null:obj.getEURange());
-    				calculator.putLocalizedText(null,  (obj==null)?null:obj.getTitle() );
-    				calculator.putEnumeration(null, null /*obj.getAxisScaleType()*/);
-    				calculator.putDoubleArray(null, ((obj==null)?null:obj.getAxisSteps()) );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				AxisInformation obj = (AxisInformation) encodeable;
-    				encoder.putEncodeable("EngineeringUnits", EUInformation.class, (obj==null)?null:obj.getEngineeringUnits());
-    				encoder.putEncodeable("EURange", Range.class, (obj==null)?null:obj.getEURange());
-    				encoder.putLocalizedText("Title",  (obj==null)?null:obj.getTitle() );
-    				encoder.putEnumeration("AxisScaleType",  (obj==null)?null:obj.getAxisScaleType() );
-    				encoder.putDoubleArray("AxisSteps", (obj==null)?null:obj.getAxisSteps() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				AxisInformation result = new AxisInformation();
-    				result.setEngineeringUnits( decoder.getEncodeable("EngineeringUnits", EUInformation.class) );
-    				result.setEURange( decoder.getEncodeable("EURange", Range.class) );
-    				result.setTitle( decoder.getLocalizedText("Title") );
-    				result.setAxisScaleType( decoder.getEnumeration("AxisScaleType", AxisScaleEnumeration.class) );
-    				result.setAxisSteps( decoder.getDoubleArray("AxisSteps") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.AxisInformation", new ExpandedNodeId(Identifiers.AxisInformation_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.AxisInformation_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.AxisInformation));
     	// XVType
-    	addSerializer(
-    		new AbstractSerializer(XVType.class, XVType.BINARY, XVType.XML, XVType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				XVType obj = (XVType) encodeable;
-    				calculator.putDouble(null, null /*obj.getX()*/);
-    				calculator.putFloat(null, null /*obj.getValue()*/);
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				XVType obj = (XVType) encodeable;
-    				encoder.putDouble("X",  (obj==null)?null:obj.getX() );
-    				encoder.putFloat("Value",  (obj==null)?null:obj.getValue() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				XVType result = new XVType();
-    				result.setX( decoder.getDouble("X") );
-    				result.setValue( decoder.getFloat("Value") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.XVType", new ExpandedNodeId(Identifiers.XVType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.XVType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.XVType));
     	// ProgramDiagnosticDataType
-    	addSerializer(
-    		new AbstractSerializer(ProgramDiagnosticDataType.class, ProgramDiagnosticDataType.BINARY, ProgramDiagnosticDataType.XML, ProgramDiagnosticDataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ProgramDiagnosticDataType obj = (ProgramDiagnosticDataType) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getCreateSessionId() );
-    				calculator.putString(null,  (obj==null)?null:obj.getCreateClientName() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getInvocationCreationTime() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getLastTransitionTime() );
-    				calculator.putString(null,  (obj==null)?null:obj.getLastMethodCall() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getLastMethodSessionId() );
-    				calculator.putEncodeableArray(null, Argument.class, (obj==null)?null:obj.getLastMethodInputArguments());
-    				calculator.putEncodeableArray(null, Argument.class, (obj==null)?null:obj.getLastMethodOutputArguments());
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getLastMethodCallTime() );
-    				calculator.putEncodeable(null, StatusResult.class, (obj==null)?null:obj.getLastMethodReturnStatus());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ProgramDiagnosticDataType obj = (ProgramDiagnosticDataType) encodeable;
-    				encoder.putNodeId("CreateSessionId",  (obj==null)?null:obj.getCreateSessionId() );
-    				encoder.putString("CreateClientName",  (obj==null)?null:obj.getCreateClientName() );
-    				encoder.putDateTime("InvocationCreationTime",  (obj==null)?null:obj.getInvocationCreationTime() );
-    				encoder.putDateTime("LastTransitionTime",  (obj==null)?null:obj.getLastTransitionTime() );
-    				encoder.putString("LastMethodCall",  (obj==null)?null:obj.getLastMethodCall() );
-    				encoder.putNodeId("LastMethodSessionId",  (obj==null)?null:obj.getLastMethodSessionId() );
-    				encoder.putEncodeableArray("LastMethodInputArguments", Argument.class, (obj==null)?null:obj.getLastMethodInputArguments());
-    				encoder.putEncodeableArray("LastMethodOutputArguments", Argument.class, (obj==null)?null:obj.getLastMethodOutputArguments());
-    				encoder.putDateTime("LastMethodCallTime",  (obj==null)?null:obj.getLastMethodCallTime() );
-    				encoder.putEncodeable("LastMethodReturnStatus", StatusResult.class, (obj==null)?null:obj.getLastMethodReturnStatus());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ProgramDiagnosticDataType result = new ProgramDiagnosticDataType();
-    				result.setCreateSessionId( decoder.getNodeId("CreateSessionId") );
-    				result.setCreateClientName( decoder.getString("CreateClientName") );
-    				result.setInvocationCreationTime( decoder.getDateTime("InvocationCreationTime") );
-    				result.setLastTransitionTime( decoder.getDateTime("LastTransitionTime") );
-    				result.setLastMethodCall( decoder.getString("LastMethodCall") );
-    				result.setLastMethodSessionId( decoder.getNodeId("LastMethodSessionId") );
-    				result.setLastMethodInputArguments( decoder.getEncodeableArray("LastMethodInputArguments", Argument.class) );
-    				result.setLastMethodOutputArguments( decoder.getEncodeableArray("LastMethodOutputArguments", Argument.class) );
-    				result.setLastMethodCallTime( decoder.getDateTime("LastMethodCallTime") );
-    				result.setLastMethodReturnStatus( decoder.getEncodeable("LastMethodReturnStatus", StatusResult.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ProgramDiagnosticDataType", new ExpandedNodeId(Identifiers.ProgramDiagnosticDataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ProgramDiagnosticDataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ProgramDiagnosticDataType));
     	// ProgramDiagnostic2DataType
-    	addSerializer(
-    		new AbstractSerializer(ProgramDiagnostic2DataType.class, ProgramDiagnostic2DataType.BINARY, ProgramDiagnostic2DataType.XML, ProgramDiagnostic2DataType.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				ProgramDiagnostic2DataType obj = (ProgramDiagnostic2DataType) encodeable;
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getCreateSessionId() );
-    				calculator.putString(null,  (obj==null)?null:obj.getCreateClientName() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getInvocationCreationTime() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getLastTransitionTime() );
-    				calculator.putString(null,  (obj==null)?null:obj.getLastMethodCall() );
-    				calculator.putNodeId(null,  (obj==null)?null:obj.getLastMethodSessionId() );
-    				calculator.putEncodeableArray(null, Argument.class, (obj==null)?null:obj.getLastMethodInputArguments());
-    				calculator.putEncodeableArray(null, Argument.class, (obj==null)?null:obj.getLastMethodOutputArguments());
-    				calculator.putVariantArray(null, ((obj==null)?null:obj.getLastMethodInputValues()) );
-    				calculator.putVariantArray(null, ((obj==null)?null:obj.getLastMethodOutputValues()) );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getLastMethodCallTime() );
-    				calculator.putEncodeable(null, StatusResult.class, (obj==null)?null:obj.getLastMethodReturnStatus());
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				ProgramDiagnostic2DataType obj = (ProgramDiagnostic2DataType) encodeable;
-    				encoder.putNodeId("CreateSessionId",  (obj==null)?null:obj.getCreateSessionId() );
-    				encoder.putString("CreateClientName",  (obj==null)?null:obj.getCreateClientName() );
-    				encoder.putDateTime("InvocationCreationTime",  (obj==null)?null:obj.getInvocationCreationTime() );
-    				encoder.putDateTime("LastTransitionTime",  (obj==null)?null:obj.getLastTransitionTime() );
-    				encoder.putString("LastMethodCall",  (obj==null)?null:obj.getLastMethodCall() );
-    				encoder.putNodeId("LastMethodSessionId",  (obj==null)?null:obj.getLastMethodSessionId() );
-    				encoder.putEncodeableArray("LastMethodInputArguments", Argument.class, (obj==null)?null:obj.getLastMethodInputArguments());
-    				encoder.putEncodeableArray("LastMethodOutputArguments", Argument.class, (obj==null)?null:obj.getLastMethodOutputArguments());
-    				encoder.putVariantArray("LastMethodInputValues", (obj==null)?null:obj.getLastMethodInputValues() );
-    				encoder.putVariantArray("LastMethodOutputValues", (obj==null)?null:obj.getLastMethodOutputValues() );
-    				encoder.putDateTime("LastMethodCallTime",  (obj==null)?null:obj.getLastMethodCallTime() );
-    				encoder.putEncodeable("LastMethodReturnStatus", StatusResult.class, (obj==null)?null:obj.getLastMethodReturnStatus());
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				ProgramDiagnostic2DataType result = new ProgramDiagnostic2DataType();
-    				result.setCreateSessionId( decoder.getNodeId("CreateSessionId") );
-    				result.setCreateClientName( decoder.getString("CreateClientName") );
-    				result.setInvocationCreationTime( decoder.getDateTime("InvocationCreationTime") );
-    				result.setLastTransitionTime( decoder.getDateTime("LastTransitionTime") );
-    				result.setLastMethodCall( decoder.getString("LastMethodCall") );
-    				result.setLastMethodSessionId( decoder.getNodeId("LastMethodSessionId") );
-    				result.setLastMethodInputArguments( decoder.getEncodeableArray("LastMethodInputArguments", Argument.class) );
-    				result.setLastMethodOutputArguments( decoder.getEncodeableArray("LastMethodOutputArguments", Argument.class) );
-    				result.setLastMethodInputValues( decoder.getVariantArray("LastMethodInputValues") );
-    				result.setLastMethodOutputValues( decoder.getVariantArray("LastMethodOutputValues") );
-    				result.setLastMethodCallTime( decoder.getDateTime("LastMethodCallTime") );
-    				result.setLastMethodReturnStatus( decoder.getEncodeable("LastMethodReturnStatus", StatusResult.class) );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.ProgramDiagnostic2DataType", new ExpandedNodeId(Identifiers.ProgramDiagnostic2DataType_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.ProgramDiagnostic2DataType_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.ProgramDiagnostic2DataType));
     	// Annotation
-    	addSerializer(
-    		new AbstractSerializer(Annotation.class, Annotation.BINARY, Annotation.XML, Annotation.ID) {
-    			public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-    				Annotation obj = (Annotation) encodeable;
-    				calculator.putString(null,  (obj==null)?null:obj.getMessage() );
-    				calculator.putString(null,  (obj==null)?null:obj.getUserName() );
-    				calculator.putDateTime(null,  (obj==null)?null:obj.getAnnotationTime() );
-    			}
-    			public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-    				Annotation obj = (Annotation) encodeable;
-    				encoder.putString("Message",  (obj==null)?null:obj.getMessage() );
-    				encoder.putString("UserName",  (obj==null)?null:obj.getUserName() );
-    				encoder.putDateTime("AnnotationTime",  (obj==null)?null:obj.getAnnotationTime() );
-    			}
-    			public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
-    				Annotation result = new Annotation();
-    				result.setMessage( decoder.getString("Message") );
-    				result.setUserName( decoder.getString("UserName") );
-    				result.setAnnotationTime( decoder.getDateTime("AnnotationTime") );
-    				return result;
-    			}
-    		});
-    
+    	addSerializer("com.prosysopc.ua.core.Annotation", new ExpandedNodeId(Identifiers.Annotation_Encoding_DefaultBinary), new ExpandedNodeId(Identifiers.Annotation_Encoding_DefaultXml), new ExpandedNodeId(Identifiers.Annotation));
  
 		
 	}
 	
+	@Override
+	protected IEncodeableSerializer createSerializer(int index) {
+		switch (index) {
+		case 0: return new KeyValuePairSerializer();
+		case 1: return new EndpointTypeSerializer();
+		case 2: return new IdentityMappingRuleTypeSerializer();
+		case 3: return new TrustListDataTypeSerializer();
+		case 4: return new DataTypeSchemaHeaderSerializer();
+		case 5: return new DataTypeDescriptionSerializer();
+		case 6: return new StructureDescriptionSerializer();
+		case 7: return new EnumDescriptionSerializer();
+		case 8: return new SimpleTypeDescriptionSerializer();
+		case 9: return new UABinaryFileDataTypeSerializer();
+		case 10: return new DataSetMetaDataTypeSerializer();
+		case 11: return new FieldMetaDataSerializer();
+		case 12: return new ConfigurationVersionDataTypeSerializer();
+		case 13: return new PublishedDataSetDataTypeSerializer();
+		case 14: return new PublishedDataSetSourceDataTypeSerializer();
+		case 15: return new PublishedVariableDataTypeSerializer();
+		case 16: return new PublishedDataItemsDataTypeSerializer();
+		case 17: return new PublishedEventsDataTypeSerializer();
+		case 18: return new DataSetWriterDataTypeSerializer();
+		case 19: return new DataSetWriterTransportDataTypeSerializer();
+		case 20: return new DataSetWriterMessageDataTypeSerializer();
+		case 21: return new PubSubGroupDataTypeSerializer();
+		case 22: return new WriterGroupDataTypeSerializer();
+		case 23: return new WriterGroupTransportDataTypeSerializer();
+		case 24: return new WriterGroupMessageDataTypeSerializer();
+		case 25: return new PubSubConnectionDataTypeSerializer();
+		case 26: return new ConnectionTransportDataTypeSerializer();
+		case 27: return new NetworkAddressDataTypeSerializer();
+		case 28: return new NetworkAddressUrlDataTypeSerializer();
+		case 29: return new ReaderGroupDataTypeSerializer();
+		case 30: return new ReaderGroupTransportDataTypeSerializer();
+		case 31: return new ReaderGroupMessageDataTypeSerializer();
+		case 32: return new DataSetReaderDataTypeSerializer();
+		case 33: return new DataSetReaderTransportDataTypeSerializer();
+		case 34: return new DataSetReaderMessageDataTypeSerializer();
+		case 35: return new SubscribedDataSetDataTypeSerializer();
+		case 36: return new TargetVariablesDataTypeSerializer();
+		case 37: return new FieldTargetDataTypeSerializer();
+		case 38: return new SubscribedDataSetMirrorDataTypeSerializer();
+		case 39: return new PubSubConfigurationDataTypeSerializer();
+		case 40: return new UadpWriterGroupMessageDataTypeSerializer();
+		case 41: return new UadpDataSetWriterMessageDataTypeSerializer();
+		case 42: return new UadpDataSetReaderMessageDataTypeSerializer();
+		case 43: return new JsonWriterGroupMessageDataTypeSerializer();
+		case 44: return new JsonDataSetWriterMessageDataTypeSerializer();
+		case 45: return new JsonDataSetReaderMessageDataTypeSerializer();
+		case 46: return new DatagramConnectionTransportDataTypeSerializer();
+		case 47: return new DatagramWriterGroupTransportDataTypeSerializer();
+		case 48: return new BrokerConnectionTransportDataTypeSerializer();
+		case 49: return new BrokerWriterGroupTransportDataTypeSerializer();
+		case 50: return new BrokerDataSetWriterTransportDataTypeSerializer();
+		case 51: return new BrokerDataSetReaderTransportDataTypeSerializer();
+		case 52: return new RolePermissionTypeSerializer();
+		case 53: return new DataTypeDefinitionSerializer();
+		case 54: return new StructureFieldSerializer();
+		case 55: return new StructureDefinitionSerializer();
+		case 56: return new EnumDefinitionSerializer();
+		case 57: return new ReferenceNodeSerializer();
+		case 58: return new ArgumentSerializer();
+		case 59: return new EnumValueTypeSerializer();
+		case 60: return new EnumFieldSerializer();
+		case 61: return new OptionSetSerializer();
+		case 62: return new UnionSerializer();
+		case 63: return new TimeZoneDataTypeSerializer();
+		case 64: return new ApplicationDescriptionSerializer();
+		case 65: return new RequestHeaderSerializer();
+		case 66: return new ResponseHeaderSerializer();
+		case 67: return new ServiceFaultSerializer();
+		case 68: return new SessionlessInvokeRequestTypeSerializer();
+		case 69: return new SessionlessInvokeResponseTypeSerializer();
+		case 70: return new FindServersRequestSerializer();
+		case 71: return new FindServersResponseSerializer();
+		case 72: return new ServerOnNetworkSerializer();
+		case 73: return new FindServersOnNetworkRequestSerializer();
+		case 74: return new FindServersOnNetworkResponseSerializer();
+		case 75: return new UserTokenPolicySerializer();
+		case 76: return new EndpointDescriptionSerializer();
+		case 77: return new GetEndpointsRequestSerializer();
+		case 78: return new GetEndpointsResponseSerializer();
+		case 79: return new RegisteredServerSerializer();
+		case 80: return new RegisterServerRequestSerializer();
+		case 81: return new RegisterServerResponseSerializer();
+		case 82: return new DiscoveryConfigurationSerializer();
+		case 83: return new MdnsDiscoveryConfigurationSerializer();
+		case 84: return new RegisterServer2RequestSerializer();
+		case 85: return new RegisterServer2ResponseSerializer();
+		case 86: return new ChannelSecurityTokenSerializer();
+		case 87: return new OpenSecureChannelRequestSerializer();
+		case 88: return new OpenSecureChannelResponseSerializer();
+		case 89: return new CloseSecureChannelRequestSerializer();
+		case 90: return new CloseSecureChannelResponseSerializer();
+		case 91: return new SignedSoftwareCertificateSerializer();
+		case 92: return new SignatureDataSerializer();
+		case 93: return new CreateSessionRequestSerializer();
+		case 94: return new CreateSessionResponseSerializer();
+		case 95: return new UserIdentityTokenSerializer();
+		case 96: return new AnonymousIdentityTokenSerializer();
+		case 97: return new UserNameIdentityTokenSerializer();
+		case 98: return new X509IdentityTokenSerializer();
+		case 99: return new IssuedIdentityTokenSerializer();
+		case 100: return new ActivateSessionRequestSerializer();
+		case 101: return new ActivateSessionResponseSerializer();
+		case 102: return new CloseSessionRequestSerializer();
+		case 103: return new CloseSessionResponseSerializer();
+		case 104: return new CancelRequestSerializer();
+		case 105: return new CancelResponseSerializer();
+		case 106: return new NodeAttributesSerializer();
+		case 107: return new ObjectAttributesSerializer();
+		case 108: return new VariableAttributesSerializer();
+		case 109: return new MethodAttributesSerializer();
+		case 110: return new ObjectTypeAttributesSerializer();
+		case 111: return new VariableTypeAttributesSerializer();
+		case 112: return new ReferenceTypeAttributesSerializer();
+		case 113: return new DataTypeAttributesSerializer();
+		case 114: return new ViewAttributesSerializer();
+		case 115: return new GenericAttributeValueSerializer();
+		case 116: return new GenericAttributesSerializer();
+		case 117: return new AddNodesItemSerializer();
+		case 118: return new AddNodesResultSerializer();
+		case 119: return new AddNodesRequestSerializer();
+		case 120: return new AddNodesResponseSerializer();
+		case 121: return new AddReferencesItemSerializer();
+		case 122: return new AddReferencesRequestSerializer();
+		case 123: return new AddReferencesResponseSerializer();
+		case 124: return new DeleteNodesItemSerializer();
+		case 125: return new DeleteNodesRequestSerializer();
+		case 126: return new DeleteNodesResponseSerializer();
+		case 127: return new DeleteReferencesItemSerializer();
+		case 128: return new DeleteReferencesRequestSerializer();
+		case 129: return new DeleteReferencesResponseSerializer();
+		case 130: return new ViewDescriptionSerializer();
+		case 131: return new BrowseDescriptionSerializer();
+		case 132: return new ReferenceDescriptionSerializer();
+		case 133: return new BrowseResultSerializer();
+		case 134: return new BrowseRequestSerializer();
+		case 135: return new BrowseResponseSerializer();
+		case 136: return new BrowseNextRequestSerializer();
+		case 137: return new BrowseNextResponseSerializer();
+		case 138: return new RelativePathElementSerializer();
+		case 139: return new RelativePathSerializer();
+		case 140: return new BrowsePathSerializer();
+		case 141: return new BrowsePathTargetSerializer();
+		case 142: return new BrowsePathResultSerializer();
+		case 143: return new TranslateBrowsePathsToNodeIdsRequestSerializer();
+		case 144: return new TranslateBrowsePathsToNodeIdsResponseSerializer();
+		case 145: return new RegisterNodesRequestSerializer();
+		case 146: return new RegisterNodesResponseSerializer();
+		case 147: return new UnregisterNodesRequestSerializer();
+		case 148: return new UnregisterNodesResponseSerializer();
+		case 149: return new EndpointConfigurationSerializer();
+		case 150: return new QueryDataDescriptionSerializer();
+		case 151: return new NodeTypeDescriptionSerializer();
+		case 152: return new QueryDataSetSerializer();
+		case 153: return new NodeReferenceSerializer();
+		case 154: return new ContentFilterElementSerializer();
+		case 155: return new ContentFilterSerializer();
+		case 156: return new FilterOperandSerializer();
+		case 157: return new ElementOperandSerializer();
+		case 158: return new LiteralOperandSerializer();
+		case 159: return new AttributeOperandSerializer();
+		case 160: return new SimpleAttributeOperandSerializer();
+		case 161: return new ContentFilterElementResultSerializer();
+		case 162: return new ContentFilterResultSerializer();
+		case 163: return new ParsingResultSerializer();
+		case 164: return new QueryFirstRequestSerializer();
+		case 165: return new QueryFirstResponseSerializer();
+		case 166: return new QueryNextRequestSerializer();
+		case 167: return new QueryNextResponseSerializer();
+		case 168: return new ReadValueIdSerializer();
+		case 169: return new ReadRequestSerializer();
+		case 170: return new ReadResponseSerializer();
+		case 171: return new HistoryReadValueIdSerializer();
+		case 172: return new HistoryReadResultSerializer();
+		case 173: return new HistoryReadDetailsSerializer();
+		case 174: return new ReadEventDetailsSerializer();
+		case 175: return new ReadRawModifiedDetailsSerializer();
+		case 176: return new ReadProcessedDetailsSerializer();
+		case 177: return new ReadAtTimeDetailsSerializer();
+		case 178: return new HistoryDataSerializer();
+		case 179: return new ModificationInfoSerializer();
+		case 180: return new HistoryModifiedDataSerializer();
+		case 181: return new HistoryEventSerializer();
+		case 182: return new HistoryReadRequestSerializer();
+		case 183: return new HistoryReadResponseSerializer();
+		case 184: return new WriteValueSerializer();
+		case 185: return new WriteRequestSerializer();
+		case 186: return new WriteResponseSerializer();
+		case 187: return new HistoryUpdateDetailsSerializer();
+		case 188: return new UpdateDataDetailsSerializer();
+		case 189: return new UpdateStructureDataDetailsSerializer();
+		case 190: return new UpdateEventDetailsSerializer();
+		case 191: return new DeleteRawModifiedDetailsSerializer();
+		case 192: return new DeleteAtTimeDetailsSerializer();
+		case 193: return new DeleteEventDetailsSerializer();
+		case 194: return new HistoryUpdateResultSerializer();
+		case 195: return new HistoryUpdateRequestSerializer();
+		case 196: return new HistoryUpdateResponseSerializer();
+		case 197: return new CallMethodRequestSerializer();
+		case 198: return new CallMethodResultSerializer();
+		case 199: return new CallRequestSerializer();
+		case 200: return new CallResponseSerializer();
+		case 201: return new MonitoringFilterSerializer();
+		case 202: return new DataChangeFilterSerializer();
+		case 203: return new EventFilterSerializer();
+		case 204: return new AggregateConfigurationSerializer();
+		case 205: return new AggregateFilterSerializer();
+		case 206: return new MonitoringFilterResultSerializer();
+		case 207: return new EventFilterResultSerializer();
+		case 208: return new AggregateFilterResultSerializer();
+		case 209: return new MonitoringParametersSerializer();
+		case 210: return new MonitoredItemCreateRequestSerializer();
+		case 211: return new MonitoredItemCreateResultSerializer();
+		case 212: return new CreateMonitoredItemsRequestSerializer();
+		case 213: return new CreateMonitoredItemsResponseSerializer();
+		case 214: return new MonitoredItemModifyRequestSerializer();
+		case 215: return new MonitoredItemModifyResultSerializer();
+		case 216: return new ModifyMonitoredItemsRequestSerializer();
+		case 217: return new ModifyMonitoredItemsResponseSerializer();
+		case 218: return new SetMonitoringModeRequestSerializer();
+		case 219: return new SetMonitoringModeResponseSerializer();
+		case 220: return new SetTriggeringRequestSerializer();
+		case 221: return new SetTriggeringResponseSerializer();
+		case 222: return new DeleteMonitoredItemsRequestSerializer();
+		case 223: return new DeleteMonitoredItemsResponseSerializer();
+		case 224: return new CreateSubscriptionRequestSerializer();
+		case 225: return new CreateSubscriptionResponseSerializer();
+		case 226: return new ModifySubscriptionRequestSerializer();
+		case 227: return new ModifySubscriptionResponseSerializer();
+		case 228: return new SetPublishingModeRequestSerializer();
+		case 229: return new SetPublishingModeResponseSerializer();
+		case 230: return new NotificationMessageSerializer();
+		case 231: return new NotificationDataSerializer();
+		case 232: return new DataChangeNotificationSerializer();
+		case 233: return new MonitoredItemNotificationSerializer();
+		case 234: return new EventNotificationListSerializer();
+		case 235: return new EventFieldListSerializer();
+		case 236: return new HistoryEventFieldListSerializer();
+		case 237: return new StatusChangeNotificationSerializer();
+		case 238: return new SubscriptionAcknowledgementSerializer();
+		case 239: return new PublishRequestSerializer();
+		case 240: return new PublishResponseSerializer();
+		case 241: return new RepublishRequestSerializer();
+		case 242: return new RepublishResponseSerializer();
+		case 243: return new TransferResultSerializer();
+		case 244: return new TransferSubscriptionsRequestSerializer();
+		case 245: return new TransferSubscriptionsResponseSerializer();
+		case 246: return new DeleteSubscriptionsRequestSerializer();
+		case 247: return new DeleteSubscriptionsResponseSerializer();
+		case 248: return new BuildInfoSerializer();
+		case 249: return new RedundantServerDataTypeSerializer();
+		case 250: return new EndpointUrlListDataTypeSerializer();
+		case 251: return new NetworkGroupDataTypeSerializer();
+		case 252: return new SamplingIntervalDiagnosticsDataTypeSerializer();
+		case 253: return new ServerDiagnosticsSummaryDataTypeSerializer();
+		case 254: return new ServerStatusDataTypeSerializer();
+		case 255: return new SessionDiagnosticsDataTypeSerializer();
+		case 256: return new SessionSecurityDiagnosticsDataTypeSerializer();
+		case 257: return new ServiceCounterDataTypeSerializer();
+		case 258: return new StatusResultSerializer();
+		case 259: return new SubscriptionDiagnosticsDataTypeSerializer();
+		case 260: return new ModelChangeStructureDataTypeSerializer();
+		case 261: return new SemanticChangeStructureDataTypeSerializer();
+		case 262: return new RangeSerializer();
+		case 263: return new EUInformationSerializer();
+		case 264: return new ComplexNumberTypeSerializer();
+		case 265: return new DoubleComplexNumberTypeSerializer();
+		case 266: return new AxisInformationSerializer();
+		case 267: return new XVTypeSerializer();
+		case 268: return new ProgramDiagnosticDataTypeSerializer();
+		case 269: return new ProgramDiagnostic2DataTypeSerializer();
+		case 270: return new AnnotationSerializer();
+		default: return null;
+		}
+	}
 
 }
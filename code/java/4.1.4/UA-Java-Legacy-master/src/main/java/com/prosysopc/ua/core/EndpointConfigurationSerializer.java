@@ -0,0 +1,88 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link EndpointConfiguration}.
+ *
+ * @see EncodeableSerializer
+ */
+public class EndpointConfigurationSerializer extends AbstractSerializer {
+
+    public EndpointConfigurationSerializer() {
+    	super(EndpointConfiguration.class, EndpointConfiguration.BINARY, EndpointConfiguration.XML, EndpointConfiguration.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	EndpointConfiguration obj = (EndpointConfiguration) encodeable;
+    	calculator.putInt32(null, null /*obj.getOperationTimeout()*/);
+    	calculator.putBoolean(null, null /*obj.getUseBinaryEncoding()*/);
+    	calculator.putInt32(null, null /*obj.getMaxStringLength()*/);
+    	calculator.putInt32(null, null /*obj.getMaxByteStringLength()*/);
+    	calculator.putInt32(null, null /*obj.getMaxArrayLength()*/);
+    	calculator.putInt32(null, null /*obj.getMaxMessageSize()*/);
+    	calculator.putInt32(null, null /*obj.getMaxBufferSize()*/);
+    	calculator.putInt32(null, null /*obj.getChannelLifetime()*/);
+    	calculator.putInt32(null, null /*obj.getSecurityTokenLifetime()*/);
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	EndpointConfiguration obj = (EndpointConfiguration) encodeable;
+    	encoder.putInt32("OperationTimeout",  (obj==null)?null:obj.getOperationTimeout() );
+    	encoder.putBoolean("UseBinaryEncoding",  (obj==null)?null:obj.getUseBinaryEncoding() );
+    	encoder.putInt32("MaxStringLength",  (obj==null)?null:obj.getMaxStringLength() );
+    	encoder.putInt32("MaxByteStringLength",  (obj==null)?null:obj.getMaxByteStringLength() );
+    	encoder.putInt32("MaxArrayLength",  (obj==null)?null:obj.getMaxArrayLength() );
+    	encoder.putInt32("MaxMessageSize",  (obj==null)?null:obj.getMaxMessageSize() );
+    	encoder.putInt32("MaxBufferSize",  (obj==null)?null:obj.getMaxBufferSize() );
+    	encoder.putInt32("ChannelLifetime",  (obj==null)?null:obj.getChannelLifetime() );
+    	encoder.putInt32("SecurityTokenLifetime",  (obj==null)?null:obj.getSecurityTokenLifetime() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	EndpointConfiguration result = new EndpointConfiguration();
+    	result.setOperationTimeout( decoder.getInt32("OperationTimeout") );
+    	result.setUseBinaryEncoding( decoder.getBoolean("UseBinaryEncoding") );
+    	result.setMaxStringLength( decoder.getInt32("MaxStringLength") );
+    	result.setMaxByteStringLength( decoder.getInt32("MaxByteStringLength") );
+    	result.setMaxArrayLength( decoder.getInt32("MaxArrayLength") );
+    	result.setMaxMessageSize( decoder.getInt32("MaxMessageSize") );
+    	result.setMaxBufferSize( decoder.getInt32("MaxBufferSize") );
+    	result.setChannelLifetime( decoder.getInt32("ChannelLifetime") );
+    	result.setSecurityTokenLifetime( decoder.getInt32("SecurityTokenLifetime") );
+    	return result;
+    }
+
+}
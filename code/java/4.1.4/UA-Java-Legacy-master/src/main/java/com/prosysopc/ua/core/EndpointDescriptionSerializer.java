@@ -0,0 +1,85 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link EndpointDescription}.
+ *
+ * @see EncodeableSerializer
+ */
+public class EndpointDescriptionSerializer extends AbstractSerializer {
+
+    public EndpointDescriptionSerializer() {
+    	super(EndpointDescription.class, EndpointDescription.BINARY, EndpointDescription.XML, EndpointDescription.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	EndpointDescription obj = (EndpointDescription) encodeable;
+    	calculator.putString(null,  (obj==null)?null:obj.getEndpointUrl() );
+    	calculator.putEncodeable(null, ApplicationDescription.class, (obj==null)?null:obj.getServer());
+    	calculator.putByteString(null,  (obj==null)?null:obj.getServerCertificate() );
+    	calculator.putEnumeration(null, null /*obj.getSecurityMode()*/);
+    	calculator.putString(null,  (obj==null)?null:obj.getSecurityPolicyUri() );
+    	calculator.putEncodeableArray(null, UserTokenPolicy.class, (obj==null)?null:obj.getUserIdentityTokens());
+    	calculator.putString(null,  (obj==null)?null:obj.getTransportProfileUri() );
+    	calculator.putByte(null, null /*obj.getSecurityLevel()*/);
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	EndpointDescription obj = (EndpointDescription) encodeable;
+    	encoder.putString("EndpointUrl",  (obj==null)?null:obj.getEndpointUrl() );
+    	encoder.putEncodeable("Server", ApplicationDescription.class, (obj==null)?null:obj.getServer());
+    	encoder.putByteString("ServerCertificate",  (obj==null)?null:obj.getServerCertificate() );
+    	encoder.putEnumeration("SecurityMode",  (obj==null)?null:obj.getSecurityMode() );
+    	encoder.putString("SecurityPolicyUri",  (obj==null)?null:obj.getSecurityPolicyUri() );
+    	encoder.putEncodeableArray("UserIdentityTokens", UserTokenPolicy.class, (obj==null)?null:obj.getUserIdentityTokens());
+    	encoder.putString("TransportProfileUri",  (obj==null)?null:obj.getTransportProfileUri() );
+    	encoder.putByte("SecurityLevel",  (obj==null)?null:obj.getSecurityLevel() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	EndpointDescription result = new EndpointDescription();
+    	result.setEndpointUrl( decoder.getString("EndpointUrl") );
+    	result.setServer( decoder.getEncodeable("Server", ApplicationDescription.class) );
+    	result.setServerCertificate( decoder.getByteString("ServerCertificate") );
+    	result.setSecurityMode( decoder.getEnumeration("SecurityMode", MessageSecurityMode.class) );
+    	result.setSecurityPolicyUri( decoder.getString("SecurityPolicyUri") );
+    	result.setUserIdentityTokens( decoder.getEncodeableArray("UserIdentityTokens", UserTokenPolicy.class) );
+    	result.setTransportProfileUri( decoder.getString("TransportProfileUri") );
+    	result.setSecurityLevel( decoder.getByte("SecurityLevel") );
+    	return result;
+    }
+
+}
@@ -0,0 +1,73 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link EnumField}.
+ *
+ * @see EncodeableSerializer
+ */
+public class EnumFieldSerializer extends AbstractSerializer {
+
+    public EnumFieldSerializer() {
+    	super(EnumField.class, EnumField.BINARY, EnumField.XML, EnumField.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	EnumField obj = (EnumField) encodeable;
+    	calculator.putInt64(null, null /*obj.getValue()*/);
+    	calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
+    	calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
+    	calculator.putString(null,  (obj==null)?null:obj.getName() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	EnumField obj = (EnumField) encodeable;
+    	encoder.putInt64("Value",  (obj==null)?null:obj.getValue() );
+    	encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
+    	encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
+    	encoder.putString("Name",  (obj==null)?null:obj.getName() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	EnumField result = new EnumField();
+    	result.setValue( decoder.getInt64("Value") );
+    	result.setDisplayName( decoder.getLocalizedText("DisplayName") );
+    	result.setDescription( decoder.getLocalizedText("Description") );
+    	result.setName( decoder.getString("Name") );
+    	return result;
+    }
+
+}
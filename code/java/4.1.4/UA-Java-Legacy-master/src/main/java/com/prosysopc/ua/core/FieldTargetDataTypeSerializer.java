@@ -0,0 +1,82 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link FieldTargetDataType}.
+ *
+ * @see EncodeableSerializer
+ */
+public class FieldTargetDataTypeSerializer extends AbstractSerializer {
+
+    public FieldTargetDataTypeSerializer() {
+    	super(FieldTargetDataType.class, FieldTargetDataType.BINARY, FieldTargetDataType.XML, FieldTargetDataType.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	FieldTargetDataType obj = (FieldTargetDataType) encodeable;
+    	calculator.putGuid(null,  (obj==null)?null:obj.getDataSetFieldId() );
+    	calculator.putString(null,  (obj==null)?null:obj.getReceiverIndexRange() );
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getTargetNodeId() );
+    	calculator.putUInt32(null, null /*obj.getAttributeId()*/);
+    	calculator.putString(null,  (obj==null)?null:obj.getWriteIndexRange() );
+    	calculator.putEnumeration(null, null /*obj.getOverrideValueHandling()*/);
+    	calculator.putVariant(null,  (obj==null)?null:obj.getOverrideValue() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	FieldTargetDataType obj = (FieldTargetDataType) encodeable;
+    	encoder.putGuid("DataSetFieldId",  (obj==null)?null:obj.getDataSetFieldId() );
+    	encoder.putString("ReceiverIndexRange",  (obj==null)?null:obj.getReceiverIndexRange() );
+    	encoder.putNodeId("TargetNodeId",  (obj==null)?null:obj.getTargetNodeId() );
+    	encoder.putUInt32("AttributeId",  (obj==null)?null:obj.getAttributeId() );
+    	encoder.putString("WriteIndexRange",  (obj==null)?null:obj.getWriteIndexRange() );
+    	encoder.putEnumeration("OverrideValueHandling",  (obj==null)?null:obj.getOverrideValueHandling() );
+    	encoder.putVariant("OverrideValue",  (obj==null)?null:obj.getOverrideValue() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	FieldTargetDataType result = new FieldTargetDataType();
+    	result.setDataSetFieldId( decoder.getGuid("DataSetFieldId") );
+    	result.setReceiverIndexRange( decoder.getString("ReceiverIndexRange") );
+    	result.setTargetNodeId( decoder.getNodeId("TargetNodeId") );
+    	result.setAttributeId( decoder.getUInt32("AttributeId") );
+    	result.setWriteIndexRange( decoder.getString("WriteIndexRange") );
+    	result.setOverrideValueHandling( decoder.getEnumeration("OverrideValueHandling", OverrideValueHandling.class) );
+    	result.setOverrideValue( decoder.getVariant("OverrideValue") );
+    	return result;
+    }
+
+}
@@ -0,0 +1,79 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link GenericAttributes}.
+ *
+ * @see EncodeableSerializer
+ */
+public class GenericAttributesSerializer extends AbstractSerializer {
+
+    public GenericAttributesSerializer() {
+    	super(GenericAttributes.class, GenericAttributes.BINARY, GenericAttributes.XML, GenericAttributes.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	GenericAttributes obj = (GenericAttributes) encodeable;
+    	calculator.putUInt32(null, null /*obj.getSpecifiedAttributes()*/);
+    	calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
+    	calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
+    	calculator.putUInt32(null, null /*obj.getWriteMask()*/);
+    	calculator.putUInt32(null, null /*obj.getUserWriteMask()*/);
+    	calculator.putEncodeableArray(null, GenericAttributeValue.class, (obj==null)?null:obj.getAttributeValues());
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	GenericAttributes obj = (GenericAttributes) encodeable;
+    	encoder.putUInt32("SpecifiedAttributes",  (obj==null)?null:obj.getSpecifiedAttributes() );
+    	encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
+    	encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
+    	encoder.putUInt32("WriteMask",  (obj==null)?null:obj.getWriteMask() );
+    	encoder.putUInt32("UserWriteMask",  (obj==null)?null:obj.getUserWriteMask() );
+    	encoder.putEncodeableArray("AttributeValues", GenericAttributeValue.class, (obj==null)?null:obj.getAttributeValues());
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	GenericAttributes result = new GenericAttributes();
+    	result.setSpecifiedAttributes( decoder.getUInt32("SpecifiedAttributes") );
+    	result.setDisplayName( decoder.getLocalizedText("DisplayName") );
+    	result.setDescription( decoder.getLocalizedText("Description") );
+    	result.setWriteMask( decoder.getUInt32("WriteMask") );
+    	result.setUserWriteMask( decoder.getUInt32("UserWriteMask") );
+    	result.setAttributeValues( decoder.getEncodeableArray("AttributeValues", GenericAttributeValue.class) );
+    	return result;
+    }
+
+}
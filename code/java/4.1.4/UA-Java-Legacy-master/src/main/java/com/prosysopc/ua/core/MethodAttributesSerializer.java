@@ -0,0 +1,82 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link MethodAttributes}.
+ *
+ * @see EncodeableSerializer
+ */
+public class MethodAttributesSerializer extends AbstractSerializer {
+
+    public MethodAttributesSerializer() {
+    	super(MethodAttributes.class, MethodAttributes.BINARY, MethodAttributes.XML, MethodAttributes.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	MethodAttributes obj = (MethodAttributes) encodeable;
+    	calculator.putUInt32(null, null /*obj.getSpecifiedAttributes()*/);
+    	calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
+    	calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
+    	calculator.putUInt32(null, null /*obj.getWriteMask()*/);
+    	calculator.putUInt32(null, null /*obj.getUserWriteMask()*/);
+    	calculator.putBoolean(null, null /*obj.getExecutable()*/);
+    	calculator.putBoolean(null, null /*obj.getUserExecutable()*/);
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	MethodAttributes obj = (MethodAttributes) encodeable;
+    	encoder.putUInt32("SpecifiedAttributes",  (obj==null)?null:obj.getSpecifiedAttributes() );
+    	encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
+    	encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
+    	encoder.putUInt32("WriteMask",  (obj==null)?null:obj.getWriteMask() );
+    	encoder.putUInt32("UserWriteMask",  (obj==null)?null:obj.getUserWriteMask() );
+    	encoder.putBoolean("Executable",  (obj==null)?null:obj.getExecutable() );
+    	encoder.putBoolean("UserExecutable",  (obj==null)?null:obj.getUserExecutable() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	MethodAttributes result = new MethodAttributes();
+    	result.setSpecifiedAttributes( decoder.getUInt32("SpecifiedAttributes") );
+    	result.setDisplayName( decoder.getLocalizedText("DisplayName") );
+    	result.setDescription( decoder.getLocalizedText("Description") );
+    	result.setWriteMask( decoder.getUInt32("WriteMask") );
+    	result.setUserWriteMask( decoder.getUInt32("UserWriteMask") );
+    	result.setExecutable( decoder.getBoolean("Executable") );
+    	result.setUserExecutable( decoder.getBoolean("UserExecutable") );
+    	return result;
+    }
+
+}
@@ -0,0 +1,70 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link ModificationInfo}.
+ *
+ * @see EncodeableSerializer
+ */
+public class ModificationInfoSerializer extends AbstractSerializer {
+
+    public ModificationInfoSerializer() {
+    	super(ModificationInfo.class, ModificationInfo.BINARY, ModificationInfo.XML, ModificationInfo.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	ModificationInfo obj = (ModificationInfo) encodeable;
+    	calculator.putDateTime(null,  (obj==null)?null:obj.getModificationTime() );
+    	calculator.putEnumeration(null, null /*obj.getUpdateType()*/);
+    	calculator.putString(null,  (obj==null)?null:obj.getUserName() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	ModificationInfo obj = (ModificationInfo) encodeable;
+    	encoder.putDateTime("ModificationTime",  (obj==null)?null:obj.getModificationTime() );
+    	encoder.putEnumeration("UpdateType",  (obj==null)?null:obj.getUpdateType() );
+    	encoder.putString("UserName",  (obj==null)?null:obj.getUserName() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	ModificationInfo result = new ModificationInfo();
+    	result.setModificationTime( decoder.getDateTime("ModificationTime") );
+    	result.setUpdateType( decoder.getEnumeration("UpdateType", HistoryUpdateType.class) );
+    	result.setUserName( decoder.getString("UserName") );
+    	return result;
+    }
+
+}
@@ -0,0 +1,82 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link ModifySubscriptionRequest}.
+ *
+ * @see EncodeableSerializer
+ */
+public class ModifySubscriptionRequestSerializer extends AbstractSerializer {
+
+    public ModifySubscriptionRequestSerializer() {
+    	super(ModifySubscriptionRequest.class, ModifySubscriptionRequest.BINARY, ModifySubscriptionRequest.XML, ModifySubscriptionRequest.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	ModifySubscriptionRequest obj = (ModifySubscriptionRequest) encodeable;
+    	calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
+    	calculator.putUInt32(null, null /*obj.getSubscriptionId()*/);
+    	calculator.putDouble(null, null /*obj.getRequestedPublishingInterval()*/);
+    	calculator.putUInt32(null, null /*obj.getRequestedLifetimeCount()*/);
+    	calculator.putUInt32(null, null /*obj.getRequestedMaxKeepAliveCount()*/);
+    	calculator.putUInt32(null, null /*obj.getMaxNotificationsPerPublish()*/);
+    	calculator.putByte(null, null /*obj.getPriority()*/);
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	ModifySubscriptionRequest obj = (ModifySubscriptionRequest) encodeable;
+    	encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
+    	encoder.putUInt32("SubscriptionId",  (obj==null)?null:obj.getSubscriptionId() );
+    	encoder.putDouble("RequestedPublishingInterval",  (obj==null)?null:obj.getRequestedPublishingInterval() );
+    	encoder.putUInt32("RequestedLifetimeCount",  (obj==null)?null:obj.getRequestedLifetimeCount() );
+    	encoder.putUInt32("RequestedMaxKeepAliveCount",  (obj==null)?null:obj.getRequestedMaxKeepAliveCount() );
+    	encoder.putUInt32("MaxNotificationsPerPublish",  (obj==null)?null:obj.getMaxNotificationsPerPublish() );
+    	encoder.putByte("Priority",  (obj==null)?null:obj.getPriority() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	ModifySubscriptionRequest result = new ModifySubscriptionRequest();
+    	result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
+    	result.setSubscriptionId( decoder.getUInt32("SubscriptionId") );
+    	result.setRequestedPublishingInterval( decoder.getDouble("RequestedPublishingInterval") );
+    	result.setRequestedLifetimeCount( decoder.getUInt32("RequestedLifetimeCount") );
+    	result.setRequestedMaxKeepAliveCount( decoder.getUInt32("RequestedMaxKeepAliveCount") );
+    	result.setMaxNotificationsPerPublish( decoder.getUInt32("MaxNotificationsPerPublish") );
+    	result.setPriority( decoder.getByte("Priority") );
+    	return result;
+    }
+
+}
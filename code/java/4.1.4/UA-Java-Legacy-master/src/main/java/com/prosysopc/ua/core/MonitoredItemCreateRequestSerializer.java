@@ -0,0 +1,70 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link MonitoredItemCreateRequest}.
+ *
+ * @see EncodeableSerializer
+ */
+public class MonitoredItemCreateRequestSerializer extends AbstractSerializer {
+
+    public MonitoredItemCreateRequestSerializer() {
+    	super(MonitoredItemCreateRequest.class, MonitoredItemCreateRequest.BINARY, MonitoredItemCreateRequest.XML, MonitoredItemCreateRequest.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	MonitoredItemCreateRequest obj = (MonitoredItemCreateRequest) encodeable;
+    	calculator.putEncodeable(null, ReadValueId.class, (obj==null)?null:obj.getItemToMonitor());
+    	calculator.putEnumeration(null, null /*obj.getMonitoringMode()*/);
+    	calculator.putEncodeable(null, MonitoringParameters.class, (obj==null)?null:obj.getRequestedParameters());
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	MonitoredItemCreateRequest obj = (MonitoredItemCreateRequest) encodeable;
+    	encoder.putEncodeable("ItemToMonitor", ReadValueId.class, (obj==null)?null:obj.getItemToMonitor());
+    	encoder.putEnumeration("MonitoringMode",  (obj==null)?null:obj.getMonitoringMode() );
+    	encoder.putEncodeable("RequestedParameters", MonitoringParameters.class, (obj==null)?null:obj.getRequestedParameters());
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	MonitoredItemCreateRequest result = new MonitoredItemCreateRequest();
+    	result.setItemToMonitor( decoder.getEncodeable("ItemToMonitor", ReadValueId.class) );
+    	result.setMonitoringMode( decoder.getEnumeration("MonitoringMode", MonitoringMode.class) );
+    	result.setRequestedParameters( decoder.getEncodeable("RequestedParameters", MonitoringParameters.class) );
+    	return result;
+    }
+
+}
@@ -0,0 +1,79 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link OpenSecureChannelRequest}.
+ *
+ * @see EncodeableSerializer
+ */
+public class OpenSecureChannelRequestSerializer extends AbstractSerializer {
+
+    public OpenSecureChannelRequestSerializer() {
+    	super(OpenSecureChannelRequest.class, OpenSecureChannelRequest.BINARY, OpenSecureChannelRequest.XML, OpenSecureChannelRequest.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	OpenSecureChannelRequest obj = (OpenSecureChannelRequest) encodeable;
+    	calculator.putEncodeable(null, RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
+    	calculator.putUInt32(null, null /*obj.getClientProtocolVersion()*/);
+    	calculator.putEnumeration(null, null /*obj.getRequestType()*/);
+    	calculator.putEnumeration(null, null /*obj.getSecurityMode()*/);
+    	calculator.putByteString(null,  (obj==null)?null:obj.getClientNonce() );
+    	calculator.putUInt32(null, null /*obj.getRequestedLifetime()*/);
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	OpenSecureChannelRequest obj = (OpenSecureChannelRequest) encodeable;
+    	encoder.putEncodeable("RequestHeader", RequestHeader.class, (obj==null)?null:obj.getRequestHeader());
+    	encoder.putUInt32("ClientProtocolVersion",  (obj==null)?null:obj.getClientProtocolVersion() );
+    	encoder.putEnumeration("RequestType",  (obj==null)?null:obj.getRequestType() );
+    	encoder.putEnumeration("SecurityMode",  (obj==null)?null:obj.getSecurityMode() );
+    	encoder.putByteString("ClientNonce",  (obj==null)?null:obj.getClientNonce() );
+    	encoder.putUInt32("RequestedLifetime",  (obj==null)?null:obj.getRequestedLifetime() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	OpenSecureChannelRequest result = new OpenSecureChannelRequest();
+    	result.setRequestHeader( decoder.getEncodeable("RequestHeader", RequestHeader.class) );
+    	result.setClientProtocolVersion( decoder.getUInt32("ClientProtocolVersion") );
+    	result.setRequestType( decoder.getEnumeration("RequestType", SecurityTokenRequestType.class) );
+    	result.setSecurityMode( decoder.getEnumeration("SecurityMode", MessageSecurityMode.class) );
+    	result.setClientNonce( decoder.getByteString("ClientNonce") );
+    	result.setRequestedLifetime( decoder.getUInt32("RequestedLifetime") );
+    	return result;
+    }
+
+}
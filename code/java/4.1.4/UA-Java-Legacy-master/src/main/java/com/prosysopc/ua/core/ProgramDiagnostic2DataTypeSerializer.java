@@ -0,0 +1,97 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link ProgramDiagnostic2DataType}.
+ *
+ * @see EncodeableSerializer
+ */
+public class ProgramDiagnostic2DataTypeSerializer extends AbstractSerializer {
+
+    public ProgramDiagnostic2DataTypeSerializer() {
+    	super(ProgramDiagnostic2DataType.class, ProgramDiagnostic2DataType.BINARY, ProgramDiagnostic2DataType.XML, ProgramDiagnostic2DataType.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	ProgramDiagnostic2DataType obj = (ProgramDiagnostic2DataType) encodeable;
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getCreateSessionId() );
+    	calculator.putString(null,  (obj==null)?null:obj.getCreateClientName() );
+    	calculator.putDateTime(null,  (obj==null)?null:obj.getInvocationCreationTime() );
+    	calculator.putDateTime(null,  (obj==null)?null:obj.getLastTransitionTime() );
+    	calculator.putString(null,  (obj==null)?null:obj.getLastMethodCall() );
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getLastMethodSessionId() );
+    	calculator.putEncodeableArray(null, Argument.class, (obj==null)?null:obj.getLastMethodInputArguments());
+    	calculator.putEncodeableArray(null, Argument.class, (obj==null)?null:obj.getLastMethodOutputArguments());
+    	calculator.putVariantArray(null, ((obj==null)?null:obj.getLastMethodInputValues()) );
+    	calculator.putVariantArray(null, ((obj==null)?null:obj.getLastMethodOutputValues()) );
+    	calculator.putDateTime(null,  (obj==null)?null:obj.getLastMethodCallTime() );
+    	calculator.putEncodeable(null, StatusResult.class, (obj==null)?null:obj.getLastMethodReturnStatus());
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	ProgramDiagnostic2DataType obj = (ProgramDiagnostic2DataType) encodeable;
+    	encoder.putNodeId("CreateSessionId",  (obj==null)?null:obj.getCreateSessionId() );
+    	encoder.putString("CreateClientName",  (obj==null)?null:obj.getCreateClientName() );
+    	encoder.putDateTime("InvocationCreationTime",  (obj==null)?null:obj.getInvocationCreationTime() );
+    	encoder.putDateTime("LastTransitionTime",  (obj==null)?null:obj.getLastTransitionTime() );
+    	encoder.putString("LastMethodCall",  (obj==null)?null:obj.getLastMethodCall() );
+    	encoder.putNodeId("LastMethodSessionId",  (obj==null)?null:obj.getLastMethodSessionId() );
+    	encoder.putEncodeableArray("LastMethodInputArguments", Argument.class, (obj==null)?null:obj.getLastMethodInputArguments());
+    	encoder.putEncodeableArray("LastMethodOutputArguments", Argument.class, (obj==null)?null:obj.getLastMethodOutputArguments());
+    	encoder.putVariantArray("LastMethodInputValues", (obj==null)?null:obj.getLastMethodInputValues() );
+    	encoder.putVariantArray("LastMethodOutputValues", (obj==null)?null:obj.getLastMethodOutputValues() );
+    	encoder.putDateTime("LastMethodCallTime",  (obj==null)?null:obj.getLastMethodCallTime() );
+    	encoder.putEncodeable("LastMethodReturnStatus", StatusResult.class, (obj==null)?null:obj.getLastMethodReturnStatus());
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	ProgramDiagnostic2DataType result = new ProgramDiagnostic2DataType();
+    	result.setCreateSessionId( decoder.getNodeId("CreateSessionId") );
+    	result.setCreateClientName( decoder.getString("CreateClientName") );
+    	result.setInvocationCreationTime( decoder.getDateTime("InvocationCreationTime") );
+    	result.setLastTransitionTime( decoder.getDateTime("LastTransitionTime") );
+    	result.setLastMethodCall( decoder.getString("LastMethodCall") );
+    	result.setLastMethodSessionId( decoder.getNodeId("LastMethodSessionId") );
+    	result.setLastMethodInputArguments( decoder.getEncodeableArray("LastMethodInputArguments", Argument.class) );
+    	result.setLastMethodOutputArguments( decoder.getEncodeableArray("LastMethodOutputArguments", Argument.class) );
+    	result.setLastMethodInputValues( decoder.getVariantArray("LastMethodInputValues") );
+    	result.setLastMethodOutputValues( decoder.getVariantArray("LastMethodOutputValues") );
+    	result.setLastMethodCallTime( decoder.getDateTime("LastMethodCallTime") );
+    	result.setLastMethodReturnStatus( decoder.getEncodeable("LastMethodReturnStatus", StatusResult.class) );
+    	return result;
+    }
+
+}
@@ -0,0 +1,88 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link PubSubConnectionDataType}.
+ *
+ * @see EncodeableSerializer
+ */
+public class PubSubConnectionDataTypeSerializer extends AbstractSerializer {
+
+    public PubSubConnectionDataTypeSerializer() {
+    	super(PubSubConnectionDataType.class, PubSubConnectionDataType.BINARY, PubSubConnectionDataType.XML, PubSubConnectionDataType.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	PubSubConnectionDataType obj = (PubSubConnectionDataType) encodeable;
+    	calculator.putString(null,  (obj==null)?null:obj.getName() );
+    	calculator.putBoolean(null, null /*obj.getEnabled()*/);
+    	calculator.putVariant(null,  (obj==null)?null:obj.getPublisherId() );
+    	calculator.putString(null,  (obj==null)?null:obj.getTransportProfileUri() );
+    	calculator.putExtensionObject(null,  (obj==null)?null:obj.getAddress() );
+    	calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getConnectionProperties());
+    	calculator.putExtensionObject(null,  (obj==null)?null:obj.getTransportSettings() );
+    	calculator.putEncodeableArray(null, WriterGroupDataType.class, (obj==null)?null:obj.getWriterGroups());
+    	calculator.putEncodeableArray(null, ReaderGroupDataType.class, (obj==null)?null:obj.getReaderGroups());
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	PubSubConnectionDataType obj = (PubSubConnectionDataType) encodeable;
+    	encoder.putString("Name",  (obj==null)?null:obj.getName() );
+    	encoder.putBoolean("Enabled",  (obj==null)?null:obj.getEnabled() );
+    	encoder.putVariant("PublisherId",  (obj==null)?null:obj.getPublisherId() );
+    	encoder.putString("TransportProfileUri",  (obj==null)?null:obj.getTransportProfileUri() );
+    	encoder.putExtensionObject("Address",  (obj==null)?null:obj.getAddress() );
+    	encoder.putEncodeableArray("ConnectionProperties", KeyValuePair.class, (obj==null)?null:obj.getConnectionProperties());
+    	encoder.putExtensionObject("TransportSettings",  (obj==null)?null:obj.getTransportSettings() );
+    	encoder.putEncodeableArray("WriterGroups", WriterGroupDataType.class, (obj==null)?null:obj.getWriterGroups());
+    	encoder.putEncodeableArray("ReaderGroups", ReaderGroupDataType.class, (obj==null)?null:obj.getReaderGroups());
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	PubSubConnectionDataType result = new PubSubConnectionDataType();
+    	result.setName( decoder.getString("Name") );
+    	result.setEnabled( decoder.getBoolean("Enabled") );
+    	result.setPublisherId( decoder.getVariant("PublisherId") );
+    	result.setTransportProfileUri( decoder.getString("TransportProfileUri") );
+    	result.setAddress( decoder.getExtensionObject("Address") );
+    	result.setConnectionProperties( decoder.getEncodeableArray("ConnectionProperties", KeyValuePair.class) );
+    	result.setTransportSettings( decoder.getExtensionObject("TransportSettings") );
+    	result.setWriterGroups( decoder.getEncodeableArray("WriterGroups", WriterGroupDataType.class) );
+    	result.setReaderGroups( decoder.getEncodeableArray("ReaderGroups", ReaderGroupDataType.class) );
+    	return result;
+    }
+
+}
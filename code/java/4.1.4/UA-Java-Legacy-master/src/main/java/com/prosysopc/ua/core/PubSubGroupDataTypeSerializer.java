@@ -0,0 +1,82 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link PubSubGroupDataType}.
+ *
+ * @see EncodeableSerializer
+ */
+public class PubSubGroupDataTypeSerializer extends AbstractSerializer {
+
+    public PubSubGroupDataTypeSerializer() {
+    	super(PubSubGroupDataType.class, PubSubGroupDataType.BINARY, PubSubGroupDataType.XML, PubSubGroupDataType.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	PubSubGroupDataType obj = (PubSubGroupDataType) encodeable;
+    	calculator.putString(null,  (obj==null)?null:obj.getName() );
+    	calculator.putBoolean(null, null /*obj.getEnabled()*/);
+    	calculator.putEnumeration(null, null /*obj.getSecurityMode()*/);
+    	calculator.putString(null,  (obj==null)?null:obj.getSecurityGroupId() );
+    	calculator.putEncodeableArray(null, EndpointDescription.class, (obj==null)?null:obj.getSecurityKeyServices());
+    	calculator.putUInt32(null, null /*obj.getMaxNetworkMessageSize()*/);
+    	calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getGroupProperties());
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	PubSubGroupDataType obj = (PubSubGroupDataType) encodeable;
+    	encoder.putString("Name",  (obj==null)?null:obj.getName() );
+    	encoder.putBoolean("Enabled",  (obj==null)?null:obj.getEnabled() );
+    	encoder.putEnumeration("SecurityMode",  (obj==null)?null:obj.getSecurityMode() );
+    	encoder.putString("SecurityGroupId",  (obj==null)?null:obj.getSecurityGroupId() );
+    	encoder.putEncodeableArray("SecurityKeyServices", EndpointDescription.class, (obj==null)?null:obj.getSecurityKeyServices());
+    	encoder.putUInt32("MaxNetworkMessageSize",  (obj==null)?null:obj.getMaxNetworkMessageSize() );
+    	encoder.putEncodeableArray("GroupProperties", KeyValuePair.class, (obj==null)?null:obj.getGroupProperties());
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	PubSubGroupDataType result = new PubSubGroupDataType();
+    	result.setName( decoder.getString("Name") );
+    	result.setEnabled( decoder.getBoolean("Enabled") );
+    	result.setSecurityMode( decoder.getEnumeration("SecurityMode", MessageSecurityMode.class) );
+    	result.setSecurityGroupId( decoder.getString("SecurityGroupId") );
+    	result.setSecurityKeyServices( decoder.getEncodeableArray("SecurityKeyServices", EndpointDescription.class) );
+    	result.setMaxNetworkMessageSize( decoder.getUInt32("MaxNetworkMessageSize") );
+    	result.setGroupProperties( decoder.getEncodeableArray("GroupProperties", KeyValuePair.class) );
+    	return result;
+    }
+
+}
@@ -0,0 +1,85 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link PublishedVariableDataType}.
+ *
+ * @see EncodeableSerializer
+ */
+public class PublishedVariableDataTypeSerializer extends AbstractSerializer {
+
+    public PublishedVariableDataTypeSerializer() {
+    	super(PublishedVariableDataType.class, PublishedVariableDataType.BINARY, PublishedVariableDataType.XML, PublishedVariableDataType.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	PublishedVariableDataType obj = (PublishedVariableDataType) encodeable;
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getPublishedVariable() );
+    	calculator.putUInt32(null, null /*obj.getAttributeId()*/);
+    	calculator.putDouble(null, null /*obj.getSamplingIntervalHint()*/);
+    	calculator.putUInt32(null, null /*obj.getDeadbandType()*/);
+    	calculator.putDouble(null, null /*obj.getDeadbandValue()*/);
+    	calculator.putString(null,  (obj==null)?null:obj.getIndexRange() );
+    	calculator.putVariant(null,  (obj==null)?null:obj.getSubstituteValue() );
+    	calculator.putQualifiedNameArray(null, ((obj==null)?null:obj.getMetaDataProperties()) );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	PublishedVariableDataType obj = (PublishedVariableDataType) encodeable;
+    	encoder.putNodeId("PublishedVariable",  (obj==null)?null:obj.getPublishedVariable() );
+    	encoder.putUInt32("AttributeId",  (obj==null)?null:obj.getAttributeId() );
+    	encoder.putDouble("SamplingIntervalHint",  (obj==null)?null:obj.getSamplingIntervalHint() );
+    	encoder.putUInt32("DeadbandType",  (obj==null)?null:obj.getDeadbandType() );
+    	encoder.putDouble("DeadbandValue",  (obj==null)?null:obj.getDeadbandValue() );
+    	encoder.putString("IndexRange",  (obj==null)?null:obj.getIndexRange() );
+    	encoder.putVariant("SubstituteValue",  (obj==null)?null:obj.getSubstituteValue() );
+    	encoder.putQualifiedNameArray("MetaDataProperties", (obj==null)?null:obj.getMetaDataProperties() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	PublishedVariableDataType result = new PublishedVariableDataType();
+    	result.setPublishedVariable( decoder.getNodeId("PublishedVariable") );
+    	result.setAttributeId( decoder.getUInt32("AttributeId") );
+    	result.setSamplingIntervalHint( decoder.getDouble("SamplingIntervalHint") );
+    	result.setDeadbandType( decoder.getUInt32("DeadbandType") );
+    	result.setDeadbandValue( decoder.getDouble("DeadbandValue") );
+    	result.setIndexRange( decoder.getString("IndexRange") );
+    	result.setSubstituteValue( decoder.getVariant("SubstituteValue") );
+    	result.setMetaDataProperties( decoder.getQualifiedNameArray("MetaDataProperties") );
+    	return result;
+    }
+
+}
@@ -0,0 +1,70 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link QueryDataDescription}.
+ *
+ * @see EncodeableSerializer
+ */
+public class QueryDataDescriptionSerializer extends AbstractSerializer {
+
+    public QueryDataDescriptionSerializer() {
+    	super(QueryDataDescription.class, QueryDataDescription.BINARY, QueryDataDescription.XML, QueryDataDescription.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	QueryDataDescription obj = (QueryDataDescription) encodeable;
+    	calculator.putEncodeable(null, RelativePath.class, (obj==null)?null:obj.getRelativePath());
+    	calculator.putUInt32(null, null /*obj.getAttributeId()*/);
+    	calculator.putString(null,  (obj==null)?null:obj.getIndexRange() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	QueryDataDescription obj = (QueryDataDescription) encodeable;
+    	encoder.putEncodeable("RelativePath", RelativePath.class, (obj==null)?null:obj.getRelativePath());
+    	encoder.putUInt32("AttributeId",  (obj==null)?null:obj.getAttributeId() );
+    	encoder.putString("IndexRange",  (obj==null)?null:obj.getIndexRange() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	QueryDataDescription result = new QueryDataDescription();
+    	result.setRelativePath( decoder.getEncodeable("RelativePath", RelativePath.class) );
+    	result.setAttributeId( decoder.getUInt32("AttributeId") );
+    	result.setIndexRange( decoder.getString("IndexRange") );
+    	return result;
+    }
+
+}
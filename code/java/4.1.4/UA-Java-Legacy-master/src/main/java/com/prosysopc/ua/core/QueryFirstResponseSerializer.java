@@ -0,0 +1,79 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link QueryFirstResponse}.
+ *
+ * @see EncodeableSerializer
+ */
+public class QueryFirstResponseSerializer extends AbstractSerializer {
+
+    public QueryFirstResponseSerializer() {
+    	super(QueryFirstResponse.class, QueryFirstResponse.BINARY, QueryFirstResponse.XML, QueryFirstResponse.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	QueryFirstResponse obj = (QueryFirstResponse) encodeable;
+    	calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
+    	calculator.putEncodeableArray(null, QueryDataSet.class, (obj==null)?null:obj.getQueryDataSets());
+    	calculator.putByteString(null,  (obj==null)?null:obj.getContinuationPoint() );
+    	calculator.putEncodeableArray(null, ParsingResult.class, (obj==null)?null:obj.getParsingResults());
+    	calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getDiagnosticInfos()) );
+    	calculator.putEncodeable(null, ContentFilterResult.class, (obj==null)?null:obj.getFilterResult());
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	QueryFirstResponse obj = (QueryFirstResponse) encodeable;
+    	encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
+    	encoder.putEncodeableArray("QueryDataSets", QueryDataSet.class, (obj==null)?null:obj.getQueryDataSets());
+    	encoder.putByteString("ContinuationPoint",  (obj==null)?null:obj.getContinuationPoint() );
+    	encoder.putEncodeableArray("ParsingResults", ParsingResult.class, (obj==null)?null:obj.getParsingResults());
+    	encoder.putDiagnosticInfoArray("DiagnosticInfos", (obj==null)?null:obj.getDiagnosticInfos() );
+    	encoder.putEncodeable("FilterResult", ContentFilterResult.class, (obj==null)?null:obj.getFilterResult());
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	QueryFirstResponse result = new QueryFirstResponse();
+    	result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
+    	result.setQueryDataSets( decoder.getEncodeableArray("QueryDataSets", QueryDataSet.class) );
+    	result.setContinuationPoint( decoder.getByteString("ContinuationPoint") );
+    	result.setParsingResults( decoder.getEncodeableArray("ParsingResults", ParsingResult.class) );
+    	result.setDiagnosticInfos( decoder.getDiagnosticInfoArray("DiagnosticInfos") );
+    	result.setFilterResult( decoder.getEncodeable("FilterResult", ContentFilterResult.class) );
+    	return result;
+    }
+
+}
@@ -0,0 +1,82 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link ReferenceDescription}.
+ *
+ * @see EncodeableSerializer
+ */
+public class ReferenceDescriptionSerializer extends AbstractSerializer {
+
+    public ReferenceDescriptionSerializer() {
+    	super(ReferenceDescription.class, ReferenceDescription.BINARY, ReferenceDescription.XML, ReferenceDescription.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	ReferenceDescription obj = (ReferenceDescription) encodeable;
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getReferenceTypeId() );
+    	calculator.putBoolean(null, null /*obj.getIsForward()*/);
+    	calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getNodeId() );
+    	calculator.putQualifiedName(null,  (obj==null)?null:obj.getBrowseName() );
+    	calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
+    	calculator.putEnumeration(null, null /*obj.getNodeClass()*/);
+    	calculator.putExpandedNodeId(null,  (obj==null)?null:obj.getTypeDefinition() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	ReferenceDescription obj = (ReferenceDescription) encodeable;
+    	encoder.putNodeId("ReferenceTypeId",  (obj==null)?null:obj.getReferenceTypeId() );
+    	encoder.putBoolean("IsForward",  (obj==null)?null:obj.getIsForward() );
+    	encoder.putExpandedNodeId("NodeId",  (obj==null)?null:obj.getNodeId() );
+    	encoder.putQualifiedName("BrowseName",  (obj==null)?null:obj.getBrowseName() );
+    	encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
+    	encoder.putEnumeration("NodeClass",  (obj==null)?null:obj.getNodeClass() );
+    	encoder.putExpandedNodeId("TypeDefinition",  (obj==null)?null:obj.getTypeDefinition() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	ReferenceDescription result = new ReferenceDescription();
+    	result.setReferenceTypeId( decoder.getNodeId("ReferenceTypeId") );
+    	result.setIsForward( decoder.getBoolean("IsForward") );
+    	result.setNodeId( decoder.getExpandedNodeId("NodeId") );
+    	result.setBrowseName( decoder.getQualifiedName("BrowseName") );
+    	result.setDisplayName( decoder.getLocalizedText("DisplayName") );
+    	result.setNodeClass( decoder.getEnumeration("NodeClass", NodeClass.class) );
+    	result.setTypeDefinition( decoder.getExpandedNodeId("TypeDefinition") );
+    	return result;
+    }
+
+}
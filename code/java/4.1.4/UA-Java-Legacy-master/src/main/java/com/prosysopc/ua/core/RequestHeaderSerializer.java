@@ -0,0 +1,82 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link RequestHeader}.
+ *
+ * @see EncodeableSerializer
+ */
+public class RequestHeaderSerializer extends AbstractSerializer {
+
+    public RequestHeaderSerializer() {
+    	super(RequestHeader.class, RequestHeader.BINARY, RequestHeader.XML, RequestHeader.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	RequestHeader obj = (RequestHeader) encodeable;
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getAuthenticationToken() );
+    	calculator.putDateTime(null,  (obj==null)?null:obj.getTimestamp() );
+    	calculator.putUInt32(null, null /*obj.getRequestHandle()*/);
+    	calculator.putUInt32(null, null /*obj.getReturnDiagnostics()*/);
+    	calculator.putString(null,  (obj==null)?null:obj.getAuditEntryId() );
+    	calculator.putUInt32(null, null /*obj.getTimeoutHint()*/);
+    	calculator.putExtensionObject(null,  (obj==null)?null:obj.getAdditionalHeader() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	RequestHeader obj = (RequestHeader) encodeable;
+    	encoder.putNodeId("AuthenticationToken",  (obj==null)?null:obj.getAuthenticationToken() );
+    	encoder.putDateTime("Timestamp",  (obj==null)?null:obj.getTimestamp() );
+    	encoder.putUInt32("RequestHandle",  (obj==null)?null:obj.getRequestHandle() );
+    	encoder.putUInt32("ReturnDiagnostics",  (obj==null)?null:obj.getReturnDiagnostics() );
+    	encoder.putString("AuditEntryId",  (obj==null)?null:obj.getAuditEntryId() );
+    	encoder.putUInt32("TimeoutHint",  (obj==null)?null:obj.getTimeoutHint() );
+    	encoder.putExtensionObject("AdditionalHeader",  (obj==null)?null:obj.getAdditionalHeader() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	RequestHeader result = new RequestHeader();
+    	result.setAuthenticationToken( decoder.getNodeId("AuthenticationToken") );
+    	result.setTimestamp( decoder.getDateTime("Timestamp") );
+    	result.setRequestHandle( decoder.getUInt32("RequestHandle") );
+    	result.setReturnDiagnostics( decoder.getUInt32("ReturnDiagnostics") );
+    	result.setAuditEntryId( decoder.getString("AuditEntryId") );
+    	result.setTimeoutHint( decoder.getUInt32("TimeoutHint") );
+    	result.setAdditionalHeader( decoder.getExtensionObject("AdditionalHeader") );
+    	return result;
+    }
+
+}
@@ -0,0 +1,81 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+import com.prosysopc.ua.encoding.binary.DecoderUtils;
+
+
+/**
+ * Code-generated serializer of {@link ResponseHeader}.
+ *
+ * @see EncodeableSerializer
+ */
+public class ResponseHeaderSerializer extends AbstractSerializer {
+
+    public ResponseHeaderSerializer() {
+    	super(ResponseHeader.class, ResponseHeader.BINARY, ResponseHeader.XML, ResponseHeader.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	ResponseHeader obj = (ResponseHeader) encodeable;
+    	calculator.putDateTime(null,  (obj==null)?null:obj.getTimestamp() );
+    	calculator.putUInt32(null, null /*obj.getRequestHandle()*/);
+    	calculator.putStatusCode(null,  (obj==null)?null:obj.getServiceResult() );
+    	calculator.putDiagnosticInfo(null,  (obj==null)?null:obj.getServiceDiagnostics() );
+    	calculator.putStringArray(null, ((obj==null)?null:obj.getStringTable()) );
+    	calculator.putExtensionObject(null,  (obj==null)?null:obj.getAdditionalHeader() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	ResponseHeader obj = (ResponseHeader) encodeable;
+    	encoder.putDateTime("Timestamp",  (obj==null)?null:obj.getTimestamp() );
+    	encoder.putUInt32("RequestHandle",  (obj==null)?null:obj.getRequestHandle() );
+    	encoder.putStatusCode("ServiceResult",  (obj==null)?null:obj.getServiceResult() );
+    	encoder.putDiagnosticInfo("ServiceDiagnostics",  (obj==null)?null:obj.getServiceDiagnostics() );
+    	encoder.putStringArray("StringTable", (obj==null)?null:obj.getStringTable() );
+    	encoder.putExtensionObject("AdditionalHeader",  (obj==null)?null:obj.getAdditionalHeader() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	ResponseHeader result = new ResponseHeader();
+    	result.setTimestamp( decoder.getDateTime("Timestamp") );
+    	result.setRequestHandle( decoder.getUInt32("RequestHandle") );
+    	result.setServiceResult( decoder.getStatusCode("ServiceResult") );
+    	result.setServiceDiagnostics( decoder.getDiagnosticInfo("ServiceDiagnostics") );
+    	result.setStringTable( decoder.getStringArray("StringTable") );
+    	result.setAdditionalHeader( decoder.getExtensionObject("AdditionalHeader") );
+    	DecoderUtils.fixResponseHeader(result);
+    	return result;
+    }
+
+}
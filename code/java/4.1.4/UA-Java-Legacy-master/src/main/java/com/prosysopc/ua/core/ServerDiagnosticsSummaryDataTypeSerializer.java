@@ -0,0 +1,97 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link ServerDiagnosticsSummaryDataType}.
+ *
+ * @see EncodeableSerializer
+ */
+public class ServerDiagnosticsSummaryDataTypeSerializer extends AbstractSerializer {
+
+    public ServerDiagnosticsSummaryDataTypeSerializer() {
+    	super(ServerDiagnosticsSummaryDataType.class, ServerDiagnosticsSummaryDataType.BINARY, ServerDiagnosticsSummaryDataType.XML, ServerDiagnosticsSummaryDataType.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	ServerDiagnosticsSummaryDataType obj = (ServerDiagnosticsSummaryDataType) encodeable;
+    	calculator.putUInt32(null, null /*obj.getServerViewCount()*/);
+    	calculator.putUInt32(null, null /*obj.getCurrentSessionCount()*/);
+    	calculator.putUInt32(null, null /*obj.getCumulatedSessionCount()*/);
+    	calculator.putUInt32(null, null /*obj.getSecurityRejectedSessionCount()*/);
+    	calculator.putUInt32(null, null /*obj.getRejectedSessionCount()*/);
+    	calculator.putUInt32(null, null /*obj.getSessionTimeoutCount()*/);
+    	calculator.putUInt32(null, null /*obj.getSessionAbortCount()*/);
+    	calculator.putUInt32(null, null /*obj.getCurrentSubscriptionCount()*/);
+    	calculator.putUInt32(null, null /*obj.getCumulatedSubscriptionCount()*/);
+    	calculator.putUInt32(null, null /*obj.getPublishingIntervalCount()*/);
+    	calculator.putUInt32(null, null /*obj.getSecurityRejectedRequestsCount()*/);
+    	calculator.putUInt32(null, null /*obj.getRejectedRequestsCount()*/);
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	ServerDiagnosticsSummaryDataType obj = (ServerDiagnosticsSummaryDataType) encodeable;
+    	encoder.putUInt32("ServerViewCount",  (obj==null)?null:obj.getServerViewCount() );
+    	encoder.putUInt32("CurrentSessionCount",  (obj==null)?null:obj.getCurrentSessionCount() );
+    	encoder.putUInt32("CumulatedSessionCount",  (obj==null)?null:obj.getCumulatedSessionCount() );
+    	encoder.putUInt32("SecurityRejectedSessionCount",  (obj==null)?null:obj.getSecurityRejectedSessionCount() );
+    	encoder.putUInt32("RejectedSessionCount",  (obj==null)?null:obj.getRejectedSessionCount() );
+    	encoder.putUInt32("SessionTimeoutCount",  (obj==null)?null:obj.getSessionTimeoutCount() );
+    	encoder.putUInt32("SessionAbortCount",  (obj==null)?null:obj.getSessionAbortCount() );
+    	encoder.putUInt32("CurrentSubscriptionCount",  (obj==null)?null:obj.getCurrentSubscriptionCount() );
+    	encoder.putUInt32("CumulatedSubscriptionCount",  (obj==null)?null:obj.getCumulatedSubscriptionCount() );
+    	encoder.putUInt32("PublishingIntervalCount",  (obj==null)?null:obj.getPublishingIntervalCount() );
+    	encoder.putUInt32("SecurityRejectedRequestsCount",  (obj==null)?null:obj.getSecurityRejectedRequestsCount() );
+    	encoder.putUInt32("RejectedRequestsCount",  (obj==null)?null:obj.getRejectedRequestsCount() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	ServerDiagnosticsSummaryDataType result = new ServerDiagnosticsSummaryDataType();
+    	result.setServerViewCount( decoder.getUInt32("ServerViewCount") );
+    	result.setCurrentSessionCount( decoder.getUInt32("CurrentSessionCount") );
+    	result.setCumulatedSessionCount( decoder.getUInt32("CumulatedSessionCount") );
+    	result.setSecurityRejectedSessionCount( decoder.getUInt32("SecurityRejectedSessionCount") );
+    	result.setRejectedSessionCount( decoder.getUInt32("RejectedSessionCount") );
+    	result.setSessionTimeoutCount( decoder.getUInt32("SessionTimeoutCount") );
+    	result.setSessionAbortCount( decoder.getUInt32("SessionAbortCount") );
+    	result.setCurrentSubscriptionCount( decoder.getUInt32("CurrentSubscriptionCount") );
+    	result.setCumulatedSubscriptionCount( decoder.getUInt32("CumulatedSubscriptionCount") );
+    	result.setPublishingIntervalCount( decoder.getUInt32("PublishingIntervalCount") );
+    	result.setSecurityRejectedRequestsCount( decoder.getUInt32("SecurityRejectedRequestsCount") );
+    	result.setRejectedRequestsCount( decoder.getUInt32("RejectedRequestsCount") );
+    	return result;
+    }
+
+}
@@ -0,0 +1,190 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link SessionDiagnosticsDataType}.
+ *
+ * @see EncodeableSerializer
+ */
+public class SessionDiagnosticsDataTypeSerializer extends AbstractSerializer {
+
+    public SessionDiagnosticsDataTypeSerializer() {
+    	super(SessionDiagnosticsDataType.class, SessionDiagnosticsDataType.BINARY, SessionDiagnosticsDataType.XML, SessionDiagnosticsDataType.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	SessionDiagnosticsDataType obj = (SessionDiagnosticsDataType) encodeable;
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getSessionId() );
+    	calculator.putString(null,  (obj==null)?null:obj.getSessionName() );
+    	calculator.putEncodeable(null, ApplicationDescription.class, (obj==null)?null:obj.getClientDescription());
+    	calculator.putString(null,  (obj==null)?null:obj.getServerUri() );
+    	calculator.putString(null,  (obj==null)?null:obj.getEndpointUrl() );
+    	calculator.putStringArray(null, ((obj==null)?null:obj.getLocaleIds()) );
+    	calculator.putDouble(null, null /*obj.getActualSessionTimeout()*/);
+    	calculator.putUInt32(null, null /*obj.getMaxResponseMessageSize()*/);
+    	calculator.putDateTime(null,  (obj==null)?null:obj.getClientConnectionTime() );
+    	calculator.putDateTime(null,  (obj==null)?null:obj.getClientLastContactTime() );
+    	calculator.putUInt32(null, null /*obj.getCurrentSubscriptionsCount()*/);
+    	calculator.putUInt32(null, null /*obj.getCurrentMonitoredItemsCount()*/);
+    	calculator.putUInt32(null, null /*obj.getCurrentPublishRequestsInQueue()*/);
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getTotalRequestCount());
+    	calculator.putUInt32(null, null /*obj.getUnauthorizedRequestCount()*/);
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getReadCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getHistoryReadCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getWriteCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getHistoryUpdateCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getCallCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getCreateMonitoredItemsCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getModifyMonitoredItemsCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getSetMonitoringModeCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getSetTriggeringCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteMonitoredItemsCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getCreateSubscriptionCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getModifySubscriptionCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getSetPublishingModeCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getPublishCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getRepublishCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getTransferSubscriptionsCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteSubscriptionsCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getAddNodesCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getAddReferencesCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteNodesCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteReferencesCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getBrowseCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getBrowseNextCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getTranslateBrowsePathsToNodeIdsCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getQueryFirstCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getQueryNextCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getRegisterNodesCount());
+    	calculator.putEncodeable(null, ServiceCounterDataType.class, (obj==null)?null:obj.getUnregisterNodesCount());
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	SessionDiagnosticsDataType obj = (SessionDiagnosticsDataType) encodeable;
+    	encoder.putNodeId("SessionId",  (obj==null)?null:obj.getSessionId() );
+    	encoder.putString("SessionName",  (obj==null)?null:obj.getSessionName() );
+    	encoder.putEncodeable("ClientDescription", ApplicationDescription.class, (obj==null)?null:obj.getClientDescription());
+    	encoder.putString("ServerUri",  (obj==null)?null:obj.getServerUri() );
+    	encoder.putString("EndpointUrl",  (obj==null)?null:obj.getEndpointUrl() );
+    	encoder.putStringArray("LocaleIds", (obj==null)?null:obj.getLocaleIds() );
+    	encoder.putDouble("ActualSessionTimeout",  (obj==null)?null:obj.getActualSessionTimeout() );
+    	encoder.putUInt32("MaxResponseMessageSize",  (obj==null)?null:obj.getMaxResponseMessageSize() );
+    	encoder.putDateTime("ClientConnectionTime",  (obj==null)?null:obj.getClientConnectionTime() );
+    	encoder.putDateTime("ClientLastContactTime",  (obj==null)?null:obj.getClientLastContactTime() );
+    	encoder.putUInt32("CurrentSubscriptionsCount",  (obj==null)?null:obj.getCurrentSubscriptionsCount() );
+    	encoder.putUInt32("CurrentMonitoredItemsCount",  (obj==null)?null:obj.getCurrentMonitoredItemsCount() );
+    	encoder.putUInt32("CurrentPublishRequestsInQueue",  (obj==null)?null:obj.getCurrentPublishRequestsInQueue() );
+    	encoder.putEncodeable("TotalRequestCount", ServiceCounterDataType.class, (obj==null)?null:obj.getTotalRequestCount());
+    	encoder.putUInt32("UnauthorizedRequestCount",  (obj==null)?null:obj.getUnauthorizedRequestCount() );
+    	encoder.putEncodeable("ReadCount", ServiceCounterDataType.class, (obj==null)?null:obj.getReadCount());
+    	encoder.putEncodeable("HistoryReadCount", ServiceCounterDataType.class, (obj==null)?null:obj.getHistoryReadCount());
+    	encoder.putEncodeable("WriteCount", ServiceCounterDataType.class, (obj==null)?null:obj.getWriteCount());
+    	encoder.putEncodeable("HistoryUpdateCount", ServiceCounterDataType.class, (obj==null)?null:obj.getHistoryUpdateCount());
+    	encoder.putEncodeable("CallCount", ServiceCounterDataType.class, (obj==null)?null:obj.getCallCount());
+    	encoder.putEncodeable("CreateMonitoredItemsCount", ServiceCounterDataType.class, (obj==null)?null:obj.getCreateMonitoredItemsCount());
+    	encoder.putEncodeable("ModifyMonitoredItemsCount", ServiceCounterDataType.class, (obj==null)?null:obj.getModifyMonitoredItemsCount());
+    	encoder.putEncodeable("SetMonitoringModeCount", ServiceCounterDataType.class, (obj==null)?null:obj.getSetMonitoringModeCount());
+    	encoder.putEncodeable("SetTriggeringCount", ServiceCounterDataType.class, (obj==null)?null:obj.getSetTriggeringCount());
+    	encoder.putEncodeable("DeleteMonitoredItemsCount", ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteMonitoredItemsCount());
+    	encoder.putEncodeable("CreateSubscriptionCount", ServiceCounterDataType.class, (obj==null)?null:obj.getCreateSubscriptionCount());
+    	encoder.putEncodeable("ModifySubscriptionCount", ServiceCounterDataType.class, (obj==null)?null:obj.getModifySubscriptionCount());
+    	encoder.putEncodeable("SetPublishingModeCount", ServiceCounterDataType.class, (obj==null)?null:obj.getSetPublishingModeCount());
+    	encoder.putEncodeable("PublishCount", ServiceCounterDataType.class, (obj==null)?null:obj.getPublishCount());
+    	encoder.putEncodeable("RepublishCount", ServiceCounterDataType.class, (obj==null)?null:obj.getRepublishCount());
+    	encoder.putEncodeable("TransferSubscriptionsCount", ServiceCounterDataType.class, (obj==null)?null:obj.getTransferSubscriptionsCount());
+    	encoder.putEncodeable("DeleteSubscriptionsCount", ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteSubscriptionsCount());
+    	encoder.putEncodeable("AddNodesCount", ServiceCounterDataType.class, (obj==null)?null:obj.getAddNodesCount());
+    	encoder.putEncodeable("AddReferencesCount", ServiceCounterDataType.class, (obj==null)?null:obj.getAddReferencesCount());
+    	encoder.putEncodeable("DeleteNodesCount", ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteNodesCount());
+    	encoder.putEncodeable("DeleteReferencesCount", ServiceCounterDataType.class, (obj==null)?null:obj.getDeleteReferencesCount());
+    	encoder.putEncodeable("BrowseCount", ServiceCounterDataType.class, (obj==null)?null:obj.getBrowseCount());
+    	encoder.putEncodeable("BrowseNextCount", ServiceCounterDataType.class, (obj==null)?null:obj.getBrowseNextCount());
+    	encoder.putEncodeable("TranslateBrowsePathsToNodeIdsCount", ServiceCounterDataType.class, (obj==null)?null:obj.getTranslateBrowsePathsToNodeIdsCount());
+    	encoder.putEncodeable("QueryFirstCount", ServiceCounterDataType.class, (obj==null)?null:obj.getQueryFirstCount());
+    	encoder.putEncodeable("QueryNextCount", ServiceCounterDataType.class, (obj==null)?null:obj.getQueryNextCount());
+    	encoder.putEncodeable("RegisterNodesCount", ServiceCounterDataType.class, (obj==null)?null:obj.getRegisterNodesCount());
+    	encoder.putEncodeable("UnregisterNodesCount", ServiceCounterDataType.class, (obj==null)?null:obj.getUnregisterNodesCount());
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	SessionDiagnosticsDataType result = new SessionDiagnosticsDataType();
+    	result.setSessionId( decoder.getNodeId("SessionId") );
+    	result.setSessionName( decoder.getString("SessionName") );
+    	result.setClientDescription( decoder.getEncodeable("ClientDescription", ApplicationDescription.class) );
+    	result.setServerUri( decoder.getString("ServerUri") );
+    	result.setEndpointUrl( decoder.getString("EndpointUrl") );
+    	result.setLocaleIds( decoder.getStringArray("LocaleIds") );
+    	result.setActualSessionTimeout( decoder.getDouble("ActualSessionTimeout") );
+    	result.setMaxResponseMessageSize( decoder.getUInt32("MaxResponseMessageSize") );
+    	result.setClientConnectionTime( decoder.getDateTime("ClientConnectionTime") );
+    	result.setClientLastContactTime( decoder.getDateTime("ClientLastContactTime") );
+    	result.setCurrentSubscriptionsCount( decoder.getUInt32("CurrentSubscriptionsCount") );
+    	result.setCurrentMonitoredItemsCount( decoder.getUInt32("CurrentMonitoredItemsCount") );
+    	result.setCurrentPublishRequestsInQueue( decoder.getUInt32("CurrentPublishRequestsInQueue") );
+    	result.setTotalRequestCount( decoder.getEncodeable("TotalRequestCount", ServiceCounterDataType.class) );
+    	result.setUnauthorizedRequestCount( decoder.getUInt32("UnauthorizedRequestCount") );
+    	result.setReadCount( decoder.getEncodeable("ReadCount", ServiceCounterDataType.class) );
+    	result.setHistoryReadCount( decoder.getEncodeable("HistoryReadCount", ServiceCounterDataType.class) );
+    	result.setWriteCount( decoder.getEncodeable("WriteCount", ServiceCounterDataType.class) );
+    	result.setHistoryUpdateCount( decoder.getEncodeable("HistoryUpdateCount", ServiceCounterDataType.class) );
+    	result.setCallCount( decoder.getEncodeable("CallCount", ServiceCounterDataType.class) );
+    	result.setCreateMonitoredItemsCount( decoder.getEncodeable("CreateMonitoredItemsCount", ServiceCounterDataType.class) );
+    	result.setModifyMonitoredItemsCount( decoder.getEncodeable("ModifyMonitoredItemsCount", ServiceCounterDataType.class) );
+    	result.setSetMonitoringModeCount( decoder.getEncodeable("SetMonitoringModeCount", ServiceCounterDataType.class) );
+    	result.setSetTriggeringCount( decoder.getEncodeable("SetTriggeringCount", ServiceCounterDataType.class) );
+    	result.setDeleteMonitoredItemsCount( decoder.getEncodeable("DeleteMonitoredItemsCount", ServiceCounterDataType.class) );
+    	result.setCreateSubscriptionCount( decoder.getEncodeable("CreateSubscriptionCount", ServiceCounterDataType.class) );
+    	result.setModifySubscriptionCount( decoder.getEncodeable("ModifySubscriptionCount", ServiceCounterDataType.class) );
+    	result.setSetPublishingModeCount( decoder.getEncodeable("SetPublishingModeCount", ServiceCounterDataType.class) );
+    	result.setPublishCount( decoder.getEncodeable("PublishCount", ServiceCounterDataType.class) );
+    	result.setRepublishCount( decoder.getEncodeable("RepublishCount", ServiceCounterDataType.class) );
+    	result.setTransferSubscriptionsCount( decoder.getEncodeable("TransferSubscriptionsCount", ServiceCounterDataType.class) );
+    	result.setDeleteSubscriptionsCount( decoder.getEncodeable("DeleteSubscriptionsCount", ServiceCounterDataType.class) );
+    	result.setAddNodesCount( decoder.getEncodeable("AddNodesCount", ServiceCounterDataType.class) );
+    	result.setAddReferencesCount( decoder.getEncodeable("AddReferencesCount", ServiceCounterDataType.class) );
+    	result.setDeleteNodesCount( decoder.getEncodeable("DeleteNodesCount", ServiceCounterDataType.class) );
+    	result.setDeleteReferencesCount( decoder.getEncodeable("DeleteReferencesCount", ServiceCounterDataType.class) );
+    	result.setBrowseCount( decoder.getEncodeable("BrowseCount", ServiceCounterDataType.class) );
+    	result.setBrowseNextCount( decoder.getEncodeable("BrowseNextCount", ServiceCounterDataType.class) );
+    	result.setTranslateBrowsePathsToNodeIdsCount( decoder.getEncodeable("TranslateBrowsePathsToNodeIdsCount", ServiceCounterDataType.class) );
+    	result.setQueryFirstCount( decoder.getEncodeable("QueryFirstCount", ServiceCounterDataType.class) );
+    	result.setQueryNextCount( decoder.getEncodeable("QueryNextCount", ServiceCounterDataType.class) );
+    	result.setRegisterNodesCount( decoder.getEncodeable("RegisterNodesCount", ServiceCounterDataType.class) );
+    	result.setUnregisterNodesCount( decoder.getEncodeable("UnregisterNodesCount", ServiceCounterDataType.class) );
+    	return result;
+    }
+
+}
@@ -0,0 +1,88 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link SessionSecurityDiagnosticsDataType}.
+ *
+ * @see EncodeableSerializer
+ */
+public class SessionSecurityDiagnosticsDataTypeSerializer extends AbstractSerializer {
+
+    public SessionSecurityDiagnosticsDataTypeSerializer() {
+    	super(SessionSecurityDiagnosticsDataType.class, SessionSecurityDiagnosticsDataType.BINARY, SessionSecurityDiagnosticsDataType.XML, SessionSecurityDiagnosticsDataType.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	SessionSecurityDiagnosticsDataType obj = (SessionSecurityDiagnosticsDataType) encodeable;
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getSessionId() );
+    	calculator.putString(null,  (obj==null)?null:obj.getClientUserIdOfSession() );
+    	calculator.putStringArray(null, ((obj==null)?null:obj.getClientUserIdHistory()) );
+    	calculator.putString(null,  (obj==null)?null:obj.getAuthenticationMechanism() );
+    	calculator.putString(null,  (obj==null)?null:obj.getEncoding() );
+    	calculator.putString(null,  (obj==null)?null:obj.getTransportProtocol() );
+    	calculator.putEnumeration(null, null /*obj.getSecurityMode()*/);
+    	calculator.putString(null,  (obj==null)?null:obj.getSecurityPolicyUri() );
+    	calculator.putByteString(null,  (obj==null)?null:obj.getClientCertificate() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	SessionSecurityDiagnosticsDataType obj = (SessionSecurityDiagnosticsDataType) encodeable;
+    	encoder.putNodeId("SessionId",  (obj==null)?null:obj.getSessionId() );
+    	encoder.putString("ClientUserIdOfSession",  (obj==null)?null:obj.getClientUserIdOfSession() );
+    	encoder.putStringArray("ClientUserIdHistory", (obj==null)?null:obj.getClientUserIdHistory() );
+    	encoder.putString("AuthenticationMechanism",  (obj==null)?null:obj.getAuthenticationMechanism() );
+    	encoder.putString("Encoding",  (obj==null)?null:obj.getEncoding() );
+    	encoder.putString("TransportProtocol",  (obj==null)?null:obj.getTransportProtocol() );
+    	encoder.putEnumeration("SecurityMode",  (obj==null)?null:obj.getSecurityMode() );
+    	encoder.putString("SecurityPolicyUri",  (obj==null)?null:obj.getSecurityPolicyUri() );
+    	encoder.putByteString("ClientCertificate",  (obj==null)?null:obj.getClientCertificate() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	SessionSecurityDiagnosticsDataType result = new SessionSecurityDiagnosticsDataType();
+    	result.setSessionId( decoder.getNodeId("SessionId") );
+    	result.setClientUserIdOfSession( decoder.getString("ClientUserIdOfSession") );
+    	result.setClientUserIdHistory( decoder.getStringArray("ClientUserIdHistory") );
+    	result.setAuthenticationMechanism( decoder.getString("AuthenticationMechanism") );
+    	result.setEncoding( decoder.getString("Encoding") );
+    	result.setTransportProtocol( decoder.getString("TransportProtocol") );
+    	result.setSecurityMode( decoder.getEnumeration("SecurityMode", MessageSecurityMode.class) );
+    	result.setSecurityPolicyUri( decoder.getString("SecurityPolicyUri") );
+    	result.setClientCertificate( decoder.getByteString("ClientCertificate") );
+    	return result;
+    }
+
+}
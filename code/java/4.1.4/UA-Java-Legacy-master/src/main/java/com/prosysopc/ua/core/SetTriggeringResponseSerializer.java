@@ -0,0 +1,76 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link SetTriggeringResponse}.
+ *
+ * @see EncodeableSerializer
+ */
+public class SetTriggeringResponseSerializer extends AbstractSerializer {
+
+    public SetTriggeringResponseSerializer() {
+    	super(SetTriggeringResponse.class, SetTriggeringResponse.BINARY, SetTriggeringResponse.XML, SetTriggeringResponse.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	SetTriggeringResponse obj = (SetTriggeringResponse) encodeable;
+    	calculator.putEncodeable(null, ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
+    	calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getAddResults()) );
+    	calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getAddDiagnosticInfos()) );
+    	calculator.putStatusCodeArray(null, ((obj==null)?null:obj.getRemoveResults()) );
+    	calculator.putDiagnosticInfoArray(null, ((obj==null)?null:obj.getRemoveDiagnosticInfos()) );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	SetTriggeringResponse obj = (SetTriggeringResponse) encodeable;
+    	encoder.putEncodeable("ResponseHeader", ResponseHeader.class, (obj==null)?null:obj.getResponseHeader());
+    	encoder.putStatusCodeArray("AddResults", (obj==null)?null:obj.getAddResults() );
+    	encoder.putDiagnosticInfoArray("AddDiagnosticInfos", (obj==null)?null:obj.getAddDiagnosticInfos() );
+    	encoder.putStatusCodeArray("RemoveResults", (obj==null)?null:obj.getRemoveResults() );
+    	encoder.putDiagnosticInfoArray("RemoveDiagnosticInfos", (obj==null)?null:obj.getRemoveDiagnosticInfos() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	SetTriggeringResponse result = new SetTriggeringResponse();
+    	result.setResponseHeader( decoder.getEncodeable("ResponseHeader", ResponseHeader.class) );
+    	result.setAddResults( decoder.getStatusCodeArray("AddResults") );
+    	result.setAddDiagnosticInfos( decoder.getDiagnosticInfoArray("AddDiagnosticInfos") );
+    	result.setRemoveResults( decoder.getStatusCodeArray("RemoveResults") );
+    	result.setRemoveDiagnosticInfos( decoder.getDiagnosticInfoArray("RemoveDiagnosticInfos") );
+    	return result;
+    }
+
+}
@@ -0,0 +1,73 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link SimpleTypeDescription}.
+ *
+ * @see EncodeableSerializer
+ */
+public class SimpleTypeDescriptionSerializer extends AbstractSerializer {
+
+    public SimpleTypeDescriptionSerializer() {
+    	super(SimpleTypeDescription.class, SimpleTypeDescription.BINARY, SimpleTypeDescription.XML, SimpleTypeDescription.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	SimpleTypeDescription obj = (SimpleTypeDescription) encodeable;
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getDataTypeId() );
+    	calculator.putQualifiedName(null,  (obj==null)?null:obj.getName() );
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getBaseDataType() );
+    	calculator.putByte(null, null /*obj.getBuiltInType()*/);
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	SimpleTypeDescription obj = (SimpleTypeDescription) encodeable;
+    	encoder.putNodeId("DataTypeId",  (obj==null)?null:obj.getDataTypeId() );
+    	encoder.putQualifiedName("Name",  (obj==null)?null:obj.getName() );
+    	encoder.putNodeId("BaseDataType",  (obj==null)?null:obj.getBaseDataType() );
+    	encoder.putByte("BuiltInType",  (obj==null)?null:obj.getBuiltInType() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	SimpleTypeDescription result = new SimpleTypeDescription();
+    	result.setDataTypeId( decoder.getNodeId("DataTypeId") );
+    	result.setName( decoder.getQualifiedName("Name") );
+    	result.setBaseDataType( decoder.getNodeId("BaseDataType") );
+    	result.setBuiltInType( decoder.getByte("BuiltInType") );
+    	return result;
+    }
+
+}
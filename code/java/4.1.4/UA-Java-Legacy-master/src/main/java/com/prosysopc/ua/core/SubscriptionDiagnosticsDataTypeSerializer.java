@@ -0,0 +1,154 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link SubscriptionDiagnosticsDataType}.
+ *
+ * @see EncodeableSerializer
+ */
+public class SubscriptionDiagnosticsDataTypeSerializer extends AbstractSerializer {
+
+    public SubscriptionDiagnosticsDataTypeSerializer() {
+    	super(SubscriptionDiagnosticsDataType.class, SubscriptionDiagnosticsDataType.BINARY, SubscriptionDiagnosticsDataType.XML, SubscriptionDiagnosticsDataType.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	SubscriptionDiagnosticsDataType obj = (SubscriptionDiagnosticsDataType) encodeable;
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getSessionId() );
+    	calculator.putUInt32(null, null /*obj.getSubscriptionId()*/);
+    	calculator.putByte(null, null /*obj.getPriority()*/);
+    	calculator.putDouble(null, null /*obj.getPublishingInterval()*/);
+    	calculator.putUInt32(null, null /*obj.getMaxKeepAliveCount()*/);
+    	calculator.putUInt32(null, null /*obj.getMaxLifetimeCount()*/);
+    	calculator.putUInt32(null, null /*obj.getMaxNotificationsPerPublish()*/);
+    	calculator.putBoolean(null, null /*obj.getPublishingEnabled()*/);
+    	calculator.putUInt32(null, null /*obj.getModifyCount()*/);
+    	calculator.putUInt32(null, null /*obj.getEnableCount()*/);
+    	calculator.putUInt32(null, null /*obj.getDisableCount()*/);
+    	calculator.putUInt32(null, null /*obj.getRepublishRequestCount()*/);
+    	calculator.putUInt32(null, null /*obj.getRepublishMessageRequestCount()*/);
+    	calculator.putUInt32(null, null /*obj.getRepublishMessageCount()*/);
+    	calculator.putUInt32(null, null /*obj.getTransferRequestCount()*/);
+    	calculator.putUInt32(null, null /*obj.getTransferredToAltClientCount()*/);
+    	calculator.putUInt32(null, null /*obj.getTransferredToSameClientCount()*/);
+    	calculator.putUInt32(null, null /*obj.getPublishRequestCount()*/);
+    	calculator.putUInt32(null, null /*obj.getDataChangeNotificationsCount()*/);
+    	calculator.putUInt32(null, null /*obj.getEventNotificationsCount()*/);
+    	calculator.putUInt32(null, null /*obj.getNotificationsCount()*/);
+    	calculator.putUInt32(null, null /*obj.getLatePublishRequestCount()*/);
+    	calculator.putUInt32(null, null /*obj.getCurrentKeepAliveCount()*/);
+    	calculator.putUInt32(null, null /*obj.getCurrentLifetimeCount()*/);
+    	calculator.putUInt32(null, null /*obj.getUnacknowledgedMessageCount()*/);
+    	calculator.putUInt32(null, null /*obj.getDiscardedMessageCount()*/);
+    	calculator.putUInt32(null, null /*obj.getMonitoredItemCount()*/);
+    	calculator.putUInt32(null, null /*obj.getDisabledMonitoredItemCount()*/);
+    	calculator.putUInt32(null, null /*obj.getMonitoringQueueOverflowCount()*/);
+    	calculator.putUInt32(null, null /*obj.getNextSequenceNumber()*/);
+    	calculator.putUInt32(null, null /*obj.getEventQueueOverFlowCount()*/);
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	SubscriptionDiagnosticsDataType obj = (SubscriptionDiagnosticsDataType) encodeable;
+    	encoder.putNodeId("SessionId",  (obj==null)?null:obj.getSessionId() );
+    	encoder.putUInt32("SubscriptionId",  (obj==null)?null:obj.getSubscriptionId() );
+    	encoder.putByte("Priority",  (obj==null)?null:obj.getPriority() );
+    	encoder.putDouble("PublishingInterval",  (obj==null)?null:obj.getPublishingInterval() );
+    	encoder.putUInt32("MaxKeepAliveCount",  (obj==null)?null:obj.getMaxKeepAliveCount() );
+    	encoder.putUInt32("MaxLifetimeCount",  (obj==null)?null:obj.getMaxLifetimeCount() );
+    	encoder.putUInt32("MaxNotificationsPerPublish",  (obj==null)?null:obj.getMaxNotificationsPerPublish() );
+    	encoder.putBoolean("PublishingEnabled",  (obj==null)?null:obj.getPublishingEnabled() );
+    	encoder.putUInt32("ModifyCount",  (obj==null)?null:obj.getModifyCount() );
+    	encoder.putUInt32("EnableCount",  (obj==null)?null:obj.getEnableCount() );
+    	encoder.putUInt32("DisableCount",  (obj==null)?null:obj.getDisableCount() );
+    	encoder.putUInt32("RepublishRequestCount",  (obj==null)?null:obj.getRepublishRequestCount() );
+    	encoder.putUInt32("RepublishMessageRequestCount",  (obj==null)?null:obj.getRepublishMessageRequestCount() );
+    	encoder.putUInt32("RepublishMessageCount",  (obj==null)?null:obj.getRepublishMessageCount() );
+    	encoder.putUInt32("TransferRequestCount",  (obj==null)?null:obj.getTransferRequestCount() );
+    	encoder.putUInt32("TransferredToAltClientCount",  (obj==null)?null:obj.getTransferredToAltClientCount() );
+    	encoder.putUInt32("TransferredToSameClientCount",  (obj==null)?null:obj.getTransferredToSameClientCount() );
+    	encoder.putUInt32("PublishRequestCount",  (obj==null)?null:obj.getPublishRequestCount() );
+    	encoder.putUInt32("DataChangeNotificationsCount",  (obj==null)?null:obj.getDataChangeNotificationsCount() );
+    	encoder.putUInt32("EventNotificationsCount",  (obj==null)?null:obj.getEventNotificationsCount() );
+    	encoder.putUInt32("NotificationsCount",  (obj==null)?null:obj.getNotificationsCount() );
+    	encoder.putUInt32("LatePublishRequestCount",  (obj==null)?null:obj.getLatePublishRequestCount() );
+    	encoder.putUInt32("CurrentKeepAliveCount",  (obj==null)?null:obj.getCurrentKeepAliveCount() );
+    	encoder.putUInt32("CurrentLifetimeCount",  (obj==null)?null:obj.getCurrentLifetimeCount() );
+    	encoder.putUInt32("UnacknowledgedMessageCount",  (obj==null)?null:obj.getUnacknowledgedMessageCount() );
+    	encoder.putUInt32("DiscardedMessageCount",  (obj==null)?null:obj.getDiscardedMessageCount() );
+    	encoder.putUInt32("MonitoredItemCount",  (obj==null)?null:obj.getMonitoredItemCount() );
+    	encoder.putUInt32("DisabledMonitoredItemCount",  (obj==null)?null:obj.getDisabledMonitoredItemCount() );
+    	encoder.putUInt32("MonitoringQueueOverflowCount",  (obj==null)?null:obj.getMonitoringQueueOverflowCount() );
+    	encoder.putUInt32("NextSequenceNumber",  (obj==null)?null:obj.getNextSequenceNumber() );
+    	encoder.putUInt32("EventQueueOverFlowCount",  (obj==null)?null:obj.getEventQueueOverFlowCount() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	SubscriptionDiagnosticsDataType result = new SubscriptionDiagnosticsDataType();
+    	result.setSessionId( decoder.getNodeId("SessionId") );
+    	result.setSubscriptionId( decoder.getUInt32("SubscriptionId") );
+    	result.setPriority( decoder.getByte("Priority") );
+    	result.setPublishingInterval( decoder.getDouble("PublishingInterval") );
+    	result.setMaxKeepAliveCount( decoder.getUInt32("MaxKeepAliveCount") );
+    	result.setMaxLifetimeCount( decoder.getUInt32("MaxLifetimeCount") );
+    	result.setMaxNotificationsPerPublish( decoder.getUInt32("MaxNotificationsPerPublish") );
+    	result.setPublishingEnabled( decoder.getBoolean("PublishingEnabled") );
+    	result.setModifyCount( decoder.getUInt32("ModifyCount") );
+    	result.setEnableCount( decoder.getUInt32("EnableCount") );
+    	result.setDisableCount( decoder.getUInt32("DisableCount") );
+    	result.setRepublishRequestCount( decoder.getUInt32("RepublishRequestCount") );
+    	result.setRepublishMessageRequestCount( decoder.getUInt32("RepublishMessageRequestCount") );
+    	result.setRepublishMessageCount( decoder.getUInt32("RepublishMessageCount") );
+    	result.setTransferRequestCount( decoder.getUInt32("TransferRequestCount") );
+    	result.setTransferredToAltClientCount( decoder.getUInt32("TransferredToAltClientCount") );
+    	result.setTransferredToSameClientCount( decoder.getUInt32("TransferredToSameClientCount") );
+    	result.setPublishRequestCount( decoder.getUInt32("PublishRequestCount") );
+    	result.setDataChangeNotificationsCount( decoder.getUInt32("DataChangeNotificationsCount") );
+    	result.setEventNotificationsCount( decoder.getUInt32("EventNotificationsCount") );
+    	result.setNotificationsCount( decoder.getUInt32("NotificationsCount") );
+    	result.setLatePublishRequestCount( decoder.getUInt32("LatePublishRequestCount") );
+    	result.setCurrentKeepAliveCount( decoder.getUInt32("CurrentKeepAliveCount") );
+    	result.setCurrentLifetimeCount( decoder.getUInt32("CurrentLifetimeCount") );
+    	result.setUnacknowledgedMessageCount( decoder.getUInt32("UnacknowledgedMessageCount") );
+    	result.setDiscardedMessageCount( decoder.getUInt32("DiscardedMessageCount") );
+    	result.setMonitoredItemCount( decoder.getUInt32("MonitoredItemCount") );
+    	result.setDisabledMonitoredItemCount( decoder.getUInt32("DisabledMonitoredItemCount") );
+    	result.setMonitoringQueueOverflowCount( decoder.getUInt32("MonitoringQueueOverflowCount") );
+    	result.setNextSequenceNumber( decoder.getUInt32("NextSequenceNumber") );
+    	result.setEventQueueOverFlowCount( decoder.getUInt32("EventQueueOverFlowCount") );
+    	return result;
+    }
+
+}
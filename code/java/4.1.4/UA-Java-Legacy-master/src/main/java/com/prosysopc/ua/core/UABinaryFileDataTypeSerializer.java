@@ -0,0 +1,82 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link UABinaryFileDataType}.
+ *
+ * @see EncodeableSerializer
+ */
+public class UABinaryFileDataTypeSerializer extends AbstractSerializer {
+
+    public UABinaryFileDataTypeSerializer() {
+    	super(UABinaryFileDataType.class, UABinaryFileDataType.BINARY, UABinaryFileDataType.XML, UABinaryFileDataType.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	UABinaryFileDataType obj = (UABinaryFileDataType) encodeable;
+    	calculator.putStringArray(null, ((obj==null)?null:obj.getNamespaces()) );
+    	calculator.putEncodeableArray(null, StructureDescription.class, (obj==null)?null:obj.getStructureDataTypes());
+    	calculator.putEncodeableArray(null, EnumDescription.class, (obj==null)?null:obj.getEnumDataTypes());
+    	calculator.putEncodeableArray(null, SimpleTypeDescription.class, (obj==null)?null:obj.getSimpleDataTypes());
+    	calculator.putString(null,  (obj==null)?null:obj.getSchemaLocation() );
+    	calculator.putEncodeableArray(null, KeyValuePair.class, (obj==null)?null:obj.getFileHeader());
+    	calculator.putVariant(null,  (obj==null)?null:obj.getBody() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	UABinaryFileDataType obj = (UABinaryFileDataType) encodeable;
+    	encoder.putStringArray("Namespaces", (obj==null)?null:obj.getNamespaces() );
+    	encoder.putEncodeableArray("StructureDataTypes", StructureDescription.class, (obj==null)?null:obj.getStructureDataTypes());
+    	encoder.putEncodeableArray("EnumDataTypes", EnumDescription.class, (obj==null)?null:obj.getEnumDataTypes());
+    	encoder.putEncodeableArray("SimpleDataTypes", SimpleTypeDescription.class, (obj==null)?null:obj.getSimpleDataTypes());
+    	encoder.putString("SchemaLocation",  (obj==null)?null:obj.getSchemaLocation() );
+    	encoder.putEncodeableArray("FileHeader", KeyValuePair.class, (obj==null)?null:obj.getFileHeader());
+    	encoder.putVariant("Body",  (obj==null)?null:obj.getBody() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	UABinaryFileDataType result = new UABinaryFileDataType();
+    	result.setNamespaces( decoder.getStringArray("Namespaces") );
+    	result.setStructureDataTypes( decoder.getEncodeableArray("StructureDataTypes", StructureDescription.class) );
+    	result.setEnumDataTypes( decoder.getEncodeableArray("EnumDataTypes", EnumDescription.class) );
+    	result.setSimpleDataTypes( decoder.getEncodeableArray("SimpleDataTypes", SimpleTypeDescription.class) );
+    	result.setSchemaLocation( decoder.getString("SchemaLocation") );
+    	result.setFileHeader( decoder.getEncodeableArray("FileHeader", KeyValuePair.class) );
+    	result.setBody( decoder.getVariant("Body") );
+    	return result;
+    }
+
+}
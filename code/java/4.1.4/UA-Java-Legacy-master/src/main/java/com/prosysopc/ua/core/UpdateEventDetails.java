@@ -114,7 +114,7 @@ public class UpdateEventDetails extends HistoryUpdateDetails {
         UpdateEventDetails other = (UpdateEventDetails) obj;
         if (NodeId==null) {
             if (other.NodeId != null) return false;
-        } else if (!com.prosysopc.ua.builtintypes.NodeId.equals(other.NodeId)) return false;
+        } else if (!NodeId.equals(other.NodeId)) return false;
         if (PerformInsertReplace==null) {
             if (other.PerformInsertReplace != null) return false;
         } else if (!PerformInsertReplace.equals(other.PerformInsertReplace)) return false;
@@ -133,7 +133,7 @@ public class UpdateEventDetails extends HistoryUpdateDetails {
         final int prime = 31;
         int result = 1;
         result = prime * result
-                + ((NodeId == null) ? 0 : com.prosysopc.ua.builtintypes.NodeId.hashCode());
+                + ((NodeId == null) ? 0 : NodeId.hashCode());
         result = prime * result
                 + ((PerformInsertReplace == null) ? 0 : PerformInsertReplace.hashCode());
         result = prime * result
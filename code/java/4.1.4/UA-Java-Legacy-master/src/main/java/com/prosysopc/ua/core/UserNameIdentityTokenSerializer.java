@@ -0,0 +1,73 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link UserNameIdentityToken}.
+ *
+ * @see EncodeableSerializer
+ */
+public class UserNameIdentityTokenSerializer extends AbstractSerializer {
+
+    public UserNameIdentityTokenSerializer() {
+    	super(UserNameIdentityToken.class, UserNameIdentityToken.BINARY, UserNameIdentityToken.XML, UserNameIdentityToken.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	UserNameIdentityToken obj = (UserNameIdentityToken) encodeable;
+    	calculator.putString(null,  (obj==null)?null:obj.getPolicyId() );
+    	calculator.putString(null,  (obj==null)?null:obj.getUserName() );
+    	calculator.putByteString(null,  (obj==null)?null:obj.getPassword() );
+    	calculator.putString(null,  (obj==null)?null:obj.getEncryptionAlgorithm() );
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	UserNameIdentityToken obj = (UserNameIdentityToken) encodeable;
+    	encoder.putString("PolicyId",  (obj==null)?null:obj.getPolicyId() );
+    	encoder.putString("UserName",  (obj==null)?null:obj.getUserName() );
+    	encoder.putByteString("Password",  (obj==null)?null:obj.getPassword() );
+    	encoder.putString("EncryptionAlgorithm",  (obj==null)?null:obj.getEncryptionAlgorithm() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	UserNameIdentityToken result = new UserNameIdentityToken();
+    	result.setPolicyId( decoder.getString("PolicyId") );
+    	result.setUserName( decoder.getString("UserName") );
+    	result.setPassword( decoder.getByteString("Password") );
+    	result.setEncryptionAlgorithm( decoder.getString("EncryptionAlgorithm") );
+    	return result;
+    }
+
+}
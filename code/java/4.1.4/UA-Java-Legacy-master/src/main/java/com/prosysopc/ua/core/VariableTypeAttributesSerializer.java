@@ -0,0 +1,91 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package com.prosysopc.ua.core;
+
+import com.prosysopc.ua.encoding.DecodingException;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IDecoder;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.IEncoder;
+import com.prosysopc.ua.encoding.utils.AbstractSerializer;
+
+
+/**
+ * Code-generated serializer of {@link VariableTypeAttributes}.
+ *
+ * @see EncodeableSerializer
+ */
+public class VariableTypeAttributesSerializer extends AbstractSerializer {
+
+    public VariableTypeAttributesSerializer() {
+    	super(VariableTypeAttributes.class, VariableTypeAttributes.BINARY, VariableTypeAttributes.XML, VariableTypeAttributes.ID);
+    }
+    public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
+    	VariableTypeAttributes obj = (VariableTypeAttributes) encodeable;
+    	calculator.putUInt32(null, null /*obj.getSpecifiedAttributes()*/);
+    	calculator.putLocalizedText(null,  (obj==null)?null:obj.getDisplayName() );
+    	calculator.putLocalizedText(null,  (obj==null)?null:obj.getDescription() );
+    	calculator.putUInt32(null, null /*obj.getWriteMask()*/);
+    	calculator.putUInt32(null, null /*obj.getUserWriteMask()*/);
+    	calculator.putVariant(null,  (obj==null)?null:obj.getValue() );
+    	calculator.putNodeId(null,  (obj==null)?null:obj.getDataType() );
+    	calculator.putInt32(null, null /*obj.getValueRank()*/);
+    	calculator.putUInt32Array(null, ((obj==null)?null:obj.getArrayDimensions()) );
+    	calculator.putBoolean(null, null /*obj.getIsAbstract()*/);
+    }
+    public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {
+    	VariableTypeAttributes obj = (VariableTypeAttributes) encodeable;
+    	encoder.putUInt32("SpecifiedAttributes",  (obj==null)?null:obj.getSpecifiedAttributes() );
+    	encoder.putLocalizedText("DisplayName",  (obj==null)?null:obj.getDisplayName() );
+    	encoder.putLocalizedText("Description",  (obj==null)?null:obj.getDescription() );
+    	encoder.putUInt32("WriteMask",  (obj==null)?null:obj.getWriteMask() );
+    	encoder.putUInt32("UserWriteMask",  (obj==null)?null:obj.getUserWriteMask() );
+    	encoder.putVariant("Value",  (obj==null)?null:obj.getValue() );
+    	encoder.putNodeId("DataType",  (obj==null)?null:obj.getDataType() );
+    	encoder.putInt32("ValueRank",  (obj==null)?null:obj.getValueRank() );
+    	encoder.putUInt32Array("ArrayDimensions", (obj==null)?null:obj.getArrayDimensions() );
+    	encoder.putBoolean("IsAbstract",  (obj==null)?null:obj.getIsAbstract() );
+    }
+    public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {
+    	VariableTypeAttributes result = new VariableTypeAttributes();
+    	result.setSpecifiedAttributes( decoder.getUInt32("SpecifiedAttributes") );
+    	result.setDisplayName( decoder.getLocalizedText("DisplayName") );
+    	result.setDescription( decoder.getLocalizedText("Description") );
+    	result.setWriteMask( decoder.getUInt32("WriteMask") );
+    	result.setUserWriteMask( decoder.getUInt32("UserWriteMask") );
+    	result.setValue( decoder.getVariant("Value") );
+    	result.setDataType( decoder.getNodeId("DataType") );
+    	result.setValueRank( decoder.getInt32("ValueRank") );
+    	result.setArrayDimensions( decoder.getUInt32Array("ArrayDimensions") );
+    	result.setIsAbstract( decoder.getBoolean("IsAbstract") );
+    	return result;
+    }
+
+}
@@ -17,8 +17,11 @@ import com.prosysopc.ua.builtintypes.ExtensionObject;
 import com.prosysopc.ua.builtintypes.NodeId;
 import com.prosysopc.ua.builtintypes.Structure;
 import com.prosysopc.ua.encoding.binary.IEncodeableSerializer;
+import com.prosysopc.ua.encoding.utils.SerializerComposition;
 import java.lang.reflect.Array;
 import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.prosysopc.ua.common.NamespaceTable;
 import com.prosysopc.ua.common.ServerTable;
@@ -102,6 +105,33 @@ public class EncoderContext {
     public int maxByteStringLength = 0; //UnsignedShort.MAX_VALUE.intValue() * 16;
     public int maxArrayLength = 0; //UnsignedShort.MAX_VALUE.intValue();
 
+	// Decode Boolean, Int16, Int32, Int64, Float and Double arrays of Variants to primitive arrays
+	public boolean decodePrimitiveArrays = false;
+	// Keep the bodies of ExtensionObjects encoded until they are decoded by the application
+	public boolean decodeExtensionObjectsLazily = false;
+	// Cache of short decoded strings, null = no cache
+	public StringCache stringCache;
+
+	/** Largest number of ids in {@link UnknownTypeIds} */
+	static final int MAX_UNKNOWN_TYPE_IDS = 1024;
+
+	/**
+	 * Ids of types that the serializer does not know. The ids are valid as
+	 * long as the serializer is the same and no types are added to it.
+	 */
+	static class UnknownTypeIds {
+		final IEncodeableSerializer serializer;
+		final int typeCount;
+		final ConcurrentMap<ExpandedNodeId, Boolean> ids = new ConcurrentHashMap<ExpandedNodeId, Boolean>();
+
+		UnknownTypeIds(IEncodeableSerializer serializer, int typeCount) {
+			this.serializer = serializer;
+			this.typeCount = typeCount;
+		}
+	}
+
+	private volatile UnknownTypeIds unknownTypeIds;
+
 	/**
 	 * <p>Constructor for EncoderContext.</p>
 	 *
@@ -217,9 +247,37 @@ public class EncoderContext {
 	 * @return a {@link java.lang.Class} object.
 	 */
 	public Class<? extends IEncodeable> getEncodeableClass(NodeId id) {
+		if (encodeableSerializer instanceof SerializerComposition)
+			return ((SerializerComposition) encodeableSerializer).getClass(id, namespaceTable);
 		return encodeableSerializer.getClass(namespaceTable.toExpandedNodeId(id));
 	}
 
+	/**
+	 * Get the class of an encoding or DataType id. Ids that the serializer
+	 * does not know are remembered, so that the bodies of unknown
+	 * ExtensionObjects are not looked up again and again. The ids are
+	 * forgotten when the serializer is replaced or, if it is a
+	 * {@link SerializerComposition}, types are added to it.
+	 *
+	 * @param id a {@link ExpandedNodeId} object.
+	 * @return the class, or null if the serializer does not know the id
+	 */
+	public Class<? extends IEncodeable> getEncodeableClass(ExpandedNodeId id) {
+		IEncodeableSerializer serializer = encodeableSerializer;
+		if (serializer == null || id == null)
+			return null;
+		int typeCount = serializer instanceof SerializerComposition ? ((SerializerComposition) serializer).getTypeCount() : 0;
+		UnknownTypeIds unknown = unknownTypeIds;
+		if (unknown == null || unknown.serializer != serializer || unknown.typeCount != typeCount)
+			unknownTypeIds = unknown = new UnknownTypeIds(serializer, typeCount);
+		else if (!unknown.ids.isEmpty() && unknown.ids.containsKey(id))
+			return null;
+		Class<? extends IEncodeable> clazz = serializer.getClass(id);
+		if (clazz == null && unknown.ids.size() < MAX_UNKNOWN_TYPE_IDS)
+			unknown.ids.put(id, Boolean.TRUE);
+		return clazz;
+	}
+
 	/**
 	 * <p>Setter for the field <code>encodeableSerializer</code>.</p>
 	 *
@@ -297,9 +355,82 @@ public class EncoderContext {
 	public void setMaxArrayLength(int maxArrayLength) {
 		this.maxArrayLength = maxArrayLength;
 	}
+
+	/**
+	 * <p>Getter for the field <code>decodePrimitiveArrays</code>.</p>
+	 *
+	 * @return true if one-dimensional Boolean, Int16, Int32, Int64, Float
+	 *         and Double arrays of Variants are decoded to primitive arrays
+	 */
+	public boolean getDecodePrimitiveArrays() {
+		return decodePrimitiveArrays;
+	}
+
+	/**
+	 * <p>Setter for the field <code>decodePrimitiveArrays</code>.</p>
+	 * <p>
+	 * When set, the binary decoder decodes one-dimensional Boolean, Int16,
+	 * Int32, Int64, Float and Double arrays of Variants to boolean[],
+	 * short[], int[], long[], float[] and double[], instead of arrays of
+	 * the boxed types. The Variant values of the application must then
+	 * accept both kinds of arrays. The default is false.
+	 *
+	 * @param decodePrimitiveArrays a boolean.
+	 */
+	public void setDecodePrimitiveArrays(boolean decodePrimitiveArrays) {
+		this.decodePrimitiveArrays = decodePrimitiveArrays;
+	}
+
+	/**
+	 * <p>Getter for the field <code>decodeExtensionObjectsLazily</code>.</p>
+	 *
+	 * @return true if the binary decoder keeps the bodies of ExtensionObjects
+	 *         encoded
+	 */
+	public boolean getDecodeExtensionObjectsLazily() {
+		return decodeExtensionObjectsLazily;
+	}
+
+	/**
+	 * <p>Setter for the field <code>decodeExtensionObjectsLazily</code>.</p>
+	 * <p>
+	 * When set, the binary decoder returns ExtensionObjects, also in
+	 * Variants, with their bodies as received. A body is decoded on the
+	 * first call of {@link ExtensionObject#decode(EncoderContext)}, and
+	 * encoded again as is, if the ExtensionObject is forwarded without
+	 * decoding it. The default is false, the decoder decodes the bodies of
+	 * known types right away.
+	 *
+	 * @param decodeExtensionObjectsLazily a boolean.
+	 */
+	public void setDecodeExtensionObjectsLazily(boolean decodeExtensionObjectsLazily) {
+		this.decodeExtensionObjectsLazily = decodeExtensionObjectsLazily;
+	}
 	
 	/**
-	 * Returns a new EncoderContext with same values. Serializer, NamespaceTable and ServerTable refers to same objects as this one.
+	 * <p>Getter for the field <code>stringCache</code>.</p>
+	 *
+	 * @return the cache of decoded strings, or null
+	 */
+	public StringCache getStringCache() {
+		return stringCache;
+	}
+
+	/**
+	 * <p>Setter for the field <code>stringCache</code>.</p>
+	 * <p>
+	 * When set, the binary decoder looks up short strings from the cache
+	 * before creating them, so that repeated strings, such as browse names,
+	 * share one instance. The default is null, no cache.
+	 *
+	 * @param stringCache a {@link StringCache} object, or null
+	 */
+	public void setStringCache(StringCache stringCache) {
+		this.stringCache = stringCache;
+	}
+
+	/**
+	 * Returns a new EncoderContext with same values. Serializer, NamespaceTable, ServerTable and StringCache refers to same objects as this one.
 	 */
 	public EncoderContext shallowCopy() {
 		EncoderContext copy = new EncoderContext(getNamespaceTable(), getServerTable(), getEncodeableSerializer());
@@ -307,6 +438,9 @@ public class EncoderContext {
 		copy.setMaxByteStringLength(getMaxByteStringLength());
 		copy.setMaxMessageSize(getMaxMessageSize());
 		copy.setMaxStringLength(getMaxStringLength());
+		copy.setDecodePrimitiveArrays(getDecodePrimitiveArrays());
+		copy.setDecodeExtensionObjectsLazily(getDecodeExtensionObjectsLazily());
+		copy.setStringCache(getStringCache());
 		return copy;
 	}
 	
@@ -320,6 +454,9 @@ public class EncoderContext {
 		sb.append("   maxStringLength = "+maxStringLength + "\n");
 		sb.append("   maxByteStringLength = "+maxByteStringLength + "\n");
 		sb.append("   maxArrayLength = "+maxArrayLength + "\n");
+		sb.append("   decodePrimitiveArrays = "+decodePrimitiveArrays + "\n");
+		sb.append("   decodeExtensionObjectsLazily = "+decodeExtensionObjectsLazily + "\n");
+		sb.append("   stringCache = "+(stringCache == null ? "none" : stringCache.getSize()) + "\n");
 		return sb.toString();
 	}
 }
@@ -0,0 +1,134 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.encoding;
+
+/**
+ * A bounded cache of short decoded ASCII strings, such as browse names and
+ * string NodeIds, so that a string that is decoded again and again is one
+ * instance instead of a new one each time.
+ * <p>
+ * The cache is direct-mapped: a string replaces the string that was in its
+ * slot. The entries are immutable, so the cache is safe for concurrent use
+ * without locks.
+ *
+ * @see EncoderContext#setStringCache(StringCache)
+ */
+public class StringCache {
+
+	/** Default largest length of a cached string */
+	public static final int DEFAULT_MAX_LENGTH = 64;
+
+	private final String[] entries;
+	private final int mask;
+	private final int maxLength;
+
+	/**
+	 * <p>Constructor for StringCache.</p>
+	 *
+	 * @param size number of entries, rounded up to a power of two
+	 */
+	public StringCache(int size) {
+		this(size, DEFAULT_MAX_LENGTH);
+	}
+
+	/**
+	 * <p>Constructor for StringCache.</p>
+	 *
+	 * @param size number of entries, rounded up to a power of two
+	 * @param maxLength largest length of a cached string
+	 */
+	public StringCache(int size, int maxLength) {
+		if (size <= 0 || size > 1 << 30)
+			throw new IllegalArgumentException("size must be between 1 and 2^30");
+		int capacity = Integer.highestOneBit(size);
+		if (capacity < size)
+			capacity <<= 1;
+		entries = new String[capacity];
+		mask = capacity - 1;
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * <p>Getter for the field <code>maxLength</code>.</p>
+	 *
+	 * @return the largest length of a cached string
+	 */
+	public int getMaxLength() {
+		return maxLength;
+	}
+
+	/**
+	 * @return the number of entries
+	 */
+	public int getSize() {
+		return entries.length;
+	}
+
+	/**
+	 * Compute the hash of encoded bytes for {@link #get(byte[], int, int, int)}
+	 * and {@link #put(int, String)}.
+	 *
+	 * @param bytes an array of byte.
+	 * @param off offset of the encoded string
+	 * @param len length of the encoded string
+	 * @return the hash
+	 */
+	public static int hash(byte[] bytes, int off, int len) {
+		int h = len;
+		for (int i = off, end = off + len; i < end; i++)
+			h = 31 * h + bytes[i];
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Find the string of encoded bytes.
+	 *
+	 * @param bytes an array of byte.
+	 * @param off offset of the encoded string
+	 * @param len length of the encoded string
+	 * @param hash hash of the bytes, see {@link #hash(byte[], int, int)}
+	 * @return the cached string, or null
+	 */
+	public String get(byte[] bytes, int off, int len, int hash) {
+		if (len > maxLength)
+			return null;
+		String s = entries[hash & mask];
+		if (s == null || s.length() != len)
+			return null;
+		for (int i = 0; i < len; i++)
+			if (s.charAt(i) != bytes[off + i])
+				return null;
+		return s;
+	}
+
+	/**
+	 * Cache a decoded string. Only ASCII strings are found by
+	 * {@link #get(byte[], int, int, int)}.
+	 *
+	 * @param hash hash of the encoded bytes of the string
+	 * @param s the decoded string
+	 */
+	public void put(int hash, String s) {
+		if (s.length() <= maxLength)
+			entries[hash & mask] = s;
+	}
+
+	/**
+	 * Remove all strings.
+	 */
+	public void clear() {
+		for (int i = 0; i < entries.length; i++)
+			entries[i] = null;
+	}
+
+}
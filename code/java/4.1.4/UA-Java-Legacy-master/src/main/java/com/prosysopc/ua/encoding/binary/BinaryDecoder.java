@@ -55,6 +55,7 @@ import com.prosysopc.ua.core.Identifiers;
 import com.prosysopc.ua.core.StatusCodes;
 import com.prosysopc.ua.encoding.DecodingException;
 import com.prosysopc.ua.encoding.EncoderContext;
+import com.prosysopc.ua.encoding.StringCache;
 import com.prosysopc.ua.encoding.IDecoder;
 import com.prosysopc.ua.encoding.IEncodeable;
 import com.prosysopc.ua.utils.MultiDimensionArrayUtils;
@@ -387,6 +388,14 @@ public class BinaryDecoder implements IDecoder {
 	
 	IBinaryReadable in;
 	EncoderContext ctx;
+	/** Scratch buffer for bulk reads of primitive arrays, allocated on first use */
+	ByteBuffer arrayBuffer;
+
+	/** Scratch buffer for decoding strings, allocated on first use */
+	char[] charBuffer;
+
+	/** Size of {@link #arrayBuffer} and {@link #charBuffer} */
+	static final int ARRAY_BUFFER_SIZE = 8192;
 
 	/**
 	 * <p>Constructor for BinaryDecoder.</p>
@@ -510,6 +519,69 @@ public class BinaryDecoder implements IDecoder {
 		return r;
 	}
 
+	/**
+	 * Read the elements of a primitive array in bulk. The encoded elements
+	 * are read to a scratch buffer at once, and copied to the array through
+	 * a view buffer of the element type.
+	 *
+	 * @param dst a boolean[], short[], int[], long[], float[] or double[] array
+	 * @param length number of elements
+	 * @param elementSize encoded size of an element in bytes
+	 */
+	private void getPrimitiveArray(Object dst, int length, int elementSize)
+			throws IOException
+	{
+		if (arrayBuffer==null)
+			arrayBuffer = ByteBuffer.allocate(ARRAY_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		ByteBuffer buf = arrayBuffer;
+		int n = buf.capacity() / elementSize;
+		for (int off=0; off<length; off+=n) {
+			int count = Math.min(n, length-off);
+			in.get(buf.array(), 0, count * elementSize);
+			buf.clear();
+			if (dst instanceof double[])
+				buf.asDoubleBuffer().get((double[]) dst, off, count);
+			else if (dst instanceof float[])
+				buf.asFloatBuffer().get((float[]) dst, off, count);
+			else if (dst instanceof int[])
+				buf.asIntBuffer().get((int[]) dst, off, count);
+			else if (dst instanceof long[])
+				buf.asLongBuffer().get((long[]) dst, off, count);
+			else if (dst instanceof short[])
+				buf.asShortBuffer().get((short[]) dst, off, count);
+			else {
+				boolean[] b = (boolean[]) dst;
+				byte[] a = buf.array();
+				for (int i=0; i<count; i++)
+					b[off+i] = a[i] != 0;
+			}
+		}
+	}
+
+	/**
+	 * Decode a one-dimension array of a builtin type. Boolean, Int16, Int32,
+	 * Int64, Float and Double arrays are decoded to primitive arrays, other
+	 * types as with {@link #getArrayObject(String, int)}.
+	 *
+	 * @param fieldName a {@link java.lang.String} object.
+	 * @param builtinTypeId a int.
+	 * @return the array, or null
+	 * @throws DecodingException if any.
+	 */
+	public Object getPrimitiveArrayObject(String fieldName, int builtinTypeId)
+			throws DecodingException
+	{
+		switch (builtinTypeId) {
+		case 1: return getBooleanArray_(fieldName);
+		case 4: return getInt16Array_(fieldName);
+		case 6: return getInt32Array_(fieldName);
+		case 8: return getInt64Array_(fieldName);
+		case 10: return getFloatArray_(fieldName);
+		case 11: return getDoubleArray_(fieldName);
+		default: return getArrayObject(fieldName, builtinTypeId);
+		}
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public Object getArrayObject(String fieldName, int builtinTypeId)
@@ -576,6 +648,30 @@ public class BinaryDecoder implements IDecoder {
 		}
 	}
 
+	/**
+	 * <p>getBooleanArray_.</p>
+	 * <p>
+	 * Decodes the array without boxing its elements.
+	 *
+	 * @param fieldName a {@link java.lang.String} object.
+	 * @return an array of boolean, or null
+	 * @throws DecodingException if any.
+	 */
+	public boolean[] getBooleanArray_(String fieldName)
+			throws DecodingException
+	{
+		try {
+			int len = in.getInt();
+			if (len==-1) return null;
+			assertArrayLength(len, 1);
+			boolean[] result = new boolean[len];
+			getPrimitiveArray(result, len, 1);
+			return result;
+		} catch (IOException e) {
+			throw toDecodingException(e);
+		}
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public UnsignedByte getByte(String fieldName)
@@ -785,6 +881,30 @@ public class BinaryDecoder implements IDecoder {
 		}
 	}
 
+	/**
+	 * <p>getDoubleArray_.</p>
+	 * <p>
+	 * Decodes the array without boxing its elements.
+	 *
+	 * @param fieldName a {@link java.lang.String} object.
+	 * @return an array of double, or null
+	 * @throws DecodingException if any.
+	 */
+	public double[] getDoubleArray_(String fieldName)
+			throws DecodingException
+	{
+		try {
+			int len = in.getInt();
+			if (len==-1) return null;
+			assertArrayLength(len, 8);
+			double[] result = new double[len];
+			getPrimitiveArray(result, len, 8);
+			return result;
+		} catch (IOException e) {
+			throw toDecodingException(e);
+		}
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	@SuppressWarnings("unchecked")
@@ -989,7 +1109,17 @@ public class BinaryDecoder implements IDecoder {
 				return tmp;
 			}
 			
-			//try decoding, but failing is allowed (might be e.g. unknown Structure)
+			//the body is decoded on demand, see ExtensionObject.decode
+			if (ctx.getDecodeExtensionObjectsLazily()) {
+				return tmp;
+			}
+			
+			//unknown Structures are kept encoded, their ids are cached in the context
+			if (ctx.getEncodeableClass(expandedNodeId) == null) {
+				return tmp;
+			}
+			
+			//try decoding, but failing is allowed (might be e.g. a newer version of the Structure)
 			try{
 			  Structure decoded = tmp.decode(getEncoderContext());
 			  return new ExtensionObject(decoded);
@@ -1049,6 +1179,30 @@ public class BinaryDecoder implements IDecoder {
 		}
 	}
 
+	/**
+	 * <p>getFloatArray_.</p>
+	 * <p>
+	 * Decodes the array without boxing its elements.
+	 *
+	 * @param fieldName a {@link java.lang.String} object.
+	 * @return an array of float, or null
+	 * @throws DecodingException if any.
+	 */
+	public float[] getFloatArray_(String fieldName)
+			throws DecodingException
+	{
+		try {
+			int len = in.getInt();
+			if (len==-1) return null;
+			assertArrayLength(len, 4);
+			float[] result = new float[len];
+			getPrimitiveArray(result, len, 4);
+			return result;
+		} catch (IOException e) {
+			throw toDecodingException(e);
+		}
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public UUID getGuid(String fieldName)
@@ -1129,6 +1283,30 @@ public class BinaryDecoder implements IDecoder {
 		}
 	}
 
+	/**
+	 * <p>getInt16Array_.</p>
+	 * <p>
+	 * Decodes the array without boxing its elements.
+	 *
+	 * @param fieldName a {@link java.lang.String} object.
+	 * @return an array of short, or null
+	 * @throws DecodingException if any.
+	 */
+	public short[] getInt16Array_(String fieldName)
+			throws DecodingException
+	{
+		try {
+			int len = in.getInt();
+			if (len==-1) return null;
+			assertArrayLength(len, 2);
+			short[] result = new short[len];
+			getPrimitiveArray(result, len, 2);
+			return result;
+		} catch (IOException e) {
+			throw toDecodingException(e);
+		}
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public Integer getInt32(String fieldName)
@@ -1169,8 +1347,7 @@ public class BinaryDecoder implements IDecoder {
 			if (len==-1) return null;
 			assertArrayLength(len, 4);
 			int[] result = new int[len];
-			for (int i=0; i<len; i++)
-				result[i] = getInt32(null);
+			getPrimitiveArray(result, len, 4);
 			return result;
 		} catch (IOException e) {
 			throw toDecodingException(e);
@@ -1207,6 +1384,30 @@ public class BinaryDecoder implements IDecoder {
 		}
 	}
 
+	/**
+	 * <p>getInt64Array_.</p>
+	 * <p>
+	 * Decodes the array without boxing its elements.
+	 *
+	 * @param fieldName a {@link java.lang.String} object.
+	 * @return an array of long, or null
+	 * @throws DecodingException if any.
+	 */
+	public long[] getInt64Array_(String fieldName)
+			throws DecodingException
+	{
+		try {
+			int len = in.getInt();
+			if (len==-1) return null;
+			assertArrayLength(len, 8);
+			long[] result = new long[len];
+			getPrimitiveArray(result, len, 8);
+			return result;
+		} catch (IOException e) {
+			throw toDecodingException(e);
+		}
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public LocalizedText getLocalizedText(String fieldName)
@@ -1476,14 +1677,82 @@ public class BinaryDecoder implements IDecoder {
 			int len = in.getInt();
 			if (len==-1) return null;
 			assertStringLength(len);
-			byte dada[] = new byte[len];
-			in.get(dada);
-			return new String(dada, UTF8);
+			if (len==0) return "";
+			byte[] bytes;
+			if (len<=ARRAY_BUFFER_SIZE) {
+				if (arrayBuffer==null)
+					arrayBuffer = ByteBuffer.allocate(ARRAY_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+				bytes = arrayBuffer.array();
+			} else
+				bytes = new byte[len];
+			in.get(bytes, 0, len);
+			StringCache cache = ctx.getStringCache();
+			if (cache==null || len>cache.getMaxLength())
+				return decodeUtf8(bytes, len);
+			int hash = StringCache.hash(bytes, 0, len);
+			String s = cache.get(bytes, 0, len, hash);
+			if (s==null) {
+				s = decodeUtf8(bytes, len);
+				// Only ASCII strings can be found, see StringCache.get
+				if (s.length()==len)
+					cache.put(hash, s);
+			}
+			return s;
 		} catch (IOException e) {
 			throw toDecodingException(e);
 		}
 	}
 
+	/**
+	 * Decode UTF-8 through a scratch char buffer. ASCII characters are
+	 * copied as is. Malformed input is decoded by the JDK, which replaces
+	 * the malformed bytes.
+	 *
+	 * @param bytes the encoded string, from index 0
+	 * @param len length of the encoded string
+	 */
+	private String decodeUtf8(byte[] bytes, int len)
+	{
+		char[] chars;
+		if (len<=ARRAY_BUFFER_SIZE) {
+			if (charBuffer==null)
+				charBuffer = new char[ARRAY_BUFFER_SIZE];
+			chars = charBuffer;
+		} else
+			chars = new char[len];
+		int i = 0, n = 0;
+		while (i<len && bytes[i]>=0)
+			chars[n++] = (char) bytes[i++];
+		while (i<len) {
+			int b = bytes[i++];
+			if (b>=0) {
+				chars[n++] = (char) b;
+			} else if ((b & 0xe0)==0xc0 && i<len) {
+				int b2 = bytes[i++];
+				int c = ((b & 0x1f) << 6) | (b2 & 0x3f);
+				if ((b2 & 0xc0)!=0x80 || c<0x80)
+					return new String(bytes, 0, len, UTF8);
+				chars[n++] = (char) c;
+			} else if ((b & 0xf0)==0xe0 && i+1<len) {
+				int b2 = bytes[i++], b3 = bytes[i++];
+				int c = ((b & 0x0f) << 12) | ((b2 & 0x3f) << 6) | (b3 & 0x3f);
+				if ((b2 & 0xc0)!=0x80 || (b3 & 0xc0)!=0x80 || c<0x800 || (c>=0xd800 && c<=0xdfff))
+					return new String(bytes, 0, len, UTF8);
+				chars[n++] = (char) c;
+			} else if ((b & 0xf8)==0xf0 && i+2<len) {
+				int b2 = bytes[i++], b3 = bytes[i++], b4 = bytes[i++];
+				int c = ((b & 0x07) << 18) | ((b2 & 0x3f) << 12) | ((b3 & 0x3f) << 6) | (b4 & 0x3f);
+				if ((b2 & 0xc0)!=0x80 || (b3 & 0xc0)!=0x80 || (b4 & 0xc0)!=0x80 || c<0x10000 || c>0x10ffff)
+					return new String(bytes, 0, len, UTF8);
+				c -= 0x10000;
+				chars[n++] = (char) (0xd800 + (c >>> 10));
+				chars[n++] = (char) (0xdc00 + (c & 0x3ff));
+			} else
+				return new String(bytes, 0, len, UTF8);
+		}
+		return new String(chars, 0, n);
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public String[] getStringArray(String fieldName)
@@ -1656,7 +1925,9 @@ public class BinaryDecoder implements IDecoder {
 				builtinType = 15; //ByteString
 			}
 			
-			Object value					= isNull ? null : isArray ? getArrayObject(null, builtinType) : getScalarObject(null, builtinType);
+			// Multi-dimension arrays are demuxed from boxed arrays
+			boolean primitiveArray			= isArray && !hasDimensionLengths && ctx.getDecodePrimitiveArrays();
+			Object value					= isNull ? null : primitiveArray ? getPrimitiveArrayObject(null, builtinType) : isArray ? getArrayObject(null, builtinType) : getScalarObject(null, builtinType);
 			int[] dims						= hasDimensionLengths ? getInt32Array_(null) : null;
 			boolean multiDimension			= isArray && dims != null && dims.length>1;
 
@@ -1670,8 +1941,7 @@ public class BinaryDecoder implements IDecoder {
 				for(int i : dims){
 					total = total * i;
 				}
-				Object[] arrayValue = (Object[]) value;
-				long length = arrayValue==null ? -1 : arrayValue.length;
+				long length = value==null ? -1 : Array.getLength(value);
 				if(length != total){
 					throw new DecodingException("The ArrayDimensions do not match the ArrayLength in total size");
 				}
@@ -1686,11 +1956,16 @@ public class BinaryDecoder implements IDecoder {
 				}
 			}else {
 				if (value instanceof ExtensionObject) {
+					//getExtensionObject has decoded the bodies that it can decode
 					ExtensionObject extobj = (ExtensionObject) value;
-					try {
-						value = extobj.decode(ctx);
-					} catch (DecodingException e) {
-						value = extobj;
+					if (!extobj.isEncoded()) {
+						value = extobj.getObject();
+					} else if (extobj.getObject() == null && !ctx.getDecodeExtensionObjectsLazily()) {
+						try {
+							value = extobj.decode(ctx);
+						} catch (DecodingException e) {
+							value = extobj;
+						}
 					}
 				}
 			}
@@ -1701,7 +1976,8 @@ public class BinaryDecoder implements IDecoder {
 					value = tryDecimalConversion((ExtensionObject[]) value);
 				}
 				//If still ExtensionObject[], it was not Decimals
-				if (value instanceof ExtensionObject[]) {
+				if (value instanceof ExtensionObject[] && !ctx.getDecodeExtensionObjectsLazily()
+						&& !containsEncodedBodies((ExtensionObject[]) value)) {
 					ExtensionObject[] values = (ExtensionObject[]) value;
 					try {
 						value = ctx.decode(values);
@@ -1725,6 +2001,17 @@ public class BinaryDecoder implements IDecoder {
 		}
 	}
 
+	/**
+	 * @return true if some of the values have a body that
+	 *         {@link #getExtensionObject(String)} did not decode
+	 */
+	private static boolean containsEncodedBodies(ExtensionObject[] values) {
+		for (ExtensionObject v : values)
+			if (v != null && v.isEncoded() && v.getObject() != null)
+				return true;
+		return false;
+	}
+
 	private boolean isDecimal(ExtensionObject value) {
 		return ctx.getNamespaceTable().nodeIdEquals(Identifiers.Decimal, value.getTypeId());
 	}
@@ -391,6 +391,11 @@ public class BinaryEncoder implements IEncoder {
 	IBinaryWriteable out;
 	EncoderContext ctx; 
 	EncoderMode mode = EncoderMode.NonStrict;
+	/** Scratch buffer for bulk writes of primitive arrays, allocated on first use */
+	ByteBuffer arrayBuffer;
+	
+	/** Size of {@link #arrayBuffer} */
+	static final int ARRAY_BUFFER_SIZE = 8192;
 
 	/**
 	 * <p>Constructor for BinaryEncoder.</p>
@@ -534,6 +539,46 @@ public class BinaryEncoder implements IEncoder {
 	}
 
 	
+	/**
+	 * Write the elements of a primitive array in bulk. The elements are
+	 * copied to a scratch buffer through a view buffer of the element type,
+	 * and the scratch buffer is written at once.
+	 *
+	 * @param v a boolean[], short[], int[], long[], float[] or double[] array
+	 * @param length number of elements
+	 * @param elementSize encoded size of an element in bytes
+	 * @throws IOException if the elements cannot be written
+	 */
+	private void putPrimitiveArray(Object v, int length, int elementSize)
+	throws IOException
+	{
+		if (arrayBuffer==null)
+			arrayBuffer = ByteBuffer.allocate(ARRAY_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		ByteBuffer buf = arrayBuffer;
+		int n = buf.capacity() / elementSize;
+		for (int off=0; off<length; off+=n) {
+			int count = Math.min(n, length-off);
+			buf.clear();
+			if (v instanceof double[])
+				buf.asDoubleBuffer().put((double[]) v, off, count);
+			else if (v instanceof float[])
+				buf.asFloatBuffer().put((float[]) v, off, count);
+			else if (v instanceof int[])
+				buf.asIntBuffer().put((int[]) v, off, count);
+			else if (v instanceof long[])
+				buf.asLongBuffer().put((long[]) v, off, count);
+			else if (v instanceof short[])
+				buf.asShortBuffer().put((short[]) v, off, count);
+			else {
+				boolean[] b = (boolean[]) v;
+				byte[] a = buf.array();
+				for (int i=0; i<count; i++)
+					a[i] = b[off+i] ? (byte)1 : (byte)0;
+			}
+			out.put(buf.array(), 0, count * elementSize);
+		}
+	}
+
 	/**
 	 * Assert array length is within restrictions
 	 * @param len
@@ -639,6 +684,30 @@ public class BinaryEncoder implements IEncoder {
 		} catch (IOException e) {
 			throw toEncodingException(e);
 		}
+	}
+
+	/**
+	 * <p>putBooleanArray.</p>
+	 *
+	 * @param fieldName a {@link java.lang.String} object.
+	 * @param v an array of boolean.
+	 * @throws EncodingException if any.
+	 */
+	public void putBooleanArray(String fieldName, boolean[] v)
+    throws EncodingException	
+	{
+		try {
+			if (v==null) {
+				out.putInt(-1);
+				return;
+			}
+		
+			assertArrayLength(v.length);
+			out.putInt(v.length);
+			putPrimitiveArray(v, v.length, 1);
+		} catch (IOException e) {
+			throw toEncodingException(e);
+		}
 	}	
 	
 	/**
@@ -875,6 +944,30 @@ public class BinaryEncoder implements IEncoder {
 		} catch (IOException e) {
 			throw toEncodingException(e);
 		}
+	}
+
+	/**
+	 * <p>putInt16Array.</p>
+	 *
+	 * @param fieldName a {@link java.lang.String} object.
+	 * @param v an array of short.
+	 * @throws EncodingException if any.
+	 */
+	public void putInt16Array(String fieldName, short[] v)
+    throws EncodingException	
+	{
+		try {
+			if (v==null) {
+				out.putInt(-1);
+				return;
+			}
+		
+			assertArrayLength(v.length);
+			out.putInt(v.length);
+			putPrimitiveArray(v, v.length, 2);
+		} catch (IOException e) {
+			throw toEncodingException(e);
+		}
 	}	
 
 	/** {@inheritDoc} */
@@ -1013,8 +1106,7 @@ public class BinaryEncoder implements IEncoder {
 		
 			assertArrayLength(v.length);
 			out.putInt(v.length);
-			for (int o : v)
-				putInt32(null, o);
+			putPrimitiveArray(v, v.length, 4);
 		} catch (IOException e) {
 			throw toEncodingException(e);
 		}
@@ -1183,6 +1275,30 @@ public class BinaryEncoder implements IEncoder {
 			throw toEncodingException(e);
 		}
 	}
+
+	/**
+	 * <p>putInt64Array.</p>
+	 *
+	 * @param fieldName a {@link java.lang.String} object.
+	 * @param v an array of long.
+	 * @throws EncodingException if any.
+	 */
+	public void putInt64Array(String fieldName, long[] v)
+    throws EncodingException	
+	{
+		try {
+			if (v==null) {
+				out.putInt(-1);
+				return;
+			}
+		
+			assertArrayLength(v.length);
+			out.putInt(v.length);
+			putPrimitiveArray(v, v.length, 8);
+		} catch (IOException e) {
+			throw toEncodingException(e);
+		}
+	}
 	
 	/**
 	 * <p>putInt64Array.</p>
@@ -1331,6 +1447,30 @@ public class BinaryEncoder implements IEncoder {
 		} catch (IOException e) {
 			throw toEncodingException(e);
 		}			
+	}
+
+	/**
+	 * <p>putFloatArray.</p>
+	 *
+	 * @param fieldName a {@link java.lang.String} object.
+	 * @param v an array of float.
+	 * @throws EncodingException if any.
+	 */
+	public void putFloatArray(String fieldName, float[] v)
+    throws EncodingException	
+	{
+		try {
+			if (v==null) {
+				out.putInt(-1);
+				return;
+			}
+		
+			assertArrayLength(v.length);
+			out.putInt(v.length);
+			putPrimitiveArray(v, v.length, 4);
+		} catch (IOException e) {
+			throw toEncodingException(e);
+		}
 	}		
 	
 	/**
@@ -1414,6 +1554,30 @@ public class BinaryEncoder implements IEncoder {
 		} catch (IOException e) {
 			throw toEncodingException(e);
 		}
+	}
+
+	/**
+	 * <p>putDoubleArray.</p>
+	 *
+	 * @param fieldName a {@link java.lang.String} object.
+	 * @param v an array of double.
+	 * @throws EncodingException if any.
+	 */
+	public void putDoubleArray(String fieldName, double[] v)
+    throws EncodingException	
+	{
+		try {
+			if (v==null) {
+				out.putInt(-1);
+				return;
+			}
+		
+			assertArrayLength(v.length);
+			out.putInt(v.length);
+			putPrimitiveArray(v, v.length, 8);
+		} catch (IOException e) {
+			throw toEncodingException(e);
+		}
 	}	
 
 	/**
@@ -1451,15 +1615,83 @@ public class BinaryEncoder implements IEncoder {
 				out.putInt(-1);
 			} else {
 				assertStringLength(v.length());
-				final byte[] bytes = v.getBytes(UTF8);
-				out.putInt(bytes.length);
-				out.put(bytes);
+				putUtf8(v);
 			}
 		} catch (IOException e) {
 			throw toEncodingException(e);
 		}
 	}
 
+	/**
+	 * Write the length and the UTF-8 encoding of a string, through the
+	 * scratch buffer. A string of only ASCII characters is copied as is.
+	 * Unpaired surrogates are written as '?', as {@link String#getBytes}
+	 * does.
+	 *
+	 * @param v a string
+	 */
+	private void putUtf8(String v)
+	throws IOException
+	{
+		int n = v.length();
+		int ascii = 0;
+		while (ascii<n && v.charAt(ascii)<0x80)
+			ascii++;
+		int len = ascii;
+		for (int i=ascii; i<n; i++) {
+			char c = v.charAt(i);
+			if (c<0x80) len += 1;
+			else if (c<0x800) len += 2;
+			else if (Character.isHighSurrogate(c) && i+1<n && Character.isLowSurrogate(v.charAt(i+1))) {
+				len += 4;
+				i++;
+			} else if (c>=Character.MIN_SURROGATE && c<=Character.MAX_SURROGATE) len += 1;
+			else len += 3;
+		}
+		out.putInt(len);
+		if (len==0)
+			return;
+		if (arrayBuffer==null)
+			arrayBuffer = ByteBuffer.allocate(ARRAY_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		byte[] a = arrayBuffer.array();
+		if (ascii==n) {
+			for (int off=0; off<n; off+=a.length) {
+				int count = Math.min(a.length, n-off);
+				for (int i=0; i<count; i++)
+					a[i] = (byte) v.charAt(off+i);
+				out.put(a, 0, count);
+			}
+			return;
+		}
+		int j = 0;
+		for (int i=0; i<n; i++) {
+			if (j>a.length-4) {
+				out.put(a, 0, j);
+				j = 0;
+			}
+			char c = v.charAt(i);
+			if (c<0x80) {
+				a[j++] = (byte) c;
+			} else if (c<0x800) {
+				a[j++] = (byte) (0xc0 | (c >> 6));
+				a[j++] = (byte) (0x80 | (c & 0x3f));
+			} else if (Character.isHighSurrogate(c) && i+1<n && Character.isLowSurrogate(v.charAt(i+1))) {
+				int cp = Character.toCodePoint(c, v.charAt(++i));
+				a[j++] = (byte) (0xf0 | (cp >> 18));
+				a[j++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+				a[j++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+				a[j++] = (byte) (0x80 | (cp & 0x3f));
+			} else if (c>=Character.MIN_SURROGATE && c<=Character.MAX_SURROGATE) {
+				a[j++] = '?';
+			} else {
+				a[j++] = (byte) (0xe0 | (c >> 12));
+				a[j++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+				a[j++] = (byte) (0x80 | (c & 0x3f));
+			}
+		}
+		out.put(a, 0, j);
+	}
+
 	/**
 	 * <p>putStringArray.</p>
 	 *
@@ -2471,25 +2703,9 @@ public class BinaryEncoder implements IEncoder {
 			return;
 		}		
 
-		Class<?> compositeClass			= v.getCompositeClass();
-		final int builtinType;
-		final boolean isDecimal;
-		if(BigDecimal.class.isAssignableFrom(compositeClass)) {
-			builtinType = 22;
-			isDecimal = true;
-		}else {
-			isDecimal = false;
-			if (Structure.class.isAssignableFrom(compositeClass)) {
-				builtinType = 22;
-			}else {
-				if(BuiltinsMap.ID_MAP.containsKey(compositeClass)) {
-					builtinType = BuiltinsMap.ID_MAP.get(compositeClass);
-				}else {
-					throw new EncodingException("Non-suitable composite class for Variant: "+compositeClass);
-				}
-				
-			}
-		}
+		// The Variant resolves its builtin type and dimensions when it is created
+		final int builtinType = v.getBuiltinTypeId();
+		final boolean isDecimal = builtinType == 22 && BigDecimal.class.isAssignableFrom(v.getCompositeClass());
 		
 		// Scalar
 		if (!v.isArray()) {
@@ -2515,7 +2731,7 @@ public class BinaryEncoder implements IEncoder {
 		// Multi-dimension array
 		int dims[] = v.getArrayDimensions();
 		int len = MultiDimensionArrayUtils.getLength(dims);
-		Iterator<Object> i = MultiDimensionArrayUtils.arrayIterator(v.getValue(), v.getArrayDimensions());
+		Iterator<Object> i = MultiDimensionArrayUtils.arrayIterator(o, dims);
 		try {
 			putSByte( null, (builtinType | 0xC0));
 			out.putInt(len);
@@ -2794,6 +3010,30 @@ public class BinaryEncoder implements IEncoder {
 	public void putArray(String fieldName, int builtinType, Object o)
     throws EncodingException	
 	{
+		if (o instanceof double[]) {
+			putDoubleArray(null, (double[]) o);
+			return;
+		}
+		if (o instanceof float[]) {
+			putFloatArray(null, (float[]) o);
+			return;
+		}
+		if (o instanceof int[]) {
+			putInt32Array(null, (int[]) o);
+			return;
+		}
+		if (o instanceof long[]) {
+			putInt64Array(null, (long[]) o);
+			return;
+		}
+		if (o instanceof short[]) {
+			putInt16Array(null, (short[]) o);
+			return;
+		}
+		if (o instanceof boolean[]) {
+			putBooleanArray(null, (boolean[]) o);
+			return;
+		}
 		switch (builtinType) {
 		case 1: putBooleanArray(null, (Boolean[]) o); break;
 		case 2: putSByteArray(null, (Byte[]) o); break;
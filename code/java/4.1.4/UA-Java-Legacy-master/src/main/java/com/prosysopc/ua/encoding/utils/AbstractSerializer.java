@@ -35,7 +35,7 @@ public abstract class AbstractSerializer implements IEncodeableSerializer {
 	 * Additionally throw if given non-local ids.
 	 * If given null, return null (as some encodings might be optional).
 	 */
-	private static ExpandedNodeId fixAndValidateId(ExpandedNodeId id) {
+	static ExpandedNodeId fixAndValidateId(ExpandedNodeId id) {
 		if(id == null) {
 			return null;
 		}
@@ -13,12 +13,18 @@
 package com.prosysopc.ua.encoding.utils;
 
 import com.prosysopc.ua.builtintypes.ExpandedNodeId;
+import com.prosysopc.ua.builtintypes.NodeId;
+import com.prosysopc.ua.builtintypes.UnsignedInteger;
+import com.prosysopc.ua.common.NamespaceTable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.prosysopc.ua.encoding.DecodingException;
 import com.prosysopc.ua.encoding.EncodeType;
@@ -30,15 +36,122 @@ import com.prosysopc.ua.encoding.binary.IEncodeableSerializer;
 
 /**
  * A collection of serializers for Structure types. Used by the encoders and decoders.
+ * <p>
+ * Serializers are either added as such with {@link #addSerializer(IEncodeableSerializer)},
+ * or registered by class name and NodeIds with
+ * {@link #addSerializer(String, ExpandedNodeId, ExpandedNodeId, ExpandedNodeId)}.
+ * The serializer of a registered type is created with
+ * {@link #createSerializer(int)} on the first encode or decode of the type,
+ * and the class of the type is taken from the serializer, so classes are
+ * never loaded by name.
+ * <p>
+ * Each type gets a dense ordinal in the order it is added. Lookups by class
+ * go through an identity keyed table of ordinals, and lookups by numeric
+ * NodeIds of namespace 0 through a table indexed by the identifier, so that
+ * encoding and decoding do not hash ExpandedNodeIds.
  */
 public class SerializerComposition implements IEncodeableSerializer {
 
-	Map<Class<? extends IEncodeable>, IEncodeableSerializer> serializers = new HashMap<Class<? extends IEncodeable>, IEncodeableSerializer>();
-	Map<ExpandedNodeId, Class<? extends IEncodeable>> idToClass = new HashMap<ExpandedNodeId, Class<? extends IEncodeable>>();
-	Map<Class<? extends IEncodeable>, ExpandedNodeId> classToBinId = new HashMap<Class<? extends IEncodeable>, ExpandedNodeId>();
-	Map<Class<? extends IEncodeable>, ExpandedNodeId> classToXmlId = new HashMap<Class<? extends IEncodeable>, ExpandedNodeId>();
-	Set<ExpandedNodeId> nodeIds = idToClass.keySet();
-	Set<Class<? extends IEncodeable>> classes = classToBinId.keySet();
+	private static final Logger logger = LoggerFactory.getLogger(SerializerComposition.class);
+
+	/**
+	 * A Structure type of the composition
+	 */
+	static class Registration {
+		/** Index in {@link SerializerComposition#registrations} */
+		final int ordinal;
+		final String className;
+		final ExpandedNodeId binaryId;
+		final ExpandedNodeId xmlId;
+		/** Index for {@link SerializerComposition#createSerializer(int)}, -1 if the serializer was added */
+		final int index;
+		/** The class, taken from the serializer on first use */
+		volatile Class<? extends IEncodeable> clazz;
+		/** The serializer, created on first use */
+		volatile IEncodeableSerializer serializer;
+
+		Registration(int ordinal, String className, ExpandedNodeId binaryId, ExpandedNodeId xmlId, int index) {
+			this.ordinal = ordinal;
+			this.className = className;
+			this.binaryId = binaryId;
+			this.xmlId = xmlId;
+			this.index = index;
+		}
+	}
+
+	/** Largest namespace 0 identifier in {@link #ns0Ids}, others are only in {@link #nodeIds} */
+	static final int MAX_NS0_ID = 0xffff;
+
+	/** Types by ordinal */
+	volatile Registration[] registrations = new Registration[0];
+	/** Ordinals by class, types registered by name are added on first use */
+	volatile ClassTable classes = new ClassTable(16);
+	Map<String, Registration> classNames = new ConcurrentHashMap<String, Registration>();
+	Map<ExpandedNodeId, Registration> nodeIds = new ConcurrentHashMap<ExpandedNodeId, Registration>();
+	/** Types by numeric identifier of the NodeIds in namespace 0 */
+	volatile Registration[] ns0Ids = new Registration[0];
+	/** Number of types registered by name */
+	int registeredCount;
+
+	/**
+	 * An open addressing table from classes to ordinals, keyed by identity.
+	 * The table is not modified once it has been published, a class is
+	 * added by copying it.
+	 */
+	static class ClassTable {
+		final Class<?>[] keys;
+		final int[] ordinals;
+		final int size;
+
+		ClassTable(int capacity) {
+			keys = new Class<?>[capacity];
+			ordinals = new int[capacity];
+			size = 0;
+		}
+
+		/**
+		 * Copy a table with the ordinal of clazz added or replaced.
+		 */
+		ClassTable(ClassTable table, Class<?> clazz, int ordinal) {
+			int capacity = table.keys.length;
+			if ((table.size + 1) * 2 > capacity)
+				capacity *= 2;
+			keys = new Class<?>[capacity];
+			ordinals = new int[capacity];
+			int size = 0;
+			for (int i=0; i<table.keys.length; i++)
+				if (table.keys[i] != null && table.keys[i] != clazz) {
+					put(table.keys[i], table.ordinals[i]);
+					size++;
+				}
+			put(clazz, ordinal);
+			this.size = size + 1;
+		}
+
+		private void put(Class<?> clazz, int ordinal) {
+			int mask = keys.length - 1;
+			int i = System.identityHashCode(clazz) & mask;
+			while (keys[i] != null)
+				i = (i + 1) & mask;
+			keys[i] = clazz;
+			ordinals[i] = ordinal;
+		}
+
+		/**
+		 * @return the ordinal of the class, or -1
+		 */
+		int get(Class<?> clazz) {
+			int mask = keys.length - 1;
+			int i = System.identityHashCode(clazz) & mask;
+			Class<?> key;
+			while ((key = keys[i]) != null) {
+				if (key == clazz)
+					return ordinals[i];
+				i = (i + 1) & mask;
+			}
+			return -1;
+		}
+	}
 
 	/**
 	 * <p>Constructor for SerializerComposition.</p>
@@ -51,25 +164,26 @@ public class SerializerComposition implements IEncodeableSerializer {
 	 *
 	 * @param serializer a {@link IEncodeableSerializer} object.
 	 */
-	public void addSerializer(IEncodeableSerializer serializer)
+	public synchronized void addSerializer(IEncodeableSerializer serializer)
 	{
 		List<Class<? extends IEncodeable>> classes = new ArrayList<Class<? extends IEncodeable>>();
 		serializer.getSupportedClasses(classes);
 		for (Class<? extends IEncodeable> clazz : classes)
 		{
 			ExpandedNodeId binId = serializer.getNodeId(clazz, EncodeType.Binary);
-			classToBinId.put(clazz, binId);
 			ExpandedNodeId xmlId = serializer.getNodeId(clazz, EncodeType.Xml);
-			classToXmlId.put(clazz, xmlId);
-			serializers.put(clazz, serializer);
+			Registration r = newRegistration(clazz.getName(), binId, xmlId, -1);
+			r.clazz = clazz;
+			r.serializer = serializer;
+			cacheClass(clazz, r);
 			if (binId!=null) 
-				idToClass.put(binId, clazz);			
+				putNodeId(binId, r);			
 			if (xmlId!=null) 
-				idToClass.put(xmlId, clazz);		
+				putNodeId(xmlId, r);		
 			try{
 				ExpandedNodeId nodeId = serializer.getNodeId(clazz, null);
 				if(nodeId != null){
-					idToClass.put(nodeId, clazz);
+					putNodeId(nodeId, r);
 				}
 			}catch(Exception e){
 				/*
@@ -82,9 +196,163 @@ public class SerializerComposition implements IEncodeableSerializer {
 		}
 	}
 
+	/**
+	 * Register a Structure type, whose class and serializer are loaded on
+	 * first use. The serializer is created with {@link #createSerializer(int)},
+	 * with the number of types registered before this one as the index, and
+	 * must support the class of the given name.
+	 *
+	 * @param className fully qualified name of the class of the type
+	 * @param binaryId NodeId of the binary encoding
+	 * @param xmlId NodeId of the XML encoding
+	 * @param typeId NodeId of the DataType, or null
+	 */
+	public synchronized void addSerializer(String className, ExpandedNodeId binaryId, ExpandedNodeId xmlId, ExpandedNodeId typeId)
+	{
+		binaryId = AbstractSerializer.fixAndValidateId(binaryId);
+		xmlId = AbstractSerializer.fixAndValidateId(xmlId);
+		typeId = AbstractSerializer.fixAndValidateId(typeId);
+		Registration r = newRegistration(className, binaryId, xmlId, registeredCount++);
+		if (binaryId!=null)
+			putNodeId(binaryId, r);
+		if (xmlId!=null)
+			putNodeId(xmlId, r);
+		if (typeId!=null)
+			putNodeId(typeId, r);
+	}
+
+	private Registration newRegistration(String className, ExpandedNodeId binaryId, ExpandedNodeId xmlId, int index) {
+		Registration[] registrations = this.registrations;
+		Registration r = new Registration(registrations.length, className, binaryId, xmlId, index);
+		registrations = Arrays.copyOf(registrations, registrations.length + 1);
+		registrations[r.ordinal] = r;
+		this.registrations = registrations;
+		classNames.put(className, r);
+		return r;
+	}
+
+	private synchronized void cacheClass(Class<? extends IEncodeable> clazz, Registration r) {
+		if (classes.get(clazz) != r.ordinal)
+			classes = new ClassTable(classes, clazz, r.ordinal);
+	}
+
+	private void putNodeId(ExpandedNodeId id, Registration r) {
+		nodeIds.put(id, r);
+		int ns0Id = getNs0Identifier(id);
+		if (ns0Id >= 0) {
+			Registration[] ns0Ids = this.ns0Ids;
+			if (ns0Id >= ns0Ids.length)
+				ns0Ids = Arrays.copyOf(ns0Ids, ns0Id + 1);
+			ns0Ids[ns0Id] = r;
+			this.ns0Ids = ns0Ids;
+		}
+	}
+
+	/**
+	 * @return the numeric identifier of a local NodeId in namespace 0, or -1
+	 */
+	static int getNs0Identifier(ExpandedNodeId id) {
+		if (!(id.getValue() instanceof UnsignedInteger) || !id.isLocal())
+			return -1;
+		String uri = id.getNamespaceUri();
+		if (uri == null ? id.getNamespaceIndex() != 0 : !uri.equals(NamespaceTable.OPCUA_NAMESPACE))
+			return -1;
+		return getNs0Identifier((UnsignedInteger) id.getValue());
+	}
+
+	private static int getNs0Identifier(UnsignedInteger value) {
+		long identifier = value.getValue();
+		return identifier <= MAX_NS0_ID ? (int) identifier : -1;
+	}
+
+	/**
+	 * Create the serializer of a type registered with
+	 * {@link #addSerializer(String, ExpandedNodeId, ExpandedNodeId, ExpandedNodeId)}.
+	 * Subclasses that register types override this.
+	 *
+	 * @param index the number of types registered before the type
+	 * @return the serializer, or null
+	 */
+	protected IEncodeableSerializer createSerializer(int index) {
+		return null;
+	}
+
+	/**
+	 * Get the registration of a class, or null if it is not in the composition.
+	 */
+	private Registration getRegistration(Class<? extends IEncodeable> clazz) {
+		if (clazz == null)
+			return null;
+		int ordinal = classes.get(clazz);
+		if (ordinal >= 0)
+			return registrations[ordinal];
+		Registration r = classNames.get(clazz.getName());
+		if (r == null || loadClass(r) != clazz)
+			return null;
+		cacheClass(clazz, r);
+		return r;
+	}
+
+	/**
+	 * Get the ordinal of a class. Ordinals are dense and given in the order
+	 * the types are added to the composition.
+	 *
+	 * @param clazz class of a Structure type
+	 * @return the ordinal, or -1 if the class is not in the composition
+	 */
+	public int getOrdinal(Class<? extends IEncodeable> clazz) {
+		Registration r = getRegistration(clazz);
+		return r == null ? -1 : r.ordinal;
+	}
+
+	/**
+	 * Get the number of types in the composition. The number grows when
+	 * types are added, so it tells whether a type that was not found
+	 * might be found now.
+	 *
+	 * @return the number of types, all ordinals are below it
+	 */
+	public int getTypeCount() {
+		return registrations.length;
+	}
+
+	private Class<? extends IEncodeable> loadClass(Registration r) {
+		Class<? extends IEncodeable> clazz = r.clazz;
+		if (clazz == null) {
+			// The serializer refers to the class with its class literal
+			IEncodeableSerializer s = getSerializer(r);
+			if (s != null) {
+				List<Class<? extends IEncodeable>> supported = new ArrayList<Class<? extends IEncodeable>>(1);
+				s.getSupportedClasses(supported);
+				for (Class<? extends IEncodeable> c : supported)
+					if (c.getName().equals(r.className))
+						clazz = c;
+			}
+			if (clazz == null) {
+				logger.error("No serializer for registered type {}", r.className);
+				return null;
+			}
+			r.clazz = clazz;
+		}
+		return clazz;
+	}
+
+	private IEncodeableSerializer getSerializer(Registration r) {
+		IEncodeableSerializer s = r.serializer;
+		if (s == null) {
+			synchronized (r) {
+				s = r.serializer;
+				if (s == null)
+					r.serializer = s = createSerializer(r.index);
+			}
+		}
+		return s;
+	}
+
 	/** {@inheritDoc} */
 	public void putEncodeable(Class<? extends IEncodeable> clazz, IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-		IEncodeableSerializer s = serializers.get(clazz);
+		Registration r = getRegistration(clazz);
+		IEncodeableSerializer s = r == null ? null : getSerializer(r);
 		if (s==null) throw new EncodingException("Cannot encode "+clazz);
 		s.putEncodeable(clazz, encodeable, encoder);
 	}
@@ -92,40 +360,83 @@ public class SerializerComposition implements IEncodeableSerializer {
 	/** {@inheritDoc} */
 	public void calcEncodeable(Class<? extends IEncodeable> clazz, IEncodeable encodeable, IEncoder calculator)
 	throws EncodingException {
-		IEncodeableSerializer s = serializers.get(clazz);
+		Registration r = getRegistration(clazz);
+		IEncodeableSerializer s = r == null ? null : getSerializer(r);
 		if (s==null) throw new EncodingException("Cannot encode "+clazz);
 		s.calcEncodeable(clazz, encodeable, calculator);		
 	}
 
 	/** {@inheritDoc} */
 	public IEncodeable getEncodeable(Class<? extends IEncodeable> clazz, IDecoder decoder) throws DecodingException {
-		IEncodeableSerializer s = serializers.get(clazz);
+		Registration r = getRegistration(clazz);
+		IEncodeableSerializer s = r == null ? null : getSerializer(r);
 		if (s==null) throw new DecodingException("Cannot decode "+clazz);
 		return s.getEncodeable(clazz, decoder);
 	}
 
 	/** {@inheritDoc} */
 	public Class<? extends IEncodeable> getClass(ExpandedNodeId id) {
-		return idToClass.get(id);
+		if (id == null)
+			return null;
+		Registration r = getNs0Registration(getNs0Identifier(id));
+		if (r == null)
+			r = nodeIds.get(id);
+		return r == null ? null : loadClass(r);
+	}
+
+	/**
+	 * Get the class of an encoding or DataType NodeId, which uses the
+	 * namespace indices of the namespace table. A numeric NodeId of namespace
+	 * 0 is resolved without converting it to an {@link ExpandedNodeId}.
+	 *
+	 * @param id a {@link NodeId} object.
+	 * @param namespaceTable namespace table of the indices of id
+	 * @return the class, or null
+	 */
+	public Class<? extends IEncodeable> getClass(NodeId id, NamespaceTable namespaceTable) {
+		if (id == null)
+			return null;
+		if (id.getNamespaceIndex() == 0 && id.getValue() instanceof UnsignedInteger) {
+			Registration r = getNs0Registration(getNs0Identifier((UnsignedInteger) id.getValue()));
+			if (r != null)
+				return loadClass(r);
+		}
+		return getClass(namespaceTable.toExpandedNodeId(id));
+	}
+
+	private Registration getNs0Registration(int ns0Id) {
+		Registration[] ns0Ids = this.ns0Ids;
+		return ns0Id >= 0 && ns0Id < ns0Ids.length ? ns0Ids[ns0Id] : null;
 	}
 	
 	/** {@inheritDoc} */
 	public ExpandedNodeId getNodeId(Class<? extends IEncodeable> clazz, EncodeType type) {
+		Registration r = getRegistration(clazz);
+		if (r == null)
+			return null;
 		if (type == EncodeType.Binary)
-			return classToBinId.get(clazz);
+			return r.binaryId;
 		if (type == EncodeType.Xml)
-			return classToXmlId.get(clazz);
+			return r.xmlId;
 		return null;
 	}
 
-	/** {@inheritDoc} */
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * This loads the classes of all registered types.
+	 */
 	public void getSupportedClasses(Collection<Class<? extends IEncodeable>> result) {
-		result.addAll(classes);
+		for (Registration r : classNames.values()) {
+			Class<? extends IEncodeable> clazz = loadClass(r);
+			if (clazz != null)
+				result.add(clazz);
+		}
 	}
 
 	/** {@inheritDoc} */
 	public void getSupportedNodeIds(Collection<ExpandedNodeId> result) {
-		result.addAll(nodeIds);
+		result.addAll(nodeIds.keySet());
 	}
 
 }
@@ -32,6 +32,8 @@ package com.prosysopc.ua.transport;
 import com.prosysopc.ua.builtintypes.ByteString;
 import com.prosysopc.ua.builtintypes.ExtensionObject;
 import com.prosysopc.ua.builtintypes.NodeId;
+import com.prosysopc.ua.builtintypes.ServiceRequest;
+import com.prosysopc.ua.builtintypes.ServiceResponse;
 import com.prosysopc.ua.builtintypes.UnsignedByte;
 import com.prosysopc.ua.builtintypes.UnsignedInteger;
 import com.prosysopc.ua.core.ApplicationDescription;
@@ -139,6 +141,7 @@ import com.prosysopc.ua.core.ViewDescription;
 import com.prosysopc.ua.core.WriteRequest;
 import com.prosysopc.ua.core.WriteResponse;
 import com.prosysopc.ua.core.WriteValue;
+import com.prosysopc.ua.transport.impl.AsyncResultImpl;
 
 
 /**
@@ -168,6 +171,24 @@ public class ChannelService {
 		this.channel = channel;		
 	}	
 	
+	/**
+	 * Send a request asynchronously and notify the listener of the response
+	 * in the thread that receives it, without a handoff to an executor. 
+	 * The listener must return quickly and must not block.
+	 * 
+	 * @param req the request
+	 * @param listener listener that receives either an error or the result
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	protected void serviceRequestAsync(ServiceRequest req, ResultListener<? extends ServiceResponse> listener)
+	{
+		AsyncResult<ServiceResponse> result = channel.serviceRequestAsync( req );
+		if (result instanceof AsyncResultImpl)
+			((AsyncResultImpl<ServiceResponse>) result).setListener((ResultListener) listener, true);
+		else
+			result.setListener((ResultListener) listener);
+	}
+	
     /**
      * Synchronous FindServers service request. 
      * 
@@ -228,6 +249,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous FindServers service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void FindServersAsync(FindServersRequest req, ResultListener<FindServersResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous FindServersOnNetwork service request. 
      * 
@@ -288,6 +321,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous FindServersOnNetwork service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void FindServersOnNetworkAsync(FindServersOnNetworkRequest req, ResultListener<FindServersOnNetworkResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous GetEndpoints service request. 
      * 
@@ -348,6 +393,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous GetEndpoints service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void GetEndpointsAsync(GetEndpointsRequest req, ResultListener<GetEndpointsResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous RegisterServer service request. 
      * 
@@ -404,6 +461,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous RegisterServer service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void RegisterServerAsync(RegisterServerRequest req, ResultListener<RegisterServerResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous RegisterServer2 service request. 
      * 
@@ -462,6 +531,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous RegisterServer2 service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void RegisterServer2Async(RegisterServer2Request req, ResultListener<RegisterServer2Response> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous OpenSecureChannel service request. 
      * 
@@ -526,6 +607,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous OpenSecureChannel service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void OpenSecureChannelAsync(OpenSecureChannelRequest req, ResultListener<OpenSecureChannelResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous CloseSecureChannel service request. 
      * 
@@ -580,6 +673,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous CloseSecureChannel service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void CloseSecureChannelAsync(CloseSecureChannelRequest req, ResultListener<CloseSecureChannelResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous CreateSession service request. 
      * 
@@ -650,6 +755,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous CreateSession service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void CreateSessionAsync(CreateSessionRequest req, ResultListener<CreateSessionResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous ActivateSession service request. 
      * 
@@ -714,6 +831,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous ActivateSession service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void ActivateSessionAsync(ActivateSessionRequest req, ResultListener<ActivateSessionResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous CloseSession service request. 
      * 
@@ -770,6 +899,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous CloseSession service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void CloseSessionAsync(CloseSessionRequest req, ResultListener<CloseSessionResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous Cancel service request. 
      * 
@@ -826,6 +967,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous Cancel service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void CancelAsync(CancelRequest req, ResultListener<CancelResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous AddNodes service request. 
      * 
@@ -882,6 +1035,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous AddNodes service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void AddNodesAsync(AddNodesRequest req, ResultListener<AddNodesResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous AddReferences service request. 
      * 
@@ -938,6 +1103,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous AddReferences service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void AddReferencesAsync(AddReferencesRequest req, ResultListener<AddReferencesResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous DeleteNodes service request. 
      * 
@@ -994,6 +1171,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous DeleteNodes service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void DeleteNodesAsync(DeleteNodesRequest req, ResultListener<DeleteNodesResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous DeleteReferences service request. 
      * 
@@ -1050,6 +1239,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous DeleteReferences service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void DeleteReferencesAsync(DeleteReferencesRequest req, ResultListener<DeleteReferencesResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous Browse service request. 
      * 
@@ -1110,6 +1311,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous Browse service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void BrowseAsync(BrowseRequest req, ResultListener<BrowseResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous BrowseNext service request. 
      * 
@@ -1168,6 +1381,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous BrowseNext service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void BrowseNextAsync(BrowseNextRequest req, ResultListener<BrowseNextResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous TranslateBrowsePathsToNodeIds service request. 
      * 
@@ -1224,6 +1449,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous TranslateBrowsePathsToNodeIds service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void TranslateBrowsePathsToNodeIdsAsync(TranslateBrowsePathsToNodeIdsRequest req, ResultListener<TranslateBrowsePathsToNodeIdsResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous RegisterNodes service request. 
      * 
@@ -1280,6 +1517,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous RegisterNodes service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void RegisterNodesAsync(RegisterNodesRequest req, ResultListener<RegisterNodesResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous UnregisterNodes service request. 
      * 
@@ -1336,6 +1585,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous UnregisterNodes service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void UnregisterNodesAsync(UnregisterNodesRequest req, ResultListener<UnregisterNodesResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous QueryFirst service request. 
      * 
@@ -1400,6 +1661,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous QueryFirst service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void QueryFirstAsync(QueryFirstRequest req, ResultListener<QueryFirstResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous QueryNext service request. 
      * 
@@ -1458,6 +1731,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous QueryNext service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void QueryNextAsync(QueryNextRequest req, ResultListener<QueryNextResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous Read service request. 
      * 
@@ -1518,6 +1803,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous Read service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void ReadAsync(ReadRequest req, ResultListener<ReadResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous HistoryRead service request. 
      * 
@@ -1580,6 +1877,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous HistoryRead service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void HistoryReadAsync(HistoryReadRequest req, ResultListener<HistoryReadResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous Write service request. 
      * 
@@ -1636,6 +1945,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous Write service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void WriteAsync(WriteRequest req, ResultListener<WriteResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous HistoryUpdate service request. 
      * 
@@ -1692,6 +2013,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous HistoryUpdate service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void HistoryUpdateAsync(HistoryUpdateRequest req, ResultListener<HistoryUpdateResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous Call service request. 
      * 
@@ -1748,6 +2081,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous Call service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void CallAsync(CallRequest req, ResultListener<CallResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous CreateMonitoredItems service request. 
      * 
@@ -1808,6 +2153,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous CreateMonitoredItems service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void CreateMonitoredItemsAsync(CreateMonitoredItemsRequest req, ResultListener<CreateMonitoredItemsResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous ModifyMonitoredItems service request. 
      * 
@@ -1868,6 +2225,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous ModifyMonitoredItems service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void ModifyMonitoredItemsAsync(ModifyMonitoredItemsRequest req, ResultListener<ModifyMonitoredItemsResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous SetMonitoringMode service request. 
      * 
@@ -1928,6 +2297,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous SetMonitoringMode service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void SetMonitoringModeAsync(SetMonitoringModeRequest req, ResultListener<SetMonitoringModeResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous SetTriggering service request. 
      * 
@@ -1990,6 +2371,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous SetTriggering service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void SetTriggeringAsync(SetTriggeringRequest req, ResultListener<SetTriggeringResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous DeleteMonitoredItems service request. 
      * 
@@ -2048,6 +2441,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous DeleteMonitoredItems service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void DeleteMonitoredItemsAsync(DeleteMonitoredItemsRequest req, ResultListener<DeleteMonitoredItemsResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous CreateSubscription service request. 
      * 
@@ -2114,6 +2519,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous CreateSubscription service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void CreateSubscriptionAsync(CreateSubscriptionRequest req, ResultListener<CreateSubscriptionResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous ModifySubscription service request. 
      * 
@@ -2180,6 +2597,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous ModifySubscription service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void ModifySubscriptionAsync(ModifySubscriptionRequest req, ResultListener<ModifySubscriptionResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous SetPublishingMode service request. 
      * 
@@ -2238,6 +2667,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous SetPublishingMode service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void SetPublishingModeAsync(SetPublishingModeRequest req, ResultListener<SetPublishingModeResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous Publish service request. 
      * 
@@ -2294,6 +2735,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous Publish service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void PublishAsync(PublishRequest req, ResultListener<PublishResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous Republish service request. 
      * 
@@ -2352,6 +2805,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous Republish service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void RepublishAsync(RepublishRequest req, ResultListener<RepublishResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous TransferSubscriptions service request. 
      * 
@@ -2410,6 +2875,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous TransferSubscriptions service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void TransferSubscriptionsAsync(TransferSubscriptionsRequest req, ResultListener<TransferSubscriptionsResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
     /**
      * Synchronous DeleteSubscriptions service request. 
      * 
@@ -2466,6 +2943,18 @@ public class ChannelService {
     	return channel.serviceRequestAsync( req );
     }
     
+    /**
+     * Asynchronous DeleteSubscriptions service request. The listener is notified in the thread 
+     * that receives the response and must not block.
+     * 
+     * @param req the request
+     * @param listener listener that receives either an error or the result
+     */
+    public void DeleteSubscriptionsAsync(DeleteSubscriptionsRequest req, ResultListener<DeleteSubscriptionsResponse> listener)
+    {
+    	serviceRequestAsync( req, listener );
+    }
+    
  
 
 }
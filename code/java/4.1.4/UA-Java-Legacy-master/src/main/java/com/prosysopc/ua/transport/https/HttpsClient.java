@@ -18,6 +18,7 @@ import com.prosysopc.ua.builtintypes.ServiceResponse;
 import com.prosysopc.ua.builtintypes.UnsignedInteger;
 import com.prosysopc.ua.transport.security.HttpsSecurityPolicy;
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.nio.charset.Charset;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
@@ -27,11 +28,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -43,19 +47,46 @@ import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocket;
 
+import org.apache.http.Header;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequestInterceptor;
 import org.apache.http.auth.AuthScope;
+import org.apache.http.auth.AuthenticationException;
 import org.apache.http.auth.UsernamePasswordCredentials;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.ConnectionConfig;
 import org.apache.http.conn.ClientConnectionManager;
 import org.apache.http.conn.scheme.PlainSocketFactory;
 import org.apache.http.conn.scheme.Scheme;
 import org.apache.http.conn.scheme.SchemeRegistry;
 import org.apache.http.conn.ssl.SSLSocketFactory;
 import org.apache.http.conn.ssl.X509HostnameVerifier;
+import org.apache.http.impl.auth.BasicScheme;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.DefaultHttpClient;
 import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.nio.DefaultNHttpClientConnection;
+import org.apache.http.impl.nio.DefaultNHttpClientConnectionFactory;
+import org.apache.http.impl.nio.SSLNHttpClientConnectionFactory;
+import org.apache.http.impl.nio.pool.BasicNIOConnPool;
+import org.apache.http.message.BasicHttpRequest;
+import org.apache.http.nio.NHttpClientConnection;
+import org.apache.http.nio.NHttpConnectionFactory;
+import org.apache.http.nio.pool.NIOConnFactory;
+import org.apache.http.nio.protocol.HttpAsyncRequestProducer;
+import org.apache.http.nio.protocol.HttpAsyncRequester;
+import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
+import org.apache.http.nio.reactor.IOEventDispatch;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.nio.reactor.IOSession;
+import org.apache.http.nio.reactor.ssl.SSLSetupHandler;
 import org.apache.http.params.BasicHttpParams;
 import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.protocol.HttpCoreContext;
+import org.apache.http.protocol.ImmutableHttpProcessor;
+import org.apache.http.protocol.RequestConnControl;
+import org.apache.http.protocol.RequestContent;
+import org.apache.http.protocol.RequestTargetHost;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.prosysopc.ua.common.ServiceResultException;
@@ -110,6 +141,23 @@ public class HttpsClient implements ITransportChannel {
 	/** HttpClient */
 	DefaultHttpClient httpclient;		
 	
+	/** Connection pool of the non-blocking transport, null in blocking mode */
+	BasicNIOConnPool connPool;
+	/** Requester of the non-blocking transport */
+	HttpAsyncRequester requester;
+	/** Max number of requests in flight per connection of the non-blocking transport */
+	int maxRequestsPerConnection = 1;
+	/** Server address of the non-blocking transport */
+	HttpHost httpHost;
+	/** Request uri of the non-blocking transport */
+	String requestUri;
+	/** Preemptive authorization of the non-blocking transport */
+	Header authorization;
+	/** Requests of the non-blocking transport that wait for a connection */
+	Queue<HttpsClientPendingRequest> queuedRequests = new ConcurrentLinkedQueue<HttpsClientPendingRequest>();
+	/** Number of exchanges of the non-blocking transport in progress, at most maxConnections */
+	AtomicInteger exchangeCount = new AtomicInteger();
+	
     /** Protocol */
     String protocol;
     
@@ -204,11 +252,13 @@ public class HttpsClient implements ITransportChannel {
 		encoderCtx.setMaxMessageSize( endpointConfiguration.getMaxMessageSize()!=null ? endpointConfiguration.getMaxMessageSize() : 0 );
 		
 		timer = TimerUtil.getTimer();
+		if ( httpsSettings.getMaxConnections() > 0 ) maxConnections = httpsSettings.getMaxConnections();
 		try {
 			SchemeRegistry sr = new SchemeRegistry();
+			SSLContext sslcontext = null;
+			X509HostnameVerifier hostnameVerifier = null;
 			if ( protocol.equals( UriUtil.SCHEME_HTTPS ) ) {
 		        
-			  SSLContext sslcontext;
 			  
 			  /*
 			   * Try first create tls 1.2 supporting context.
@@ -225,7 +275,7 @@ public class HttpsClient implements ITransportChannel {
 		       
 		        
 		        sslcontext.init( httpsSettings.getKeyManagers(), httpsSettings.getTrustManagers(), null );
-				X509HostnameVerifier hostnameVerifier = httpsSettings.getHostnameVerifier() != null ? 
+				hostnameVerifier = httpsSettings.getHostnameVerifier() != null ? 
 						httpsSettings.getHostnameVerifier() : SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER;
 				SSLSocketFactory sf = new SSLSocketFactory( sslcontext,	hostnameVerifier) {
 					protected void prepareSocket(javax.net.ssl.SSLSocket socket) throws IOException {
@@ -258,6 +308,11 @@ public class HttpsClient implements ITransportChannel {
 				sr.register(http);
 			}
 
+			if ( httpsSettings.isNonBlocking() ) {
+				initializeNonBlocking(httpsSettings, sslcontext, hostnameVerifier);
+				return;
+			}
+
 			if ( ccm == null ) {
 				PoolingClientConnectionManager pccm = new PoolingClientConnectionManager(sr);
 				ccm = pccm;
@@ -286,6 +341,70 @@ public class HttpsClient implements ITransportChannel {
 		
 	}
 	
+	/**
+	 * Set up the non-blocking transport. The connections of the client are 
+	 * pooled and served by the shared reactor of {@link HttpsClientReactor}.
+	 */
+	private void initializeNonBlocking(HttpsSettings httpsSettings, SSLContext sslcontext, final X509HostnameVerifier hostnameVerifier) throws ServiceResultException {
+		maxRequestsPerConnection = httpsSettings.getMaxRequestsPerConnection();
+		InetSocketAddress inetAddress = UriUtil.getSocketAddress( connectUrl );
+		final String host = inetAddress.getHostName();
+		httpHost = new HttpHost(host, inetAddress.getPort(), UriUtil.getTransportProtocol( connectUrl ));
+		String url = transportChannelSettings.getDescription().getEndpointUrl();
+		requestUri = url == null ? null : UriUtil.getEndpointName(url);
+		if ( requestUri == null || requestUri.length() == 0 ) requestUri = "/";
+
+		final NHttpConnectionFactory<DefaultNHttpClientConnection> connFactory;
+		if ( sslcontext != null ) {
+			SSLSetupHandler sslSetupHandler = new SSLSetupHandler() {
+				@Override
+				public void initalize(SSLEngine sslengine) throws SSLException {
+					sslengine.setEnabledCipherSuites( cipherSuites );
+				}
+				@Override
+				public void verify(IOSession iosession, SSLSession sslsession) throws SSLException {
+					if ( !hostnameVerifier.verify(host, sslsession) )
+						throw new SSLException("Host name "+host+" does not match the certificate of the server");
+				}
+			};
+			connFactory = new SSLNHttpClientConnectionFactory(sslcontext, sslSetupHandler, ConnectionConfig.DEFAULT);
+		} else {
+			connFactory = new DefaultNHttpClientConnectionFactory(ConnectionConfig.DEFAULT);
+		}
+		// The scheme of the route is opc.https, the factory of the protocol is used for all connections
+		NIOConnFactory<HttpHost, NHttpClientConnection> poolConnFactory = new NIOConnFactory<HttpHost, NHttpClientConnection>() {
+			@Override
+			public NHttpClientConnection create(HttpHost route, IOSession session) {
+				DefaultNHttpClientConnection conn = connFactory.createConnection(session);
+				session.setAttribute(IOEventDispatch.CONNECTION_KEY, conn);
+				return conn;
+			}
+		};
+		try {
+			connPool = new BasicNIOConnPool(HttpsClientReactor.getReactor(), poolConnFactory, getOperationTimeout());
+		} catch (IOReactorException e) {
+			throw new ServiceResultException( StatusCodes.Bad_InternalError, e );
+		}
+		connPool.setMaxTotal( maxConnections );
+		connPool.setDefaultMaxPerRoute( maxConnections );
+		requester = new HttpAsyncRequester(new ImmutableHttpProcessor(new HttpRequestInterceptor[] {
+				new RequestContent(),
+				new RequestTargetHost(),
+				new RequestConnControl()
+		}));
+
+		// Set username and password authentication
+		if ( httpsSettings.getUsername()!=null && httpsSettings.getPassword()!=null ) {
+			try {
+				authorization = new BasicScheme(UTF8).authenticate(
+						new UsernamePasswordCredentials(httpsSettings.getUsername(), httpsSettings.getPassword()),
+						new BasicHttpRequest("POST", requestUri), HttpCoreContext.create());
+			} catch (AuthenticationException e) {
+				throw new ServiceResultException( StatusCodes.Bad_InternalError, e );
+			}
+		}
+	}
+	
 	long getTimeout(ServiceRequest serviceRequest) {
 		UnsignedInteger timeoutHint = serviceRequest.getRequestHeader() != null ? serviceRequest.getRequestHeader().getTimeoutHint() : null;
 		long clientTimeout = timeoutHint != null ? timeoutHint.longValue() : getOperationTimeout();
@@ -338,15 +457,120 @@ public class HttpsClient implements ITransportChannel {
 		
 		requests.put( pendingRequest.requestId, pendingRequest );
 		if (pendingRequest.startTime!=0) scheduleTimeoutRequestsTimer();
-		executor.execute( pendingRequest );
+		if ( connPool != null ) {
+			send( pendingRequest );
+		} else {
+			executor.execute( pendingRequest );
+		}
 		return pendingRequest.result;
 	}
 	
+	/**
+	 * Encode a request and queue it for the non-blocking transport.
+	 */
+	private void send(HttpsClientPendingRequest pendingRequest) {
+		try {
+			pendingRequest.producer = new HttpsClientRequestProducer(this, pendingRequest);
+		} catch (ServiceResultException e) {
+			logger.warn("send: failed", e);
+			pendingRequest.setError(e);
+			return;
+		}
+		queuedRequests.add(pendingRequest);
+		dispatch();
+	}
+	
+	/**
+	 * Send the queued requests while there are free connections. When all 
+	 * connections are in use, the requests wait in the queue until an 
+	 * exchange completes, and up to maxRequestsPerConnection of them are then 
+	 * pipelined on the connection.
+	 */
+	void dispatch() {
+		while ( !queuedRequests.isEmpty() ) {
+			int n = exchangeCount.get();
+			if ( n >= maxConnections ) return;
+			if ( !exchangeCount.compareAndSet(n, n+1) ) continue;
+			List<HttpsClientPendingRequest> batch = new ArrayList<HttpsClientPendingRequest>(maxRequestsPerConnection);
+			HttpsClientPendingRequest pendingRequest;
+			while ( batch.size() < maxRequestsPerConnection && (pendingRequest = queuedRequests.poll()) != null ) {
+				if ( pendingRequest.abortCode != null )
+					pendingRequest.producer.close();
+				else
+					batch.add( pendingRequest );
+			}
+			if ( batch.isEmpty() ) {
+				exchangeCount.decrementAndGet();
+				continue;
+			}
+			execute( batch );
+		}
+	}
+	
+	private void execute(final List<HttpsClientPendingRequest> batch) {
+		if ( batch.size() == 1 ) {
+			HttpsClientPendingRequest pendingRequest = batch.get(0);
+			pendingRequest.consumer = new HttpsClientResponseConsumer(this, pendingRequest);
+			pendingRequest.exchange = requester.execute(pendingRequest.producer, pendingRequest.consumer, 
+					connPool, HttpCoreContext.create(), new ExchangeCallback<HttpsClientPendingRequest>(batch));
+			return;
+		}
+		List<HttpAsyncRequestProducer> producers = new ArrayList<HttpAsyncRequestProducer>(batch.size());
+		List<HttpAsyncResponseConsumer<HttpsClientPendingRequest>> consumers = new ArrayList<HttpAsyncResponseConsumer<HttpsClientPendingRequest>>(batch.size());
+		for ( HttpsClientPendingRequest pendingRequest : batch ) {
+			pendingRequest.consumer = new HttpsClientResponseConsumer(this, pendingRequest);
+			producers.add( pendingRequest.producer );
+			consumers.add( pendingRequest.consumer );
+		}
+		requester.executePipelined(httpHost, producers, consumers, connPool, HttpCoreContext.create(), new ExchangeCallback<List<HttpsClientPendingRequest>>(batch));
+	}
+	
+	/**
+	 * Completes the exchange of a batch of requests and sends the next queued 
+	 * requests. The consumers complete the requests, except if the exchange 
+	 * fails before they are used.
+	 */
+	class ExchangeCallback<T> implements FutureCallback<T> {
+		final List<HttpsClientPendingRequest> batch;
+		ExchangeCallback(List<HttpsClientPendingRequest> batch) {
+			this.batch = batch;
+		}
+		@Override
+		public void completed(T result) {
+			done();
+		}
+		@Override
+		public void failed(Exception ex) {
+			for ( HttpsClientPendingRequest pendingRequest : batch )
+				if ( !pendingRequest.consumer.isDone() )
+					pendingRequest.setError( ex );
+			done();
+		}
+		@Override
+		public void cancelled() {
+			done();
+		}
+		private void done() {
+			exchangeCount.decrementAndGet();
+			dispatch();
+		}
+	}
+	
 	/**
 	 * <p>close.</p>
 	 */
 	public void close() {
-		ccm.shutdown();
+		if ( ccm != null ) ccm.shutdown();
+		if ( connPool != null ) {
+			HttpsClientPendingRequest pendingRequest;
+			while ( (pendingRequest = queuedRequests.poll()) != null )
+				pendingRequest.producer.close();
+			try {
+				connPool.shutdown( 1000 );
+			} catch (IOException e) {
+				logger.debug("close: failed to close the connections", e);
+			}
+		}
 				
 		// Cancel all pending requests
 		{
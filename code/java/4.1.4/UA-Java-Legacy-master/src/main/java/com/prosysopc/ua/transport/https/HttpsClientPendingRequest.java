@@ -18,8 +18,12 @@ import com.prosysopc.ua.builtintypes.UnsignedInteger;
 import com.prosysopc.ua.transport.impl.AsyncResultImpl;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.concurrent.Future;
 
+import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLPeerUnverifiedException;
 
 import org.apache.http.HttpEntity;
@@ -41,6 +45,7 @@ import com.prosysopc.ua.encoding.binary.BinaryEncoder;
 import com.prosysopc.ua.transport.UriUtil;
 import com.prosysopc.ua.transport.tcp.impl.ErrorMessage;
 import com.prosysopc.ua.utils.SizeCalculationOutputStream;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferArrayReadable;
 
 class HttpsClientPendingRequest implements Runnable {
 
@@ -74,6 +79,13 @@ class HttpsClientPendingRequest implements Runnable {
 
 	String securityPolicy;
 	
+	// Request producer and response consumer of the non-blocking transport
+	HttpsClientRequestProducer producer;
+	HttpsClientResponseConsumer consumer;
+	
+	// Exchange of the non-blocking transport, if the request was sent alone on a connection
+	volatile Future<?> exchange;
+	
 	/**
 	 * <p>Constructor for HttpsClientPendingRequest.</p>
 	 *
@@ -183,23 +195,7 @@ class HttpsClientPendingRequest implements Runnable {
 			dec.setEncoderContext( httpsClient.encoderCtx );
 			IEncodeable response = dec.getMessage();
 			
-			// Client sent an error
-			if ( response instanceof ErrorMessage ) {
-				ErrorMessage error = (ErrorMessage) response;
-				ServiceResultException errorResult = new ServiceResultException(new StatusCode(error.getError()), error.getReason());
-				result.setError(errorResult);
-				return;
-			}
-		
-			try {
-				// Client sent a valid message
-				result.setResult((ServiceResponse) response);
-			} catch (ClassCastException e) {
-				result.setError(new ServiceResultException(e));
-				logger.error(
-						"Cannot cast response to ServiceResponse, response="
-								+ response.getClass(), e);
-			}
+			setResponse(response);
 		} catch (EncodingException e) {
 			// Internal Error
 			result.setError( new ServiceResultException( StatusCodes.Bad_EncodingError, e ) );
@@ -228,14 +224,98 @@ class HttpsClientPendingRequest implements Runnable {
 		}
 	}
 
+	private void setResponse(IEncodeable response) {
+		// Client sent an error
+		if ( response instanceof ErrorMessage ) {
+			ErrorMessage error = (ErrorMessage) response;
+			ServiceResultException errorResult = new ServiceResultException(new StatusCode(error.getError()), error.getReason());
+			result.setError(errorResult);
+			return;
+		}
+	
+		try {
+			// Client sent a valid message
+			result.setResult((ServiceResponse) response);
+		} catch (ClassCastException e) {
+			result.setError(new ServiceResultException(e));
+			logger.error(
+					"Cannot cast response to ServiceResponse, response="
+							+ response.getClass(), e);
+		}
+	}
+	
+	/**
+	 * Complete the request with a response that the non-blocking transport 
+	 * received.
+	 *
+	 * @param statusCode http status code
+	 * @param body the body of the response
+	 */
+	void setResponse(int statusCode, ByteBuffer[] body) {
+		try {
+			// Abort exit branch
+			if ( abortCode != null ) {
+				result.setError( new ServiceResultException( abortCode ) );
+				return;
+			}
+			
+	        // Error response
+	        if ( statusCode != 200 ) {
+	        	UnsignedInteger uacode = StatusCodes.Bad_UnknownResponse;
+	        	if ( statusCode == 501 ) uacode = StatusCodes.Bad_ServiceUnsupported;
+	        	int len = 0;
+	        	for (ByteBuffer b : body) len += b.remaining();
+	        	byte[] data = new byte[ len ];
+	        	for (int i=0, off=0; i<body.length; off+=body[i++].remaining())
+	        		body[i].duplicate().get(data, off, body[i].remaining());
+	        	result.setError( new ServiceResultException( uacode, statusCode+": "+new String(data, HttpsClient.UTF8) ) );
+	        	return;
+	        }
+	        
+	        // Decode Message
+			ByteBufferArrayReadable readable = new ByteBufferArrayReadable(body);
+			readable.order( ByteOrder.LITTLE_ENDIAN );
+			BinaryDecoder dec = new BinaryDecoder( readable );
+			dec.setEncoderContext( httpsClient.encoderCtx );
+			setResponse( dec.getMessage() );
+		} catch (DecodingException e) {
+			result.setError( new ServiceResultException( StatusCodes.Bad_DecodingError, e ) );
+		} catch (RuntimeException rte) {
+			result.setError( new ServiceResultException( rte ) );
+		} catch(StackOverflowError e){
+			// See run()
+			result.setError(new ServiceResultException(StatusCodes.Bad_DecodingError, "Stack overflow: " + Arrays.toString(Arrays.copyOf(e.getStackTrace(), 30)) + "..."));
+		} finally {
+			httpsClient.requests.remove( requestId );
+		}
+	}
+
+	/**
+	 * Complete the request with an error of the non-blocking transport.
+	 *
+	 * @param e the error
+	 */
+	void setError(Exception e) {
+		httpsClient.requests.remove( requestId );
+		if ( abortCode != null ) {
+			result.setError( new ServiceResultException( abortCode, e ) );
+		} else if ( e instanceof ServiceResultException ) {
+			result.setError( (ServiceResultException) e );
+		} else if ( e instanceof SSLException ) {
+			result.setError( new ServiceResultException(StatusCodes.Bad_SecurityPolicyRejected, e, 
+					"Could not negotiate a TLS security cipher or the server did not provide a valid certificate.") );
+		} else {
+			result.setError( new ServiceResultException( StatusCodes.Bad_CommunicationError, e ) );
+		}
+	}
+
 	/**
 	 * <p>cancel.</p>
 	 */
 	public void cancel() {
-		if ( httpsClient.requests.remove(this) == null ) return;
+		httpsClient.requests.remove( requestId );
 		abortCode = StatusCodes.Bad_RequestCancelledByRequest;
-		HttpPost post = httpPost;
-		if ( post != null ) post.abort();
+		abort();
 	}
 	
 	/**
@@ -244,8 +324,14 @@ class HttpsClientPendingRequest implements Runnable {
 	public void timeout() {
 		if ( httpsClient.requests.remove( requestId ) == null ) return;
 		abortCode = StatusCodes.Bad_Timeout;
+		abort();
+	}
+	
+	private void abort() {
 		HttpPost post = httpPost;
 		if ( post != null ) post.abort();
+		Future<?> f = exchange;
+		if ( f != null ) f.cancel(true);
 		result.setError( new ServiceResultException( abortCode ) );
 	}
 	
@@ -0,0 +1,93 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.transport.https;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.config.ConnectionConfig;
+import org.apache.http.impl.nio.DefaultHttpClientIODispatch;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.protocol.HttpAsyncRequestExecutor;
+import org.apache.http.nio.reactor.ConnectingIOReactor;
+import org.apache.http.nio.reactor.IOEventDispatch;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.prosysopc.ua.utils.StackUtils;
+
+/**
+ * The I/O reactor of the non-blocking https clients.
+ * <p>
+ * All clients share one reactor, which is started on first use. Each client 
+ * connects through a connection pool of its own, whose connection factory 
+ * sets up the TLS of the client. The reactor threads are daemon threads that 
+ * run as long as the application.
+ */
+class HttpsClientReactor {
+
+	private static final Logger logger = LoggerFactory.getLogger(HttpsClientReactor.class);
+
+	/** Name pattern of the reactor threads */
+	static String REACTOR_NAME_PATTERN = "OPC-UA-Stack-Https-Client-Reactor-%d";
+
+	private static ConnectingIOReactor REACTOR;
+
+	/**
+	 * Get the shared reactor, start it if it is not running.
+	 * 
+	 * @return the reactor
+	 * @throws IOReactorException if the reactor cannot be created
+	 */
+	static synchronized ConnectingIOReactor getReactor() throws IOReactorException {
+		if (REACTOR != null)
+			return REACTOR;
+		final AtomicInteger counter = new AtomicInteger(0);
+		ThreadFactory tf = new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, String.format(REACTOR_NAME_PATTERN, counter.incrementAndGet()));
+				t.setDaemon(true);
+				return t;
+			}};
+		IOReactorConfig config = IOReactorConfig.custom()
+				.setIoThreadCount(Math.max(1, StackUtils.cores() / 2))
+				.setSoKeepAlive(true)
+				.setTcpNoDelay(true)
+				.build();
+		final ConnectingIOReactor reactor = new DefaultConnectingIOReactor(config, tf);
+		// The pools create the connections, the dispatch only finds them from the sessions
+		final IOEventDispatch dispatch = new DefaultHttpClientIODispatch<HttpAsyncRequestExecutor>(new HttpAsyncRequestExecutor(), ConnectionConfig.DEFAULT);
+		Thread t = tf.newThread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					reactor.execute(dispatch);
+				} catch (IOException e) {
+					logger.error("Https client reactor stopped", e);
+				} finally {
+					synchronized (HttpsClientReactor.class) {
+						if (REACTOR == reactor)
+							REACTOR = null;
+					}
+				}
+			}});
+		t.start();
+		REACTOR = reactor;
+		return reactor;
+	}
+
+}
@@ -0,0 +1,163 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.transport.https;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.message.BasicHttpEntityEnclosingRequest;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.HttpAsyncRequestProducer;
+import org.apache.http.protocol.HttpContext;
+
+import com.prosysopc.ua.common.ServiceResultException;
+import com.prosysopc.ua.core.StatusCodes;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.binary.BinaryEncoder;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferPool;
+import com.prosysopc.ua.utils.bytebuffer.ChunkedByteBufferWriteable;
+
+/**
+ * Produces the http request of a service request for the non-blocking 
+ * transport of {@link HttpsClient}.
+ * <p>
+ * The message is encoded in a single pass into buffers of the default 
+ * {@link ByteBufferPool}, when the producer is created. The buffers are 
+ * written to the connection as it becomes writable and released to the pool 
+ * as soon as they have been written.
+ */
+class HttpsClientRequestProducer implements HttpAsyncRequestProducer {
+
+	/** Size of the buffers of the message body */
+	static final int BUFFER_SIZE = 8192;
+
+	final HttpsClient client;
+	final HttpsClientPendingRequest pendingRequest;
+	final int length;
+	/** The encoded message, a buffer is set to null when it has been released */
+	final ByteBuffer[] chunks;
+	int index;
+	boolean closed;
+
+	/**
+	 * Encode the request message.
+	 * 
+	 * @param client the client
+	 * @param pendingRequest the request
+	 * @throws ServiceResultException if the message cannot be encoded
+	 */
+	HttpsClientRequestProducer(HttpsClient client, HttpsClientPendingRequest pendingRequest) throws ServiceResultException {
+		this.client = client;
+		this.pendingRequest = pendingRequest;
+		ByteBufferPool pool = ByteBufferPool.getDefault();
+		ChunkedByteBufferWriteable out = new ChunkedByteBufferWriteable(pool, BUFFER_SIZE, client.encoderCtx.getMaxMessageSize(), 0);
+		out.order(ByteOrder.LITTLE_ENDIAN);
+		BinaryEncoder enc = new BinaryEncoder(out);
+		enc.setEncoderContext(client.encoderCtx);
+		try {
+			enc.putMessage(pendingRequest.requestMessage);
+		} catch (EncodingException e) {
+			// The chunks have been released if the limit was exceeded
+			if (!out.isLimitExceeded())
+				for (ByteBuffer chunk : out.getChunks())
+					pool.release(chunk);
+			if (out.isLimitExceeded())
+				throw new ServiceResultException(StatusCodes.Bad_EncodingLimitsExceeded, e.getMessage());
+			throw new ServiceResultException(StatusCodes.Bad_EncodingError, e);
+		}
+		length = out.getLength();
+		chunks = out.getChunks();
+		for (ByteBuffer chunk : chunks)
+			chunk.flip();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public HttpHost getTarget() {
+		return client.httpHost;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public HttpRequest generateRequest() {
+		BasicHttpEntityEnclosingRequest request = new BasicHttpEntityEnclosingRequest("POST", client.requestUri);
+		request.addHeader("Host", client.httpHost.toHostString());
+		request.addHeader("OPCUA-SecurityPolicy", client.securityPolicyUri);
+		if (client.authorization != null)
+			request.addHeader(client.authorization);
+		BasicHttpEntity entity = new BasicHttpEntity();
+		entity.setContentType("application/octet-stream");
+		entity.setContentLength(length);
+		request.setEntity(entity);
+		return request;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public synchronized void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
+		if (closed)
+			throw new IOException("The request has been released");
+		while (index < chunks.length) {
+			ByteBuffer chunk = chunks[index];
+			if (chunk.hasRemaining()) {
+				encoder.write(chunk);
+				// Continue when the connection is writable again
+				if (chunk.hasRemaining())
+					return;
+			}
+			ByteBufferPool.getDefault().release(chunk);
+			chunks[index++] = null;
+		}
+		encoder.complete();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void requestCompleted(HttpContext context) {
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void failed(Exception ex) {
+		// The response consumer reports the error
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean isRepeatable() {
+		return false;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void resetRequest() {
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public synchronized void close() {
+		if (closed)
+			return;
+		closed = true;
+		for (int i=index; i<chunks.length; i++) {
+			ByteBufferPool.getDefault().release(chunks[i]);
+			chunks[i] = null;
+		}
+	}
+
+}
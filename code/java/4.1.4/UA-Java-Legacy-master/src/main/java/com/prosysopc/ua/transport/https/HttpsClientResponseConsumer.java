@@ -0,0 +1,169 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.transport.https;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.HttpAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+
+import com.prosysopc.ua.common.ServiceResultException;
+import com.prosysopc.ua.core.StatusCodes;
+import com.prosysopc.ua.utils.StackUtils;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferPool;
+
+/**
+ * Consumes the http response to a service request for the non-blocking 
+ * transport of {@link HttpsClient}.
+ * <p>
+ * The body is read from the connection into buffers of the default 
+ * {@link ByteBufferPool} as it arrives. When the response is complete, the 
+ * message is decoded from the buffers in the non-blocking work executor, so 
+ * that the reactor threads only move bytes.
+ */
+class HttpsClientResponseConsumer implements HttpAsyncResponseConsumer<HttpsClientPendingRequest> {
+
+	final HttpsClient client;
+	final HttpsClientPendingRequest pendingRequest;
+	/** The body, null when it has been handed over or released */
+	List<ByteBuffer> chunks = new ArrayList<ByteBuffer>();
+	ByteBuffer cur;
+	int length;
+	int statusCode;
+	/** The error to report instead of the exception of the connection */
+	ServiceResultException error;
+	volatile Exception exception;
+	volatile boolean done;
+
+	HttpsClientResponseConsumer(HttpsClient client, HttpsClientPendingRequest pendingRequest) {
+		this.client = client;
+		this.pendingRequest = pendingRequest;
+	}
+
+	private IOException tooLarge(long length) {
+		int maxLen = client.encoderCtx.getMaxMessageSize();
+		error = new ServiceResultException(StatusCodes.Bad_ResponseTooLarge, "MaxMessageSize "+maxLen+" < "+length);
+		return new IOException(error.getMessage());
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void responseReceived(HttpResponse response) throws IOException {
+		statusCode = response.getStatusLine().getStatusCode();
+		HttpEntity entity = response.getEntity();
+		int maxLen = client.encoderCtx.getMaxMessageSize();
+		if (entity != null && maxLen != 0 && entity.getContentLength() > maxLen)
+			throw tooLarge(entity.getContentLength());
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public synchronized void consumeContent(ContentDecoder decoder, IOControl ioctrl) throws IOException {
+		if (chunks == null)
+			throw new IOException("The response has been released");
+		int maxLen = client.encoderCtx.getMaxMessageSize();
+		for (;;) {
+			if (cur == null || !cur.hasRemaining()) {
+				cur = ByteBufferPool.getDefault().allocate(HttpsClientRequestProducer.BUFFER_SIZE);
+				chunks.add(cur);
+			}
+			int n = decoder.read(cur);
+			if (n <= 0)
+				return;
+			length += n;
+			if (maxLen != 0 && length > maxLen)
+				throw tooLarge(length);
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void responseCompleted(HttpContext context) {
+		final ByteBuffer[] body;
+		synchronized (this) {
+			if (chunks == null)
+				return;
+			body = chunks.toArray(new ByteBuffer[chunks.size()]);
+			chunks = null;
+			cur = null;
+			done = true;
+		}
+		for (ByteBuffer chunk : body)
+			chunk.flip();
+		StackUtils.getNonBlockingWorkExecutor().execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					pendingRequest.setResponse(statusCode, body);
+				} finally {
+					for (ByteBuffer chunk : body)
+						ByteBufferPool.getDefault().release(chunk);
+				}
+			}});
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void failed(Exception ex) {
+		exception = ex;
+		done = true;
+		pendingRequest.setError(error != null ? error : ex);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Exception getException() {
+		return exception;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public HttpsClientPendingRequest getResult() {
+		// The response is set to the pending request. A pipelined exchange 
+		// fails on a null result, so the request stands for it.
+		return done && exception == null ? pendingRequest : null;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean isDone() {
+		return done;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean cancel() {
+		done = true;
+		close();
+		return true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public synchronized void close() {
+		if (chunks == null)
+			return;
+		for (ByteBuffer chunk : chunks)
+			ByteBufferPool.getDefault().release(chunk);
+		chunks = null;
+		cur = null;
+	}
+
+}
@@ -220,6 +220,8 @@ public class HttpsClientSecureChannel implements SecureChannel {
 	@Override
 	public void dispose() {
 		close();
+		// Close the connections of the client
+		if (client != null) client.close();
 		executor = null;
 		client = null;
 	}
@@ -90,10 +90,23 @@ public class HttpsServerEndpointHandler implements HttpAsyncRequestHandler<HttpR
 	/** {@inheritDoc} */
 	@Override
 	public HttpAsyncRequestConsumer<HttpRequest> processRequest(HttpRequest request, HttpContext context) throws HttpException, IOException {
+		// Read request content into pooled buffers
+		if ( isStreaming() )
+			return new HttpsServerRequestConsumer( endpointConfiguration.getMaxMessageSize() );
         // Buffer request content in memory for simplicity
         return new BasicAsyncRequestConsumer();
 	}
 
+	/**
+	 * Is the streaming mode of the server selected.
+	 *
+	 * @return true if the message bodies are streamed through pooled buffers
+	 * @see HttpsSettings#setStreaming(boolean)
+	 */
+	boolean isStreaming() {
+		return endpointServer.getHttpsSettings().isStreaming();
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public void handle(HttpRequest request, HttpAsyncExchange httpExchange, HttpContext context) throws HttpException, IOException {
@@ -18,6 +18,7 @@ import com.prosysopc.ua.transport.endpoint.EndpointServiceRequest;
 import com.prosysopc.ua.transport.security.SecurityPolicy;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteOrder;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -29,6 +30,7 @@ import org.apache.http.nio.NHttpServerConnection;
 import org.apache.http.nio.entity.NByteArrayEntity;
 import org.apache.http.nio.protocol.BasicAsyncResponseProducer;
 import org.apache.http.nio.protocol.HttpAsyncExchange;
+import org.apache.http.nio.protocol.HttpAsyncResponseProducer;
 import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,6 +48,7 @@ import com.prosysopc.ua.transport.security.SecurityMode;
 import com.prosysopc.ua.transport.security.SecurityPolicyUri;
 import com.prosysopc.ua.transport.tcp.impl.ErrorMessage;
 import com.prosysopc.ua.utils.StackUtils;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferArrayReadable;
 
 class HttpsServerPendingRequest extends EndpointServiceRequest<ServiceRequest, ServiceResponse> implements Runnable {
 	/** Logger */
@@ -171,6 +174,7 @@ class HttpsServerPendingRequest extends EndpointServiceRequest<ServiceRequest, S
         			
         			// 1. Reject content
         			if ( maxMessageSize!=0 && contentLength > maxMessageSize ) {
+        				releaseRequestEntity();
         				sendError(500, StatusCodes.Bad_RequestTooLarge, "No request message");
         				return;
         			}
@@ -182,6 +186,7 @@ class HttpsServerPendingRequest extends EndpointServiceRequest<ServiceRequest, S
 		// 1. Decode message
 		try {			
 			byte[] data;
+			BinaryDecoder dec;
 	        if ( httpRequest instanceof HttpEntityEnclosingRequest ) {
 	        	HttpEntityEnclosingRequest entityEnclosingRequest = (HttpEntityEnclosingRequest) httpRequest;
 	        	requestEntity = entityEnclosingRequest.getEntity();
@@ -196,13 +201,21 @@ class HttpsServerPendingRequest extends EndpointServiceRequest<ServiceRequest, S
     				return;
     			}
 	        	
-	        	data = EntityUtils.toByteArray(requestEntity);
+	        	// Decode in place from the pooled buffers of the streaming mode
+	        	if ( requestEntity instanceof HttpsServerRequestConsumer.Body ) {
+	        		HttpsServerRequestConsumer.Body body = (HttpsServerRequestConsumer.Body) requestEntity;
+	        		ByteBufferArrayReadable readable = new ByteBufferArrayReadable( body.getChunks() );
+	        		readable.order( ByteOrder.LITTLE_ENDIAN );
+	        		dec = new BinaryDecoder( readable );
+	        	} else {
+	        		data = EntityUtils.toByteArray(requestEntity);
+	        		dec = new BinaryDecoder( data );
+	        	}
 	        } else {
 	        	sendError(500, StatusCodes.Bad_RequestTypeInvalid, "No request message");
 	        	return;
 	        }				
 				
-			BinaryDecoder dec = new BinaryDecoder( data );    		
 			dec.setEncoderContext( endpoint.getEncoderContext() );
 				
 			super.request = dec.getMessage();
@@ -220,18 +233,31 @@ class HttpsServerPendingRequest extends EndpointServiceRequest<ServiceRequest, S
 		} catch (StackOverflowError e){
 			sendError(400, StatusCodes.Bad_DecodingError, e.getMessage());
 			return;
+		} finally {
+			releaseRequestEntity();
 		}
 
 		// Handle request
 		endpoint.handleMessage( this );		
 	}
 	
+	/**
+	 * Hand the pooled buffers of the request body back, when the message has 
+	 * been decoded or rejected.
+	 */
+	private void releaseRequestEntity() {
+		HttpEntity entity = httpRequest instanceof HttpEntityEnclosingRequest ? ((HttpEntityEnclosingRequest) httpRequest).getEntity() : null;
+		if ( entity instanceof HttpsServerRequestConsumer.Body )
+			((HttpsServerRequestConsumer.Body) entity).release();
+	}
+	
     void sendResponse(int statusCode, IEncodeable responseObject)
     {
     	try {
     		HttpResponse responseHandle = httpExchange.getResponse();
     		responseHandle.setHeader("Content-Type", "application/octet-stream");
     		responseHandle.setStatusCode( statusCode );
+    		HttpAsyncResponseProducer producer = null;
 	    	
 	    	if ( responseObject != null ) {
 	    		try {
@@ -243,11 +269,15 @@ class HttpsServerPendingRequest extends EndpointServiceRequest<ServiceRequest, S
 						NHttpServerConnection nHttpServerConnection = ((HttpsServerConnection) channel.getConnection()).getNHttpServerConnection();
 						logger.debug("sendResponse: timeout={} {} context={}", httpExchange.getTimeout(), nHttpServerConnection.getSocketTimeout(), nHttpServerConnection.getContext());
 					}
-					ByteArrayOutputStream buf = new ByteArrayOutputStream();
-					BinaryEncoder enc = new BinaryEncoder( buf );
-					enc.setEncoderContext( endpoint.getEncoderContext() );
-					enc.putMessage( responseObject );
-					responseHandle.setEntity( new NByteArrayEntity(buf.toByteArray()) );
+					if ( endpoint.isStreaming() ) {
+						producer = HttpsServerResponseProducer.encode( responseHandle, responseObject, endpoint.getEncoderContext() );
+					} else {
+						ByteArrayOutputStream buf = new ByteArrayOutputStream();
+						BinaryEncoder enc = new BinaryEncoder( buf );
+						enc.setEncoderContext( endpoint.getEncoderContext() );
+						enc.putMessage( responseObject );
+						responseHandle.setEntity( new NByteArrayEntity(buf.toByteArray()) );
+					}
 				} catch (EncodingException e) {
 					logger.info("sendResponse: Encoding failed", e);
 					// Internal Error
@@ -256,8 +286,9 @@ class HttpsServerPendingRequest extends EndpointServiceRequest<ServiceRequest, S
 					}
 				}
 	    	}
-	    	logger.debug("sendResponse: {} length={}", responseHandle, responseHandle.getEntity().getContentLength());
-    		httpExchange.submitResponse(new BasicAsyncResponseProducer(responseHandle));
+	    	logger.debug("sendResponse: {} length={}", responseHandle, responseHandle.getEntity() == null ? 0 : responseHandle.getEntity().getContentLength());
+	    	if ( producer == null ) producer = new BasicAsyncResponseProducer(responseHandle);
+    		httpExchange.submitResponse(producer);
     	} finally {
     		endpoint.pendingRequests.remove(requestId);
     	}
@@ -0,0 +1,254 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.transport.https;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpRequest;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.HttpAsyncRequestConsumer;
+import org.apache.http.protocol.HttpContext;
+
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferPool;
+
+/**
+ * Consumes the http request of the streaming mode of 
+ * {@link HttpsServerEndpointHandler}.
+ * <p>
+ * The body is read from the connection into buffers of the default 
+ * {@link ByteBufferPool} as it arrives, and set to the request as a 
+ * {@link Body}, from which {@link HttpsServerPendingRequest} decodes the 
+ * message in place. A body that exceeds the max message size is read 
+ * and dropped, so that only its length is reported.
+ *
+ * @see HttpsSettings#setStreaming(boolean)
+ */
+class HttpsServerRequestConsumer implements HttpAsyncRequestConsumer<HttpRequest> {
+
+	final int maxMessageSize;
+	HttpRequest request;
+	/** The body, null when it has been handed over or released */
+	List<ByteBuffer> chunks = new ArrayList<ByteBuffer>();
+	ByteBuffer cur;
+	/** Buffer for the bytes that are dropped */
+	ByteBuffer scratch;
+	boolean tooLarge;
+	long length;
+	volatile Exception exception;
+	volatile boolean done;
+
+	/**
+	 * @param maxMessageSize max size of the body, 0 = no limit
+	 */
+	HttpsServerRequestConsumer(int maxMessageSize) {
+		this.maxMessageSize = maxMessageSize;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void requestReceived(HttpRequest request) {
+		this.request = request;
+		if (request instanceof HttpEntityEnclosingRequest) {
+			HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+			if (entity != null && maxMessageSize != 0 && entity.getContentLength() > maxMessageSize)
+				drop();
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public synchronized void consumeContent(ContentDecoder decoder, IOControl ioctrl) throws IOException {
+		if (chunks == null && !tooLarge)
+			throw new IOException("The request has been released");
+		for (;;) {
+			int n;
+			if (tooLarge) {
+				if (scratch == null)
+					scratch = ByteBuffer.allocate(HttpsServerResponseProducer.BUFFER_SIZE);
+				scratch.clear();
+				n = decoder.read(scratch);
+			} else {
+				if (cur == null || !cur.hasRemaining()) {
+					cur = ByteBufferPool.getDefault().allocate(HttpsServerResponseProducer.BUFFER_SIZE);
+					chunks.add(cur);
+				}
+				n = decoder.read(cur);
+			}
+			if (n <= 0)
+				return;
+			length += n;
+			if (!tooLarge && maxMessageSize != 0 && length > maxMessageSize)
+				drop();
+		}
+	}
+
+	/**
+	 * Release the body and drop the rest of it.
+	 */
+	private void drop() {
+		tooLarge = true;
+		close();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void requestCompleted(HttpContext context) {
+		ByteBuffer[] body;
+		synchronized (this) {
+			if (tooLarge)
+				body = new ByteBuffer[0];
+			else {
+				if (chunks == null)
+					return;
+				body = chunks.toArray(new ByteBuffer[chunks.size()]);
+			}
+			chunks = null;
+			cur = null;
+			scratch = null;
+		}
+		for (ByteBuffer chunk : body)
+			chunk.flip();
+		if (request instanceof HttpEntityEnclosingRequest)
+			((HttpEntityEnclosingRequest) request).setEntity(new Body(body, length));
+		else
+			for (ByteBuffer chunk : body)
+				ByteBufferPool.getDefault().release(chunk);
+		done = true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void failed(Exception ex) {
+		exception = ex;
+		done = true;
+		close();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Exception getException() {
+		return exception;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public HttpRequest getResult() {
+		return request;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean isDone() {
+		return done;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public synchronized void close() {
+		if (chunks == null)
+			return;
+		for (ByteBuffer chunk : chunks)
+			ByteBufferPool.getDefault().release(chunk);
+		chunks = null;
+		cur = null;
+	}
+
+	/**
+	 * The body of a request in pooled buffers. The buffers are handed back to 
+	 * the pool with {@link #release()} when the message has been decoded.
+	 */
+	static class Body extends AbstractHttpEntity {
+
+		/** The content, null when it has been released */
+		ByteBuffer[] chunks;
+		final long length;
+
+		Body(ByteBuffer[] chunks, long length) {
+			this.chunks = chunks;
+			this.length = length;
+		}
+
+		/**
+		 * Get the content. The buffers must not be used after the body has 
+		 * been released.
+		 * 
+		 * @return the buffers of the content
+		 * @throws IOException if the body has been released
+		 */
+		synchronized ByteBuffer[] getChunks() throws IOException {
+			if (chunks == null)
+				throw new IOException("The request has been released");
+			return chunks;
+		}
+
+		/**
+		 * Hand the buffers back to the pool.
+		 */
+		synchronized void release() {
+			if (chunks == null)
+				return;
+			for (ByteBuffer chunk : chunks)
+				ByteBufferPool.getDefault().release(chunk);
+			chunks = null;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean isRepeatable() {
+			return true;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public long getContentLength() {
+			return length;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public InputStream getContent() throws IOException {
+			ByteBuffer[] chunks = getChunks();
+			List<InputStream> streams = new ArrayList<InputStream>(chunks.length);
+			for (ByteBuffer chunk : chunks)
+				streams.add(new ByteArrayInputStream(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining()));
+			return new SequenceInputStream(Collections.enumeration(streams));
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public void writeTo(OutputStream out) throws IOException {
+			for (ByteBuffer chunk : getChunks())
+				out.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public boolean isStreaming() {
+			return false;
+		}
+
+	}
+
+}
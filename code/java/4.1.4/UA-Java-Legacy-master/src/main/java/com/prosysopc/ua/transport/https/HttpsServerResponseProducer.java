@@ -0,0 +1,147 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.transport.https;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.HttpAsyncResponseProducer;
+import org.apache.http.protocol.HttpContext;
+
+import com.prosysopc.ua.encoding.EncoderContext;
+import com.prosysopc.ua.encoding.EncodingException;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.binary.BinaryEncoder;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferPool;
+import com.prosysopc.ua.utils.bytebuffer.ChunkedByteBufferWriteable;
+
+/**
+ * Produces the http response of the streaming mode of 
+ * {@link HttpsServerEndpointHandler}.
+ * <p>
+ * The message is encoded in a single pass into buffers of the default 
+ * {@link ByteBufferPool}. The buffers are written to the connection as it 
+ * becomes writable and released to the pool as soon as they have been 
+ * written, so the message is never copied into a byte array.
+ * <p>
+ * The whole message is encoded before the first buffer is written, because
+ * {@link com.prosysopc.ua.encoding.binary.BinaryEncoder} writes a message in
+ * a single call and cannot be suspended while the connection is not
+ * writable. A large response is therefore held in the pool until it has been
+ * written, and its first byte is sent only when it has been encoded.
+ *
+ * @see HttpsSettings#setStreaming(boolean)
+ */
+class HttpsServerResponseProducer implements HttpAsyncResponseProducer {
+
+	/** Size of the buffers of the message body */
+	static final int BUFFER_SIZE = 8192;
+
+	final HttpResponse response;
+	/** The encoded message, a buffer is set to null when it has been released */
+	final ByteBuffer[] chunks;
+	int index;
+	boolean closed;
+
+	/**
+	 * Encode a message into the body of a response.
+	 * 
+	 * @param response the response, whose entity is set
+	 * @param message the message
+	 * @param ctx the encoder context
+	 * @return the producer of the response
+	 * @throws EncodingException if the message cannot be encoded
+	 */
+	static HttpsServerResponseProducer encode(HttpResponse response, IEncodeable message, EncoderContext ctx) throws EncodingException {
+		ByteBufferPool pool = ByteBufferPool.getDefault();
+		ChunkedByteBufferWriteable out = new ChunkedByteBufferWriteable(pool, BUFFER_SIZE, ctx.getMaxMessageSize(), 0);
+		out.order(ByteOrder.LITTLE_ENDIAN);
+		BinaryEncoder enc = new BinaryEncoder(out);
+		enc.setEncoderContext(ctx);
+		try {
+			enc.putMessage(message);
+		} catch (EncodingException e) {
+			// The chunks have been released if the limit was exceeded
+			if (!out.isLimitExceeded())
+				for (ByteBuffer chunk : out.getChunks())
+					pool.release(chunk);
+			throw e;
+		}
+		ByteBuffer[] chunks = out.getChunks();
+		for (ByteBuffer chunk : chunks)
+			chunk.flip();
+		return new HttpsServerResponseProducer(response, chunks, out.getLength());
+	}
+
+	HttpsServerResponseProducer(HttpResponse response, ByteBuffer[] chunks, int length) {
+		this.response = response;
+		this.chunks = chunks;
+		BasicHttpEntity entity = new BasicHttpEntity();
+		entity.setContentType("application/octet-stream");
+		entity.setContentLength(length);
+		response.setEntity(entity);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public HttpResponse generateResponse() {
+		return response;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public synchronized void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
+		if (closed)
+			throw new IOException("The response has been released");
+		while (index < chunks.length) {
+			ByteBuffer chunk = chunks[index];
+			if (chunk.hasRemaining()) {
+				encoder.write(chunk);
+				// Continue when the connection is writable again
+				if (chunk.hasRemaining())
+					return;
+			}
+			ByteBufferPool.getDefault().release(chunk);
+			chunks[index++] = null;
+		}
+		encoder.complete();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void responseCompleted(HttpContext context) {
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void failed(Exception ex) {
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public synchronized void close() {
+		if (closed)
+			return;
+		closed = true;
+		for (int i=index; i<chunks.length; i++) {
+			ByteBufferPool.getDefault().release(chunks[i]);
+			chunks[i] = null;
+		}
+	}
+
+}
@@ -54,6 +54,14 @@ public class HttpsSettings {
 	/** http params */
 	HttpParams httpParams;
 	private HttpsSecurityPolicy[] httpsSecurityPolicies;
+	/** Use the non-blocking client transport */
+	boolean nonBlocking;
+	/** Max number of connections to the server, 0 = the default of the client */
+	int maxConnections;
+	/** Max number of requests in flight on one connection of the non-blocking client */
+	int maxRequestsPerConnection = 1;
+	/** Stream the message bodies of the server through pooled buffers */
+	boolean streaming;
 
 	public HttpsSettings() {
 		
@@ -297,6 +305,69 @@ public class HttpsSettings {
 		this.password = password;
 	}
 
+	/**
+	 * Select the non-blocking client transport. The requests are sent 
+	 * over a bounded pool of connections that are served by the shared 
+	 * I/O reactor of the stack, instead of a thread per request.
+	 * 
+	 * @param nonBlocking true to use the non-blocking client transport
+	 */
+	public void setNonBlocking(boolean nonBlocking) {
+		this.nonBlocking = nonBlocking;
+	}
+
+	public boolean isNonBlocking() {
+		return nonBlocking;
+	}
+
+	/**
+	 * Set the max number of concurrent connections of a client to the server.
+	 * 
+	 * @param maxConnections max number of connections, 0 = the default of the client
+	 */
+	public void setMaxConnections(int maxConnections) {
+		this.maxConnections = maxConnections;
+	}
+
+	public int getMaxConnections() {
+		return maxConnections;
+	}
+
+	/**
+	 * Set the max number of requests that the non-blocking client sends 
+	 * on one connection before the previous responses have been received.
+	 * With more than one request, the requests are pipelined when all 
+	 * connections are in use.
+	 * 
+	 * @param maxRequestsPerConnection max number of requests in flight per connection, at least 1
+	 */
+	public void setMaxRequestsPerConnection(int maxRequestsPerConnection) {
+		if (maxRequestsPerConnection < 1)
+			throw new IllegalArgumentException("maxRequestsPerConnection must be at least 1");
+		this.maxRequestsPerConnection = maxRequestsPerConnection;
+	}
+
+	public int getMaxRequestsPerConnection() {
+		return maxRequestsPerConnection;
+	}
+
+	/**
+	 * Select the streaming mode of the server endpoints. Request bodies are 
+	 * read into pooled buffers as they arrive and decoded from them, and 
+	 * responses are encoded into pooled buffers that are written to the 
+	 * connection one at a time, instead of copying the messages to byte 
+	 * arrays.
+	 * 
+	 * @param streaming true to stream the message bodies of the server
+	 */
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	public boolean isStreaming() {
+		return streaming;
+	}
+
 	public void readFrom(HttpsSettings src) {
 		if (src.hostnameVerifier!=null) hostnameVerifier = src.hostnameVerifier;
 		if (src.trustManager!=null) this.trustManager = src.trustManager;
@@ -307,6 +378,10 @@ public class HttpsSettings {
 		}
 		if ( src.httpParams != null ) this.httpParams = src.httpParams;
 		if ( src.httpsSecurityPolicies != null ) this.httpsSecurityPolicies = src.httpsSecurityPolicies;
+		if ( src.nonBlocking ) this.nonBlocking = true;
+		if ( src.maxConnections != 0 ) this.maxConnections = src.maxConnections;
+		if ( src.maxRequestsPerConnection != 1 ) this.maxRequestsPerConnection = src.maxRequestsPerConnection;
+		if ( src.streaming ) this.streaming = true;
 	}
 	
 	@Override
@@ -320,6 +395,10 @@ public class HttpsSettings {
 		result.password = password;
 		result.httpParams = httpParams;
 		result.httpsSecurityPolicies = httpsSecurityPolicies;
+		result.nonBlocking = nonBlocking;
+		result.maxConnections = maxConnections;
+		result.maxRequestsPerConnection = maxRequestsPerConnection;
+		result.streaming = streaming;
 		
 		return result;
 	}
@@ -12,9 +12,11 @@
 
 package com.prosysopc.ua.transport.impl;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import com.prosysopc.ua.common.ServiceFaultException;
 import com.prosysopc.ua.common.ServiceResultException;
@@ -27,7 +29,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * <p>AsyncResultImpl class.</p>
- *
+ * <p>
+ * The result is set once, with a compare-and-set, and waiting threads are
+ * released with a latch, so completing a result that has no listener takes no
+ * locks and no thread handoff. A listener is notified exactly once.
  */
 public class AsyncResultImpl<T> implements AsyncResult<T> {
 
@@ -37,14 +42,58 @@ public class AsyncResultImpl<T> implements AsyncResult<T> {
 
 	static Executor executor = StackUtils.getBlockingWorkExecutor();
 
+	@SuppressWarnings("rawtypes")
+	private static final AtomicIntegerFieldUpdater<AsyncResultImpl> COMPLETED =
+			AtomicIntegerFieldUpdater.newUpdater(AsyncResultImpl.class, "completed");
+
 	/** Container for an error */
-	ServiceResultException error;
+	volatile ServiceResultException error;
 	/** Container for a result */
-	T result;
+	volatile T result;
 	/** Listener */
-	ResultListener<T> listener;
-	/** Semaphore that is released once there is a result or error */
-	Semaphore s = new Semaphore(0);
+	volatile Notification listener;
+	/** 1 once result or error has been set */
+	volatile int completed;
+	/** Latch that is released once there is a result or error */
+	final CountDownLatch done = new CountDownLatch(1);
+
+	/**
+	 * A listener, which is notified once of the result or error.
+	 */
+	class Notification implements Runnable {
+		final ResultListener<T> l;
+		/** Notified in the thread that sets the result */
+		final boolean direct;
+		final AtomicBoolean claimed = new AtomicBoolean();
+
+		Notification(ResultListener<T> l, boolean direct) {
+			this.l = l;
+			this.direct = direct;
+		}
+
+		/**
+		 * @return true for the one caller that notifies the listener
+		 */
+		boolean claim() {
+			return claimed.compareAndSet(false, true);
+		}
+
+		@Override
+		public void run() {
+			ServiceResultException _error = error;
+			try {
+				if (_error != null)
+					l.onError(_error);
+				else
+					l.onCompleted(result);
+			} catch (RuntimeException rte) {
+				listenerLogger.error(_error != null ? "Unexpected RuntimeException in ResultListener#onError("
+						: "Unexpected RuntimeException in ResultListener#onCompleted", rte);
+			} finally {
+				finish(this);
+			}
+		}
+	}
 
 	/**
 	 * <p>Constructor for AsyncResultImpl.</p>
@@ -83,25 +132,7 @@ public class AsyncResultImpl<T> implements AsyncResult<T> {
 	 */
 	public void setError(final ServiceResultException error)
 	{
-		synchronized(this) {
-			if (isFinished()) return;
-			this.error = error;
-			final ResultListener<T> l = listener;
-			if (l != null) {
-				executor.execute(new Runnable() {
-					@Override
-					public void run() {
-						try {
-							l.onError(error);
-						} catch (RuntimeException rte) {
-							listenerLogger.error("Unexpected RuntimeException in ResultListener#onError(", rte);
-						} finally {
-							finish();
-						}
-					}});
-			}
-		}
-		s.release(Integer.MAX_VALUE);
+		complete(null, error, false);
 	}
 
 	/**
@@ -114,38 +145,35 @@ public class AsyncResultImpl<T> implements AsyncResult<T> {
 	public void setErrorSync(final ServiceResultException error)
 			throws RuntimeException
 	{
-		synchronized(this) {
-			if (isFinished()) return;
-			this.error = error;
-			final ResultListener<T> l = listener;
-			if (l != null) {
-				try {
-					l.onError(error);
-				} catch (RuntimeException rte) {
-					listenerLogger.error("Unexpected RuntimeException in ResultListener#onError(", rte);
-				} finally {
-					finish();
-				}
-
-			}
-		}
-		s.release(Integer.MAX_VALUE);
+		complete(null, error, true);
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void setListener(ResultListener<T> listener) {
-		ServiceResultException _error;
-		T _result;
-		synchronized(this) {
-			this.listener = listener;
-			_error = error;
-			_result = result;
-		}
-		if (listener!=null) {
-			if (_result!=null) listener.onCompleted(_result);
-			if (_error!=null) listener.onError(_error);
+		setListener(listener, false);
+	}
+
+	/**
+	 * Set the listener. If the result is already available, the listener is
+	 * invoked here and now.
+	 * <p>
+	 * A direct listener is invoked in the thread that sets the result, for
+	 * example the thread that reads the response from the connection, instead
+	 * of an executor thread. It must return quickly and must not block.
+	 *
+	 * @param listener the listener or null
+	 * @param direct true to invoke the listener in the thread that sets the result
+	 */
+	public void setListener(ResultListener<T> listener, boolean direct) {
+		if (listener == null) {
+			this.listener = null;
+			return;
 		}
+		Notification n = new Notification(listener, direct);
+		this.listener = n;
+		if (isFinished() && n.claim())
+			n.run();
 	}
 
 	/**
@@ -156,25 +184,7 @@ public class AsyncResultImpl<T> implements AsyncResult<T> {
 	 * @param result a T object.
 	 */
 	public void setResult(T result) {
-		synchronized(this) {
-			if (isFinished()) return;
-			this.result = result;
-			final ResultListener<T> l = listener;
-			if (l != null) {
-				executor.execute(new Runnable() {
-					@Override
-					public void run() {
-						try {
-							l.onCompleted(AsyncResultImpl.this.result);
-						} catch (RuntimeException rte) {
-							listenerLogger.error("Unexpected RuntimeException in ResultListener#onCompleted", rte);
-						} finally {
-							finish();
-						}
-					}});
-			}
-		}
-		s.release(Integer.MAX_VALUE);
+		complete(result, null, false);
 	}
 
 	/**
@@ -186,21 +196,33 @@ public class AsyncResultImpl<T> implements AsyncResult<T> {
 	public void setResultSync(T result)
 			throws RuntimeException
 	{
-		synchronized(this) {
-			if (isFinished()) return;
+		complete(result, null, true);
+	}
+
+	/**
+	 * Set the result or error, if neither has been set, release the waiting
+	 * threads and notify the listener. A null result and error is ignored, so
+	 * that the result is not finished and can still be set.
+	 *
+	 * @param sync true to notify the listener in this thread
+	 */
+	private void complete(T result, ServiceResultException error, boolean sync) {
+		if (result == null && error == null)
+			return;
+		if (!COMPLETED.compareAndSet(this, 0, 1))
+			return;
+		if (error != null)
+			this.error = error;
+		else
 			this.result = result;
-			final ResultListener<T> l = listener;
-			if (l != null) {
-				try {
-					l.onCompleted(result);
-				} catch (RuntimeException rte) {
-					listenerLogger.error("Unexpected RuntimeException in ResultListener#onCompleted(", rte);
-				} finally {
-					finish();
-				}
-			}
+		done.countDown();
+		Notification n = listener;
+		if (n != null && n.claim()) {
+			if (sync || n.direct)
+				n.run();
+			else
+				executor.execute(n);
 		}
-		s.release(Integer.MAX_VALUE);
 	}
 
 	/**
@@ -228,19 +250,21 @@ public class AsyncResultImpl<T> implements AsyncResult<T> {
 			throws ServiceResultException
 	{
 		try {
-			s.acquire();
+			done.await();
 		} catch (InterruptedException e) {
 			logger.debug("timeout: ", error);
 			throw new ServiceResultException(StatusCodes.Bad_Timeout, e);
 		}
-		if (result!=null) return result;
-		if (error!=null) {
-			logger.debug("error: ", error);
+		T _result = result;
+		if (_result!=null) return _result;
+		ServiceResultException _error = error;
+		if (_error!=null) {
+			logger.debug("error: ", _error);
 			// The error thread has originated from TcpConnection / Read - Switch the thread in the stack trace to the current thread
-			if (error instanceof ServiceFaultException)
-				throw new ServiceFaultException(((ServiceFaultException) error).getServiceFault());
+			if (_error instanceof ServiceFaultException)
+				throw new ServiceFaultException(((ServiceFaultException) _error).getServiceFault());
 			else
-				throw error;
+				throw _error;
 		}
 		throw new ServiceResultException(StatusCodes.Bad_UnexpectedError);
 	}
@@ -250,26 +274,29 @@ public class AsyncResultImpl<T> implements AsyncResult<T> {
 	public T waitForResult(long timeout, TimeUnit unit)
 			throws ServiceResultException {
 		try {
-			s.tryAcquire(timeout, unit);
+			done.await(timeout, unit);
 		} catch (InterruptedException e) {
 			throw new ServiceResultException(StatusCodes.Bad_Timeout, e);
 		}
 		//		logger.debug("result:"+ result);
-		if (result!=null) return result;
-		logger.debug("error:", error);
-		if (error!=null) {
+		T _result = result;
+		if (_result!=null) return _result;
+		ServiceResultException _error = error;
+		logger.debug("error:", _error);
+		if (_error!=null) {
 			// The error thread has originated from TcpConnection / Read - Switch the thread in the stack trace to the current thread
-			if (error instanceof ServiceFaultException)
-				throw new ServiceFaultException(((ServiceFaultException) error).getServiceFault());
+			if (_error instanceof ServiceFaultException)
+				throw new ServiceFaultException(((ServiceFaultException) _error).getServiceFault());
 			else
-				throw error;
+				throw _error;
 		}
 		throw new ServiceResultException(StatusCodes.Bad_Timeout);
 	}
 
-	private void finish() {
+	private void finish(Notification n) {
 		//		logger.debug("finish");
-		setListener(null);
+		if (listener == n)
+			listener = null;
 	}
 
 	/**
@@ -0,0 +1,169 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package com.prosysopc.ua.transport.security;
+
+import java.nio.ByteBuffer;
+import java.security.cert.CertificateException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.prosysopc.ua.utils.CertificateUtils;
+
+/**
+ * A bounded cache of decoded remote certificates, keyed by the thumbprint of
+ * their encoding.
+ * <p>
+ * The certificate of the remote application is sent in every
+ * OpenSecureChannel message. A client that reconnects or renews its channel
+ * sends the same certificate again, and the cache returns the same
+ * {@link Cert}, with its X.509 certificate and public key, instead of parsing
+ * it again. The cached encoding is compared to the received one, so a
+ * thumbprint collision cannot return a different certificate. The least
+ * recently used certificate is dropped when the cache is full.
+ * <p>
+ * The cache does not validate certificates; they are validated with the
+ * {@link CertificateValidator} of the connection each time.
+ */
+public class CertificateCache {
+
+	/** Default maximum number of cached certificates */
+	public static final int DEFAULT_MAX_SIZE = 256;
+
+	private static final CertificateCache DEFAULT = new CertificateCache(DEFAULT_MAX_SIZE);
+
+	/**
+	 * <p>Getter for the default cache, which is used by the secure channels.</p>
+	 *
+	 * @return the default cache
+	 */
+	public static CertificateCache getDefault() {
+		return DEFAULT;
+	}
+
+	static class CachedCertificate {
+		final byte[] encoded;
+		final Cert cert;
+
+		CachedCertificate(byte[] encoded, Cert cert) {
+			this.encoded = encoded;
+			this.cert = cert;
+		}
+	}
+
+	private int maxSize;
+	private long hitCount;
+	private long missCount;
+	private final Map<ByteBuffer, CachedCertificate> entries = new LinkedHashMap<ByteBuffer, CachedCertificate>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ByteBuffer, CachedCertificate> eldest) {
+			return size() > maxSize;
+		}
+	};
+
+	/**
+	 * <p>Constructor for CertificateCache.</p>
+	 *
+	 * @param maxSize maximum number of cached certificates, 0 to not cache
+	 */
+	public CertificateCache(int maxSize) {
+		setMaxSize(maxSize);
+	}
+
+	/**
+	 * Decode a certificate, or get it from the cache.
+	 *
+	 * @param encodedCertificate the encoded certificate
+	 * @return the certificate
+	 * @throws java.security.cert.CertificateException if the certificate cannot be decoded
+	 */
+	public Cert decode(byte[] encodedCertificate) throws CertificateException {
+		if (encodedCertificate == null)
+			throw new IllegalArgumentException("null arg");
+		ByteBuffer key = ByteBuffer.wrap(CertificateUtils.createThumbprint(encodedCertificate));
+		synchronized (this) {
+			CachedCertificate entry = entries.get(key);
+			if (entry != null && Arrays.equals(entry.encoded, encodedCertificate)) {
+				hitCount++;
+				return entry.cert;
+			}
+			missCount++;
+		}
+		Cert cert = new Cert(CertificateUtils.decodeX509Certificate(encodedCertificate));
+		synchronized (this) {
+			if (maxSize > 0)
+				entries.put(key, new CachedCertificate(encodedCertificate.clone(), cert));
+		}
+		return cert;
+	}
+
+	/**
+	 * <p>Getter for the field <code>maxSize</code>.</p>
+	 *
+	 * @return the maximum number of cached certificates
+	 */
+	public synchronized int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Set the maximum number of cached certificates.
+	 * <p>
+	 * Default: {@link #DEFAULT_MAX_SIZE}
+	 *
+	 * @param maxSize the size to set, 0 to not cache
+	 */
+	public synchronized void setMaxSize(int maxSize) {
+		if (maxSize < 0)
+			throw new IllegalArgumentException("maxSize must not be negative");
+		this.maxSize = maxSize;
+		if (entries.size() > maxSize)
+			entries.clear();
+	}
+
+	/**
+	 * <p>size.</p>
+	 *
+	 * @return the number of cached certificates
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * <p>Getter for the field <code>hitCount</code>.</p>
+	 *
+	 * @return the number of certificates that were found in the cache
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * <p>Getter for the field <code>missCount</code>.</p>
+	 *
+	 * @return the number of certificates that were decoded
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Remove all certificates from the cache.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+}
@@ -0,0 +1,124 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+package com.prosysopc.ua.transport.security;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * Per-thread cache of initialized cryptographic primitives, such as ciphers
+ * and MACs.
+ * <p>
+ * A primitive is identified by a name, e.g. the algorithm and the direction
+ * of the operation, and by the key and initialization vector it has been
+ * initialized with. The key and IV are compared by identity: they are the
+ * key arrays of a {@link com.prosysopc.ua.transport.tcp.impl.SecurityToken},
+ * which remain the same for the lifetime of the token. The cache refers to
+ * them weakly, so the primitives of a token are dropped once the token has
+ * been discarded, e.g. after it has been renewed.
+ * <p>
+ * A primitive is taken out of the cache for the duration of an operation
+ * with {@link #take(String, byte[], byte[])} and handed back with
+ * {@link #release(String, byte[], byte[], Object)} after the operation has
+ * completed and the primitive is back in its initialized state. Primitives
+ * whose operation fails are simply not released.
+ *
+ * @param <T> the type of the cached primitives
+ */
+class CryptoPrimitiveCache<T> {
+
+	/** Default number of primitives to keep per thread */
+	static final int DEFAULT_SIZE = 16;
+
+	final int size;
+	final ThreadLocal<LinkedList<Entry<T>>> entries = new ThreadLocal<LinkedList<Entry<T>>>() {
+		@Override
+		protected LinkedList<Entry<T>> initialValue() {
+			return new LinkedList<Entry<T>>();
+		}
+	};
+
+	/**
+	 * <p>Constructor for CryptoPrimitiveCache.</p>
+	 *
+	 * @param size max number of primitives to keep per thread
+	 */
+	CryptoPrimitiveCache(int size) {
+		this.size = size;
+	}
+
+	/**
+	 * Take a primitive out of the cache of the current thread.
+	 *
+	 * @param name name of the primitive
+	 * @param key the key the primitive has been initialized with
+	 * @param iv the initialization vector the primitive has been initialized with, may be null
+	 * @return the primitive or null, if it is not cached
+	 */
+	T take(String name, byte[] key, byte[] iv) {
+		Iterator<Entry<T>> i = entries.get().iterator();
+		while (i.hasNext()) {
+			Entry<T> e = i.next();
+			byte[] k = e.key.get();
+			byte[] v = e.iv == null ? null : e.iv.get();
+			if (k == null || (e.iv != null && v == null)) {
+				// The token has been discarded
+				i.remove();
+				continue;
+			}
+			if (k == key && v == iv && e.name.equals(name)) {
+				i.remove();
+				return e.primitive;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Hand a primitive back to the cache of the current thread. The least
+	 * recently used primitive is dropped if the cache is full.
+	 *
+	 * @param name name of the primitive
+	 * @param key the key the primitive has been initialized with
+	 * @param iv the initialization vector the primitive has been initialized with, may be null
+	 * @param primitive the primitive in its initialized state
+	 */
+	void release(String name, byte[] key, byte[] iv, T primitive) {
+		LinkedList<Entry<T>> list = entries.get();
+		list.addFirst(new Entry<T>(name, key, iv, primitive));
+		while (list.size() > size)
+			list.removeLast();
+	}
+
+	/**
+	 * Clear the cache of the current thread.
+	 */
+	void clear() {
+		entries.get().clear();
+	}
+
+	static class Entry<T> {
+		final String name;
+		final WeakReference<byte[]> key;
+		final WeakReference<byte[]> iv;
+		final T primitive;
+
+		Entry(String name, byte[] key, byte[] iv, T primitive) {
+			this.name = name;
+			this.key = new WeakReference<byte[]>(key);
+			this.iv = iv == null ? null : new WeakReference<byte[]>(iv);
+			this.primitive = primitive;
+		}
+	}
+
+}
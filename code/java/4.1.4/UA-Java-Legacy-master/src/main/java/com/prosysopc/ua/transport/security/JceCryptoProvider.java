@@ -48,6 +48,11 @@ public class JceCryptoProvider implements CryptoProvider {
 	
 	protected final Provider provider;
 
+	private final CryptoPrimitiveCache<Cipher> encryptCiphers = new CryptoPrimitiveCache<Cipher>(CryptoPrimitiveCache.DEFAULT_SIZE);
+	private final CryptoPrimitiveCache<Cipher> decryptCiphers = new CryptoPrimitiveCache<Cipher>(CryptoPrimitiveCache.DEFAULT_SIZE);
+	private final CryptoPrimitiveCache<Mac> macs = new CryptoPrimitiveCache<Mac>(CryptoPrimitiveCache.DEFAULT_SIZE);
+	private volatile boolean cachePrimitives = true;
+
 	/**
 	 * Constructs new {@link JceCryptoProvider} using the given JCE provider. 
 	 * JCE Providers can be obtained by calling {@link Security#getProvider(String)}. 
@@ -60,6 +65,26 @@ public class JceCryptoProvider implements CryptoProvider {
 		this.provider = jceProvider;
 	}
 
+	/**
+	 * <p>isCachePrimitives.</p>
+	 *
+	 * @return true if the symmetric ciphers and MACs are cached
+	 */
+	public boolean isCachePrimitives() {
+		return cachePrimitives;
+	}
+
+	/**
+	 * Define whether the initialized symmetric ciphers and MACs are cached
+	 * per thread and reused for the keys of the same security token. The
+	 * default is true.
+	 *
+	 * @param cachePrimitives true to cache the primitives
+	 */
+	public void setCachePrimitives(boolean cachePrimitives) {
+		this.cachePrimitives = cachePrimitives;
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public byte[] base64Decode(String string) {
@@ -172,18 +197,20 @@ public class JceCryptoProvider implements CryptoProvider {
 			logger.trace("decrypt: algorithm=" + algorithm);
 		}
 
-		Cipher cipher;
+		Cipher cipher = cachePrimitives ? decryptCiphers.take(algorithm.getTransformation(), encryptingKey, iv) : null;
 		int decryptedBytes = 0;
 
-		SecretKeySpec spec = new SecretKeySpec(encryptingKey,
-				algorithm.getStandardName());
-
 		try {
-			cipher = Cipher.getInstance(algorithm.getTransformation());
-			cipher.init(Cipher.DECRYPT_MODE, spec,
-					new IvParameterSpec(iv));
+			if (cipher == null) {
+				SecretKeySpec spec = new SecretKeySpec(encryptingKey,
+						algorithm.getStandardName());
+				cipher = Cipher.getInstance(algorithm.getTransformation());
+				cipher.init(Cipher.DECRYPT_MODE, spec,
+						new IvParameterSpec(iv));
+			}
 			decryptedBytes = cipher.update(dataToDecrypt, inputOffset,
 					inputLength, output, outputOffset);
+			// doFinal resets the cipher to its initialized state
 			decryptedBytes += cipher.doFinal(output, outputOffset
 					+ decryptedBytes);
 		} catch (InvalidKeyException e) {
@@ -195,6 +222,9 @@ public class JceCryptoProvider implements CryptoProvider {
 			throw new ServiceResultException(StatusCodes.Bad_InternalError, e);
 		}
 
+		if (cachePrimitives)
+			decryptCiphers.release(algorithm.getTransformation(), encryptingKey, iv, cipher);
+
 		// isTraceEnabled checked because potentially time consuming CryptoUtil
 		// method gets evaluated otherwise every time.
 		if (logger.isTraceEnabled())
@@ -257,16 +287,22 @@ public class JceCryptoProvider implements CryptoProvider {
 			throws ServiceResultException {
 
 		SecurityAlgorithm algorithm = policy.getSymmetricEncryptionAlgorithm();
-		SecretKeySpec spec = new SecretKeySpec(encryptingKey,
-				algorithm.getStandardName());
+		Cipher cipher = cachePrimitives ? encryptCiphers.take(algorithm.getTransformation(), encryptingKey, iv) : null;
 
 		try {
-			Cipher cipher = Cipher.getInstance(algorithm.getTransformation());
-			cipher.init(Cipher.ENCRYPT_MODE, spec, new IvParameterSpec(iv));
+			if (cipher == null) {
+				SecretKeySpec spec = new SecretKeySpec(encryptingKey,
+						algorithm.getStandardName());
+				cipher = Cipher.getInstance(algorithm.getTransformation());
+				cipher.init(Cipher.ENCRYPT_MODE, spec, new IvParameterSpec(iv));
+			}
 			int encryptedBytes = cipher.update(dataToEncrypt, inputOffset,
 					inputLength, output, outputOffset);
+			// doFinal resets the cipher to its initialized state
 			encryptedBytes += cipher.doFinal(output, outputOffset
 					+ encryptedBytes);
+			if (cachePrimitives)
+				encryptCiphers.release(algorithm.getTransformation(), encryptingKey, iv, cipher);
 			return encryptedBytes;
 		} catch (InvalidKeyException e) {
 			throw new ServiceResultException(
@@ -307,7 +343,8 @@ public class JceCryptoProvider implements CryptoProvider {
 	@Override
 	public void signSymm(SecurityPolicy policy, byte[] key, byte[] input, int inputOffset, int verifyLen,
 			byte[] output, int outputOffset) throws ServiceResultException {
-		Mac hmac = createMac(policy.getSymmetricSignatureAlgorithm(), key);
+		SecurityAlgorithm algorithm = policy.getSymmetricSignatureAlgorithm();
+		Mac hmac = takeMac(algorithm, key);
 		hmac.update(input, inputOffset, verifyLen);
 		try {
 			hmac.doFinal(output, outputOffset);
@@ -315,6 +352,25 @@ public class JceCryptoProvider implements CryptoProvider {
 			throw new RuntimeServiceResultException(new ServiceResultException(
 					StatusCodes.Bad_InternalError, e));
 		}
+		releaseMac(algorithm, key, hmac);
+	}
+
+	/**
+	 * Get an initialized MAC from the cache of the current thread or create
+	 * a new one.
+	 */
+	private Mac takeMac(SecurityAlgorithm algorithm, byte[] key) throws ServiceResultException {
+		Mac hmac = cachePrimitives ? macs.take(algorithm.getStandardName(), key, null) : null;
+		return hmac != null ? hmac : createMac(algorithm, key);
+	}
+
+	/**
+	 * Hand a MAC back to the cache of the current thread after doFinal() has
+	 * reset it.
+	 */
+	private void releaseMac(SecurityAlgorithm algorithm, byte[] key, Mac hmac) {
+		if (cachePrimitives)
+			macs.release(algorithm.getStandardName(), key, null, hmac);
 	}
 
 	/** {@inheritDoc} */
@@ -351,11 +407,13 @@ public class JceCryptoProvider implements CryptoProvider {
 			byte[] signature) throws ServiceResultException {
 
 		// Get right hmac
-		Mac hmac = createMac(policy.getSymmetricSignatureAlgorithm(), key);
+		SecurityAlgorithm algorithm = policy.getSymmetricSignatureAlgorithm();
+		Mac hmac = takeMac(algorithm, key);
 		hmac.update(dataToVerify, inputOffset, verifyLen);
 		byte[] computedSignature = new byte[hmac.getMacLength()];
 		try {
 			hmac.doFinal(computedSignature, 0);
+			releaseMac(algorithm, key, hmac);
 		} catch (ShortBufferException e) {
 			//Should not happen in practice
 			logger.error("verifySymm", e);
@@ -60,6 +60,11 @@ public class ScCryptoProvider implements CryptoProvider {
 
 	static Logger logger = LoggerFactory.getLogger(ScCryptoProvider.class);
 
+	private final CryptoPrimitiveCache<BufferedBlockCipher> encryptCiphers = new CryptoPrimitiveCache<BufferedBlockCipher>(CryptoPrimitiveCache.DEFAULT_SIZE);
+	private final CryptoPrimitiveCache<BufferedBlockCipher> decryptCiphers = new CryptoPrimitiveCache<BufferedBlockCipher>(CryptoPrimitiveCache.DEFAULT_SIZE);
+	private final CryptoPrimitiveCache<HMac> macs = new CryptoPrimitiveCache<HMac>(CryptoPrimitiveCache.DEFAULT_SIZE);
+	private volatile boolean cachePrimitives = true;
+
 	/**
 	 * <p>Constructor for ScCryptoProvider.</p>
 	 */
@@ -68,6 +73,26 @@ public class ScCryptoProvider implements CryptoProvider {
 		CryptoUtil.loadOrInstallProvider("SC", "org.spongycastle.jce.provider.BouncyCastleProvider");
 	}
 
+	/**
+	 * <p>isCachePrimitives.</p>
+	 *
+	 * @return true if the symmetric ciphers and MACs are cached
+	 */
+	public boolean isCachePrimitives() {
+		return cachePrimitives;
+	}
+
+	/**
+	 * Define whether the initialized symmetric ciphers and MACs are cached
+	 * per thread and reused for the keys of the same security token. The
+	 * default is true.
+	 *
+	 * @param cachePrimitives true to cache the primitives
+	 */
+	public void setCachePrimitives(boolean cachePrimitives) {
+		this.cachePrimitives = cachePrimitives;
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public byte[] base64Decode(String string) {
@@ -148,22 +173,27 @@ public class ScCryptoProvider implements CryptoProvider {
 			int inputOffset, int inputLength, byte[] output, int outputOffset)
 					throws ServiceResultException {
 
-		final BufferedBlockCipher cipher;
-//		if(SecurityPolicy.PUBSUB_AES128_CTR.equals(policy) || SecurityPolicy.PUBSUB_AES256_CTR.equals(policy)) {
-//			cipher = new BufferedBlockCipher(new SICBlockCipher(new AESEngine()));
-//		}else {
-			cipher = new BufferedBlockCipher(new CBCBlockCipher(new AESEngine()));
-//		}
-
-		cipher.init(false, new ParametersWithIV(new KeyParameter(encryptingKey), iv));
+		String name = policy.getSymmetricEncryptionAlgorithm().getTransformation();
+		BufferedBlockCipher cipher = cachePrimitives ? decryptCiphers.take(name, encryptingKey, iv) : null;
+		if (cipher == null) {
+//			if(SecurityPolicy.PUBSUB_AES128_CTR.equals(policy) || SecurityPolicy.PUBSUB_AES256_CTR.equals(policy)) {
+//				cipher = new BufferedBlockCipher(new SICBlockCipher(new AESEngine()));
+//			}else {
+				cipher = new BufferedBlockCipher(new CBCBlockCipher(new AESEngine()));
+//			}
+			cipher.init(false, new ParametersWithIV(new KeyParameter(encryptingKey), iv));
+		}
 
 		int decryptedBytes = cipher.processBytes(dataToDecrypt, inputOffset,
 				inputLength, output, outputOffset);
 
 		try {
 
+			// doFinal resets the cipher to its initialized state
 			decryptedBytes += cipher.doFinal(output, outputOffset
 					+ decryptedBytes);
+			if (cachePrimitives)
+				decryptCiphers.release(name, encryptingKey, iv, cipher);
 			return decryptedBytes;
 
 		} catch (DataLengthException e) {
@@ -215,22 +245,27 @@ public class ScCryptoProvider implements CryptoProvider {
 			int inputOffset, int inputLength, byte[] output, int outputOffset)
 					throws ServiceResultException {
 
-		final BufferedBlockCipher cipher;
-//		if(SecurityPolicy.PUBSUB_AES128_CTR.equals(policy) || SecurityPolicy.PUBSUB_AES256_CTR.equals(policy)) {
-//			cipher = new BufferedBlockCipher(new SICBlockCipher(new AESEngine()));
-//		}else {
-			cipher = new BufferedBlockCipher(new CBCBlockCipher(new RijndaelEngine()));
-//		}
-
-		cipher.init(true, new ParametersWithIV(new KeyParameter(encryptingKey), iv));
+		String name = policy.getSymmetricEncryptionAlgorithm().getTransformation();
+		BufferedBlockCipher cipher = cachePrimitives ? encryptCiphers.take(name, encryptingKey, iv) : null;
+		if (cipher == null) {
+//			if(SecurityPolicy.PUBSUB_AES128_CTR.equals(policy) || SecurityPolicy.PUBSUB_AES256_CTR.equals(policy)) {
+//				cipher = new BufferedBlockCipher(new SICBlockCipher(new AESEngine()));
+//			}else {
+				cipher = new BufferedBlockCipher(new CBCBlockCipher(new RijndaelEngine()));
+//			}
+			cipher.init(true, new ParametersWithIV(new KeyParameter(encryptingKey), iv));
+		}
 
 		int encryptedBytes = cipher.processBytes(dataToEncrypt, inputOffset,
 				inputLength, output, outputOffset);
 
 		try {
 
+			// doFinal resets the cipher to its initialized state
 			encryptedBytes += cipher.doFinal(output, outputOffset
 					+ encryptedBytes);
+			if (cachePrimitives)
+				encryptCiphers.release(name, encryptingKey, iv, cipher);
 			return encryptedBytes;
 
 		} catch (DataLengthException e) {
@@ -291,9 +326,11 @@ public class ScCryptoProvider implements CryptoProvider {
 	@Override
 	public void signSymm(SecurityPolicy policy, byte[] key, byte[] input, int inputOffset, int verifyLen,
 			byte[] output, int outputOffset) throws ServiceResultException {
-		HMac hmac = createMac(policy.getSymmetricSignatureAlgorithm(), new KeyParameter(key));
+		SecurityAlgorithm algorithm = policy.getSymmetricSignatureAlgorithm();
+		HMac hmac = takeMac(algorithm, key);
 		hmac.update(input, inputOffset, verifyLen);
 		hmac.doFinal(output, outputOffset);
+		releaseMac(algorithm, key, hmac);
 	}
 
 	/** {@inheritDoc} */
@@ -322,11 +359,12 @@ public class ScCryptoProvider implements CryptoProvider {
 	public void verifySymm(SecurityPolicy policy, byte[] key, byte[] dataToVerify, int inputOffset, int verifyLen,
 			byte[] signature) throws ServiceResultException {
 
-		HMac hmac = createMac(policy.getSymmetricSignatureAlgorithm(),
-				new KeyParameter(key));
+		SecurityAlgorithm algorithm = policy.getSymmetricSignatureAlgorithm();
+		HMac hmac = takeMac(algorithm, key);
 		byte[] computedSignature = new byte[hmac.getMacSize()];
 		hmac.update(dataToVerify, inputOffset, verifyLen);
 		hmac.doFinal(computedSignature, 0);
+		releaseMac(algorithm, key, hmac);
 
 		// Compare signatures
 		// First test that sizes are the same
@@ -352,6 +390,24 @@ public class ScCryptoProvider implements CryptoProvider {
 		// Everything went fine, signatures matched
 	}
 
+	/**
+	 * Get an initialized MAC from the cache of the current thread or create
+	 * a new one.
+	 */
+	private HMac takeMac(SecurityAlgorithm algorithm, byte[] key) throws ServiceResultException {
+		HMac hmac = cachePrimitives ? macs.take(algorithm.getStandardName(), key, null) : null;
+		return hmac != null ? hmac : createMac(algorithm, new KeyParameter(key));
+	}
+
+	/**
+	 * Hand a MAC back to the cache of the current thread after doFinal() has
+	 * reset it.
+	 */
+	private void releaseMac(SecurityAlgorithm algorithm, byte[] key, HMac hmac) {
+		if (cachePrimitives)
+			macs.release(algorithm.getStandardName(), key, null, hmac);
+	}
+
 	private HMac createMac(SecurityAlgorithm algorithm, KeyParameter param)
 			throws ServiceResultException {
 
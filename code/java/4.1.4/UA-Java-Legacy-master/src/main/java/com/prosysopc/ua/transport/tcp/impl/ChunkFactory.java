@@ -25,6 +25,7 @@ import com.prosysopc.ua.common.ServiceResultException;
 import com.prosysopc.ua.core.MessageSecurityMode;
 import com.prosysopc.ua.utils.CryptoUtil;
 import com.prosysopc.ua.utils.bytebuffer.ByteBufferFactory;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferPool;
 
 /**
  * Chunk factory constructs byte buffers to be used for writing.
@@ -145,8 +146,7 @@ public class ChunkFactory extends ByteBufferFactory {
 		
 		assert(chunkSize<=maxChunkSize);
 		
-		ByteBuffer result = ByteBuffer.allocate(chunkSize);
-		result.order(ByteOrder.LITTLE_ENDIAN);
+		ByteBuffer result = allocateChunk(chunkSize);
 		
 		// Write chunk size at position 4
 		result.position(4);
@@ -165,6 +165,31 @@ public class ChunkFactory extends ByteBufferFactory {
 		return result;
 	}
 
+	/**
+	 * Allocate a buffer for a complete chunk from the chunk buffer pool.
+	 * The backing array may be larger than the chunk, the limit of the
+	 * result is chunkSize.
+	 *
+	 * @param chunkSize a int.
+	 * @return a {@link java.nio.ByteBuffer} object.
+	 */
+	protected ByteBuffer allocateChunk(int chunkSize) {
+		ByteBuffer result = ByteBufferPool.getDefault().allocate(chunkSize);
+		result.order(ByteOrder.LITTLE_ENDIAN);
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Return the buffer of a chunk or its plaintext to the chunk buffer pool.
+	 * The chunk must not be used after it has been released.
+	 */
+	@Override
+	public void release(ByteBuffer chunk) {
+		ByteBufferPool.getDefault().release(chunk);
+	}
+
 	/**
 	 * <p>writePadding.</p>
 	 *
@@ -253,7 +278,10 @@ public class ChunkFactory extends ByteBufferFactory {
 	 */
 	public ByteBuffer expandToCompleteChunk(ByteBuffer plaintext)
 	{ 
-		return ByteBuffer.wrap(plaintext.array()).order(ByteOrder.LITTLE_ENDIAN);
+		ByteBuffer chunk = ByteBuffer.wrap(plaintext.array()).order(ByteOrder.LITTLE_ENDIAN);
+		// The backing array may be larger than the chunk, limit to the chunk size written by allocate()
+		chunk.limit(chunk.getInt(4));
+		return chunk;
 	}
 
 	/**
@@ -413,8 +441,7 @@ public class ChunkFactory extends ByteBufferFactory {
 						
 			logger.trace("AsymmMSGChunkFactory.allocate: chunkSize={}", chunkSize);
 			
-			ByteBuffer result = ByteBuffer.allocate(chunkSize);
-			result.order(ByteOrder.LITTLE_ENDIAN);
+			ByteBuffer result = allocateChunk(chunkSize);
 
 			// Write padding
 			if ( msm == MessageSecurityMode.SignAndEncrypt ) {
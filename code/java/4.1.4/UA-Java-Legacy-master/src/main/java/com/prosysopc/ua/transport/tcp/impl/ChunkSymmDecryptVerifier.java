@@ -43,6 +43,10 @@ public class ChunkSymmDecryptVerifier implements Runnable {
 	static final int messageHeaderSize = 8;
 	static final int securityHeaderSize = 8;
 	static final int SymmetricHeaders = messageHeaderSize + securityHeaderSize; //Headers which are no crypted
+
+	/** Per-thread array that the signature of a chunk is computed into */
+	private static final ThreadLocal<byte[]> computedSignature = new ThreadLocal<byte[]>();
+
 	ByteBuffer chunk;
 	SecurityToken token;
 
@@ -78,21 +82,11 @@ public class ChunkSymmDecryptVerifier implements Runnable {
 			
 			int decryptedBytes;
 			if ( msm == MessageSecurityMode.SignAndEncrypt ) {
-				// Option A: Decrypt to separate memory block
-
-				// Get bytes that need to be decrypted
-				chunk.position(SymmetricHeaders);
-				byte dataToDecrypt[] = new byte[ chunk.limit() - SymmetricHeaders];
-				chunk.get(dataToDecrypt, 0, dataToDecrypt.length);
-				
-				// Run decrypt algorithm
-				decryptedBytes = decrypt( token, dataToDecrypt, 0, dataToDecrypt.length, chunk.array(), SymmetricHeaders + chunk.arrayOffset() );
-
-				// Option B: Decrypt in same memory block
-				// int decryptedBytes = decrypt(token, chunk.array(),
-				// SymmetricHeaders + chunk.arrayOffset(),
-				// chunk.limit() - SymmetricHeaders, chunk.array(),
-				// SymmetricHeaders + chunk.arrayOffset());
+				// Decrypt in the same memory block. The ciphers process the
+				// data block by block, so the plaintext can overwrite the
+				// ciphertext without a temporary copy.
+				int offset = chunk.arrayOffset() + SymmetricHeaders;
+				decryptedBytes = decrypt(token, chunk.array(), offset, chunk.limit() - SymmetricHeaders, chunk.array(), offset);
 			} else {			
 				decryptedBytes = chunk.limit() - SymmetricHeaders;
 			}
@@ -102,22 +96,10 @@ public class ChunkSymmDecryptVerifier implements Runnable {
 			
 			// Verify Signature
 			if ( msm == MessageSecurityMode.Sign || msm == MessageSecurityMode.SignAndEncrypt) {
-				// Verify signature
-				byte[] signature = new byte[signatureSize];
-				// Extract signature from decrypted message
-				// move buffer to the beginning of the signature
-				//chunk.position(16 + decryptedBytes - signatureSize);
-				chunk.position(chunkSize - signatureSize);
-				// Read signature from buffer
-				chunk.get(signature);
-
-				// Get the data to verify
-				chunk.position(0);
-				byte[] dataToVerify = new byte[16 + decryptedBytes - signatureSize];
-				chunk.get(dataToVerify, 0, dataToVerify.length);
-
-				// Verify signature, throws ServiceResultException if fails
-				verify(token, dataToVerify, signature);
+				// Verify the data in place against the signature at the end of the chunk,
+				// throws ServiceResultException if fails
+				verify(token, chunk.array(), chunk.arrayOffset(), SymmetricHeaders + decryptedBytes - signatureSize,
+						chunk.arrayOffset() + chunkSize - signatureSize, signatureSize);
 			}
 			
 			// Assert padding is ok
@@ -154,12 +136,30 @@ public class ChunkSymmDecryptVerifier implements Runnable {
 	}
 	
 	private int decrypt(SecurityToken token, byte[] dataToDecrypt, int inputOffset, int inputLength, byte[] output, int outputOffset) throws ServiceResultException{
-		logger.debug("decrypt: dataToDecrypt.length={} inputOffset={} inputLength={} output.length={} outputOffset={}", dataToDecrypt.length, inputOffset, inputLength, output.length, outputOffset);
+		logger.debug("decrypt: inputOffset={} inputLength={} output.length={} outputOffset={}", inputOffset, inputLength, output.length, outputOffset);
 		return CryptoUtil.getCryptoProvider().decryptSymm(token.getSecurityPolicy(), token.getRemoteEncryptingKey(), token.getRemoteInitializationVector(), dataToDecrypt, inputOffset, inputLength, output, outputOffset);
 	}
 
-	private void verify(SecurityToken token, byte[] dataToVerify, byte[] signature) throws ServiceResultException {
-		CryptoUtil.getCryptoProvider().verifySymm(token.getSecurityPolicy(), token.getRemoteSigningKey(), dataToVerify, 0, dataToVerify.length, signature);
+	/**
+	 * Compute the signature of the data into a per-thread array and compare
+	 * it to the signature in the same array as the data, so that neither
+	 * signature is copied into a new array.
+	 */
+	private void verify(SecurityToken token, byte[] dataToVerify, int inputOffset, int verifyLen, int signatureOffset, int signatureSize) throws ServiceResultException {
+		byte[] computed = computedSignature.get();
+		if (computed == null || computed.length < signatureSize) {
+			computed = new byte[signatureSize];
+			computedSignature.set(computed);
+		}
+		CryptoUtil.getCryptoProvider().signSymm(token.getSecurityPolicy(), token.getRemoteSigningKey(), dataToVerify, inputOffset, verifyLen, computed, 0);
+		// Compare all bytes, so that the time does not depend on where they differ
+		int diff = 0;
+		for (int i = 0; i < signatureSize; i++)
+			diff |= computed[i] ^ dataToVerify[signatureOffset + i];
+		if (diff != 0) {
+			logger.info("Signature does not match");
+			throw new ServiceResultException(StatusCodes.Bad_SecurityChecksFailed, "Invalid signature");
+		}
 	}
 	
 }
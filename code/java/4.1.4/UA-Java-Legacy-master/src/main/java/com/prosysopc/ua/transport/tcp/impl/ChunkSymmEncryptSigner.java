@@ -76,17 +76,16 @@ public class ChunkSymmEncryptSigner implements Runnable {
 			int signatureSize = policy.getSymmetricSignatureSize();
 			if ( msm == MessageSecurityMode.Sign || msm == MessageSecurityMode.SignAndEncrypt ) {
 					
-				// Message written so far will be signed
+				// Message written so far will be signed, the signature is
+				// written directly after it
 				int verifyLen = chunkSize - signatureSize;
-				byte[] signature = new byte[ signatureSize ];
-				
-				sign(token, chunk.array(), verifyLen, signature);
-				
-				chunk.position(chunkSize - signatureSize);
-				chunk.put(signature, 0, signatureSize);
+				sign(token, chunk.array(), chunk.arrayOffset(), verifyLen, chunk.array(), chunk.arrayOffset() + verifyLen);
 				
 				//isTraceEnabled checked because potentially time consuming CryptoUtil method gets evaluated otherwise every time.
 				if (logger.isTraceEnabled()) {
+					byte[] signature = new byte[ signatureSize ];
+					chunk.position(verifyLen);
+					chunk.get(signature);
 					logger.trace("signature={}", CryptoUtil.toHex(signature));
 				}
 				
@@ -108,12 +107,9 @@ public class ChunkSymmEncryptSigner implements Runnable {
 			// Encrypt
 			if ( msm == MessageSecurityMode.SignAndEncrypt ) {
 				
-				byte[] plaintext = new byte[ sequenceHeader + bodySize + padding + signatureSize ];
-				chunk.position( messageHeaderSize + securityHeader );
-				chunk.get(plaintext);
-				
-				// Run encrypt algorithm	
-				encrypt(token, plaintext, 0, plaintext.length, chunk.array(), messageHeaderSize + securityHeader);
+				// Encrypt in the same memory block
+				int offset = chunk.arrayOffset() + messageHeaderSize + securityHeader;
+				encrypt(token, chunk.array(), offset, sequenceHeader + bodySize + padding + signatureSize, chunk.array(), offset);
 			}
 			
 		} catch (ServiceResultException e) {
@@ -126,9 +122,9 @@ public class ChunkSymmEncryptSigner implements Runnable {
 		return CryptoUtil.getCryptoProvider().encryptSymm(token.getSecurityPolicy(),token.getLocalEncryptingKey(), token.getLocalInitializationVector(), dataToEncrypt, inputOffset, inputLength, output, outputOffset);
 	}
 	
-	private void sign(SecurityToken token, byte[] input, int verifyLen, byte[] output)
+	private void sign(SecurityToken token, byte[] input, int inputOffset, int verifyLen, byte[] output, int outputOffset)
 			throws ServiceResultException {
-		CryptoUtil.getCryptoProvider().signSymm(token.getSecurityPolicy(), token.getLocalSigningKey(), input, 0, verifyLen, output, 0);
+		CryptoUtil.getCryptoProvider().signSymm(token.getSecurityPolicy(), token.getLocalSigningKey(), input, inputOffset, verifyLen, output, outputOffset);
 	}
 
 }
@@ -40,7 +40,14 @@ public class OpcTcpSettings implements Cloneable{
 		 * This allows higher throughput in secured data intensive applications with 
 		 * large messages.
 		 */
-		MultiThread
+		MultiThread,
+		/**
+		 * In non-blocking mode, the client connection reads the socket with 
+		 * the shared selectors of the stack, instead of a read thread of its 
+		 * own. This allows a client application to keep a large number of 
+		 * connections open with a small number of threads.
+		 */
+		NonBlocking
 	}
 
 	
@@ -0,0 +1,140 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package com.prosysopc.ua.transport.tcp.io;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.prosysopc.ua.transport.tcp.io.SecureChannelTcp.PendingRequest;
+
+/**
+ * The pending requests of a {@link SecureChannelTcp}, indexed by request id.
+ * <p>
+ * Request ids are assigned from a counter, so the requests in flight occupy
+ * consecutive slots of a ring whose size is a power of two, and a request is
+ * put and removed with a compare-and-set of its slot, without locking or
+ * allocation. A request whose slot is still taken by an older request, such
+ * as a long waiting PublishRequest, is kept in an overflow map.
+ */
+class PendingRequestTable {
+
+	/** Default number of slots */
+	static final int DEFAULT_SIZE = 1024;
+
+	private final AtomicReferenceArray<PendingRequest> slots;
+	private final int mask;
+	private final Map<Integer, PendingRequest> overflow = new ConcurrentHashMap<Integer, PendingRequest>();
+	private final AtomicInteger size = new AtomicInteger();
+
+	PendingRequestTable() {
+		this(DEFAULT_SIZE);
+	}
+
+	/**
+	 * @param size number of slots, rounded up to a power of two
+	 */
+	PendingRequestTable(int size) {
+		if (size <= 0)
+			throw new IllegalArgumentException("size must be positive");
+		int n = 1;
+		while (n < size)
+			n <<= 1;
+		slots = new AtomicReferenceArray<PendingRequest>(n);
+		mask = n - 1;
+	}
+
+	/**
+	 * Add a request. The request id must not be in use.
+	 *
+	 * @param req the request
+	 */
+	void put(PendingRequest req) {
+		// Counted first, so that the size is never less than the requests in the table
+		size.incrementAndGet();
+		if (!slots.compareAndSet(req.requestId & mask, null, req))
+			overflow.put(req.requestId, req);
+	}
+
+	/**
+	 * @param requestId the request id
+	 * @return the request or null
+	 */
+	PendingRequest get(int requestId) {
+		PendingRequest req = slots.get(requestId & mask);
+		if (req != null && req.requestId == requestId)
+			return req;
+		return overflow.isEmpty() ? null : overflow.get(requestId);
+	}
+
+	/**
+	 * Remove a request. Only one of concurrent callers gets the request.
+	 *
+	 * @param requestId the request id
+	 * @return the removed request or null
+	 */
+	PendingRequest remove(int requestId) {
+		int i = requestId & mask;
+		PendingRequest req = slots.get(i);
+		if (req != null && req.requestId == requestId) {
+			if (!slots.compareAndSet(i, req, null))
+				return null;
+		} else {
+			req = overflow.isEmpty() ? null : overflow.remove(requestId);
+			if (req == null)
+				return null;
+		}
+		size.decrementAndGet();
+		return req;
+	}
+
+	/**
+	 * Remove all requests. A request that is put meanwhile may be left in the
+	 * table.
+	 *
+	 * @return the removed requests
+	 */
+	List<PendingRequest> removeAll() {
+		List<PendingRequest> result = new ArrayList<PendingRequest>();
+		for (int i = 0; i <= mask; i++) {
+			PendingRequest req = slots.get(i);
+			if (req != null && slots.compareAndSet(i, req, null)) {
+				size.decrementAndGet();
+				result.add(req);
+			}
+		}
+		for (Integer requestId : overflow.keySet()) {
+			PendingRequest req = overflow.remove(requestId);
+			if (req != null) {
+				size.decrementAndGet();
+				result.add(req);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the number of requests
+	 */
+	int size() {
+		return size.get();
+	}
+
+	boolean isEmpty() {
+		return size.get() == 0;
+	}
+
+}
@@ -32,14 +32,12 @@ import com.prosysopc.ua.transport.impl.AsyncResultImpl;
 import com.prosysopc.ua.transport.security.SecurityPolicy;
 import com.prosysopc.ua.transport.tcp.io.IConnection.IMessageListener;
 import java.net.InetSocketAddress;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Timer;
+import java.util.Queue;
 import java.util.TimerTask;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
@@ -75,6 +73,8 @@ import com.prosysopc.ua.utils.CryptoUtil;
 import com.prosysopc.ua.utils.ObjectUtils;
 import com.prosysopc.ua.utils.StackUtils;
 import com.prosysopc.ua.utils.TimerUtil;
+import com.prosysopc.ua.utils.metrics.ChannelMetrics;
+import com.prosysopc.ua.utils.metrics.Gauge;
 
 /**
  * Client's Secure Channel connection to an endpoint. <p>
@@ -131,10 +131,24 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 	AtomicReference<IConnection> transportChannel = new AtomicReference<IConnection>(null);
 	
 	/**
-	 * List on pending requests. All reads and writes are done by synchronizing to the
-	 * requests object. 
+	 * Pending requests by request id.
 	 */
-	Map<Integer, PendingRequest> requests = new ConcurrentHashMap<Integer, PendingRequest>();
+	PendingRequestTable requests = new PendingRequestTable();
+
+	/** Metrics of the connection, see {@link TcpConnection#getMetrics()} */
+	ChannelMetrics metrics = ChannelMetrics.NOOP;
+	
+	/**
+	 * Pending requests whose request message has not been sent, in the order
+	 * they were queued. 
+	 */
+	Queue<PendingRequest> unsentRequests = new ConcurrentLinkedQueue<PendingRequest>();
+
+	/**
+	 * A request whose message could not be sent, which is sent before the
+	 * {@link #unsentRequests} to keep the order of the requests.
+	 */
+	final AtomicReference<PendingRequest> resentRequest = new AtomicReference<PendingRequest>();
 	
 	/**
 	 * Pending request class. The result is written to error or response, after which 
@@ -155,6 +169,9 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 		
 		// Used if the request message has not been sent
 		IEncodeable requestToBeSent;
+		
+		// Timeout of the request, cancelled when the request is removed
+		TimerTask timeoutTask;
 	}
 		
 	/** 
@@ -202,16 +219,6 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 	 */
 	TimerTask renewSecurityTokenTask;
 	
-	/**
-	 * This task timeouts pending requests. The task is created upon async service request.
-	 * "requests" is synchronized when timeoutPendingRequests is modified.
-	 */
-	AtomicReference<TimerTask> timeoutPendingRequestsTask = new AtomicReference<TimerTask>(null);
-	
-	/**
-	 * Timer that schedules future tasks 
-	 */
-	Timer timer;
 	
 	/**
 	 * <p>Constructor for SecureChannelTcp.</p>
@@ -265,12 +272,20 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 		errorRecoveryReconnectTimer = null;
 		errorRecoveryReconnectIndex = 0;
 		
-		timer = TimerUtil.getTimer();
 		
 		String url = settings.getDescription().getEndpointUrl();
 		if ( url == null || url.isEmpty() || UriUtil.SCHEME_OPCTCP.equals( UriUtil.getTransportProtocol(url) )) {
-			setTransportChannel(new TcpConnection());
-			getTransportChannel().initialize(addr, settings, ctx);
+			TcpConnection connection = new TcpConnection();
+			setTransportChannel(connection);
+			connection.initialize(addr, settings, ctx);
+			metrics = connection.getMetrics();
+			metrics.gauge("pendingRequests", new Gauge() {
+				@Override
+				public long getValue() {
+					PendingRequestTable r = requests;
+					return r == null ? 0 : r.size();
+				}
+			});
 			getTransportChannel().addConnectionListener( this );
 			getTransportChannel().addMessageListener( this );			
 		} else {
@@ -332,7 +347,7 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 		PendingRequest req = newPendingRequest(operationTimeout);
 		req.result = new AsyncResultImpl<ServiceResponse>();
 		
-		requests.put(req.requestId, req);
+		requests.put(req);
 		logger.debug("serviceRequest: requests.size={}", requests.size()); //keySet());
 		try {
 			try {
@@ -351,7 +366,8 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 				// 	Put the message to queue
 				if (e.getStatusCode().isStatusCode( Bad_CommunicationError ))
 				{
-					req.requestToBeSent = request;					
+					req.requestToBeSent = request;
+					unsentRequests.add(req);
 					// Sends the result in another thread. This thread can continue with minimal delay
 					executor.execute( sendPendingMessagesRunnable );					
 				} else {
@@ -386,7 +402,7 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 				return res;	
 			}
 		} finally {
-			requests.remove(req.requestId);
+			removeRequest(req.requestId);
 		}
 		
 	}
@@ -462,12 +478,13 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 		req.result = result;
 		req.requestToBeSent = request;
 		
-		requests.put(req.requestId, req);
+		requests.put(req);
+		unsentRequests.add(req);
 		logger.debug("serviceRequestAsync: requests.size={}", requests.size()); //keySet());
 
 		// Make sure the request timeouts at some time
 		if (operationTimeout!=0) {
-			scheduleTimeoutRequestsTimer();
+			scheduleRequestTimeout(req);
 		}
 		// Sends the result in another thread. Current thread may continue with no further delay
 //		logger.debug("scheduling async request to another thread: "+req.requestId);
@@ -477,70 +494,42 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 	}
 
 	/**
-	 * Sets new Timer Task that timeouts pending requests.
-	 * If task already exists but is too far in the future, it is canceled and new task assigned
+	 * Schedules the timeout of a pending request. At timeout the request is
+	 * removed and Bad_Timeout is set as its error. The timeout is cancelled
+	 * when the request is removed with {@link #removeRequest(int)}.
 	 */
-	private void scheduleTimeoutRequestsTimer()
+	private void scheduleRequestTimeout(final PendingRequest req)
 	{
-		PendingRequest nextRequest = getNextTimeoutingPendingRequest();
-
-		// Cancel task
-		if (nextRequest == null) {
-			cancelTimeoutPendingRequestTask();
-		} else {
-			TimerTask task = timeoutPendingRequestsTask.get();
-			// Task does not exists or is not ok
-			if (task == null
-					|| task.scheduledExecutionTime() > nextRequest.timeoutTime) {
-				cancelTimeoutPendingRequestTask();
-				// Create a new task
-				task = TimerUtil.schedule(timer, timeoutRun, executor,
-						nextRequest.timeoutTime);
-				if (!timeoutPendingRequestsTask.compareAndSet(null, task))
-					// it was already set
-					task.cancel();
-			}
-		}
+		req.timeoutTask = TimerUtil.schedule(new Runnable() {
+			@Override
+			public void run() {
+				PendingRequestTable requests = SecureChannelTcp.this.requests;
+				if (requests == null || requests.remove(req.requestId) == null)
+					return;
+				logger.warn("Request id={} timeouted {}ms elapsed. timeout at {}ms", req.requestId, (System.currentTimeMillis()-req.startTime), (req.timeoutTime - req.startTime));
+				req.result.setError(new ServiceResultException(Bad_Timeout));
+			}}, executor, req.timeoutTime);
 	}
-		
-	/**
-	 * This runnable goes thru pending requests and sets Bad_Timeout error code to all 
-	 * requests that have timeouted. 
-	 */
-	Runnable timeoutRun = new Runnable() {
-		@Override
-		public void run() {
-			cancelTimeoutPendingRequestTask();
-			long currentTime = System.currentTimeMillis();
-			for (PendingRequest req : requests.values()) {
-				if (currentTime >= req.timeoutTime) {
-					logger.warn("Request id={} timeouted {}ms elapsed. timeout at {}ms", req.requestId, (System.currentTimeMillis()-req.startTime), (req.timeoutTime - req.startTime));
-					req.result.setError(new ServiceResultException(Bad_Timeout));
-					requests.remove(req.requestId);
-					// logger.debug("requests: "+requests.keySet());
-				}
-			}
-			// Schedule next timeout event
-			scheduleTimeoutRequestsTimer();
-		}};	
-		
+
 	/**
-	 * Get the next request that is closest to timeout
+	 * Removes a pending request and cancels its timeout
 	 * 
-	 * @return null or request
+	 * @param requestId the request id
+	 * @return the removed request or null
 	 */
-	private PendingRequest getNextTimeoutingPendingRequest()
+	private PendingRequest removeRequest(int requestId)
 	{
-		long next = Long.MAX_VALUE;
-		PendingRequest result = null;
-		logger.debug("getNextTimeoutingPendingRequest: requests.size={}", requests.size());
-		for (PendingRequest req : requests.values()) {
-			if (next > req.timeoutTime) {
-				next = req.timeoutTime;
-				result = req;
-			}
-		}
-		return result;
+		PendingRequest req = requests.remove(requestId);
+		if (req != null)
+			cancelRequestTimeout(req);
+		return req;
+	}
+
+	private static void cancelRequestTimeout(PendingRequest req)
+	{
+		TimerTask task = req.timeoutTask;
+		if (task != null)
+			task.cancel();
 	}
 
 	/**
@@ -713,6 +702,7 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 			
 			if (renew) {
 				logger.debug("{} Secure channel renewed, SecureChannelId={}, TokenId={}", this.secureChannelId, this.secureChannelId, token.getTokenId().longValue());
+				metrics.tokenRenewals.inc();
 			} else {
 				logger.debug("{} Secure channel opened, SecureChannelId={}, TokenId={}", this.secureChannelId, this.secureChannelId, token.getTokenId().longValue());
 			}
@@ -737,7 +727,7 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 			{
 				long renewTime = token.getRevisedLifetime().longValue();
 				logger.debug("RevisedLifetime: {}", renewTime);
-				renewSecurityTokenTask = TimerUtil.schedule(timer, renewSecurityTokenRunnable, executor, 
+				renewSecurityTokenTask = TimerUtil.schedule(renewSecurityTokenRunnable, executor, 
 						currentTime + (long)(renewTime* TcpMessageLimits.TokenRenewalPeriod ));
 			}
 			
@@ -769,6 +759,8 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 				break;
 			messageToSend = req.requestToBeSent;
 			req.requestToBeSent = null;
+			if (messageToSend == null || requests.get(req.requestId) != req)
+				continue;
 			// Request message has not been sent
 
 			// The request has timeouted
@@ -776,7 +768,7 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 			long elapsedTime = currentTime - req.startTime;
 			if (currentTime > req.timeoutTime) {
 				logger.debug("Request id={} timeouted {}ms elapsed. timeout at {} ms", req.requestId, elapsedTime, (req.timeoutTime - req.startTime));
-				requests.remove(req.requestId);
+				removeRequest(req.requestId);
 				req.result.setError(new ServiceResultException(Bad_Timeout));
 				continue;
 			}
@@ -789,14 +781,17 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 					  channel.sendRequest((ServiceRequest)messageToSend, secureChannelId, req.requestId);
 				} catch (EncodingException e) {
 					// Encoding problem
-					requests.remove(req.requestId);
+					removeRequest(req.requestId);
 					req.result.setError(e);
 				} catch (ServiceResultException e) {				
 					// Put message back to the send queue
 					StatusCode code = e.getStatusCode();
 					if (code.isStatusCode(Bad_CommunicationError))
 					{
+						// Sent again when the connection is re-established
 						req.requestToBeSent = messageToSend;
+						resentRequest.set(req);
+						break;
 					} else {
 						// Unexpected error while sending a message
 						req.result.setError(e);
@@ -826,12 +821,8 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 	 * @return unsent pending message or null
 	 */
 	private PendingRequest getNextUnsentRequest() {
-		for (PendingRequest r : requests.values()) {
-			if (r.requestToBeSent != null) {
-				return r;
-			}
-		}
-		return null;
+		PendingRequest req = resentRequest.getAndSet(null);
+		return req != null ? req : unsentRequests.poll();
 	}
 
 	/**
@@ -882,38 +873,27 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 		{
 			Collection<PendingRequest> copy;
 			
-				
-			// Cancel timeout task
-			cancelTimeoutPendingRequestTask();
 
 			// TODO: Is this thread safe? Does it have to be? Should requests be a BlockingQueue?
 			
 //			if (requests.isEmpty())
 //				copy = Collections.emptyList();
 //			else
-			copy = new ArrayList<PendingRequest>(requests.values());
 			logger.debug("requests.clear()");
-			requests.clear();
+			copy = requests.removeAll();
+			unsentRequests.clear();
+			resentRequest.set(null);
 
 			if (!copy.isEmpty()) {
 				ServiceResultException sre = new ServiceResultException(Bad_SecureChannelClosed);		
 				for (PendingRequest pr : copy) {
+					cancelRequestTimeout(pr);
 					pr.result.setError(sre);
 				}
 			}
 		}
 	}
 
-	/**
-	 * 
-	 */
-	private void cancelTimeoutPendingRequestTask() {
-		TimerTask task = timeoutPendingRequestsTask.getAndSet(null);
-		if (task !=null) {
-			task.cancel();
-		}
-	}
-
 	/**
 	 * @return
 	 */
@@ -959,7 +939,6 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 		settings = null;
 		addr = null;
 		requests = null;
-		timer = null;
 	}
 
 	/**
@@ -1028,7 +1007,7 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 		
 
 		// logger.debug("requests: "+requests.keySet());
-		PendingRequest req = requests.remove(requestId);
+		PendingRequest req = removeRequest(requestId);
 
 		if (req==null) {
 			if (message instanceof OpenSecureChannelResponse == false) {
@@ -1102,12 +1081,14 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 			if ( closeError == null ) closeError = new ServiceResultException( StatusCodes.Bad_UnexpectedError );
 			// Cancel requests
 			while ( !requests.isEmpty() ) {
-				List<PendingRequest> list = new ArrayList<PendingRequest>( requests.values() );
+				List<PendingRequest> list = requests.removeAll();
 				for ( PendingRequest req : list ) {
+					cancelRequestTimeout( req );
 					req.result.setError( closeError );
 				}
-				requests.values().removeAll(list);
 			}
+			unsentRequests.clear();
+			resentRequest.set(null);
 			setErrorRecoveryState(false);			
 		}
 		
@@ -1182,7 +1163,7 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 						close();
 						return;						
 					}
-					errorRecoveryReconnectTimer = TimerUtil.schedule(timer, reconnectRunnable, executor, currentTime + waitTime);				
+					errorRecoveryReconnectTimer = TimerUtil.schedule(reconnectRunnable, executor, currentTime + waitTime);				
 				}
 			}
 			
@@ -1199,7 +1180,7 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 				errorRecoveryState = true;
 				errorRecoveryReconnectIndex = 0;
 				long currentTime = System.currentTimeMillis();
-				errorRecoveryReconnectTimer = TimerUtil.schedule(timer, reconnectRunnable, executor, currentTime + RECONNECT_WAIT_TIME[0]);				
+				errorRecoveryReconnectTimer = TimerUtil.schedule(reconnectRunnable, executor, currentTime + RECONNECT_WAIT_TIME[0]);				
 			} else {
 				logger.info("{}: Error recovery = false", secureChannelId);
 				errorRecoveryState = false;
@@ -28,6 +28,7 @@ import com.prosysopc.ua.builtintypes.ServiceRequest;
 import com.prosysopc.ua.builtintypes.StatusCode;
 import com.prosysopc.ua.builtintypes.UnsignedInteger;
 import com.prosysopc.ua.transport.security.Cert;
+import com.prosysopc.ua.transport.security.CertificateCache;
 import com.prosysopc.ua.transport.security.CertificateValidator;
 import com.prosysopc.ua.transport.security.KeyPair;
 import com.prosysopc.ua.transport.security.PrivKey;
@@ -47,6 +48,7 @@ import com.prosysopc.ua.transport.tcp.impl.Hello;
 import com.prosysopc.ua.transport.tcp.impl.ReverseHello;
 import com.prosysopc.ua.transport.tcp.impl.SecurityToken;
 import com.prosysopc.ua.transport.tcp.impl.TcpMessageType;
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
@@ -60,6 +62,8 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.security.cert.CertificateException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -69,6 +73,7 @@ import java.util.Map;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.slf4j.Logger;
@@ -97,16 +102,22 @@ import com.prosysopc.ua.transport.ReverseTransportChannelSettings;
 import com.prosysopc.ua.transport.SecureChannel;
 import com.prosysopc.ua.transport.TransportChannelSettings;
 import com.prosysopc.ua.transport.UriUtil;
-import com.prosysopc.ua.utils.CertificateUtils;
 import com.prosysopc.ua.utils.CryptoUtil;
+import com.prosysopc.ua.utils.IStatefulObject;
 import com.prosysopc.ua.utils.SizeCalculationOutputStream;
 import com.prosysopc.ua.utils.StackUtils;
 import com.prosysopc.ua.utils.TimerUtil;
+import com.prosysopc.ua.utils.asyncsocket.AsyncInputStream;
+import com.prosysopc.ua.utils.asyncsocket.AsyncSocketImpl;
+import com.prosysopc.ua.utils.asyncsocket.BufferMonitorState;
+import com.prosysopc.ua.utils.asyncsocket.MonitorListener;
 import com.prosysopc.ua.utils.bytebuffer.ByteBufferArrayReadable;
-import com.prosysopc.ua.utils.bytebuffer.ByteBufferArrayWriteable2;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferPool;
+import com.prosysopc.ua.utils.bytebuffer.ChunkedByteBufferWriteable;
 import com.prosysopc.ua.utils.bytebuffer.IBinaryReadable;
 import com.prosysopc.ua.utils.bytebuffer.InputStreamReadable;
 import com.prosysopc.ua.utils.bytebuffer.OutputStreamWriteable;
+import com.prosysopc.ua.utils.metrics.ChannelMetrics;
 
 /**
  * This class implements OPC UA Secure Conversation (UASC) for client to server
@@ -270,6 +281,26 @@ public class TcpConnection implements IConnection {
 	 */
 	ReadThread thread;
 
+	/**
+	 * Reader of the chunks of the current socket connection. The chunks are
+	 * read by {@link #thread}, or by an {@link AsyncReader} if the flag
+	 * {@link OpcTcpSettings.Flag#NonBlocking} is set.
+	 */
+	MessageReader reader;
+
+	/**
+	 * Non-blocking socket, if the flag {@link OpcTcpSettings.Flag#NonBlocking}
+	 * is set and the connection is established.
+	 */
+	volatile AsyncSocketImpl asyncSocket;
+
+	/**
+	 * Metrics of the connection, named <code>client.&lt;n&gt;</code>
+	 */
+	ChannelMetrics metrics = ChannelMetrics.NOOP;
+
+	private static final AtomicInteger connectionCounter = new AtomicInteger();
+
 	/**
 	 * Encoder context and parameters
 	 */
@@ -432,6 +463,8 @@ public class TcpConnection implements IConnection {
 			}
 			
 			this.addr = addr;
+			metrics.remove();
+			metrics = ChannelMetrics.get("client." + connectionCounter.incrementAndGet());
 			if(settings instanceof ReverseTransportChannelSettings) {
 				this.reverseHelloServerUri = ((ReverseTransportChannelSettings) settings).getReverseHelloServerUri();
 			}else {
@@ -481,13 +514,15 @@ public class TcpConnection implements IConnection {
 				return;
 
 			boolean isReverse = reverseHelloServerUri != null;
+			// The handshake is made in blocking mode also with non-blocking sockets
+			boolean nonBlocking = flags.contains(OpcTcpSettings.Flag.NonBlocking);
 			
 			if(!isReverse) {
 				// Connect
 				try {
 					logger.info("{} Connecting", addr);
 					
-					s = new Socket();
+					s = nonBlocking ? SocketChannel.open().socket() : new Socket();
 					// Disable Nagle's algorithm
 					s.setTcpNoDelay(true);
 					if (receiveBufferSize > 0)
@@ -518,7 +553,7 @@ public class TcpConnection implements IConnection {
 			}else {
 				//Reverse Connect, wait for the server-side to open socket
 				try {
-					final ServerSocket ss = new ServerSocket();
+					final ServerSocket ss = nonBlocking ? ServerSocketChannel.open().socket() : new ServerSocket();
 					ss.bind(addr);
 					logger.info("Opened ServerSocket at:{}, waiting ReverseHello connection", addr);
 					if(reverseHelloAcceptTimeout > 0) {
@@ -716,9 +751,20 @@ public class TcpConnection implements IConnection {
 				for (IConnectionListener l : connectionListeners)
 					l.onOpen();
 
-				logger.debug("Creating ReadThread");
-				thread = new ReadThread(s, dec.getEncoderContext());
-				thread.start();
+				reader = new MessageReader(dec.getEncoderContext());
+				SocketChannel channel = s.getChannel();
+				if (channel != null) {
+					logger.debug("Creating AsyncReader");
+					channel.configureBlocking(false);
+					asyncSocket = new AsyncSocketImpl(channel, StackUtils.getNonBlockingWorkExecutor(), StackUtils.getSelectorPool().next());
+					out = new OutputStreamWriteable(asyncSocket.getOutputStream());
+					out.order(ByteOrder.LITTLE_ENDIAN);
+					new AsyncReader(asyncSocket, reader).start();
+				} else {
+					logger.debug("Creating ReadThread");
+					thread = new ReadThread(s, reader);
+					thread.start();
+				}
 				this.ctx = enc.getEncoderContext();
 				this.out = out;
 			} catch (IOException e) {
@@ -796,9 +842,9 @@ public class TcpConnection implements IConnection {
 	 * This method is invoked by the user and internally by read thread.
 	 */
 	public void close() {
-		ReadThread t = thread;
-		if (t != null)
-			t.closing = true;
+		MessageReader r = reader;
+		if (r != null)
+			r.closing = true;
 		close(new ServiceResultException(Bad_CommunicationError, "Socket closed by the user"));
 	}
 	
@@ -808,10 +854,14 @@ public class TcpConnection implements IConnection {
 		lock.lock();
 		try {
 			final Socket s = getSocket();
-			if (s == null || !s.isConnected() || s.isClosed())
+			if (s == null || !s.isConnected() || (s.isClosed() && asyncSocket == null))
 				return;
 			try {
-				s.close();
+				if (asyncSocket != null) {
+					asyncSocket.close();
+					asyncSocket = null;
+				} else
+					s.close();
 			} catch (IOException e) {
 				// 	Unexpected, not important, log it for remotely possible debug situation 
 				logger.warn(addr+" Close error", e);
@@ -862,14 +912,12 @@ public class TcpConnection implements IConnection {
 	}
 
 	/**
-	 * ReadThread is a thread that does blocking read to the input stream. If
-	 * errors occur in the input stream, the error is logged and the socket
-	 * closed. It deciphers and deserializes incoming messages and fires events
-	 * to TcpConnection.
-	 * 
+	 * MessageReader assembles the chunks read from the socket into messages. 
+	 * It verifies and deciphers the chunks, deserializes the messages and 
+	 * fires events to TcpConnection. The chunks are read by {@link ReadThread}, 
+	 * or by {@link AsyncReader} if the connection uses non-blocking IO.
 	 */
-	class ReadThread extends Thread {
-		Socket s;
+	class MessageReader {
 		EncoderContext ctx;
 
 		/**
@@ -878,327 +926,507 @@ public class TcpConnection implements IConnection {
 		ServiceResultException closeError = null;
 
 		/**
-		 * Indicator set to true to signal the thread that the socket has been
+		 * Indicator set to true to signal the reader that the socket has been
 		 * closed in a controlled manner.
 		 */
-		boolean closing = false;
+		volatile boolean closing = false;
 
-		/**
-		 * Create new read thread.
-		 * 
-		 * @param s
-		 *            socket
-		 * @param ctx
-		 */
-		ReadThread(Socket s, EncoderContext ctx) {
-			super("TcpConnection/Read");
-			this.setDaemon(true);
-			this.s = s;
+		// The message being read
+		final ArrayList<ByteBuffer> chunks = new ArrayList<ByteBuffer>(256);
+		int messageType = 0;
+		int chunkNumber = 0;
+		int chunkContinuationType = 0;
+		int requestId = 0;
+		int secureChannelId = 0;
+
+		MessageReader(EncoderContext ctx) {
 			this.ctx = ctx;
 		}
 
-		@Override
-		public void run() {
-			try {
-				// total chunk count
-//				int chunkCount = 0;
-				// boolean multithread = flags.contains(
-				// TransportChannelSettings.Flag.MultiThread );
-				IBinaryReadable in = new InputStreamReadable(s.getInputStream(), Long.MAX_VALUE);
-				in.order(ByteOrder.LITTLE_ENDIAN);
-				ArrayList<ByteBuffer> chunks = new ArrayList<ByteBuffer>(256);
-
-				read: while (this.s == TcpConnection.this.getSocket()) {
-					// Read new message
-					chunks.clear();
-					int messageType = 0;
-					int chunkNumber = 0;
-					int chunkContinuationType = 0;
-					int requestId = 0;
-					int secureChannelId = 0;
-
-					// Read Chunks
-					do {
-						if (chunkNumber > limits.maxRecvChunkCount) {
-							closeError = new ServiceResultException("Recv chunk count exceeded (max = "+chunkNumber+")");
-							logger.warn("{} Recv chunk count exceeded (max = {})", addr, chunkNumber);
-							break read;
-						}
+		/**
+		 * Check the header of the next chunk.
+		 * 
+		 * @param chunkType
+		 *            message type and chunk type
+		 * @param size
+		 *            size of the chunk, including the header
+		 * @return false if the connection must be closed with closeError
+		 */
+		boolean readChunkHeader(int chunkType, int size) {
+			if (chunkNumber > limits.maxRecvChunkCount) {
+				closeError = new ServiceResultException("Recv chunk count exceeded (max = "+chunkNumber+")");
+				logger.warn("{} Recv chunk count exceeded (max = {})", addr, chunkNumber);
+				return false;
+			}
 
-						int chunkType = in.getInt();
-						int chunkMessageType = chunkType & TcpMessageType.MESSAGE_TYPE_MASK;
-						chunkContinuationType = chunkType & TcpMessageType.CHUNK_TYPE_MASK;
-
-						if (chunkNumber == 0) {
-							messageType = chunkMessageType;
-						} else if (chunkMessageType != messageType) {
-							closeError = new ServiceResultException("Error, message type changed between chunks");
-							logger.warn("{} Error, message type changed between chunks", addr);
-							break read;
-						}							
-						
-						if (chunkMessageType != TcpMessageType.OPEN && chunkMessageType != TcpMessageType.MESSAGE && chunkType != TcpMessageType.ERRF)
-						{
-							closeError = new ServiceResultException("Error, unknown message type "+String.format("0x%08x", chunkType));
-							logger.warn("{} Error, unknown message type {}", addr, String.format("0x%08x", chunkType));
-							break read;
-						}
+			int chunkMessageType = chunkType & TcpMessageType.MESSAGE_TYPE_MASK;
+			chunkContinuationType = chunkType & TcpMessageType.CHUNK_TYPE_MASK;
 
-						// Read size
-						int size = in.getInt();
-						
-						if (size>limits.maxRecvBufferSize) {
-							closeError = new ServiceResultException("Error, chunk too large (max = "+limits.maxRecvBufferSize+")");
-							logger.warn("{} Error, chunk too large (max = {})", addr, limits.maxRecvBufferSize);
-							break read;
-						}
+			if (chunkNumber == 0) {
+				messageType = chunkMessageType;
+			} else if (chunkMessageType != messageType) {
+				closeError = new ServiceResultException("Error, message type changed between chunks");
+				logger.warn("{} Error, message type changed between chunks", addr);
+				return false;
+			}							
+			
+			if (chunkMessageType != TcpMessageType.OPEN && chunkMessageType != TcpMessageType.MESSAGE && chunkType != TcpMessageType.ERRF)
+			{
+				closeError = new ServiceResultException("Error, unknown message type "+String.format("0x%08x", chunkType));
+				logger.warn("{} Error, unknown message type {}", addr, String.format("0x%08x", chunkType));
+				return false;
+			}
 
-						// Read the rest of the chunk
-						ByteBuffer chunk = ByteBuffer.allocate(size);
-						chunk.order(ByteOrder.LITTLE_ENDIAN);
-						chunk.putInt(chunkType);
-						chunk.putInt(size);
-						in.get(chunk, size - 8);
-
-						// Handle ERRF
-						if (chunkType == TcpMessageType.ERRF) {
-							chunk.position(8);
-							BinaryDecoder dec = new BinaryDecoder(chunk);
-							dec.setEncoderContext(ctx);
-
-							ErrorMessage error = dec.getEncodeable(null, ErrorMessage.class);
-
-							ServiceResultException e = new ServiceResultException(error.getError(), error.getReason());
-							closeError = e;
-							logger.warn(s.getRemoteSocketAddress()+" Error", e);
-							break read;
-						}
+			if (size>limits.maxRecvBufferSize) {
+				closeError = new ServiceResultException("Error, chunk too large (max = "+limits.maxRecvBufferSize+")");
+				logger.warn("{} Error, chunk too large (max = {})", addr, limits.maxRecvBufferSize);
+				return false;
+			}
+			if (size<8) {
+				closeError = new ServiceResultException("Error, invalid chunk size "+size);
+				logger.warn("{} Error, invalid chunk size {}", addr, size);
+				return false;
+			}
+			return true;
+		}
 
-						int chunkSecureChannelId = ChunkUtils.getSecureChannelId(chunk);
-						if (chunkNumber == 0) {
-							secureChannelId = chunkSecureChannelId;
-						} else {
-							if (secureChannelId != chunkSecureChannelId) {
-								closeError = new ServiceResultException("Error, SecureChannelId mismatch");
-								logger.warn("{} Error, SecureChannelId mismatch", addr);
-								break read;									
-							}
-						}
+		/**
+		 * Read a chunk, whose header has been checked with
+		 * {@link #readChunkHeader(int, int)}. The chunk has been read
+		 * completely, with its position at the end. Once the final chunk of a
+		 * message has been read, the message is fired to the listeners.
+		 * 
+		 * @param chunk
+		 *            the chunk
+		 * @return false if the connection must be closed with closeError
+		 * @throws ServiceResultException if decrypting or decoding fails
+		 */
+		boolean readChunk(ByteBuffer chunk) throws ServiceResultException {
+			int chunkType = chunk.getInt(0);
+			ChannelMetrics metrics = TcpConnection.this.metrics;
+			metrics.chunksIn.inc();
+			metrics.bytesIn.add(chunk.getInt(4));
+
+			// Handle ERRF
+			if (chunkType == TcpMessageType.ERRF) {
+				chunk.position(8);
+				BinaryDecoder dec = new BinaryDecoder(chunk);
+				dec.setEncoderContext(ctx);
 
-						// Verify & Decrypt
-						if (messageType == TcpMessageType.OPEN) {
-							try {
-								String securityPolicyUri = ChunkUtils.getSecurityPolicyUri(chunk);
-								SecurityPolicy securityPolicy = SecurityPolicy.getSecurityPolicy(securityPolicyUri);
-								byte[] encodedRemoteCertificate = ChunkUtils.getByteString(chunk);
-								byte[] encodedLocalCertificateThumbprint = ChunkUtils.getByteString(chunk);
-
-								// Verify returned values match requested
-								if (securityPolicy != securityConfiguration.getSecurityPolicy()) {
-									closeError = new ServiceResultException("Error, unexpected security policy in OpenSecureChannelResponse");
-									logger.warn("{} Error, unexpected security policy in OpenSecureChannelResponse", addr);
-									break read;									
-								}
+				ErrorMessage error = dec.getEncodeable(null, ErrorMessage.class);
 
-								if (securityConfiguration.getSecurityPolicy() != SecurityPolicy.NONE && !Arrays.equals(encodedLocalCertificateThumbprint, securityConfiguration.getEncodedLocalCertificateThumbprint())) {
-									closeError = new ServiceResultException("Error, certificate thumbprint mismatch");
-									logger.warn("{} Error, certificate thumbprint mismatch", addr);
-									break read;									
-								}
+				ServiceResultException e = new ServiceResultException(error.getError(), error.getReason());
+				closeError = e;
+				logger.warn(addr+" Error", e);
+				return false;
+			}
 
-								// Decode remote certificate
-								Cert remoteCertificate = null;
-								if (encodedRemoteCertificate != null && encodedRemoteCertificate.length > 0)
-									try {
-										remoteCertificate = new Cert(CertificateUtils.decodeX509Certificate(encodedRemoteCertificate));
-									} catch (CertificateException e) {
-										closeError = new ServiceResultException(Bad_CertificateInvalid, "Error, Invalid Remote Certificate");
-										logger.warn(addr + " Error, Invalid Remote Certificate", e);
-										break read;
-									}
+			int chunkSecureChannelId = ChunkUtils.getSecureChannelId(chunk);
+			if (chunkNumber == 0) {
+				secureChannelId = chunkSecureChannelId;
+			} else {
+				if (secureChannelId != chunkSecureChannelId) {
+					closeError = new ServiceResultException("Error, SecureChannelId mismatch");
+					logger.warn("{} Error, SecureChannelId mismatch", addr);
+					return false;
+				}
+			}
 
-								// Validate remote certificate
-								if (certificateValidator!=null) {
-									StatusCode code = certificateValidator.validateCertificate( remoteCertificate );
-									if (code!=null && !code.isGood()) {
-										closeError = new ServiceResultException(code, "Remote certificate not accepted");										
-										logger.info("{} Remote certificate not accepted: {}", addr, code);
-										break read;									
-									}
-								}
+			// Verify & Decrypt
+			if (messageType == TcpMessageType.OPEN) {
+				try {
+					String securityPolicyUri = ChunkUtils.getSecurityPolicyUri(chunk);
+					SecurityPolicy securityPolicy = SecurityPolicy.getSecurityPolicy(securityPolicyUri);
+					byte[] encodedRemoteCertificate = ChunkUtils.getByteString(chunk);
+					byte[] encodedLocalCertificateThumbprint = ChunkUtils.getByteString(chunk);
+
+					// Verify returned values match requested
+					if (securityPolicy != securityConfiguration.getSecurityPolicy()) {
+						closeError = new ServiceResultException("Error, unexpected security policy in OpenSecureChannelResponse");
+						logger.warn("{} Error, unexpected security policy in OpenSecureChannelResponse", addr);
+						return false;
+					}
 
-								securityConfiguration = new SecurityConfiguration(securityConfiguration.getSecurityMode(), securityConfiguration.getLocalCertificate2(), remoteCertificate);
+					if (securityConfiguration.getSecurityPolicy() != SecurityPolicy.NONE && !Arrays.equals(encodedLocalCertificateThumbprint, securityConfiguration.getEncodedLocalCertificateThumbprint())) {
+						closeError = new ServiceResultException("Error, certificate thumbprint mismatch");
+						logger.warn("{} Error, certificate thumbprint mismatch", addr);
+						return false;
+					}
 
-								ChunkAsymmDecryptVerifier processor = new ChunkAsymmDecryptVerifier(chunk, securityConfiguration);
-								processor.run();
+					// Decode remote certificate
+					Cert remoteCertificate = null;
+					if (encodedRemoteCertificate != null && encodedRemoteCertificate.length > 0)
+						try {
+							remoteCertificate = CertificateCache.getDefault().decode(encodedRemoteCertificate);
+						} catch (CertificateException e) {
+							closeError = new ServiceResultException(Bad_CertificateInvalid, "Error, Invalid Remote Certificate");
+							logger.warn(addr + " Error, Invalid Remote Certificate", e);
+							return false;
+						}
 
-							} catch (ServiceResultException e) {
-								closeError = e;
-								logger.warn(addr+"", e);
-								break read;
-							}
+					// Validate remote certificate
+					if (certificateValidator!=null) {
+						StatusCode code = certificateValidator.validateCertificate( remoteCertificate );
+						if (code!=null && !code.isGood()) {
+							closeError = new ServiceResultException(code, "Remote certificate not accepted");										
+							logger.info("{} Remote certificate not accepted: {}", addr, code);
+							return false;
 						}
+					}
 
-						// Verify & Decrypt
-						if (messageType == TcpMessageType.MESSAGE) {
-							int securityTokenId = ChunkUtils.getTokenId(chunk);
-
-							// Find token
-							SecurityToken token = null;
-							logger.debug("tokens({})={}", tokens.size(), tokens);
-							for (SecurityToken t : tokens) 
-								if (t.getTokenId() == securityTokenId && t.getSecureChannelId() == chunkSecureChannelId) 
-									token = t;				
-							logger.debug("token={}", token);
-							if (token==null) {								
-								closeError = new ServiceResultException("Unexpected securityTokenId = "+securityTokenId);										
-								logger.warn("{} Unexpected securityTokenId = {}", addr, securityTokenId);
-								break read;
-							}
-							if (!token.isValid()) {
-								closeError = new ServiceResultException("SecurityToken "+securityTokenId+" has timeouted");										
-								logger.warn("{} SecurityToken {} has timeouted", addr, token);
-								break read;
-							}
-							activeTokenIdMap.put(chunkSecureChannelId, token);
+					securityConfiguration = new SecurityConfiguration(securityConfiguration.getSecurityMode(), securityConfiguration.getLocalCertificate2(), remoteCertificate);
 
-							ChunkSymmDecryptVerifier processor = new ChunkSymmDecryptVerifier(chunk, token);
-							processor.run();
+					long t0 = metrics.start();
+					ChunkAsymmDecryptVerifier processor = new ChunkAsymmDecryptVerifier(chunk, securityConfiguration);
+					processor.run();
+					metrics.stop(metrics.cryptoTime, t0);
 
-							// Go to sequence header
-							chunk.position(24);
-						}
+				} catch (ServiceResultException e) {
+					closeError = e;
+					logger.warn(addr+"", e);
+					return false;
+				}
+			}
 
-						// Read & Verify Sequence number
-						chunk.position(chunk.position() - 8);
-						int chunkSequenceNumber = chunk.getInt();
-
-						SequenceNumber seq = sequenceNumbers.get(secureChannelId);
-						if ((messageType == TcpMessageType.MESSAGE) || (seq != null)) {
-							if (!seq.testAndSetRecvSequencenumber(chunkSequenceNumber)) {
-								// 	Sequence number mismatch
-								closeError = new ServiceResultException("Sequence number mismatch");										
-								logger.warn("{} Sequence number mismatch: {} vs. {}", addr, 
-										seq.getRecvSequenceNumber(), chunkSequenceNumber);
-								break read;
-							}
-						}
+			// Verify & Decrypt
+			if (messageType == TcpMessageType.MESSAGE) {
+				int securityTokenId = ChunkUtils.getTokenId(chunk);
+
+				// Find token
+				SecurityToken token = null;
+				logger.debug("tokens({})={}", tokens.size(), tokens);
+				for (SecurityToken t : tokens) 
+					if (t.getTokenId() == securityTokenId && t.getSecureChannelId() == chunkSecureChannelId) 
+						token = t;				
+				logger.debug("token={}", token);
+				if (token==null) {								
+					closeError = new ServiceResultException("Unexpected securityTokenId = "+securityTokenId);										
+					logger.warn("{} Unexpected securityTokenId = {}", addr, securityTokenId);
+					return false;
+				}
+				if (!token.isValid()) {
+					closeError = new ServiceResultException("SecurityToken "+securityTokenId+" has timeouted");										
+					logger.warn("{} SecurityToken {} has timeouted", addr, token);
+					return false;
+				}
+				activeTokenIdMap.put(chunkSecureChannelId, token);
 
-						// Read & Verify request Id
-						int chunkRequestId = chunk.getInt();
-						if (chunkNumber == 0) {
-							requestId = chunkRequestId;
-						} else {
-							if (chunkRequestId!=requestId) {
-								closeError = new ServiceResultException("Request id mismatch");										
-								logger.warn("{} Request id mismatch", addr);
-								break read;
-							}
-						}
+				long t0 = metrics.start();
+				ChunkSymmDecryptVerifier processor = new ChunkSymmDecryptVerifier(chunk, token);
+				processor.run();
+				metrics.stop(metrics.cryptoTime, t0);
 
-						// Add chunk
-						chunks.add(chunk);
-
-						// Prepare next chunk
-						chunkNumber++;
-//						chunkCount++;
-
-					} while (chunkContinuationType == TcpMessageType.CONTINUE);
-
-					if (chunkContinuationType == TcpMessageType.ABORT)
-						continue;
-
-					// Decode message
-					IBinaryReadable r = new ByteBufferArrayReadable(chunks.toArray(new ByteBuffer[chunks.size()]));
-					r.order(ByteOrder.LITTLE_ENDIAN);
-					BinaryDecoder dec = new BinaryDecoder(r);
-					dec.setEncoderContext(ctx);
-					IEncodeable message = dec.getMessage();
-
-					// Capture security token
-					if (message instanceof OpenSecureChannelResponse) {
-
-						OpenSecureChannelResponse opn = (OpenSecureChannelResponse) message;
-						ChannelSecurityToken tkn = opn.getSecurityToken();
-
-						ByteString clientNonce = clientNonces.get(requestId);
-						ByteString serverNonce = opn.getServerNonce();
-
-						// HAX! In Reconnect to secure channel -situation, the
-						// C# Server implementation sends
-						// two conflicting secure channel id'socket.
-						// The old channel (correct) in message header and a new
-						// channel id in the plaintext.
-						int __secureChannelId = secureChannelId;
-						int ___secureChannelId = tkn.getChannelId().intValue();
-						
-						if (___secureChannelId != __secureChannelId) 
-							logger.warn("{} OpenSecureChannel, server sent two secureChannelIds {} and {} using {}", addr, __secureChannelId, ___secureChannelId, __secureChannelId);
-						
-						try {
-							SecurityToken token = new SecurityToken(
-									TcpConnection.this.securityConfiguration,
-									__secureChannelId,
-									tkn.getTokenId().intValue(),
-									System.currentTimeMillis(),
-									tkn.getRevisedLifetime().longValue(),
-									clientNonce,
-									serverNonce
-								);
-							logger.debug("new token={}", token);
-							tokens.add( token );
-							
-							// Add new sequence number counter
-							if (!sequenceNumbers.containsKey(__secureChannelId))
-								sequenceNumbers.put(__secureChannelId, new SequenceNumber());
-
-						} catch (ServiceResultException e) {
-							closeError = e;
-							logger.warn(addr+" SecurityTokenError ", e);
-							break read;
-						}
-					}
-					clientNonces.remove(requestId);
+				// Go to sequence header
+				chunk.position(24);
+			}
 
-					for (IMessageListener l : listeners)
-						l.onMessage(requestId, secureChannelId, message);
+			// Read & Verify Sequence number
+			chunk.position(chunk.position() - 8);
+			int chunkSequenceNumber = chunk.getInt();
+
+			SequenceNumber seq = sequenceNumbers.get(secureChannelId);
+			if ((messageType == TcpMessageType.MESSAGE) || (seq != null)) {
+				if (!seq.testAndSetRecvSequencenumber(chunkSequenceNumber)) {
+					// 	Sequence number mismatch
+					closeError = new ServiceResultException("Sequence number mismatch");										
+					logger.warn("{} Sequence number mismatch: {} vs. {}", addr, 
+							seq.getRecvSequenceNumber(), chunkSequenceNumber);
+					return false;
 				}
-			} catch (IOException e) {
-				if (e instanceof SocketException) {
-					if (!closing) {
-						logger.info("{} Closed (unexpected)", addr);
-						closeError = new ServiceResultException(Bad_ConnectionClosed, e, "Connection closed (unexpected)");					
-					} else {
-						logger.info("{} Closed (expected)", addr);
-						closeError = new ServiceResultException(Bad_ConnectionClosed, e, "Connection closed (expected)");					
-					}
-				} else if (e instanceof EOFException) {
-					closeError = new ServiceResultException(Bad_ConnectionClosed, e, "Connection closed (graceful)");					
-					logger.info("{} Closed (graceful)", addr);
+			}
+
+			// Read & Verify request Id
+			int chunkRequestId = chunk.getInt();
+			if (chunkNumber == 0) {
+				requestId = chunkRequestId;
+			} else {
+				if (chunkRequestId!=requestId) {
+					closeError = new ServiceResultException("Request id mismatch");										
+					logger.warn("{} Request id mismatch", addr);
+					return false;
+				}
+			}
+
+			// Add chunk
+			chunks.add(chunk);
+
+			// Prepare next chunk
+			chunkNumber++;
+			if (chunkContinuationType == TcpMessageType.CONTINUE)
+				return true;
+
+			// The message is complete, the next chunk starts a new message
+			int requestId = this.requestId;
+			int secureChannelId = this.secureChannelId;
+			chunkNumber = 0;
+			if (chunkContinuationType == TcpMessageType.ABORT) {
+				releaseChunks(chunks);
+				return true;
+			}
+
+			// Decode message
+			long t0 = metrics.start();
+			IBinaryReadable r = new ByteBufferArrayReadable(chunks.toArray(new ByteBuffer[chunks.size()]));
+			r.order(ByteOrder.LITTLE_ENDIAN);
+			BinaryDecoder dec = new BinaryDecoder(r);
+			dec.setEncoderContext(ctx);
+			IEncodeable message = dec.getMessage();
+			releaseChunks(chunks);
+			metrics.stop(metrics.decodeTime, t0);
+			metrics.messagesDecoded.inc();
+
+			// Capture security token
+			if (message instanceof OpenSecureChannelResponse) {
+
+				OpenSecureChannelResponse opn = (OpenSecureChannelResponse) message;
+				ChannelSecurityToken tkn = opn.getSecurityToken();
+
+				ByteString clientNonce = clientNonces.get(requestId);
+				ByteString serverNonce = opn.getServerNonce();
+
+				// HAX! In Reconnect to secure channel -situation, the
+				// C# Server implementation sends
+				// two conflicting secure channel id'socket.
+				// The old channel (correct) in message header and a new
+				// channel id in the plaintext.
+				int __secureChannelId = secureChannelId;
+				int ___secureChannelId = tkn.getChannelId().intValue();
+				
+				if (___secureChannelId != __secureChannelId) 
+					logger.warn("{} OpenSecureChannel, server sent two secureChannelIds {} and {} using {}", addr, __secureChannelId, ___secureChannelId, __secureChannelId);
+				
+				try {
+					SecurityToken token = new SecurityToken(
+							TcpConnection.this.securityConfiguration,
+							__secureChannelId,
+							tkn.getTokenId().intValue(),
+							System.currentTimeMillis(),
+							tkn.getRevisedLifetime().longValue(),
+							clientNonce,
+							serverNonce
+						);
+					logger.debug("new token={}", token);
+					tokens.add( token );
+					
+					// Add new sequence number counter
+					if (!sequenceNumbers.containsKey(__secureChannelId))
+						sequenceNumbers.put(__secureChannelId, new SequenceNumber());
+
+				} catch (ServiceResultException e) {
+					closeError = e;
+					logger.warn(addr+" SecurityTokenError ", e);
+					return false;
+				}
+			}
+			clientNonces.remove(requestId);
+
+			for (IMessageListener l : listeners)
+				l.onMessage(requestId, secureChannelId, message);
+			return true;
+		}
+
+		/**
+		 * Set closeError from an error that stopped reading
+		 * 
+		 * @param e
+		 *            the error
+		 */
+		void setError(Throwable e) {
+			if (e instanceof SocketException) {
+				if (!closing) {
+					logger.info("{} Closed (unexpected)", addr);
+					closeError = new ServiceResultException(Bad_ConnectionClosed, e, "Connection closed (unexpected)");					
 				} else {
-					closeError = StackUtils.toServiceResultException(e);
-					logger.warn(addr+" Error", e);
+					logger.info("{} Closed (expected)", addr);
+					closeError = new ServiceResultException(Bad_ConnectionClosed, e, "Connection closed (expected)");					
 				}
-			} catch (DecodingException e) {
+			} else if (e instanceof EOFException) {
+				closeError = new ServiceResultException(Bad_ConnectionClosed, e, "Connection closed (graceful)");					
+				logger.info("{} Closed (graceful)", addr);
+			} else if (e instanceof IOException) {
+				closeError = StackUtils.toServiceResultException((IOException) e);
+				logger.warn(addr+" Error", e);
+			} else if (e instanceof DecodingException) {
 				if (e.getCause()!=null && e.getCause() instanceof EOFException) {
 					logger.info("{} Closed", addr);
 				} else {
 					logger.warn(addr+" Error", e);
 				}
-				closeError = e;
-			} catch (RuntimeServiceResultException e) {
+				closeError = (DecodingException) e;
+			} else if (e instanceof RuntimeServiceResultException) {
 				ServiceResultException sre = (ServiceResultException) e.getCause();
 				logger.warn(addr+" Error", sre);
 				closeError = sre;
-			} catch (Exception e){
-				closeError = new ServiceResultException(StatusCodes.Bad_InternalError, e);
-				logger.error("Error in ReadThread", closeError);
-			} catch (StackOverflowError e){
+			} else if (e instanceof StackOverflowError) {
 				closeError = new ServiceResultException(StatusCodes.Bad_DecodingError, e);
 				logger.error("Error in ReadThread", closeError);
+			} else {
+				closeError = new ServiceResultException(StatusCodes.Bad_InternalError, e);
+				logger.error("Error in ReadThread", closeError);
+			}
+		}
+
+		/**
+		 * Return the chunks of a message to the buffer pool
+		 * 
+		 * @param chunks
+		 */
+		private void releaseChunks(List<ByteBuffer> chunks) {
+			for (ByteBuffer chunk : chunks)
+				ByteBufferPool.getDefault().release(chunk);
+			chunks.clear();
+		}
+	}
+
+	/**
+	 * ReadThread is a thread that does blocking read to the input stream. If
+	 * errors occur in the input stream, the error is logged and the socket
+	 * closed. The chunks are handed to a {@link MessageReader}.
+	 * 
+	 */
+	class ReadThread extends Thread {
+		Socket s;
+		MessageReader reader;
+
+		/**
+		 * Create new read thread.
+		 * 
+		 * @param s
+		 *            socket
+		 * @param reader
+		 */
+		ReadThread(Socket s, MessageReader reader) {
+			super("TcpConnection/Read");
+			this.setDaemon(true);
+			this.s = s;
+			this.reader = reader;
+		}
+
+		@Override
+		public void run() {
+			try {
+				// Buffered, so that the chunk headers are not read from the socket byte by byte
+				IBinaryReadable in = new InputStreamReadable(new BufferedInputStream(s.getInputStream()), Long.MAX_VALUE);
+				in.order(ByteOrder.LITTLE_ENDIAN);
+
+				while (this.s == TcpConnection.this.getSocket()) {
+					int chunkType = in.getInt();
+					int size = in.getInt();
+					if (!reader.readChunkHeader(chunkType, size))
+						break;
+
+					// Read the rest of the chunk
+					ByteBuffer chunk = ByteBufferPool.getDefault().allocate(size);
+					chunk.order(ByteOrder.LITTLE_ENDIAN);
+					chunk.putInt(chunkType);
+					chunk.putInt(size);
+					in.get(chunk, size - 8);
+
+					if (!reader.readChunk(chunk))
+						break;
+				}
+			} catch (Exception e) {
+				reader.setError(e);
+			} catch (StackOverflowError e) {
+				reader.setError(e);
+			}
+
+			close(reader.closeError);
+		}
+	}
+
+	/**
+	 * AsyncReader reads the chunks from a non-blocking socket once the
+	 * selector has received them, and hands them to a {@link MessageReader}
+	 * in the non-blocking work executor. No thread is reserved for the
+	 * connection while it waits for data.
+	 */
+	class AsyncReader implements MonitorListener {
+		AsyncSocketImpl s;
+		MessageReader reader;
+
+		AsyncReader(AsyncSocketImpl s, MessageReader reader) {
+			this.s = s;
+			this.reader = reader;
+		}
+
+		/**
+		 * Wait for the first chunk header
+		 */
+		void start() {
+			AsyncInputStream is = s.getInputStream();
+			is.createMonitor(is.getPosition()+8, this);
+		}
+
+		/**
+		 * Close the connection, unless it has already been replaced by a
+		 * reconnect.
+		 * 
+		 * @param closeError
+		 */
+		void close(ServiceResultException closeError) {
+			if (s == asyncSocket)
+				TcpConnection.this.close(closeError);
+		}
+
+		@Override
+		public void onStateTransition(IStatefulObject<BufferMonitorState, ?> sender,
+				BufferMonitorState oldState, BufferMonitorState newState) {
+			if (newState != BufferMonitorState.Triggered) {
+				// The socket was closed
+				if (newState.isUnreachable()) {
+					if (reader.closing) {
+						logger.info("{} Closed (expected)", addr);
+						reader.closeError = new ServiceResultException(Bad_ConnectionClosed, "Connection closed (expected)");
+					} else if (newState == BufferMonitorState.Error) {
+						logger.info("{} Closed (unexpected)", addr);
+						reader.closeError = new ServiceResultException(Bad_ConnectionClosed, sender.getError(), "Connection closed (unexpected)");
+					} else {
+						logger.info("{} Closed (graceful)", addr);
+						reader.closeError = new ServiceResultException(Bad_ConnectionClosed, "Connection closed (graceful)");
+					}
+					close(reader.closeError);
+				}
+				return;
 			}
 
-			close(closeError);
+			// -- assert -- at least 8 bytes are available --
+			AsyncInputStream is = s.getInputStream();
+			try {
+				ByteBuffer hdr = is.peek(8);
+				hdr.order(ByteOrder.LITTLE_ENDIAN);
+				int chunkType = hdr.getInt();
+				int size = hdr.getInt();
+				if (!reader.readChunkHeader(chunkType, size)) {
+					close(reader.closeError);
+					return;
+				}
+
+				if (is.available()<size) {
+					// Wake me up when the chunk is fully readable
+					is.createMonitor(is.getPosition()+size, this);
+					return;
+				}
+
+				ByteBuffer chunk = ByteBufferPool.getDefault().allocate(size);
+				chunk.order(ByteOrder.LITTLE_ENDIAN);
+				is.read(chunk);
+				if (!reader.readChunk(chunk)) {
+					close(reader.closeError);
+					return;
+				}
+			} catch (Exception e) {
+				reader.setError(e);
+				close(reader.closeError);
+				return;
+			} catch (StackOverflowError e) {
+				reader.setError(e);
+				close(reader.closeError);
+				return;
+			}
+
+			// Wait for next chunk header
+			is.createMonitor(is.getPosition()+8, this);
 		}
 	}
 
@@ -1245,10 +1473,13 @@ public class TcpConnection implements IConnection {
 			serializer = null;
 			certificateValidator = null;
 			setSocket(null);
+			asyncSocket = null;
 			ctx = null;
 			out = null;
 			quotas = null;
 			limits = null;
+			metrics.remove();
+			metrics = ChannelMetrics.NOOP;
 		} finally {
 			lock.unlock();
 		}
@@ -1278,13 +1509,6 @@ public class TcpConnection implements IConnection {
 
 			SecurityToken token = null;
 
-			// Count message size
-			SizeCalculationOutputStream calcBuf = new SizeCalculationOutputStream();
-			BinaryEncoder calc = new BinaryEncoder(calcBuf);
-			calc.setEncoderContext(ctx);
-			calc.putMessage(request);
-			int len = calcBuf.getLength();
-
 			if (secureChannelId != 0) {
 				token = getSecurityTokenToUse(secureChannelId);
 			}
@@ -1298,7 +1522,7 @@ public class TcpConnection implements IConnection {
 			// as the connection may otherwise be disposed in between
 			ChunkFactory cf = getChunkFactory(asymm, securityMode, keySize);
 			if (cf != null) {
-				MessageBuffers buffers = encodeMessage(cf, len, request);
+				MessageBuffers buffers = encodeMessage(cf, request);
 				if (buffers != null) {
 					ByteBuffer[] chunks = buffers.getChunks();
 					ByteBuffer[] plaintexts = buffers.getPlaintexts();
@@ -1316,6 +1540,7 @@ public class TcpConnection implements IConnection {
 									for (int i = 0; i < chunks.length; i++) {
 										boolean finalChunk = i == chunks.length - 1;
 										sendAsymmChunk(secureChannelId, requestId, securityMode, chunks[i], plaintexts[i], finalChunk);
+										cf.release(chunks[i]);
 										plaintexts[i] = null;
 										chunks[i] = null;
 									}
@@ -1335,6 +1560,7 @@ public class TcpConnection implements IConnection {
 										if(request instanceof CloseSecureChannelRequest)
 											msgType = TcpMessageType.CLOSE | TcpMessageType.FINAL;
 										sendSymmChunk(requestId, token, seq, chunk, plaintext, msgType);
+										cf.release(chunk);
 										plaintexts[i] = null;
 										chunks[i] = null;
 									}
@@ -1387,12 +1613,16 @@ public class TcpConnection implements IConnection {
 		chunk.putInt(sequenceNumber);
 		chunk.putInt(requestId); // Request number
 
+		long t0 = metrics.start();
 		try {
 			new ChunkSymmEncryptSigner(chunk, plaintext, token).run();
 		} catch (RuntimeServiceResultException sre) {
 			throw (ServiceResultException) sre.getCause();
 		}
+		metrics.stop(metrics.cryptoTime, t0);
 		chunk.rewind();
+		metrics.chunksOut.inc();
+		metrics.bytesOut.add(chunk.remaining());
 		out.put(chunk);
 	}
 
@@ -1437,26 +1667,21 @@ public class TcpConnection implements IConnection {
 
 		logger.debug("SecureChannelId={} SequenceNumber={}, RequestId={}", secureChannelId, sequenceNumber, requestId);
 
+		long t0 = metrics.start();
 		try {
 			new ChunkAsymmEncryptSigner(chunk, plaintext, securityConfiguration).run();
 		} catch (RuntimeServiceResultException sre) {
 			throw (ServiceResultException) sre.getCause();
 		}
+		metrics.stop(metrics.cryptoTime, t0);
 
 		chunk.rewind();
+		metrics.chunksOut.inc();
+		metrics.bytesOut.add(chunk.remaining());
 		out.put(chunk);
 	}
 
-	private MessageBuffers encodeMessage(ChunkFactory cf, final int len, IEncodeable request) throws ServiceResultException {
-		// check message max size
-		if ( ctx.maxMessageSize!=0 && len > ctx.maxMessageSize ) {
-			final EncodingException encodingException = new EncodingException(StatusCodes.Bad_EncodingLimitsExceeded, "MaxMessageSize "+ctx.maxMessageSize+" < "+len);
-			logger.warn("encodeMessage: failed", encodingException);
-			throw encodingException;
-		}
-		
-		// Calculate chunk count
-		final int count = (len + cf.maxPlaintextSize - 1) / cf.maxPlaintextSize;
+	private MessageBuffers encodeMessage(ChunkFactory cf, IEncodeable request) throws ServiceResultException {
 		int maxSendChunkCount;
 		lock.lock();
 		try {
@@ -1467,34 +1692,42 @@ public class TcpConnection implements IConnection {
 			lock.unlock();
 		}
 
-		if (maxSendChunkCount != 0 && count > maxSendChunkCount)
-			throw new ServiceResultException(Bad_TcpMessageTooLarge);
-
-		// Allocate chunks
-		int bytesLeft = len;
-		ByteBuffer[] plaintexts = new ByteBuffer[count];
-		ByteBuffer[] chunks = new ByteBuffer[count];
-		for (int i = 0; i < count; i++) {
-			plaintexts[i] = cf.allocate(bytesLeft);
-			chunks[i] = cf.expandToCompleteChunk(plaintexts[i]);
-			bytesLeft -= plaintexts[i].remaining();
-		}
-		assert (bytesLeft == 0);
-
-		// Encode message
-		ByteBufferArrayWriteable2.ChunkListener listener = new ByteBufferArrayWriteable2.ChunkListener() {
-			public void onChunkComplete(ByteBuffer[] chunks, int index) {
-			}
-		};
-		ByteBufferArrayWriteable2 outBuffer = new ByteBufferArrayWriteable2(plaintexts, listener);
+		// Encode message in a single pass, message max size and chunk count
+		// are checked while encoding
+		ChunkedByteBufferWriteable outBuffer = new ChunkedByteBufferWriteable(cf, cf.maxPlaintextSize, ctx.maxMessageSize, maxSendChunkCount);
 		outBuffer.order(ByteOrder.LITTLE_ENDIAN);
 		
+		long t0 = metrics.start();
 		BinaryEncoder enc = new BinaryEncoder(outBuffer);
 		enc.setEncoderContext(ctx);
-		enc.putMessage(request);
+		try {
+			enc.putMessage(request);
+			metrics.stop(metrics.encodeTime, t0);
+			metrics.messagesEncoded.inc();
+		} catch (EncodingException e) {
+			if (outBuffer.isLimitExceeded() && maxSendChunkCount != 0 && outBuffer.getChunkCount() >= maxSendChunkCount)
+				throw new ServiceResultException(Bad_TcpMessageTooLarge, e.getMessage());
+			if (outBuffer.isLimitExceeded())
+				logger.warn("encodeMessage: failed", e);
+			throw e;
+		}
+
+		ByteBuffer[] plaintexts = outBuffer.getChunks();
+		ByteBuffer[] chunks = new ByteBuffer[plaintexts.length];
+		for (int i = 0; i < plaintexts.length; i++)
+			chunks[i] = cf.expandToCompleteChunk(plaintexts[i]);
 		return new MessageBuffers(chunks, plaintexts);
 	}
 
+	/**
+	 * <p>Getter for the field <code>metrics</code>.</p>
+	 *
+	 * @return the metrics of the connection
+	 */
+	public ChannelMetrics getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * @param asymm
 	 * @param request
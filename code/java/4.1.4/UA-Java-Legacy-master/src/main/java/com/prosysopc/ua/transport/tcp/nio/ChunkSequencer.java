@@ -0,0 +1,130 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package com.prosysopc.ua.transport.tcp.nio;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.prosysopc.ua.utils.IncubationQueue;
+
+/**
+ * ChunkSequencer releases the inbound chunks of a secure channel in the
+ * order they were received, after they have been deciphered and verified in
+ * parallel.
+ * <p>
+ * A chunk is incubated with the work to do once it is in sequence, when it
+ * is received. When the chunk has been verified it is hatched, and the work of
+ * all hatched chunks at the head of the queue is run in order. The work is
+ * run by the thread that hatches the head of the queue, no thread waits for
+ * the preceding chunks to be verified.
+ * <p>
+ * The work checks the sequence number of its chunk with
+ * {@link #testAndSetSequenceNumber(Integer)}, which compares it to the previous
+ * chunk of the channel.
+ */
+public class ChunkSequencer {
+
+	/** Sequence numbers wrap to a value below 1024 after this value */
+	static final long MIN_WRAP_AROUND_SEQUENCE_NUMBER = 4294966271L;
+
+	/** Work of each chunk in receive order */
+	final IncubationQueue<Runnable> incubator = new IncubationQueue<Runnable>(true);
+	/** Expected sequence number of the next chunk */
+	final AtomicInteger expectedSequenceNumber;
+	/** Set while a thread is running the hatched work */
+	boolean releasing;
+
+	/**
+	 * <p>Constructor for ChunkSequencer.</p>
+	 *
+	 * @param expectedSequenceNumber expected sequence number of the next chunk
+	 */
+	public ChunkSequencer(AtomicInteger expectedSequenceNumber)
+	{
+		this.expectedSequenceNumber = expectedSequenceNumber;
+	}
+
+	/**
+	 * Reserve the position of a received chunk. Chunks must be incubated in
+	 * the order they were received.
+	 *
+	 * @param work work to run when the chunk is in sequence, a unique object
+	 */
+	public void incubate(Runnable work)
+	{
+		incubator.incubate(work);
+	}
+
+	/**
+	 * Mark the chunk of the work as verified, or failed. The work of the
+	 * chunk is run in order with the preceding chunks, either in this thread
+	 * or in the thread that hatches the last preceding chunk.
+	 *
+	 * @param work work that has been incubated
+	 */
+	public void hatch(Runnable work)
+	{
+		incubator.hatch(work);
+		while (true) {
+			Runnable next;
+			synchronized(this) {
+				if (releasing) return;
+				next = incubator.removeNextHatchedIfAvailable();
+				if (next==null) return;
+				releasing = true;
+			}
+			try {
+				next.run();
+			} finally {
+				synchronized(this) {
+					releasing = false;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test whether the sequence number of the next chunk is the expected
+	 * one. The sequence number is expected to be one larger than the
+	 * previous one, or to wrap around to a value below 1024 after
+	 * 4294966271. The expected number is advanced even if the test fails,
+	 * so that a rejected chunk does not fail the chunks after it.
+	 * <p>
+	 * This is called from the work of the chunks, in sequence.
+	 *
+	 * @param sequenceNumber sequence number of the chunk, or null if the chunk could not be verified
+	 * @return true if the sequence number was expected
+	 */
+	public boolean testAndSetSequenceNumber(Integer sequenceNumber)
+	{
+		int expected = expectedSequenceNumber.get();
+		if (sequenceNumber==null) {
+			expectedSequenceNumber.set(expected+1);
+			return false;
+		}
+		long previous = (expected-1) & 0xffffffffL;
+		boolean wrapAround = previous >= MIN_WRAP_AROUND_SEQUENCE_NUMBER && sequenceNumber >= 0 && sequenceNumber < 1024;
+		boolean match = sequenceNumber == expected || wrapAround;
+		expectedSequenceNumber.set(match ? sequenceNumber+1 : expected+1);
+		return match;
+	}
+
+	/**
+	 * <p>getExpectedSequenceNumber.</p>
+	 *
+	 * @return the expected sequence number of the next chunk
+	 */
+	public int getExpectedSequenceNumber() {
+		return expectedSequenceNumber.get();
+	}
+
+}
@@ -24,9 +24,7 @@ import com.prosysopc.ua.core.StatusCodes;
 import com.prosysopc.ua.encoding.EncoderContext;
 import com.prosysopc.ua.encoding.IEncodeable;
 import com.prosysopc.ua.encoding.binary.BinaryEncoder;
-import com.prosysopc.ua.utils.SizeCalculationOutputStream;
-import com.prosysopc.ua.utils.bytebuffer.ByteBufferArrayWriteable;
-import com.prosysopc.ua.utils.bytebuffer.ByteQueue;
+import com.prosysopc.ua.utils.bytebuffer.ChunkedByteBufferWriteable;
 
 /**
  * Encodes messages to chunks.
@@ -34,7 +32,10 @@ import com.prosysopc.ua.utils.bytebuffer.ByteQueue;
  * Chunk size, padding and plaintext is written, but footer and header is missing.
  * ByteOrder is Little Endian.
  * <p>
- * Encoder also asserts that message size and chunk count is with-in limits.
+ * The message is encoded in a single pass directly into chunks allocated from
+ * the chunk factory. Encoder asserts that message size and chunk count is with-in 
+ * limits while encoding, and aborts with Bad_TcpMessageTooLarge as soon as either 
+ * is exceeded.
  */
 public class MessageToChunks implements Callable<ByteBuffer[]> 
 {
@@ -43,6 +44,8 @@ public class MessageToChunks implements Callable<ByteBuffer[]>
 	TcpConnectionParameters ctx;
 	EncoderContext encoderCtx;
 	ChunkFactory chunkFactory;
+	int maxMessageSize;
+	int maxChunkCount;
 
 	/**
 	 * <p>Constructor for MessageToChunks.</p>
@@ -55,10 +58,29 @@ public class MessageToChunks implements Callable<ByteBuffer[]>
 	 */
 	public MessageToChunks(IEncodeable msg, TcpConnectionParameters ctx, EncoderContext encoderCtx, ChunkFactory chunkFactory, MessageType type)
 	{
-		if (msg==null || ctx==null || chunkFactory==null)
+		this(msg, ctx==null ? 0 : ctx.maxSendMessageSize, ctx==null ? 0 : ctx.maxSendChunkCount, encoderCtx, chunkFactory, type);
+		if (ctx==null)
 			throw new IllegalArgumentException("null arg");
-		this.msg = msg;
 		this.ctx = ctx;
+	}
+
+	/**
+	 * <p>Constructor for MessageToChunks.</p>
+	 *
+	 * @param msg a {@link IEncodeable} object.
+	 * @param maxMessageSize max message size, 0 = no limit
+	 * @param maxChunkCount max chunk count, 0 = no limit
+	 * @param encoderCtx a {@link EncoderContext} object.
+	 * @param chunkFactory a {@link ChunkFactory} object.
+	 * @param type a {@link MessageType} object.
+	 */
+	public MessageToChunks(IEncodeable msg, int maxMessageSize, int maxChunkCount, EncoderContext encoderCtx, ChunkFactory chunkFactory, MessageType type)
+	{
+		if (msg==null || chunkFactory==null)
+			throw new IllegalArgumentException("null arg");
+		this.msg = msg;
+		this.maxMessageSize = maxMessageSize;
+		this.maxChunkCount = maxChunkCount;
 		this.encoderCtx = encoderCtx;
 		this.chunkFactory = chunkFactory;
 		this.type = type;
@@ -67,45 +89,24 @@ public class MessageToChunks implements Callable<ByteBuffer[]>
 	/** {@inheritDoc} */
 	@Override
 	public ByteBuffer[] call() throws RuntimeServiceResultException {
-	  try {
-		SizeCalculationOutputStream calcBuf = new SizeCalculationOutputStream();
-		BinaryEncoder calc = new BinaryEncoder(calcBuf);
-		calc.setEncoderContext(encoderCtx);
-		if (type == MessageType.Encodeable)
-			calc.putEncodeable(null, msg);
-		else
-			calc.putMessage(msg);
-		int len = calcBuf.getLength();
-		
-		if (len>ctx.maxSendMessageSize && ctx.maxSendMessageSize!=0)
-			throw new ServiceResultException(StatusCodes.Bad_TcpMessageTooLarge);
+		ChunkedByteBufferWriteable out = new ChunkedByteBufferWriteable(chunkFactory, chunkFactory.maxPlaintextSize, maxMessageSize, maxChunkCount);
+		out.order(ByteOrder.LITTLE_ENDIAN);
 		
-		ByteQueue bq = new ByteQueue();
-		bq.order(ByteOrder.LITTLE_ENDIAN);
-		bq.setWriteLimit(len);
-		bq.setByteBufferFactory(chunkFactory);
-		bq.setChunkSize(chunkFactory.maxPlaintextSize);
-		
-		ByteBufferArrayWriteable array = new ByteBufferArrayWriteable(bq);
-		array.order(ByteOrder.LITTLE_ENDIAN);
-		
-		BinaryEncoder enc = new BinaryEncoder(array);
+		BinaryEncoder enc = new BinaryEncoder(out);
 		enc.setEncoderContext(encoderCtx);
 		
-		if (type == MessageType.Message)
-			enc.putMessage(msg);
-		else
-			enc.putEncodeable(null, msg);
+		try {
+			if (type == MessageType.Message)
+				enc.putMessage(msg);
+			else
+				enc.putEncodeable(null, msg);
+		} catch (ServiceResultException e) {
+			if (out.isLimitExceeded())
+				throw new RuntimeServiceResultException(new ServiceResultException(StatusCodes.Bad_TcpMessageTooLarge, e.getMessage()));
+			throw new RuntimeServiceResultException(e);
+		}
 		
-		ByteBuffer[] plaintexts = bq.getChunks(len);
-		
-		if (plaintexts.length>ctx.maxRecvChunkCount && ctx.maxRecvChunkCount!=0)
-			throw new ServiceResultException(StatusCodes.Bad_TcpMessageTooLarge);
-
-		return plaintexts;
-	  } catch (ServiceResultException e) {
-		  throw new RuntimeServiceResultException(e);
-	  }
+		return out.getChunks();
 	}
 	
 }
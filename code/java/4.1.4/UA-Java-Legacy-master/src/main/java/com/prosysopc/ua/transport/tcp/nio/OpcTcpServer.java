@@ -73,6 +73,10 @@ public class OpcTcpServer extends AbstractState<CloseableObjectState, ServiceRes
 	
 	private int receiveBufferSize = 0;
 
+	private int writeCoalescingBytes = 16384;
+
+	private long writeCoalescingDelay = 0;
+
 	/** Endpoint handles */
 	Map<SocketAddress, SocketHandle> socketHandles = new HashMap<SocketAddress, SocketHandle>();
 	
@@ -120,10 +124,46 @@ public class OpcTcpServer extends AbstractState<CloseableObjectState, ServiceRes
 		}
 	}
 	
+	/**
+	 * <p>Getter for the field <code>writeCoalescingBytes</code>.</p>
+	 *
+	 * @return the number of queued bytes that are written at once, when write coalescing is used
+	 */
+	public int getWriteCoalescingBytes() {
+		return writeCoalescingBytes;
+	}
+
+	/**
+	 * <p>Getter for the field <code>writeCoalescingDelay</code>.</p>
+	 *
+	 * @return the maximum time in milliseconds that small writes are held for coalescing
+	 */
+	public long getWriteCoalescingDelay() {
+		return writeCoalescingDelay;
+	}
+
+	/**
+	 * Define the write coalescing of new connections. Chunks sent to a
+	 * connection are held until writeCoalescingBytes bytes are queued or
+	 * writeCoalescingDelay milliseconds have passed, so that the chunks of
+	 * concurrent responses are written with one system call.
+	 * <p>
+	 * Default value: 16384 bytes and 0 ms, which writes at once. Chunks
+	 * that are queued while the socket is busy are coalesced anyway.
+	 *
+	 * @param writeCoalescingBytes number of queued bytes that are written at once
+	 * @param writeCoalescingDelay maximum time in milliseconds to hold queued bytes, 0 to write at once
+	 */
+	public void setWriteCoalescing(int writeCoalescingBytes, long writeCoalescingDelay) {
+		this.writeCoalescingBytes = writeCoalescingBytes;
+		this.writeCoalescingDelay = writeCoalescingDelay;
+	}
+
 	/** AsyncServerSocket Connect listener */
 	AsyncServerSocket.ConnectListener connectListener = new AsyncServerSocket.ConnectListener() {
 		public void onConnected(AsyncServerSocket sender, AsyncSocketImpl newConnection) {
 			logger.info("{}: {} connected", OpcTcpServer.this, newConnection.socket().getRemoteSocketAddress());
+			newConnection.setWriteCoalescing(writeCoalescingBytes, writeCoalescingDelay);
 			final OpcTcpServerConnection conn = new OpcTcpServerConnection(OpcTcpServer.this, newConnection);
 			connections.addConnection(conn);
 			
@@ -182,6 +222,7 @@ public class OpcTcpServer extends AbstractState<CloseableObjectState, ServiceRes
 						StackUtils.getNonBlockingWorkExecutor()//,
 						//new AsyncSelector(Selector.open())
 						,StackUtils.getSelector()
+						,StackUtils.getSelectorPool()
 						);
 				socketHandle.socket.bind(socketHandle.socketAddress, 0);
 				socketHandle.socket.addListener(connectListener);
@@ -212,6 +253,7 @@ public class OpcTcpServer extends AbstractState<CloseableObjectState, ServiceRes
 				socketHandle.getChannel().configureBlocking(false);
 				
 				socketHandle.socket = new AsyncSocketImpl(socketHandle.getChannel(), StackUtils.getNonBlockingWorkExecutor(), StackUtils.getSelector());
+				socketHandle.socket.setWriteCoalescing(writeCoalescingBytes, writeCoalescingDelay);
 
 				ReverseHello rh = new ReverseHello();
 				rh.setEndpointUrl(endpointUrl);
@@ -23,6 +23,7 @@ import com.prosysopc.ua.builtintypes.UnsignedInteger;
 import com.prosysopc.ua.transport.endpoint.AbstractServerSecureChannel;
 import com.prosysopc.ua.transport.endpoint.EndpointBindingCollection;
 import com.prosysopc.ua.transport.security.Cert;
+import com.prosysopc.ua.transport.security.CertificateCache;
 import com.prosysopc.ua.transport.security.CertificateValidator;
 import com.prosysopc.ua.transport.security.KeyPair;
 import com.prosysopc.ua.transport.security.SecurityAlgorithm;
@@ -52,7 +53,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -75,11 +75,9 @@ import com.prosysopc.ua.transport.EndpointBinding;
 import com.prosysopc.ua.transport.IConnectionListener;
 import com.prosysopc.ua.transport.ServerSecureChannel;
 import com.prosysopc.ua.transport.tcp.nio.SecureInputMessageBuilder.MessageListener;
-import com.prosysopc.ua.utils.CertificateUtils;
 import com.prosysopc.ua.utils.CryptoUtil;
 import com.prosysopc.ua.utils.IStatefulObject;
 import com.prosysopc.ua.utils.ObjectUtils;
-import com.prosysopc.ua.utils.SizeCalculationOutputStream;
 import com.prosysopc.ua.utils.StackUtils;
 import com.prosysopc.ua.utils.StateListener;
 import com.prosysopc.ua.utils.TimerUtil;
@@ -89,8 +87,9 @@ import com.prosysopc.ua.utils.asyncsocket.AsyncSocketImpl;
 import com.prosysopc.ua.utils.asyncsocket.BufferMonitorState;
 import com.prosysopc.ua.utils.asyncsocket.MonitorListener;
 import com.prosysopc.ua.utils.asyncsocket.SocketState;
-import com.prosysopc.ua.utils.bytebuffer.ByteBufferArrayWriteable2;
-import com.prosysopc.ua.utils.bytebuffer.ByteBufferArrayWriteable2.ChunkListener;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferPool;
+import com.prosysopc.ua.utils.bytebuffer.ChunkedByteBufferWriteable;
+import com.prosysopc.ua.utils.metrics.ChannelMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -142,9 +141,7 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 	/** Optional ReverseHello message, if operating in ReverseHello-mode */
 	ReverseHello rh;
 	
-	/** Timer used for handshake timing */
-	Timer timer = TimerUtil.getTimer();
-
+	/** Handshake timeout, on the shared wheel timer */
 	TimerTask timeoutTimer;
 	Runnable timeout = new Runnable() {
 		@Override
@@ -154,6 +151,8 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 
 		EncoderContext encoderCtx;
 		EndpointConfiguration endpointConfiguration;
+		/** Metrics of the endpoint, named <code>server.&lt;endpointUrl&gt;</code>, resolved in Hello */
+		ChannelMetrics metrics = ChannelMetrics.NOOP;
 
 		/// ??? ///
 		// Handles incoming data //
@@ -203,8 +202,12 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 
 				if (is.available()>=chunkSize) {
 					// Chunk is readable
-					ByteBuffer chunk = is.read(chunkSize);
+					ByteBuffer chunk = ByteBufferPool.getDefault().allocate(chunkSize);
+					chunk.order(ByteOrder.LITTLE_ENDIAN);
+					is.read(chunk);
 					chunk.rewind();
+					metrics.chunksIn.inc();
+					metrics.bytesIn.add(chunkSize);
 					try {
 						try {
 							handleChunk(chunk);
@@ -309,7 +312,7 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 				
 				if(rh == null) {
 					timeoutTimer = TimerUtil.schedule(
-							timer, timeout,
+							timeout,
 							StackUtils.getBlockingWorkExecutor(),
 							System.currentTimeMillis() + handshakeTimeout);
 				}
@@ -321,7 +324,7 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 								SocketState oldState, SocketState newState) {
 							if(oldState == SocketState.Connecting && newState == SocketState.Connected) {
 								timeoutTimer = TimerUtil.schedule(
-										timer, timeout,
+										timeout,
 										StackUtils.getBlockingWorkExecutor(),
 										System.currentTimeMillis() + handshakeTimeout);
 								sendReverseHello(rh);
@@ -405,17 +408,25 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 			/**
 			 * Flushes queued chunks (see startChunkSend())
 			 *
-			 * @param chunk chunk to send
+			 * @param chunks chunks to send
 			 */
-			protected void endChunkSend(ByteBuffer chunk)
+			protected void endChunkSend(ByteBuffer...chunks)
 			{
-				chunkIncubator.hatch(chunk);
+				for (ByteBuffer chunk : chunks)
+					chunkIncubator.hatch(chunk);
 				synchronized(this) {
+					if (!chunkIncubator.nextIsHatched()) return;
+					List<ByteBuffer> hatched = new ArrayList<ByteBuffer>();
 					while (chunkIncubator.nextIsHatched()) {
 						ByteBuffer c = chunkIncubator.removeNextHatchedIfAvailable();
 						c.rewind();
-						s.getOutputStream().offer(c);
+						metrics.chunksOut.inc();
+						metrics.bytesOut.add(c.remaining());
+						hatched.add(c);
 					}
+					// Chunks are allocated by ChunkFactory, return them to the pool once written.
+					// The chunks are written together with a gathering write.
+					s.getOutputStream().offer(hatched.toArray(new ByteBuffer[hatched.size()]), ByteBufferPool.getDefault());
 				}
 			}
 
@@ -497,13 +508,13 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 						throw new ServiceResultException(Bad_SecurityChecksFailed, "Requested Application Instance Certificate is not found in the server");
 					}
 
-					// Decode remote certificate
+					// Decode remote certificate, a reconnecting client sends the same one again
 					Cert remoteCertificate;
 					try {
 						remoteCertificate =
 								encodedRemoteCertificate==null ?
 										null :
-											new Cert( CertificateUtils.decodeX509Certificate(encodedRemoteCertificate) );
+											CertificateCache.getDefault().decode(encodedRemoteCertificate);
 					} catch (CertificateException e) {
 						throw new ServiceResultException(Bad_SecurityChecksFailed); //see 1.02.2 errdata
 					}
@@ -523,9 +534,10 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 					SecurityMode mode = new SecurityMode(securityPolicy, msm);
 					securityConfiguration = new SecurityConfiguration(mode, localCertificate, remoteCertificate);
 
-					AtomicInteger recvSequenceNumber = secureChannel==null ? null : secureChannel.recvSequenceNumber;
+					ChunkSequencer recvSequencer = secureChannel==null ? null : secureChannel.recvSequencer;
 
-					secureMessageBuilder = new SecureInputMessageBuilder(securityConfiguration, messageListener, ctx, encoderCtx, recvSequenceNumber);
+					secureMessageBuilder = new SecureInputMessageBuilder(securityConfiguration, messageListener, ctx, encoderCtx, recvSequencer);
+					secureMessageBuilder.setMetrics(metrics);
 				}
 				logger.debug("onAsymmSecureChunk: {}", chunk);
 				secureMessageBuilder.addChunk(chunk);
@@ -549,6 +561,8 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 					handleAsymmChunk(chunk);
 				} else if (messageType == TcpMessageType.HELLO || messageType == TcpMessageType.ACKNOWLEDGE || messageType == TcpMessageType.ERROR) {
 					handleRawChunk(chunk);
+					// Raw chunks are decoded synchronously
+					ByteBufferPool.getDefault().release(chunk);
 				} else {
 					// Unknown chunk
 					close();
@@ -678,6 +692,7 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 				setState(CloseableObjectState.Opening);
 
 				ctx.endpointUrl = h.getEndpointUrl();
+				metrics = ChannelMetrics.get("server." + (binding == null ? url : binding.endpointAddress.getEndpointUrl()));
 
 				sendAcknowledge(a);
 				setState(CloseableObjectState.Open);
@@ -714,6 +729,7 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 
 					if (!ObjectUtils.objectEquals(req.getRequestType(), SecurityTokenRequestType.Renew)) throw new ServiceResultException(Bad_UnexpectedError);
 
+					metrics.tokenRenewals.inc();
 					channel.handleRenewSecureChannelRequest(mb, req);
 				}
 
@@ -775,6 +791,7 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 
 					if (!ObjectUtils.objectEquals(req.getRequestType(), SecurityTokenRequestType.Renew)) throw new ServiceResultException(Bad_UnexpectedError);
 
+					metrics.tokenRenewals.inc();
 					chan.handleRenewSecureChannelRequest(mb, req);
 				} else if (msg instanceof CloseSecureChannelRequest) {
 					chan.handleCloseSecureChannelRequest(mb, (CloseSecureChannelRequest)msg);
@@ -820,7 +837,8 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 				logger.debug("handleSymmChunk: {}", secureMessageBuilder);
 				if (secureMessageBuilder!=null && !secureMessageBuilder.moreChunksRequired()) secureMessageBuilder = null;
 				if (secureMessageBuilder==null) {
-					secureMessageBuilder = new SecureInputMessageBuilder(token/*channel*/, messageListener, ctx, encoderCtx, channel.recvSequenceNumber);
+					secureMessageBuilder = new SecureInputMessageBuilder(token/*channel*/, messageListener, ctx, encoderCtx, channel.recvSequencer);
+					secureMessageBuilder.setMetrics(metrics);
 					logger.debug("handleSymmChunk: secureMessageBuilder={}", secureMessageBuilder);
 					//				onSecureMessageBegin(secureMessageBuilder, chunk);
 				}
@@ -891,8 +909,11 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 				}
 				ChunkFactory cf = new ChunkFactory.AsymmMsgChunkFactory(ctx.maxSendChunkSize, securityConfiguration);
 
+				long t0 = metrics.start();
 				MessageToChunks mc = new MessageToChunks(msg.getMessage(), ctx, encoderCtx, cf, MessageType.Message);
 				final ByteBuffer[] plaintexts = mc.call();
+				metrics.stop(metrics.encodeTime, t0);
+				metrics.messagesEncoded.inc();
 				final ByteBuffer[] chunks = cf.expandToCompleteChunk(plaintexts);
 				synchronized(msg) {
 					if (msg.isCanceled()) return -1;
@@ -931,10 +952,12 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 					chunk.putInt(sendSequenceNumber.getAndIncrement());
 					chunk.putInt(requestNumber); // Request number
 
+					t0 = metrics.start();
 					new ChunkAsymmEncryptSigner(chunk, plaintext, securityConfiguration).run();
+					metrics.stop(metrics.cryptoTime, t0);
 					chunk.rewind();
-					endChunkSend(chunk);
 				}
+				endChunkSend(chunks);
 				msg.setWritten();
 				return chunks.length;
 			}
@@ -947,8 +970,7 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 			protected synchronized void sendChunks(ByteBuffer...chunks)
 			{
 				startChunkSend(chunks);
-				for (ByteBuffer chunk : chunks)
-					endChunkSend(chunk);
+				endChunkSend(chunks);
 			}
 
 			/**
@@ -1022,8 +1044,8 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 					)
 			{
 				assert(token!=null);
-				ByteBuffer chunks[], plaintexts[];
-				boolean concurrent;
+				final ByteBuffer chunks[], plaintexts[];
+				final boolean parallel;
 				try {
 					synchronized(msg) {
 						if (msg.isCanceled()) return;
@@ -1032,14 +1054,6 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 					//Probably more efficient to check isTraceEnabled before executing ObjectUtils.printFieldsDeep
 					if (logger.isTraceEnabled())
 						logger.trace("sendSecureMessage: " + ObjectUtils.printFieldsDeep(msg.getMessage()));
-					SizeCalculationOutputStream calcBuf = new SizeCalculationOutputStream();
-					BinaryEncoder calc = new BinaryEncoder(calcBuf);
-					calc.setEncoderContext(encoderCtx);
-					calc.putMessage(msg.getMessage());
-					int len = calcBuf.getLength();
-
-					if (len>ctx.maxSendMessageSize && ctx.maxSendMessageSize!=0)
-						throw new ServiceResultException(StatusCodes.Bad_TcpMessageTooLarge);
 
 					SecurityPolicy policy = token.getSecurityPolicy();
 					MessageSecurityMode mode = token.getMessageSecurityMode();
@@ -1048,21 +1062,9 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 					int cipherBlockSize = CryptoUtil.getCipherBlockSize(symmEncryptAlgo, null);
 					int signatureSize = CryptoUtil.getSignatureSize(symmSignAlgo, null);
 					int keySize = mode == MessageSecurityMode.SignAndEncrypt ? token.getRemoteEncryptingKey().length : 0;
-					int paddingSize = mode == MessageSecurityMode.SignAndEncrypt ? keySize > 2048 ? 2 : 1 : 0;
-
-					int maxPlaintextSize = ctx.maxSendChunkSize - 24 - paddingSize - signatureSize;
-					maxPlaintextSize -= (maxPlaintextSize + paddingSize + signatureSize + 8) % cipherBlockSize;
-					final int CORES = StackUtils.cores();
-
-					int optimalPayloadSize = (len+CORES-1) / CORES;
-					if (optimalPayloadSize > maxPlaintextSize)
-						optimalPayloadSize = maxPlaintextSize;
-					if (optimalPayloadSize < 4096)
-						optimalPayloadSize = 4096;
-					int optimalChunkSize = optimalPayloadSize + 24 + paddingSize + signatureSize;
 
 					ChunkFactory cf = new ChunkFactory(
-							optimalChunkSize,
+							ctx.maxSendChunkSize,
 							8,
 							8,
 							8,
@@ -1071,22 +1073,28 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 							mode,
 							keySize);
 
-					// Calculate chunk count
-					final int count = (len + cf.maxPlaintextSize-1) / cf.maxPlaintextSize;
-					if (count>ctx.maxSendChunkCount && ctx.maxSendChunkCount!=0)
-						throw new ServiceResultException(StatusCodes.Bad_TcpMessageTooLarge);
-					concurrent = (count > 1) && (CORES>0) && (mode != MessageSecurityMode.None);
+					// Encode the message in a single pass directly into chunks.
+					// Message size and chunk count limits are checked while encoding.
+					ChunkedByteBufferWriteable out = new ChunkedByteBufferWriteable(cf, cf.maxPlaintextSize, ctx.maxSendMessageSize, ctx.maxSendChunkCount);
+					out.order(ByteOrder.LITTLE_ENDIAN);
+					long t0 = metrics.start();
+					BinaryEncoder enc = new BinaryEncoder(out);
+					enc.setEncoderContext(encoderCtx);
+					try {
+						enc.putMessage(msg.getMessage());
+						metrics.stop(metrics.encodeTime, t0);
+						metrics.messagesEncoded.inc();
+					} catch (ServiceResultException e) {
+						if (out.isLimitExceeded())
+							throw new ServiceResultException(StatusCodes.Bad_TcpMessageTooLarge, e.getMessage());
+						throw e;
+					}
 
-					// Allocate chunks
-					int bytesLeft = len;
-					plaintexts = new ByteBuffer[count];
-					chunks = new ByteBuffer[count];
-					for (int i=0; i<count; i++) {
-						plaintexts[i] = cf.allocate(bytesLeft);
+					plaintexts = out.getChunks();
+					chunks = new ByteBuffer[plaintexts.length];
+					for (int i=0; i<plaintexts.length; i++)
 						chunks[i] = cf.expandToCompleteChunk(plaintexts[i]);
-						bytesLeft -= plaintexts[i].remaining();
-					}
-					assert(bytesLeft==0);
+					parallel = (chunks.length > 1) && (StackUtils.cores()>1) && (mode != MessageSecurityMode.None);
 
 					// Start write
 					synchronized(msg) {
@@ -1097,10 +1105,7 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 					msg.setError(se);
 					return;
 				}
-				final ByteBuffer _chunks[] = chunks;
-				final ByteBuffer _plaintexts[] = plaintexts;
 				final int count = chunks.length;
-				final boolean parallel = concurrent;
 
 				int sequenceNumber = 0;
 				synchronized(this) {
@@ -1124,56 +1129,41 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 					chunk.putInt(requestId);
 				}
 
-				// a Chunk-has-been-encoded handler
-				final AtomicInteger chunksComplete = new AtomicInteger();
-				ChunkListener completitionListener = new ChunkListener() {
-					@Override
-					public void onChunkComplete(ByteBuffer[] bufs, final int index) {
-						Runnable action = new Runnable() {
-							@Override
-							public void run() {
-								// Chunk contains message data, it needs to be encrypted and signed
-								//							try {
-								// Encrypt & sign
-								new ChunkSymmEncryptSigner(_chunks[index], _plaintexts[index], token).run();
-								_chunks[index].rewind();
-
-								// Write chunk
-								endChunkSend(_chunks[index]);
-
-								// All chunks are completed
-								if (chunksComplete.incrementAndGet()==count)
-									msg.setWritten();
-
-								//							} catch (ServiceResultException se) {
-								//								msg.setError(se);
-								//							}
-							}};
-							if (parallel && count>1) {
-								StackUtils.getNonBlockingWorkExecutor().execute(action);
-							} else {
-								action.run();
-							}
+				// Encrypt and sign the chunks, and write them together
+				if (!parallel) {
+					for (int i=0; i<count; i++) {
+						long t0 = metrics.start();
+						new ChunkSymmEncryptSigner(chunks[i], plaintexts[i], token).run();
+						metrics.stop(metrics.cryptoTime, t0);
+						chunks[i].rewind();
 					}
-				};
-
-				// Create encoder
-				ByteBufferArrayWriteable2 out = new ByteBufferArrayWriteable2(plaintexts, completitionListener);
-				out.order(ByteOrder.LITTLE_ENDIAN);
-
-				final BinaryEncoder enc = new BinaryEncoder(out);
-				enc.setEncoderContext(encoderCtx);
+					endChunkSend(chunks);
+					msg.setWritten();
+					return;
+				}
 
-				Runnable encoder = new Runnable() {
-					@Override
-					public void run() {
-						try {
-							enc.putMessage(msg.getMessage());
-						} catch (ServiceResultException e) {
-							msg.setError( StackUtils.toServiceResultException(e) );
-						}
-					}};
-					StackUtils.getBlockingWorkExecutor().execute(encoder);
+				// Encrypt, sign and write the chunks in parallel
+				final AtomicInteger chunksComplete = new AtomicInteger();
+				for (int i=0; i<count; i++) {
+					final int index = i;
+					Runnable action = new Runnable() {
+						@Override
+						public void run() {
+							// Chunk contains message data, it needs to be encrypted and signed
+							long t0 = metrics.start();
+							new ChunkSymmEncryptSigner(chunks[index], plaintexts[index], token).run();
+							metrics.stop(metrics.cryptoTime, t0);
+							chunks[index].rewind();
+
+							// Write chunk
+							endChunkSend(chunks[index]);
+
+							// All chunks are completed
+							if (chunksComplete.incrementAndGet()==count)
+								msg.setWritten();
+						}};
+					StackUtils.getNonBlockingWorkExecutor().execute(action);
+				}
 			}
 
 			/** {@inheritDoc} */
@@ -87,6 +87,8 @@ public class OpcTcpServerSecureChannel extends AbstractServerSecureChannel {
 	public final AtomicInteger		sendSequenceNumber = new AtomicInteger( new Random().nextInt(1024) );
 	/** Sequence number counter of inbound messages */
 	public final AtomicInteger		recvSequenceNumber = new AtomicInteger();
+	/** Releases the validated inbound chunks in order and checks their sequence numbers */
+	public final ChunkSequencer		recvSequencer = new ChunkSequencer(recvSequenceNumber);
 	
 	/**
 	 * <p>Constructor for OpcTcpServerSecureChannel.</p>
@@ -24,7 +24,6 @@ import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import com.prosysopc.ua.common.ServiceResultException;
 import com.prosysopc.ua.core.StatusCodes;
@@ -32,17 +31,27 @@ import com.prosysopc.ua.encoding.EncoderContext;
 import com.prosysopc.ua.encoding.IEncodeable;
 import com.prosysopc.ua.encoding.binary.BinaryDecoder;
 import com.prosysopc.ua.utils.StackUtils;
-import com.prosysopc.ua.utils.bytebuffer.IncubationBuffer;
-import com.prosysopc.ua.utils.bytebuffer.InputStreamReadable;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferArrayReadable;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferPool;
+import com.prosysopc.ua.utils.metrics.ChannelMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * SecureInputMessageBuilder deciphers and decodes chunks into messages.
  * <p>
- * Message is decoded and chunks are deciphered and validated in background threads.
+ * Chunks are deciphered and validated in background threads.
  * Deciphering is executed in StackUtils.getNonBlockerExecutor() which has one thread for each CPU core.
- * Decoding is executed in StackUtils.getBlockerExecutor() which creates new threads as needed.
+ * <p>
+ * The message is decoded in one pass once the final chunk has been added and
+ * all chunks have been validated, so no thread waits for chunks to arrive.
+ * A single-chunk message is decoded in the thread that validated the chunk,
+ * a multi-chunk message in StackUtils.getBlockerExecutor(). The listener is
+ * always notified of a decoded message in StackUtils.getBlockerExecutor().
+ * <p>
+ * The validated chunks of a secure channel are released in the order they were
+ * received by the {@link ChunkSequencer} of the channel, which also checks
+ * their sequence numbers.
  */
 public class SecureInputMessageBuilder implements InputMessage {
 	
@@ -56,11 +65,10 @@ public class SecureInputMessageBuilder implements InputMessage {
 	EncoderContext								encoderCtx;
 	/** Stored error */
 	Exception									error;
-	/** Producer for decoder, consumer for chunk validator&decrypter */
-	IncubationBuffer							chunkSink;
-//	OrderedByteBufferInputStream chunkSink;
 	/** Decode work */
 	Runnable									messageDecoderRun;
+	/** Notifies the listener of a message that was decoded in a non-blocking thread */
+	Runnable									fireCompleteRun;
 	/** Chunks added counter */
 	int											chunksAdded;
 	/** The end result */
@@ -74,7 +82,14 @@ public class SecureInputMessageBuilder implements InputMessage {
 	byte[]										senderCertificate;
 	byte[]										receiverCertificateThumbPrint;
 	List<Integer>								chunkSequenceNumbers = new ArrayList<Integer>(1);
-	AtomicInteger								expectedSequenceNumber;
+	/** Chunks added, the plaintext of each is decoded once all are validated */
+	List<ByteBuffer>							chunks = new ArrayList<ByteBuffer>(1);
+	/** Number of chunks that have been validated */
+	int											chunksValidated;
+	/** Releases the validated chunks in order, null if sequence numbers are not checked */
+	ChunkSequencer								sequencer;
+	/** Metrics of the endpoint */
+	ChannelMetrics								metrics = ChannelMetrics.NOOP;
 	static Logger 								log = LoggerFactory.getLogger(SecureInputMessageBuilder.class);
 
 	public interface MessageListener {
@@ -94,10 +109,10 @@ public class SecureInputMessageBuilder implements InputMessage {
 	 * @param token {@link SecurityToken} (symm) or {@link SecurityConfiguration} (asymm)
 	 * @param listener a {@link SecureInputMessageBuilder.MessageListener} object.
 	 * @param ctx a {@link TcpConnectionParameters} object.
-	 * @param expectedSequenceNumber a {@link java.util.concurrent.atomic.AtomicInteger} object.
 	 * @param encoderCtx a {@link EncoderContext} object.
+	 * @param sequencer sequencer of the secure channel, or null if the chunks are not sequenced
 	 */
-	public SecureInputMessageBuilder(Object token, MessageListener listener, TcpConnectionParameters ctx, EncoderContext encoderCtx, AtomicInteger expectedSequenceNumber)
+	public SecureInputMessageBuilder(Object token, MessageListener listener, TcpConnectionParameters ctx, EncoderContext encoderCtx, ChunkSequencer sequencer)
 	{
 		assert(token!=null);
 		this.listener = listener;
@@ -105,51 +120,73 @@ public class SecureInputMessageBuilder implements InputMessage {
 		this.ctx = ctx;
 		this.encoderCtx = encoderCtx;
 		
-		this.expectedSequenceNumber = expectedSequenceNumber;
-		log.debug("SecureInputMessageBuilder: expectedSequenceNumber={}", expectedSequenceNumber);
-		// chunkSink is a byte input stream that is handed over to message decoder
-		// New bytes become available as chunks are added by handleChunkRuns (see addChunk()). 
-		chunkSink = new IncubationBuffer();		
-//		chunkSink = new OrderedByteBufferInputStream();
-		int maxRecvSize = ctx.maxRecvMessageSize==0 ? Integer.MAX_VALUE : ctx.maxRecvMessageSize;
-		InputStreamReadable isr = new InputStreamReadable(chunkSink, maxRecvSize);
-		isr.order(ByteOrder.LITTLE_ENDIAN);		
-		final BinaryDecoder messageDecoder = new BinaryDecoder(isr);
-		messageDecoder.setEncoderContext(encoderCtx);
-		
-		// Runnable that starts decoding the message. 
-		// It is started in a thread right after the first chunk is added (addChunk())
+		this.sequencer = sequencer;
+
+		// Runnable that decodes the message of several chunks.
+		// It is started when all chunks have been validated (see chunkValidated())
 		messageDecoderRun = new Runnable() {
-			public void run() {				
-				try {					
-					// Decode the message using the chunk sink (set in dec)
-					// Decoding proceeds as chunks are added to the chunk sink. 
-					IEncodeable message = messageDecoder.getMessage();
-					
-					// assert sequence numbers are consecutive
-					if (!(SecureInputMessageBuilder.this.token instanceof SecurityToken))
-						for (int i=1; i<chunkSequenceNumbers.size(); i++)
-							if (chunkSequenceNumbers.get(i) != chunkSequenceNumbers.get(i-1)-1) {
-								String msg = "Sequence numbers of chunks are not consecutive";
-								log.info(msg);
-								setError(new ServiceResultException(StatusCodes.Bad_DecodingError, msg));
-								return;
-							}
-					
-					// Notify listener that message is ready
-					setMessage( message );
-				} catch (Exception e) {
-					// Notify listener about an error
-					setError(e);
-				} catch (StackOverflowError e1) {
-					// Payloads of high nesting levels may cause stack overflow. Structure, VariantArray and DiagnosticInfo at least may cause this.
-					// JVM setting -Xss influences possible level of nesting. At least 100 levels of nesting must be supported, this should not be a problem with normal thread stack sizes. 
-					// Inform receiving side that error has happened.
-					setError(new ServiceResultException(StatusCodes.Bad_DecodingError, "Stack overflow: " + Arrays.toString(Arrays.copyOf(e1.getStackTrace(), 30)) + "..."));
-				}
+			public void run() {
+				if (decodeMessage())
+					fireComplete();
+			}};
+		fireCompleteRun = new Runnable() {
+			public void run() {
+				fireComplete();
 			}};
 	}
 	
+	/**
+	 * Decode the message from the validated chunks.
+	 *
+	 * @return true if the message builder was completed with the result
+	 */
+	private boolean decodeMessage()
+	{
+		IEncodeable message;
+		try {
+			ByteBuffer[] plaintexts;
+			synchronized(this) {
+				if (done) return false;
+				plaintexts = chunks.toArray(new ByteBuffer[chunks.size()]);
+			}
+			long length = 0;
+			for (ByteBuffer plaintext : plaintexts)
+				length += plaintext.remaining();
+			if (ctx.maxRecvMessageSize>0 && length>ctx.maxRecvMessageSize)
+				return complete(null, new ServiceResultException(StatusCodes.Bad_TcpMessageTooLarge, "Message size "+length+" exceeds the limit "+ctx.maxRecvMessageSize));
+
+			long t0 = metrics.start();
+			ByteBufferArrayReadable readable = new ByteBufferArrayReadable(plaintexts);
+			readable.order(ByteOrder.LITTLE_ENDIAN);
+			BinaryDecoder messageDecoder = new BinaryDecoder(readable);
+			messageDecoder.setEncoderContext(encoderCtx);
+			message = messageDecoder.getMessage();
+			metrics.stop(metrics.decodeTime, t0);
+			metrics.messagesDecoded.inc();
+		} catch (Exception e) {
+			return complete(null, e);
+		} catch (StackOverflowError e1) {
+			// Payloads of high nesting levels may cause stack overflow. Structure, VariantArray and DiagnosticInfo at least may cause this.
+			// JVM setting -Xss influences possible level of nesting. At least 100 levels of nesting must be supported, this should not be a problem with normal thread stack sizes. 
+			// Inform receiving side that error has happened.
+			return complete(null, new ServiceResultException(StatusCodes.Bad_DecodingError, "Stack overflow: " + Arrays.toString(Arrays.copyOf(e1.getStackTrace(), 30)) + "..."));
+		}
+
+		// assert sequence numbers are consecutive
+		if (!(token instanceof SecurityToken))
+			for (int i=1; i<chunkSequenceNumbers.size(); i++)
+				if (chunkSequenceNumbers.get(i) != chunkSequenceNumbers.get(i-1)-1) {
+					String msg = "Sequence numbers of chunks are not consecutive";
+					log.info(msg);
+					return complete(null, new ServiceResultException(StatusCodes.Bad_DecodingError, msg));
+				}
+
+		// Chunks are not needed anymore
+		releaseChunks();
+
+		return complete(message, null);
+	}
+	
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
@@ -172,14 +209,13 @@ public class SecureInputMessageBuilder implements InputMessage {
 	public synchronized void addChunk(final ByteBuffer chunk) throws ServiceResultException
 	{
 		if (!acceptsChunks) throw new ServiceResultException(StatusCodes.Bad_UnexpectedError, "Final chunk added to message builder");
+		if (ctx.maxRecvChunkCount>0 && chunksAdded>=ctx.maxRecvChunkCount) throw new ServiceResultException(StatusCodes.Bad_TcpMessageTooLarge, "Chunk count exceeds the limit "+ctx.maxRecvChunkCount);
 		final int chunkNumber = chunksAdded++;	
 		chunkSequenceNumbers.add(null);
 		int type = ChunkUtils.getMessageType(chunk);
 		int messageType = type & TcpMessageType.MESSAGE_TYPE_MASK;
 		int chunkType = type & TcpMessageType.CHUNK_TYPE_MASK;
 		if (chunkType == TcpMessageType.FINAL) acceptsChunks = false;
-		final Integer expectedSequenceNumber = this.expectedSequenceNumber!=null ? this.expectedSequenceNumber.getAndIncrement() : null;
-		log.debug("addChunk: expectedSequenceNumber={}", expectedSequenceNumber);
 		if (chunkType == TcpMessageType.ABORT) {
 			setMessage(null);
 		}
@@ -189,12 +225,42 @@ public class SecureInputMessageBuilder implements InputMessage {
 			this.securityChannelId = ChunkUtils.getSecureChannelId(chunk);
 		}		
 		
-		chunkSink.incubate(chunk);
+		chunks.add(chunk);
+		// Run in the order of the chunks, once the chunk has been validated
+		final Runnable sequencedRun = new Runnable() {
+			public void run() {
+				Integer chunkSequenceNumber;
+				synchronized(SecureInputMessageBuilder.this) {
+					chunkSequenceNumber = chunkSequenceNumbers.get(chunkNumber);
+				}
+				if (sequencer!=null) {
+					int expectedSequenceNumber = sequencer.getExpectedSequenceNumber();
+					if (!sequencer.testAndSetSequenceNumber(chunkSequenceNumber) && chunkSequenceNumber!=null) {
+						setError(new ServiceResultException(StatusCodes.Bad_UnexpectedError, "chunkSequenceNumber="+chunkSequenceNumber+", expectedSequenceNumber="+expectedSequenceNumber));
+						return;
+					}
+				}
+				// Null if the chunk was not validated
+				if (chunkSequenceNumber!=null)
+					chunkValidated();
+			}};
 		Runnable handleChunkRun = new Runnable() {
 			public void run() {
-				if (hasError()) return;
+				try {
+					if (!hasError())
+						validateChunk();
+				} finally {
+					if (sequencer!=null)
+						sequencer.hatch(sequencedRun);
+					else
+						sequencedRun.run();
+				}
+			}
+
+			void validateChunk() {
 				try {	
 					log.debug("token: {}", token);
+					long t0 = metrics.start();
 					if (token instanceof SecurityToken)
 						new ChunkSymmDecryptVerifier(chunk, (SecurityToken)token).run();
 					else if (token instanceof SecurityConfiguration) {
@@ -204,31 +270,11 @@ public class SecureInputMessageBuilder implements InputMessage {
 						senderCertificate = asdf.getSenderCertificate();
 						receiverCertificateThumbPrint = asdf.getReceiverCertificateThumbprint();
 					}
-					
-					int pos = chunk.position();
-					byte[] dada = new byte[chunk.remaining()];
-					chunk.get(dada);
-					chunk.position(pos);
+					metrics.stop(metrics.cryptoTime, t0);
 					
 					int plaintextStart = chunk.position();
 					chunk.position(plaintextStart-8);
 					int chunkSequenceNumber = chunk.getInt();
-					chunkSequenceNumbers.set(chunkNumber, chunkSequenceNumber);
-					if (expectedSequenceNumber!=null) {
-						if (chunkSequenceNumber > expectedSequenceNumber) {
-							// If we are ahead, wait a little while
-							long t0 = System.currentTimeMillis();
-							long TIMEOUT = 100; // ms
-							while ((chunkSequenceNumber > expectedSequenceNumber)
-									&& (System.currentTimeMillis() - t0 < TIMEOUT))
-								Thread.sleep(1);
-						}
-						if(expectedSequenceNumber!=chunkSequenceNumber)
-						{
-							//log.warn("chunkSequenceNumber="+chunkSequenceNumber+", expectedSequenceNumber="+expectedSequenceNumber);
-							throw new ServiceResultException(StatusCodes.Bad_UnexpectedError, "chunkSequenceNumber="+chunkSequenceNumber+", expectedSequenceNumber="+expectedSequenceNumber);
-						}
-					}
 					int requestId = chunk.getInt();
 					setRequestId( requestId );
 
@@ -238,23 +284,55 @@ public class SecureInputMessageBuilder implements InputMessage {
 						throw new ServiceResultException(StatusCodes.Bad_UnexpectedError, "secureChannelId="+secureChannelId+", expected Id");
 					
 					chunk.position(plaintextStart);
-					chunkSink.hatch(chunk);
-//					chunkSink.offer(chunkNumber, chunk);
+					synchronized(SecureInputMessageBuilder.this) {
+						chunkSequenceNumbers.set(chunkNumber, chunkSequenceNumber);
+					}
 				} catch (Exception e) {
 					log.info("addChunk: failed", e);
-					chunkSink.forceClose();
 					setError(e);
-				}				
+				}
 			}};
 			
 		// Validate chunk
+		if (sequencer!=null)
+			sequencer.incubate(sequencedRun);
 		StackUtils.getNonBlockingWorkExecutor().execute(handleChunkRun);
-		
-		// Start decoding message
-		if (chunkNumber==0)
-			StackUtils.getBlockingWorkExecutor().execute(messageDecoderRun);		
 	}	
 	
+	/**
+	 * Start decoding the message, if the final chunk has been added and all
+	 * chunks have been validated. This is the case exactly once, when the
+	 * last chunk is validated.
+	 */
+	private void chunkValidated()
+	{
+		boolean singleChunk;
+		synchronized(this) {
+			chunksValidated++;
+			if (done || acceptsChunks || chunksValidated != chunks.size()) return;
+			singleChunk = chunks.size() == 1;
+		}
+		if (singleChunk) {
+			// Decode in this thread, but do not run the listener in the
+			// non-blocking executor
+			if (decodeMessage())
+				StackUtils.getBlockingWorkExecutor().execute(fireCompleteRun);
+		} else
+			StackUtils.getBlockingWorkExecutor().execute(messageDecoderRun);
+	}
+	
+	/**
+	 * Return the chunks to the buffer pool after the message has been
+	 * decoded. If the message fails, the chunks are left to the garbage
+	 * collector, because they may still be processed.
+	 */
+	private synchronized void releaseChunks()
+	{
+		for (ByteBuffer chunk : chunks)
+			ByteBufferPool.getDefault().release(chunk);
+		chunks.clear();
+	}
+	
 	/**
 	 * <p>fireComplete.</p>
 	 */
@@ -269,16 +347,8 @@ public class SecureInputMessageBuilder implements InputMessage {
 	 */
 	protected void setError(Exception e)
 	{
-		synchronized (this) {
-			if (done) {
-				log.info("setError[when done]", e);
-				return;
-			}
-			done = true;
-			this.error = e;
-			chunkSink.forceClose();
-		}
-		fireComplete();
+		if (complete(null, e))
+			fireComplete();
 	}	
 	
 	/**
@@ -288,14 +358,26 @@ public class SecureInputMessageBuilder implements InputMessage {
 	 */
 	protected void setMessage(IEncodeable msg)
 	{
-		synchronized (this) {
-			if (done)
-				return;
-			chunkSink.close();
-			done = true;
-			this.msg = msg;
+		if (complete(msg, null))
+			fireComplete();
+	}
+	
+	/**
+	 * Set the result, unless the message builder is already done.
+	 *
+	 * @return true if the result was set, in which case the listener must be notified
+	 */
+	private synchronized boolean complete(IEncodeable msg, Exception e)
+	{
+		if (done) {
+			if (e!=null)
+				log.info("setError[when done]", e);
+			return false;
 		}
-		fireComplete();
+		done = true;
+		this.msg = msg;
+		this.error = e;
+		return true;
 	}
 	
 	private synchronized void setRequestId(int requestId) throws ServiceResultException 
@@ -335,12 +417,19 @@ public class SecureInputMessageBuilder implements InputMessage {
 	/**
 	 * <p>close.</p>
 	 */
-	public void close() {
-		if (done) return;
+	public synchronized void close() {
 		done = true;
-		chunkSink.forceClose();
 	}
 	
+	/**
+	 * Set the metrics of the endpoint, before the first chunk is added.
+	 *
+	 * @param metrics the metrics
+	 */
+	public void setMetrics(ChannelMetrics metrics) {
+		this.metrics = metrics;
+	}
+
 	/**
 	 * <p>getMessage.</p>
 	 *
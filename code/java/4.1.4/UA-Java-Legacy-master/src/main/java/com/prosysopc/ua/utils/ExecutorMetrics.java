@@ -0,0 +1,135 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.utils;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A snapshot of the load of a work executor of the stack.
+ *
+ * @see StackUtils#getBlockingWorkExecutorMetrics()
+ * @see StackUtils#getNonBlockingWorkExecutorMetrics()
+ */
+public class ExecutorMetrics {
+
+	private final String name;
+	private final int activeCount;
+	private final int poolSize;
+	private final int largestPoolSize;
+	private final int queueSize;
+	private final long taskCount;
+	private final long completedTaskCount;
+
+	/**
+	 * <p>Constructor for ExecutorMetrics.</p>
+	 *
+	 * @param name name of the executor
+	 * @param activeCount number of threads running a task
+	 * @param poolSize number of threads
+	 * @param largestPoolSize largest number of threads at the same time
+	 * @param queueSize number of tasks waiting for a thread
+	 * @param taskCount number of tasks submitted
+	 * @param completedTaskCount number of tasks completed
+	 */
+	public ExecutorMetrics(String name, int activeCount, int poolSize, int largestPoolSize, int queueSize, long taskCount, long completedTaskCount) {
+		this.name = name;
+		this.activeCount = activeCount;
+		this.poolSize = poolSize;
+		this.largestPoolSize = largestPoolSize;
+		this.queueSize = queueSize;
+		this.taskCount = taskCount;
+		this.completedTaskCount = completedTaskCount;
+	}
+
+	/**
+	 * Take a snapshot of a thread pool.
+	 *
+	 * @param name name of the executor
+	 * @param e the thread pool
+	 * @return the metrics
+	 */
+	public static ExecutorMetrics of(String name, ThreadPoolExecutor e) {
+		return new ExecutorMetrics(name, e.getActiveCount(), e.getPoolSize(), e.getLargestPoolSize(), e.getQueue().size(), e.getTaskCount(), e.getCompletedTaskCount());
+	}
+
+	/**
+	 * <p>Getter for the field <code>name</code>.</p>
+	 *
+	 * @return the name of the executor
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * <p>Getter for the field <code>activeCount</code>.</p>
+	 *
+	 * @return the number of threads running a task
+	 */
+	public int getActiveCount() {
+		return activeCount;
+	}
+
+	/**
+	 * <p>Getter for the field <code>poolSize</code>.</p>
+	 *
+	 * @return the number of threads
+	 */
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	/**
+	 * <p>Getter for the field <code>largestPoolSize</code>.</p>
+	 *
+	 * @return the largest number of threads at the same time
+	 */
+	public int getLargestPoolSize() {
+		return largestPoolSize;
+	}
+
+	/**
+	 * <p>Getter for the field <code>queueSize</code>.</p>
+	 *
+	 * @return the number of tasks waiting for a thread
+	 */
+	public int getQueueSize() {
+		return queueSize;
+	}
+
+	/**
+	 * <p>Getter for the field <code>taskCount</code>.</p>
+	 *
+	 * @return the number of tasks submitted
+	 */
+	public long getTaskCount() {
+		return taskCount;
+	}
+
+	/**
+	 * <p>Getter for the field <code>completedTaskCount</code>.</p>
+	 *
+	 * @return the number of tasks completed
+	 */
+	public long getCompletedTaskCount() {
+		return completedTaskCount;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString() {
+		return String.format("%s: ActiveCount=%d CompletedTaskCount=%d PoolSize=%d LargestPoolSize=%d QueueSize=%d TaskCount=%d",
+				name, activeCount, completedTaskCount, poolSize, largestPoolSize, queueSize, taskCount);
+	}
+
+}
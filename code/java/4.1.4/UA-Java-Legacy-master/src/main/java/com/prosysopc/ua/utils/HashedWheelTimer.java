@@ -0,0 +1,382 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package com.prosysopc.ua.utils;
+
+import java.util.Queue;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HashedWheelTimer runs tasks at a given time, with a resolution of one tick.
+ * <p>
+ * The timeouts are hashed by their deadline into the slots of a wheel, which
+ * a worker thread advances by one slot each tick. A timeout that is further
+ * away than one turn of the wheel waits for the remaining rounds in its slot.
+ * Scheduling and cancelling are constant time and do not lock: they are
+ * queued and applied by the worker at the next tick. This suits the many
+ * short lived timeouts of requests and handshakes, most of which are
+ * cancelled before they expire.
+ * <p>
+ * The tasks are run with their executor, the worker thread only hands them
+ * over. The worker sleeps while there are no pending timeouts.
+ */
+public class HashedWheelTimer {
+
+	private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+	/** Default duration of a tick in milliseconds */
+	public static final long DEFAULT_TICK_DURATION = 10;
+	/** Default number of slots in the wheel */
+	public static final int DEFAULT_WHEEL_SIZE = 512;
+
+	private static final int PENDING = 0;
+	private static final int CANCELLED = 1;
+	private static final int EXPIRED = 2;
+
+	private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+			AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+	/** Duration of a tick in milliseconds */
+	private final long tickDuration;
+	private final Slot[] wheel;
+	private final int mask;
+	/** Timeouts scheduled since the last tick */
+	private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<Timeout>();
+	/** Timeouts cancelled since the last tick */
+	private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<Timeout>();
+	/** Number of timeouts that have not expired or been cancelled */
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	/** Notified when the first timeout is scheduled to an idle timer */
+	private final Object idleLock = new Object();
+	/** Base of the monotonic clock, in nanoseconds */
+	private final long startTime = System.nanoTime();
+	private final Thread worker;
+	private volatile boolean stopped;
+	/** Number of ticks since start. Accessed by the worker only */
+	private long tick;
+
+	/**
+	 * <p>Constructor for HashedWheelTimer with the default tick duration and wheel size.</p>
+	 *
+	 * @param threadName name of the worker thread
+	 */
+	public HashedWheelTimer(String threadName) {
+		this(threadName, DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE);
+	}
+
+	/**
+	 * <p>Constructor for HashedWheelTimer.</p>
+	 *
+	 * @param threadName name of the worker thread
+	 * @param tickDuration duration of a tick in milliseconds
+	 * @param wheelSize number of slots in the wheel, rounded up to a power of two
+	 */
+	public HashedWheelTimer(String threadName, long tickDuration, int wheelSize) {
+		if (tickDuration < 1)
+			throw new IllegalArgumentException("tickDuration must be positive");
+		if (wheelSize < 1 || wheelSize > 1 << 30)
+			throw new IllegalArgumentException("wheelSize must be between 1 and 2^30");
+		int size = Integer.highestOneBit(wheelSize);
+		if (size < wheelSize)
+			size <<= 1;
+		this.tickDuration = tickDuration;
+		this.wheel = new Slot[size];
+		for (int i=0; i<size; i++)
+			wheel[i] = new Slot();
+		this.mask = size - 1;
+		worker = new Thread(new Worker(), threadName);
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * Schedule a task to be run with the executor at the given time. The task
+	 * is run at the first tick after the time, or at the next tick if the
+	 * time has passed.
+	 *
+	 * @param run the task to run
+	 * @param executor the executor that runs the task
+	 * @param systemTime the time to run at, in {@link System#currentTimeMillis()} time
+	 * @return the timeout, which can be cancelled
+	 * @throws IllegalStateException if the timer has been stopped
+	 */
+	public Timeout schedule(Runnable run, Executor executor, long systemTime) {
+		if (run==null || executor==null)
+			throw new IllegalArgumentException("null arg");
+		if (stopped)
+			throw new IllegalStateException("Timer stopped");
+		long delay = systemTime - System.currentTimeMillis();
+		if (delay < 0) delay = 0;
+		Timeout timeout = new Timeout(run, executor, systemTime, now() + delay);
+		scheduled.add(timeout);
+		if (pendingCount.getAndIncrement() == 0)
+			synchronized (idleLock) {
+				idleLock.notifyAll();
+			}
+		return timeout;
+	}
+
+	/**
+	 * Stop the timer. The pending timeouts are not run.
+	 */
+	public void stop() {
+		stopped = true;
+		synchronized (idleLock) {
+			idleLock.notifyAll();
+		}
+		worker.interrupt();
+	}
+
+	/**
+	 * <p>isStopped.</p>
+	 *
+	 * @return true if the timer has been stopped
+	 */
+	public boolean isStopped() {
+		return stopped;
+	}
+
+	/**
+	 * <p>Getter for the number of pending timeouts.</p>
+	 *
+	 * @return the number of timeouts that have not expired or been cancelled
+	 */
+	public int getPendingCount() {
+		return pendingCount.get();
+	}
+
+	/**
+	 * <p>Getter for the field <code>tickDuration</code>.</p>
+	 *
+	 * @return duration of a tick in milliseconds
+	 */
+	public long getTickDuration() {
+		return tickDuration;
+	}
+
+	/**
+	 * <p>Getter for the wheel size.</p>
+	 *
+	 * @return number of slots in the wheel
+	 */
+	public int getWheelSize() {
+		return wheel.length;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString() {
+		return worker.getName() + " [pending=" + pendingCount.get() + ", tick=" + tickDuration + "ms, wheel=" + wheel.length + "]";
+	}
+
+	/**
+	 * @return milliseconds since start on the monotonic clock
+	 */
+	private long now() {
+		return (System.nanoTime() - startTime) / 1000000;
+	}
+
+	/**
+	 * A scheduled task. It is a {@link TimerTask} so that it can be used in
+	 * place of the tasks of {@link java.util.Timer}; {@link #cancel()} and
+	 * {@link #scheduledExecutionTime()} refer to this timer.
+	 */
+	public final class Timeout extends TimerTask {
+		final Runnable task;
+		final Executor executor;
+		/** The scheduled time in system time */
+		final long systemTime;
+		/** The deadline on the monotonic clock */
+		final long deadline;
+		volatile int state = PENDING;
+		/** Turns of the wheel left before expiry. Accessed by the worker only */
+		long remainingRounds;
+		Slot slot;
+		Timeout next, prev;
+
+		Timeout(Runnable task, Executor executor, long systemTime, long deadline) {
+			this.task = task;
+			this.executor = executor;
+			this.systemTime = systemTime;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Hand the task to its executor.
+		 */
+		@Override
+		public void run() {
+			executor.execute(task);
+		}
+
+		/**
+		 * Cancel the timeout. The timeout is removed from the wheel at the
+		 * next tick.
+		 *
+		 * @return true if the timeout was pending, false if it had already
+		 *         expired or been cancelled
+		 */
+		@Override
+		public boolean cancel() {
+			if (!STATE.compareAndSet(this, PENDING, CANCELLED))
+				return false;
+			pendingCount.decrementAndGet();
+			cancelled.add(this);
+			return true;
+		}
+
+		/** {@inheritDoc} */
+		@Override
+		public long scheduledExecutionTime() {
+			return systemTime;
+		}
+
+		/**
+		 * <p>isCancelled.</p>
+		 *
+		 * @return true if the timeout has been cancelled
+		 */
+		public boolean isCancelled() {
+			return state == CANCELLED;
+		}
+
+		/**
+		 * <p>isExpired.</p>
+		 *
+		 * @return true if the task has been handed to its executor
+		 */
+		public boolean isExpired() {
+			return state == EXPIRED;
+		}
+	}
+
+	/**
+	 * A slot of the wheel, a doubly linked list of timeouts
+	 */
+	static final class Slot {
+		Timeout head, tail;
+
+		void add(Timeout timeout) {
+			timeout.slot = this;
+			if (head == null) {
+				head = tail = timeout;
+			} else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		Timeout remove(Timeout timeout) {
+			Timeout next = timeout.next;
+			if (timeout.prev != null)
+				timeout.prev.next = next;
+			if (next != null)
+				next.prev = timeout.prev;
+			if (timeout == head)
+				head = next;
+			if (timeout == tail)
+				tail = timeout.prev;
+			timeout.prev = timeout.next = null;
+			timeout.slot = null;
+			return next;
+		}
+	}
+
+	class Worker implements Runnable {
+		@Override
+		public void run() {
+			try {
+				while (!stopped) {
+					if (pendingCount.get() == 0) {
+						removeCancelled();
+						synchronized (idleLock) {
+							while (pendingCount.get() == 0 && !stopped)
+								idleLock.wait();
+						}
+						// The wheel is empty, skip the ticks spent idle
+						tick = now() / tickDuration;
+					}
+					waitForNextTick();
+					addScheduled();
+					removeCancelled();
+					expire(wheel[(int) (tick & mask)]);
+					tick++;
+				}
+			} catch (InterruptedException e) {
+				if (!stopped)
+					logger.warn("Timer interrupted", e);
+			}
+		}
+
+		private void waitForNextTick() throws InterruptedException {
+			long deadline = (tick + 1) * tickDuration;
+			for (;;) {
+				long sleep = deadline - now();
+				if (sleep <= 0)
+					return;
+				Thread.sleep(sleep);
+			}
+		}
+
+		private void addScheduled() {
+			Timeout timeout;
+			while ((timeout = scheduled.poll()) != null) {
+				if (timeout.state != PENDING)
+					continue;
+				long calculated = timeout.deadline / tickDuration;
+				timeout.remainingRounds = (calculated - tick) / wheel.length;
+				long ticks = Math.max(calculated, tick);
+				wheel[(int) (ticks & mask)].add(timeout);
+			}
+		}
+
+		private void removeCancelled() {
+			Timeout timeout;
+			while ((timeout = cancelled.poll()) != null) {
+				if (timeout.slot != null)
+					timeout.slot.remove(timeout);
+			}
+		}
+
+		private void expire(Slot slot) {
+			Timeout timeout = slot.head;
+			while (timeout != null) {
+				if (timeout.state != PENDING) {
+					timeout = slot.remove(timeout);
+				} else if (timeout.remainingRounds <= 0) {
+					Timeout next = slot.remove(timeout);
+					if (STATE.compareAndSet(timeout, PENDING, EXPIRED)) {
+						pendingCount.decrementAndGet();
+						try {
+							timeout.run();
+						} catch (Throwable t) {
+							logger.warn("Failed to run timer task", t);
+						}
+					}
+					timeout = next;
+				} else {
+					timeout.remainingRounds--;
+					timeout = timeout.next;
+				}
+			}
+		}
+	}
+
+}
@@ -27,6 +27,7 @@ import com.prosysopc.ua.transport.tcp.impl.ErrorMessage;
 import com.prosysopc.ua.transport.tcp.impl.Hello;
 import com.prosysopc.ua.transport.tcp.impl.ReverseHello;
 import com.prosysopc.ua.utils.asyncsocket.AsyncSelector;
+import com.prosysopc.ua.utils.asyncsocket.AsyncSelectorPool;
 import java.io.EOFException;
 import java.io.IOException;
 import java.lang.Thread.UncaughtExceptionHandler;
@@ -59,6 +60,23 @@ import org.slf4j.LoggerFactory;
  */
 public class StackUtils {
 
+	/**
+	 * How {@link #getBlockingWorkExecutor()} runs the tasks
+	 */
+	public enum ExecutorMode {
+		/**
+		 * A pool of platform threads, see
+		 * {@link #setBlockingWorkerThreadPoolCoreSize(int)}.
+		 */
+		ThreadPool,
+		/**
+		 * A new virtual thread for each task, so that blocking tasks do not
+		 * wait for a free thread of a pool. Requires a runtime with virtual
+		 * threads (Java 21 or later), otherwise {@link #ThreadPool} is used.
+		 */
+		VirtualThreads
+	}
+
 	/**
 	 * The default thread factory
 	 */
@@ -87,6 +105,7 @@ public class StackUtils {
 
 	private static int blockingWorkerThreadPoolCoreSize = 64;
 	private static long blockingWorkerThreadPoolTimeout = 3L;
+	private static ExecutorMode blockingWorkExecutorMode = ExecutorMode.ThreadPool;
 
 	private static final int CORES = Runtime.getRuntime().availableProcessors();
 	/**
@@ -106,6 +125,13 @@ public class StackUtils {
 	 */
 	private static AsyncSelector SELECTOR;
 
+	/**
+	 * Use #getSelectorPool() instead.
+	 */
+	private static AsyncSelectorPool SELECTOR_POOL;
+
+	private static int selectorPoolSize = Runtime.getRuntime().availableProcessors();
+
 	/** Constant <code>RANDOM</code> */
 	public static Random RANDOM = new Random();
 
@@ -130,11 +156,21 @@ public class StackUtils {
 	 * Name used for the Thread in {@link TimerUtil}.
 	 */
 	public static String UA_TIMER_NAME_PATTERN = "OPC-UA-Stack-Timer";
+
+	/**
+	 * Name used for the Thread of the {@link HashedWheelTimer} of {@link TimerUtil}.
+	 */
+	public static String UA_WHEEL_TIMER_NAME_PATTERN = "OPC-UA-Stack-Wheel-Timer";
 	
 	/**
 	 * Name used for the Thread of {@link #getSelector()}. 
 	 */
 	public static String SELECTOR_NAME_PATTERN = "OPC-UA-Stack-Async-Selector";
+
+	/**
+	 * Naming pattern for the threads of {@link #getSelectorPool()}. Can include a single %d for the number of the thread.
+	 */
+	public static String SELECTOR_POOL_NAME_PATTERN = "OPC-UA-Stack-Async-Selector-%d";
 	
 	private static IEncodeableSerializer DEFAULT_SERIALIZER;
 
@@ -199,6 +235,22 @@ public class StackUtils {
 	 * @param name a {@link java.lang.String} object.
 	 */
 	public static synchronized Executor createBlockingWorkExecutor(String name, int maxThreadPoolSize) {
+		if (BLOCKING_EXECUTOR == null && blockingWorkExecutorMode == ExecutorMode.VirtualThreads) {
+			final ThreadFactory vtf = newVirtualThreadFactory();
+			if (vtf != null) {
+				final AtomicInteger counter = new AtomicInteger(0);
+				ThreadFactory tf = new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread t = vtf.newThread(r);
+						t.setName(String.format(BLOCKING_WORK_EXECUTOR_NAME_PATTERN, counter.incrementAndGet()));
+						t.setUncaughtExceptionHandler(uncaughtExceptionHandler);
+						return t;
+					}};
+				BLOCKING_EXECUTOR = new ThreadPerTaskExecutor("BLOCKING_EXECUTOR", tf);
+			} else
+				logger.warn("Virtual threads are not supported by the runtime, using a thread pool for the blocking work executor");
+		}
 		if (BLOCKING_EXECUTOR == null) {
 			final AtomicInteger counter = new AtomicInteger(0);
 			ThreadFactory tf = new ThreadFactory() {
@@ -232,6 +284,80 @@ public class StackUtils {
 		return BLOCKING_EXECUTOR;
 	}
 
+	/**
+	 * Create a factory of virtual threads, if the runtime supports them.
+	 *
+	 * @return the thread factory or null if virtual threads are not supported
+	 */
+	static ThreadFactory newVirtualThreadFactory() {
+		try {
+			// Thread.ofVirtual().factory(), available since Java 21
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+		} catch (Exception e) {
+			logger.debug("Virtual threads are not supported", e);
+			return null;
+		}
+	}
+
+	/**
+	 * @return true if the runtime supports {@link ExecutorMode#VirtualThreads}
+	 */
+	public static boolean isVirtualThreadsSupported() {
+		return newVirtualThreadFactory() != null;
+	}
+
+	/**
+	 * <p>Getter for the field <code>blockingWorkExecutorMode</code>.</p>
+	 *
+	 * @return the mode of {@link #getBlockingWorkExecutor()}
+	 */
+	public static ExecutorMode getBlockingWorkExecutorMode() {
+		return blockingWorkExecutorMode;
+	}
+
+	/**
+	 * Define how {@link #getBlockingWorkExecutor()} runs the tasks. This must
+	 * be set before the executor is created, i.e. before any client or server
+	 * is started. The non-blocking work executor always uses a pool of
+	 * platform threads, one for each core.
+	 * <p>
+	 * Default: {@link ExecutorMode#ThreadPool}
+	 *
+	 * @param blockingWorkExecutorMode the mode
+	 */
+	public static void setBlockingWorkExecutorMode(ExecutorMode blockingWorkExecutorMode) {
+		if (blockingWorkExecutorMode == null)
+			throw new IllegalArgumentException("null arg");
+		StackUtils.blockingWorkExecutorMode = blockingWorkExecutorMode;
+	}
+
+	/**
+	 * Get the current load of {@link #getBlockingWorkExecutor()}.
+	 *
+	 * @return the metrics or null if the executor has not been created
+	 */
+	public static synchronized ExecutorMetrics getBlockingWorkExecutorMetrics() {
+		return getMetrics("BLOCKING_EXECUTOR", BLOCKING_EXECUTOR);
+	}
+
+	/**
+	 * Get the current load of {@link #getNonBlockingWorkExecutor()}.
+	 *
+	 * @return the metrics or null if the executor has not been created
+	 */
+	public static synchronized ExecutorMetrics getNonBlockingWorkExecutorMetrics() {
+		return getMetrics("NON_BLOCKING_EXECUTOR", NON_BLOCKING_EXECUTOR);
+	}
+
+	private static ExecutorMetrics getMetrics(String name, Executor e) {
+		if (e instanceof ThreadPoolExecutor)
+			return ExecutorMetrics.of(name, (ThreadPoolExecutor) e);
+		if (e instanceof ThreadPerTaskExecutor)
+			return ((ThreadPerTaskExecutor) e).getMetrics();
+		return null;
+	}
+
 	/**
 	 * <p>Getter for the field <code>blockingWorkerThreadPoolCoreSize</code>.</p>
 	 *
@@ -358,6 +484,43 @@ public class StackUtils {
 		return SELECTOR;
 	}
 
+	/**
+	 * Get the selectors of the connections accepted by the servers.
+	 *
+	 * @return a {@link AsyncSelectorPool} object.
+	 */
+	public static synchronized AsyncSelectorPool getSelectorPool() {
+		if (SELECTOR_POOL == null)
+			try {
+				SELECTOR_POOL = new AsyncSelectorPool(selectorPoolSize, SELECTOR_POOL_NAME_PATTERN);
+			} catch (IOException e) {
+				throw new Error(e);
+			}
+		return SELECTOR_POOL;
+	}
+
+	/**
+	 * <p>Getter for the field <code>selectorPoolSize</code>.</p>
+	 *
+	 * @return a int.
+	 */
+	public static int getSelectorPoolSize() {
+		return selectorPoolSize;
+	}
+
+	/**
+	 * Define the number of selector threads of {@link #getSelectorPool()}.
+	 * This must be set before the pool is created, when the first server
+	 * endpoint is bound.
+	 * <p>
+	 * Default: the number of available processors
+	 *
+	 * @param selectorPoolSize a int.
+	 */
+	public static void setSelectorPoolSize(int selectorPoolSize) {
+		StackUtils.selectorPoolSize = selectorPoolSize;
+	}
+
 	/**
 	 * The handler that is called, if any of the worker threads encounter an exception that is not handled.
 	 *
@@ -368,11 +531,20 @@ public class StackUtils {
 	}
 
 	/**
-	 * <p>logStatus.</p>
+	 * Log the metrics of the work executors and the selectors at debug level.
+	 *
+	 * @see #getBlockingWorkExecutorMetrics()
+	 * @see #getNonBlockingWorkExecutorMetrics()
 	 */
 	public static void logStatus() {
-		logExecutor("BLOCKING_EXECUTOR", (ThreadPoolExecutor)BLOCKING_EXECUTOR);
-		logExecutor("NON_BLOCKING_EXECUTOR", (ThreadPoolExecutor)NON_BLOCKING_EXECUTOR);
+		ExecutorMetrics blocking = getBlockingWorkExecutorMetrics();
+		if (blocking != null)
+			logger.debug("{}", blocking);
+		ExecutorMetrics nonBlocking = getNonBlockingWorkExecutorMetrics();
+		if (nonBlocking != null)
+			logger.debug("{}", nonBlocking);
+		if (SELECTOR_POOL != null)
+			logger.debug("SELECTOR_POOL: {}", SELECTOR_POOL);
 	}
 	/**
 	 * <p>newNamedThreadFactory.</p>
@@ -429,6 +601,10 @@ public class StackUtils {
 	 * and cancels {@link TimerUtil#getTimer()}.
 	 */
 	public static void shutdown() {
+		if (BLOCKING_EXECUTOR instanceof ThreadPerTaskExecutor) {
+			((ThreadPerTaskExecutor)BLOCKING_EXECUTOR).shutdown();
+			BLOCKING_EXECUTOR = null;
+		}
 		if (BLOCKING_EXECUTOR != null) {
 			((ThreadPoolExecutor)BLOCKING_EXECUTOR).shutdown();
 			BLOCKING_EXECUTOR = null;
@@ -458,6 +634,7 @@ public class StackUtils {
 			timer.cancel();
 			TimerUtil.timer = null;
 		}
+		TimerUtil.stopWheelTimer();
 	}
 
 
@@ -484,8 +661,4 @@ public class StackUtils {
 		return new ServiceResultException(e);
 	}
 
-	private static void logExecutor(String name, final ThreadPoolExecutor e) {
-		logger.debug("{}: ActiveCount={} CompletedTaskCount={} PoolSize={} LargestPoolSize={} TaskCount={}", name, e.getActiveCount(), e.getCompletedTaskCount(), e.getPoolSize(), e.getLargestPoolSize(), e.getTaskCount());
-	}
-
 }
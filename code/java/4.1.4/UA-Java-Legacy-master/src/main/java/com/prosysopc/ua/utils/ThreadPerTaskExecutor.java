@@ -0,0 +1,89 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor that starts a new thread for each task. Tasks are never queued,
+ * so a task that blocks does not delay the others.
+ * <p>
+ * Used with the virtual thread factory of the runtime, see
+ * {@link StackUtils.ExecutorMode#VirtualThreads}.
+ */
+class ThreadPerTaskExecutor implements Executor {
+
+	private final String name;
+	private final ThreadFactory threadFactory;
+	private final AtomicInteger activeCount = new AtomicInteger();
+	private final AtomicInteger largestActiveCount = new AtomicInteger();
+	private final AtomicLong taskCount = new AtomicLong();
+	private final AtomicLong completedTaskCount = new AtomicLong();
+	private volatile boolean shutdown;
+
+	/**
+	 * @param name name of the executor in the metrics
+	 * @param threadFactory factory of the threads
+	 */
+	ThreadPerTaskExecutor(String name, ThreadFactory threadFactory) {
+		this.name = name;
+		this.threadFactory = threadFactory;
+	}
+
+	@Override
+	public void execute(final Runnable command) {
+		if (command == null)
+			throw new NullPointerException();
+		if (shutdown)
+			throw new RejectedExecutionException(name + " has been shut down");
+		Thread t = threadFactory.newThread(new Runnable() {
+			@Override
+			public void run() {
+				int n = activeCount.incrementAndGet();
+				int largest;
+				while (n > (largest = largestActiveCount.get()) && !largestActiveCount.compareAndSet(largest, n))
+					;
+				try {
+					command.run();
+				} finally {
+					activeCount.decrementAndGet();
+					completedTaskCount.incrementAndGet();
+				}
+			}
+		});
+		if (t == null)
+			throw new RejectedExecutionException(name + " could not create a thread");
+		taskCount.incrementAndGet();
+		t.start();
+	}
+
+	/**
+	 * Reject new tasks. The running tasks are completed.
+	 */
+	void shutdown() {
+		shutdown = true;
+	}
+
+	/**
+	 * @return the current load of the executor
+	 */
+	ExecutorMetrics getMetrics() {
+		int active = activeCount.get();
+		return new ExecutorMetrics(name, active, active, largestActiveCount.get(), 0, taskCount.get(), completedTaskCount.get());
+	}
+
+}
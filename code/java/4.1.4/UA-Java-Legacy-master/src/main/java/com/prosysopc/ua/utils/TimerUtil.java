@@ -19,11 +19,18 @@ import java.util.concurrent.Executor;
 
 /**
  * <p>TimerUtil class.</p>
+ * <p>
+ * {@link #schedule(Runnable, Executor, long)} uses a shared
+ * {@link HashedWheelTimer}, which schedules and cancels in constant time.
+ * The shared {@link Timer} is kept for the callers that schedule with it.
  */
 public class TimerUtil {
 	
 	/** Constant <code>timer</code> */
 	public static WeakReference<Timer> timer;
+
+	/** The shared wheel timer, stopped on {@link StackUtils#shutdown()} */
+	static volatile HashedWheelTimer wheelTimer;
 	
 	/**
 	 * <p>Getter for the field <code>timer</code>.</p>
@@ -40,9 +47,42 @@ public class TimerUtil {
 		}
 		return t;
 	}
+
+	/**
+	 * <p>Getter for the field <code>wheelTimer</code>.</p>
+	 *
+	 * @return a {@link HashedWheelTimer} object.
+	 */
+	public static HashedWheelTimer getWheelTimer()
+	{
+		// Every timeout is scheduled through here, lock only to create the timer
+		HashedWheelTimer t = wheelTimer;
+		if (t!=null && !t.isStopped())
+			return t;
+		synchronized (TimerUtil.class) {
+			t = wheelTimer;
+			if (t==null || t.isStopped())
+				wheelTimer = t = new HashedWheelTimer(StackUtils.UA_WHEEL_TIMER_NAME_PATTERN);
+			return t;
+		}
+	}
+
+	/**
+	 * Stop the shared wheel timer. A new one is created when needed.
+	 */
+	synchronized static void stopWheelTimer()
+	{
+		if (wheelTimer!=null) {
+			wheelTimer.stop();
+			wheelTimer = null;
+		}
+	}
 	
 	/**
 	 * <p>schedule.</p>
+	 * <p>
+	 * The task is scheduled to the shared {@link HashedWheelTimer}. Cancelling
+	 * the returned task is constant time.
 	 *
 	 * @param run a {@link java.lang.Runnable} object.
 	 * @param executor a {@link java.util.concurrent.Executor} object.
@@ -51,26 +91,7 @@ public class TimerUtil {
 	 */
 	public static TimerTask schedule(final Runnable run, final Executor executor, long systemTime)
 	{
-		if (run==null || executor==null)
-			throw new IllegalArgumentException("null arg");
-		long delay = systemTime - System.currentTimeMillis();
-		if (delay<1) delay = 1;
-		TimerTask task = new TimerTask() {
-			@Override
-			public void run() {
-				executor.execute(run);
-			}
-			
-			@Override
-			public boolean cancel() {
-				boolean result = super.cancel();				
-				purge();	
-				return result;
-			}
-
-		};
-		getTimer().schedule(task, delay);
-		return task;
+		return getWheelTimer().schedule(run, executor, systemTime);
 	}
 	
 	/**
@@ -15,6 +15,8 @@ package com.prosysopc.ua.utils.asyncsocket;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferFactory;
+
 /**
  * Asyncronous output stream of asynchronous socket.
  * There are two positions properties: Bytes written and bytes flushed.
@@ -55,6 +57,31 @@ public abstract class AsyncOutputStream extends OutputStream {
 	 */
 	public abstract void offer(ByteBuffer buf);
 
+	/**
+	 * Offers byte buffer to the output stream for write. The buffer is released
+	 * to the owner after it has been written. The default implementation
+	 * never releases the buffer.
+	 *
+	 * @param buf buffer to offer
+	 * @param owner factory that buf is released to
+	 */
+	public void offer(ByteBuffer buf, ByteBufferFactory owner) {
+		offer(buf);
+	}
+
+	/**
+	 * Offers byte buffers to the output stream for write, to be written
+	 * together. The buffers are released to the owner after they have been
+	 * written.
+	 *
+	 * @param bufs buffers to offer
+	 * @param owner factory that the buffers are released to
+	 */
+	public void offer(ByteBuffer[] bufs, ByteBufferFactory owner) {
+		for (ByteBuffer buf : bufs)
+			offer(buf, owner);
+	}
+
 	/**
 	 * Get the position of stream that has been flushed. This position lags behind getPosition() value
 	 *
@@ -20,12 +20,15 @@ import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.util.EnumSet;
-import java.util.Map;
+import java.util.Iterator;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.prosysopc.ua.utils.StackUtils;
 import com.prosysopc.ua.utils.State;
+import com.prosysopc.ua.utils.metrics.Histogram;
+import com.prosysopc.ua.utils.metrics.Metrics;
 
 /**
  * Create asyncronous selector. Selector has one selector thread for each cpu
@@ -45,10 +48,14 @@ public class AsyncSelector implements Runnable {
 	State<SelectorState>				state = new State<SelectorState>(SelectorState.Active);
 	/** Selector */
 	Selector							sel;
-	/** Registered keys and their handlers */
-	Map<SelectionKey, SelectListener>	map = new ConcurrentHashMap<SelectionKey, SelectListener>();
+	/** Number of registered channels, their handlers are attached to the keys */
+	AtomicInteger						registeredCount = new AtomicInteger();
+	/** Number of handled selection events */
+	AtomicLong							selectedCount = new AtomicLong();
 	/** Selector Thread */
 	Thread								thread;
+	/** Time spent handling the selected keys per select, in nanoseconds */
+	Histogram							loopTime = Metrics.getRegistry().histogram("selector.loopTime");
 
 	Object registerLock = new Object();
 	
@@ -68,8 +75,19 @@ public class AsyncSelector implements Runnable {
 	 * @throws java.io.IOException if any.
 	 */
 	public AsyncSelector(Selector sel) throws IOException {
+		this(sel, StackUtils.SELECTOR_NAME_PATTERN);
+	}
+
+	/**
+	 * Construct new AsyncSelector
+	 *
+	 * @param sel a {@link java.nio.channels.Selector} object.
+	 * @param threadName name of the selector thread
+	 * @throws java.io.IOException if any.
+	 */
+	public AsyncSelector(Selector sel, String threadName) throws IOException {
 		this.sel = sel;
-		thread = new Thread(this, StackUtils.SELECTOR_NAME_PATTERN);
+		thread = new Thread(this, threadName);
 		thread.setDaemon(true);
 		thread.start();
 	}
@@ -83,6 +101,24 @@ public class AsyncSelector implements Runnable {
 		return sel;
 	}
 
+	/**
+	 * <p>getRegisteredCount.</p>
+	 *
+	 * @return the number of channels registered to the selector
+	 */
+	public int getRegisteredCount() {
+		return registeredCount.get();
+	}
+
+	/**
+	 * <p>getSelectedCount.</p>
+	 *
+	 * @return the number of selection events handled by the selector
+	 */
+	public long getSelectedCount() {
+		return selectedCount.get();
+	}
+
 	/**
 	 * Modify interest ops of a key.
 	 *
@@ -117,7 +153,9 @@ public class AsyncSelector implements Runnable {
 										
 				if (newOps != key.interestOps()) {
 					key.interestOps(newOps);
-					sel.wakeup();
+					// The selector thread selects again after the events
+					if (Thread.currentThread() != thread)
+						sel.wakeup();
 				}
 			}
 			
@@ -159,8 +197,10 @@ public class AsyncSelector implements Runnable {
 			disable();
 			try {
 				// register blocks if any thread select()s
-				SelectionKey key = channel.register(sel, ops);
-				map.put(key, selectEventListener);
+				SelectionKey key = channel.keyFor(sel);
+				if (key == null || key.attachment() == null)
+					registeredCount.incrementAndGet();
+				channel.register(sel, ops, selectEventListener);
 			} finally {
 				enable();		
 			}	
@@ -174,13 +214,14 @@ public class AsyncSelector implements Runnable {
 	 */
 	public void unregister(SelectableChannel channel) {
 		SelectionKey key = channel.keyFor(sel);		
-		if (key == null || !map.containsKey(key)) return;
+		if (key == null || key.attachment() == null) return;
 		
 		synchronized(registerLock) {
 			disable();
 			try {
 				key.cancel();
-				map.remove(key);
+				if (key.attach(null) != null)
+					registeredCount.decrementAndGet();
 			} finally {
 				enable();		
 			}
@@ -218,6 +259,12 @@ public class AsyncSelector implements Runnable {
 		public void onSelected(AsyncSelector sender, SelectableChannel channel, int selectOps, int interestOps);
 	}
 	
+	/** {@inheritDoc} */
+	@Override
+	public String toString() {
+		return thread.getName()+" registered="+getRegisteredCount()+" selected="+getSelectedCount();
+	}
+
 	String toStr(int i)
 	{
 		String res = "[";
@@ -235,24 +282,27 @@ public class AsyncSelector implements Runnable {
 			while (sel.isOpen()) {
 				state.waitForStateUninterruptibly(ENABLED_STATE);
 				sel.select(1000);
+				boolean timed = loopTime != Metrics.NOOP_HISTOGRAM;
+				long t0 = timed ? System.nanoTime() : 0;
 				
 				Set<SelectionKey> selectedKeys = sel.selectedKeys();
-				for (SelectionKey key : selectedKeys) 
+				Iterator<SelectionKey> i = selectedKeys.iterator();
+				while (i.hasNext()) {
+					SelectionKey key = i.next();
+					i.remove();
 					try {
+						int iop = key.interestOps();
 						key.interestOps(0);
+						int readyOps = key.readyOps();
+						SelectListener l = (SelectListener) key.attachment();
+						if (l != null) {
+							selectedCount.incrementAndGet();
+							l.onSelected(AsyncSelector.this, key.channel(), readyOps, iop);
+						}
 					} catch(CancelledKeyException e) {/*ignore*/}
-				
-				for (SelectionKey key : selectedKeys) 
-					try {
-						Integer iop = key.interestOps();
-						if (iop==null) continue;
-						int readyOps = key.readyOps() /*| (iop & SelectionKey.OP_WRITE)*/;
-						SelectListener l = map.get(key);
-						if (l != null) l.onSelected(AsyncSelector.this, key.channel(), readyOps, iop);						
-					} catch(CancelledKeyException e) {/*ignore*/}
-					
-				
-				selectedKeys.clear();
+				}
+				if (timed)
+					loopTime.record(System.nanoTime() - t0);
 			}
 			
 		} catch (ClosedSelectorException cse) {
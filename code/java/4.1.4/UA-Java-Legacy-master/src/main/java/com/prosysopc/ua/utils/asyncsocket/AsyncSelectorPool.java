@@ -0,0 +1,109 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package com.prosysopc.ua.utils.asyncsocket;
+
+import java.io.IOException;
+import java.nio.channels.Selector;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A fixed set of {@link AsyncSelector}s, each with its own selector thread.
+ * Connections are spread over the selectors with {@link #next()}, so that
+ * the readiness events of many connections are handled on several cores.
+ * <p>
+ * To close the pool, use {@link #close()}.
+ */
+public class AsyncSelectorPool {
+
+	AsyncSelector[] selectors;
+	/** Round robin position, the first selector to consider */
+	AtomicInteger position = new AtomicInteger();
+
+	/**
+	 * Construct a pool of new selectors.
+	 *
+	 * @param size number of selectors
+	 * @param threadNamePattern name of the selector threads, can include a single %d for the number of the thread
+	 * @throws java.io.IOException if any.
+	 */
+	public AsyncSelectorPool(int size, String threadNamePattern) throws IOException {
+		if (size < 1)
+			throw new IllegalArgumentException("size must be at least 1");
+		selectors = new AsyncSelector[size];
+		try {
+			for (int i=0; i<size; i++)
+				selectors[i] = new AsyncSelector(Selector.open(), String.format(threadNamePattern, i + 1));
+		} catch (IOException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Get the selector for a new connection: the least loaded selector, by
+	 * the number of registered channels. Ties are resolved round robin.
+	 *
+	 * @return a {@link AsyncSelector} object.
+	 */
+	public AsyncSelector next() {
+		int start = (position.getAndIncrement() & Integer.MAX_VALUE) % selectors.length;
+		AsyncSelector result = selectors[start];
+		int min = result.getRegisteredCount();
+		for (int i=1; i<selectors.length && min>0; i++) {
+			AsyncSelector s = selectors[(start + i) % selectors.length];
+			int count = s.getRegisteredCount();
+			if (count < min) {
+				result = s;
+				min = count;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * <p>getSelectors.</p>
+	 *
+	 * @return the selectors of the pool
+	 */
+	public AsyncSelector[] getSelectors() {
+		return selectors.clone();
+	}
+
+	/**
+	 * <p>size.</p>
+	 *
+	 * @return the number of selectors
+	 */
+	public int size() {
+		return selectors.length;
+	}
+
+	/**
+	 * Close the selectors of the pool.
+	 */
+	public void close() {
+		for (AsyncSelector s : selectors)
+			if (s != null)
+				try {
+					s.close();
+				} catch (IOException e) {}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString() {
+		return Arrays.toString(selectors);
+	}
+
+}
@@ -35,6 +35,8 @@ public class AsyncServerSocket extends AbstractState<ServerSocketState, IOExcept
 	ServerSocketChannel c;
 	ListenableServerSocketChannel ls;
 	Executor executor; // Teloittaja
+	/** Selectors of the accepted connections, null for the selector of the server socket */
+	AsyncSelectorPool connectionSelectors;
 	CopyOnWriteArrayList<ConnectListener> listeners = new CopyOnWriteArrayList<ConnectListener>();
 	ServerSocketAcceptable listener = new ServerSocketAcceptable() {
 		@Override
@@ -42,7 +44,8 @@ public class AsyncServerSocket extends AbstractState<ServerSocketState, IOExcept
 			try {
 				SocketChannel chan = socket.getChannel().accept();
 				chan.configureBlocking(false);				
-				AsyncSocketImpl as = new AsyncSocketImpl(chan, executor, ls.getSelectorThread());
+				AsyncSelector sel = connectionSelectors == null ? ls.getSelectorThread() : connectionSelectors.next();
+				AsyncSocketImpl as = new AsyncSocketImpl(chan, executor, sel);
 				fireConnected(as);
 			} catch (ClosedChannelException e) {
 				setState(ServerSocketState.Closed);
@@ -68,6 +71,22 @@ public class AsyncServerSocket extends AbstractState<ServerSocketState, IOExcept
 		this.c = chan;
 	}
 
+	/**
+	 * <p>Constructor for AsyncServerSocket.</p>
+	 *
+	 * @param chan a {@link java.nio.channels.ServerSocketChannel} object.
+	 * @param e a {@link java.util.concurrent.Executor} object.
+	 * @param sel selector of the server socket
+	 * @param connectionSelectors selectors of the accepted connections, or null to use sel
+	 * @throws java.nio.channels.ClosedChannelException if any.
+	 */
+	public AsyncServerSocket(ServerSocketChannel chan, Executor e, AsyncSelector sel, AsyncSelectorPool connectionSelectors) 
+	throws ClosedChannelException
+	{
+		this(chan, e, sel);
+		this.connectionSelectors = connectionSelectors;
+	}
+
     /**
      * <p>Constructor for AsyncServerSocket.</p>
      *
@@ -20,6 +20,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SocketChannel;
 import java.util.Iterator;
+import java.util.TimerTask;
 import java.util.TreeSet;
 import java.util.concurrent.Executor;
 
@@ -29,9 +30,11 @@ import com.prosysopc.ua.utils.IStatefulObject;
 import com.prosysopc.ua.utils.CurrentThreadExecutor;
 import com.prosysopc.ua.utils.StateListener;
 import com.prosysopc.ua.utils.AbstractState;
+import com.prosysopc.ua.utils.TimerUtil;
 import com.prosysopc.ua.utils.asyncsocket.ListenableSocketChannel.ConnectionListener;
 import com.prosysopc.ua.utils.asyncsocket.ListenableSocketChannel.ReadableListener;
 import com.prosysopc.ua.utils.asyncsocket.ListenableSocketChannel.WriteableListener;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferFactory;
 import com.prosysopc.ua.utils.bytebuffer.ByteQueue;
 
 /**
@@ -144,6 +147,24 @@ public class AsyncSocketImpl extends AbstractState<SocketState, IOException> imp
 		return os;
 	}
 	
+	/**
+	 * Coalesce small writes to the output stream. Queued bytes are held until
+	 * at least bytes are queued, or delay milliseconds have passed, so that
+	 * the chunks of concurrent messages are written with one gathering write.
+	 * <p>
+	 * Default: delay 0, which writes at once
+	 *
+	 * @param bytes number of queued bytes that are written at once
+	 * @param delay maximum time in milliseconds to hold queued bytes, 0 to write at once
+	 */
+	public void setWriteCoalescing(int bytes, long delay)
+	{
+		synchronized(os) {
+			os.coalescingBytes = bytes;
+			os.coalescingDelay = delay;
+		}
+	}
+
 	/**
 	 * <p>close.</p>
 	 *
@@ -616,40 +637,88 @@ public class AsyncSocketImpl extends AbstractState<SocketState, IOException> imp
 		
 		ByteQueue q = new ByteQueue(16384);		
 		boolean closed;
+		/** Write when this many bytes are queued, see setWriteCoalescing() */
+		int coalescingBytes;
+		/** Maximum time in milliseconds to hold queued bytes, 0 to write at once */
+		long coalescingDelay;
+		/** Writes the coalesced bytes once the delay has passed */
+		TimerTask coalescingTimer;
+
+		Runnable coalescingRun = new Runnable() {
+			@Override
+			public void run() {
+				synchronized(AsyncSocketOutputStream.this) {
+					coalescingTimer = null;
+					writeToChannel();
+					checkWriteMore();
+				}
+			}};
+
+		/**
+		 * Write the queued bytes, or hold them until enough bytes are queued
+		 * or the coalescing delay has passed.
+		 */
+		private void writeQueued()
+		{
+			if (coalescingDelay>0 && !closed && q.remaining()<coalescingBytes) {
+				if (coalescingTimer==null)
+					coalescingTimer = TimerUtil.schedule(coalescingRun, CurrentThreadExecutor.INSTANCE, System.currentTimeMillis() + coalescingDelay);
+				return;
+			}
+			cancelCoalescing();
+			writeToChannel();
+			checkWriteMore();
+		}
+
+		private void cancelCoalescing()
+		{
+			if (coalescingTimer!=null) {
+				coalescingTimer.cancel();
+				coalescingTimer = null;
+			}
+		}
 		
 		@Override
 		public synchronized void write(int b) throws IOException {
 			q.put((byte)b);
-			writeToChannel();
-			checkWriteMore();
+			writeQueued();
 		}
 		
 		@Override
 		public synchronized void write(byte[] b, int off, int len) throws IOException {
 			q.put(b, off, len);
-			writeToChannel();
-			checkWriteMore();
+			writeQueued();
 		}
 		
 		@Override
 		public synchronized void offer(ByteBuffer buf) {
 			q.offer(buf);
-			writeToChannel();
-			checkWriteMore();
+			writeQueued();
+		}
+
+		@Override
+		public synchronized void offer(ByteBuffer buf, ByteBufferFactory owner) {
+			q.offer(buf, owner);
+			writeQueued();
+		}
+
+		@Override
+		public synchronized void offer(ByteBuffer[] bufs, ByteBufferFactory owner) {
+			for (ByteBuffer buf : bufs)
+				q.offer(buf, owner);
+			writeQueued();
 		}
 
 		@Override
 		public synchronized void write(ByteBuffer src) {
 			q.put(src);
-			writeToChannel();
-			checkWriteMore();
+			writeQueued();
 		}
 
 		@Override
 		public synchronized void write(ByteBuffer src, int length) {
 			q.put(src, length);
-			writeToChannel();
-			checkWriteMore();
+			writeQueued();
 		}		
 
 		private synchronized void checkWriteMore()
@@ -721,6 +790,7 @@ public class AsyncSocketImpl extends AbstractState<SocketState, IOException> imp
 		public synchronized void close() {
 			if (closed) return;
 			closed = true;
+			cancelCoalescing();
 			
 			// Trigger Alarms
 			Iterator<BufferMonitor> i = alarms.iterator();
@@ -744,16 +814,12 @@ public class AsyncSocketImpl extends AbstractState<SocketState, IOException> imp
 		private synchronized void writeToChannel()
 		{
 			// Only one thread goes here at a time due to the impl in ListenableSocketChannel.
-			// Channel is writable		
+			// Channel is writable. The queued buffers are written with gathering writes,
+			// which drop and release the written buffers.
 			while (!q.isEmpty())
 			{				
 				try {				
-					int bytesWritten = chan.write(q.getReadChunk());
-					if (bytesWritten==0) break;
-					if (bytesWritten==-1) {
-						// EOF ??
-						break;
-					}
+					if (q.write(chan)==0) break;
 				} catch (IOException e) {
 					setError(e);
 					break;
@@ -12,6 +12,7 @@
 
 package com.prosysopc.ua.utils.bytebuffer;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -19,130 +20,212 @@ import java.nio.ByteOrder;
 
 /**
  * <p>ByteBufferArrayReadable class.</p>
+ * <p>
+ * Reads the remaining bytes of a sequence of byte buffers, e.g. the
+ * plaintexts of the chunks of a message. Values are read directly from the
+ * current buffer; only a value that spans two buffers is assembled byte by
+ * byte. The buffers are read in place, so their positions are moved and
+ * their byte order is set to the order of this readable, which is 
+ * {@link ByteOrder#LITTLE_ENDIAN} of the OPC UA binary encoding unless it is 
+ * changed with {@link #order(ByteOrder)}. This class is not synchronized.
+ * <p>
+ * Reading past the end of the buffers throws {@link EOFException}.
  *
  * @author Toni Kalajainen (toni.kalajainen@vtt.fi)
  */
 public class ByteBufferArrayReadable implements IBinaryReadable {
 
-	ByteQueue q;
-	
+	ByteBuffer[] bufs;
+	/** Index of the next buffer */
+	int index;
+	/** The buffer being read, null until the first read */
+	ByteBuffer cur;
+	/** Position of cur when it was started */
+	int curStart;
+	/** Number of bytes read from the buffers before cur */
+	long bytesRead;
+	/** Total number of bytes */
+	long limit;
+	ByteOrder order = ByteOrder.LITTLE_ENDIAN;
+
 	/**
 	 * <p>Constructor for ByteBufferArrayReadable.</p>
 	 *
 	 * @param bufs an array of {@link java.nio.ByteBuffer} objects.
 	 */
-	public ByteBufferArrayReadable(ByteBuffer[] bufs) {		
+	public ByteBufferArrayReadable(ByteBuffer[] bufs) {
 		if (bufs == null)
 			throw new IllegalArgumentException("null");
-		q = new ByteQueue();
+		this.bufs = bufs;
 		for (ByteBuffer buf : bufs)
-			q.offer(buf);
-	}	
-	
+			limit += buf.remaining();
+	}
+
 	/**
 	 * <p>Constructor for ByteBufferArrayReadable.</p>
+	 * <p>
+	 * The remaining bytes of q are taken out of the queue.
 	 *
 	 * @param q a {@link ByteQueue} object.
 	 */
-	public ByteBufferArrayReadable(ByteQueue q) {		
-		if (q == null)
-			throw new IllegalArgumentException("null");
-		this.q = q;
-	}		
-	
+	public ByteBufferArrayReadable(ByteQueue q) {
+		this(q == null ? null : q.getChunks((int) q.remaining()));
+		order(q.order());
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public ByteOrder order() {
-		return q.order();
+		return order;
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public void order(ByteOrder order) {
-		q.order(order);
+		this.order = order;
+		if (cur!=null)
+			cur.order(order);
+	}
+
+	/**
+	 * Move to the next buffer with remaining bytes.
+	 */
+	private void nextBuffer() throws EOFException {
+		do {
+			if (index>=bufs.length)
+				throw new EOFException();
+			if (cur!=null)
+				bytesRead += cur.position() - curStart;
+			cur = bufs[index++];
+			curStart = cur.position();
+		} while (!cur.hasRemaining());
+		cur.order(order);
+	}
+
+	private void checkRemaining(long length) throws EOFException {
+		if (length > limit - position())
+			throw new EOFException();
 	}
-	
+
+	/**
+	 * Read a value of length bytes, which spans several buffers.
+	 *
+	 * @return the value in the lowest length bytes
+	 */
+	private long getSpanning(int length) throws EOFException {
+		checkRemaining(length);
+		long value = 0;
+		if (order == ByteOrder.LITTLE_ENDIAN) {
+			for (int i=0; i<length; i++)
+				value |= (get() & 0xffL) << (i*8);
+		} else {
+			for (int i=0; i<length; i++)
+				value = (value << 8) | (get() & 0xffL);
+		}
+		return value;
+	}
+
 	/** {@inheritDoc} */
 	@Override
-	public byte get() throws IOException {
-		return q.getReadChunk().get();
+	public byte get() throws EOFException {
+		if (cur==null || !cur.hasRemaining())
+			nextBuffer();
+		return cur.get();
 	}
 
 	/** {@inheritDoc} */
 	@Override
-	public void get(byte[] dst, int offset, int length) throws IOException {
-		q.get(dst, offset, length);		
+	public void get(byte[] dst, int offset, int length) throws EOFException {
+		checkRemaining(length);
+		while (length>0) {
+			if (cur==null || !cur.hasRemaining())
+				nextBuffer();
+			int n = Math.min(cur.remaining(), length);
+			cur.get(dst, offset, n);
+			offset += n;
+			length -= n;
+		}
 	}
 
 	/** {@inheritDoc} */
 	@Override
-	public void get(byte[] dst) throws IOException {
-		q.get(dst);
+	public void get(byte[] dst) throws EOFException {
+		get(dst, 0, dst.length);
 	}
 
 	/** {@inheritDoc} */
 	@Override
-	public void get(ByteBuffer buf) throws IOException {
-		q.get(buf);
+	public void get(ByteBuffer buf) throws EOFException {
+		get(buf, buf.remaining());
 	}
 
 	/** {@inheritDoc} */
 	@Override
-	public void get(ByteBuffer buf, int length) throws IOException {
-		q.get(buf, length);
+	public void get(ByteBuffer buf, int length) throws EOFException {
+		checkRemaining(length);
+		while (length>0) {
+			if (cur==null || !cur.hasRemaining())
+				nextBuffer();
+			int n = Math.min(cur.remaining(), length);
+			int curLimit = cur.limit();
+			cur.limit(cur.position() + n);
+			buf.put(cur);
+			cur.limit(curLimit);
+			length -= n;
+		}
 	}
 
 	/** {@inheritDoc} */
 	@Override
-	public double getDouble() throws IOException {
-		if (q.getReadChunk().remaining()>=8)
-			return q.getReadChunk().getDouble();
-		return q.get(8).getDouble();
+	public double getDouble() throws EOFException {
+		if (cur!=null && cur.remaining()>=8)
+			return cur.getDouble();
+		return Double.longBitsToDouble(getSpanning(8));
 	}
 
 	/** {@inheritDoc} */
 	@Override
-	public float getFloat() throws IOException {
-		if (q.getReadChunk().remaining()>=4)
-			return q.getReadChunk().getFloat();
-		return q.get(4).getFloat();
+	public float getFloat() throws EOFException {
+		if (cur!=null && cur.remaining()>=4)
+			return cur.getFloat();
+		return Float.intBitsToFloat((int) getSpanning(4));
 	}
 
 	/** {@inheritDoc} */
 	@Override
-	public int getInt() throws IOException {
-		if (q.getReadChunk().remaining()>=4)
-			return q.getReadChunk().getInt();
-		return q.get(4).getInt();
+	public int getInt() throws EOFException {
+		if (cur!=null && cur.remaining()>=4)
+			return cur.getInt();
+		return (int) getSpanning(4);
 	}
 
 	/** {@inheritDoc} */
 	@Override
-	public long getLong() throws IOException {
-		if (q.getReadChunk().remaining()>=8)
-			return q.getReadChunk().getLong();
-		return q.get(8).getLong();
+	public long getLong() throws EOFException {
+		if (cur!=null && cur.remaining()>=8)
+			return cur.getLong();
+		return getSpanning(8);
 	}
 
 	/** {@inheritDoc} */
 	@Override
-	public short getShort() throws IOException {
-		if (q.getReadChunk().remaining()>=2)
-			return q.getReadChunk().getShort();
-		return q.get(2).getShort();
+	public short getShort() throws EOFException {
+		if (cur!=null && cur.remaining()>=2)
+			return cur.getShort();
+		return (short) getSpanning(2);
 	}
 
 
 	/** {@inheritDoc} */
 	@Override
 	public long limit() {
-		return q.getBytesWritten();
+		return limit;
 	}
 
 	/** {@inheritDoc} */
 	@Override
 	public long position() {
-		return q.getBytesRead();
+		return cur==null ? 0 : bytesRead + cur.position() - curStart;
 	}
 
 
@@ -59,4 +59,13 @@ public abstract class ByteBufferFactory {
 	 */
 	public abstract ByteBuffer allocate(int capacity);
 	
+	/**
+	 * Hand a buffer allocated with {@link #allocate(int)} back to the factory,
+	 * when it is no longer used. The default implementation does nothing.
+	 *
+	 * @param buf a {@link java.nio.ByteBuffer} object.
+	 */
+	public void release(ByteBuffer buf) {
+	}
+	
 }
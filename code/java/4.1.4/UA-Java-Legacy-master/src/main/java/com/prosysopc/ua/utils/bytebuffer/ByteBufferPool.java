@@ -0,0 +1,402 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package com.prosysopc.ua.utils.bytebuffer;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of reusable byte buffers.
+ * <p>
+ * Buffers are pooled in size classes of powers of two between minimum and
+ * maximum size. {@link #allocate(int)} returns a buffer whose capacity is the
+ * size class of the request, limit is the requested size and position is 0.
+ * The content of a recycled buffer is not cleared. Requests larger than the
+ * maximum size are allocated without pooling.
+ * <p>
+ * Buffers are handed back with {@link #release(ByteBuffer)} when they are no
+ * longer used. A heap buffer may be released with any buffer that shares its
+ * backing array (e.g. a slice), a direct buffer must be released with the
+ * buffer returned by allocate(). A buffer must not be used after it has been
+ * released, nor released twice. Buffers that are not released are simply
+ * garbage collected.
+ * <p>
+ * If leak detection is enabled, the pool records the allocation stack of each
+ * outstanding buffer. Releasing a buffer that is not outstanding is then
+ * ignored and logged, and the outstanding allocations can be listed with
+ * {@link #getOutstandingAllocations()}. Leak detection is expensive and is
+ * intended for testing.
+ * <p>
+ * The pool is thread-safe.
+ */
+public class ByteBufferPool extends ByteBufferFactory {
+
+	static Logger logger = LoggerFactory.getLogger(ByteBufferPool.class);
+
+	/** Default size of the smallest size class */
+	public static final int DEFAULT_MIN_SIZE = 1024;
+	/** Default size of the largest size class */
+	public static final int DEFAULT_MAX_SIZE = 1024 * 1024;
+	/** Default number of bytes to keep in the pool per size class */
+	public static final int DEFAULT_MAX_BYTES_PER_CLASS = 4 * 1024 * 1024;
+
+	private static final ByteBufferPool DEFAULT = new ByteBufferPool(false, DEFAULT_MIN_SIZE, DEFAULT_MAX_SIZE, DEFAULT_MAX_BYTES_PER_CLASS);
+
+	/**
+	 * Get the default pool. The default pool allocates heap buffers, whose
+	 * backing arrays are available with {@link ByteBuffer#array()}.
+	 *
+	 * @return the default heap buffer pool
+	 */
+	public static ByteBufferPool getDefault() {
+		return DEFAULT;
+	}
+
+	final boolean direct;
+	final int minShift;
+	final int maxShift;
+	final ConcurrentLinkedQueue<ByteBuffer>[] pools;
+	final AtomicInteger[] pooledCounts;
+	final int[] maxPooledCounts;
+
+	final AtomicLong hitCount = new AtomicLong();
+	final AtomicLong missCount = new AtomicLong();
+	final AtomicLong unpooledCount = new AtomicLong();
+	final AtomicLong releaseCount = new AtomicLong();
+	final AtomicLong discardCount = new AtomicLong();
+	final AtomicLong outstandingCount = new AtomicLong();
+
+	volatile boolean leakDetection;
+	final Map<Object, Throwable> outstanding = Collections.synchronizedMap(new IdentityHashMap<Object, Throwable>());
+	/** The pooled buffers that have been allocated and not released, weakly by identity */
+	final Map<IdentityKey, Boolean> lent = new ConcurrentHashMap<IdentityKey, Boolean>();
+	final ReferenceQueue<Object> collected = new ReferenceQueue<Object>();
+
+	/**
+	 * <p>Constructor for ByteBufferPool.</p>
+	 *
+	 * @param direct true to allocate direct buffers, false to allocate heap buffers
+	 * @param minSize size of the smallest size class, rounded up to a power of two
+	 * @param maxSize size of the largest size class, rounded up to a power of two
+	 * @param maxBytesPerClass max number of bytes to keep in the pool for each size class.
+	 *        At least one buffer of each class is kept.
+	 */
+	@SuppressWarnings("unchecked")
+	public ByteBufferPool(boolean direct, int minSize, int maxSize, int maxBytesPerClass) {
+		if (minSize<1 || maxSize<minSize || maxSize>(1<<30))
+			throw new IllegalArgumentException("Invalid size classes: minSize="+minSize+", maxSize="+maxSize);
+		this.direct = direct;
+		this.minShift = shiftOf(minSize);
+		this.maxShift = shiftOf(maxSize);
+		int classes = maxShift - minShift + 1;
+		pools = new ConcurrentLinkedQueue[classes];
+		pooledCounts = new AtomicInteger[classes];
+		maxPooledCounts = new int[classes];
+		for (int i=0; i<classes; i++) {
+			pools[i] = new ConcurrentLinkedQueue<ByteBuffer>();
+			pooledCounts[i] = new AtomicInteger();
+			maxPooledCounts[i] = Math.max(1, maxBytesPerClass >> (minShift + i));
+		}
+	}
+
+	/**
+	 * The exponent of the smallest power of two that is &gt;= size
+	 */
+	private static int shiftOf(int size) {
+		return size<=1 ? 0 : 32 - Integer.numberOfLeadingZeros(size - 1);
+	}
+
+	/**
+	 * Get the size class index for an allocation request
+	 *
+	 * @return index or -1 if the size is not pooled
+	 */
+	private int classIndexOf(int size) {
+		int shift = Math.max(shiftOf(size), minShift);
+		return shift > maxShift ? -1 : shift - minShift;
+	}
+
+	/**
+	 * Get the size class index of a buffer capacity
+	 *
+	 * @return index or -1 if the capacity is not exactly a size class
+	 */
+	private int classIndexOfCapacity(int capacity) {
+		int i = classIndexOf(capacity);
+		return (i>=0 && capacity == (1 << (minShift + i))) ? i : -1;
+	}
+
+	private ByteBuffer newBuffer(int capacity) {
+		return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Allocate a buffer from the pool. The capacity of the result may be larger
+	 * than requested, but its limit is the requested capacity.
+	 */
+	@Override
+	public ByteBuffer allocate(int capacity) {
+		if (capacity<0)
+			throw new IllegalArgumentException("capacity < 0");
+		int index = classIndexOf(capacity);
+		if (index<0) {
+			unpooledCount.incrementAndGet();
+			return newBuffer(capacity);
+		}
+
+		ByteBuffer result = pools[index].poll();
+		if (result!=null) {
+			pooledCounts[index].decrementAndGet();
+			hitCount.incrementAndGet();
+			result.clear();
+		} else {
+			missCount.incrementAndGet();
+			result = newBuffer(1 << (minShift + index));
+		}
+		Reference<?> ref;
+		while ((ref = collected.poll()) != null)
+			lent.remove(ref);
+		lent.put(new IdentityKey(keyOf(result), collected), Boolean.TRUE);
+		outstandingCount.incrementAndGet();
+		if (leakDetection)
+			outstanding.put(keyOf(result), new Throwable("Buffer of "+capacity+" bytes allocated here"));
+
+		result.limit(capacity);
+		result.order(ByteOrder.BIG_ENDIAN);
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Return a buffer to the pool. Buffers that have not been allocated from
+	 * this pool, that have already been released or that do not fit in the
+	 * pool are discarded.
+	 */
+	@Override
+	public void release(ByteBuffer buf) {
+		if (buf==null) return;
+		ByteBuffer root;
+		if (direct) {
+			if (!buf.isDirect()) {
+				discardCount.incrementAndGet();
+				return;
+			}
+			root = buf;
+		} else {
+			if (!buf.hasArray()) {
+				discardCount.incrementAndGet();
+				return;
+			}
+			root = ByteBuffer.wrap(buf.array());
+		}
+		int index = classIndexOfCapacity(root.capacity());
+		if (index<0) {
+			discardCount.incrementAndGet();
+			return;
+		}
+
+		// A buffer that is released twice or that has not been allocated 
+		// from this pool must not be handed to a second owner
+		if (lent.remove(new IdentityKey(keyOf(root), null))==null) {
+			discardCount.incrementAndGet();
+			if (leakDetection)
+				logger.warn("Released a buffer that is not outstanding (released twice or not allocated from this pool)", new Throwable());
+			return;
+		}
+		if (leakDetection)
+			outstanding.remove(keyOf(root));
+		outstandingCount.decrementAndGet();
+
+		if (pooledCounts[index].incrementAndGet() > maxPooledCounts[index]) {
+			pooledCounts[index].decrementAndGet();
+			discardCount.incrementAndGet();
+			return;
+		}
+		releaseCount.incrementAndGet();
+		pools[index].offer(root);
+	}
+
+	private Object keyOf(ByteBuffer buf) {
+		return buf.hasArray() ? buf.array() : buf;
+	}
+
+	/**
+	 * Weak key that compares the referent by identity. A key whose referent
+	 * has been collected equals only itself, so that it can be removed.
+	 */
+	static final class IdentityKey extends WeakReference<Object> {
+		final int hash;
+		IdentityKey(Object o, ReferenceQueue<Object> q) {
+			super(o, q);
+			hash = System.identityHashCode(o);
+		}
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this)
+				return true;
+			if (!(obj instanceof IdentityKey))
+				return false;
+			Object o = get();
+			return o != null && o == ((IdentityKey) obj).get();
+		}
+	}
+
+	/**
+	 * Clear all pooled buffers.
+	 */
+	public void clear() {
+		for (int i=0; i<pools.length; i++) {
+			while (pools[i].poll()!=null)
+				pooledCounts[i].decrementAndGet();
+		}
+	}
+
+	/**
+	 * <p>isDirect.</p>
+	 *
+	 * @return true if the pool allocates direct buffers
+	 */
+	public boolean isDirect() {
+		return direct;
+	}
+
+	/**
+	 * <p>isLeakDetection.</p>
+	 *
+	 * @return true if leak detection is enabled
+	 */
+	public boolean isLeakDetection() {
+		return leakDetection;
+	}
+
+	/**
+	 * Enable or disable leak detection. Only the buffers allocated while leak
+	 * detection is enabled are tracked.
+	 *
+	 * @param leakDetection true to record the allocation stack of outstanding buffers
+	 */
+	public void setLeakDetection(boolean leakDetection) {
+		this.leakDetection = leakDetection;
+		if (!leakDetection)
+			outstanding.clear();
+	}
+
+	/**
+	 * Get the allocation stacks of the buffers that have been allocated but
+	 * not released while leak detection has been enabled.
+	 *
+	 * @return allocation stacks of outstanding buffers
+	 */
+	public List<Throwable> getOutstandingAllocations() {
+		synchronized(outstanding) {
+			return new ArrayList<Throwable>(outstanding.values());
+		}
+	}
+
+	/**
+	 * Get the number of allocations that were served with a pooled buffer
+	 *
+	 * @return hit count
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Get the number of allocations that required a new buffer
+	 *
+	 * @return miss count
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Get the number of allocations that were too large to be pooled
+	 *
+	 * @return unpooled allocation count
+	 */
+	public long getUnpooledCount() {
+		return unpooledCount.get();
+	}
+
+	/**
+	 * Get the number of buffers returned to the pool
+	 *
+	 * @return release count
+	 */
+	public long getReleaseCount() {
+		return releaseCount.get();
+	}
+
+	/**
+	 * Get the number of released buffers that were discarded, because they
+	 * did not belong to the pool or the pool was full
+	 *
+	 * @return discard count
+	 */
+	public long getDiscardCount() {
+		return discardCount.get();
+	}
+
+	/**
+	 * Get the number of pooled buffers that have been allocated but not released
+	 *
+	 * @return outstanding buffer count
+	 */
+	public long getOutstandingCount() {
+		return outstandingCount.get();
+	}
+
+	/**
+	 * Get the number of buffers currently available in the pool
+	 *
+	 * @return pooled buffer count
+	 */
+	public int getPooledCount() {
+		int result = 0;
+		for (AtomicInteger c : pooledCounts)
+			result += c.get();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString() {
+		return "ByteBufferPool (direct="+direct+", hits="+getHitCount()+", misses="+getMissCount()+", unpooled="+getUnpooledCount()+
+				", released="+getReleaseCount()+", discarded="+getDiscardCount()+", outstanding="+getOutstandingCount()+", pooled="+getPooledCount()+")";
+	}
+
+}
@@ -12,12 +12,16 @@
 
 package com.prosysopc.ua.utils.bytebuffer;
 
+import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Map;
 
 /**
  * Byte Queue is a LIFO queue of bytes. It uses {@link ByteBuffer}s
@@ -34,6 +38,8 @@ public class ByteQueue {
 	// Memory chunk size
 	private final static ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
 	private final static ByteBuffer[] EMPTY_BUFFERS = new ByteBuffer[0];
+	// Maximum number of buffers in one gathering write
+	private final static int MAX_GATHER = 64;
 	
 	ByteBufferFactory factory = ByteBufferFactory.LITTLE_ENDIAN_HEAP_BYTEBUFFER_FACTORY;
 	int chunkSize = 4096;	
@@ -48,6 +54,10 @@ public class ByteQueue {
 	ByteBuffer writeChunk;
 	// Active read chunk
 	ByteBuffer readChunk;
+	// Owners of offered buffers, see offer(ByteBuffer, ByteBufferFactory)
+	Map<ByteBuffer, ByteBufferFactory> owners;
+	// Buffers of a gathering write, see write(GatheringByteChannel)
+	ByteBuffer[] gather;
 	
 	// The structure of the buffer is the following:
 	// [readChunk or null] [list = ByteBuffer, ByteBuffer, ByteBuffer, ...] [writeChunk or null]
@@ -169,6 +179,54 @@ public class ByteQueue {
 		list.addLast(buf);
 	}
 	
+	/**
+	 * Offers a byte buffer object for the queue.
+	 * The remaining bytes of buf are added to the queue.
+	 * <p>
+	 * buf is released to the owner when all of its bytes have been read
+	 * and the queue moves to the next chunk. If the bytes of buf are
+	 * exposed with {@link #getChunks(int)}, {@link #get(int)},
+	 * {@link #peekChunks(int)} or {@link #peek(int)}, the buffer is not
+	 * released.
+	 *
+	 * @param buf buffer to write
+	 * @param owner factory that buf is released to
+	 * @throws java.nio.BufferOverflowException write limit exeeded
+	 */
+	public void offer(ByteBuffer buf, ByteBufferFactory owner)
+			throws BufferOverflowException
+	{
+		offer(buf);
+		if (owner==null) return;
+		if (!buf.hasRemaining()) {
+			owner.release(buf);
+			return;
+		}
+		if (owners==null)
+			owners = new IdentityHashMap<ByteBuffer, ByteBufferFactory>();
+		owners.put(buf, owner);
+	}
+	
+	/**
+	 * Release an exhausted buffer to its owner
+	 */
+	private void release(ByteBuffer buf)
+	{
+		if (owners==null || owners.isEmpty()) return;
+		ByteBufferFactory owner = owners.remove(buf);
+		if (owner!=null)
+			owner.release(buf);
+	}
+	
+	/**
+	 * Forget the owner of a buffer whose content is exposed
+	 */
+	private void disown(ByteBuffer buf)
+	{
+		if (owners==null || owners.isEmpty()) return;
+		owners.remove(buf);
+	}
+	
 	/**
 	 * Read from buf
 	 *
@@ -312,6 +370,7 @@ public class ByteQueue {
 		ByteBuffer readChunk_ = getReadChunk();
 		
 		while (readChunk_!=null && len>0) {
+			disown(readChunk_);
 			if (len<readChunk_.remaining()) {
 				ByteBuffer buf = readChunk.slice();
 				buf.order(order);
@@ -500,6 +559,7 @@ public class ByteQueue {
 		int index = 0;
 		
 		if (readChunk!=null) {
+			disown(readChunk);
 			ByteBuffer buf = readChunk.slice();
 			assert(buf.position()==0);
 			buf.order(order);
@@ -515,7 +575,9 @@ public class ByteQueue {
 		if (!list.isEmpty() && remaining>0) {
 			Iterator<ByteBuffer> i = list.iterator();
 			while(remaining>0 && i.hasNext()) {
-				ByteBuffer buf = i.next().slice();
+				ByteBuffer src = i.next();
+				disown(src);
+				ByteBuffer buf = src.slice();
 				assert(buf.position()==0);
 				buf.order(order);
 				if (remaining<buf.remaining()) {
@@ -639,6 +701,7 @@ public class ByteQueue {
 		list.clear();
 		writeChunk = null;
 		readChunk = null;
+		owners = null;
 	}
 	
 	/**
@@ -650,6 +713,7 @@ public class ByteQueue {
 		list.clear();
 		writeChunk = null;
 		readChunk = null;		
+		owners = null;
 	}
 	
 	/**
@@ -682,6 +746,7 @@ public class ByteQueue {
 		// Dump exhausted read chunk
 		if (readChunk!=null && !readChunk.hasRemaining()) {
 			bytesRead += readChunk.position();
+			release(readChunk);
 			readChunk = null;
 		}
 		
@@ -701,6 +766,49 @@ public class ByteQueue {
 		return null;
 	}
 	
+	/**
+	 * Write readable bytes to a channel with one gathering write. The
+	 * buffers of the queue are written as such, no memory is copied. Written
+	 * buffers are dropped from the queue, and released if they have an owner.
+	 *
+	 * @param channel channel to write to
+	 * @return the number of bytes written, possibly 0
+	 * @throws java.io.IOException if the write fails
+	 */
+	public long write(GatheringByteChannel channel)
+	throws IOException
+	{
+		flushWriteChunk();
+		int count = Math.min(MAX_GATHER, (readChunk==null ? 0 : 1) + list.size());
+		if (count==0) return 0;
+		if (gather==null)
+			gather = new ByteBuffer[MAX_GATHER];
+		int index = 0;
+		if (readChunk!=null)
+			gather[index++] = readChunk;
+		Iterator<ByteBuffer> i = list.iterator();
+		while (index<count)
+			gather[index++] = i.next();
+
+		long readBefore = getBytesRead();
+		long n;
+		try {
+			n = channel.write(gather, 0, count);
+		} finally {
+			for (index=0; index<count; index++)
+				gather[index] = null;
+		}
+		if (n<=0) return 0;
+		// The position of readChunk is counted in getBytesRead(), the buffers in list are not
+		bytesRead += n - (getBytesRead() - readBefore);
+
+		// Drop the written buffers, each buffer in list keeps its position
+		ByteBuffer head = getReadChunk();
+		while (head!=null && !head.hasRemaining())
+			head = getReadChunk();
+		return n;
+	}
+
 	/**
 	 * Exposes internal bytebuffer of this object. Writing to this bytebuffer
 	 * moves the pointer in this bytequeue aswell.
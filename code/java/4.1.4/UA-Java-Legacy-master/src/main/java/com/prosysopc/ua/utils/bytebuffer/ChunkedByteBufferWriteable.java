@@ -0,0 +1,290 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package com.prosysopc.ua.utils.bytebuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.prosysopc.ua.utils.EncodingLimitsExceededIoException;
+
+/**
+ * IBinaryWriteable that writes directly into chunks allocated from a
+ * {@link ByteBufferFactory} as the data is written. The total length does not
+ * need to be known in advance, so the data can be encoded in a single pass.
+ * <p>
+ * Each chunk is allocated with <code>factory.allocate(chunkSize)</code> and
+ * the writable portion (position -&gt; limit) of the returned buffer is filled.
+ * When writing is finished, {@link #getChunks()} shrinks the last chunk to
+ * the number of bytes actually written to it by allocating a new buffer of
+ * that size from the factory.
+ * <p>
+ * Optional limits for the total length and the chunk count are checked while
+ * writing. If either is exceeded, the chunks are released to the factory,
+ * {@link EncodingLimitsExceededIoException} is thrown and
+ * {@link #isLimitExceeded()} returns true.
+ */
+public class ChunkedByteBufferWriteable implements IBinaryWriteable {
+
+	ByteBufferFactory factory;
+	int chunkSize;
+	int maxLength;
+	int maxChunkCount;
+	List<ByteBuffer> chunks = new ArrayList<ByteBuffer>();
+	ByteBuffer cur;
+	ByteOrder order = ByteOrder.LITTLE_ENDIAN;
+	int length;
+	boolean limitExceeded;
+
+	/**
+	 * <p>Constructor for ChunkedByteBufferWriteable.</p>
+	 *
+	 * @param factory factory that allocates the chunks
+	 * @param chunkSize the size requested for each chunk
+	 * @param maxLength max number of bytes that may be written, 0 = no limit
+	 * @param maxChunkCount max number of chunks that may be allocated, 0 = no limit
+	 */
+	public ChunkedByteBufferWriteable(ByteBufferFactory factory, int chunkSize, int maxLength, int maxChunkCount) {
+		if (factory==null)
+			throw new IllegalArgumentException("null arg");
+		if (chunkSize<=0)
+			throw new IllegalArgumentException("chunkSize must be positive");
+		this.factory = factory;
+		this.chunkSize = chunkSize;
+		this.maxLength = maxLength;
+		this.maxChunkCount = maxChunkCount;
+	}
+
+	/**
+	 * Get the number of bytes written so far
+	 *
+	 * @return number of bytes written
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	/**
+	 * Get the number of chunks allocated so far
+	 *
+	 * @return chunk count
+	 */
+	public int getChunkCount() {
+		return chunks.size();
+	}
+
+	/**
+	 * <p>isLimitExceeded.</p>
+	 *
+	 * @return true if writing was aborted because maxLength or maxChunkCount was exceeded
+	 */
+	public boolean isLimitExceeded() {
+		return limitExceeded;
+	}
+
+	/**
+	 * Finish writing and get the chunks. The last chunk is replaced with a
+	 * chunk that is allocated for the exact number of bytes written to it.
+	 * The writable portions of the returned chunks are completely filled.
+	 *
+	 * @return an array of {@link java.nio.ByteBuffer} objects.
+	 */
+	public ByteBuffer[] getChunks() {
+		if (chunks.isEmpty())
+			chunks.add(allocateChunk(0));
+		ByteBuffer last = chunks.get(chunks.size()-1);
+		if (last.hasRemaining()) {
+			last.flip();
+			ByteBuffer trimmed = allocateChunk(last.remaining());
+			trimmed.put(last);
+			chunks.set(chunks.size()-1, trimmed);
+			factory.release(last);
+			cur = trimmed;
+		}
+		return chunks.toArray(new ByteBuffer[chunks.size()]);
+	}
+
+	private ByteBuffer allocateChunk(int size) {
+		ByteBuffer chunk = factory.allocate(size);
+		chunk.order(order);
+		return chunk;
+	}
+
+	private EncodingLimitsExceededIoException limitExceeded(String message) {
+		limitExceeded = true;
+		// The chunks are of no use, hand them back to the factory
+		for (ByteBuffer chunk : chunks)
+			factory.release(chunk);
+		chunks.clear();
+		cur = null;
+		return new EncodingLimitsExceededIoException(message);
+	}
+
+	/**
+	 * Reserve <code>n</code> bytes of the total length and make sure there
+	 * is a chunk with free space available.
+	 */
+	private void prepare(int n) throws IOException {
+		if (maxLength>0 && length+n>maxLength)
+			throw limitExceeded("Message size "+(length+n)+" exceeds the limit "+maxLength);
+		length += n;
+		nextChunk();
+	}
+
+	private void nextChunk() throws IOException {
+		if (cur!=null && cur.hasRemaining())
+			return;
+		if (maxChunkCount>0 && chunks.size()>=maxChunkCount)
+			throw limitExceeded("Chunk count exceeds the limit "+maxChunkCount);
+		cur = allocateChunk(chunkSize);
+		if (!cur.hasRemaining())
+			throw new IllegalStateException("Allocated chunk has no writable space");
+		chunks.add(cur);
+	}
+
+	private void _put(int value) throws IOException {
+		nextChunk();
+		cur.put((byte)value);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ByteOrder order() {
+		return order;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void order(ByteOrder order) {
+		this.order = order;
+		if (cur!=null)
+			cur.order(order);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void put(byte b) throws IOException {
+		prepare(1);
+		cur.put(b);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void put(ByteBuffer src) throws IOException {
+		put(src, src.remaining());
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void put(ByteBuffer src, int length) throws IOException {
+		if (maxLength>0 && this.length+length>maxLength)
+			throw limitExceeded("Message size "+(this.length+length)+" exceeds the limit "+maxLength);
+		this.length += length;
+		while (length>0) {
+			nextChunk();
+			int n = Math.min(length, cur.remaining());
+			ByteBufferUtils.copy(src, cur, n);
+			length -= n;
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void put(byte[] src, int offset, int length) throws IOException {
+		if (maxLength>0 && this.length+length>maxLength)
+			throw limitExceeded("Message size "+(this.length+length)+" exceeds the limit "+maxLength);
+		this.length += length;
+		while (length>0) {
+			nextChunk();
+			int n = Math.min(length, cur.remaining());
+			cur.put(src, offset, n);
+			offset += n;
+			length -= n;
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void put(byte[] src) throws IOException {
+		put(src, 0, src.length);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void putDouble(double value) throws IOException {
+		putLong(Double.doubleToLongBits(value));
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void putFloat(float value) throws IOException {
+		putInt(Float.floatToIntBits(value));
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void putShort(short value) throws IOException {
+		prepare(2);
+		if (cur.remaining()>=2) {
+			cur.putShort(value);
+		} else if (order == ByteOrder.BIG_ENDIAN) {
+			_put(value >> 8);
+			_put(value);
+		} else {
+			_put(value);
+			_put(value >> 8);
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void putInt(int value) throws IOException {
+		prepare(4);
+		if (cur.remaining()>=4) {
+			cur.putInt(value);
+		} else if (order == ByteOrder.BIG_ENDIAN) {
+			_put(value >> 24);
+			_put(value >> 16);
+			_put(value >> 8);
+			_put(value);
+		} else {
+			_put(value);
+			_put(value >> 8);
+			_put(value >> 16);
+			_put(value >> 24);
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void putLong(long value) throws IOException {
+		prepare(8);
+		if (cur.remaining()>=8) {
+			cur.putLong(value);
+		} else if (order == ByteOrder.BIG_ENDIAN) {
+			for (int shift=56; shift>=0; shift-=8)
+				_put((int) (value >> shift));
+		} else {
+			for (int shift=0; shift<64; shift+=8)
+				_put((int) (value >> shift));
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void flush() {
+	}
+
+}
@@ -15,6 +15,7 @@ package com.prosysopc.ua.utils.bytebuffer;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
@@ -92,8 +93,7 @@ public class InputStreamReadable implements IBinaryReadable {
 	public void get(ByteBuffer buf) 
     throws IOException	
 	{		
-		for (;buf.hasRemaining();)
-			buf.put((byte)_get());		
+		get(buf, buf.remaining());
 	}
 
 	/** {@inheritDoc} */
@@ -101,7 +101,12 @@ public class InputStreamReadable implements IBinaryReadable {
 	public void get(ByteBuffer buf, int length) 
     throws IOException	
 	{
-		if (length<256) {
+		if (buf.hasArray()) {
+			// Read directly to the backing array
+			if (length>buf.remaining()) throw new BufferOverflowException();
+			get(buf.array(), buf.arrayOffset()+buf.position(), length);
+			buf.position(buf.position()+length);
+		} else if (length<256) {
 			for (int i=0; i<length; i++)
 				buf.put((byte)_get());
 		} else {
@@ -0,0 +1,122 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.utils.metrics;
+
+/**
+ * The metrics of a connection or an endpoint, resolved once so that
+ * measuring does not look up the registry. Durations are in nanoseconds.
+ * <p>
+ * The names are the prefix followed by <code>.chunksIn</code>,
+ * <code>.chunksOut</code>, <code>.bytesIn</code>, <code>.bytesOut</code>,
+ * <code>.messagesDecoded</code>, <code>.messagesEncoded</code>,
+ * <code>.tokenRenewals</code>, <code>.decodeTime</code>,
+ * <code>.encodeTime</code> and <code>.cryptoTime</code>.
+ */
+public class ChannelMetrics {
+
+	/**
+	 * Metrics that discard everything
+	 */
+	public static final ChannelMetrics NOOP = new ChannelMetrics(Metrics.NOOP, "");
+
+	final MetricsRegistry registry;
+	final String prefix;
+
+	/** True if the registry is enabled, otherwise nothing needs to be measured */
+	public final boolean enabled;
+
+	public final Counter chunksIn;
+	public final Counter chunksOut;
+	public final Counter bytesIn;
+	public final Counter bytesOut;
+	public final Counter messagesDecoded;
+	public final Counter messagesEncoded;
+	public final Counter tokenRenewals;
+	public final Histogram decodeTime;
+	public final Histogram encodeTime;
+	public final Histogram cryptoTime;
+
+	private ChannelMetrics(MetricsRegistry registry, String prefix) {
+		this.registry = registry;
+		this.prefix = prefix;
+		enabled = registry.isEnabled();
+		chunksIn = registry.counter(prefix + ".chunksIn");
+		chunksOut = registry.counter(prefix + ".chunksOut");
+		bytesIn = registry.counter(prefix + ".bytesIn");
+		bytesOut = registry.counter(prefix + ".bytesOut");
+		messagesDecoded = registry.counter(prefix + ".messagesDecoded");
+		messagesEncoded = registry.counter(prefix + ".messagesEncoded");
+		tokenRenewals = registry.counter(prefix + ".tokenRenewals");
+		decodeTime = registry.histogram(prefix + ".decodeTime");
+		encodeTime = registry.histogram(prefix + ".encodeTime");
+		cryptoTime = registry.histogram(prefix + ".cryptoTime");
+	}
+
+	/**
+	 * Get the metrics from the registry of the stack.
+	 *
+	 * @param prefix the name of the connection or endpoint
+	 * @return the metrics, {@link #NOOP} if the registry is disabled
+	 */
+	public static ChannelMetrics get(String prefix) {
+		MetricsRegistry registry = Metrics.getRegistry();
+		if (!registry.isEnabled())
+			return NOOP;
+		return new ChannelMetrics(registry, prefix);
+	}
+
+	/**
+	 * @return the name of the connection or endpoint
+	 */
+	public String getPrefix() {
+		return prefix;
+	}
+
+	/**
+	 * Add a gauge of the connection or endpoint.
+	 *
+	 * @param name name of the gauge after the prefix
+	 * @param gauge the gauge
+	 */
+	public void gauge(String name, Gauge gauge) {
+		if (enabled)
+			registry.gauge(prefix + "." + name, gauge);
+	}
+
+	/**
+	 * @return the start time of a measurement, 0 if disabled
+	 */
+	public long start() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Record the time since {@link #start()}.
+	 *
+	 * @param histogram the histogram
+	 * @param start the start time
+	 */
+	public void stop(Histogram histogram, long start) {
+		if (enabled)
+			histogram.record(System.nanoTime() - start);
+	}
+
+	/**
+	 * Remove the metrics from the registry, when the connection is closed.
+	 */
+	public void remove() {
+		if (enabled)
+			registry.remove(prefix);
+	}
+
+}
@@ -0,0 +1,37 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.utils.metrics;
+
+/**
+ * A monotonically increasing count, e.g. number of bytes received.
+ */
+public interface Counter {
+
+	/**
+	 * Add one to the count
+	 */
+	void inc();
+
+	/**
+	 * Add to the count
+	 *
+	 * @param n the amount to add
+	 */
+	void add(long n);
+
+	/**
+	 * @return the count
+	 */
+	long getCount();
+
+}
@@ -0,0 +1,180 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.utils.metrics;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Metrics registry that keeps the metrics in memory.
+ * <p>
+ * Counters and histograms are lock-free. A histogram counts the values in
+ * buckets of powers of two, so percentiles are estimated within a factor
+ * of two.
+ */
+public class DefaultMetricsRegistry implements MetricsRegistry {
+
+	static class AtomicCounter extends AtomicLong implements Counter {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public void inc() {
+			incrementAndGet();
+		}
+
+		@Override
+		public void add(long n) {
+			addAndGet(n);
+		}
+
+		@Override
+		public long getCount() {
+			return get();
+		}
+
+		@Override
+		public String toString() {
+			return Long.toString(get());
+		}
+	}
+
+	static class Log2Histogram implements Histogram {
+		/** Bucket i counts values below 2^i, and not below 2^(i-1) */
+		final AtomicLongArray buckets = new AtomicLongArray(64);
+		final AtomicLong count = new AtomicLong();
+		final AtomicLong sum = new AtomicLong();
+		final AtomicLong max = new AtomicLong();
+
+		@Override
+		public void record(long value) {
+			if (value < 0)
+				value = 0;
+			buckets.incrementAndGet(Math.min(63, 64 - Long.numberOfLeadingZeros(value)));
+			count.incrementAndGet();
+			sum.addAndGet(value);
+			long m;
+			while (value > (m = max.get()) && !max.compareAndSet(m, value))
+				;
+		}
+
+		@Override
+		public long getCount() {
+			return count.get();
+		}
+
+		@Override
+		public long getSum() {
+			return sum.get();
+		}
+
+		@Override
+		public long getMax() {
+			return max.get();
+		}
+
+		@Override
+		public long getPercentile(double percentile) {
+			long total = 0;
+			for (int i = 0; i < 64; i++)
+				total += buckets.get(i);
+			if (total == 0)
+				return 0;
+			long rank = (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100);
+			long n = 0;
+			for (int i = 0; i < 64; i++) {
+				n += buckets.get(i);
+				if (n >= rank && n > 0)
+					return Math.min(i == 0 ? 0 : (1L << i) - 1, getMax());
+			}
+			return getMax();
+		}
+
+		@Override
+		public String toString() {
+			long n = getCount();
+			return String.format("count=%d mean=%d p50=%d p99=%d max=%d", n, n == 0 ? 0 : getSum() / n, getPercentile(50), getPercentile(99), getMax());
+		}
+	}
+
+	private final ConcurrentMap<String, Object> metrics = new ConcurrentHashMap<String, Object>();
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public Counter counter(String name) {
+		Object m = metrics.get(name);
+		if (m == null) {
+			m = new AtomicCounter();
+			Object prev = metrics.putIfAbsent(name, m);
+			if (prev != null)
+				m = prev;
+		}
+		if (!(m instanceof Counter))
+			throw new IllegalArgumentException(name + " is not a counter");
+		return (Counter) m;
+	}
+
+	@Override
+	public Histogram histogram(String name) {
+		Object m = metrics.get(name);
+		if (m == null) {
+			m = new Log2Histogram();
+			Object prev = metrics.putIfAbsent(name, m);
+			if (prev != null)
+				m = prev;
+		}
+		if (!(m instanceof Histogram))
+			throw new IllegalArgumentException(name + " is not a histogram");
+		return (Histogram) m;
+	}
+
+	@Override
+	public void gauge(String name, Gauge gauge) {
+		metrics.put(name, gauge);
+	}
+
+	@Override
+	public void remove(String prefix) {
+		Iterator<String> i = metrics.keySet().iterator();
+		while (i.hasNext()) {
+			String name = i.next();
+			if (name.equals(prefix) || (name.startsWith(prefix) && name.charAt(prefix.length()) == '.'))
+				i.remove();
+		}
+	}
+
+	@Override
+	public Map<String, Object> getMetrics() {
+		return new TreeMap<String, Object>(metrics);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, Object> e : getMetrics().entrySet()) {
+			Object m = e.getValue();
+			sb.append(e.getKey()).append(": ").append(m instanceof Gauge ? Long.toString(((Gauge) m).getValue()) : m.toString()).append('\n');
+		}
+		return sb.toString();
+	}
+
+}
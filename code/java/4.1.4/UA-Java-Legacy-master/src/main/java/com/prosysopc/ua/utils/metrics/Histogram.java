@@ -0,0 +1,50 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.utils.metrics;
+
+/**
+ * Distribution of recorded values, e.g. durations in nanoseconds.
+ */
+public interface Histogram {
+
+	/**
+	 * Record a value
+	 *
+	 * @param value a non-negative value
+	 */
+	void record(long value);
+
+	/**
+	 * @return the number of recorded values
+	 */
+	long getCount();
+
+	/**
+	 * @return the sum of recorded values
+	 */
+	long getSum();
+
+	/**
+	 * @return the largest recorded value
+	 */
+	long getMax();
+
+	/**
+	 * Estimate a percentile of the recorded values.
+	 *
+	 * @param percentile the percentile, between 0 and 100
+	 * @return upper bound of the value at the percentile
+	 */
+	long getPercentile(double percentile);
+
+}
@@ -0,0 +1,184 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.utils.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+/**
+ * Exports the metrics of a registry as the read-only attributes of an MBean
+ * in the platform MBean server, e.g. for JConsole. No network connection or
+ * agent is needed.
+ * <p>
+ * Counters and gauges are exported as such. A histogram <code>x</code> is
+ * exported as <code>x.count</code>, <code>x.mean</code>, <code>x.p50</code>,
+ * <code>x.p99</code> and <code>x.max</code>.
+ */
+public class JmxMetricsExporter implements DynamicMBean {
+
+	/** Default object name of the MBean */
+	public static final String DEFAULT_OBJECT_NAME = "com.prosysopc.ua:type=Metrics";
+
+	private static final String[] HISTOGRAM_ATTRIBUTES = { "count", "mean", "p50", "p99", "max" };
+
+	private final MetricsRegistry registry;
+	private final ObjectName objectName;
+
+	/**
+	 * Create an exporter with {@link #DEFAULT_OBJECT_NAME}
+	 *
+	 * @param registry the registry to export
+	 * @throws JMException if the name is invalid
+	 */
+	public JmxMetricsExporter(MetricsRegistry registry) throws JMException {
+		this(registry, new ObjectName(DEFAULT_OBJECT_NAME));
+	}
+
+	/**
+	 * <p>Constructor for JmxMetricsExporter.</p>
+	 *
+	 * @param registry the registry to export
+	 * @param objectName the object name of the MBean
+	 */
+	public JmxMetricsExporter(MetricsRegistry registry, ObjectName objectName) {
+		this.registry = registry;
+		this.objectName = objectName;
+	}
+
+	/**
+	 * <p>Getter for the field <code>objectName</code>.</p>
+	 *
+	 * @return the object name of the MBean
+	 */
+	public ObjectName getObjectName() {
+		return objectName;
+	}
+
+	/**
+	 * Register the MBean to the platform MBean server
+	 *
+	 * @throws JMException if the registration fails
+	 */
+	public void register() throws JMException {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		if (!server.isRegistered(objectName))
+			server.registerMBean(this, objectName);
+	}
+
+	/**
+	 * Unregister the MBean from the platform MBean server
+	 *
+	 * @throws JMException if the unregistration fails
+	 */
+	public void unregister() throws JMException {
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		} catch (InstanceNotFoundException e) {
+			// Not registered
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Object getAttribute(String attribute) throws AttributeNotFoundException {
+		Map<String, Object> metrics = registry.getMetrics();
+		Object m = metrics.get(attribute);
+		if (m instanceof Counter)
+			return ((Counter) m).getCount();
+		if (m instanceof Gauge)
+			return ((Gauge) m).getValue();
+		int i = attribute.lastIndexOf('.');
+		if (i > 0) {
+			m = metrics.get(attribute.substring(0, i));
+			if (m instanceof Histogram) {
+				Histogram h = (Histogram) m;
+				String a = attribute.substring(i + 1);
+				if (a.equals("count"))
+					return h.getCount();
+				if (a.equals("mean"))
+					return h.getCount() == 0 ? 0L : h.getSum() / h.getCount();
+				if (a.equals("p50"))
+					return h.getPercentile(50);
+				if (a.equals("p99"))
+					return h.getPercentile(99);
+				if (a.equals("max"))
+					return h.getMax();
+			}
+		}
+		throw new AttributeNotFoundException(attribute);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public AttributeList getAttributes(String[] attributes) {
+		AttributeList result = new AttributeList();
+		for (String attribute : attributes)
+			try {
+				result.add(new Attribute(attribute, getAttribute(attribute)));
+			} catch (AttributeNotFoundException e) {
+				// Removed meanwhile, skip
+			}
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+		throw new AttributeNotFoundException(attribute.getName() + " is read-only");
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public AttributeList setAttributes(AttributeList attributes) {
+		return new AttributeList();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+		// The MBean has no operations
+		throw new ReflectionException(new NoSuchMethodException(actionName));
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MBeanInfo getMBeanInfo() {
+		List<MBeanAttributeInfo> attributes = new ArrayList<MBeanAttributeInfo>();
+		for (Map.Entry<String, Object> e : registry.getMetrics().entrySet()) {
+			String name = e.getKey();
+			if (e.getValue() instanceof Histogram) {
+				for (String a : HISTOGRAM_ATTRIBUTES)
+					attributes.add(new MBeanAttributeInfo(name + "." + a, "long", name + " " + a, true, false, false));
+			} else
+				attributes.add(new MBeanAttributeInfo(name, "long", name, true, false, false));
+		}
+		return new MBeanInfo(getClass().getName(), "OPC UA Stack metrics",
+				attributes.toArray(new MBeanAttributeInfo[attributes.size()]), null, new MBeanOperationInfo[0], null);
+	}
+
+}
@@ -0,0 +1,169 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.utils.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.prosysopc.ua.utils.ExecutorMetrics;
+import com.prosysopc.ua.utils.StackUtils;
+
+/**
+ * The metrics registry of the stack.
+ * <p>
+ * By default the registry is {@link #NOOP}, which discards everything
+ * without allocating, and the stack does not measure anything. Set a
+ * registry, e.g. {@link DefaultMetricsRegistry}, before the clients and
+ * servers are started:
+ *
+ * <pre>
+ * DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+ * Metrics.setRegistry(registry);
+ * new JmxMetricsExporter(registry).register();
+ * </pre>
+ */
+public class Metrics {
+
+	/**
+	 * Counter that discards everything
+	 */
+	public static final Counter NOOP_COUNTER = new Counter() {
+		@Override
+		public void inc() {
+		}
+		@Override
+		public void add(long n) {
+		}
+		@Override
+		public long getCount() {
+			return 0;
+		}
+	};
+
+	/**
+	 * Histogram that discards everything
+	 */
+	public static final Histogram NOOP_HISTOGRAM = new Histogram() {
+		@Override
+		public void record(long value) {
+		}
+		@Override
+		public long getCount() {
+			return 0;
+		}
+		@Override
+		public long getSum() {
+			return 0;
+		}
+		@Override
+		public long getMax() {
+			return 0;
+		}
+		@Override
+		public long getPercentile(double percentile) {
+			return 0;
+		}
+	};
+
+	/**
+	 * Registry that discards everything, the default
+	 */
+	public static final MetricsRegistry NOOP = new MetricsRegistry() {
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+		@Override
+		public Counter counter(String name) {
+			return NOOP_COUNTER;
+		}
+		@Override
+		public Histogram histogram(String name) {
+			return NOOP_HISTOGRAM;
+		}
+		@Override
+		public void gauge(String name, Gauge gauge) {
+		}
+		@Override
+		public void remove(String prefix) {
+		}
+		@Override
+		public Map<String, Object> getMetrics() {
+			return Collections.emptyMap();
+		}
+	};
+
+	private static volatile MetricsRegistry registry = NOOP;
+
+	/**
+	 * @return the registry of the stack
+	 */
+	public static MetricsRegistry getRegistry() {
+		return registry;
+	}
+
+	/**
+	 * Set the registry of the stack. The connections, endpoints and
+	 * selectors resolve their metrics when they are created, so the registry
+	 * must be set before the clients and servers are started.
+	 * <p>
+	 * The gauges of the work executors are added to the registry:
+	 * <code>executor.blocking.*</code> and
+	 * <code>executor.nonBlocking.*</code>.
+	 *
+	 * @param registry the registry or null for {@link #NOOP}
+	 */
+	public static void setRegistry(MetricsRegistry registry) {
+		if (registry == null)
+			registry = NOOP;
+		addExecutorGauges(registry, "executor.blocking", true);
+		addExecutorGauges(registry, "executor.nonBlocking", false);
+		Metrics.registry = registry;
+	}
+
+	private static void addExecutorGauges(MetricsRegistry registry, String prefix, final boolean blocking) {
+		registry.gauge(prefix + ".activeCount", new Gauge() {
+			@Override
+			public long getValue() {
+				ExecutorMetrics m = getExecutorMetrics(blocking);
+				return m == null ? 0 : m.getActiveCount();
+			}
+		});
+		registry.gauge(prefix + ".poolSize", new Gauge() {
+			@Override
+			public long getValue() {
+				ExecutorMetrics m = getExecutorMetrics(blocking);
+				return m == null ? 0 : m.getPoolSize();
+			}
+		});
+		registry.gauge(prefix + ".queueSize", new Gauge() {
+			@Override
+			public long getValue() {
+				ExecutorMetrics m = getExecutorMetrics(blocking);
+				return m == null ? 0 : m.getQueueSize();
+			}
+		});
+		registry.gauge(prefix + ".completedTaskCount", new Gauge() {
+			@Override
+			public long getValue() {
+				ExecutorMetrics m = getExecutorMetrics(blocking);
+				return m == null ? 0 : m.getCompletedTaskCount();
+			}
+		});
+	}
+
+	private static ExecutorMetrics getExecutorMetrics(boolean blocking) {
+		return blocking ? StackUtils.getBlockingWorkExecutorMetrics() : StackUtils.getNonBlockingWorkExecutorMetrics();
+	}
+
+}
@@ -0,0 +1,69 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ */
+
+package com.prosysopc.ua.utils.metrics;
+
+import java.util.Map;
+
+/**
+ * Registry of named metrics. The same name always returns the same metric.
+ * <p>
+ * The names are dot separated, e.g. <code>client.1.bytesIn</code>.
+ *
+ * @see Metrics#setRegistry(MetricsRegistry)
+ */
+public interface MetricsRegistry {
+
+	/**
+	 * @return false if the registry discards everything. The stack does not
+	 *         measure anything for a disabled registry.
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Get or create a counter
+	 *
+	 * @param name name of the counter
+	 * @return the counter
+	 */
+	Counter counter(String name);
+
+	/**
+	 * Get or create a histogram
+	 *
+	 * @param name name of the histogram
+	 * @return the histogram
+	 */
+	Histogram histogram(String name);
+
+	/**
+	 * Add or replace a gauge
+	 *
+	 * @param name name of the gauge
+	 * @param gauge the gauge
+	 */
+	void gauge(String name, Gauge gauge);
+
+	/**
+	 * Remove the metrics of a channel or an endpoint.
+	 *
+	 * @param prefix the name, or the prefix of the names without the dot
+	 */
+	void remove(String prefix);
+
+	/**
+	 * @return the metrics by name: {@link Counter}s, {@link Histogram}s and
+	 *         {@link Gauge}s
+	 */
+	Map<String, Object> getMetrics();
+
+}
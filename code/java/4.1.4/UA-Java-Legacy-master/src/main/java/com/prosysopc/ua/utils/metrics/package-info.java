@@ -0,0 +1,6 @@
+/**
+ * Runtime metrics of the stack: counters, histograms and gauges of the 
+ * connections, executors and selectors. Metrics are disabled by default, 
+ * see {@link com.prosysopc.ua.utils.metrics.Metrics#setRegistry(MetricsRegistry)}.
+ */
+package com.prosysopc.ua.utils.metrics;
@@ -0,0 +1,70 @@
+package com.prosysopc.ua.application;
+
+import com.prosysopc.ua.transport.SecureChannel;
+import com.prosysopc.ua.transport.security.BcCertificateProvider;
+import com.prosysopc.ua.transport.security.BcCryptoProvider;
+import com.prosysopc.ua.transport.security.CertificateCache;
+import com.prosysopc.ua.transport.security.KeyPair;
+import com.prosysopc.ua.transport.security.SecurityMode;
+import com.prosysopc.ua.utils.CertificateUtils;
+import com.prosysopc.ua.utils.CryptoUtil;
+
+/**
+ * Measures the latency of secure channel handshakes between a client and a
+ * server in the same JVM, with and without the {@link CertificateCache} of
+ * decoded remote certificates.
+ * <p>
+ * Run with main(), e.g. <code>HandshakeBenchmark [port] [handshakes]</code>
+ */
+public class HandshakeBenchmark {
+
+	static final SecurityMode MODE = SecurityMode.BASIC256SHA256_SIGN_ENCRYPT;
+
+	static double measure(Client client, String url, KeyPair serverKeys, int count) throws Exception {
+		long total = 0;
+		for (int i=0; i<count; i++) {
+			long t0 = System.nanoTime();
+			SecureChannel channel = client.createSecureChannel(url, url, MODE, serverKeys.getCertificate());
+			total += System.nanoTime() - t0;
+			StartupBenchmark.read(channel);
+			channel.close();
+			channel.dispose();
+		}
+		return total / 1000000.0 / count;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 8668;
+		int count = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+		String url = "opc.tcp://localhost:"+port+"/HandshakeBenchmark";
+
+		CertificateUtils.setCertificateProvider(new BcCertificateProvider());
+		CryptoUtil.setCryptoProvider(new BcCryptoProvider());
+		KeyPair serverKeys = CertificateUtils.createApplicationInstanceCertificate("HandshakeBenchmarkServer", null,
+				"urn:localhost:HandshakeBenchmarkServer", 365, "localhost");
+		KeyPair clientKeys = CertificateUtils.createApplicationInstanceCertificate("HandshakeBenchmarkClient", null,
+				"urn:localhost:HandshakeBenchmarkClient", 365, "localhost");
+
+		Server server = Server.createServerApplication();
+		server.getApplication().addApplicationInstanceCertificate(serverKeys);
+		server.addServiceHandler(new StartupBenchmark.ReadHandler());
+		server.bind(url, url, MODE);
+		Client client = Client.createClientApplication(clientKeys);
+		CertificateCache cache = CertificateCache.getDefault();
+		try {
+			measure(client, url, serverKeys, count / 4);
+			for (int maxSize : new int[] { 0, CertificateCache.DEFAULT_MAX_SIZE, 0, CertificateCache.DEFAULT_MAX_SIZE }) {
+				cache.setMaxSize(maxSize);
+				cache.clear();
+				long hits = cache.getHitCount();
+				double ms = measure(client, url, serverKeys, count);
+				System.out.println(String.format("%s, certificate cache %s: %.3f ms per handshake, %d cache hits",
+						MODE, maxSize == 0 ? "off" : "on ", ms, cache.getHitCount() - hits));
+			}
+		} finally {
+			server.getApplication().close();
+			client.getApplication().close();
+		}
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.prosysopc.ua.application;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import com.prosysopc.ua.transport.SecureChannel;
+import com.prosysopc.ua.transport.security.SecurityMode;
+import com.prosysopc.ua.utils.metrics.Counter;
+import com.prosysopc.ua.utils.metrics.DefaultMetricsRegistry;
+import com.prosysopc.ua.utils.metrics.Histogram;
+import com.prosysopc.ua.utils.metrics.Metrics;
+
+public class MetricsTest {
+
+	@Rule
+	public Timeout timeout = Timeout.seconds(30);
+
+	static long count(Map<String, Object> metrics, String prefix, String name) {
+		long n = 0;
+		for (Map.Entry<String, Object> e : metrics.entrySet())
+			if (e.getKey().startsWith(prefix) && e.getKey().endsWith("." + name)) {
+				Object m = e.getValue();
+				n += m instanceof Counter ? ((Counter) m).getCount() : ((Histogram) m).getCount();
+			}
+		return n;
+	}
+
+	@Test
+	public void testChannelMetrics() throws Exception {
+		String url = "opc.tcp://localhost:8670/MetricsTest";
+		DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+		Metrics.setRegistry(registry);
+		Server server = Server.createServerApplication();
+		Client client = Client.createClientApplication(null);
+		try {
+			server.addServiceHandler(new StartupBenchmark.ReadHandler());
+			server.bind(url, url, SecurityMode.NONE);
+			SecureChannel channel = client.createSecureChannel(url, url, SecurityMode.NONE, null);
+			StartupBenchmark.read(channel);
+
+			Map<String, Object> metrics = registry.getMetrics();
+			assertTrue(count(metrics, "client.", "chunksIn") > 0);
+			assertTrue(count(metrics, "client.", "bytesOut") > 0);
+			assertTrue(count(metrics, "client.", "decodeTime") > 0);
+			assertTrue(count(metrics, "client.", "messagesEncoded") > 0);
+			assertTrue(count(metrics, "server." + url, "chunksIn") > 0);
+			assertTrue(count(metrics, "server." + url, "messagesEncoded") > 0);
+			assertTrue(metrics.containsKey("executor.blocking.activeCount"));
+
+			channel.close();
+			channel.dispose();
+			// Metrics of the closed connection are removed
+			assertEquals(0, count(registry.getMetrics(), "client.", "chunksIn"));
+		} finally {
+			server.getApplication().close();
+			client.getApplication().close();
+			Metrics.setRegistry(null);
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.prosysopc.ua.application;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import com.prosysopc.ua.builtintypes.NodeId;
+import com.prosysopc.ua.builtintypes.ServiceResponse;
+import com.prosysopc.ua.core.Attributes;
+import com.prosysopc.ua.core.EndpointDescription;
+import com.prosysopc.ua.core.MessageSecurityMode;
+import com.prosysopc.ua.core.ReadRequest;
+import com.prosysopc.ua.core.ReadResponse;
+import com.prosysopc.ua.core.ReadValueId;
+import com.prosysopc.ua.core.RequestHeader;
+import com.prosysopc.ua.core.TimestampsToReturn;
+import com.prosysopc.ua.transport.AsyncResult;
+import com.prosysopc.ua.transport.SecureChannel;
+import com.prosysopc.ua.transport.TransportChannelSettings;
+import com.prosysopc.ua.transport.security.SecurityMode;
+import com.prosysopc.ua.transport.security.SecurityPolicy;
+import com.prosysopc.ua.transport.tcp.io.OpcTcpSettings;
+
+public class NonBlockingClientTest {
+
+	@Rule
+	public Timeout timeout = Timeout.seconds(30);
+
+	static boolean readThreadRunning() {
+		for (Thread t : Thread.getAllStackTraces().keySet())
+			if (t.isAlive() && "TcpConnection/Read".equals(t.getName()))
+				return true;
+		return false;
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		String url = "opc.tcp://localhost:8669/NonBlockingClientTest";
+		Server server = Server.createServerApplication();
+		server.addServiceHandler(new StartupBenchmark.ReadHandler());
+		server.bind(url, url, SecurityMode.NONE);
+		Client client = Client.createClientApplication(null);
+		EndpointDescription endpoint = new EndpointDescription();
+		endpoint.setEndpointUrl(url);
+		endpoint.setSecurityMode(MessageSecurityMode.None);
+		endpoint.setSecurityPolicyUri(SecurityPolicy.NONE.getPolicyUri());
+		TransportChannelSettings settings = new TransportChannelSettings();
+		settings.setDescription(endpoint);
+		settings.getOpctcpSettings().getFlags().add(OpcTcpSettings.Flag.NonBlocking);
+		try {
+			SecureChannel channel = client.createSecureChannel(url, settings);
+			assertFalse(readThreadRunning());
+			StartupBenchmark.read(channel);
+
+			// Responses to concurrent requests
+			ReadValueId[] nodes = new ReadValueId[1000];
+			for (int i=0; i<nodes.length; i++)
+				nodes[i] = new ReadValueId(new NodeId(0, 2258), Attributes.Value, null, null);
+			@SuppressWarnings("unchecked")
+			AsyncResult<ServiceResponse>[] results = new AsyncResult[20];
+			for (int i=0; i<results.length; i++)
+				results[i] = channel.serviceRequestAsync(new ReadRequest(new RequestHeader(), 0.0, TimestampsToReturn.Neither, nodes));
+			for (AsyncResult<ServiceResponse> result : results)
+				assertEquals(nodes.length, ((ReadResponse) result.waitForResult(10, TimeUnit.SECONDS)).getResults().length);
+
+			channel.close();
+			channel.dispose();
+		} finally {
+			server.getApplication().close();
+			client.getApplication().close();
+		}
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.prosysopc.ua.application;
+
+import java.lang.management.ManagementFactory;
+
+import com.prosysopc.ua.builtintypes.DataValue;
+import com.prosysopc.ua.builtintypes.NodeId;
+import com.prosysopc.ua.builtintypes.Variant;
+import com.prosysopc.ua.common.ServiceFaultException;
+import com.prosysopc.ua.core.AttributeServiceSetHandler;
+import com.prosysopc.ua.core.Attributes;
+import com.prosysopc.ua.core.HistoryReadRequest;
+import com.prosysopc.ua.core.HistoryReadResponse;
+import com.prosysopc.ua.core.HistoryUpdateRequest;
+import com.prosysopc.ua.core.HistoryUpdateResponse;
+import com.prosysopc.ua.core.ReadRequest;
+import com.prosysopc.ua.core.ReadResponse;
+import com.prosysopc.ua.core.ReadValueId;
+import com.prosysopc.ua.core.RequestHeader;
+import com.prosysopc.ua.core.ResponseHeader;
+import com.prosysopc.ua.core.TimestampsToReturn;
+import com.prosysopc.ua.core.WriteRequest;
+import com.prosysopc.ua.core.WriteResponse;
+import com.prosysopc.ua.transport.SecureChannel;
+import com.prosysopc.ua.transport.endpoint.EndpointServiceRequest;
+import com.prosysopc.ua.transport.security.SecurityMode;
+
+/**
+ * Measures the cold start time of the stack: the time from the start of
+ * the JVM, and from the start of main(), to the response of the first
+ * ReadRequest from a client to a server in the same JVM.
+ * <p>
+ * Run with main() in a new JVM, e.g. <code>StartupBenchmark [port]</code>
+ */
+public class StartupBenchmark {
+
+	static class ReadHandler implements AttributeServiceSetHandler {
+		public void onRead(EndpointServiceRequest<ReadRequest, ReadResponse> req) throws ServiceFaultException {
+			ReadValueId[] nodes = req.getRequest().getNodesToRead();
+			DataValue[] results = new DataValue[nodes.length];
+			for (int i=0; i<nodes.length; i++)
+				results[i] = new DataValue(new Variant(i));
+			req.sendResponse(new ReadResponse(new ResponseHeader(), results, null));
+		}
+		public void onHistoryRead(EndpointServiceRequest<HistoryReadRequest, HistoryReadResponse> req) throws ServiceFaultException {
+		}
+		public void onWrite(EndpointServiceRequest<WriteRequest, WriteResponse> req) throws ServiceFaultException {
+		}
+		public void onHistoryUpdate(EndpointServiceRequest<HistoryUpdateRequest, HistoryUpdateResponse> req) throws ServiceFaultException {
+		}
+	}
+
+	static long read(SecureChannel channel) throws Exception {
+		long t0 = System.nanoTime();
+		ReadRequest request = new ReadRequest(new RequestHeader(), 0.0, TimestampsToReturn.Neither,
+				new ReadValueId[] { new ReadValueId(new NodeId(0, 2258), Attributes.Value, null, null) });
+		channel.serviceRequest(request);
+		return System.nanoTime() - t0;
+	}
+
+	public static void main(String[] args) throws Exception {
+		long mainStart = System.currentTimeMillis();
+		long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 8667;
+		String url = "opc.tcp://localhost:"+port+"/StartupBenchmark";
+
+		Server server = Server.createServerApplication();
+		server.addServiceHandler(new ReadHandler());
+		server.bind(url, url, SecurityMode.NONE);
+		Client client = Client.createClientApplication(null);
+		SecureChannel channel = client.createSecureChannel(url, url, SecurityMode.NONE, null);
+		try {
+			long first = read(channel);
+			long end = System.currentTimeMillis();
+			long second = read(channel);
+			System.out.println(String.format("first ReadRequest round trip: %d ms after JVM start, %d ms after main(), request %.1f ms, next request %.1f ms",
+					end - jvmStart, end - mainStart, first / 1000000.0, second / 1000000.0));
+		} finally {
+			channel.close();
+			channel.dispose();
+			server.getApplication().close();
+		}
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.prosysopc.ua.application;
+
+import static org.junit.Assert.*;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import com.prosysopc.ua.builtintypes.NodeId;
+import com.prosysopc.ua.core.Attributes;
+import com.prosysopc.ua.core.EndpointDescription;
+import com.prosysopc.ua.core.MessageSecurityMode;
+import com.prosysopc.ua.core.ReadRequest;
+import com.prosysopc.ua.core.ReadResponse;
+import com.prosysopc.ua.core.ReadValueId;
+import com.prosysopc.ua.core.RequestHeader;
+import com.prosysopc.ua.core.TimestampsToReturn;
+import com.prosysopc.ua.transport.SecureChannel;
+import com.prosysopc.ua.transport.TransportChannelSettings;
+import com.prosysopc.ua.transport.security.HttpsSecurityPolicy;
+import com.prosysopc.ua.transport.security.SecurityMode;
+import com.prosysopc.ua.transport.security.SecurityPolicy;
+
+public class StreamingHttpsServerTest {
+
+	@Rule
+	public Timeout timeout = Timeout.seconds(30);
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		String url = "http://localhost:8673/StreamingHttpsServerTest";
+		Server server = Server.createServerApplication();
+		server.getApplication().getHttpsSettings().setStreaming(true);
+		server.addServiceHandler(new StartupBenchmark.ReadHandler());
+		server.bind(url, url, SecurityMode.NONE);
+		Client client = Client.createClientApplication(null);
+		EndpointDescription endpoint = new EndpointDescription();
+		endpoint.setEndpointUrl(url);
+		endpoint.setSecurityMode(MessageSecurityMode.None);
+		endpoint.setSecurityPolicyUri(SecurityPolicy.NONE.getPolicyUri());
+		TransportChannelSettings settings = new TransportChannelSettings();
+		settings.setDescription(endpoint);
+		settings.getHttpsSettings().setHttpsSecurityPolicies(HttpsSecurityPolicy.ALL_104);
+		try {
+			SecureChannel channel = client.createSecureChannel(url, settings);
+			StartupBenchmark.read(channel);
+
+			// Request and response span several buffers
+			ReadValueId[] nodes = new ReadValueId[5000];
+			for (int i=0; i<nodes.length; i++)
+				nodes[i] = new ReadValueId(new NodeId(0, 2258), Attributes.Value, null, null);
+			for (int i=0; i<3; i++) {
+				ReadResponse response = (ReadResponse) channel.serviceRequest(new ReadRequest(new RequestHeader(), 0.0, TimestampsToReturn.Neither, nodes));
+				assertEquals(nodes.length, response.getResults().length);
+				assertEquals(4999, response.getResults()[4999].getValue().intValue());
+			}
+
+			channel.close();
+			channel.dispose();
+		} finally {
+			server.getApplication().close();
+			client.getApplication().close();
+		}
+	}
+
+}
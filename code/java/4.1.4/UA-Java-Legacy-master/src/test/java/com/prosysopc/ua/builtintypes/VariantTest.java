@@ -2,10 +2,13 @@ package com.prosysopc.ua.builtintypes;
 
 import static org.junit.Assert.*;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 
 import org.junit.Test;
+import com.prosysopc.ua.core.ReadValueId;
 import com.prosysopc.ua.core.ServerState;
+import com.prosysopc.ua.core.ServerStatusDataType;
 
 public class VariantTest {
   
@@ -173,4 +176,75 @@ public class VariantTest {
     assertTrue(Arrays.deepEquals(data, actual));
   }
   
+  @Test
+  public void testPrimitiveArray() throws Exception {
+    double[] data = new double[]{1.5, -2, Double.NaN};
+    Variant sut = new Variant(data);
+    
+    assertSame(data, sut.getValue());
+    assertEquals(Double.class, sut.getCompositeClass());
+    assertTrue(sut.isArray());
+    assertTrue(sut.isPrimitiveArray());
+    assertArrayEquals(new int[]{3}, sut.getArrayDimensions());
+    
+    Variant boxed = new Variant(new Double[]{1.5, -2.0, Double.NaN});
+    assertFalse(boxed.isPrimitiveArray());
+    assertEquals(boxed, sut);
+    assertEquals(sut, boxed);
+    assertEquals(boxed.hashCode(), sut.hashCode());
+    assertEquals(new Variant(data.clone()), sut);
+    assertFalse(sut.equals(new Variant(new Double[]{1.5, -2.0})));
+    assertFalse(sut.equals(new Variant(new float[]{1.5f, -2f, Float.NaN})));
+  }
+  
+  @Test
+  public void testPrimitiveArrayHashCodes() throws Exception {
+    assertEquals(new Variant(new Boolean[]{true, false}).hashCode(), new Variant(new boolean[]{true, false}).hashCode());
+    assertEquals(new Variant(new Short[]{1, -1}).hashCode(), new Variant(new short[]{1, -1}).hashCode());
+    assertEquals(new Variant(new Integer[]{1, -1}).hashCode(), new Variant(new int[]{1, -1}).hashCode());
+    assertEquals(new Variant(new Long[]{1L, -1L}).hashCode(), new Variant(new long[]{1, -1}).hashCode());
+    assertEquals(new Variant(new Float[]{1f, -1f}).hashCode(), new Variant(new float[]{1, -1}).hashCode());
+  }
+  
+  @Test(expected = IllegalArgumentException.class)
+  public void testMultiDimensionPrimitiveArray() throws Exception {
+    new Variant(new double[2][2]);
+  }
+  
+  @Test
+  public void testBuiltinTypeId() throws Exception {
+    assertEquals(0, Variant.NULL.getBuiltinTypeId());
+    assertEquals(0, Variant.NULL.getDimension());
+    assertEquals(12, new Variant("a").getBuiltinTypeId());
+    assertEquals(7, new Variant(new UnsignedInteger[]{UnsignedInteger.ONE}).getBuiltinTypeId());
+    assertEquals(11, new Variant(new double[]{1.0}).getBuiltinTypeId());
+    assertEquals(6, new Variant(ServerState.Running).getBuiltinTypeId());
+    assertEquals(15, new Variant(new byte[]{1}).getBuiltinTypeId());
+    assertEquals(22, new Variant(new ServerStatusDataType()).getBuiltinTypeId());
+    assertEquals(22, new Variant(new ReadValueId[2][3]).getBuiltinTypeId());
+    assertEquals(22, new Variant(new BigDecimal("1.5")).getBuiltinTypeId());
+    assertEquals(22, new Variant(new ExtensionObject(new ExpandedNodeId(new NodeId(0, 1)))).getBuiltinTypeId());
+  }
+  
+  @Test
+  public void testArrayDimensions() throws Exception {
+    Variant scalar = new Variant(1);
+    assertFalse(scalar.isArray());
+    assertEquals(0, scalar.getDimension());
+    assertEquals(0, scalar.getArrayDimensions().length);
+    
+    Variant sut = new Variant(new Integer[2][3][4]);
+    assertTrue(sut.isArray());
+    assertEquals(3, sut.getDimension());
+    int[] dims = sut.getArrayDimensions();
+    assertArrayEquals(new int[]{2, 3, 4}, dims);
+    // The cached dimensions are not exposed
+    dims[0] = 5;
+    assertArrayEquals(new int[]{2, 3, 4}, sut.getArrayDimensions());
+    
+    assertEquals(1, new Variant(new byte[2][3]).getDimension());
+    assertEquals(2, new Variant(new byte[2][3][4]).getDimension());
+    assertEquals(1, new Variant(new ServerState[]{ServerState.Running}).getDimension());
+  }
+  
 }
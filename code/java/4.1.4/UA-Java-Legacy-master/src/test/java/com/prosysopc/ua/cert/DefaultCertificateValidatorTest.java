@@ -0,0 +1,204 @@
+package com.prosysopc.ua.cert;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+import java.util.EnumSet;
+
+import javax.security.auth.x500.X500Principal;
+
+import org.bouncycastle.asn1.x509.CRLReason;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.cert.X509v3CertificateBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509CRLConverter;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509ExtensionUtils;
+import org.bouncycastle.cert.jcajce.JcaX509v2CRLBuilder;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.prosysopc.ua.builtintypes.StatusCode;
+import com.prosysopc.ua.core.ApplicationDescription;
+import com.prosysopc.ua.core.StatusCodes;
+import com.prosysopc.ua.transport.security.Cert;
+
+public class DefaultCertificateValidatorTest {
+
+	static final long DAY = 24 * 60 * 60 * 1000L;
+	static KeyPair caKeys, otherCaKeys, leafKeys;
+	static X509Certificate ca, otherCa;
+
+	File dir;
+	PkiDirectoryCertificateStore store;
+	DefaultCertificateValidator validator;
+
+	@BeforeClass
+	public static void generateKeys() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(1024);
+		caKeys = generator.generateKeyPair();
+		otherCaKeys = generator.generateKeyPair();
+		leafKeys = generator.generateKeyPair();
+		// Two CAs with the same name, told apart by their key identifiers
+		ca = createCertificate("CN=Test CA", caKeys.getPublic(), null, caKeys, 1);
+		otherCa = createCertificate("CN=Test CA", otherCaKeys.getPublic(), null, otherCaKeys, 2);
+	}
+
+	static X509Certificate createCertificate(String subject, PublicKey key, X509Certificate issuer, KeyPair issuerKeys, long serial) throws Exception {
+		JcaX509ExtensionUtils extUtils = new JcaX509ExtensionUtils();
+		Date from = new Date(System.currentTimeMillis() - DAY);
+		Date to = new Date(System.currentTimeMillis() + 10 * DAY);
+		X500Principal issuerName = issuer == null ? new X500Principal(subject) : issuer.getSubjectX500Principal();
+		X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(issuerName, BigInteger.valueOf(serial), from, to,
+				new X500Principal(subject), key);
+		builder.addExtension(Extension.subjectKeyIdentifier, false, extUtils.createSubjectKeyIdentifier(key));
+		builder.addExtension(Extension.authorityKeyIdentifier, false,
+				extUtils.createAuthorityKeyIdentifier(issuerKeys.getPublic()));
+		return new JcaX509CertificateConverter().getCertificate(
+				builder.build(new JcaContentSignerBuilder("SHA256withRSA").build(issuerKeys.getPrivate())));
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		dir = File.createTempFile("pki", "");
+		dir.delete();
+		store = new PkiDirectoryCertificateStore(dir.getPath());
+		validator = new DefaultCertificateValidator(store);
+	}
+
+	@After
+	public void tearDown() {
+		delete(dir);
+	}
+
+	static void delete(File file) {
+		File[] files = file.listFiles();
+		if (files != null)
+			for (File f : files)
+				delete(f);
+		file.delete();
+	}
+
+	@Test
+	public void testIssuerFoundByKeyIdentifier() throws Exception {
+		store.addTrustedCertificate(new Cert(otherCa));
+		store.addTrustedCertificate(new Cert(ca));
+		Cert leaf = new Cert(createCertificate("CN=Leaf", leafKeys.getPublic(), ca, caKeys, 10));
+		CertificateValidationCache cache = new CertificateValidationCache(store.getTrustedCerts(), null, 0);
+		assertEquals(1, cache.getIssuerCandidates(leaf.getCertificate()).size());
+		assertEquals(ca, cache.getIssuerCandidates(leaf.getCertificate()).get(0).getCertificate());
+
+		assertTrue(validator.validateCertificate(leaf).isGood());
+		// Accepted permanently and the verdict is cached
+		assertTrue(store.getTrustedCerts().contains(leaf));
+		assertTrue(validator.validateCertificate(leaf).isGood());
+	}
+
+	@Test
+	public void testTrustedIssuerAdded() throws Exception {
+		Cert leaf = new Cert(createCertificate("CN=Leaf", leafKeys.getPublic(), ca, caKeys, 11));
+		assertEquals(StatusCodes.Bad_CertificateChainIncomplete, validator.validateCertificate(leaf).getValue());
+		assertEquals(StatusCodes.Bad_CertificateChainIncomplete, validator.validateCertificate(leaf).getValue());
+		// The store reports the issuer, the cached failure is dropped
+		store.addTrustedCertificate(new Cert(ca));
+		assertTrue(validator.validateCertificate(leaf).isGood());
+	}
+
+	@Test
+	public void testRevocationListAdded() throws Exception {
+		store.addTrustedCertificate(new Cert(ca));
+		Cert leaf = new Cert(createCertificate("CN=Leaf", leafKeys.getPublic(), ca, caKeys, 12));
+		assertTrue(validator.validateCertificate(leaf).isGood());
+
+		// A list of another issuer does not revoke the certificate
+		X509Certificate anotherCa = createCertificate("CN=Another CA", otherCaKeys.getPublic(), null, otherCaKeys, 3);
+		store.addRevocationList(createCRL(anotherCa, otherCaKeys, 12));
+		assertTrue(validator.validateCertificate(leaf).isGood());
+		store.addRevocationList(createCRL(ca, caKeys, 12));
+		assertEquals(StatusCodes.Bad_CertificateRevoked, validator.validateCertificate(leaf).getValue());
+	}
+
+	@Test
+	public void testTrustedCertificateRemoved() throws Exception {
+		final Cert caCert = new Cert(ca);
+		store.addTrustedCertificate(caCert);
+		Cert leaf = new Cert(createCertificate("CN=Leaf", leafKeys.getPublic(), ca, caKeys, 13));
+		assertTrue(validator.validateCertificate(caCert).isGood());
+		assertTrue(validator.validateCertificate(leaf).isGood());
+
+		// The store does not report the removal to the listeners
+		store.clear(true);
+		final boolean[] trusted = new boolean[1];
+		validator.setValidationListener(new DefaultCertificateValidatorListener() {
+			@Override
+			public ValidationResult onValidate(Cert certificate, ApplicationDescription applicationDescription,
+					EnumSet<CertificateCheck> passedChecks) {
+				trusted[0] = passedChecks.contains(CertificateCheck.Trusted);
+				return ValidationResult.Reject;
+			}
+		});
+		// Untrusted certificates are reported as Bad_SecurityChecksFailed, see the 1.02.2 errata
+		assertEquals(StatusCodes.Bad_SecurityChecksFailed, validator.validateCertificate(caCert).getValue());
+		assertFalse(trusted[0]);
+		assertEquals(StatusCodes.Bad_CertificateChainIncomplete, validator.validateCertificate(leaf).getValue());
+	}
+
+	@Test
+	public void testIssuerNotValidatedWithListener() throws Exception {
+		final Cert caCert = new Cert(ca);
+		store.addTrustedCertificate(caCert);
+		Cert leaf = new Cert(createCertificate("CN=Leaf", leafKeys.getPublic(), ca, caKeys, 14));
+		// The listener is only asked about the validated certificate, not its issuer
+		validator.setValidationListener(new DefaultCertificateValidatorListener() {
+			@Override
+			public ValidationResult onValidate(Cert certificate, ApplicationDescription applicationDescription,
+					EnumSet<CertificateCheck> passedChecks) {
+				return certificate.equals(caCert) ? ValidationResult.Reject : ValidationResult.AcceptOnce;
+			}
+		});
+		assertTrue(validator.validateCertificate(leaf).isGood());
+		assertTrue(validator.validateCertificate(leaf).isGood());
+	}
+
+	@Test
+	public void testCacheSize() throws Exception {
+		CertificateValidationCache cache = new CertificateValidationCache(null, null, 2);
+		Cert[] certs = new Cert[3];
+		for (int i=0; i<certs.length; i++) {
+			certs[i] = new Cert(createCertificate("CN=Leaf" + i, leafKeys.getPublic(), ca, caKeys, 20 + i));
+			cache.putVerdict(certs[i], CertificateValidationCache.Verdict.SELF_SIGNED);
+		}
+		assertEquals(2, cache.getVerdictCount());
+		assertNull(cache.getVerdict(certs[0], System.currentTimeMillis()));
+		assertNotNull(cache.getVerdict(certs[2], System.currentTimeMillis()));
+		// Expired verdicts are dropped
+		cache.putVerdict(certs[0], new CertificateValidationCache.Verdict(false, false, StatusCode.GOOD, 1000));
+		assertNull(cache.getVerdict(certs[0], 1000));
+
+		// Verdicts are not cached if the size is 0
+		store.addTrustedCertificate(new Cert(ca));
+		validator.setCacheSize(0);
+		for (Cert c : certs)
+			assertTrue(validator.validateCertificate(c).isGood());
+	}
+
+	static X509CRL createCRL(X509Certificate issuer, KeyPair issuerKeys, long revokedSerial) throws Exception {
+		Date now = new Date();
+		JcaX509v2CRLBuilder builder = new JcaX509v2CRLBuilder(issuer, now);
+		builder.addCRLEntry(BigInteger.valueOf(revokedSerial), now, CRLReason.keyCompromise);
+		return new JcaX509CRLConverter().getCRL(
+				builder.build(new JcaContentSignerBuilder("SHA256withRSA").build(issuerKeys.getPrivate())));
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.prosysopc.ua.core;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import com.prosysopc.ua.builtintypes.ExpandedNodeId;
+import com.prosysopc.ua.builtintypes.NodeId;
+import com.prosysopc.ua.builtintypes.UnsignedInteger;
+import com.prosysopc.ua.common.NamespaceTable;
+import com.prosysopc.ua.encoding.EncodeType;
+import com.prosysopc.ua.encoding.EncoderContext;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.binary.BinaryDecoder;
+import com.prosysopc.ua.encoding.binary.BinaryEncoder;
+import com.prosysopc.ua.encoding.binary.IEncodeableSerializer;
+import com.prosysopc.ua.encoding.utils.SerializerComposition;
+
+public class EncodeableSerializerTest {
+
+	static ExpandedNodeId getId(Class<?> clazz, String field) throws Exception {
+		ExpandedNodeId id = (ExpandedNodeId) clazz.getField(field).get(null);
+		return new ExpandedNodeId(NamespaceTable.OPCUA_NAMESPACE, id.getValue());
+	}
+
+	/**
+	 * The index must match the NodeIds of the Structure classes and the
+	 * serializers created for it
+	 */
+	@Test
+	public void testIndexMatchesStructures() throws Exception {
+		EncodeableSerializer sut = new EncodeableSerializer();
+		List<Class<? extends IEncodeable>> classes = new ArrayList<Class<? extends IEncodeable>>();
+		sut.getSupportedClasses(classes);
+		assertTrue(classes.size() > 250);
+		for (Class<? extends IEncodeable> clazz : classes) {
+			assertEquals(getId(clazz, "BINARY"), sut.getNodeId(clazz, EncodeType.Binary));
+			assertEquals(getId(clazz, "XML"), sut.getNodeId(clazz, EncodeType.Xml));
+			assertEquals(clazz, sut.getClass(getId(clazz, "BINARY")));
+			assertEquals(clazz, sut.getClass(getId(clazz, "XML")));
+			assertEquals(clazz, sut.getClass(getId(clazz, "ID")));
+		}
+
+		Set<Class<? extends IEncodeable>> created = new HashSet<Class<? extends IEncodeable>>();
+		for (int i=0; i<classes.size(); i++) {
+			IEncodeableSerializer s = sut.createSerializer(i);
+			List<Class<? extends IEncodeable>> supported = new ArrayList<Class<? extends IEncodeable>>();
+			s.getSupportedClasses(supported);
+			Class<? extends IEncodeable> clazz = supported.get(0);
+			assertEquals(clazz, sut.getClass(s.getNodeId(clazz, EncodeType.Binary)));
+			created.add(clazz);
+		}
+		assertEquals(classes.size(), created.size());
+		assertNull(sut.createSerializer(classes.size()));
+	}
+
+	@Test
+	public void testOrdinalsAndNodeIdLookup() throws Exception {
+		EncodeableSerializer sut = new EncodeableSerializer();
+		List<Class<? extends IEncodeable>> classes = new ArrayList<Class<? extends IEncodeable>>();
+		sut.getSupportedClasses(classes);
+		boolean[] ordinals = new boolean[classes.size()];
+		NamespaceTable namespaceTable = NamespaceTable.getDefaultInstance();
+		for (Class<? extends IEncodeable> clazz : classes) {
+			int ordinal = sut.getOrdinal(clazz);
+			assertFalse(ordinals[ordinal]);
+			ordinals[ordinal] = true;
+			UnsignedInteger binaryId = (UnsignedInteger) getId(clazz, "BINARY").getValue();
+			assertEquals(clazz, sut.getClass(new NodeId(0, binaryId), namespaceTable));
+			assertEquals(clazz, sut.getClass(new ExpandedNodeId(new NodeId(0, binaryId))));
+		}
+		assertEquals(-1, sut.getOrdinal(null));
+		assertNull(sut.getClass(new NodeId(0, 1), namespaceTable));
+
+		// A serializer added later replaces the type
+		SerializerComposition composition = new SerializerComposition();
+		composition.addSerializer(new ReadRequestSerializer());
+		IEncodeableSerializer replacement = new ReadRequestSerializer();
+		composition.addSerializer(replacement);
+		assertEquals(1, composition.getOrdinal(ReadRequest.class));
+		assertEquals(ReadRequest.class, composition.getClass(ReadRequest.BINARY));
+	}
+
+	@Test
+	public void testSerializersAreCreatedOnFirstUse() throws Exception {
+		final List<Integer> createdIndices = new ArrayList<Integer>();
+		EncodeableSerializer serializer = new EncodeableSerializer() {
+			@Override
+			protected IEncodeableSerializer createSerializer(int index) {
+				createdIndices.add(index);
+				return super.createSerializer(index);
+			}
+		};
+		assertTrue(createdIndices.isEmpty());
+		EncoderContext ctx = new EncoderContext(NamespaceTable.getDefaultInstance(), null, serializer);
+
+		ReadRequest request = new ReadRequest(new RequestHeader(), 0.0, TimestampsToReturn.Both,
+				new ReadValueId[] { new ReadValueId(new NodeId(0, 2258), Attributes.Value, null, null) });
+		for (int i=0; i<2; i++) {
+			ByteArrayOutputStream buf = new ByteArrayOutputStream();
+			BinaryEncoder enc = new BinaryEncoder(buf);
+			enc.setEncoderContext(ctx);
+			enc.putMessage(request);
+			BinaryDecoder dec = new BinaryDecoder(buf.toByteArray());
+			dec.setEncoderContext(ctx);
+			ReadRequest decoded = dec.getMessage();
+			assertEquals(request.getNodesToRead()[0].getNodeId(), decoded.getNodesToRead()[0].getNodeId());
+		}
+		// ReadRequest, RequestHeader and ReadValueId, once each
+		assertEquals(3, createdIndices.size());
+	}
+
+}
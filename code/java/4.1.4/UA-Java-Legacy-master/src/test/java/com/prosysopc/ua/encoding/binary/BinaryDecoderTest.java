@@ -15,7 +15,12 @@ import com.prosysopc.ua.builtintypes.NodeId;
 import com.prosysopc.ua.builtintypes.Variant;
 import com.prosysopc.ua.common.NamespaceTable;
 import com.prosysopc.ua.core.Identifiers;
+import com.prosysopc.ua.core.Range;
+import com.prosysopc.ua.core.RangeSerializer;
+import com.prosysopc.ua.encoding.DecodingException;
 import com.prosysopc.ua.encoding.EncoderContext;
+import com.prosysopc.ua.encoding.StringCache;
+import com.prosysopc.ua.encoding.utils.SerializerComposition;
 import com.prosysopc.ua.utils.CryptoUtil;
 import com.prosysopc.ua.utils.MultiDimensionArrayUtils;
 
@@ -231,6 +236,176 @@ public class BinaryDecoderTest {
 		assertArrayEquals(expecteds.toArray(), output);
 	}
 	
+	@Test
+	public void primitiveArrayWithinVariantDecoding() throws Exception {
+		// Longer than the scratch buffer of the encoder and decoder
+		double[] doubles = new double[3000];
+		Double[] boxedDoubles = new Double[doubles.length];
+		for (int i=0; i<doubles.length; i++) {
+			doubles[i] = i * -0.5;
+			boxedDoubles[i] = doubles[i];
+		}
+		byte[] data = binaryEncode(new Variant(doubles));
+		assertArrayEquals(binaryEncode(new Variant(boxedDoubles)), data);
+		
+		// Decoded to boxed arrays by default
+		BinaryDecoder sut = new BinaryDecoder(data);
+		sut.setEncoderContext(EncoderContext.getDefaultInstance());
+		Variant boxed = sut.getVariant(null);
+		assertArrayEquals(boxedDoubles, (Double[]) boxed.getValue());
+		
+		EncoderContext ctx = EncoderContext.getDefaultInstance().shallowCopy();
+		ctx.setDecodePrimitiveArrays(true);
+		sut = new BinaryDecoder(data);
+		sut.setEncoderContext(ctx);
+		Variant primitive = sut.getVariant(null);
+		assertTrue(Arrays.equals(doubles, (double[]) primitive.getValue()));
+		assertEquals(boxed, primitive);
+		
+		Object[] arrays = new Object[] {
+				new boolean[] {true, false, true},
+				new short[] {Short.MIN_VALUE, 0, Short.MAX_VALUE},
+				new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE},
+				new long[] {Long.MIN_VALUE, 0, Long.MAX_VALUE},
+				new float[] {Float.MIN_VALUE, -1.25f, Float.MAX_VALUE},
+				new double[0]
+		};
+		for (Object array : arrays) {
+			Variant expected = new Variant(array);
+			sut = new BinaryDecoder(binaryEncode(expected));
+			sut.setEncoderContext(ctx);
+			Variant output = sut.getVariant(null);
+			assertEquals(array.getClass(), output.getValue().getClass());
+			assertEquals(expected, output);
+		}
+		
+		// Multi-dimension arrays are still decoded to boxed arrays
+		Integer[][] matrix = new Integer[][] {{1, 2}, {3, 4}};
+		sut = new BinaryDecoder(binaryEncode(new Variant(matrix)));
+		sut.setEncoderContext(ctx);
+		assertTrue(Arrays.deepEquals(matrix, (Integer[][]) sut.getVariant(null).getValue()));
+	}
+	
+	@Test
+	public void testLazyExtensionObject() throws Exception {
+		Range range = new Range(-1.5, 100.0);
+		ExtensionObject eo = ExtensionObject.binaryEncode(range, EncoderContext.getDefaultInstance());
+		byte[] data = binaryEncode(new Variant(eo));
+		
+		// Known types are decoded right away by default
+		BinaryDecoder sut = new BinaryDecoder(data);
+		sut.setEncoderContext(EncoderContext.getDefaultInstance());
+		assertEquals(range, sut.getVariant(null).getValue());
+		
+		EncoderContext ctx = EncoderContext.getDefaultInstance().shallowCopy();
+		ctx.setDecodeExtensionObjectsLazily(true);
+		sut = new BinaryDecoder(data);
+		sut.setEncoderContext(ctx);
+		Variant lazy = sut.getVariant(null);
+		ExtensionObject value = (ExtensionObject) lazy.getValue();
+		assertEquals(eo, value);
+		assertTrue(value.getObject() instanceof ByteString);
+		
+		// Decoded once, on demand
+		Range decoded = value.decode(ctx);
+		assertEquals(range, decoded);
+		assertSame(decoded, value.decode(ctx));
+		
+		// Forwarded as received
+		assertArrayEquals(data, binaryEncode(lazy));
+	}
+	
+	@Test
+	public void testUnknownExtensionObject() throws Exception {
+		EncoderContext ctx = EncoderContext.getDefaultInstance().shallowCopy();
+		ExpandedNodeId unknownId = ctx.getNamespaceTable().toExpandedNodeId(new NodeId(0, 999999));
+		ExtensionObject eo = new ExtensionObject(unknownId, ByteString.valueOf(new byte[] {1, 2, 3}));
+		for (Object value : new Object[] {eo, new ExtensionObject[] {eo, eo}}) {
+			BinaryDecoder sut = new BinaryDecoder(binaryEncode(new Variant(value)));
+			sut.setEncoderContext(ctx);
+			Variant output = sut.getVariant(null);
+			assertEquals(value.getClass(), output.getValue().getClass());
+			assertEquals(new Variant(value), output);
+		}
+		assertNull(ctx.getEncodeableClass(unknownId));
+		try {
+			eo.decode(ctx);
+			fail();
+		} catch (DecodingException e) {
+		}
+	}
+	
+	@Test
+	public void testUnknownTypeIdsForgottenWhenTypesAdded() throws Exception {
+		ExpandedNodeId binaryId = new ExpandedNodeId(Identifiers.Range_Encoding_DefaultBinary);
+		SerializerComposition serializer = new SerializerComposition() {
+			@Override
+			protected IEncodeableSerializer createSerializer(int index) {
+				return index == 0 ? new RangeSerializer() : null;
+			}
+		};
+		EncoderContext ctx = EncoderContext.getDefaultInstance().shallowCopy();
+		ctx.setEncodeableSerializer(serializer);
+		assertNull(ctx.getEncodeableClass(binaryId));
+		assertNull(ctx.getEncodeableClass(binaryId));
+		
+		serializer.addSerializer(Range.class.getName(), binaryId, null, null);
+		assertEquals(Range.class, ctx.getEncodeableClass(binaryId));
+	}
+	
+	@Test
+	public void testStringUtf8() throws Exception {
+		StringBuilder longString = new StringBuilder();
+		for (int i=0; i<3000; i++)
+			longString.append("a\u00e4\u20ac\ud83d\ude00");
+		String[] strings = new String[] {
+				"", "BrowseName", "\u00e4\u00f6", "\u20ac", "\ud83d\ude00", longString.toString()
+		};
+		for (String s : strings) {
+			BinaryDecoder sut = new BinaryDecoder(binaryEncode(s));
+			sut.setEncoderContext(EncoderContext.getDefaultInstance());
+			assertEquals(s, sut.getString(null));
+		}
+		
+		// Malformed input is replaced as by the JDK
+		byte[][] malformed = new byte[][] {
+				{(byte) 0xc3}, {(byte) 0xc0, (byte) 0x80}, {'a', (byte) 0xe2, (byte) 0x82},
+				{(byte) 0xed, (byte) 0xa0, (byte) 0x80}, {(byte) 0xf4, (byte) 0x90, (byte) 0x80, (byte) 0x80},
+				{(byte) 0x80, 'b'}
+		};
+		for (byte[] bytes : malformed) {
+			BinaryDecoder sut = new BinaryDecoder(ByteUtils.concat(binaryEncode(bytes.length), bytes));
+			sut.setEncoderContext(EncoderContext.getDefaultInstance());
+			assertEquals(new String(bytes, BinaryEncoder.UTF8), sut.getString(null));
+		}
+	}
+	
+	@Test
+	public void testStringCache() throws Exception {
+		byte[] data = ByteUtils.concat(ByteUtils.concat(binaryEncode("BrowseName"), binaryEncode("BrowseName")),
+				ByteUtils.concat(binaryEncode("\u00e4"), binaryEncode("\u00e4")));
+		EncoderContext ctx = EncoderContext.getDefaultInstance().shallowCopy();
+		ctx.setStringCache(new StringCache(100));
+		assertEquals(128, ctx.getStringCache().getSize());
+		BinaryDecoder sut = new BinaryDecoder(data);
+		sut.setEncoderContext(ctx);
+		String s = sut.getString(null);
+		assertEquals("BrowseName", s);
+		assertSame(s, sut.getString(null));
+		
+		// Only ASCII strings are shared
+		s = sut.getString(null);
+		assertEquals("\u00e4", s);
+		assertNotSame(s, sut.getString(null));
+		
+		// Longer strings are not cached
+		String longName = "BrowseName of more than sixty-four characters, which is not cached";
+		data = ByteUtils.concat(binaryEncode(longName), binaryEncode(longName));
+		sut = new BinaryDecoder(data);
+		sut.setEncoderContext(ctx);
+		assertNotSame(sut.getString(null), sut.getString(null));
+	}
+	
 	private ByteString createDecimalAsEncodedBytes(long valueraw, short scale) throws Exception{
 		byte[] scalebytes = binaryEncode(scale);
 		byte[] valuebytes = binaryEncode(valueraw);
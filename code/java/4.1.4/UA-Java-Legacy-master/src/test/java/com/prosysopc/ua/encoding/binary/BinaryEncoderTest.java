@@ -230,6 +230,27 @@ public class BinaryEncoderTest {
 		verify(enc).putBoolean("Test", test);
 	}
 	
+	@Test
+	public void encodeStringAsUtf8() throws Exception {
+		StringBuilder longString = new StringBuilder();
+		for (int i=0; i<3000; i++)
+			longString.append("a\u00e4\u20ac\ud83d\ude00");
+		String[] strings = new String[] {
+				"", "BrowseName", "\u00e4\u00f6", "\u20ac", "\ud83d\ude00",
+				"unpaired \ud83d high", "unpaired \ude00 low", "end \ud83d",
+				longString.toString()
+		};
+		for (String s : strings) {
+			byte[] utf8 = s.getBytes(BinaryEncoder.UTF8);
+			byte[] expected = new byte[4 + utf8.length];
+			expected[0] = (byte) utf8.length;
+			expected[1] = (byte) (utf8.length >> 8);
+			expected[2] = (byte) (utf8.length >> 16);
+			System.arraycopy(utf8, 0, expected, 4, utf8.length);
+			assertArrayEquals(s, expected, binaryEncode(s));
+		}
+	}
+	
 	private byte[] binaryEncode(Object o) throws Exception{
 		ByteArrayOutputStream r = new ByteArrayOutputStream();
 		BinaryEncoder enc = new BinaryEncoder(r);
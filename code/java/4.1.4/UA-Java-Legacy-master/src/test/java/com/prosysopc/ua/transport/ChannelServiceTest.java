@@ -0,0 +1,79 @@
+package com.prosysopc.ua.transport;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.prosysopc.ua.builtintypes.ServiceRequest;
+import com.prosysopc.ua.builtintypes.ServiceResponse;
+import com.prosysopc.ua.common.ServiceResultException;
+import com.prosysopc.ua.core.ReadRequest;
+import com.prosysopc.ua.core.ReadResponse;
+import com.prosysopc.ua.core.StatusCodes;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.transport.impl.AsyncResultImpl;
+
+public class ChannelServiceTest {
+
+	static class TestChannel implements RequestChannel {
+		AsyncResultImpl<ServiceResponse> result = new AsyncResultImpl<ServiceResponse>();
+		@Override
+		public IEncodeable serviceRequest(ServiceRequest request) throws ServiceResultException {
+			throw new ServiceResultException(StatusCodes.Bad_NotSupported);
+		}
+		@Override
+		public AsyncResult<ServiceResponse> serviceRequestAsync(ServiceRequest request) {
+			return result;
+		}
+	}
+
+	static class ThreadListener implements ResultListener<ReadResponse> {
+		final AtomicReference<Thread> thread = new AtomicReference<Thread>();
+		ReadResponse response;
+		ServiceResultException error;
+		@Override
+		public void onCompleted(ReadResponse result) {
+			response = result;
+			thread.set(Thread.currentThread());
+		}
+		@Override
+		public void onError(ServiceResultException error) {
+			this.error = error;
+			thread.set(Thread.currentThread());
+		}
+	}
+
+	@Test
+	public void testListenerNotifiedInCompletingThread() throws Exception {
+		final TestChannel channel = new TestChannel();
+		ChannelService service = new ChannelService(channel);
+		ThreadListener listener = new ThreadListener();
+		service.ReadAsync(new ReadRequest(), listener);
+		assertNull(listener.thread.get());
+
+		final ReadResponse response = new ReadResponse();
+		Thread reader = new Thread() {
+			@Override
+			public void run() {
+				channel.result.setResult(response);
+			}
+		};
+		reader.start();
+		reader.join();
+		assertSame(reader, listener.thread.get());
+		assertSame(response, listener.response);
+	}
+
+	@Test
+	public void testListenerOfCompletedResult() throws Exception {
+		TestChannel channel = new TestChannel();
+		channel.result.setError(new ServiceResultException(StatusCodes.Bad_Timeout));
+		ThreadListener listener = new ThreadListener();
+		new ChannelService(channel).ReadAsync(new ReadRequest(), listener);
+		assertSame(Thread.currentThread(), listener.thread.get());
+		assertTrue(listener.error.getStatusCode().isStatusCode(StatusCodes.Bad_Timeout));
+	}
+
+}
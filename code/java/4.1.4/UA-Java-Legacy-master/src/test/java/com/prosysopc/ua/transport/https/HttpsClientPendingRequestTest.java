@@ -0,0 +1,52 @@
+package com.prosysopc.ua.transport.https;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+import com.prosysopc.ua.builtintypes.DataValue;
+import com.prosysopc.ua.builtintypes.UnsignedInteger;
+import com.prosysopc.ua.builtintypes.Variant;
+import com.prosysopc.ua.core.ReadRequest;
+import com.prosysopc.ua.core.ReadResponse;
+import com.prosysopc.ua.core.RequestHeader;
+import com.prosysopc.ua.encoding.EncoderContext;
+import com.prosysopc.ua.encoding.binary.BinaryEncoder;
+
+public class HttpsClientPendingRequestTest {
+
+	@Test
+	public void testDecodeBigEndianBuffers() throws Exception {
+		HttpsClient client = new HttpsClient("http");
+		client.encoderCtx = EncoderContext.getDefaultInstance();
+		ReadRequest request = new ReadRequest();
+		RequestHeader header = new RequestHeader();
+		header.setTimeoutHint(UnsignedInteger.valueOf(10000));
+		request.setRequestHeader(header);
+		HttpsClientPendingRequest pendingRequest = new HttpsClientPendingRequest(client, request);
+
+		ReadResponse response = new ReadResponse();
+		response.setResults(new DataValue[] { new DataValue(new Variant(1234567)), new DataValue(new Variant(-2.5)) });
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		BinaryEncoder enc = new BinaryEncoder(os);
+		enc.setEncoderContext(client.encoderCtx);
+		enc.putMessage(response);
+		byte[] data = os.toByteArray();
+
+		// Buffers of the pool are big endian, the body is split in the middle of a value
+		int split = data.length - 5;
+		ByteBuffer[] body = new ByteBuffer[] { ByteBuffer.wrap(data, 0, split).slice(),
+				ByteBuffer.wrap(data, split, data.length - split).slice() };
+		assertEquals(ByteOrder.BIG_ENDIAN, body[0].order());
+		pendingRequest.setResponse(200, body);
+
+		ReadResponse decoded = (ReadResponse) pendingRequest.result.waitForResult();
+		assertEquals(1234567, decoded.getResults()[0].getValue().intValue());
+		assertEquals(-2.5, decoded.getResults()[1].getValue().doubleValue(), 0);
+	}
+
+}
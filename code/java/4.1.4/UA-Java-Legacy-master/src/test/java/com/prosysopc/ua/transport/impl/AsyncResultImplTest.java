@@ -0,0 +1,100 @@
+package com.prosysopc.ua.transport.impl;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.prosysopc.ua.common.ServiceResultException;
+import com.prosysopc.ua.core.StatusCodes;
+import com.prosysopc.ua.transport.AsyncResult.AsyncResultStatus;
+import com.prosysopc.ua.transport.ResultListener;
+
+public class AsyncResultImplTest {
+
+	static class CountingListener implements ResultListener<String> {
+		final AtomicInteger completed = new AtomicInteger();
+		final AtomicInteger errors = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(1);
+		@Override
+		public void onCompleted(String result) {
+			completed.incrementAndGet();
+			latch.countDown();
+		}
+		@Override
+		public void onError(ServiceResultException error) {
+			errors.incrementAndGet();
+			latch.countDown();
+		}
+	}
+
+	@Test
+	public void testResultIsSetOnce() throws Exception {
+		AsyncResultImpl<String> result = new AsyncResultImpl<String>();
+		assertEquals(AsyncResultStatus.Waiting, result.getStatus());
+		result.setResult("a");
+		result.setResult("b");
+		result.setError(new ServiceResultException(StatusCodes.Bad_Timeout));
+		assertEquals(AsyncResultStatus.Succeed, result.getStatus());
+		assertEquals("a", result.waitForResult());
+		assertNull(result.getError());
+	}
+
+	@Test
+	public void testNullResultIgnored() throws Exception {
+		AsyncResultImpl<String> result = new AsyncResultImpl<String>();
+		CountingListener listener = new CountingListener();
+		result.setListener(listener, true);
+		result.setResult(null);
+		assertEquals(AsyncResultStatus.Waiting, result.getStatus());
+		assertEquals(0, listener.completed.get());
+		result.setResult("a");
+		assertEquals(AsyncResultStatus.Succeed, result.getStatus());
+		assertEquals(1, listener.completed.get());
+		assertEquals("a", result.waitForResult());
+	}
+
+	@Test
+	public void testWaitTimeout() throws Exception {
+		AsyncResultImpl<String> result = new AsyncResultImpl<String>();
+		try {
+			result.waitForResult(10, TimeUnit.MILLISECONDS);
+			fail();
+		} catch (ServiceResultException e) {
+			assertTrue(e.getStatusCode().isStatusCode(StatusCodes.Bad_Timeout));
+		}
+		result.setError(new ServiceResultException(StatusCodes.Bad_SecureChannelClosed));
+		try {
+			result.waitForResult();
+			fail();
+		} catch (ServiceResultException e) {
+			assertTrue(e.getStatusCode().isStatusCode(StatusCodes.Bad_SecureChannelClosed));
+		}
+	}
+
+	@Test
+	public void testListener() throws Exception {
+		AsyncResultImpl<String> result = new AsyncResultImpl<String>();
+		CountingListener listener = new CountingListener();
+		result.setListener(listener);
+		result.setResult("a");
+		assertTrue(listener.latch.await(5, TimeUnit.SECONDS));
+
+		// Set after completion, notified here and now
+		CountingListener late = new CountingListener();
+		result.setListener(late);
+		assertEquals(1, late.completed.get());
+
+		CountingListener sync = new CountingListener();
+		AsyncResultImpl<String> failed = new AsyncResultImpl<String>();
+		failed.setListener(sync);
+		failed.setErrorSync(new ServiceResultException(StatusCodes.Bad_Timeout));
+		failed.setErrorSync(new ServiceResultException(StatusCodes.Bad_Timeout));
+		assertEquals(1, sync.errors.get());
+		assertEquals(1, listener.completed.get());
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.prosysopc.ua.transport.security;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+
+import javax.security.auth.x500.X500Principal;
+
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class CertificateCacheTest {
+
+	static byte[][] encoded = new byte[3][];
+
+	@BeforeClass
+	public static void generateCertificates() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(1024);
+		KeyPair keys = generator.generateKeyPair();
+		Date now = new Date();
+		for (int i=0; i<encoded.length; i++) {
+			X500Principal name = new X500Principal("CN=Test" + i);
+			X509Certificate certificate = new JcaX509CertificateConverter().getCertificate(
+					new JcaX509v3CertificateBuilder(name, BigInteger.valueOf(i + 1), now, new Date(now.getTime() + 86400000L), name, keys.getPublic())
+					.build(new JcaContentSignerBuilder("SHA256withRSA").build(keys.getPrivate())));
+			encoded[i] = certificate.getEncoded();
+		}
+	}
+
+	@Test
+	public void testDecode() throws Exception {
+		CertificateCache cache = new CertificateCache(2);
+		Cert cert = cache.decode(encoded[0]);
+		assertArrayEquals(encoded[0], cert.getEncoded());
+		assertSame(cert, cache.decode(encoded[0].clone()));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		// The least recently used certificate is dropped
+		cache.decode(encoded[1]);
+		cache.decode(encoded[0]);
+		cache.decode(encoded[2]);
+		assertEquals(2, cache.size());
+		assertSame(cert, cache.decode(encoded[0]));
+		assertEquals(3, cache.getMissCount());
+		cache.decode(encoded[1]);
+		assertEquals(4, cache.getMissCount());
+	}
+
+	@Test
+	public void testDisabled() throws Exception {
+		CertificateCache cache = new CertificateCache(0);
+		Cert cert = cache.decode(encoded[0]);
+		assertNotSame(cert, cache.decode(encoded[0]));
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getHitCount());
+	}
+
+}
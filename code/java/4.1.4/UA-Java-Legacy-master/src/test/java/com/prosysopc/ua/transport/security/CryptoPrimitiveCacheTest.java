@@ -0,0 +1,109 @@
+package com.prosysopc.ua.transport.security;
+
+import static org.junit.Assert.*;
+
+import java.security.Security;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class CryptoPrimitiveCacheTest {
+
+	@Test
+	public void testTakeAndRelease() {
+		CryptoPrimitiveCache<String> cache = new CryptoPrimitiveCache<String>(2);
+		byte[] key = new byte[16];
+		byte[] iv = new byte[16];
+		assertNull(cache.take("AES", key, iv));
+
+		cache.release("AES", key, iv, "cipher");
+		// Keys are compared by identity
+		assertNull(cache.take("AES", key.clone(), iv));
+		assertNull(cache.take("AES", key, null));
+		assertNull(cache.take("HmacSHA256", key, iv));
+		assertEquals("cipher", cache.take("AES", key, iv));
+		// Taken out of the cache
+		assertNull(cache.take("AES", key, iv));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedIsDropped() {
+		CryptoPrimitiveCache<String> cache = new CryptoPrimitiveCache<String>(2);
+		byte[] key1 = new byte[16], key2 = new byte[16], key3 = new byte[16];
+		cache.release("AES", key1, null, "1");
+		cache.release("AES", key2, null, "2");
+		cache.release("AES", key3, null, "3");
+		assertNull(cache.take("AES", key1, null));
+		assertEquals("2", cache.take("AES", key2, null));
+		assertEquals("3", cache.take("AES", key3, null));
+	}
+
+	@Test
+	public void testCacheIsPerThread() throws Exception {
+		final CryptoPrimitiveCache<String> cache = new CryptoPrimitiveCache<String>(2);
+		final byte[] key = new byte[16];
+		cache.release("AES", key, null, "cipher");
+		final String[] result = new String[1];
+		Thread t = new Thread() {
+			@Override
+			public void run() {
+				result[0] = cache.take("AES", key, null);
+			}
+		};
+		t.start();
+		t.join();
+		assertNull(result[0]);
+		assertEquals("cipher", cache.take("AES", key, null));
+	}
+
+	/**
+	 * The cached primitives must produce the same results as new ones
+	 */
+	void assertCachedResultsMatch(CryptoProvider cached, CryptoProvider uncached) throws Exception {
+		SecurityPolicy policy = SecurityPolicy.BASIC256SHA256;
+		Random random = new Random(1);
+		byte[] signingKey = new byte[policy.getSignatureKeySize()];
+		byte[] encryptingKey = new byte[policy.getEncryptionKeySize()];
+		byte[] iv = new byte[policy.getEncryptionBlockSize()];
+		byte[] data = new byte[1024];
+		random.nextBytes(signingKey);
+		random.nextBytes(encryptingKey);
+		random.nextBytes(iv);
+		random.nextBytes(data);
+
+		byte[] expected = new byte[data.length];
+		uncached.encryptSymm(policy, encryptingKey, iv, data, 0, data.length, expected, 0);
+		byte[] expectedSignature = new byte[policy.getSymmetricSignatureSize()];
+		uncached.signSymm(policy, signingKey, data, 0, data.length, expectedSignature, 0);
+
+		for (int i=0; i<3; i++) {
+			byte[] encrypted = new byte[data.length];
+			cached.encryptSymm(policy, encryptingKey, iv, data, 0, data.length, encrypted, 0);
+			assertTrue(Arrays.equals(expected, encrypted));
+			byte[] decrypted = new byte[data.length];
+			cached.decryptSymm(policy, encryptingKey, iv, encrypted, 0, encrypted.length, decrypted, 0);
+			assertTrue(Arrays.equals(data, decrypted));
+
+			byte[] signature = new byte[policy.getSymmetricSignatureSize()];
+			cached.signSymm(policy, signingKey, data, 0, data.length, signature, 0);
+			assertTrue(Arrays.equals(expectedSignature, signature));
+			cached.verifySymm(policy, signingKey, data, 0, data.length, signature);
+		}
+	}
+
+	@Test
+	public void testJceProvider() throws Exception {
+		JceCryptoProvider uncached = new JceCryptoProvider(Security.getProvider("SunJCE"));
+		uncached.setCachePrimitives(false);
+		assertCachedResultsMatch(new JceCryptoProvider(Security.getProvider("SunJCE")), uncached);
+	}
+
+	@Test
+	public void testBcProvider() throws Exception {
+		BcCryptoProvider uncached = new BcCryptoProvider();
+		uncached.setCachePrimitives(false);
+		assertCachedResultsMatch(new BcCryptoProvider(), uncached);
+	}
+
+}
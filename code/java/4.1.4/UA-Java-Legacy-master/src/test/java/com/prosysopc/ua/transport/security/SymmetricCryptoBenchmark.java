@@ -0,0 +1,77 @@
+package com.prosysopc.ua.transport.security;
+
+import java.security.Security;
+import java.util.Random;
+
+/**
+ * Compares the symmetric sign, encrypt, decrypt and verify operations of the
+ * crypto providers with and without caching of the initialized primitives.
+ * <p>
+ * Run with main(), e.g. <code>SymmetricCryptoBenchmark [chunkSize] [iterations]</code>
+ */
+public class SymmetricCryptoBenchmark {
+
+	static SecurityPolicy policy = SecurityPolicy.BASIC256SHA256;
+
+	static void setCachePrimitives(CryptoProvider provider, boolean cache) {
+		if (provider instanceof JceCryptoProvider)
+			((JceCryptoProvider) provider).setCachePrimitives(cache);
+		else if (provider instanceof BcCryptoProvider)
+			((BcCryptoProvider) provider).setCachePrimitives(cache);
+		else if (provider instanceof ScCryptoProvider)
+			((ScCryptoProvider) provider).setCachePrimitives(cache);
+	}
+
+	/**
+	 * Sign, encrypt, decrypt and verify a chunk like the opc.tcp stack does
+	 *
+	 * @return nanoseconds per chunk
+	 */
+	static double run(CryptoProvider provider, byte[] chunk, int iterations) throws Exception {
+		Random random = new Random(1);
+		byte[] signingKey = new byte[policy.getSignatureKeySize()];
+		byte[] encryptingKey = new byte[policy.getEncryptionKeySize()];
+		byte[] iv = new byte[policy.getEncryptionBlockSize()];
+		random.nextBytes(signingKey);
+		random.nextBytes(encryptingKey);
+		random.nextBytes(iv);
+		int signatureSize = policy.getSymmetricSignatureSize();
+		int verifyLen = chunk.length - signatureSize;
+		byte[] signature = new byte[signatureSize];
+
+		long start = System.nanoTime();
+		for (int i=0; i<iterations; i++) {
+			provider.signSymm(policy, signingKey, chunk, 0, verifyLen, chunk, verifyLen);
+			provider.encryptSymm(policy, encryptingKey, iv, chunk, 0, chunk.length, chunk, 0);
+			provider.decryptSymm(policy, encryptingKey, iv, chunk, 0, chunk.length, chunk, 0);
+			System.arraycopy(chunk, verifyLen, signature, 0, signatureSize);
+			provider.verifySymm(policy, signingKey, chunk, 0, verifyLen, signature);
+		}
+		return (System.nanoTime() - start) / (double) iterations;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int chunkSize = args.length > 0 ? Integer.parseInt(args[0]) : 8192;
+		int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+		byte[] chunk = new byte[chunkSize - chunkSize % policy.getEncryptionBlockSize()];
+		new Random().nextBytes(chunk);
+
+		CryptoProvider[] providers = {
+				new JceCryptoProvider(Security.getProvider("SunJCE")),
+				new BcJceCryptoProvider(),
+				new BcCryptoProvider(),
+				new ScCryptoProvider()
+		};
+		for (int round=0; round<3; round++) {
+			for (CryptoProvider provider : providers) {
+				setCachePrimitives(provider, false);
+				double uncached = run(provider, chunk, iterations);
+				setCachePrimitives(provider, true);
+				double cached = run(provider, chunk, iterations);
+				System.out.println(String.format("round %d: %-20s uncached %.1f us/chunk, cached %.1f us/chunk",
+						round, provider.getClass().getSimpleName(), uncached/1000, cached/1000));
+			}
+		}
+	}
+
+}
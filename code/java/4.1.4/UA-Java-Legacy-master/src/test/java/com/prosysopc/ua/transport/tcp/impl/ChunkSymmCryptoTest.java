@@ -0,0 +1,131 @@
+package com.prosysopc.ua.transport.tcp.impl;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import com.prosysopc.ua.common.RuntimeServiceResultException;
+import com.prosysopc.ua.core.MessageSecurityMode;
+import com.prosysopc.ua.core.StatusCodes;
+import com.prosysopc.ua.transport.security.BcCryptoProvider;
+import com.prosysopc.ua.transport.security.SecurityPolicy;
+import com.prosysopc.ua.utils.CryptoUtil;
+
+public class ChunkSymmCryptoTest {
+
+	static final int TOKEN_ID = 7;
+
+	SecurityPolicy policy = SecurityPolicy.BASIC256SHA256;
+	Random random = new Random(1);
+	byte[] signingKey = randomBytes(policy.getSignatureKeySize());
+	byte[] encryptingKey = randomBytes(policy.getEncryptionKeySize());
+	byte[] iv = randomBytes(policy.getEncryptionBlockSize());
+
+	@BeforeClass
+	public static void setUpCryptoProvider() {
+		CryptoUtil.setCryptoProvider(new BcCryptoProvider());
+	}
+
+	byte[] randomBytes(int length) {
+		byte[] result = new byte[length];
+		random.nextBytes(result);
+		return result;
+	}
+
+	/**
+	 * Create a token whose local keys match the remote keys, so that the
+	 * chunks it signs and encrypts can be verified and decrypted with it.
+	 */
+	SecurityToken createToken(MessageSecurityMode msm) {
+		SecurityToken token = mock(SecurityToken.class);
+		when(token.getSecurityPolicy()).thenReturn(policy);
+		when(token.getMessageSecurityMode()).thenReturn(msm);
+		when(token.getTokenId()).thenReturn(TOKEN_ID);
+		when(token.getLocalSigningKey()).thenReturn(signingKey);
+		when(token.getRemoteSigningKey()).thenReturn(signingKey);
+		when(token.getLocalEncryptingKey()).thenReturn(encryptingKey);
+		when(token.getRemoteEncryptingKey()).thenReturn(encryptingKey);
+		when(token.getLocalInitializationVector()).thenReturn(iv);
+		when(token.getRemoteInitializationVector()).thenReturn(iv);
+		return token;
+	}
+
+	/**
+	 * Create a complete chunk with the given body. The chunk is placed in the
+	 * middle of a larger array to verify that array offsets are respected.
+	 */
+	ByteBuffer createChunk(MessageSecurityMode msm, byte[] body, int arrayOffset) {
+		ChunkFactory cf = new ChunkFactory(8192, 8, 8, 8, policy.getSymmetricSignatureSize(), policy.getEncryptionBlockSize(), msm, 2048);
+		ByteBuffer plaintext = cf.allocate(body.length);
+		plaintext.put(body);
+		ByteBuffer complete = cf.expandToCompleteChunk(plaintext);
+
+		byte[] array = new byte[arrayOffset + complete.limit() + 16];
+		System.arraycopy(complete.array(), 0, array, arrayOffset, complete.limit());
+		ByteBuffer chunk = ByteBuffer.wrap(array, arrayOffset, complete.limit()).slice().order(ByteOrder.LITTLE_ENDIAN);
+		chunk.putInt(0, 0x46534d);
+		chunk.putInt(8, 1);
+		chunk.putInt(12, TOKEN_ID);
+		chunk.putInt(16, 1);
+		chunk.putInt(20, 1);
+		return chunk;
+	}
+
+	void assertRoundTrip(MessageSecurityMode msm, int arrayOffset) {
+		byte[] body = randomBytes(1000);
+		ByteBuffer chunk = createChunk(msm, body, arrayOffset);
+		ByteBuffer bodyView = ByteBuffer.wrap(body);
+		SecurityToken token = createToken(msm);
+
+		new ChunkSymmEncryptSigner(chunk, bodyView, token).run();
+		if (msm == MessageSecurityMode.SignAndEncrypt) {
+			chunk.position(24);
+			byte[] encrypted = new byte[body.length];
+			chunk.get(encrypted);
+			assertFalse(ByteBuffer.wrap(body).equals(ByteBuffer.wrap(encrypted)));
+		}
+
+		chunk.rewind();
+		new ChunkSymmDecryptVerifier(chunk, token).run();
+		assertEquals(24, chunk.position());
+		assertEquals(body.length, chunk.remaining());
+		byte[] decrypted = new byte[body.length];
+		chunk.get(decrypted);
+		assertArrayEquals(body, decrypted);
+	}
+
+	@Test
+	public void testSignRoundTrip() {
+		assertRoundTrip(MessageSecurityMode.Sign, 0);
+		assertRoundTrip(MessageSecurityMode.Sign, 13);
+	}
+
+	@Test
+	public void testSignAndEncryptRoundTrip() {
+		assertRoundTrip(MessageSecurityMode.SignAndEncrypt, 0);
+		assertRoundTrip(MessageSecurityMode.SignAndEncrypt, 13);
+	}
+
+	@Test
+	public void testTamperedChunkIsRejected() {
+		MessageSecurityMode msm = MessageSecurityMode.SignAndEncrypt;
+		ByteBuffer chunk = createChunk(msm, randomBytes(1000), 5);
+		SecurityToken token = createToken(msm);
+		new ChunkSymmEncryptSigner(chunk, ByteBuffer.allocate(1000), token).run();
+
+		chunk.put(100, (byte) (chunk.get(100) ^ 1));
+		chunk.rewind();
+		try {
+			new ChunkSymmDecryptVerifier(chunk, token).run();
+			fail("Expected Bad_SecurityChecksFailed");
+		} catch (RuntimeServiceResultException e) {
+			assertEquals(StatusCodes.Bad_SecurityChecksFailed, e.getCause().getStatusCode().getValue());
+		}
+	}
+
+}
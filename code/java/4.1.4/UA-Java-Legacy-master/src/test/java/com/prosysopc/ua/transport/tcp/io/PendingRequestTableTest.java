@@ -0,0 +1,88 @@
+package com.prosysopc.ua.transport.tcp.io;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.prosysopc.ua.transport.tcp.io.SecureChannelTcp.PendingRequest;
+
+public class PendingRequestTableTest {
+
+	static PendingRequest request(int requestId) {
+		PendingRequest req = new PendingRequest();
+		req.requestId = requestId;
+		return req;
+	}
+
+	@Test
+	public void testPutAndRemove() {
+		PendingRequestTable table = new PendingRequestTable(3);
+		PendingRequest r1 = request(1);
+		PendingRequest r2 = request(2);
+		table.put(r1);
+		table.put(r2);
+		assertEquals(2, table.size());
+		assertSame(r1, table.get(1));
+		assertNull(table.get(5));
+		assertSame(r1, table.remove(1));
+		assertNull(table.remove(1));
+		assertSame(r2, table.remove(2));
+		assertTrue(table.isEmpty());
+	}
+
+	@Test
+	public void testOverflow() {
+		// Request 1 still waits when the ids wrap around the ring of 4 slots
+		PendingRequestTable table = new PendingRequestTable(4);
+		PendingRequest r1 = request(1);
+		PendingRequest r5 = request(5);
+		PendingRequest r9 = request(9);
+		table.put(r1);
+		table.put(r5);
+		table.put(r9);
+		assertEquals(3, table.size());
+		assertSame(r5, table.get(5));
+		assertSame(r9, table.remove(9));
+		assertSame(r1, table.remove(1));
+		assertNull(table.get(1));
+		assertSame(r5, table.get(5));
+		assertEquals(1, table.size());
+	}
+
+	@Test
+	public void testRemoveAll() {
+		PendingRequestTable table = new PendingRequestTable(4);
+		for (int i=1; i<=10; i++)
+			table.put(request(i));
+		List<PendingRequest> removed = table.removeAll();
+		assertEquals(10, removed.size());
+		assertTrue(table.isEmpty());
+		assertNull(table.get(3));
+		assertTrue(table.removeAll().isEmpty());
+	}
+
+	@Test
+	public void testRemoveAllWhilePut() throws Exception {
+		final PendingRequestTable table = new PendingRequestTable(16);
+		final int count = 100000;
+		Thread putter = new Thread() {
+			@Override
+			public void run() {
+				for (int i=1; i<=count; i++)
+					table.put(request(i));
+			}
+		};
+		putter.start();
+		int removed = 0;
+		while (removed < count) {
+			assertTrue(table.size() >= 0);
+			removed += table.removeAll().size();
+		}
+		putter.join();
+		assertEquals(count, removed);
+		assertTrue(table.isEmpty());
+	}
+
+}
@@ -0,0 +1,124 @@
+package com.prosysopc.ua.transport.tcp.nio;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ChunkSequencerTest {
+
+	@Test
+	public void testReleasedInOrder() {
+		ChunkSequencer sequencer = new ChunkSequencer(new AtomicInteger());
+		final List<Integer> released = new ArrayList<Integer>();
+		Runnable[] work = new Runnable[3];
+		for (int i=0; i<work.length; i++) {
+			final int n = i;
+			work[i] = new Runnable() {
+				public void run() {
+					released.add(n);
+				}};
+			sequencer.incubate(work[i]);
+		}
+		sequencer.hatch(work[1]);
+		sequencer.hatch(work[2]);
+		assertTrue(released.isEmpty());
+		sequencer.hatch(work[0]);
+		assertEquals(Arrays.asList(0, 1, 2), released);
+	}
+
+	@Test
+	public void testSequenceNumbers() {
+		ChunkSequencer sequencer = new ChunkSequencer(new AtomicInteger(10));
+		assertTrue(sequencer.testAndSetSequenceNumber(10));
+		assertTrue(sequencer.testAndSetSequenceNumber(11));
+		assertFalse(sequencer.testAndSetSequenceNumber(13));
+		// A rejected or unverified chunk consumes its number
+		assertFalse(sequencer.testAndSetSequenceNumber(null));
+		assertTrue(sequencer.testAndSetSequenceNumber(14));
+		assertEquals(15, sequencer.getExpectedSequenceNumber());
+	}
+
+	@Test
+	public void testSequenceNumberWrapAround() {
+		ChunkSequencer sequencer = new ChunkSequencer(new AtomicInteger((int) 4294966270L));
+		// No wrap around before 4294966271
+		assertFalse(sequencer.testAndSetSequenceNumber(5));
+		sequencer = new ChunkSequencer(new AtomicInteger((int) 4294966272L));
+		assertTrue(sequencer.testAndSetSequenceNumber(5));
+		assertTrue(sequencer.testAndSetSequenceNumber(6));
+		sequencer = new ChunkSequencer(new AtomicInteger((int) 4294967295L));
+		assertTrue(sequencer.testAndSetSequenceNumber((int) 4294967295L));
+		assertTrue(sequencer.testAndSetSequenceNumber(0));
+	}
+
+	/**
+	 * Push chunks of many channels through a thread pool, which verifies them
+	 * in random order. The work of each channel must be run in order and by
+	 * one thread at a time.
+	 */
+	@Test
+	public void testConcurrentChannels() throws Exception {
+		final int channels = 32;
+		final int chunksPerChannel = 500;
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		final CountDownLatch done = new CountDownLatch(channels * chunksPerChannel);
+		final AtomicBoolean failed = new AtomicBoolean();
+		final List<Runnable> verifications = new ArrayList<Runnable>();
+		final ChunkSequencer[] sequencers = new ChunkSequencer[channels];
+		final int[] released = new int[channels];
+		final AtomicBoolean[] running = new AtomicBoolean[channels];
+
+		for (int c=0; c<channels; c++) {
+			sequencers[c] = new ChunkSequencer(new AtomicInteger(c * 1000));
+			running[c] = new AtomicBoolean();
+		}
+		// Chunks are received in order per channel, interleaved between channels
+		for (int i=0; i<chunksPerChannel; i++) {
+			for (int c=0; c<channels; c++) {
+				final int channel = c;
+				final int sequenceNumber = c * 1000 + i;
+				final ChunkSequencer sequencer = sequencers[c];
+				final Runnable work = new Runnable() {
+					public void run() {
+						if (!running[channel].compareAndSet(false, true)) failed.set(true);
+						if (!sequencer.testAndSetSequenceNumber(sequenceNumber)) failed.set(true);
+						released[channel]++;
+						running[channel].set(false);
+						done.countDown();
+					}};
+				sequencer.incubate(work);
+				verifications.add(new Runnable() {
+					public void run() {
+						// Simulate verification of varying duration
+						if (sequenceNumber % 7 == 0) Thread.yield();
+						sequencer.hatch(work);
+					}});
+			}
+		}
+
+		Collections.shuffle(verifications, new Random(1));
+		for (Runnable r : verifications)
+			executor.execute(r);
+		assertTrue(done.await(30, TimeUnit.SECONDS));
+		executor.shutdown();
+
+		assertFalse(failed.get());
+		for (int c=0; c<channels; c++) {
+			assertEquals(chunksPerChannel, released[c]);
+			assertEquals(c * 1000 + chunksPerChannel, sequencers[c].getExpectedSequenceNumber());
+		}
+	}
+
+}
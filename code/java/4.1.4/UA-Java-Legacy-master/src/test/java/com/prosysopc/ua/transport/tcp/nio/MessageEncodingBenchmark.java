@@ -0,0 +1,70 @@
+package com.prosysopc.ua.transport.tcp.nio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.prosysopc.ua.core.MessageSecurityMode;
+import com.prosysopc.ua.core.ReadResponse;
+import com.prosysopc.ua.encoding.EncoderContext;
+import com.prosysopc.ua.encoding.IEncodeable;
+import com.prosysopc.ua.encoding.binary.BinaryEncoder;
+import com.prosysopc.ua.transport.tcp.impl.ChunkFactory;
+import com.prosysopc.ua.utils.SizeCalculationOutputStream;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferArrayWriteable;
+import com.prosysopc.ua.utils.bytebuffer.ByteQueue;
+
+/**
+ * Compares the earlier two-pass message encoding (size calculation pass
+ * followed by encoding into preallocated chunks) with the single-pass
+ * encoding of {@link MessageToChunks}.
+ * <p>
+ * Run with main(), e.g. <code>MessageEncodingBenchmark [valueCount] [iterations]</code>
+ */
+public class MessageEncodingBenchmark {
+
+	static EncoderContext ctx = EncoderContext.getDefaultInstance();
+	static ChunkFactory cf = new ChunkFactory(65536, 8, 8, 8, 0, 1, MessageSecurityMode.None, 0);
+
+	static ByteBuffer[] encodeTwoPass(IEncodeable msg) throws Exception {
+		SizeCalculationOutputStream calcBuf = new SizeCalculationOutputStream();
+		BinaryEncoder calc = new BinaryEncoder(calcBuf);
+		calc.setEncoderContext(ctx);
+		calc.putMessage(msg);
+		int len = calcBuf.getLength();
+
+		ByteQueue bq = new ByteQueue();
+		bq.order(ByteOrder.LITTLE_ENDIAN);
+		bq.setWriteLimit(len);
+		bq.setByteBufferFactory(cf);
+		bq.setChunkSize(cf.maxPlaintextSize);
+		ByteBufferArrayWriteable array = new ByteBufferArrayWriteable(bq);
+		array.order(ByteOrder.LITTLE_ENDIAN);
+		BinaryEncoder enc = new BinaryEncoder(array);
+		enc.setEncoderContext(ctx);
+		enc.putMessage(msg);
+		return bq.getChunks(len);
+	}
+
+	static ByteBuffer[] encodeSinglePass(IEncodeable msg) throws Exception {
+		return new MessageToChunks(msg, 0, 0, ctx, cf, MessageType.Message).call();
+	}
+
+	public static void main(String[] args) throws Exception {
+		int valueCount = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+		ReadResponse msg = MessageToChunksTest.createReadResponse(valueCount);
+
+		for (int round=0; round<3; round++) {
+			long t0 = System.nanoTime();
+			for (int i=0; i<iterations; i++)
+				encodeTwoPass(msg);
+			long t1 = System.nanoTime();
+			for (int i=0; i<iterations; i++)
+				encodeSinglePass(msg);
+			long t2 = System.nanoTime();
+			System.out.println(String.format("round %d: two-pass %.1f us/msg, single-pass %.1f us/msg",
+					round, (t1-t0)/1000.0/iterations, (t2-t1)/1000.0/iterations));
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.prosysopc.ua.transport.tcp.nio;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Test;
+import com.prosysopc.ua.builtintypes.DataValue;
+import com.prosysopc.ua.builtintypes.DateTime;
+import com.prosysopc.ua.builtintypes.StatusCode;
+import com.prosysopc.ua.builtintypes.Variant;
+import com.prosysopc.ua.common.RuntimeServiceResultException;
+import com.prosysopc.ua.core.MessageSecurityMode;
+import com.prosysopc.ua.core.ReadResponse;
+import com.prosysopc.ua.core.ResponseHeader;
+import com.prosysopc.ua.core.StatusCodes;
+import com.prosysopc.ua.encoding.EncoderContext;
+import com.prosysopc.ua.encoding.binary.BinaryEncoder;
+import com.prosysopc.ua.transport.tcp.impl.ChunkFactory;
+
+public class MessageToChunksTest {
+
+	EncoderContext ctx = EncoderContext.getDefaultInstance();
+	ChunkFactory cf = new ChunkFactory(8192, 8, 8, 8, 0, 1, MessageSecurityMode.None, 0);
+
+	static ReadResponse createReadResponse(int count) {
+		DataValue[] results = new DataValue[count];
+		DateTime now = DateTime.currentTime();
+		for (int i=0; i<count; i++)
+			results[i] = new DataValue(new Variant("value-"+i), StatusCode.GOOD, now, now);
+		ReadResponse response = new ReadResponse();
+		response.setResponseHeader(new ResponseHeader());
+		response.setResults(results);
+		return response;
+	}
+
+	byte[] encodeReference(ReadResponse msg) throws Exception {
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		BinaryEncoder enc = new BinaryEncoder(os);
+		enc.setEncoderContext(ctx);
+		enc.putMessage(msg);
+		return os.toByteArray();
+	}
+
+	@Test
+	public void testSinglePassEncoding() throws Exception {
+		ReadResponse msg = createReadResponse(2000);
+		byte[] expected = encodeReference(msg);
+
+		ByteBuffer[] plaintexts = new MessageToChunks(msg, 0, 0, ctx, cf, MessageType.Message).call();
+		assertEquals((expected.length + cf.maxPlaintextSize - 1) / cf.maxPlaintextSize, plaintexts.length);
+
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		for (int i=0; i<plaintexts.length; i++) {
+			ByteBuffer plaintext = plaintexts[i];
+			assertFalse(plaintext.hasRemaining());
+			if (i<plaintexts.length-1)
+				assertEquals(cf.maxPlaintextSize, plaintext.limit());
+			// The chunk size field must match the actual chunk
+			ByteBuffer chunk = cf.expandToCompleteChunk(plaintext);
+			assertEquals(chunk.limit(), chunk.getInt(4));
+			os.write(plaintext.array(), plaintext.arrayOffset(), plaintext.limit());
+		}
+		assertTrue(Arrays.equals(expected, os.toByteArray()));
+	}
+
+	@Test
+	public void testMaxMessageSizeExceeded() throws Exception {
+		ReadResponse msg = createReadResponse(2000);
+		try {
+			new MessageToChunks(msg, 10000, 0, ctx, cf, MessageType.Message).call();
+			fail("Expected Bad_TcpMessageTooLarge");
+		} catch (RuntimeServiceResultException e) {
+			assertEquals(StatusCodes.Bad_TcpMessageTooLarge, e.getCause().getStatusCode().getValue());
+		}
+	}
+
+	@Test
+	public void testMaxChunkCountExceeded() throws Exception {
+		ReadResponse msg = createReadResponse(2000);
+		try {
+			new MessageToChunks(msg, 0, 2, ctx, cf, MessageType.Message).call();
+			fail("Expected Bad_TcpMessageTooLarge");
+		} catch (RuntimeServiceResultException e) {
+			assertEquals(StatusCodes.Bad_TcpMessageTooLarge, e.getCause().getStatusCode().getValue());
+		}
+	}
+
+}
@@ -0,0 +1,168 @@
+package com.prosysopc.ua.transport.tcp.nio;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import com.prosysopc.ua.common.ServiceResultException;
+import com.prosysopc.ua.core.MessageSecurityMode;
+import com.prosysopc.ua.core.ReadResponse;
+import com.prosysopc.ua.core.StatusCodes;
+import com.prosysopc.ua.encoding.EncoderContext;
+import com.prosysopc.ua.transport.security.SecurityPolicy;
+import com.prosysopc.ua.transport.tcp.impl.ChunkFactory;
+import com.prosysopc.ua.transport.tcp.impl.SecurityToken;
+import com.prosysopc.ua.transport.tcp.impl.TcpConnectionParameters;
+import com.prosysopc.ua.transport.tcp.impl.TcpMessageType;
+
+public class SecureInputMessageBuilderTest {
+
+	static final int SECURE_CHANNEL_ID = 3;
+	static final int TOKEN_ID = 7;
+	static final int REQUEST_ID = 11;
+
+	EncoderContext encoderCtx = EncoderContext.getDefaultInstance();
+	ChunkFactory cf = new ChunkFactory(8192, 8, 8, 8, 0, 1, MessageSecurityMode.None, 0);
+	TcpConnectionParameters ctx = new TcpConnectionParameters();
+
+	static class Listener implements SecureInputMessageBuilder.MessageListener {
+		final CountDownLatch completed = new CountDownLatch(1);
+		volatile Thread thread;
+		@Override
+		public void onMessageComplete(InputMessage sender) {
+			thread = Thread.currentThread();
+			completed.countDown();
+		}
+		void await() throws InterruptedException {
+			assertTrue(completed.await(10, TimeUnit.SECONDS));
+		}
+	}
+
+	SecurityToken createToken() {
+		SecurityToken token = mock(SecurityToken.class);
+		when(token.getSecurityPolicy()).thenReturn(SecurityPolicy.NONE);
+		when(token.getMessageSecurityMode()).thenReturn(MessageSecurityMode.None);
+		when(token.getTokenId()).thenReturn(TOKEN_ID);
+		return token;
+	}
+
+	/**
+	 * Encode a message into complete chunks with the headers of a secure channel
+	 */
+	ByteBuffer[] createChunks(ReadResponse msg) throws Exception {
+		ByteBuffer[] plaintexts = new MessageToChunks(msg, 0, 0, encoderCtx, cf, MessageType.Message).call();
+		ByteBuffer[] chunks = cf.expandToCompleteChunk(plaintexts);
+		for (int i=0; i<chunks.length; i++) {
+			ByteBuffer chunk = chunks[i];
+			chunk.putInt(0, i == chunks.length-1 ? TcpMessageType.MSGF : TcpMessageType.MSGC);
+			chunk.putInt(8, SECURE_CHANNEL_ID);
+			chunk.putInt(12, TOKEN_ID);
+			chunk.putInt(16, i + 1);
+			chunk.putInt(20, REQUEST_ID);
+			chunk.rewind();
+		}
+		return chunks;
+	}
+
+	SecureInputMessageBuilder build(ByteBuffer[] chunks, Listener listener) throws Exception {
+		SecureInputMessageBuilder builder = new SecureInputMessageBuilder(createToken(), listener, ctx, encoderCtx, null);
+		for (ByteBuffer chunk : chunks)
+			builder.addChunk(chunk);
+		listener.await();
+		return builder;
+	}
+
+	@Test
+	public void testSingleChunkMessage() throws Exception {
+		ByteBuffer[] chunks = createChunks(MessageToChunksTest.createReadResponse(10));
+		assertEquals(1, chunks.length);
+		Listener listener = new Listener();
+		SecureInputMessageBuilder builder = build(chunks, listener);
+		assertNull(builder.getError());
+		assertEquals(10, ((ReadResponse) builder.getMessage()).getResults().length);
+		assertEquals(REQUEST_ID, builder.getRequestId());
+		assertEquals(SECURE_CHANNEL_ID, builder.getSecureChannelId());
+		assertTrue(builder.isDone());
+		assertFalse(builder.moreChunksRequired());
+	}
+
+	@Test
+	public void testMultiChunkMessage() throws Exception {
+		ByteBuffer[] chunks = createChunks(MessageToChunksTest.createReadResponse(2000));
+		assertTrue(chunks.length > 2);
+		Listener listener = new Listener();
+		SecureInputMessageBuilder builder = build(chunks, listener);
+		assertNull(builder.getError());
+		ReadResponse response = (ReadResponse) builder.getMessage();
+		assertEquals(2000, response.getResults().length);
+		assertEquals("value-1999", response.getResults()[1999].getValue().getValue());
+	}
+
+	@Test
+	public void testMaxMessageSizeExceeded() throws Exception {
+		ctx.maxRecvMessageSize = 10000;
+		ByteBuffer[] chunks = createChunks(MessageToChunksTest.createReadResponse(2000));
+		Listener listener = new Listener();
+		SecureInputMessageBuilder builder = build(chunks, listener);
+		assertNull(builder.getMessage());
+		assertEquals(StatusCodes.Bad_TcpMessageTooLarge, ((ServiceResultException) builder.getError()).getStatusCode().getValue());
+	}
+
+	@Test
+	public void testMaxChunkCountExceeded() throws Exception {
+		ctx.maxRecvChunkCount = 2;
+		ByteBuffer[] chunks = createChunks(MessageToChunksTest.createReadResponse(2000));
+		assertTrue(chunks.length > 2);
+		SecureInputMessageBuilder builder = new SecureInputMessageBuilder(createToken(), new Listener(), ctx, encoderCtx, null);
+		builder.addChunk(chunks[0]);
+		builder.addChunk(chunks[1]);
+		try {
+			builder.addChunk(chunks[2]);
+			fail("Expected Bad_TcpMessageTooLarge");
+		} catch (ServiceResultException e) {
+			assertEquals(StatusCodes.Bad_TcpMessageTooLarge, e.getStatusCode().getValue());
+		}
+	}
+
+	@Test
+	public void testChunkAfterFinalChunk() throws Exception {
+		ByteBuffer[] chunks = createChunks(MessageToChunksTest.createReadResponse(10));
+		ByteBuffer[] more = createChunks(MessageToChunksTest.createReadResponse(10));
+		SecureInputMessageBuilder builder = build(chunks, new Listener());
+		try {
+			builder.addChunk(more[0]);
+			fail("Expected Bad_UnexpectedError");
+		} catch (ServiceResultException e) {
+			assertEquals(StatusCodes.Bad_UnexpectedError, e.getStatusCode().getValue());
+		}
+	}
+
+	@Test
+	public void testTruncatedMessage() throws Exception {
+		// The final chunk is missing a part of the message
+		ByteBuffer[] chunks = createChunks(MessageToChunksTest.createReadResponse(2000));
+		ByteBuffer last = chunks[chunks.length-1];
+		int truncated = last.limit() - 100;
+		last.putInt(4, truncated);
+		last.limit(truncated);
+		Listener listener = new Listener();
+		SecureInputMessageBuilder builder = build(chunks, listener);
+		assertNull(builder.getMessage());
+		assertNotNull(builder.getError());
+	}
+
+	@Test
+	public void testWrongSecureChannelId() throws Exception {
+		ByteBuffer[] chunks = createChunks(MessageToChunksTest.createReadResponse(2000));
+		chunks[1].putInt(8, SECURE_CHANNEL_ID + 1);
+		Listener listener = new Listener();
+		SecureInputMessageBuilder builder = build(chunks, listener);
+		assertNull(builder.getMessage());
+		assertEquals(StatusCodes.Bad_UnexpectedError, ((ServiceResultException) builder.getError()).getStatusCode().getValue());
+	}
+
+}
@@ -28,11 +28,15 @@
  * ======================================================================*/
 
 package com.prosysopc.ua.unittests;
+import java.io.ByteArrayOutputStream;
 import java.nio.BufferOverflowException;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.Assert.* ;
 import org.junit.After;
@@ -552,4 +556,75 @@ public class TestByteQueue {
 		assertTrue(limitHit);			
 	}
 	
+	/**
+	 * A channel that accepts at most limit bytes per write
+	 */
+	static class LimitedChannel implements GatheringByteChannel {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int limit;
+		int writes;
+		LimitedChannel(int limit) {
+			this.limit = limit;
+		}
+		@Override
+		public long write(ByteBuffer[] srcs, int offset, int length) {
+			writes++;
+			int n = 0;
+			for (int i=offset; i<offset+length; i++)
+				while (srcs[i].hasRemaining() && n<limit) {
+					out.write(srcs[i].get());
+					n++;
+				}
+			return n;
+		}
+		@Override
+		public long write(ByteBuffer[] srcs) {
+			return write(srcs, 0, srcs.length);
+		}
+		@Override
+		public int write(ByteBuffer src) {
+			return (int) write(new ByteBuffer[] { src });
+		}
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+		@Override
+		public void close() {
+		}
+	}
+
+	@Test
+	public void testGatheringWrite() throws Exception {
+		final List<ByteBuffer> released = new ArrayList<ByteBuffer>();
+		ByteBufferFactory owner = new ByteBufferFactory() {
+			@Override
+			public ByteBuffer allocate(int capacity) {
+				return ByteBuffer.allocate(capacity);
+			}
+			@Override
+			public void release(ByteBuffer buf) {
+				released.add(buf);
+			}
+		};
+		q.put(testData, 0, 4);
+		ByteBuffer offered = ByteBuffer.wrap(testData, 4, 5);
+		q.offer(offered, owner);
+		q.put(testData, 9, 1);
+
+		LimitedChannel channel = new LimitedChannel(6);
+		assertEquals(6, q.write(channel));
+		assertEquals(6, q.getBytesRead());
+		assertTrue(released.isEmpty());
+		assertEquals(4, q.write(channel));
+		assertEquals(2, channel.writes);
+		assertTrue(q.isEmpty());
+		assertEquals(len, q.getBytesRead());
+		assertArrayEquals(testData, channel.out.toByteArray());
+		// The offered buffer was written as such and released
+		assertEquals(1, released.size());
+		assertSame(offered, released.get(0));
+		assertEquals(0, q.write(channel));
+	}
+
 }
@@ -0,0 +1,139 @@
+package com.prosysopc.ua.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferArrayReadable;
+import com.prosysopc.ua.utils.bytebuffer.ByteQueue;
+
+public class ByteBufferArrayReadableTest {
+
+	/**
+	 * Write values to a single buffer
+	 */
+	ByteBuffer createData(ByteOrder order) {
+		ByteBuffer data = ByteBuffer.allocate(1000).order(order);
+		for (int i=0; i<20; i++) {
+			data.put((byte) i);
+			data.putShort((short) (i * 1000 - 7));
+			data.putInt(i * 100000 + 12345678);
+			data.putLong(i * 123456789012345L - 5);
+			data.putFloat(i * 1.5f);
+			data.putDouble(i * -2.25);
+		}
+		data.flip();
+		return data;
+	}
+
+	/**
+	 * Split the data to buffers of the given size, so that values span buffers
+	 */
+	ByteBuffer[] split(ByteBuffer data, int size) {
+		List<ByteBuffer> result = new ArrayList<ByteBuffer>();
+		// An empty buffer is skipped
+		result.add(ByteBuffer.allocate(0));
+		for (int pos=0; pos<data.limit(); pos+=size) {
+			// The buffers have an offset and a different order
+			ByteBuffer buf = ByteBuffer.allocate(size + 3);
+			buf.position(3);
+			int n = Math.min(size, data.limit() - pos);
+			buf.put(data.array(), pos, n);
+			buf.position(3);
+			buf.limit(3 + n);
+			result.add(buf.slice().order(ByteOrder.BIG_ENDIAN));
+		}
+		return result.toArray(new ByteBuffer[result.size()]);
+	}
+
+	void assertReadsData(ByteBufferArrayReadable r) throws Exception {
+		for (int i=0; i<20; i++) {
+			assertEquals((byte) i, r.get());
+			assertEquals((short) (i * 1000 - 7), r.getShort());
+			assertEquals(i * 100000 + 12345678, r.getInt());
+			assertEquals(i * 123456789012345L - 5, r.getLong());
+			assertEquals(i * 1.5f, r.getFloat(), 0);
+			assertEquals(i * -2.25, r.getDouble(), 0);
+		}
+		assertEquals(r.limit(), r.position());
+	}
+
+	@Test
+	public void testValuesSpanningBuffers() throws Exception {
+		for (ByteOrder order : new ByteOrder[] { ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN }) {
+			ByteBuffer data = createData(order);
+			for (int size=1; size<=17; size++) {
+				ByteBufferArrayReadable r = new ByteBufferArrayReadable(split(data, size));
+				r.order(order);
+				assertEquals(data.limit(), r.limit());
+				assertEquals(0, r.position());
+				assertReadsData(r);
+			}
+		}
+	}
+
+	@Test
+	public void testDefaultOrder() throws Exception {
+		// The buffers are big endian, the readable reads little endian
+		ByteBuffer data = createData(ByteOrder.LITTLE_ENDIAN);
+		ByteBufferArrayReadable r = new ByteBufferArrayReadable(split(data, 5));
+		assertEquals(ByteOrder.LITTLE_ENDIAN, r.order());
+		assertReadsData(r);
+	}
+
+	@Test
+	public void testBulkReads() throws Exception {
+		byte[] data = new byte[100];
+		for (int i=0; i<data.length; i++)
+			data[i] = (byte) i;
+		ByteBufferArrayReadable r = new ByteBufferArrayReadable(split(ByteBuffer.wrap(data), 7));
+		byte[] dst = new byte[30];
+		r.get(dst, 0, 30);
+		assertEquals(29, dst[29]);
+		ByteBuffer buf = ByteBuffer.allocate(40);
+		r.get(buf, 25);
+		assertEquals(25, buf.position());
+		assertEquals(30, buf.get(0));
+		assertEquals(54, buf.get(24));
+		assertEquals(55, r.position());
+		r.get(new byte[45]);
+		assertEquals(100, r.position());
+	}
+
+	@Test
+	public void testEndOfData() throws Exception {
+		ByteBufferArrayReadable r = new ByteBufferArrayReadable(split(createData(ByteOrder.LITTLE_ENDIAN), 5));
+		r.get(new byte[(int) r.limit() - 3]);
+		try {
+			r.getInt();
+			fail("Expected EOFException");
+		} catch (EOFException e) {
+		}
+		// Nothing was read
+		assertEquals(r.limit() - 3, r.position());
+		r.getShort();
+		r.get();
+		try {
+			r.get();
+			fail("Expected EOFException");
+		} catch (EOFException e) {
+		}
+	}
+
+	@Test
+	public void testByteQueue() throws Exception {
+		ByteQueue q = new ByteQueue();
+		q.order(ByteOrder.LITTLE_ENDIAN);
+		for (ByteBuffer buf : split(createData(ByteOrder.LITTLE_ENDIAN), 13))
+			q.offer(buf);
+		ByteBufferArrayReadable r = new ByteBufferArrayReadable(q);
+		assertEquals(0, q.remaining());
+		assertReadsData(r);
+	}
+
+}
@@ -0,0 +1,148 @@
+package com.prosysopc.ua.utils;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferPool;
+import com.prosysopc.ua.utils.bytebuffer.ByteQueue;
+
+public class ByteBufferPoolTest {
+
+	ByteBufferPool pool = new ByteBufferPool(false, 1024, 65536, 65536);
+
+	@Test
+	public void testSizeClasses() {
+		ByteBuffer b = pool.allocate(1000);
+		assertEquals(1024, b.capacity());
+		assertEquals(1000, b.limit());
+		assertEquals(0, b.position());
+
+		b = pool.allocate(8196);
+		assertEquals(16384, b.capacity());
+		assertEquals(8196, b.limit());
+
+		// Over the max size is not pooled
+		b = pool.allocate(70000);
+		assertEquals(70000, b.capacity());
+		assertEquals(1, pool.getUnpooledCount());
+		assertEquals(2, pool.getMissCount());
+		assertEquals(2, pool.getOutstandingCount());
+	}
+
+	@Test
+	public void testReuse() {
+		ByteBuffer b = pool.allocate(5000);
+		pool.release(b);
+		assertEquals(1, pool.getReleaseCount());
+		assertEquals(0, pool.getOutstandingCount());
+
+		ByteBuffer c = pool.allocate(6000);
+		assertSame(b.array(), c.array());
+		assertEquals(6000, c.limit());
+		assertEquals(1, pool.getHitCount());
+		assertEquals(1, pool.getMissCount());
+	}
+
+	@Test
+	public void testReleaseSlice() {
+		ByteBuffer b = pool.allocate(4096);
+		b.position(24);
+		ByteBuffer slice = b.slice();
+		pool.release(slice);
+		assertEquals(1, pool.getPooledCount());
+		assertSame(b.array(), pool.allocate(4096).array());
+	}
+
+	@Test
+	public void testDiscard() {
+		// Foreign buffer
+		pool.release(ByteBuffer.allocate(3000));
+		assertEquals(1, pool.getDiscardCount());
+
+		// Pool of 64 kB per class is full after 4 buffers of 16 kB
+		ByteBuffer[] bufs = new ByteBuffer[5];
+		for (int i=0; i<bufs.length; i++)
+			bufs[i] = pool.allocate(16384);
+		for (ByteBuffer b : bufs)
+			pool.release(b);
+		assertEquals(4, pool.getPooledCount());
+		assertEquals(2, pool.getDiscardCount());
+		assertEquals(0, pool.getOutstandingCount());
+	}
+
+	@Test
+	public void testLeakDetection() {
+		pool.setLeakDetection(true);
+		ByteBuffer b = pool.allocate(2048);
+		pool.allocate(2048);
+		assertEquals(2, pool.getOutstandingAllocations().size());
+		pool.release(b);
+		assertEquals(1, pool.getOutstandingAllocations().size());
+
+		// Double release is ignored
+		pool.release(b);
+		assertEquals(1, pool.getPooledCount());
+		assertEquals(1, pool.getOutstandingCount());
+	}
+
+	@Test
+	public void testReleaseNotOutstanding() {
+		// Without leak detection, a double release and a foreign buffer of
+		// a size class are rejected too
+		ByteBuffer b = pool.allocate(2048);
+		pool.release(b);
+		pool.release(b);
+		pool.release(ByteBuffer.allocate(2048));
+		assertEquals(1, pool.getPooledCount());
+		assertEquals(1, pool.getReleaseCount());
+		assertEquals(2, pool.getDiscardCount());
+		assertEquals(0, pool.getOutstandingCount());
+
+		// The array has one owner at a time
+		ByteBuffer c = pool.allocate(2048);
+		ByteBuffer d = pool.allocate(2048);
+		assertSame(b.array(), c.array());
+		assertNotSame(c.array(), d.array());
+	}
+
+	@Test
+	public void testDirect() {
+		ByteBufferPool directPool = new ByteBufferPool(true, 1024, 65536, 65536);
+		ByteBuffer b = directPool.allocate(2000);
+		assertTrue(b.isDirect());
+		directPool.release(b);
+		assertSame(b, directPool.allocate(2048));
+		// Heap buffer is not accepted
+		directPool.release(ByteBuffer.allocate(2048));
+		assertEquals(1, directPool.getDiscardCount());
+		// Nor a direct buffer of another owner
+		directPool.release(ByteBuffer.allocateDirect(2048));
+		assertEquals(2, directPool.getDiscardCount());
+		assertEquals(1, directPool.getOutstandingCount());
+	}
+
+	@Test
+	public void testByteQueueReleasesOfferedBuffers() {
+		ByteQueue q = new ByteQueue();
+		ByteBuffer b1 = pool.allocate(10);
+		ByteBuffer b2 = pool.allocate(10);
+		q.offer(b1, pool);
+		q.offer(b2, pool);
+		q.get(new byte[15]);
+		// b1 is exhausted and released, b2 is being read
+		assertEquals(1, pool.getReleaseCount());
+		q.get(new byte[5]);
+		q.getReadChunk();
+		assertEquals(2, pool.getReleaseCount());
+
+		// Exposed buffers are not released
+		ByteBuffer b3 = pool.allocate(10);
+		q.offer(b3, pool);
+		q.get(10);
+		q.getReadChunk();
+		assertEquals(2, pool.getReleaseCount());
+	}
+
+}
@@ -0,0 +1,178 @@
+package com.prosysopc.ua.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.prosysopc.ua.utils.HashedWheelTimer.Timeout;
+
+public class HashedWheelTimerTest {
+
+	static final Executor DIRECT = new Executor() {
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+
+	HashedWheelTimer timer;
+
+	@Before
+	public void setUp() {
+		// A small wheel, so that timeouts wait for several rounds
+		timer = new HashedWheelTimer("HashedWheelTimerTest", 5, 8);
+	}
+
+	@After
+	public void tearDown() {
+		timer.stop();
+	}
+
+	@Test
+	public void testRunsAfterDeadline() throws Exception {
+		final CountDownLatch latch = new CountDownLatch(1);
+		final long[] runTime = new long[1];
+		long deadline = System.currentTimeMillis() + 100;
+		Timeout timeout = timer.schedule(new Runnable() {
+			@Override
+			public void run() {
+				runTime[0] = System.currentTimeMillis();
+				latch.countDown();
+			}
+		}, DIRECT, deadline);
+		assertEquals(deadline, timeout.scheduledExecutionTime());
+		assertEquals(1, timer.getPendingCount());
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertTrue(runTime[0] >= deadline - 1);
+		assertTrue(timeout.isExpired());
+		assertFalse(timeout.cancel());
+		assertEquals(0, timer.getPendingCount());
+	}
+
+	@Test
+	public void testPastDeadlineRunsAtNextTick() throws Exception {
+		final CountDownLatch latch = new CountDownLatch(1);
+		timer.schedule(new Runnable() {
+			@Override
+			public void run() {
+				latch.countDown();
+			}
+		}, DIRECT, System.currentTimeMillis() - 1000);
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testCancel() throws Exception {
+		final AtomicInteger runs = new AtomicInteger();
+		Runnable run = new Runnable() {
+			@Override
+			public void run() {
+				runs.incrementAndGet();
+			}
+		};
+		long now = System.currentTimeMillis();
+		Timeout[] timeouts = new Timeout[1000];
+		for (int i=0; i<timeouts.length; i++)
+			timeouts[i] = timer.schedule(run, DIRECT, now + 50 + i % 100);
+		for (int i=0; i<timeouts.length; i+=2)
+			assertTrue(timeouts[i].cancel());
+		assertFalse(timeouts[0].cancel());
+		assertTrue(timeouts[0].isCancelled());
+		assertEquals(500, timer.getPendingCount());
+
+		final CountDownLatch latch = new CountDownLatch(1);
+		timer.schedule(new Runnable() {
+			@Override
+			public void run() {
+				latch.countDown();
+			}
+		}, DIRECT, now + 300);
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals(500, runs.get());
+		assertEquals(0, timer.getPendingCount());
+	}
+
+	@Test
+	public void testOrderAcrossRounds() throws Exception {
+		final int count = 20;
+		final CountDownLatch latch = new CountDownLatch(count);
+		final int[] order = new int[count];
+		final AtomicInteger index = new AtomicInteger();
+		long now = System.currentTimeMillis();
+		// The wheel turns every 40 ms, the deadlines span several turns
+		for (int i=count-1; i>=0; i--) {
+			final int n = i;
+			timer.schedule(new Runnable() {
+				@Override
+				public void run() {
+					order[index.getAndIncrement()] = n;
+					latch.countDown();
+				}
+			}, DIRECT, now + 20 + n * 15);
+		}
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		for (int i=0; i<count; i++)
+			assertEquals(i, order[i]);
+	}
+
+	@Test
+	public void testIdleAndStop() throws Exception {
+		final CountDownLatch latch = new CountDownLatch(2);
+		Runnable run = new Runnable() {
+			@Override
+			public void run() {
+				latch.countDown();
+			}
+		};
+		timer.schedule(run, DIRECT, System.currentTimeMillis() + 10);
+		// Let the timer go idle before the next timeout
+		Thread.sleep(200);
+		timer.schedule(run, DIRECT, System.currentTimeMillis() + 10);
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+		timer.stop();
+		assertTrue(timer.isStopped());
+		try {
+			timer.schedule(run, DIRECT, System.currentTimeMillis());
+			fail("Expected IllegalStateException");
+		} catch (IllegalStateException e) {
+		}
+	}
+
+	@Test
+	public void testSharedTimer() throws Exception {
+		final CountDownLatch latch = new CountDownLatch(1);
+		final String[] threadName = new String[1];
+		Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				threadName[0] = Thread.currentThread().getName();
+				command.run();
+			}
+		};
+		HashedWheelTimer shared = TimerUtil.getWheelTimer();
+		assertSame(shared, TimerUtil.getWheelTimer());
+		TimerUtil.schedule(new Runnable() {
+			@Override
+			public void run() {
+				latch.countDown();
+			}
+		}, executor, System.currentTimeMillis());
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		// The worker is told apart from the thread of the java.util.Timer
+		assertEquals(StackUtils.UA_WHEEL_TIMER_NAME_PATTERN, threadName[0]);
+
+		// A stopped timer is replaced
+		TimerUtil.stopWheelTimer();
+		assertTrue(shared.isStopped());
+		assertNotSame(shared, TimerUtil.getWheelTimer());
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.prosysopc.ua.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ThreadPerTaskExecutorTest {
+
+	@Test
+	public void testBlockingTasksRunConcurrently() throws Exception {
+		ThreadPerTaskExecutor executor = new ThreadPerTaskExecutor("test", StackUtils.newNamedThreadFactory("ThreadPerTaskExecutorTest"));
+		final int n = 50;
+		final CountDownLatch started = new CountDownLatch(n);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch done = new CountDownLatch(n);
+		for (int i=0; i<n; i++)
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					started.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+					}
+					done.countDown();
+				}
+			});
+		// All tasks block at the same time, none waits in a queue
+		assertTrue(started.await(10, TimeUnit.SECONDS));
+		ExecutorMetrics metrics = executor.getMetrics();
+		assertEquals(n, metrics.getActiveCount());
+		assertEquals(n, metrics.getTaskCount());
+		assertEquals(0, metrics.getQueueSize());
+
+		release.countDown();
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		executor.shutdown();
+		try {
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+				}
+			});
+			fail();
+		} catch (RejectedExecutionException e) {
+		}
+		assertEquals(n, executor.getMetrics().getLargestPoolSize());
+	}
+
+	@Test
+	public void testMetrics() {
+		StackUtils.getNonBlockingWorkExecutor();
+		ExecutorMetrics metrics = StackUtils.getNonBlockingWorkExecutorMetrics();
+		assertEquals("NON_BLOCKING_EXECUTOR", metrics.getName());
+		assertTrue(metrics.getTaskCount() >= metrics.getCompletedTaskCount());
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.prosysopc.ua.utils.asyncsocket;
+
+import static org.junit.Assert.*;
+
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SocketChannel;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import com.prosysopc.ua.utils.asyncsocket.AsyncSelector.SelectListener;
+
+public class AsyncSelectorPoolTest {
+
+	static final SelectListener NOP = new SelectListener() {
+		@Override
+		public void onSelected(AsyncSelector sender, SelectableChannel channel, int selectOps, int interestOps) {
+		}};
+
+	@Test
+	public void testLeastLoaded() throws Exception {
+		AsyncSelectorPool pool = new AsyncSelectorPool(3, "Test-Selector-%d");
+		SocketChannel[] channels = new SocketChannel[4];
+		AsyncSelector[] selected = new AsyncSelector[channels.length];
+		try {
+			Set<String> names = new HashSet<String>();
+			for (AsyncSelector s : pool.getSelectors())
+				names.add(s.thread.getName());
+			assertTrue(names.contains("Test-Selector-3"));
+
+			Set<AsyncSelector> used = new HashSet<AsyncSelector>();
+			for (int i=0; i<channels.length; i++) {
+				channels[i] = SocketChannel.open();
+				channels[i].configureBlocking(false);
+				selected[i] = pool.next();
+				selected[i].register(channels[i], 0, NOP);
+				// Registering again does not count twice
+				selected[i].register(channels[i], 0, NOP);
+				used.add(selected[i]);
+			}
+			assertEquals(3, used.size());
+			int total = 0;
+			for (AsyncSelector s : pool.getSelectors())
+				total += s.getRegisteredCount();
+			assertEquals(4, total);
+
+			// The selector that lost a channel is the least loaded one
+			AsyncSelector s = selected[3];
+			int count = s.getRegisteredCount();
+			s.unregister(channels[3]);
+			assertEquals(count - 1, s.getRegisteredCount());
+			for (int i=0; i<3; i++)
+				if (selected[i] == s)
+					selected[i].unregister(channels[i]);
+			assertSame(s, pool.next());
+		} finally {
+			for (SocketChannel c : channels)
+				if (c != null)
+					c.close();
+			pool.close();
+		}
+	}
+
+}
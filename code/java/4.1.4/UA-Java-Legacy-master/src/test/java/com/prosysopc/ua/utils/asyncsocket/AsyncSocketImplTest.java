@@ -0,0 +1,65 @@
+package com.prosysopc.ua.utils.asyncsocket;
+
+import static org.junit.Assert.*;
+
+import java.io.DataInputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import com.prosysopc.ua.utils.bytebuffer.ByteBufferFactory;
+
+public class AsyncSocketImplTest {
+
+	@Test
+	public void testWriteCoalescing() throws Exception {
+		ServerSocketChannel server = ServerSocketChannel.open();
+		server.socket().bind(new InetSocketAddress("localhost", 0));
+		SocketChannel chan = SocketChannel.open(server.socket().getLocalSocketAddress());
+		Socket peer = server.accept().socket();
+		chan.configureBlocking(false);
+		AsyncSocketImpl s = new AsyncSocketImpl(chan);
+		try {
+			final List<ByteBuffer> released = new ArrayList<ByteBuffer>();
+			ByteBufferFactory owner = new ByteBufferFactory() {
+				@Override
+				public ByteBuffer allocate(int capacity) {
+					return ByteBuffer.allocate(capacity);
+				}
+				@Override
+				public void release(ByteBuffer buf) {
+					released.add(buf);
+				}
+			};
+			s.setWriteCoalescing(1000, 200);
+			AsyncOutputStream out = s.getOutputStream();
+			out.offer(new ByteBuffer[] { ByteBuffer.wrap(new byte[] {1, 2}), ByteBuffer.wrap(new byte[] {3}) }, owner);
+			out.offer(ByteBuffer.wrap(new byte[] {4, 5, 6}), owner);
+			// Held until the delay has passed
+			assertEquals(0, out.getFlushPosition());
+			long end = System.currentTimeMillis() + 5000;
+			while (out.getFlushPosition() < 6 && System.currentTimeMillis() < end)
+				Thread.sleep(10);
+			assertEquals(6, out.getFlushPosition());
+			assertEquals(3, released.size());
+
+			// Writes at once when enough bytes are queued
+			out.offer(ByteBuffer.wrap(new byte[1000]), owner);
+			assertEquals(1006, out.getFlushPosition());
+
+			byte[] data = new byte[1006];
+			new DataInputStream(peer.getInputStream()).readFully(data);
+			assertEquals(6, data[5]);
+		} finally {
+			s.close();
+			peer.close();
+			server.close();
+		}
+	}
+
+}
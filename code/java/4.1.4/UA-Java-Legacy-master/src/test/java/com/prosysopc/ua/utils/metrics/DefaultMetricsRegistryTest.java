@@ -0,0 +1,100 @@
+package com.prosysopc.ua.utils.metrics;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+import org.junit.Test;
+
+public class DefaultMetricsRegistryTest {
+
+	@Test
+	public void testCounter() {
+		DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+		Counter c = registry.counter("a.b");
+		c.inc();
+		c.add(10);
+		assertSame(c, registry.counter("a.b"));
+		assertEquals(11, registry.counter("a.b").getCount());
+		try {
+			registry.histogram("a.b");
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testHistogram() {
+		Histogram h = new DefaultMetricsRegistry().histogram("h");
+		assertEquals(0, h.getPercentile(50));
+		for (int i = 1; i <= 1000; i++)
+			h.record(i);
+		assertEquals(1000, h.getCount());
+		assertEquals(500500, h.getSum());
+		assertEquals(1000, h.getMax());
+		// Upper bound of the power-of-two bucket
+		assertEquals(511, h.getPercentile(50));
+		assertEquals(1000, h.getPercentile(99));
+		assertEquals(1, h.getPercentile(0));
+	}
+
+	@Test
+	public void testRemove() {
+		DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+		registry.counter("client.1.chunksIn");
+		registry.histogram("client.1.decodeTime");
+		registry.counter("client.10.chunksIn");
+		registry.remove("client.1");
+		assertEquals(1, registry.getMetrics().size());
+		assertTrue(registry.getMetrics().containsKey("client.10.chunksIn"));
+	}
+
+	@Test
+	public void testNoop() {
+		Metrics.setRegistry(null);
+		assertFalse(Metrics.getRegistry().isEnabled());
+		assertSame(ChannelMetrics.NOOP, ChannelMetrics.get("client.1"));
+		assertSame(Metrics.NOOP_COUNTER, Metrics.getRegistry().counter("x"));
+		Metrics.NOOP_COUNTER.inc();
+		assertEquals(0, Metrics.NOOP_COUNTER.getCount());
+		assertTrue(Metrics.getRegistry().getMetrics().isEmpty());
+	}
+
+	@Test
+	public void testJmxExport() throws Exception {
+		DefaultMetricsRegistry registry = new DefaultMetricsRegistry();
+		registry.counter("c").add(3);
+		registry.histogram("h").record(100);
+		registry.gauge("g", new Gauge() {
+			@Override
+			public long getValue() {
+				return 7;
+			}
+		});
+		ObjectName name = new ObjectName("com.prosysopc.ua:type=Metrics,name=DefaultMetricsRegistryTest");
+		JmxMetricsExporter exporter = new JmxMetricsExporter(registry, name);
+		exporter.register();
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			assertEquals(3L, server.getAttribute(name, "c"));
+			assertEquals(7L, server.getAttribute(name, "g"));
+			assertEquals(1L, server.getAttribute(name, "h.count"));
+			assertEquals(100L, server.getAttribute(name, "h.max"));
+			assertEquals(7, server.getMBeanInfo(name).getAttributes().length);
+			try {
+				server.invoke(name, "reset", null, null);
+				fail();
+			} catch (ReflectionException e) {
+				assertTrue(e.getTargetException() instanceof NoSuchMethodException);
+			}
+		} finally {
+			exporter.unregister();
+		}
+		assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+	}
+
+}